@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Provides deterministic sample values for all property value types supported by
+ * {@link PropertyValue}.
+ */
+public class BenchmarkValues {
+
+  /**
+   * Number of entries used for collection typed sample values (i.e. list, set and map).
+   */
+  public static final int COLLECTION_SIZE = 10;
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private BenchmarkValues() {
+  }
+
+  /**
+   * Returns a sample object of the given type.
+   *
+   * @param type property value type
+   * @return sample object which can be wrapped by a {@link PropertyValue}
+   */
+  public static Object sampleObject(Type type) {
+    switch (type) {
+    case NULL:
+      return null;
+    case BOOLEAN:
+      return true;
+    case SHORT:
+      return (short) 23;
+    case INTEGER:
+      return 23;
+    case LONG:
+      return 23L;
+    case FLOAT:
+      return 2.3f;
+    case DOUBLE:
+      return 2.3d;
+    case STRING:
+      return "Gradoop Benchmark Value";
+    case BIG_DECIMAL:
+      return new BigDecimal("2342.4223");
+    case GRADOOP_ID:
+      return GradoopId.fromString("5c5c4fe0d7fb1a5df8f3a1e0");
+    case DATE:
+      return LocalDate.of(2019, 4, 23);
+    case TIME:
+      return LocalTime.of(23, 42, 23);
+    case DATE_TIME:
+      return LocalDateTime.of(2019, 4, 23, 23, 42, 23);
+    case LIST:
+      List<PropertyValue> list = new ArrayList<>(COLLECTION_SIZE);
+      for (int i = 0; i < COLLECTION_SIZE; i++) {
+        list.add(PropertyValue.create(i));
+      }
+      return list;
+    case SET:
+      Set<PropertyValue> set = new HashSet<>(COLLECTION_SIZE);
+      for (int i = 0; i < COLLECTION_SIZE; i++) {
+        set.add(PropertyValue.create(i));
+      }
+      return set;
+    case MAP:
+      Map<PropertyValue, PropertyValue> map = new HashMap<>(COLLECTION_SIZE);
+      for (int i = 0; i < COLLECTION_SIZE; i++) {
+        map.put(PropertyValue.create("key" + i), PropertyValue.create(i));
+      }
+      return map;
+    default:
+      throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+  }
+
+  /**
+   * Returns a sample property value of the given type.
+   *
+   * @param type property value type
+   * @return sample property value
+   */
+  public static PropertyValue sampleValue(Type type) {
+    return PropertyValue.create(sampleObject(type));
+  }
+
+  /**
+   * Returns the sample property value used for the i-th key of a property collection. The
+   * value types cycle through all scalar types to mimic heterogeneous element properties.
+   *
+   * @param i index of the property
+   * @return sample property value
+   */
+  public static PropertyValue sampleValue(int i) {
+    Type[] scalarTypes = {Type.STRING, Type.INTEGER, Type.LONG, Type.DOUBLE, Type.BOOLEAN,
+      Type.DATE_TIME};
+    return sampleValue(scalarTypes[i % scalarTypes.length]);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common.id;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the key operations Flink performs on {@link GradoopId} during sorting, hashing and
+ * joining.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdBenchmark {
+
+  /**
+   * First id.
+   */
+  private GradoopId first;
+
+  /**
+   * Second id, differs from the first only in the last byte.
+   */
+  private GradoopId second;
+
+  /**
+   * Target segment for normalized keys.
+   */
+  private MemorySegment segment;
+
+  /**
+   * Initializes the ids.
+   */
+  @Setup
+  public void setup() {
+    first = GradoopId.fromString("5c5c4fe0d7fb1a5df8f3a1e0");
+    second = GradoopId.fromString("5c5c4fe0d7fb1a5df8f3a1e1");
+    segment = MemorySegmentFactory.wrap(new byte[GradoopId.ID_SIZE]);
+  }
+
+  /**
+   * Compares two ids sharing a common prefix, which is the worst case for byte-wise comparison.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return first.compareTo(second);
+  }
+
+  /**
+   * Checks two ids for equality.
+   *
+   * @return true, if both ids are equal
+   */
+  @Benchmark
+  public boolean equalsId() {
+    return first.equals(second);
+  }
+
+  /**
+   * Computes the hash code of an id.
+   *
+   * @return hash code
+   */
+  @Benchmark
+  public int hashCodeId() {
+    return first.hashCode();
+  }
+
+  /**
+   * Copies the normalized key of an id into a memory segment.
+   *
+   * @return target segment
+   */
+  @Benchmark
+  public MemorySegment copyNormalizedKey() {
+    first.copyNormalizedKey(segment, 0, GradoopId.ID_SIZE);
+    return segment;
+  }
+
+  /**
+   * Creates a new id.
+   *
+   * @return new id
+   */
+  @Benchmark
+  public GradoopId create() {
+    return GradoopId.get();
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common.id;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures (de-)serialization and membership tests of {@link GradoopIdSet} of different sizes.
+ *
+ * Run with {@code -prof gc} to report the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdSetBenchmark {
+
+  /**
+   * Number of ids in the set.
+   */
+  @Param({"1", "4", "16", "128"})
+  private int size;
+
+  /**
+   * The benchmarked set.
+   */
+  private GradoopIdSet ids;
+
+  /**
+   * A set sharing a single id with {@link #ids}.
+   */
+  private GradoopIdSet other;
+
+  /**
+   * Id contained in {@link #ids}.
+   */
+  private GradoopId member;
+
+  /**
+   * Byte representation of {@link #ids}.
+   */
+  private byte[] idBytes;
+
+  /**
+   * Reusable output view.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Reusable input view.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Serialized form of {@link #ids}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Reusable set to deserialize into.
+   */
+  private GradoopIdSet reuse;
+
+  /**
+   * Initializes the sets and their serialized form.
+   *
+   * @throws IOException if the sample set cannot be serialized
+   */
+  @Setup
+  public void setup() throws IOException {
+    ids = new GradoopIdSet();
+    other = new GradoopIdSet();
+    for (int i = 0; i < size; i++) {
+      member = GradoopId.get();
+      ids.add(member);
+      other.add(GradoopId.get());
+    }
+    other.add(member);
+    idBytes = ids.toByteArray();
+    output = new DataOutputSerializer(size * GradoopId.ID_SIZE + 4);
+    ids.write(output);
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+    reuse = new GradoopIdSet();
+  }
+
+  /**
+   * Serializes the set to an output view.
+   *
+   * @return output view
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public DataOutputSerializer write() throws IOException {
+    output.clear();
+    ids.write(output);
+    return output;
+  }
+
+  /**
+   * Deserializes the set from an input view.
+   *
+   * @return deserialized set
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public GradoopIdSet read() throws IOException {
+    input.setBuffer(serialized);
+    reuse.read(input);
+    return reuse;
+  }
+
+  /**
+   * Serializes and deserializes the set.
+   *
+   * @return deserialized set
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public GradoopIdSet roundTrip() throws IOException {
+    output.clear();
+    ids.write(output);
+    input.setBuffer(output.getSharedBuffer(), 0, output.length());
+    reuse.read(input);
+    return reuse;
+  }
+
+  /**
+   * Converts the set to its byte representation.
+   *
+   * @return byte representation
+   */
+  @Benchmark
+  public byte[] toByteArray() {
+    return ids.toByteArray();
+  }
+
+  /**
+   * Creates a set from its byte representation.
+   *
+   * @return new set
+   */
+  @Benchmark
+  public GradoopIdSet fromByteArray() {
+    return GradoopIdSet.fromByteArray(idBytes);
+  }
+
+  /**
+   * Checks the set for a contained id.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean contains() {
+    return ids.contains(member);
+  }
+
+  /**
+   * Checks two sets sharing a single id for overlap.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean containsAny() {
+    return ids.containsAny(other);
+  }
+}
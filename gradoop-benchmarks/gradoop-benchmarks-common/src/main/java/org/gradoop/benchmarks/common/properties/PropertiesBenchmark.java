@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common.properties;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.benchmarks.common.BenchmarkValues;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the (de-)serialization of {@link Properties} of different sizes.
+ *
+ * Run with {@code -prof gc} to report the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+
+  /**
+   * Number of properties.
+   */
+  @Param({"0", "1", "5", "10", "50"})
+  private int size;
+
+  /**
+   * The benchmarked properties.
+   */
+  private Properties properties;
+
+  /**
+   * Reusable output view.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Reusable input view.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Serialized form of {@link #properties}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Reusable properties instance to deserialize into.
+   */
+  private Properties reuse;
+
+  /**
+   * Initializes the sample properties and their serialized form.
+   *
+   * @throws IOException if the sample properties cannot be serialized
+   */
+  @Setup
+  public void setup() throws IOException {
+    properties = Properties.createWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      properties.set("key" + i, BenchmarkValues.sampleValue(i));
+    }
+    output = new DataOutputSerializer(256);
+    properties.write(output);
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+    reuse = Properties.create();
+  }
+
+  /**
+   * Serializes the properties to an output view.
+   *
+   * @return output view
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public DataOutputSerializer write() throws IOException {
+    output.clear();
+    properties.write(output);
+    return output;
+  }
+
+  /**
+   * Deserializes the properties from an input view.
+   *
+   * @return deserialized properties
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public Properties read() throws IOException {
+    input.setBuffer(serialized);
+    reuse.read(input);
+    return reuse;
+  }
+
+  /**
+   * Serializes and deserializes the properties.
+   *
+   * @return deserialized properties
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public Properties roundTrip() throws IOException {
+    output.clear();
+    properties.write(output);
+    input.setBuffer(output.getSharedBuffer(), 0, output.length());
+    reuse.read(input);
+    return reuse;
+  }
+}
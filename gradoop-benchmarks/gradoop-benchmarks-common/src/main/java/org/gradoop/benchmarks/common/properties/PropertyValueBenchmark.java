@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common.properties;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.benchmarks.common.BenchmarkValues;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the (de-)serialization of a single {@link PropertyValue} for every supported
+ * {@link Type}.
+ *
+ * Run with {@code -prof gc} to report the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyValueBenchmark {
+
+  /**
+   * Type of the benchmarked property value.
+   */
+  @Param({"NULL", "BOOLEAN", "SHORT", "INTEGER", "LONG", "FLOAT", "DOUBLE", "STRING",
+    "BIG_DECIMAL", "GRADOOP_ID", "DATE", "TIME", "DATE_TIME", "LIST", "SET", "MAP"})
+  private Type type;
+
+  /**
+   * Object wrapped by the benchmarked property value.
+   */
+  private Object object;
+
+  /**
+   * The benchmarked property value.
+   */
+  private PropertyValue value;
+
+  /**
+   * Raw byte representation of {@link #value}.
+   */
+  private byte[] rawBytes;
+
+  /**
+   * Reusable output view.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Reusable input view.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Serialized form of {@link #value}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Reusable property value to deserialize into.
+   */
+  private PropertyValue reuse;
+
+  /**
+   * Initializes the sample value and its serialized forms.
+   *
+   * @throws IOException if the sample value cannot be serialized
+   */
+  @Setup
+  public void setup() throws IOException {
+    object = BenchmarkValues.sampleObject(type);
+    value = PropertyValue.create(object);
+    rawBytes = value.getRawBytes();
+    output = new DataOutputSerializer(64);
+    value.write(output);
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+    reuse = new PropertyValue();
+  }
+
+  /**
+   * Serializes the property value to an output view.
+   *
+   * @return output view
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public DataOutputSerializer write() throws IOException {
+    output.clear();
+    value.write(output);
+    return output;
+  }
+
+  /**
+   * Deserializes a property value from an input view.
+   *
+   * @return deserialized property value
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public PropertyValue read() throws IOException {
+    input.setBuffer(serialized);
+    reuse.read(input);
+    return reuse;
+  }
+
+  /**
+   * Serializes and deserializes the property value.
+   *
+   * @return deserialized property value
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public PropertyValue roundTrip() throws IOException {
+    output.clear();
+    value.write(output);
+    input.setBuffer(output.getSharedBuffer(), 0, output.length());
+    reuse.read(input);
+    return reuse;
+  }
+
+  /**
+   * Creates a property value from its object representation.
+   *
+   * @return new property value
+   */
+  @Benchmark
+  public PropertyValue create() {
+    return PropertyValue.create(object);
+  }
+
+  /**
+   * Creates a property value from its raw byte representation.
+   *
+   * @return new property value
+   */
+  @Benchmark
+  public PropertyValue fromRawBytes() {
+    return PropertyValue.fromRawBytes(rawBytes);
+  }
+
+  /**
+   * Computes the raw byte representation of the property value.
+   *
+   * @return raw bytes
+   */
+  @Benchmark
+  public byte[] getRawBytes() {
+    return value.getRawBytes();
+  }
+}
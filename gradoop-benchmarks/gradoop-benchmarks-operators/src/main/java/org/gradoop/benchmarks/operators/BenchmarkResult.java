@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+import org.gradoop.benchmarks.operators.generator.GeneratorConfig;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Measurements of a single benchmark run.
+ */
+public class BenchmarkResult {
+
+  /**
+   * The benchmarked operator.
+   */
+  private final BenchmarkedOperator operator;
+
+  /**
+   * Number of the run, starting at 0.
+   */
+  private final int run;
+
+  /**
+   * Parameters of the input graph.
+   */
+  private final GeneratorConfig generatorConfig;
+
+  /**
+   * Parallelism of the job.
+   */
+  private final int parallelism;
+
+  /**
+   * Wall time of the job execution in milliseconds.
+   */
+  private final long wallTime;
+
+  /**
+   * Net runtime of the job as reported by Flink in milliseconds.
+   */
+  private final long netRuntime;
+
+  /**
+   * Peak heap usage during the job in bytes.
+   */
+  private final long peakHeapUsage;
+
+  /**
+   * Number of records consumed per Flink operator.
+   */
+  private final Map<String, Long> recordsIn;
+
+  /**
+   * Number of records emitted per Flink operator.
+   */
+  private final Map<String, Long> recordsOut;
+
+  /**
+   * Creates a new result.
+   *
+   * @param operator benchmarked operator
+   * @param run number of the run
+   * @param generatorConfig parameters of the input graph
+   * @param parallelism parallelism of the job
+   * @param wallTime wall time in milliseconds
+   * @param netRuntime net runtime in milliseconds
+   * @param peakHeapUsage peak heap usage in bytes
+   * @param recordsIn records consumed per Flink operator
+   * @param recordsOut records emitted per Flink operator
+   */
+  public BenchmarkResult(BenchmarkedOperator operator, int run, GeneratorConfig generatorConfig,
+    int parallelism, long wallTime, long netRuntime, long peakHeapUsage,
+    Map<String, Long> recordsIn, Map<String, Long> recordsOut) {
+    this.operator = operator;
+    this.run = run;
+    this.generatorConfig = generatorConfig;
+    this.parallelism = parallelism;
+    this.wallTime = wallTime;
+    this.netRuntime = netRuntime;
+    this.peakHeapUsage = peakHeapUsage;
+    this.recordsIn = recordsIn;
+    this.recordsOut = recordsOut;
+  }
+
+  /**
+   * Returns the JSON representation of the result.
+   *
+   * @return JSON object
+   * @throws JSONException if the object cannot be created
+   */
+  public JSONObject toJSON() throws JSONException {
+    JSONObject graph = new JSONObject()
+      .put("vertexCount", generatorConfig.getVertexCount())
+      .put("edgeCount", generatorConfig.getEdgeCount())
+      .put("distribution", generatorConfig.getDistribution().name())
+      .put("degreeSkew", generatorConfig.getDegreeSkew())
+      .put("vertexLabelCount", generatorConfig.getVertexLabelCount())
+      .put("edgeLabelCount", generatorConfig.getEdgeLabelCount())
+      .put("labelSkew", generatorConfig.getLabelSkew())
+      .put("propertyCardinality", generatorConfig.getPropertyCardinality())
+      .put("propertySkew", generatorConfig.getPropertySkew())
+      .put("communitySize", generatorConfig.getCommunitySize())
+      .put("locality", generatorConfig.getLocality())
+      .put("seed", generatorConfig.getSeed());
+
+    JSONObject records = new JSONObject();
+    Set<String> operatorNames = new TreeSet<>(recordsIn.keySet());
+    operatorNames.addAll(recordsOut.keySet());
+    for (String operatorName : operatorNames) {
+      records.put(operatorName, new JSONObject()
+        .put("in", recordsIn.getOrDefault(operatorName, 0L))
+        .put("out", recordsOut.getOrDefault(operatorName, 0L)));
+    }
+
+    return new JSONObject()
+      .put("operator", operator.name())
+      .put("run", run)
+      .put("parallelism", parallelism)
+      .put("graph", graph)
+      .put("wallTimeMillis", wallTime)
+      .put("netRuntimeMillis", netRuntime)
+      .put("peakHeapBytes", peakHeapUsage)
+      .put("records", records);
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators;
+
+import org.gradoop.benchmarks.operators.generator.GeneratorConfig;
+import org.gradoop.benchmarks.operators.generator.SyntheticGraphGenerator;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.algorithms.fsm.TransactionalFSM;
+import org.gradoop.flink.algorithms.gelly.connectedcomponents.WeaklyConnectedComponentsAsCollection;
+import org.gradoop.flink.algorithms.gelly.labelpropagation.GellyLabelPropagation;
+import org.gradoop.flink.algorithms.gelly.pagerank.PageRank;
+import org.gradoop.flink.algorithms.gelly.trianglecounting.GellyTriangleCounting;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.api.layouts.Layout;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
+import org.gradoop.flink.model.impl.functions.epgm.ByProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.fusion.VertexFusion;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys.label;
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys.property;
+
+/**
+ * Operators supported by the {@link OperatorBenchmark}.
+ *
+ * The operators refer to labels and properties created by {@link SyntheticGraphGenerator}.
+ */
+public enum BenchmarkedOperator {
+
+  /**
+   * Generates the input graph only. Serves as a baseline for the other operators, which include
+   * the generation of their input.
+   */
+  GENERATE {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph;
+    }
+  },
+
+  /**
+   * {@link KeyedGrouping} by label and the categorical property, counting vertices and edges.
+   */
+  KEYED_GROUPING {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      List<KeyFunction<EPGMVertex, ?>> vertexKeys =
+        Arrays.asList(label(), property(SyntheticGraphGenerator.PROPERTY_KEY));
+      List<KeyFunction<EPGMEdge, ?>> edgeKeys = singletonList(label());
+      List<AggregateFunction> vertexAggregateFunctions = singletonList(new Count());
+      List<AggregateFunction> edgeAggregateFunctions = singletonList(new Count());
+      return graph.callForGraph(new KeyedGrouping<>(
+        vertexKeys, vertexAggregateFunctions, edgeKeys, edgeAggregateFunctions));
+    }
+  },
+
+  /**
+   * {@link Grouping} by label and the categorical property, counting vertices and edges.
+   */
+  GROUPING {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.callForGraph(new Grouping.GroupingBuilder()
+        .setStrategy(GroupingStrategy.GROUP_REDUCE)
+        .useVertexLabel(true)
+        .useEdgeLabel(true)
+        .addVertexGroupingKey(SyntheticGraphGenerator.PROPERTY_KEY)
+        .addVertexAggregateFunction(new Count())
+        .addEdgeAggregateFunction(new Count())
+        .build());
+    }
+  },
+
+  /**
+   * Vertex induced subgraph containing the vertices with the most frequent label.
+   */
+  SUBGRAPH {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.vertexInducedSubgraph(
+        new ByLabel<>(SyntheticGraphGenerator.VERTEX_LABEL_PREFIX + 0));
+    }
+  },
+
+  /**
+   * {@link VertexFusion} of all vertices with the least frequent value of the categorical
+   * property.
+   */
+  VERTEX_FUSION {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      LogicalGraph pattern = graph.vertexInducedSubgraph(new ByProperty<>(
+        SyntheticGraphGenerator.PROPERTY_KEY,
+        PropertyValue.create((long) config.getPropertyCardinality() - 1)));
+      return graph.callForGraph(new VertexFusion(), pattern);
+    }
+  },
+
+  /**
+   * Cypher pattern matching of a labeled two-hop path.
+   */
+  CYPHER_PATTERN_MATCHING {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.query(
+        "MATCH (a:V1)-[e1:E1]->(b:V2)-[e2:E1]->(c:V1) " +
+        "WHERE a.key < c.key");
+    }
+  },
+
+  /**
+   * Frequent subgraph mining using DIMSpan on the collection of communities.
+   */
+  DIMSPAN {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.splitBy(SyntheticGraphGenerator.PROPERTY_COMMUNITY)
+        .callForCollection(new TransactionalFSM(0.5f));
+    }
+  },
+
+  /**
+   * Gelly based {@link PageRank}.
+   */
+  PAGE_RANK {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.callForGraph(new PageRank("pageRank", 0.85, ITERATIONS));
+    }
+  },
+
+  /**
+   * Gelly based {@link org.gradoop.flink.algorithms.gelly.hits.HITS}.
+   */
+  HITS {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.callForGraph(
+        new org.gradoop.flink.algorithms.gelly.hits.HITS("authority", "hub", ITERATIONS));
+    }
+  },
+
+  /**
+   * Gelly based {@link GellyLabelPropagation} starting with the community of each vertex.
+   */
+  LABEL_PROPAGATION {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.callForGraph(
+        new GellyLabelPropagation(ITERATIONS, SyntheticGraphGenerator.PROPERTY_COMMUNITY));
+    }
+  },
+
+  /**
+   * Gelly based weakly connected components.
+   */
+  WEAKLY_CONNECTED_COMPONENTS {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.callForCollection(new WeaklyConnectedComponentsAsCollection(ITERATIONS));
+    }
+  },
+
+  /**
+   * Gelly based {@link GellyTriangleCounting}.
+   */
+  TRIANGLE_COUNTING {
+    @Override
+    public Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config) {
+      return graph.callForGraph(new GellyTriangleCounting());
+    }
+  };
+
+  /**
+   * Number of iterations used by the iterative algorithms.
+   */
+  private static final int ITERATIONS = 10;
+
+  /**
+   * Applies the operator to the given graph.
+   *
+   * @param graph input graph
+   * @param config parameters the input graph was generated with
+   * @return result of the operator
+   */
+  public abstract Layout<EPGMVertex, EPGMEdge> execute(LogicalGraph graph, GeneratorConfig config);
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.apache.flink.configuration.ConfigConstants;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.TaskManagerOptions;
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONException;
+import org.gradoop.benchmarks.operators.generator.Distribution;
+import org.gradoop.benchmarks.operators.generator.GeneratorConfig;
+import org.gradoop.benchmarks.operators.generator.SyntheticGraphGenerator;
+import org.gradoop.benchmarks.operators.metrics.HeapUsageTracker;
+import org.gradoop.benchmarks.operators.metrics.RecordCountReporter;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.api.layouts.Layout;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link BenchmarkedOperator}s on synthetic graphs in a local Flink execution environment
+ * and records wall time, records per Flink operator and peak heap usage as JSON.
+ *
+ * Each run builds and executes a single Flink job consisting of the graph generation, the
+ * operator and a discarding sink for the resulting vertices and edges. Use the
+ * {@link BenchmarkedOperator#GENERATE} operator to measure the generation alone.
+ */
+public class OperatorBenchmark {
+
+  /**
+   * Name of the metric reporter collecting the record counts.
+   */
+  private static final String REPORTER_NAME = "gradoop_records";
+
+  /**
+   * Command line options.
+   */
+  private static final Options OPTIONS = new Options();
+
+  static {
+    OPTIONS.addOption("h", "help", false, "Show this help.");
+    OPTIONS.addOption("o", "operators", true,
+      "Comma separated list of operators, default all of " +
+        Arrays.toString(BenchmarkedOperator.values()));
+    OPTIONS.addOption("n", "vertices", true, "Number of vertices.");
+    OPTIONS.addOption("m", "edges", true, "Number of edges.");
+    OPTIONS.addOption("d", "distribution", true,
+      "Edge end point distribution, one of " + Arrays.toString(Distribution.values()));
+    OPTIONS.addOption("ds", "degreeSkew", true, "Skew of scale-free end point selection (>= 1).");
+    OPTIONS.addOption("vl", "vertexLabels", true, "Number of vertex labels.");
+    OPTIONS.addOption("el", "edgeLabels", true, "Number of edge labels.");
+    OPTIONS.addOption("ls", "labelSkew", true, "Zipf exponent of the label distribution.");
+    OPTIONS.addOption("pc", "propertyCardinality", true, "Number of distinct property values.");
+    OPTIONS.addOption("ps", "propertySkew", true, "Zipf exponent of the property distribution.");
+    OPTIONS.addOption("cs", "communitySize", true, "Number of vertices per community.");
+    OPTIONS.addOption("l", "locality", true, "Probability of edges within a community.");
+    OPTIONS.addOption("s", "seed", true, "Seed of the graph generator.");
+    OPTIONS.addOption("p", "parallelism", true, "Parallelism of the local environment.");
+    OPTIONS.addOption("mm", "managedMemory", true, "Managed memory of the local environment.");
+    OPTIONS.addOption("r", "runs", true, "Number of runs per operator.");
+    OPTIONS.addOption("out", "output", true, "Path of the JSON result file, default stdout.");
+  }
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private OperatorBenchmark() {
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args command line arguments, see {@code --help}
+   * @throws Exception if a benchmark job fails
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLine cmd = parseArguments(args);
+    if (cmd == null) {
+      return;
+    }
+
+    GeneratorConfig generatorConfig = new GeneratorConfig()
+      .setVertexCount(Long.parseLong(cmd.getOptionValue("n", "10000")))
+      .setEdgeCount(Long.parseLong(cmd.getOptionValue("m", "100000")))
+      .setDistribution(Distribution.valueOf(
+        cmd.getOptionValue("d", Distribution.SCALE_FREE.name()).toUpperCase(Locale.ROOT)))
+      .setDegreeSkew(Double.parseDouble(cmd.getOptionValue("ds", "3")))
+      .setVertexLabelCount(Integer.parseInt(cmd.getOptionValue("vl", "10")))
+      .setEdgeLabelCount(Integer.parseInt(cmd.getOptionValue("el", "5")))
+      .setLabelSkew(Double.parseDouble(cmd.getOptionValue("ls", "1")))
+      .setPropertyCardinality(Integer.parseInt(cmd.getOptionValue("pc", "1000")))
+      .setPropertySkew(Double.parseDouble(cmd.getOptionValue("ps", "1")))
+      .setCommunitySize(Integer.parseInt(cmd.getOptionValue("cs", "100")))
+      .setLocality(Double.parseDouble(cmd.getOptionValue("l", "0.5")))
+      .setSeed(Long.parseLong(cmd.getOptionValue("s", "42")));
+
+    List<BenchmarkedOperator> operators = new ArrayList<>();
+    if (cmd.hasOption("o")) {
+      for (String name : cmd.getOptionValue("o").split(",")) {
+        operators.add(BenchmarkedOperator.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+      }
+    } else {
+      operators.addAll(Arrays.asList(BenchmarkedOperator.values()));
+    }
+
+    int parallelism = Integer.parseInt(cmd.getOptionValue("p",
+      String.valueOf(Runtime.getRuntime().availableProcessors())));
+    int runs = Integer.parseInt(cmd.getOptionValue("r", "1"));
+
+    JSONArray results = new JSONArray();
+    for (BenchmarkedOperator operator : operators) {
+      for (int run = 0; run < runs; run++) {
+        results.put(run(operator, run, generatorConfig, parallelism, cmd.getOptionValue("mm"))
+          .toJSON());
+      }
+    }
+
+    writeResults(results, cmd.getOptionValue("out"));
+  }
+
+  /**
+   * Executes a single run of an operator.
+   *
+   * @param operator benchmarked operator
+   * @param run number of the run
+   * @param generatorConfig parameters of the input graph
+   * @param parallelism parallelism of the local environment
+   * @param managedMemory managed memory size of the local environment or {@code null}
+   * @return measurements of the run
+   * @throws Exception if the job fails
+   */
+  public static BenchmarkResult run(BenchmarkedOperator operator, int run,
+    GeneratorConfig generatorConfig, int parallelism, String managedMemory) throws Exception {
+    Configuration configuration = new Configuration();
+    configuration.setString(ConfigConstants.METRICS_REPORTER_PREFIX + REPORTER_NAME + "." +
+      ConfigConstants.METRICS_REPORTER_CLASS_SUFFIX, RecordCountReporter.class.getName());
+    if (managedMemory != null) {
+      configuration.setString(TaskManagerOptions.MANAGED_MEMORY_SIZE, managedMemory);
+    }
+    ExecutionEnvironment env = ExecutionEnvironment.createLocalEnvironment(configuration);
+    env.setParallelism(parallelism);
+    env.getConfig().disableSysoutLogging();
+
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(env);
+    LogicalGraph graph = new SyntheticGraphGenerator(config, generatorConfig).generate();
+
+    Layout<EPGMVertex, EPGMEdge> result = operator.execute(graph, generatorConfig);
+    result.getVertices().output(new DiscardingOutputFormat<>()).name("Vertex sink");
+    result.getEdges().output(new DiscardingOutputFormat<>()).name("Edge sink");
+
+    RecordCountReporter.reset();
+    HeapUsageTracker.reset();
+
+    long start = System.nanoTime();
+    JobExecutionResult jobResult = env.execute(operator.name() + " (run " + run + ")");
+    long wallTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    return new BenchmarkResult(operator, run, generatorConfig, parallelism, wallTime,
+      jobResult.getNetRuntime(TimeUnit.MILLISECONDS), HeapUsageTracker.getPeakHeapUsage(),
+      RecordCountReporter.getRecordsIn(), RecordCountReporter.getRecordsOut());
+  }
+
+  /**
+   * Parses the command line arguments.
+   *
+   * @param args command line arguments
+   * @return parsed command line or {@code null} if only the help was requested
+   * @throws ParseException if the arguments are invalid
+   */
+  private static CommandLine parseArguments(String[] args) throws ParseException {
+    CommandLine cmd = new DefaultParser().parse(OPTIONS, args);
+    if (cmd.hasOption("h")) {
+      new HelpFormatter().printHelp(OperatorBenchmark.class.getName(), OPTIONS, true);
+      return null;
+    }
+    return cmd;
+  }
+
+  /**
+   * Writes the results to the given file or to stdout.
+   *
+   * @param results benchmark results
+   * @param path output path or {@code null} for stdout
+   * @throws JSONException if the results cannot be formatted
+   * @throws IOException if the results cannot be written
+   */
+  private static void writeResults(JSONArray results, String path)
+    throws JSONException, IOException {
+    String json = results.toString(2);
+    if (path == null) {
+      System.out.println(json);
+    } else {
+      Files.write(Paths.get(path), json.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
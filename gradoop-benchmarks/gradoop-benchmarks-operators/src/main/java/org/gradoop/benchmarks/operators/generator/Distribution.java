@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.generator;
+
+/**
+ * Distribution used to choose the end points of generated edges.
+ */
+public enum Distribution {
+  /**
+   * Every vertex is chosen with the same probability.
+   */
+  UNIFORM,
+  /**
+   * Vertices with a small index are chosen with a much higher probability, which results in a
+   * power-law like degree distribution with a few hub vertices.
+   */
+  SCALE_FREE
+}
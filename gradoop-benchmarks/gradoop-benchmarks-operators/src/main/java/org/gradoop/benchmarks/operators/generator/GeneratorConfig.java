@@ -0,0 +1,295 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.generator;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Parameters of a synthetic graph created by {@link SyntheticGraphGenerator}.
+ */
+public class GeneratorConfig implements Serializable {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Number of vertices.
+   */
+  private long vertexCount = 10_000L;
+
+  /**
+   * Number of edges.
+   */
+  private long edgeCount = 100_000L;
+
+  /**
+   * Distribution used to choose edge end points.
+   */
+  private Distribution distribution = Distribution.SCALE_FREE;
+
+  /**
+   * Skew of the end point selection if {@link Distribution#SCALE_FREE} is used. A value of
+   * {@code 1} is uniform, larger values create hubs.
+   */
+  private double degreeSkew = 3d;
+
+  /**
+   * Number of distinct vertex labels.
+   */
+  private int vertexLabelCount = 10;
+
+  /**
+   * Number of distinct edge labels.
+   */
+  private int edgeLabelCount = 5;
+
+  /**
+   * Zipf exponent of the label distribution, {@code 0} is uniform.
+   */
+  private double labelSkew = 1d;
+
+  /**
+   * Number of distinct values of the {@link SyntheticGraphGenerator#PROPERTY_KEY} property.
+   */
+  private int propertyCardinality = 1_000;
+
+  /**
+   * Zipf exponent of the property value distribution, {@code 0} is uniform.
+   */
+  private double propertySkew = 1d;
+
+  /**
+   * Number of consecutive vertices forming a community.
+   */
+  private int communitySize = 100;
+
+  /**
+   * Probability that the target of an edge is chosen from the community of its source.
+   */
+  private double locality = 0.5d;
+
+  /**
+   * Seed of the random number generator.
+   */
+  private long seed = 42L;
+
+  public long getVertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * Sets the number of vertices.
+   *
+   * @param vertexCount number of vertices
+   * @return this config
+   */
+  public GeneratorConfig setVertexCount(long vertexCount) {
+    if (vertexCount < 1) {
+      throw new IllegalArgumentException("Vertex count must be positive.");
+    }
+    this.vertexCount = vertexCount;
+    return this;
+  }
+
+  public long getEdgeCount() {
+    return edgeCount;
+  }
+
+  /**
+   * Sets the number of edges.
+   *
+   * @param edgeCount number of edges
+   * @return this config
+   */
+  public GeneratorConfig setEdgeCount(long edgeCount) {
+    if (edgeCount < 0) {
+      throw new IllegalArgumentException("Edge count must not be negative.");
+    }
+    this.edgeCount = edgeCount;
+    return this;
+  }
+
+  public Distribution getDistribution() {
+    return distribution;
+  }
+
+  /**
+   * Sets the distribution used to choose edge end points.
+   *
+   * @param distribution end point distribution
+   * @return this config
+   */
+  public GeneratorConfig setDistribution(Distribution distribution) {
+    this.distribution = Objects.requireNonNull(distribution);
+    return this;
+  }
+
+  public double getDegreeSkew() {
+    return degreeSkew;
+  }
+
+  /**
+   * Sets the skew of the end point selection for scale-free graphs.
+   *
+   * @param degreeSkew skew, at least {@code 1}
+   * @return this config
+   */
+  public GeneratorConfig setDegreeSkew(double degreeSkew) {
+    if (degreeSkew < 1d) {
+      throw new IllegalArgumentException("Degree skew must be at least 1.");
+    }
+    this.degreeSkew = degreeSkew;
+    return this;
+  }
+
+  public int getVertexLabelCount() {
+    return vertexLabelCount;
+  }
+
+  /**
+   * Sets the number of distinct vertex labels.
+   *
+   * @param vertexLabelCount number of vertex labels
+   * @return this config
+   */
+  public GeneratorConfig setVertexLabelCount(int vertexLabelCount) {
+    this.vertexLabelCount = vertexLabelCount;
+    return this;
+  }
+
+  public int getEdgeLabelCount() {
+    return edgeLabelCount;
+  }
+
+  /**
+   * Sets the number of distinct edge labels.
+   *
+   * @param edgeLabelCount number of edge labels
+   * @return this config
+   */
+  public GeneratorConfig setEdgeLabelCount(int edgeLabelCount) {
+    this.edgeLabelCount = edgeLabelCount;
+    return this;
+  }
+
+  public double getLabelSkew() {
+    return labelSkew;
+  }
+
+  /**
+   * Sets the Zipf exponent of the label distribution.
+   *
+   * @param labelSkew Zipf exponent
+   * @return this config
+   */
+  public GeneratorConfig setLabelSkew(double labelSkew) {
+    this.labelSkew = labelSkew;
+    return this;
+  }
+
+  public int getPropertyCardinality() {
+    return propertyCardinality;
+  }
+
+  /**
+   * Sets the number of distinct property values.
+   *
+   * @param propertyCardinality number of distinct values
+   * @return this config
+   */
+  public GeneratorConfig setPropertyCardinality(int propertyCardinality) {
+    this.propertyCardinality = propertyCardinality;
+    return this;
+  }
+
+  public double getPropertySkew() {
+    return propertySkew;
+  }
+
+  /**
+   * Sets the Zipf exponent of the property value distribution.
+   *
+   * @param propertySkew Zipf exponent
+   * @return this config
+   */
+  public GeneratorConfig setPropertySkew(double propertySkew) {
+    this.propertySkew = propertySkew;
+    return this;
+  }
+
+  public int getCommunitySize() {
+    return communitySize;
+  }
+
+  /**
+   * Sets the number of consecutive vertices forming a community.
+   *
+   * @param communitySize community size
+   * @return this config
+   */
+  public GeneratorConfig setCommunitySize(int communitySize) {
+    if (communitySize < 1) {
+      throw new IllegalArgumentException("Community size must be positive.");
+    }
+    this.communitySize = communitySize;
+    return this;
+  }
+
+  public double getLocality() {
+    return locality;
+  }
+
+  /**
+   * Sets the probability that an edge stays within the community of its source.
+   *
+   * @param locality probability in {@code [0, 1]}
+   * @return this config
+   */
+  public GeneratorConfig setLocality(double locality) {
+    if (locality < 0d || locality > 1d) {
+      throw new IllegalArgumentException("Locality must be in [0, 1].");
+    }
+    this.locality = locality;
+    return this;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Sets the seed of the random number generator.
+   *
+   * @param seed seed
+   * @return this config
+   */
+  public GeneratorConfig setSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("GeneratorConfig{vertexCount=%d, edgeCount=%d, distribution=%s, " +
+        "degreeSkew=%s, vertexLabelCount=%d, edgeLabelCount=%d, labelSkew=%s, " +
+        "propertyCardinality=%d, propertySkew=%s, communitySize=%d, locality=%s, seed=%d}",
+      vertexCount, edgeCount, distribution, degreeSkew, vertexLabelCount, edgeLabelCount,
+      labelSkew, propertyCardinality, propertySkew, communitySize, locality, seed);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.generator;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.benchmarks.operators.generator.functions.CreateEdge;
+import org.gradoop.benchmarks.operators.generator.functions.CreateVertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.epgm.LogicalGraphFactory;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Generates synthetic {@link LogicalGraph}s in parallel.
+ *
+ * Vertices and edges are created from a sequence of indices. Every element draws its values from
+ * a random number generator seeded by the configured seed and its index, so the same config
+ * always results in the same graph, independent of the parallelism.
+ *
+ * Vertices get a label {@code V0, V1, ...} and edges a label {@code E0, E1, ...}, both following a Zipf
+ * distribution. Each element stores a skewed categorical property {@link #PROPERTY_KEY} and a
+ * uniformly distributed property {@link #PROPERTY_VALUE}. Vertices additionally store the
+ * id of their community in {@link #PROPERTY_COMMUNITY}.
+ */
+public class SyntheticGraphGenerator {
+
+  /**
+   * Label of the generated graph head.
+   */
+  public static final String GRAPH_LABEL = "SyntheticGraph";
+
+  /**
+   * Prefix of the vertex labels.
+   */
+  public static final String VERTEX_LABEL_PREFIX = "V";
+
+  /**
+   * Prefix of the edge labels.
+   */
+  public static final String EDGE_LABEL_PREFIX = "E";
+
+  /**
+   * Key of the skewed categorical property.
+   */
+  public static final String PROPERTY_KEY = "key";
+
+  /**
+   * Key of the uniformly distributed numeric property.
+   */
+  public static final String PROPERTY_VALUE = "value";
+
+  /**
+   * Key of the vertex property storing the community of a vertex.
+   */
+  public static final String PROPERTY_COMMUNITY = "community";
+
+  /**
+   * Machine identifier used for vertex ids.
+   */
+  private static final int VERTEX_ID_SPACE = 1;
+
+  /**
+   * Machine identifier used for edge ids.
+   */
+  private static final int EDGE_ID_SPACE = 2;
+
+  /**
+   * Machine identifier used for graph head ids.
+   */
+  private static final int GRAPH_ID_SPACE = 3;
+
+  /**
+   * Mask for the lowest three bytes of an index.
+   */
+  private static final long LOW_ORDER_THREE_BYTES = 0xffffffL;
+
+  /**
+   * Gradoop Flink configuration.
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Parameters of the generated graph.
+   */
+  private final GeneratorConfig generatorConfig;
+
+  /**
+   * Creates a new generator.
+   *
+   * @param config Gradoop Flink configuration
+   * @param generatorConfig parameters of the generated graph
+   */
+  public SyntheticGraphGenerator(GradoopFlinkConfig config, GeneratorConfig generatorConfig) {
+    this.config = config;
+    this.generatorConfig = generatorConfig;
+  }
+
+  /**
+   * Generates the graph.
+   *
+   * @return synthetic logical graph
+   */
+  public LogicalGraph generate() {
+    ExecutionEnvironment env = config.getExecutionEnvironment();
+    LogicalGraphFactory factory = config.getLogicalGraphFactory();
+    GradoopId graphId = toGradoopId(GRAPH_ID_SPACE, generatorConfig.getSeed());
+
+    DataSet<EPGMGraphHead> graphHead = env.fromElements(
+      factory.getGraphHeadFactory().initGraphHead(graphId, GRAPH_LABEL));
+
+    DataSet<EPGMVertex> vertices = env
+      .generateSequence(0, generatorConfig.getVertexCount() - 1)
+      .map(new CreateVertex<>(factory.getVertexFactory(), generatorConfig, graphId));
+
+    DataSet<EPGMEdge> edges = env
+      .generateSequence(0, generatorConfig.getEdgeCount() - 1)
+      .map(new CreateEdge<>(factory.getEdgeFactory(), generatorConfig, graphId));
+
+    return factory.fromDataSets(graphHead, vertices, edges);
+  }
+
+  /**
+   * Returns the id of the vertex with the given index.
+   *
+   * @param index vertex index
+   * @return vertex id
+   */
+  public static GradoopId vertexId(long index) {
+    return toGradoopId(VERTEX_ID_SPACE, index);
+  }
+
+  /**
+   * Returns the id of the edge with the given index.
+   *
+   * @param index edge index
+   * @return edge id
+   */
+  public static GradoopId edgeId(long index) {
+    return toGradoopId(EDGE_ID_SPACE, index);
+  }
+
+  /**
+   * Creates a deterministic id from an index. The index is split into the timestamp and counter
+   * components, the id space is stored as machine identifier.
+   *
+   * @param idSpace element type specific machine identifier
+   * @param index element index
+   * @return unique id within the id space
+   */
+  private static GradoopId toGradoopId(int idSpace, long index) {
+    return new GradoopId((int) (index >>> 24), idSpace, (short) 0,
+      (int) (index & LOW_ORDER_THREE_BYTES));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.generator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples values from {@code [0, n)} following a Zipf distribution with a given exponent.
+ * An exponent of {@code 0} results in a uniform distribution, larger exponents increase the
+ * skew towards small values.
+ */
+public class ZipfSampler implements Serializable {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Cumulative probabilities of all values.
+   */
+  private final double[] cumulativeProbabilities;
+
+  /**
+   * Creates a new sampler.
+   *
+   * @param n number of distinct values
+   * @param exponent skew of the distribution
+   */
+  public ZipfSampler(int n, double exponent) {
+    if (n < 1) {
+      throw new IllegalArgumentException("Number of values must be positive.");
+    }
+    if (exponent < 0) {
+      throw new IllegalArgumentException("Exponent must not be negative.");
+    }
+    cumulativeProbabilities = new double[n];
+    double sum = 0d;
+    for (int i = 0; i < n; i++) {
+      sum += 1d / Math.pow(i + 1, exponent);
+      cumulativeProbabilities[i] = sum;
+    }
+    for (int i = 0; i < n; i++) {
+      cumulativeProbabilities[i] /= sum;
+    }
+  }
+
+  /**
+   * Draws the next value.
+   *
+   * @param random source of randomness
+   * @return value in {@code [0, n)}
+   */
+  public int sample(SplittableRandom random) {
+    int position = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+    int value = position < 0 ? -position - 1 : position;
+    return Math.min(value, cumulativeProbabilities.length - 1);
+  }
+}
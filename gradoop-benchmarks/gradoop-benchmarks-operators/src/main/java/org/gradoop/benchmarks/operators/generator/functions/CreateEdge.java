@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.generator.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.gradoop.benchmarks.operators.generator.Distribution;
+import org.gradoop.benchmarks.operators.generator.GeneratorConfig;
+import org.gradoop.benchmarks.operators.generator.SyntheticGraphGenerator;
+import org.gradoop.benchmarks.operators.generator.ZipfSampler;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.EdgeFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+
+import java.util.SplittableRandom;
+
+/**
+ * Creates the edge with the given index.
+ *
+ * The source vertex is chosen from all vertices. With the configured locality, the target
+ * vertex is chosen from the community of the source vertex, otherwise from all vertices. Both
+ * choices follow the configured {@link Distribution}.
+ *
+ * @param <E> edge type
+ */
+public class CreateEdge<E extends Edge> implements
+  MapFunction<Long, E>, ResultTypeQueryable<E> {
+
+  /**
+   * Offset of the edge seeds, avoids equal random sequences for vertex and edge with the same
+   * index.
+   */
+  private static final long SEED_OFFSET = 0x9e3779b97f4a7c15L;
+
+  /**
+   * The type of the produced edge.
+   */
+  private final TypeInformation<E> edgeType;
+
+  /**
+   * Factory to create edges.
+   */
+  private final EdgeFactory<E> edgeFactory;
+
+  /**
+   * Parameters of the generated graph.
+   */
+  private final GeneratorConfig config;
+
+  /**
+   * Graph the edges are contained in.
+   */
+  private final GradoopIdSet graphIds;
+
+  /**
+   * Sampler for the label.
+   */
+  private final ZipfSampler labelSampler;
+
+  /**
+   * Sampler for the categorical property.
+   */
+  private final ZipfSampler propertySampler;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param edgeFactory factory to create edges
+   * @param config parameters of the generated graph
+   * @param graphId id of the graph the edges are contained in
+   */
+  public CreateEdge(EdgeFactory<E> edgeFactory, GeneratorConfig config, GradoopId graphId) {
+    this.edgeType = TypeInformation.of(edgeFactory.getType());
+    this.edgeFactory = edgeFactory;
+    this.config = config;
+    this.graphIds = GradoopIdSet.fromExisting(graphId);
+    this.labelSampler = new ZipfSampler(config.getEdgeLabelCount(), config.getLabelSkew());
+    this.propertySampler =
+      new ZipfSampler(config.getPropertyCardinality(), config.getPropertySkew());
+  }
+
+  @Override
+  public E map(Long index) {
+    SplittableRandom random = new SplittableRandom((config.getSeed() + SEED_OFFSET) ^ index);
+
+    long vertexCount = config.getVertexCount();
+    long source = nextIndex(random, vertexCount);
+    long target;
+    if (random.nextDouble() < config.getLocality()) {
+      long communityStart = source - source % config.getCommunitySize();
+      long communitySize = Math.min(config.getCommunitySize(), vertexCount - communityStart);
+      target = communityStart + nextIndex(random, communitySize);
+    } else {
+      target = nextIndex(random, vertexCount);
+    }
+
+    Properties properties = Properties.createWithCapacity(2);
+    properties.set(SyntheticGraphGenerator.PROPERTY_KEY, (long) propertySampler.sample(random));
+    properties.set(SyntheticGraphGenerator.PROPERTY_VALUE, random.nextDouble());
+
+    return edgeFactory.initEdge(SyntheticGraphGenerator.edgeId(index),
+      SyntheticGraphGenerator.EDGE_LABEL_PREFIX + labelSampler.sample(random),
+      SyntheticGraphGenerator.vertexId(source), SyntheticGraphGenerator.vertexId(target),
+      properties, graphIds);
+  }
+
+  /**
+   * Draws an index from {@code [0, n)} according to the configured distribution.
+   *
+   * @param random source of randomness
+   * @param n upper bound (exclusive)
+   * @return index
+   */
+  private long nextIndex(SplittableRandom random, long n) {
+    double u = random.nextDouble();
+    if (config.getDistribution() == Distribution.SCALE_FREE) {
+      u = Math.pow(u, config.getDegreeSkew());
+    }
+    return Math.min((long) (u * n), n - 1);
+  }
+
+  @Override
+  public TypeInformation<E> getProducedType() {
+    return edgeType;
+  }
+}
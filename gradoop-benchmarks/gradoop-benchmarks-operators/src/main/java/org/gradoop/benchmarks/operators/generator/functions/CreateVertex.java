@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.generator.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.gradoop.benchmarks.operators.generator.GeneratorConfig;
+import org.gradoop.benchmarks.operators.generator.SyntheticGraphGenerator;
+import org.gradoop.benchmarks.operators.generator.ZipfSampler;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.api.entities.VertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+
+import java.util.SplittableRandom;
+
+/**
+ * Creates the vertex with the given index.
+ *
+ * @param <V> vertex type
+ */
+public class CreateVertex<V extends Vertex> implements
+  MapFunction<Long, V>, ResultTypeQueryable<V> {
+
+  /**
+   * The type of the produced vertex.
+   */
+  private final TypeInformation<V> vertexType;
+
+  /**
+   * Factory to create vertices.
+   */
+  private final VertexFactory<V> vertexFactory;
+
+  /**
+   * Parameters of the generated graph.
+   */
+  private final GeneratorConfig config;
+
+  /**
+   * Graph the vertices are contained in.
+   */
+  private final GradoopIdSet graphIds;
+
+  /**
+   * Sampler for the label.
+   */
+  private final ZipfSampler labelSampler;
+
+  /**
+   * Sampler for the categorical property.
+   */
+  private final ZipfSampler propertySampler;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param vertexFactory factory to create vertices
+   * @param config parameters of the generated graph
+   * @param graphId id of the graph the vertices are contained in
+   */
+  public CreateVertex(VertexFactory<V> vertexFactory, GeneratorConfig config, GradoopId graphId) {
+    this.vertexType = TypeInformation.of(vertexFactory.getType());
+    this.vertexFactory = vertexFactory;
+    this.config = config;
+    this.graphIds = GradoopIdSet.fromExisting(graphId);
+    this.labelSampler = new ZipfSampler(config.getVertexLabelCount(), config.getLabelSkew());
+    this.propertySampler =
+      new ZipfSampler(config.getPropertyCardinality(), config.getPropertySkew());
+  }
+
+  @Override
+  public V map(Long index) {
+    SplittableRandom random = new SplittableRandom(config.getSeed() ^ index);
+
+    Properties properties = Properties.createWithCapacity(3);
+    properties.set(SyntheticGraphGenerator.PROPERTY_KEY, (long) propertySampler.sample(random));
+    properties.set(SyntheticGraphGenerator.PROPERTY_VALUE, random.nextDouble());
+    properties.set(SyntheticGraphGenerator.PROPERTY_COMMUNITY, index / config.getCommunitySize());
+
+    return vertexFactory.initVertex(SyntheticGraphGenerator.vertexId(index),
+      SyntheticGraphGenerator.VERTEX_LABEL_PREFIX + labelSampler.sample(random), properties,
+      graphIds);
+  }
+
+  @Override
+  public TypeInformation<V> getProducedType() {
+    return vertexType;
+  }
+}
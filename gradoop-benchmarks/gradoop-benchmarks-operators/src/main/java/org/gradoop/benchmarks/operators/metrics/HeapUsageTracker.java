@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * Tracks the peak heap usage of the JVM running the benchmark.
+ *
+ * In a local execution environment the task manager runs in the same JVM and managed memory
+ * segments are allocated on the heap, so the peak heap usage is an upper bound of the managed
+ * memory used by a job.
+ */
+public class HeapUsageTracker {
+
+  /**
+   * Private constructor to avoid instantiation.
+   */
+  private HeapUsageTracker() {
+  }
+
+  /**
+   * Resets the peak usage of all heap memory pools.
+   */
+  public static void reset() {
+    System.gc();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+        pool.resetPeakUsage();
+      }
+    }
+  }
+
+  /**
+   * Returns the summed peak usage of all heap memory pools since the last {@link #reset()}.
+   *
+   * @return peak heap usage in bytes
+   */
+  public static long getPeakHeapUsage() {
+    long peak = 0L;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+    return peak;
+  }
+}
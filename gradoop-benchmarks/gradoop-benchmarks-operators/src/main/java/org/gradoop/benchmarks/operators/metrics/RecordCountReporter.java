@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.operators.metrics;
+
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Metric;
+import org.apache.flink.metrics.MetricConfig;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.reporter.MetricReporter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A {@link MetricReporter} keeping references to the record counters of all operators, so that
+ * the number of records each operator consumed and emitted can be read after a job finished.
+ *
+ * Flink instantiates reporters via reflection, so the counters are collected in a static
+ * registry. This only works for jobs executed in the JVM of the benchmark driver, i.e. in a
+ * local execution environment.
+ */
+public class RecordCountReporter implements MetricReporter {
+
+  /**
+   * Name of the metric counting incoming records.
+   */
+  public static final String RECORDS_IN = "numRecordsIn";
+
+  /**
+   * Name of the metric counting outgoing records.
+   */
+  public static final String RECORDS_OUT = "numRecordsOut";
+
+  /**
+   * Scope variable containing the operator name.
+   */
+  private static final String OPERATOR_NAME = "<operator_name>";
+
+  /**
+   * Incoming record counters of all operator instances by operator name.
+   */
+  private static final Map<String, List<Counter>> RECORDS_IN_COUNTERS = new ConcurrentHashMap<>();
+
+  /**
+   * Outgoing record counters of all operator instances by operator name.
+   */
+  private static final Map<String, List<Counter>> RECORDS_OUT_COUNTERS = new ConcurrentHashMap<>();
+
+  @Override
+  public void open(MetricConfig config) {
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public void notifyOfAddedMetric(Metric metric, String metricName, MetricGroup group) {
+    String operatorName = group.getAllVariables().get(OPERATOR_NAME);
+    if (operatorName == null || !(metric instanceof Counter)) {
+      return;
+    }
+    if (RECORDS_IN.equals(metricName)) {
+      RECORDS_IN_COUNTERS.computeIfAbsent(operatorName, k -> new CopyOnWriteArrayList<>())
+        .add((Counter) metric);
+    } else if (RECORDS_OUT.equals(metricName)) {
+      RECORDS_OUT_COUNTERS.computeIfAbsent(operatorName, k -> new CopyOnWriteArrayList<>())
+        .add((Counter) metric);
+    }
+  }
+
+  @Override
+  public void notifyOfRemovedMetric(Metric metric, String metricName, MetricGroup group) {
+    // references are kept until reset() to read the final counts after the job finished
+  }
+
+  /**
+   * Removes all collected counters. Has to be called before a new job is executed.
+   */
+  public static void reset() {
+    RECORDS_IN_COUNTERS.clear();
+    RECORDS_OUT_COUNTERS.clear();
+  }
+
+  /**
+   * Returns the number of incoming records per operator, summed over all parallel instances.
+   *
+   * @return operator name to record count
+   */
+  public static Map<String, Long> getRecordsIn() {
+    return sum(RECORDS_IN_COUNTERS);
+  }
+
+  /**
+   * Returns the number of outgoing records per operator, summed over all parallel instances.
+   *
+   * @return operator name to record count
+   */
+  public static Map<String, Long> getRecordsOut() {
+    return sum(RECORDS_OUT_COUNTERS);
+  }
+
+  /**
+   * Sums up the counters of each operator.
+   *
+   * @param counters counters by operator name
+   * @return sorted map of operator name to summed count
+   */
+  private static Map<String, Long> sum(Map<String, List<Counter>> counters) {
+    Map<String, Long> result = new TreeMap<>();
+    for (Map.Entry<String, List<Counter>> entry : counters.entrySet()) {
+      long sum = 0L;
+      for (Counter counter : entry.getValue()) {
+        sum += counter.getCount();
+      }
+      result.put(entry.getKey(), sum);
+    }
+    return result;
+  }
+}
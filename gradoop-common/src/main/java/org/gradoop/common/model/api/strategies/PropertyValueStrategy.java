@@ -18,6 +18,7 @@ package org.gradoop.common.model.api.strategies;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.strategies.PropertyValueStrategyFactory;
 
 import java.io.IOException;
 
@@ -101,4 +102,47 @@ public interface PropertyValueStrategy<T> {
    * @throws IOException on failure
    */
   byte[] getRawBytes(T value) throws IOException;
+
+  /**
+   * Writes a value given by its raw byte representation (see {@link #getRawBytes(Object)}) to the
+   * provided {@link DataOutputView}, using the same format as {@link #write(Object,
+   * DataOutputView)}. The default implementation deserializes the value first.
+   *
+   * @param rawBytes   raw byte representation of a value handled by this strategy.
+   * @param outputView that the value is written to.
+   * @throws IOException if write process fails.
+   */
+  default void writeRaw(byte[] rawBytes, DataOutputView outputView) throws IOException {
+    write(get(rawBytes), outputView);
+  }
+
+  /**
+   * Reads a value written by {@link #write(Object, DataOutputView)} from the given
+   * {@link DataInputView} and returns its raw byte representation without deserializing it.
+   * The default implementation deserializes and serializes the value.
+   *
+   * @param inputView containing serialized object.
+   * @param typeByte  byte needed to indicate whether serialized object has a variable length.
+   * @return raw byte representation, see {@link #getRawBytes(Object)}.
+   * @throws IOException when reading the object fails.
+   */
+  default byte[] readRaw(DataInputView inputView, byte typeByte) throws IOException {
+    return getRawBytes(read(inputView, typeByte));
+  }
+
+  /**
+   * Compares two values given by their raw byte representation, where {@code value} is of the
+   * type handled by this strategy. The result is equal to {@link #compare(Object, Object)} of
+   * the deserialized values. The default implementation deserializes both values.
+   *
+   * @param value raw byte representation of the first value.
+   * @param other raw byte representation of the second value.
+   * @return a negative integer, zero, or a positive integer as first value is less than, equal
+   * to, or greater than the second value.
+   * @throws IOException when deserialization of a value fails.
+   * @throws IllegalArgumentException when {@code other} is not comparable to {@code value}.
+   */
+  default int compareRaw(byte[] value, byte[] other) throws IOException {
+    return compare(get(value), PropertyValueStrategyFactory.fromRawBytes(other));
+  }
 }
@@ -363,11 +363,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int hashCode() {
-    int result = getTimeStamp();
-    result = 31 * result + getMachineIdentifier();
-    result = 31 * result + (int) getProcessIdentifier();
-    result = 31 * result + getCounter();
-    return result;
+    return hashCode(bytes, 0);
   }
 
   /**
@@ -454,47 +450,6 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     target.write(source, ID_SIZE);
   }
 
-  //------------------------------------------------------------------------------------------------
-  // private little helpers
-  //------------------------------------------------------------------------------------------------
-
-  /**
-   * Returns the timestamp component of the id.
-   *
-   * @return the timestamp
-   */
-  private int getTimeStamp() {
-    return makeInt(bytes[0], bytes[1], bytes[2], bytes[3]);
-  }
-
-  /**
-   * Returns the machine identifier component of the id.
-   *
-   * @return the machine identifier
-   */
-  private int getMachineIdentifier() {
-    return makeInt((byte) 0, bytes[4], bytes[5], bytes[6]);
-  }
-
-  /**
-   * Returns the process identifier component of the id.
-   *
-   * @return the process identifier
-   */
-  private short getProcessIdentifier() {
-    return (short) makeInt((byte) 0, (byte) 0, bytes[7], bytes[8]);
-  }
-
-  /**
-   * Returns the counter component of the id.
-   *
-   * @return the counter
-   */
-  private int getCounter() {
-    return makeInt((byte) 0, bytes[9], bytes[10], bytes[11]);
-  }
-
-
   //------------------------------------------------------------------------------------------------
   // static helper functions
   //------------------------------------------------------------------------------------------------
@@ -512,6 +467,22 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     return comparison == 0 ? first : (comparison < 0 ? first : second);
   }
 
+  /**
+   * Returns the hash code of the id stored at the given offset, which is equal to
+   * {@link #hashCode()} of that id.
+   *
+   * @param bytes byte array containing the id
+   * @param offset offset of the id
+   * @return hash code
+   */
+  static int hashCode(byte[] bytes, int offset) {
+    int result = makeInt(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3]);
+    result = 31 * result + makeInt((byte) 0, bytes[offset + 4], bytes[offset + 5], bytes[offset + 6]);
+    result = 31 * result + (int) (short) makeInt((byte) 0, (byte) 0, bytes[offset + 7], bytes[offset + 8]);
+    result = 31 * result + makeInt((byte) 0, bytes[offset + 9], bytes[offset + 10], bytes[offset + 11]);
+    return result;
+  }
+
   /**
    * Returns a primitive int represented by the given 4 bytes.
    *
@@ -15,87 +15,64 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
-import org.apache.flink.types.Value;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.CopyableValue;
 
 import java.io.IOException;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * Represents a set of {@link GradoopId} instances, ignoring any duplicates.
  *
- * Note that by implementing {@link java.util.List} Flink uses the Kryo serializer for
- * (de-)serializing the list.
+ * The ids are stored in ascending order in a single byte array, using {@link GradoopId#ID_SIZE}
+ * bytes per id. Containment checks use a binary search, unions and intersections with other
+ * sets merge the sorted arrays. {@link GradoopId} instances are only created when iterating the
+ * set. The serialized form of the set is the number of ids followed by the array, which allows
+ * Flink to compare sets without deserializing them, see {@link GradoopIdSetComparator}.
  *
  * @see GradoopId
  */
-public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
+@TypeInfo(GradoopIdSetTypeInfoFactory.class)
+public class GradoopIdSet extends AbstractSet<GradoopId> implements CopyableValue<GradoopIdSet> {
   /**
-   * Contains the set of gradoop ids.
+   * Shared array of empty sets.
    */
-  private Set<GradoopId> ids;
+  private static final byte[] EMPTY = new byte[0];
 
   /**
-   * Required default constructor for instantiation by serialization logic.
+   * Sorted ids, only the first {@code size * ID_SIZE} bytes are used.
    */
-  public GradoopIdSet() {
-    this.ids = new HashSet<>();
-  }
+  private byte[] bytes;
 
   /**
-   * Initializes the set with the given byte array.
-   *
-   * @param bytes bytes representing multiple gradoop ids
+   * Number of ids in the set.
    */
-  private GradoopIdSet(byte[] bytes) {
-    this.ids = readIds(bytes);
-  }
+  private int size;
 
   /**
-   * Initializes the set with the given ids.
-   *
-   * @param ids a collection of {@link GradoopId}s
-   */
-  private GradoopIdSet(Collection<GradoopId> ids) {
-    this.ids = new HashSet<>(ids);
-  }
-
-  /**
-   * Since we will need to do operations on individual ids we need
-   * to reconstruct the {@link GradoopId} instances.
-   * @param bytes serialized sequence of {@link GradoopId}s
-   * @return a set representation
+   * Required default constructor for instantiation by serialization logic.
    */
-  private Set<GradoopId> readIds(byte[] bytes) {
-    ids = new HashSet<>();
-    for (int i = 0; i < bytes.length / GradoopId.ID_SIZE; i++) {
-      byte[] idBytes = new byte[GradoopId.ID_SIZE];
-      System.arraycopy(bytes, i * GradoopId.ID_SIZE, idBytes, 0, GradoopId.ID_SIZE);
-      ids.add(GradoopId.fromByteArray(idBytes));
-    }
-    return ids;
+  public GradoopIdSet() {
+    this.bytes = EMPTY;
   }
 
   /**
-   * Serialize all ids into a byte array.
-   * @param ids sequence of {@link GradoopId}s
-   * @return a binary representation
+   * Initializes the set with the given sorted ids.
+   *
+   * @param bytes bytes representing multiple sorted and distinct gradoop ids
+   * @param size number of ids
    */
-  private byte[] writeIds(Set<GradoopId> ids) {
-    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
-
-    int i = 0;
-    for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
-      i++;
-    }
-    return bytes;
+  private GradoopIdSet(byte[] bytes, int size) {
+    this.bytes = bytes;
+    this.size = size;
   }
 
   /**
@@ -115,7 +92,21 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return gradoop id set
    */
   public static GradoopIdSet fromExisting(Collection<GradoopId> ids) {
-    return new GradoopIdSet(ids);
+    if (ids instanceof GradoopIdSet) {
+      return ((GradoopIdSet) ids).copy();
+    }
+    GradoopId[] sorted = ids.toArray(new GradoopId[0]);
+    Arrays.sort(sorted);
+    GradoopIdSet set = new GradoopIdSet(new byte[sorted.length * GradoopId.ID_SIZE], 0);
+    for (GradoopId id : sorted) {
+      if (set.size == 0 || compare(set.bytes, (set.size - 1) * GradoopId.ID_SIZE,
+        id.toByteArray(), 0) != 0) {
+        System.arraycopy(id.toByteArray(), 0, set.bytes, set.size * GradoopId.ID_SIZE,
+          GradoopId.ID_SIZE);
+        set.size++;
+      }
+    }
+    return set;
   }
 
   /**
@@ -125,7 +116,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return gradoop id set
    */
   public static GradoopIdSet fromByteArray(byte[] bytes) {
-    return new GradoopIdSet(bytes);
+    GradoopIdSet set = new GradoopIdSet(bytes.clone(), bytes.length / GradoopId.ID_SIZE);
+    set.sort();
+    return set;
   }
 
   /**
@@ -135,7 +128,20 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean add(GradoopId id) {
-    return this.ids.add(id);
+    int index = indexOf(id.toByteArray());
+    if (index >= 0) {
+      return false;
+    }
+    index = -index - 1;
+    int offset = index * GradoopId.ID_SIZE;
+    int end = size * GradoopId.ID_SIZE;
+    if (end == bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(2 * end, GradoopId.ID_SIZE));
+    }
+    System.arraycopy(bytes, offset, bytes, offset + GradoopId.ID_SIZE, end - offset);
+    System.arraycopy(id.toByteArray(), 0, bytes, offset, GradoopId.ID_SIZE);
+    size++;
+    return true;
   }
 
   /**
@@ -144,7 +150,29 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids the ids to add
    */
   public void addAll(GradoopIdSet ids) {
-    this.ids.addAll(ids.ids);
+    if (ids.size == 0) {
+      return;
+    }
+    byte[] union = new byte[(size + ids.size) * GradoopId.ID_SIZE];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < size || j < ids.size) {
+      int comparison = i == size ? 1 : j == ids.size ? -1 :
+        compare(bytes, i * GradoopId.ID_SIZE, ids.bytes, j * GradoopId.ID_SIZE);
+      if (comparison <= 0) {
+        System.arraycopy(bytes, i++ * GradoopId.ID_SIZE,
+          union, count++ * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+        if (comparison == 0) {
+          j++;
+        }
+      } else {
+        System.arraycopy(ids.bytes, j++ * GradoopId.ID_SIZE,
+          union, count++ * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+      }
+    }
+    bytes = union;
+    size = count;
   }
 
   /**
@@ -154,7 +182,15 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean addAll(Collection<? extends GradoopId> ids) {
-    return this.ids.addAll(ids);
+    int oldSize = size;
+    if (ids instanceof GradoopIdSet) {
+      addAll((GradoopIdSet) ids);
+    } else {
+      for (GradoopId id : ids) {
+        add(id);
+      }
+    }
+    return size != oldSize;
   }
 
   /**
@@ -165,7 +201,8 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean contains(Object identifier) {
-    return this.ids.contains(identifier);
+    return identifier instanceof GradoopId &&
+      indexOf(((GradoopId) identifier).toByteArray()) >= 0;
   }
 
   /**
@@ -175,11 +212,13 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff all specified ids are contained in the set
    */
   public boolean containsAll(GradoopIdSet other) {
-    if (other.size() > this.size()) {
+    if (other.size > this.size) {
       return false;
     }
-    for (GradoopId id : other) {
-      if (!this.contains(id)) {
+    int from = 0;
+    for (int i = 0; i < other.size; i++) {
+      from = indexOf(other.bytes, i * GradoopId.ID_SIZE, from);
+      if (from < 0) {
         return false;
       }
     }
@@ -194,6 +233,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean containsAll(Collection<?> other) {
+    if (other instanceof GradoopIdSet) {
+      return containsAll((GradoopIdSet) other);
+    }
     if (other instanceof Set && other.size() > this.size()) {
       return false;
     }
@@ -212,22 +254,21 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(GradoopIdSet other) {
-    // Algorithm: the sizes of both lists might be vastly different
-    // to prevent the case of iterating multiple times over large collections
-    // we make sure to always iterate over the smaller one
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other.ids;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other.ids;
-      contains = this.ids;
-    }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    // Algorithm: the sizes of both sets might be vastly different, so we search the ids of the
+    // smaller set in the larger one, starting each search behind the previous position
+    GradoopIdSet iterate = this;
+    GradoopIdSet search = other;
+    if (this.size > other.size) {
+      iterate = other;
+      search = this;
+    }
+    int from = 0;
+    for (int i = 0; i < iterate.size && from < search.size; i++) {
+      from = search.indexOf(iterate.bytes, i * GradoopId.ID_SIZE, from);
+      if (from >= 0) {
         return true;
       }
+      from = -from - 1;
     }
     return false;
   }
@@ -239,42 +280,143 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(Set<GradoopId> other) {
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other;
-      contains = this.ids;
+    if (other instanceof GradoopIdSet) {
+      return containsAny((GradoopIdSet) other);
     }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
-        return true;
+    if (this.size > other.size()) {
+      for (GradoopId id : other) {
+        if (contains(id)) {
+          return true;
+        }
+      }
+    } else {
+      for (GradoopId id : this) {
+        if (other.contains(id)) {
+          return true;
+        }
       }
     }
     return false;
   }
 
+  /**
+   * Removes the given id from the set.
+   *
+   * @param identifier the id to remove
+   * @return true, iff the set contained the id
+   */
+  @Override
+  public boolean remove(Object identifier) {
+    if (!(identifier instanceof GradoopId)) {
+      return false;
+    }
+    int index = indexOf(((GradoopId) identifier).toByteArray());
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  /**
+   * Retains only the ids contained in the specified set. Both sorted arrays are merged in place.
+   *
+   * @param other the ids to retain
+   * @return true, iff the set changed
+   */
+  public boolean retainAll(GradoopIdSet other) {
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      int offset = i * GradoopId.ID_SIZE;
+      int comparison = compare(bytes, offset, other.bytes, j * GradoopId.ID_SIZE);
+      if (comparison < 0) {
+        i++;
+      } else if (comparison > 0) {
+        j++;
+      } else {
+        System.arraycopy(bytes, offset, bytes, count++ * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+        i++;
+        j++;
+      }
+    }
+    boolean changed = count != size;
+    size = count;
+    return changed;
+  }
+
+  /**
+   * Retains only the ids contained in the specified collection.
+   *
+   * @param other the ids to retain
+   * @return true, iff the set changed
+   */
+  @Override
+  public boolean retainAll(Collection<?> other) {
+    if (other instanceof GradoopIdSet) {
+      return retainAll((GradoopIdSet) other);
+    }
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int offset = i * GradoopId.ID_SIZE;
+      if (other.contains(GradoopId.fromByteArray(
+        Arrays.copyOfRange(bytes, offset, offset + GradoopId.ID_SIZE)))) {
+        System.arraycopy(bytes, offset, bytes, count++ * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+      }
+    }
+    boolean changed = count != size;
+    size = count;
+    return changed;
+  }
+
   /**
    * Checks if the set is empty.
    *
    * @return true, iff the set contains no elements
    */
   public boolean isEmpty() {
-    return ids.isEmpty();
+    return size == 0;
   }
 
   @Override
   public Iterator<GradoopId> iterator() {
-    return ids.iterator();
+    return new Iterator<GradoopId>() {
+      /**
+       * Index of the next id.
+       */
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public GradoopId next() {
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        int offset = next++ * GradoopId.ID_SIZE;
+        return GradoopId.fromByteArray(
+          Arrays.copyOfRange(bytes, offset, offset + GradoopId.ID_SIZE));
+      }
+
+      @Override
+      public void remove() {
+        if (next == 0) {
+          throw new IllegalStateException();
+        }
+        removeAt(--next);
+      }
+    };
   }
 
   /**
    * Clears the set.
    */
   public void clear() {
-    ids.clear();
+    size = 0;
   }
 
   /**
@@ -283,7 +425,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return number of elements in the set
    */
   public int size() {
-    return ids.size();
+    return size;
   }
 
   /**
@@ -292,48 +434,104 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return byte array representation
    */
   public byte[] toByteArray() {
-    return writeIds(ids);
+    return Arrays.copyOf(bytes, size * GradoopId.ID_SIZE);
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    if (isEmpty()) {
-      out.writeInt(0);
-    } else {
-      out.writeInt(size());
-      out.write(writeIds(ids));
-    }
+    out.writeInt(size);
+    out.write(bytes, 0, size * GradoopId.ID_SIZE);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    int n = in.readInt();
-    byte[] bytes = new byte[n * GradoopId.ID_SIZE];
-    in.readFully(bytes);
-    this.ids = readIds(bytes);
+    size = in.readInt();
+    int length = size * GradoopId.ID_SIZE;
+    if (bytes.length < length) {
+      bytes = new byte[length];
+    }
+    in.readFully(bytes, 0, length);
+    sort();
   }
 
   @Override
-  public boolean equals(Object o) {
-    boolean equal = this == o;
+  public int getBinaryLength() {
+    return -1;
+  }
+
+  @Override
+  public void copyTo(GradoopIdSet target) {
+    target.bytes = toByteArray();
+    target.size = size;
+  }
+
+  @Override
+  public GradoopIdSet copy() {
+    return new GradoopIdSet(toByteArray(), size);
+  }
 
-    if (!equal && o instanceof GradoopIdSet) {
-      GradoopIdSet that = (GradoopIdSet) o;
-      // same number of ids
-      equal = this.size() == that.size();
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int count = source.readInt();
+    byte[] buffer = new byte[count * GradoopId.ID_SIZE];
+    source.readFully(buffer);
+    target.writeInt(count);
+    target.write(buffer);
+  }
 
-      if (equal) {
-        // same ids
-        equal = this.ids.equals(that.ids);
+  /**
+   * Compares two sets by their sorted ids. The set with the smaller id at the first differing
+   * position is smaller. If one set is a prefix of the other, the smaller set is smaller.
+   *
+   * @param other set to compare to
+   * @return a negative integer, zero, or a positive integer as this set is less than, equal to,
+   * or greater than the other set.
+   */
+  int compareIds(GradoopIdSet other) {
+    int length = Math.min(size, other.size) * GradoopId.ID_SIZE;
+    for (int i = 0; i < length; i++) {
+      if (bytes[i] != other.bytes[i]) {
+        return (bytes[i] & 0xff) < (other.bytes[i] & 0xff) ? -1 : 1;
       }
     }
+    return Integer.compare(size, other.size);
+  }
 
-    return equal;
+  /**
+   * Writes the leading bytes of the sorted ids to the given memory segment. Remaining bytes are
+   * zero.
+   *
+   * @param target memory segment
+   * @param offset offset in the memory segment
+   * @param numBytes number of bytes to write
+   */
+  void copyNormalizedKey(MemorySegment target, int offset, int numBytes) {
+    int length = Math.min(numBytes, size * GradoopId.ID_SIZE);
+    target.put(offset, bytes, 0, length);
+    for (int i = length; i < numBytes; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GradoopIdSet)) {
+      return false;
+    }
+    GradoopIdSet that = (GradoopIdSet) o;
+    return size == that.size && compareIds(that) == 0;
   }
 
   @Override
   public int hashCode() {
-    return ids.hashCode();
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += GradoopId.hashCode(bytes, i * GradoopId.ID_SIZE);
+    }
+    return hashCode;
   }
 
   @Override
@@ -355,4 +553,93 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
       sb.append(',').append(' ');
     }
   }
+
+  //------------------------------------------------------------------------------------------------
+  // private helpers
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the given id in the set.
+   *
+   * @param id byte representation of the id
+   * @return index of the id, if it is contained; otherwise {@code -(insertion point) - 1}
+   */
+  private int indexOf(byte[] id) {
+    return indexOf(id, 0, 0);
+  }
+
+  /**
+   * Searches the given id in the set, starting at the given index.
+   *
+   * @param array array containing the id
+   * @param offset offset of the id in the array
+   * @param from index of the first id to consider
+   * @return index of the id, if it is contained; otherwise {@code -(insertion point) - 1}
+   */
+  private int indexOf(byte[] array, int offset, int from) {
+    int low = from;
+    int high = size - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = compare(bytes, middle * GradoopId.ID_SIZE, array, offset);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Removes the id at the given index.
+   *
+   * @param index index of the id
+   */
+  private void removeAt(int index) {
+    int offset = index * GradoopId.ID_SIZE;
+    System.arraycopy(bytes, offset + GradoopId.ID_SIZE, bytes, offset,
+      (size - index - 1) * GradoopId.ID_SIZE);
+    size--;
+  }
+
+  /**
+   * Sorts the ids and removes duplicates, if necessary.
+   */
+  private void sort() {
+    for (int i = 1; i < size; i++) {
+      if (compare(bytes, (i - 1) * GradoopId.ID_SIZE, bytes, i * GradoopId.ID_SIZE) >= 0) {
+        GradoopId[] ids = new GradoopId[size];
+        for (int j = 0; j < size; j++) {
+          ids[j] = GradoopId.fromByteArray(Arrays.copyOfRange(bytes,
+            j * GradoopId.ID_SIZE, (j + 1) * GradoopId.ID_SIZE));
+        }
+        GradoopIdSet sorted = fromExisting(Arrays.asList(ids));
+        bytes = sorted.bytes;
+        size = sorted.size;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Compares two ids byte-wise, like {@link GradoopId#compareTo(GradoopId)}.
+   *
+   * @param first array containing the first id
+   * @param firstOffset offset of the first id
+   * @param second array containing the second id
+   * @param secondOffset offset of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   * to, or greater than the second id.
+   */
+  private static int compare(byte[] first, int firstOffset, byte[] second, int secondOffset) {
+    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
+      if (first[firstOffset + i] != second[secondOffset + i]) {
+        return (first[firstOffset + i] & 0xff) < (second[secondOffset + i] & 0xff) ? -1 : 1;
+      }
+    }
+    return 0;
+  }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+
+import java.io.IOException;
+
+/**
+ * Flink comparator for {@link GradoopIdSet} keys.
+ *
+ * Sets are compared by their sorted ids, see {@link GradoopIdSet#compareIds(GradoopIdSet)}.
+ * Serialized sets are compared byte-wise without deserializing them and the leading ids are used
+ * as normalized key.
+ */
+public class GradoopIdSetComparator extends TypeComparator<GradoopIdSet> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Flink comparators for extracted keys.
+   */
+  private final TypeComparator[] comparators = new TypeComparator[] {this};
+
+  /**
+   * True, if the order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * Copy of the reference set.
+   */
+  private final GradoopIdSet reference = new GradoopIdSet();
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, if the order is ascending
+   */
+  public GradoopIdSetComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int hash(GradoopIdSet record) {
+    return record.hashCode();
+  }
+
+  @Override
+  public void setReference(GradoopIdSet toCompare) {
+    toCompare.copyTo(reference);
+  }
+
+  @Override
+  public boolean equalToReference(GradoopIdSet candidate) {
+    return reference.equals(candidate);
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<GradoopIdSet> referencedComparator) {
+    int result = ((GradoopIdSetComparator) referencedComparator).reference.compareIds(reference);
+    return ascending ? result : -result;
+  }
+
+  @Override
+  public int compare(GradoopIdSet first, GradoopIdSet second) {
+    int result = first.compareIds(second);
+    return ascending ? result : -result;
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    int firstSize = firstSource.readInt();
+    int secondSize = secondSource.readInt();
+    int length = Math.min(firstSize, secondSize) * GradoopId.ID_SIZE;
+    int result = 0;
+    for (int i = 0; i < length && result == 0; i++) {
+      result = Integer.compare(firstSource.readUnsignedByte(), secondSource.readUnsignedByte());
+    }
+    if (result == 0) {
+      result = Integer.compare(firstSize, secondSize);
+    }
+    return ascending ? result : -result;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return true;
+  }
+
+  @Override
+  public void putNormalizedKey(GradoopIdSet record, MemorySegment target, int offset,
+    int numBytes) {
+    record.copyNormalizedKey(target, offset, numBytes);
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public void writeWithKeyNormalization(GradoopIdSet record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public GradoopIdSet readWithKeyDenormalization(GradoopIdSet reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TypeComparator<GradoopIdSet> duplicate() {
+    return new GradoopIdSetComparator(ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = record;
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return comparators;
+  }
+}
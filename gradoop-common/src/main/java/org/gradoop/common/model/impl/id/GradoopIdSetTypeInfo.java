@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.java.typeutils.ValueTypeInfo;
+
+/**
+ * Type information for {@link GradoopIdSet}.
+ *
+ * Sets are serialized as a {@link org.apache.flink.types.CopyableValue} and can be used as keys,
+ * which are compared by the {@link GradoopIdSetComparator}.
+ */
+public class GradoopIdSetTypeInfo extends ValueTypeInfo<GradoopIdSet> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new type information.
+   */
+  public GradoopIdSetTypeInfo() {
+    super(GradoopIdSet.class);
+  }
+
+  @Override
+  public boolean isKeyType() {
+    return true;
+  }
+
+  @Override
+  public TypeComparator<GradoopIdSet> createComparator(boolean sortOrderAscending,
+    ExecutionConfig executionConfig) {
+    return new GradoopIdSetComparator(sortOrderAscending);
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serializes {@link Properties} using the compact representation of a
+ * {@link PropertyKeyDictionary}.
+ *
+ * Deserialized properties keep the byte representation and are only decoded when they are
+ * modified. Unmodified properties are therefore forwarded without being decoded or re-encoded.
+ *
+ * @see PropertyKeyDictionaryParameters#setDictionary
+ */
+public class DictionaryPropertiesSerializer extends TypeSerializer<Properties> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Dictionary used to encode property keys.
+   */
+  private final PropertyKeyDictionary dictionary;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param dictionary property key dictionary
+   */
+  public DictionaryPropertiesSerializer(PropertyKeyDictionary dictionary) {
+    this.dictionary = Objects.requireNonNull(dictionary);
+  }
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<Properties> duplicate() {
+    return this;
+  }
+
+  @Override
+  public Properties createInstance() {
+    return Properties.create();
+  }
+
+  @Override
+  public Properties copy(Properties from) {
+    return copy(from, createInstance());
+  }
+
+  @Override
+  public Properties copy(Properties from, Properties reuse) {
+    // the byte representation is never modified and can be shared
+    reuse.setEncoded(from.getEncoded(dictionary), dictionary);
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(Properties record, DataOutputView target) throws IOException {
+    byte[] encoded = record.getEncoded(dictionary);
+    PropertyKeyDictionary.writeVarInt(target, encoded.length);
+    target.write(encoded);
+  }
+
+  @Override
+  public Properties deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public Properties deserialize(Properties reuse, DataInputView source) throws IOException {
+    byte[] encoded = new byte[PropertyKeyDictionary.readVarInt(source)];
+    source.readFully(encoded);
+    reuse.setEncoded(encoded, dictionary);
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    byte[] encoded = new byte[PropertyKeyDictionary.readVarInt(source)];
+    source.readFully(encoded);
+    PropertyKeyDictionary.writeVarInt(target, encoded.length);
+    target.write(encoded);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof DictionaryPropertiesSerializer &&
+      ((DictionaryPropertiesSerializer) obj).canEqual(this) &&
+      dictionary.equals(((DictionaryPropertiesSerializer) obj).dictionary);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof DictionaryPropertiesSerializer;
+  }
+
+  @Override
+  public int hashCode() {
+    return dictionary.hashCode();
+  }
+
+  @Override
+  public TypeSerializerSnapshot<Properties> snapshotConfiguration() {
+    return new DictionaryPropertiesSerializerSnapshot(dictionary);
+  }
+
+  /**
+   * Snapshot of a {@link DictionaryPropertiesSerializer}, containing the keys of its
+   * {@link PropertyKeyDictionary} in the order of their ids.
+   */
+  public static final class DictionaryPropertiesSerializerSnapshot
+    implements TypeSerializerSnapshot<Properties> {
+
+    /**
+     * Current version of the snapshot format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Dictionary of the snapshotted serializer, {@code null} until the snapshot is read.
+     */
+    private PropertyKeyDictionary dictionary;
+
+    /**
+     * Constructor used to read the snapshot.
+     */
+    public DictionaryPropertiesSerializerSnapshot() { }
+
+    /**
+     * Creates a snapshot of a serializer using the given dictionary.
+     *
+     * @param dictionary property key dictionary
+     */
+    DictionaryPropertiesSerializerSnapshot(PropertyKeyDictionary dictionary) {
+      this.dictionary = Objects.requireNonNull(dictionary);
+    }
+
+    @Override
+    public int getCurrentVersion() {
+      return VERSION;
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputView out) throws IOException {
+      List<String> keys = dictionary.getKeys();
+      out.writeInt(keys.size());
+      for (String key : keys) {
+        out.writeUTF(key);
+      }
+    }
+
+    @Override
+    public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader)
+      throws IOException {
+      if (readVersion != VERSION) {
+        throw new IOException("Unsupported snapshot version: " + readVersion);
+      }
+      int size = in.readInt();
+      List<String> keys = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        keys.add(in.readUTF());
+      }
+      dictionary = PropertyKeyDictionary.create(keys);
+    }
+
+    @Override
+    public TypeSerializer<Properties> restoreSerializer() {
+      return new DictionaryPropertiesSerializer(dictionary);
+    }
+
+    @Override
+    public TypeSerializerSchemaCompatibility<Properties> resolveSchemaCompatibility(
+      TypeSerializer<Properties> newSerializer) {
+      return newSerializer instanceof DictionaryPropertiesSerializer &&
+        dictionary.equals(((DictionaryPropertiesSerializer) newSerializer).dictionary) ?
+        TypeSerializerSchemaCompatibility.compatibleAsIs() :
+        TypeSerializerSchemaCompatibility.incompatible();
+    }
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.properties;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
@@ -31,7 +32,14 @@ import java.util.stream.Collectors;
 
 /**
  * Represents the properties of an {@link EPGMElement}.
+ *
+ * Properties are either backed by a key value map or by the compact byte representation of a
+ * {@link PropertyKeyDictionary}. The latter is created by {@link DictionaryPropertiesSerializer}
+ * and allows reading single values and forwarding the properties without decoding them. The
+ * map is created on the first access of all properties. Read-only methods do not change the
+ * state visibly, thus properties can be read by several threads at once.
  */
+@TypeInfo(PropertiesTypeInfoFactory.class)
 public class Properties implements Iterable<Property>, Value, Serializable {
 
   /**
@@ -40,9 +48,21 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   private static final int DEFAULT_CAPACITY = 10;
 
   /**
-   * Internal representation
+   * Internal representation, {@code null} if the properties are dictionary encoded and not
+   * decoded yet. If set, the map takes precedence over the encoded representation.
+   */
+  private volatile Map<String, PropertyValue> properties;
+
+  /**
+   * Dictionary encoded representation, {@code null} if the properties were created as map or
+   * modified since they were decoded. Not cleared by reads.
    */
-  private Map<String, PropertyValue> properties;
+  private byte[] encoded;
+
+  /**
+   * Dictionary used to create the encoded representation.
+   */
+  private PropertyKeyDictionary dictionary;
 
   /**
    * Default constructor
@@ -103,13 +123,68 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     return properties;
   }
 
+  /**
+   * Replaces the content of these properties by the given dictionary encoded representation.
+   *
+   * @param encoded byte representation created by {@link PropertyKeyDictionary}
+   * @param dictionary dictionary used to encode the properties
+   */
+  void setEncoded(byte[] encoded, PropertyKeyDictionary dictionary) {
+    this.encoded = encoded;
+    this.dictionary = dictionary;
+    this.properties = null;
+  }
+
+  /**
+   * Returns the byte representation of these properties for the given dictionary. The
+   * representation is only computed if the properties are not yet encoded with that dictionary.
+   *
+   * @param dictionary property key dictionary
+   * @return byte representation
+   */
+  byte[] getEncoded(PropertyKeyDictionary dictionary) {
+    if (properties == null && this.dictionary.equals(dictionary)) {
+      return encoded;
+    }
+    return dictionary.encode(getMap());
+  }
+
+  /**
+   * Returns the map representation and decodes the properties if necessary. The decoded map is
+   * published by a single write, a concurrent reader either sees it or decodes the properties
+   * itself.
+   *
+   * @return key value map
+   */
+  private Map<String, PropertyValue> getMap() {
+    Map<String, PropertyValue> map = properties;
+    if (map == null) {
+      map = dictionary.decode(encoded);
+      properties = map;
+    }
+    return map;
+  }
+
+  /**
+   * Returns the map representation to modify it and drops the encoded representation.
+   *
+   * @return key value map
+   */
+  private Map<String, PropertyValue> getMapForUpdate() {
+    Map<String, PropertyValue> map = getMap();
+    encoded = null;
+    dictionary = null;
+    return map;
+  }
+
   /**
    * Returns property keys in insertion order.
    *
    * @return property keys
    */
   public Iterable<String> getKeys() {
-    return properties.keySet();
+    Map<String, PropertyValue> map = properties;
+    return map == null ? dictionary.decodeKeys(encoded) : map.keySet();
   }
 
   /**
@@ -131,7 +206,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    Map<String, PropertyValue> map = properties;
+    return map == null ? dictionary.decodeValue(encoded, key) : map.get(key);
   }
 
   /**
@@ -154,7 +230,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
-    properties.put(key, value);
+    getMapForUpdate().put(key, value);
   }
 
   /**
@@ -185,7 +261,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
-    return properties.remove(key);
+    return getMapForUpdate().remove(key);
   }
 
   /**
@@ -204,7 +280,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * Removes all elements from these properties.
    */
   public void clear() {
-    this.properties.clear();
+    getMapForUpdate().clear();
   }
 
   /**
@@ -213,7 +289,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    Map<String, PropertyValue> map = properties;
+    return map == null ? PropertyKeyDictionary.decodeSize(encoded) : map.size();
   }
 
   /**
@@ -244,7 +321,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
     Properties that = (Properties) o;
 
-    return Objects.equals(properties, that.properties);
+    return Objects.equals(getMap(), that.getMap());
   }
 
   /**
@@ -255,7 +332,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public int hashCode() {
-    return properties != null ? properties.hashCode() : 0;
+    return getMap().hashCode();
   }
 
   @Override
@@ -269,16 +346,17 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return List of properties
    */
   public List<Property> toList() {
-    return  properties.entrySet().stream()
+    return  getMap().entrySet().stream()
             .map(e -> Property.create(e.getKey(), e.getValue()))
             .collect(Collectors.toList());
   }
 
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    outputView.writeInt(properties.size());
+    Map<String, PropertyValue> map = getMap();
+    outputView.writeInt(map.size());
 
-    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+    for (Map.Entry<String, PropertyValue> entry : map.entrySet()) {
       outputView.writeUTF(entry.getKey());
       entry.getValue().write(outputView);
     }
@@ -287,7 +365,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   @Override
   public void read(DataInputView inputView) throws IOException {
     int propertyCount = inputView.readInt();
-    this.properties = new HashMap<>(propertyCount);
+    Map<String, PropertyValue> map = new HashMap<>(propertyCount);
 
     String key;
     PropertyValue value;
@@ -296,8 +374,11 @@ public class Properties implements Iterable<Property>, Value, Serializable {
       key = inputView.readUTF();
       value = new PropertyValue();
       value.read(inputView);
-      properties.put(key, value);
+      map.put(key, value);
     }
+    this.encoded = null;
+    this.dictionary = null;
+    this.properties = map;
   }
 
   @Override
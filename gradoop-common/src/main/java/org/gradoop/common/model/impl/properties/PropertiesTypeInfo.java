@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.ValueTypeInfo;
+
+/**
+ * Type information for {@link Properties}.
+ *
+ * Properties are serialized as a {@link org.apache.flink.types.Value} by default. If a
+ * {@link PropertyKeyDictionary} is set for the job via {@link PropertyKeyDictionaryParameters},
+ * the {@link DictionaryPropertiesSerializer} is used instead.
+ */
+public class PropertiesTypeInfo extends ValueTypeInfo<Properties> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new type information.
+   */
+  public PropertiesTypeInfo() {
+    super(Properties.class);
+  }
+
+  @Override
+  public TypeSerializer<Properties> createSerializer(ExecutionConfig executionConfig) {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionaryParameters.getDictionary(executionConfig);
+    return dictionary == null ?
+      super.createSerializer(executionConfig) :
+      new DictionaryPropertiesSerializer(dictionary);
+  }
+}
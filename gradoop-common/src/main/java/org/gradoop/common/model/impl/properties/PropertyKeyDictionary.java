@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A per-job dictionary that maps property keys to small integer ids.
+ *
+ * The dictionary is used to create a compact byte representation of {@link Properties}, where
+ * each property key is stored as a variable length id instead of its full string. Keys that are
+ * not part of the dictionary are stored inline, i.e. the dictionary does not need to be complete.
+ *
+ * Byte representation:
+ *
+ * <pre>
+ * count               : number of properties (varint)
+ * for each property
+ *   key reference     : 0 for an inline key, dictionary id + 1 otherwise (varint)
+ *   [key length]      : length of the UTF-8 encoded inline key (varint)
+ *   [key bytes]       : UTF-8 encoded inline key
+ *   value length      : length of the raw property value (varint)
+ *   value bytes       : raw bytes of the property value, see {@link PropertyValue#getRawBytes()}
+ * </pre>
+ *
+ * The lengths allow reading single values from the byte representation without decoding the
+ * other properties.
+ */
+public class PropertyKeyDictionary implements Serializable {
+
+  /**
+   * Key reference used for keys that are stored inline.
+   */
+  private static final int INLINE_KEY = 0;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Property keys ordered by their id.
+   */
+  private final String[] keys;
+
+  /**
+   * Maps property keys to their id.
+   */
+  private final Map<String, Integer> ids;
+
+  /**
+   * Creates a new dictionary. The id of a key is its position in the given array.
+   *
+   * @param keys distinct property keys
+   */
+  private PropertyKeyDictionary(String[] keys) {
+    this.keys = keys;
+    this.ids = new HashMap<>(keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      ids.put(keys[i], i);
+    }
+  }
+
+  /**
+   * Creates a dictionary containing the given property keys. Duplicates are ignored.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary create(Collection<String> keys) {
+    Objects.requireNonNull(keys);
+    LinkedHashSet<String> distinctKeys = new LinkedHashSet<>(keys);
+    distinctKeys.forEach(Objects::requireNonNull);
+    return new PropertyKeyDictionary(distinctKeys.toArray(new String[0]));
+  }
+
+  /**
+   * Creates a dictionary containing the given property keys. Duplicates are ignored.
+   *
+   * @param keys property keys
+   * @return dictionary
+   */
+  public static PropertyKeyDictionary create(String... keys) {
+    return create(Arrays.asList(keys));
+  }
+
+  /**
+   * Returns the number of keys in the dictionary.
+   *
+   * @return number of keys
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Returns the property keys ordered by their id.
+   *
+   * @return unmodifiable list of property keys
+   */
+  List<String> getKeys() {
+    return Collections.unmodifiableList(Arrays.asList(keys));
+  }
+
+  /**
+   * Checks if the given key is part of the dictionary.
+   *
+   * @param key property key
+   * @return true, if the key has a dictionary id
+   */
+  public boolean contains(String key) {
+    return ids.containsKey(key);
+  }
+
+  //----------------------------------------------------------------------------
+  // Encoding
+  //----------------------------------------------------------------------------
+
+  /**
+   * Encodes the given properties.
+   *
+   * @param properties key value map
+   * @return byte representation
+   */
+  byte[] encode(Map<String, PropertyValue> properties) {
+    DataOutputSerializer output = new DataOutputSerializer(16 * properties.size() + 1);
+    try {
+      writeVarInt(output, properties.size());
+      for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+        Integer id = ids.get(entry.getKey());
+        if (id == null) {
+          writeVarInt(output, INLINE_KEY);
+          byte[] keyBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+          writeVarInt(output, keyBytes.length);
+          output.write(keyBytes);
+        } else {
+          writeVarInt(output, id + 1);
+        }
+        byte[] valueBytes = entry.getValue().getRawBytesNoCopy();
+        writeVarInt(output, valueBytes.length);
+        output.write(valueBytes);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return output.getCopyOfBuffer();
+  }
+
+  /**
+   * Decodes all properties of the given byte representation.
+   *
+   * @param encoded byte representation
+   * @return key value map
+   */
+  Map<String, PropertyValue> decode(byte[] encoded) {
+    DataInputDeserializer input = new DataInputDeserializer(encoded);
+    try {
+      int count = readVarInt(input);
+      Map<String, PropertyValue> properties = new HashMap<>(count);
+      for (int i = 0; i < count; i++) {
+        String key = readKey(input, encoded);
+        byte[] valueBytes = new byte[readVarInt(input)];
+        input.readFully(valueBytes);
+        properties.put(key, PropertyValue.fromRawBytes(valueBytes));
+      }
+      return properties;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads the value of a single property from the given byte representation.
+   *
+   * @param encoded byte representation
+   * @param key property key
+   * @return property value or {@code null} if the key is not contained
+   */
+  PropertyValue decodeValue(byte[] encoded, String key) {
+    Integer id = ids.get(key);
+    int reference = id == null ? INLINE_KEY : id + 1;
+    DataInputDeserializer input = new DataInputDeserializer(encoded);
+    try {
+      int count = readVarInt(input);
+      for (int i = 0; i < count; i++) {
+        int current = readVarInt(input);
+        boolean found = current == reference;
+        if (current == INLINE_KEY) {
+          int keyLength = readVarInt(input);
+          found = found && key.equals(
+            new String(encoded, input.getPosition(), keyLength, StandardCharsets.UTF_8));
+          input.skipBytesToRead(keyLength);
+        }
+        int valueLength = readVarInt(input);
+        if (found) {
+          int offset = input.getPosition();
+          return PropertyValue.fromRawBytes(Arrays.copyOfRange(encoded, offset, offset + valueLength));
+        }
+        input.skipBytesToRead(valueLength);
+      }
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads all property keys from the given byte representation.
+   *
+   * @param encoded byte representation
+   * @return property keys
+   */
+  List<String> decodeKeys(byte[] encoded) {
+    DataInputDeserializer input = new DataInputDeserializer(encoded);
+    try {
+      int count = readVarInt(input);
+      List<String> result = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        result.add(readKey(input, encoded));
+        input.skipBytesToRead(readVarInt(input));
+      }
+      return result;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads the number of properties from the given byte representation.
+   *
+   * @param encoded byte representation
+   * @return number of properties
+   */
+  static int decodeSize(byte[] encoded) {
+    try {
+      return readVarInt(new DataInputDeserializer(encoded));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads a key reference and resolves it to the property key.
+   *
+   * @param input input positioned at a key reference
+   * @param encoded byte representation backing the input
+   * @return property key
+   * @throws IOException if the input is malformed
+   */
+  private String readKey(DataInputDeserializer input, byte[] encoded) throws IOException {
+    int reference = readVarInt(input);
+    if (reference != INLINE_KEY) {
+      return keys[reference - 1];
+    }
+    int keyLength = readVarInt(input);
+    String key = new String(encoded, input.getPosition(), keyLength, StandardCharsets.UTF_8);
+    input.skipBytesToRead(keyLength);
+    return key;
+  }
+
+  /**
+   * Writes a non-negative int using 7 bits per byte.
+   *
+   * @param output output to write to
+   * @param value non-negative value
+   * @throws IOException if the write fails
+   */
+  static void writeVarInt(DataOutput output, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      output.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.writeByte(value);
+  }
+
+  /**
+   * Reads a non-negative int written by {@link #writeVarInt(DataOutput, int)}.
+   *
+   * @param input input to read from
+   * @return value
+   * @throws IOException if the read fails
+   */
+  static int readVarInt(DataInput input) throws IOException {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = input.readByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(keys, ((PropertyKeyDictionary) o).keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keys);
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyKeyDictionary" + Arrays.toString(keys);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.ExecutionConfig.GlobalJobParameters;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Global job parameters shipping the {@link PropertyKeyDictionary} of a job. The
+ * {@link PropertiesTypeInfo} reads the dictionary from the parameters of the execution config
+ * and creates a {@link DictionaryPropertiesSerializer} if one is set.
+ *
+ * Global job parameters which were set before the dictionary are wrapped and remain accessible
+ * via {@link #getWrapped()}.
+ */
+public class PropertyKeyDictionaryParameters extends GlobalJobParameters {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Dictionary used to serialize properties within the job.
+   */
+  private final PropertyKeyDictionary dictionary;
+
+  /**
+   * Global job parameters set before the dictionary, may be {@code null}.
+   */
+  private final GlobalJobParameters wrapped;
+
+  /**
+   * Creates new global job parameters.
+   *
+   * @param dictionary property key dictionary
+   * @param wrapped global job parameters set before the dictionary or {@code null}
+   */
+  public PropertyKeyDictionaryParameters(PropertyKeyDictionary dictionary,
+    GlobalJobParameters wrapped) {
+    this.dictionary = Objects.requireNonNull(dictionary);
+    this.wrapped = wrapped;
+  }
+
+  /**
+   * Returns the dictionary used to serialize properties within the job.
+   *
+   * @return property key dictionary
+   */
+  public PropertyKeyDictionary getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Returns the global job parameters set before the dictionary.
+   *
+   * @return wrapped global job parameters or {@code null}
+   */
+  public GlobalJobParameters getWrapped() {
+    return wrapped;
+  }
+
+  @Override
+  public Map<String, String> toMap() {
+    return wrapped == null ? Collections.emptyMap() : wrapped.toMap();
+  }
+
+  /**
+   * Sets the property key dictionary used to serialize {@link Properties} within the job
+   * described by the given configuration. Other global job parameters are kept.
+   *
+   * @param executionConfig Flink execution config
+   * @param dictionary property key dictionary or {@code null} to use the default serialization
+   */
+  public static void setDictionary(ExecutionConfig executionConfig,
+    PropertyKeyDictionary dictionary) {
+    GlobalJobParameters parameters = executionConfig.getGlobalJobParameters();
+    if (parameters instanceof PropertyKeyDictionaryParameters) {
+      parameters = ((PropertyKeyDictionaryParameters) parameters).getWrapped();
+    }
+    executionConfig.setGlobalJobParameters(dictionary == null ? parameters :
+      new PropertyKeyDictionaryParameters(dictionary, parameters));
+  }
+
+  /**
+   * Returns the property key dictionary set for the job described by the given configuration.
+   *
+   * @param executionConfig Flink execution config
+   * @return property key dictionary or {@code null} if none is set
+   */
+  public static PropertyKeyDictionary getDictionary(ExecutionConfig executionConfig) {
+    GlobalJobParameters parameters = executionConfig.getGlobalJobParameters();
+    return parameters instanceof PropertyKeyDictionaryParameters ?
+      ((PropertyKeyDictionaryParameters) parameters).getDictionary() : null;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.properties;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
@@ -39,7 +40,18 @@ import java.util.Set;
  * Represents a single property value in the EPGM.
  *
  * A property value wraps a value that implements a supported data type.
+ *
+ * Property values which are read from a {@link DataInputView} or created from raw bytes keep
+ * their raw byte representation and deserialize it on the first access of the value. Type
+ * checks, serialization, {@link #equals(Object)}, {@link #hashCode()} and (for some types)
+ * {@link #compareTo(PropertyValue)} work on the raw bytes directly. Reading such a value does not
+ * change its state visibly, thus it can be read by several threads, e.g. as part of a broadcast
+ * variable. Collections are deserialized on every access, modifying them does not change the
+ * property value.
+ *
+ * Flink compares property values used as keys with the {@link PropertyValueComparator}.
  */
+@TypeInfo(PropertyValueTypeInfoFactory.class)
 public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
 
   /**
@@ -74,9 +86,16 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   private static final long serialVersionUID = 1L;
 
   /**
-   * Stores the object representation of the value
+   * Stores the object representation of the value. If {@link #rawBytes} is set, this is
+   * {@code null} until the raw bytes are deserialized by the first access.
+   */
+  private volatile Object value;
+
+  /**
+   * Raw byte representation of a value read from its serialized form, {@code null} if the value
+   * is stored as object. The array is never modified and not cleared by reads.
    */
-  private Object value;
+  private byte[] rawBytes;
 
   /**
    * Default constructor.
@@ -133,7 +152,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return property value
    */
   public PropertyValue copy() {
-    return new PropertyValue(getRawBytes());
+    return new PropertyValue(getRawBytesNoCopy());
   }
 
   //----------------------------------------------------------------------------
@@ -148,6 +167,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * otherwise
    */
   public boolean is(Class clazz) {
+    if (rawBytes != null) {
+      return PropertyValueStrategyFactory.get(clazz).getRawType() == rawBytes[0];
+    }
     return PropertyValueStrategyFactory.get(clazz).is(value);
   }
 
@@ -157,7 +179,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code null} value
    */
   public boolean isNull() {
-    return getRawBytes()[0] == Type.NULL.getTypeByte();
+    return rawBytes != null ? rawBytes[0] == Type.NULL.getTypeByte() : value == null;
   }
 
   /**
@@ -321,11 +343,12 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   @SuppressWarnings("unchecked")
   public <T> T get(Class<T> clazz) throws UnsupportedOperationException {
     PropertyValueStrategy strategy = PropertyValueStrategyFactory.get(clazz);
-    if (strategy.is(value)) {
-      return (T) value;
+    Object object = materialize();
+    if (strategy.is(object)) {
+      return (T) object;
     }
-    String type = value == null ? "null" : value.getClass().getSimpleName();
-    throw new UnsupportedOperationException("Value '" + value + "' of type " + type +
+    String type = object == null ? "null" : object.getClass().getSimpleName();
+    throw new UnsupportedOperationException("Value '" + object + "' of type " + type +
       ", cannot be accessed as " + clazz.getSimpleName());
   }
 
@@ -335,9 +358,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return value or {@code null} if the value is empty
    */
   public Object getObject() {
-    Object obj = null;
-    if (value != null) {
-      obj = get(value.getClass());
+    Object obj = materialize();
+    if (obj != null) {
+      obj = get(obj.getClass());
     }
     return obj;
   }
@@ -493,6 +516,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
       throw new UnsupportedTypeException(value.getClass());
     }
     this.value = value;
+    this.rawBytes = null;
   }
 
   /**
@@ -641,7 +665,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public Class<?> getType() {
     Class<?> clazz = null;
-    if (value != null) {
+    if (rawBytes != null) {
+      clazz = PropertyValueStrategyFactory.get(rawBytes[0]).getType();
+    } else if (value != null) {
       clazz = PropertyValueStrategyFactory.get(value.getClass()).getType();
     }
 
@@ -649,30 +675,112 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   }
 
   public int getByteSize() {
-    return getRawBytes().length;
+    return getRawBytesNoCopy().length;
   }
 
+  /**
+   * Returns the raw byte representation of the value.
+   *
+   * @return a new array containing the raw bytes
+   */
   public byte[] getRawBytes() {
-    return PropertyValueStrategyFactory.getRawBytes(value);
+    return rawBytes != null ? rawBytes.clone() : PropertyValueStrategyFactory.getRawBytes(value);
   }
 
   /**
-   * Set internal byte representation.
+   * Returns the raw byte representation of the value without copying the internal array, which
+   * must not be modified.
+   *
+   * @return raw bytes
+   */
+  byte[] getRawBytesNoCopy() {
+    return rawBytes != null ? rawBytes : PropertyValueStrategyFactory.getRawBytes(value);
+  }
+
+  /**
+   * Set internal byte representation. The array is deserialized on the first access of the
+   * value and must not be modified afterwards.
    *
    * @param bytes array
    */
   public void setBytes(byte[] bytes) {
-    value = PropertyValueStrategyFactory.fromRawBytes(bytes);
+    Objects.requireNonNull(bytes);
+    value = null;
+    rawBytes = bytes;
+  }
+
+  /**
+   * Deserializes the raw byte representation, if necessary. Immutable values are published by
+   * a single write of {@link #value}, a concurrent reader either sees the deserialized value or
+   * deserializes the raw bytes itself.
+   *
+   * @return object representation of the value
+   */
+  private Object materialize() {
+    Object object = value;
+    if (object == null && rawBytes != null && rawBytes[0] != Type.NULL.getTypeByte()) {
+      object = PropertyValueStrategyFactory.fromRawBytes(rawBytes);
+      if (!isCollectionType(rawBytes[0])) {
+        value = object;
+      }
+    }
+    return object;
   }
 
+  /**
+   * Checks if a type byte denotes a mutable collection type.
+   *
+   * @param type type byte, possibly with {@link #FLAG_LARGE} set
+   * @return true, if the type is a map, set or list
+   */
+  private static boolean isCollectionType(byte type) {
+    byte rawType = (byte) (type & ~FLAG_LARGE);
+    return rawType == Type.MAP.getTypeByte() || rawType == Type.SET.getTypeByte() ||
+      rawType == Type.LIST.getTypeByte();
+  }
+
+  /**
+   * Returns the type byte of the value without deserializing it.
+   *
+   * @return type byte
+   */
+  private byte getTypeByte() {
+    return rawBytes != null ? rawBytes[0] : PropertyValueStrategyFactory.get(value).getRawType();
+  }
+
+  /**
+   * Two property values are equal if they have the same type and value. If one of the values
+   * is not deserialized yet, the raw byte representations are compared. This does not apply to
+   * collection types, where equal values might have a different byte representation.
+   *
+   * @param object other object
+   * @return true, if the values are equal
+   */
   @Override
   public boolean equals(Object object) {
-    return object instanceof PropertyValue && Objects.equals(value, ((PropertyValue) object).value);
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof PropertyValue)) {
+      return false;
+    }
+    PropertyValue other = (PropertyValue) object;
+    if (rawBytes == null && other.rawBytes == null) {
+      return Objects.equals(value, other.value);
+    }
+    byte type = getTypeByte();
+    if (type != other.getTypeByte()) {
+      return false;
+    }
+    if (isCollectionType(type)) {
+      return Objects.equals(materialize(), other.materialize());
+    }
+    return Arrays.equals(getRawBytesNoCopy(), other.getRawBytesNoCopy());
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(PropertyValueStrategyFactory.getRawBytes(value));
+    return Arrays.hashCode(getRawBytesNoCopy());
   }
 
   /**
@@ -685,7 +793,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @Override
   public int compareTo(PropertyValue other) {
-    return PropertyValueStrategyFactory.compare(value, other.value);
+    if (rawBytes != null && other.rawBytes != null) {
+      return PropertyValueStrategyFactory.compareRaw(rawBytes, other.rawBytes);
+    }
+    return PropertyValueStrategyFactory.compare(materialize(), other.materialize());
   }
 
   /**
@@ -694,8 +805,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return byte size
    */
   public int byteSize() {
-    byte[] rawBytes = PropertyValueStrategyFactory.getRawBytes(value);
-    return rawBytes.length;
+    return getRawBytesNoCopy().length;
   }
 
   /**
@@ -726,7 +836,11 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    PropertyValueStrategyFactory.get(value).write(value, outputView);
+    if (rawBytes != null) {
+      PropertyValueStrategyFactory.get(rawBytes[0]).writeRaw(rawBytes, outputView);
+    } else {
+      PropertyValueStrategyFactory.get(value).write(value, outputView);
+    }
   }
 
   @Override
@@ -741,7 +855,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     if (strategy == null) {
       throw new UnsupportedTypeException("No strategy for type byte from input view found");
     } else {
-      value = strategy.read(inputView, typeByte);
+      // the value is deserialized on the first access
+      value = null;
+      rawBytes = strategy.readRaw(inputView, typeByte);
     }
   }
 
@@ -0,0 +1,341 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
+import org.gradoop.common.model.impl.properties.strategies.PropertyValueStrategyFactory;
+import org.gradoop.common.model.impl.properties.strategies.StringStrategy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Flink comparator for {@link PropertyValue} keys.
+ *
+ * The comparator works on the raw byte representation of the values and supports normalized
+ * keys, i.e. sorting and grouping on property values does not deserialize them in most cases.
+ *
+ * Values are ordered by their type first and by their natural order within each type. Values
+ * that are equal by their natural order are ordered by their raw bytes. Therefore two values are
+ * only equal if their raw bytes are equal, which is consistent with
+ * {@link PropertyValue#hashCode()}. Note that, in contrast to
+ * {@link PropertyValue#compareTo(PropertyValue)}, numerical values of different types are never
+ * equal, e.g. {@code 1} and {@code 1L} are different keys.
+ */
+public class PropertyValueComparator extends TypeComparator<PropertyValue> {
+
+  /**
+   * Length of the normalized key: the type byte followed by 15 bytes of the value.
+   */
+  private static final int NORMALIZED_KEY_LENGTH = 16;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Types indexed by their type byte.
+   */
+  private static final Type[] TYPES = new Type[Type.values().length];
+
+  static {
+    for (Type type : Type.values()) {
+      TYPES[type.getTypeByte()] = type;
+    }
+  }
+
+  /**
+   * Flink comparators for extracted keys.
+   */
+  private final TypeComparator[] comparators = new TypeComparator[] {this};
+
+  /**
+   * True, if the order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * Raw bytes of the reference value.
+   */
+  private transient byte[] reference;
+
+  /**
+   * Buffer for the first value of a serialized comparison.
+   */
+  private transient PropertyValue firstBuffer;
+
+  /**
+   * Buffer for the second value of a serialized comparison.
+   */
+  private transient PropertyValue secondBuffer;
+
+  /**
+   * Buffer for the normalized key.
+   */
+  private transient byte[] keyBuffer;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, if the order is ascending
+   */
+  public PropertyValueComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  /**
+   * Compares two values given by their raw byte representation.
+   *
+   * @param value raw bytes of the first value
+   * @param other raw bytes of the second value
+   * @return a negative integer, zero, or a positive integer as the first value is less than,
+   * equal to, or greater than the second value.
+   */
+  static int compareRaw(byte[] value, byte[] other) {
+    byte type = value[0];
+    int result = Byte.compare(type, other[0]);
+    if (result == 0 && type != Type.NULL.getTypeByte() && type != Type.MAP.getTypeByte() &&
+      type != Type.LIST.getTypeByte() && type != Type.SET.getTypeByte()) {
+      result = PropertyValueStrategyFactory.compareRaw(value, other);
+    }
+    return result != 0 ? result : Bytes.compareTo(value, other);
+  }
+
+  @Override
+  public int hash(PropertyValue record) {
+    return record.hashCode();
+  }
+
+  @Override
+  public void setReference(PropertyValue toCompare) {
+    reference = toCompare.getRawBytesNoCopy();
+  }
+
+  @Override
+  public boolean equalToReference(PropertyValue candidate) {
+    return Arrays.equals(reference, candidate.getRawBytesNoCopy());
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<PropertyValue> referencedComparator) {
+    int result = compareRaw(((PropertyValueComparator) referencedComparator).reference, reference);
+    return ascending ? result : -result;
+  }
+
+  @Override
+  public int compare(PropertyValue first, PropertyValue second) {
+    int result = compareRaw(first.getRawBytesNoCopy(), second.getRawBytesNoCopy());
+    return ascending ? result : -result;
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    if (firstBuffer == null) {
+      firstBuffer = new PropertyValue();
+      secondBuffer = new PropertyValue();
+    }
+    firstBuffer.read(firstSource);
+    secondBuffer.read(secondSource);
+    return compare(firstBuffer, secondBuffer);
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return NORMALIZED_KEY_LENGTH;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return true;
+  }
+
+  @Override
+  public void putNormalizedKey(PropertyValue record, MemorySegment target, int offset,
+    int numBytes) {
+    if (keyBuffer == null) {
+      keyBuffer = new byte[NORMALIZED_KEY_LENGTH];
+    }
+    writeNormalizedKey(record.getRawBytesNoCopy(), keyBuffer);
+    int length = Math.min(numBytes, NORMALIZED_KEY_LENGTH);
+    target.put(offset, keyBuffer, 0, length);
+    for (int i = length; i < numBytes; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
+  /**
+   * Writes the normalized key of a value. The key consists of the type byte followed by an
+   * order preserving, unsigned representation of the value. Remaining bytes are zero.
+   *
+   * @param value raw bytes of the value
+   * @param key normalized key buffer
+   */
+  static void writeNormalizedKey(byte[] value, byte[] key) {
+    Arrays.fill(key, (byte) 0);
+    key[0] = value[0];
+    switch (TYPES[value[0]]) {
+    case NULL:
+      break;
+    case SHORT:
+    case INTEGER:
+    case LONG:
+    case DATE:
+    case DATE_TIME:
+      // two's complement integers (or a signed year followed by non-negative fields)
+      copyPayload(value, key);
+      key[PropertyValue.OFFSET] ^= 0x80;
+      break;
+    case FLOAT:
+      putOrderedInt(key, Float.floatToIntBits(Bytes.toFloat(value, PropertyValue.OFFSET)));
+      break;
+    case DOUBLE:
+      putOrderedLong(key, Double.doubleToLongBits(Bytes.toDouble(value, PropertyValue.OFFSET)));
+      break;
+    case BIG_DECIMAL:
+      BigDecimal decimal = (BigDecimal) PropertyValueStrategyFactory.fromRawBytes(value);
+      putOrderedLong(key, Double.doubleToLongBits(decimal.doubleValue()));
+      break;
+    case STRING:
+      putUtf16(value, key);
+      break;
+    default:
+      // booleans, ids, times and collections are ordered by their unsigned bytes
+      copyPayload(value, key);
+    }
+  }
+
+  /**
+   * Copies the value bytes following the type byte to the normalized key.
+   *
+   * @param value raw bytes of the value
+   * @param key normalized key buffer
+   */
+  private static void copyPayload(byte[] value, byte[] key) {
+    System.arraycopy(value, PropertyValue.OFFSET, key, PropertyValue.OFFSET,
+      Math.min(value.length, key.length) - PropertyValue.OFFSET);
+  }
+
+  /**
+   * Writes the bits of a float, such that their unsigned order is the order of
+   * {@link Float#compare(float, float)}.
+   *
+   * @param key normalized key buffer
+   * @param bits result of {@link Float#floatToIntBits(float)}
+   */
+  private static void putOrderedInt(byte[] key, int bits) {
+    Bytes.putInt(key, PropertyValue.OFFSET, bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE);
+  }
+
+  /**
+   * Writes the bits of a double, such that their unsigned order is the order of
+   * {@link Double#compare(double, double)}.
+   *
+   * @param key normalized key buffer
+   * @param bits result of {@link Double#doubleToLongBits(double)}
+   */
+  private static void putOrderedLong(byte[] key, long bits) {
+    Bytes.putLong(key, PropertyValue.OFFSET, bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+  }
+
+  /**
+   * Writes the leading UTF-16 code units of an UTF-8 encoded string value, which preserves the
+   * order of {@link String#compareTo(String)}.
+   *
+   * @param value raw bytes of the value
+   * @param key normalized key buffer
+   */
+  private static void putUtf16(byte[] value, byte[] key) {
+    int offset = PropertyValue.OFFSET;
+    int position = PropertyValue.OFFSET;
+    while (offset < value.length && position < key.length) {
+      int codePoint = StringStrategy.codePointAt(value, offset);
+      offset += codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 :
+        Character.isBmpCodePoint(codePoint) ? 3 : 4;
+      if (Character.isBmpCodePoint(codePoint)) {
+        position = putChar(key, position, (char) codePoint);
+      } else {
+        position = putChar(key, position, Character.highSurrogate(codePoint));
+        position = putChar(key, position, Character.lowSurrogate(codePoint));
+      }
+    }
+  }
+
+  /**
+   * Writes a big endian char to the normalized key, as far as it fits.
+   *
+   * @param key normalized key buffer
+   * @param position position to write to
+   * @param c character
+   * @return position after the character
+   */
+  private static int putChar(byte[] key, int position, char c) {
+    if (position < key.length) {
+      key[position] = (byte) (c >>> 8);
+    }
+    if (position + 1 < key.length) {
+      key[position + 1] = (byte) c;
+    }
+    return position + 2;
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public void writeWithKeyNormalization(PropertyValue record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public PropertyValue readWithKeyDenormalization(PropertyValue reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TypeComparator<PropertyValue> duplicate() {
+    return new PropertyValueComparator(ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = record;
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return comparators;
+  }
+}
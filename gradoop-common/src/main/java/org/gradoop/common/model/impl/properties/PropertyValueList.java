@@ -20,7 +20,8 @@ import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
-import org.apache.flink.types.Value;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NormalizableKey;
 import org.gradoop.common.model.impl.properties.bytes.Bytes;
 
 import java.io.ByteArrayInputStream;
@@ -36,9 +37,12 @@ import java.util.NoSuchElementException;
 
 /**
  * Represents a list of property values.
+ *
+ * Lists are compared by their byte representation. Used as a key in Flink, the leading bytes
+ * are used as normalized key.
  */
 public class PropertyValueList
-  implements Iterable<PropertyValue>, Serializable, Value, Comparable<PropertyValueList> {
+  implements Iterable<PropertyValue>, Serializable, NormalizableKey<PropertyValueList> {
 
   /**
    * Class version for serialization.
@@ -135,6 +139,20 @@ public class PropertyValueList
     return Bytes.compareTo(bytes, o.bytes);
   }
 
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    int length = Math.min(len, bytes.length);
+    target.put(offset, bytes, 0, length);
+    for (int i = length; i < len; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
   @Override
   public String toString() {
     return StringUtils.join(iterator(), ',');
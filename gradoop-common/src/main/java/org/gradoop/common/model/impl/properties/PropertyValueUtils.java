@@ -625,7 +625,8 @@ public class PropertyValueUtils {
      * @return a byte array containing the value without type information
      */
     public static byte[] getRawBytesWithoutType(PropertyValue value) {
-      return Arrays.copyOfRange(value.getRawBytes(), 1, value.getRawBytes().length);
+      byte[] rawBytes = value.getRawBytesNoCopy();
+      return Arrays.copyOfRange(rawBytes, 1, rawBytes.length);
     }
 
     /**
@@ -637,7 +638,7 @@ public class PropertyValueUtils {
      */
     public static byte[] getTypeByte(PropertyValue value) {
       byte[] typeByte = new byte[1];
-      typeByte[0] = value.getRawBytes()[0];
+      typeByte[0] = value.getRawBytesNoCopy()[0];
       return typeByte;
     }
 
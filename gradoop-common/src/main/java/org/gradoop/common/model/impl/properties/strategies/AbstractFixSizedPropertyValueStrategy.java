@@ -15,8 +15,10 @@
  */
 package org.gradoop.common.model.impl.properties.strategies;
 
+import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.gradoop.common.model.api.strategies.PropertyValueStrategy;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import java.io.IOException;
 
@@ -30,6 +32,26 @@ public abstract class AbstractFixSizedPropertyValueStrategy<T> implements Proper
 
   @Override
   public void write(T value, DataOutputView outputView) throws IOException {
-    outputView.write(getRawBytes(value));
+    writeRaw(getRawBytes(value), outputView);
   }
+
+  @Override
+  public void writeRaw(byte[] rawBytes, DataOutputView outputView) throws IOException {
+    outputView.write(rawBytes);
+  }
+
+  @Override
+  public byte[] readRaw(DataInputView inputView, byte typeByte) throws IOException {
+    byte[] rawBytes = new byte[PropertyValue.OFFSET + getSize()];
+    rawBytes[0] = typeByte;
+    inputView.readFully(rawBytes, PropertyValue.OFFSET, getSize());
+    return rawBytes;
+  }
+
+  /**
+   * Returns the number of bytes of a serialized value, excluding the type byte.
+   *
+   * @return size of the value in bytes
+   */
+  protected abstract int getSize();
 }
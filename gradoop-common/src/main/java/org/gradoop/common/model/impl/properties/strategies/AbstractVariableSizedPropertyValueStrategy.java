@@ -35,7 +35,11 @@ public abstract class AbstractVariableSizedPropertyValueStrategy<T> implements P
 
   @Override
   public void write(T value, DataOutputView outputView) throws IOException {
-    byte[] rawBytes = getRawBytes(value);
+    writeRaw(getRawBytes(value), outputView);
+  }
+
+  @Override
+  public void writeRaw(byte[] rawBytes, DataOutputView outputView) throws IOException {
     byte type = rawBytes[0];
 
     if (rawBytes.length > PropertyValue.LARGE_PROPERTY_THRESHOLD) {
@@ -53,6 +57,20 @@ public abstract class AbstractVariableSizedPropertyValueStrategy<T> implements P
     outputView.write(rawBytes, PropertyValue.OFFSET, rawBytes.length - PropertyValue.OFFSET);
   }
 
+  @Override
+  public byte[] readRaw(DataInputView inputView, byte typeByte) throws IOException {
+    int length;
+    if ((typeByte & PropertyValue.FLAG_LARGE) == PropertyValue.FLAG_LARGE) {
+      length = inputView.readInt();
+    } else {
+      length = inputView.readShort();
+    }
+    byte[] rawBytes = new byte[PropertyValue.OFFSET + length];
+    rawBytes[0] = (byte) (typeByte & ~PropertyValue.FLAG_LARGE);
+    inputView.readFully(rawBytes, PropertyValue.OFFSET, length);
+    return rawBytes;
+  }
+
   /**
    * Reads data of variable size from a data input view. The size of the data is determined by the
    * type byte and {@see org.gradoop.common.model.impl.properties.PropertyValue#FLAG_LARGE}.
@@ -42,6 +42,14 @@ public class BooleanStrategy extends AbstractFixSizedPropertyValueStrategy<Boole
       "Incompatible types: %s, %s", value.getClass(), other.getClass()));
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      return Boolean.compare(value[PropertyValue.OFFSET] == -1, other[PropertyValue.OFFSET] == -1);
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof Boolean;
@@ -57,6 +65,11 @@ public class BooleanStrategy extends AbstractFixSizedPropertyValueStrategy<Boole
     return bytes[1] == -1;
   }
 
+  @Override
+  protected int getSize() {
+    return Bytes.SIZEOF_BOOLEAN;
+  }
+
   @Override
   public byte getRawType() {
     return Type.BOOLEAN.getTypeByte();
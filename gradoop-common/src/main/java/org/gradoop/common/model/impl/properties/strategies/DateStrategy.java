@@ -52,6 +52,19 @@ public class DateStrategy extends AbstractFixSizedPropertyValueStrategy<LocalDat
       "Incompatible types: %s, %s", value.getClass(), other.getClass()));
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      // the year is signed, all following fields are non-negative
+      int result = Integer.compare(Bytes.toInt(value, PropertyValue.OFFSET),
+        Bytes.toInt(other, PropertyValue.OFFSET));
+      int offset = PropertyValue.OFFSET + Bytes.SIZEOF_INT;
+      int length = DateTimeSerializer.SIZEOF_DATE - Bytes.SIZEOF_INT;
+      return result != 0 ? result : Bytes.compareTo(value, offset, length, other, offset, length);
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof LocalDate;
@@ -70,6 +83,11 @@ public class DateStrategy extends AbstractFixSizedPropertyValueStrategy<LocalDat
       ));
   }
 
+  @Override
+  protected int getSize() {
+    return DateTimeSerializer.SIZEOF_DATE;
+  }
+
   @Override
   public byte getRawType() {
     return Type.DATE.getTypeByte();
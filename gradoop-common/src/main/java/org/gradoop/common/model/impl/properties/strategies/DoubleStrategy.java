@@ -45,6 +45,15 @@ public class DoubleStrategy extends AbstractFixSizedPropertyValueStrategy<Double
     return PropertyValueStrategyUtils.compareNumerical(value, other);
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      return Double.compare(Bytes.toDouble(value, PropertyValue.OFFSET),
+        Bytes.toDouble(other, PropertyValue.OFFSET));
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof Double;
@@ -60,6 +69,11 @@ public class DoubleStrategy extends AbstractFixSizedPropertyValueStrategy<Double
     return Bytes.toDouble(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  protected int getSize() {
+    return Bytes.SIZEOF_DOUBLE;
+  }
+
   @Override
   public byte getRawType() {
     return Type.DOUBLE.getTypeByte();
@@ -45,6 +45,15 @@ public class FloatStrategy extends AbstractFixSizedPropertyValueStrategy<Float>
     return PropertyValueStrategyUtils.compareNumerical(value, other);
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      return Float.compare(Bytes.toFloat(value, PropertyValue.OFFSET),
+        Bytes.toFloat(other, PropertyValue.OFFSET));
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof Float;
@@ -60,6 +69,11 @@ public class FloatStrategy extends AbstractFixSizedPropertyValueStrategy<Float>
     return Bytes.toFloat(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  protected int getSize() {
+    return Bytes.SIZEOF_FLOAT;
+  }
+
   @Override
   public byte getRawType() {
     return Type.FLOAT.getTypeByte();
@@ -51,6 +51,15 @@ public class GradoopIdStrategy extends AbstractFixSizedPropertyValueStrategy<Gra
       "Incompatible types: %s, %s", value.getClass(), other.getClass()));
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      return Bytes.compareTo(value, PropertyValue.OFFSET, GradoopId.ID_SIZE,
+        other, PropertyValue.OFFSET, GradoopId.ID_SIZE);
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof GradoopId;
@@ -69,6 +78,11 @@ public class GradoopIdStrategy extends AbstractFixSizedPropertyValueStrategy<Gra
       ));
   }
 
+  @Override
+  protected int getSize() {
+    return GradoopId.ID_SIZE;
+  }
+
   @Override
   public byte getRawType() {
     return Type.GRADOOP_ID.getTypeByte();
@@ -45,6 +45,15 @@ public class IntegerStrategy extends AbstractFixSizedPropertyValueStrategy<Integ
     return PropertyValueStrategyUtils.compareNumerical(value, other);
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      return Integer.compare(Bytes.toInt(value, PropertyValue.OFFSET),
+        Bytes.toInt(other, PropertyValue.OFFSET));
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof Integer;
@@ -60,6 +69,11 @@ public class IntegerStrategy extends AbstractFixSizedPropertyValueStrategy<Integ
     return Bytes.toInt(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  protected int getSize() {
+    return Bytes.SIZEOF_INT;
+  }
+
   @Override
   public byte getRawType() {
     return Type.INTEGER.getTypeByte();
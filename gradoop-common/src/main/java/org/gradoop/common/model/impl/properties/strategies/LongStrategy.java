@@ -45,6 +45,15 @@ public class LongStrategy extends AbstractFixSizedPropertyValueStrategy<Long> {
     return PropertyValueStrategyUtils.compareNumerical(value, other);
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      return Long.compare(Bytes.toLong(value, PropertyValue.OFFSET),
+        Bytes.toLong(other, PropertyValue.OFFSET));
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof Long;
@@ -60,6 +69,11 @@ public class LongStrategy extends AbstractFixSizedPropertyValueStrategy<Long> {
     return Bytes.toLong(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  protected int getSize() {
+    return Bytes.SIZEOF_LONG;
+  }
+
   @Override
   public byte getRawType() {
     return Type.LONG.getTypeByte();
@@ -104,6 +104,28 @@ public class PropertyValueStrategyFactory {
     }
   }
 
+  /**
+   * Compares two values given by their raw byte representation. The result is equal to
+   * {@link #compare(Object, Object)} of the deserialized values, but strategies may compare
+   * values of the same type without deserializing them.
+   *
+   * @param value raw bytes of the first value.
+   * @param other raw bytes of the second value.
+   * @return a negative integer, zero, or a positive integer as {@code value} is less than, equal
+   * to, or greater than {@code other}.
+   * @see PropertyValueStrategy#compareRaw(byte[], byte[])
+   */
+  public static int compareRaw(byte[] value, byte[] other) {
+    if (value[0] == Type.NULL.getTypeByte() || other[0] == Type.NULL.getTypeByte()) {
+      return compare(fromRawBytes(value), fromRawBytes(other));
+    }
+    try {
+      return get(value[0]).compareRaw(value, other);
+    } catch (IOException e) {
+      throw new RuntimeException("Error while deserializing object.", e);
+    }
+  }
+
   /**
    * Get byte array representation of the provided object. The object is serialized according to the
    * {@link PropertyValue} standard.
@@ -45,6 +45,15 @@ public class ShortStrategy extends AbstractFixSizedPropertyValueStrategy<Short>
     return PropertyValueStrategyUtils.compareNumerical(value, other);
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      return Short.compare(Bytes.toShort(value, PropertyValue.OFFSET),
+        Bytes.toShort(other, PropertyValue.OFFSET));
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof Short;
@@ -60,6 +69,11 @@ public class ShortStrategy extends AbstractFixSizedPropertyValueStrategy<Short>
     return Bytes.toShort(bytes, PropertyValue.OFFSET);
   }
 
+  @Override
+  protected int getSize() {
+    return Bytes.SIZEOF_SHORT;
+  }
+
   @Override
   public byte getRawType() {
     return Type.SHORT.getTypeByte();
@@ -43,6 +43,63 @@ public class StringStrategy extends AbstractVariableSizedPropertyValueStrategy<S
       "Incompatible types: %s, %s", value.getClass(), other.getClass()));
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      int length = Math.min(value.length, other.length);
+      int offset = PropertyValue.OFFSET;
+      while (offset < length && value[offset] == other[offset]) {
+        offset++;
+      }
+      if (offset == length) {
+        return Integer.compare(value.length, other.length);
+      }
+      // both values share all bytes up to the start of the code point containing the mismatch
+      while ((value[offset] & 0xC0) == 0x80) {
+        offset--;
+      }
+      return compareCodePoints(codePointAt(value, offset), codePointAt(other, offset));
+    }
+    return super.compareRaw(value, other);
+  }
+
+  /**
+   * Decodes the code point starting at the given offset of an UTF-8 encoded byte array.
+   *
+   * @param bytes UTF-8 encoded bytes
+   * @param offset offset of the first byte of the code point
+   * @return code point
+   */
+  public static int codePointAt(byte[] bytes, int offset) {
+    int lead = bytes[offset] & 0xFF;
+    if (lead < 0x80) {
+      return lead;
+    } else if (lead < 0xE0) {
+      return (lead & 0x1F) << 6 | bytes[offset + 1] & 0x3F;
+    } else if (lead < 0xF0) {
+      return (lead & 0x0F) << 12 | (bytes[offset + 1] & 0x3F) << 6 | bytes[offset + 2] & 0x3F;
+    }
+    return (lead & 0x07) << 18 | (bytes[offset + 1] & 0x3F) << 12 |
+      (bytes[offset + 2] & 0x3F) << 6 | bytes[offset + 3] & 0x3F;
+  }
+
+  /**
+   * Compares two code points by their UTF-16 representation, like {@link String#compareTo(String)}
+   * does. Supplementary code points are encoded as surrogate pairs and therefore sort before
+   * the BMP characters {@code U+E000} to {@code U+FFFF}.
+   *
+   * @param first first code point
+   * @param second second code point
+   * @return a negative integer, zero, or a positive integer as the first code point is less than,
+   * equal to, or greater than the second one.
+   */
+  private static int compareCodePoints(int first, int second) {
+    int firstUnit = Character.isBmpCodePoint(first) ? first : Character.highSurrogate(first);
+    int secondUnit = Character.isBmpCodePoint(second) ? second : Character.highSurrogate(second);
+    return firstUnit != secondUnit ? Integer.compare(firstUnit, secondUnit) :
+      Integer.compare(first, second);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof String;
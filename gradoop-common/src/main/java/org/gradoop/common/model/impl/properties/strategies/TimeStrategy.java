@@ -52,6 +52,16 @@ public class TimeStrategy extends AbstractFixSizedPropertyValueStrategy<LocalTim
       "Incompatible types: %s, %s", value.getClass(), other.getClass()));
   }
 
+  @Override
+  public int compareRaw(byte[] value, byte[] other) throws IOException {
+    if (other[0] == getRawType()) {
+      // all fields are non-negative
+      return Bytes.compareTo(value, PropertyValue.OFFSET, DateTimeSerializer.SIZEOF_TIME,
+        other, PropertyValue.OFFSET, DateTimeSerializer.SIZEOF_TIME);
+    }
+    return super.compareRaw(value, other);
+  }
+
   @Override
   public boolean is(Object value) {
     return value instanceof LocalTime;
@@ -70,6 +80,11 @@ public class TimeStrategy extends AbstractFixSizedPropertyValueStrategy<LocalTim
       ));
   }
 
+  @Override
+  protected int getSize() {
+    return DateTimeSerializer.SIZEOF_TIME;
+  }
+
   @Override
   public byte getRawType() {
     return Type.TIME.getTypeByte();
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.AssertJUnit.*;
+
+public class GradoopIdSetComparatorTest {
+
+  private final GradoopId a = GradoopId.fromString("000000000000000000000001");
+  private final GradoopId b = GradoopId.fromString("000000000000000000000002");
+  private final GradoopId c = GradoopId.fromString("ff0000000000000000000000");
+
+  /**
+   * Sets in ascending order.
+   */
+  private final List<GradoopIdSet> orderedSets = Arrays.asList(
+    new GradoopIdSet(),
+    GradoopIdSet.fromExisting(a),
+    GradoopIdSet.fromExisting(a, b),
+    GradoopIdSet.fromExisting(a, b, c),
+    GradoopIdSet.fromExisting(a, c),
+    GradoopIdSet.fromExisting(b),
+    GradoopIdSet.fromExisting(c));
+
+  private final GradoopIdSetComparator comparator = new GradoopIdSetComparator(true);
+
+  private byte[] serialize(GradoopIdSet set) throws IOException {
+    DataOutputSerializer output = new DataOutputSerializer(64);
+    set.write(output);
+    return output.getCopyOfBuffer();
+  }
+
+  private int compareKeys(GradoopIdSet first, GradoopIdSet second, int length) {
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[2 * length]);
+    comparator.putNormalizedKey(first, segment, 0, length);
+    comparator.putNormalizedKey(second, segment, length, length);
+    return segment.compare(segment, 0, length, length);
+  }
+
+  @Test
+  public void testTypeInformation() {
+    TypeInformation<GradoopIdSet> typeInfo = TypeInformation.of(GradoopIdSet.class);
+    assertTrue(typeInfo instanceof GradoopIdSetTypeInfo);
+    assertTrue(typeInfo.isKeyType());
+    TypeComparator<GradoopIdSet> typeComparator = ((GradoopIdSetTypeInfo) typeInfo)
+      .createComparator(true, new ExecutionConfig());
+    assertTrue(typeComparator instanceof GradoopIdSetComparator);
+  }
+
+  @Test
+  public void testSerializer() throws IOException {
+    TypeSerializer<GradoopIdSet> serializer =
+      TypeInformation.of(GradoopIdSet.class).createSerializer(new ExecutionConfig());
+    GradoopIdSet set = GradoopIdSet.fromExisting(c, a);
+    GradoopIdSet copy = serializer.copy(set);
+    assertEquals(set, copy);
+    copy.add(b);
+    assertEquals(2, set.size());
+
+    DataOutputSerializer output = new DataOutputSerializer(64);
+    serializer.copy(new DataInputDeserializer(serialize(set)), output);
+    assertTrue(Arrays.equals(serialize(set), output.getCopyOfBuffer()));
+  }
+
+  @Test
+  public void testCompare() throws IOException {
+    for (int i = 0; i < orderedSets.size(); i++) {
+      for (int j = 0; j < orderedSets.size(); j++) {
+        GradoopIdSet first = orderedSets.get(i);
+        GradoopIdSet second = orderedSets.get(j);
+        String message = first + " <> " + second;
+        int expected = Integer.signum(Integer.compare(i, j));
+        assertEquals(message, expected, Integer.signum(comparator.compare(first, second)));
+        assertEquals(message, expected, Integer.signum(comparator.compareSerialized(
+          new DataInputDeserializer(serialize(first)),
+          new DataInputDeserializer(serialize(second)))));
+        int keyResult = Integer.signum(compareKeys(first, second, 16));
+        assertTrue(message, keyResult == 0 || keyResult == expected);
+      }
+    }
+  }
+
+  @Test
+  public void testReference() {
+    GradoopIdSet set = GradoopIdSet.fromExisting(a, b);
+    comparator.setReference(set);
+    set.add(c);
+    assertTrue(comparator.equalToReference(GradoopIdSet.fromExisting(b, a)));
+    assertEquals(comparator.hash(set.copy()), comparator.hash(set));
+
+    TypeComparator<GradoopIdSet> other = comparator.duplicate();
+    other.setReference(GradoopIdSet.fromExisting(c));
+    assertTrue(comparator.compareToReference(other) > 0);
+    assertTrue(new GradoopIdSetComparator(false).compare(set, GradoopIdSet.fromExisting(c)) > 0);
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
@@ -306,4 +307,61 @@ public class GradoopIdsTest {
     assertEquals("equals failed for two empty lists", empty2, empty);
     assertEquals("hashCode failed two one empty lists", empty2.hashCode(), empty.hashCode());
   }
+
+  @Test
+  public void testIteratorIsSorted() {
+    GradoopId a = GradoopId.fromString("000000000000000000000001");
+    GradoopId b = GradoopId.fromString("000000000000000000000002");
+    GradoopId c = GradoopId.fromString("ff0000000000000000000000");
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(c, a);
+    ids.add(b);
+    ids.add(a);
+
+    assertEquals(Arrays.asList(a, b, c), Lists.newArrayList(ids));
+  }
+
+  @Test
+  public void testRemoveAndRetainAll() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(a, b, c);
+    assertFalse(ids.remove(d));
+    assertTrue(ids.remove(b));
+    assertEquals(GradoopIdSet.fromExisting(a, c), ids);
+
+    ids = GradoopIdSet.fromExisting(a, b, c);
+    assertTrue(ids.retainAll(GradoopIdSet.fromExisting(d, c, a)));
+    assertEquals(GradoopIdSet.fromExisting(a, c), ids);
+    assertFalse(ids.retainAll(GradoopIdSet.fromExisting(a, b, c)));
+    assertTrue(ids.retainAll(Sets.newHashSet(c, d)));
+    assertEquals(GradoopIdSet.fromExisting(c), ids);
+
+    ids = GradoopIdSet.fromExisting(a, b, c);
+    Iterator<GradoopId> iterator = ids.iterator();
+    while (iterator.hasNext()) {
+      if (!iterator.next().equals(b)) {
+        iterator.remove();
+      }
+    }
+    assertEquals(GradoopIdSet.fromExisting(b), ids);
+  }
+
+  @Test
+  public void testFromUnsortedByteArray() {
+    GradoopId a = GradoopId.fromString("000000000000000000000001");
+    GradoopId b = GradoopId.fromString("000000000000000000000002");
+    byte[] bytes = new byte[3 * GradoopId.ID_SIZE];
+    System.arraycopy(b.toByteArray(), 0, bytes, 0, GradoopId.ID_SIZE);
+    System.arraycopy(a.toByteArray(), 0, bytes, GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    System.arraycopy(b.toByteArray(), 0, bytes, 2 * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+
+    GradoopIdSet ids = GradoopIdSet.fromByteArray(bytes);
+    assertEquals(2, ids.size());
+    assertEquals(Arrays.asList(a, b), Lists.newArrayList(ids));
+    assertTrue(ids.containsAll(GradoopIdSet.fromExisting(a, b)));
+  }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.testng.AssertJUnit.*;
+
+public class DictionaryPropertiesSerializerTest {
+
+  /**
+   * Dictionary containing some, but not all of the supported property keys.
+   */
+  private final PropertyKeyDictionary dictionary =
+    PropertyKeyDictionary.create(KEY_0, KEY_1, KEY_2, KEY_3, KEY_4, KEY_5, KEY_6, KEY_7);
+
+  private <T> T writeAndRead(TypeSerializer<T> serializer, T in) throws IOException {
+    DataOutputSerializer output = new DataOutputSerializer(64);
+    serializer.serialize(in, output);
+    DataInputDeserializer input = new DataInputDeserializer(output.getCopyOfBuffer());
+    T out = serializer.deserialize(input);
+    assertEquals("unread bytes", 0, input.available());
+    return out;
+  }
+
+  @Test
+  public void testTypeInformation() {
+    ExecutionConfig config = new ExecutionConfig();
+    TypeInformation<Properties> typeInfo = TypeInformation.of(Properties.class);
+
+    assertTrue(typeInfo instanceof PropertiesTypeInfo);
+    PojoTypeInfo<EPGMVertex> vertexTypeInfo =
+      (PojoTypeInfo<EPGMVertex>) TypeInformation.of(EPGMVertex.class);
+    TypeInformation<?> fieldTypeInfo = vertexTypeInfo.getTypeAt("properties");
+    assertTrue(fieldTypeInfo instanceof PropertiesTypeInfo);
+    assertNull(PropertyKeyDictionaryParameters.getDictionary(config));
+    assertFalse(typeInfo.createSerializer(config) instanceof DictionaryPropertiesSerializer);
+
+    ExecutionConfig.GlobalJobParameters parameters = new ExecutionConfig.GlobalJobParameters();
+    config.setGlobalJobParameters(parameters);
+    PropertyKeyDictionaryParameters.setDictionary(config, dictionary);
+    assertEquals(dictionary, PropertyKeyDictionaryParameters.getDictionary(config));
+    assertEquals(new DictionaryPropertiesSerializer(dictionary), typeInfo.createSerializer(config));
+    assertTrue(config.getRegisteredTypesWithKryoSerializers().isEmpty());
+
+    // the dictionary replaces a previously set dictionary and keeps other parameters
+    PropertyKeyDictionary other = PropertyKeyDictionary.create(KEY_0);
+    PropertyKeyDictionaryParameters.setDictionary(config, other);
+    assertEquals(other, PropertyKeyDictionaryParameters.getDictionary(config));
+    assertSame(parameters,
+      ((PropertyKeyDictionaryParameters) config.getGlobalJobParameters()).getWrapped());
+
+    PropertyKeyDictionaryParameters.setDictionary(config, null);
+    assertNull(PropertyKeyDictionaryParameters.getDictionary(config));
+    assertSame(parameters, config.getGlobalJobParameters());
+  }
+
+  @Test
+  public void testSerialize() throws IOException {
+    Properties in = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties out = writeAndRead(new DictionaryPropertiesSerializer(dictionary), in);
+
+    assertEquals(in.size(), out.size());
+    assertEquals(Lists.newArrayList(in.getKeys()).size(), Lists.newArrayList(out.getKeys()).size());
+    for (Map.Entry<String, Object> entry : SUPPORTED_PROPERTIES.entrySet()) {
+      assertTrue(out.containsKey(entry.getKey()));
+      assertEquals(entry.getValue(), out.get(entry.getKey()).getObject());
+    }
+    assertNull(out.get("1234"));
+    assertEquals(in, out);
+    assertEquals(in.hashCode(), out.hashCode());
+  }
+
+  @Test
+  public void testSerializeEmpty() throws IOException {
+    Properties out = writeAndRead(new DictionaryPropertiesSerializer(dictionary), Properties.create());
+
+    assertTrue(out.isEmpty());
+    assertNull(out.get(KEY_1));
+  }
+
+  @Test
+  public void testModifyEncoded() throws IOException {
+    Properties out = writeAndRead(new DictionaryPropertiesSerializer(dictionary),
+      Properties.createFromMap(SUPPORTED_PROPERTIES));
+
+    out.set(KEY_1, INT_VAL_2);
+    out.remove(KEY_2);
+    out.set("1234", STRING_VAL_6);
+
+    assertEquals(SUPPORTED_PROPERTIES.size(), out.size());
+    assertEquals(INT_VAL_2, out.get(KEY_1).getObject());
+    assertNull(out.get(KEY_2));
+    assertEquals(STRING_VAL_6, out.get("1234").getObject());
+  }
+
+  @Test
+  public void testCopy() throws IOException {
+    DictionaryPropertiesSerializer serializer = new DictionaryPropertiesSerializer(dictionary);
+    Properties in = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties copy = serializer.copy(in);
+
+    assertEquals(in, copy);
+    copy.set(KEY_1, INT_VAL_2);
+    assertEquals(BOOL_VAL_1, in.get(KEY_1).getObject());
+
+    DataOutputSerializer output = new DataOutputSerializer(64);
+    serializer.serialize(in, output);
+    DataOutputSerializer copied = new DataOutputSerializer(64);
+    serializer.copy(new DataInputDeserializer(output.getCopyOfBuffer()), copied);
+    assertEquals(in, serializer.deserialize(new DataInputDeserializer(copied.getCopyOfBuffer())));
+  }
+
+  /**
+   * Tests that a restored serializer reads data written before the snapshot and that only
+   * serializers using the same dictionary are compatible.
+   *
+   * @throws IOException if the serialization fails
+   */
+  @Test
+  public void testSnapshotAndRestore() throws IOException {
+    DictionaryPropertiesSerializer serializer = new DictionaryPropertiesSerializer(dictionary);
+    TypeSerializerSnapshot<Properties> snapshot = serializer.snapshotConfiguration();
+    DataOutputSerializer output = new DataOutputSerializer(64);
+    snapshot.writeSnapshot(output);
+
+    TypeSerializerSnapshot<Properties> restoredSnapshot =
+      new DictionaryPropertiesSerializer.DictionaryPropertiesSerializerSnapshot();
+    restoredSnapshot.readSnapshot(snapshot.getCurrentVersion(),
+      new DataInputDeserializer(output.getCopyOfBuffer()), getClass().getClassLoader());
+    TypeSerializer<Properties> restored = restoredSnapshot.restoreSerializer();
+    assertEquals(serializer, restored);
+
+    Properties in = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    DataOutputSerializer data = new DataOutputSerializer(64);
+    serializer.serialize(in, data);
+    assertEquals(in, restored.deserialize(new DataInputDeserializer(data.getCopyOfBuffer())));
+
+    TypeSerializerSchemaCompatibility<Properties> same =
+      restoredSnapshot.resolveSchemaCompatibility(new DictionaryPropertiesSerializer(dictionary));
+    assertTrue(same.isCompatibleAsIs());
+    TypeSerializerSchemaCompatibility<Properties> other = restoredSnapshot
+      .resolveSchemaCompatibility(new DictionaryPropertiesSerializer(
+        PropertyKeyDictionary.create(KEY_1, KEY_0)));
+    assertTrue(other.isIncompatible());
+  }
+
+  @Test
+  public void testKryoSerializer() throws IOException {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertyKeyDictionaryParameters.setDictionary(config, dictionary);
+    Properties in = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties encoded = writeAndRead(new DictionaryPropertiesSerializer(dictionary), in);
+
+    assertEquals(in, writeAndRead(new KryoSerializer<>(Properties.class, config), in));
+    assertEquals(in, writeAndRead(new KryoSerializer<>(Properties.class, config), encoded));
+  }
+
+  /**
+   * Tests that single values are read without decoding the properties and that decoded
+   * properties are still serialized correctly.
+   *
+   * @throws IOException if the serialization fails
+   */
+  @Test
+  public void testReadOfEncodedProperties() throws IOException {
+    Properties in = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    DictionaryPropertiesSerializer serializer = new DictionaryPropertiesSerializer(dictionary);
+    Properties encoded = writeAndRead(serializer, in);
+    byte[] bytes = encoded.getEncoded(dictionary);
+
+    assertEquals(in.size(), encoded.size());
+    assertEquals(in.get(KEY_1), encoded.get(KEY_1));
+    assertTrue(encoded.getKeys().iterator().hasNext());
+    assertSame(bytes, encoded.getEncoded(dictionary));
+
+    assertEquals(in, encoded);
+    assertEquals(in.hashCode(), encoded.hashCode());
+    assertEquals(in.toList().size(), encoded.toList().size());
+    assertEquals(in, writeAndRead(serializer, encoded));
+
+    encoded.set(KEY_1, !BOOL_VAL_1);
+    assertEquals(!BOOL_VAL_1, writeAndRead(serializer, encoded).get(KEY_1).getBoolean());
+  }
+
+  /**
+   * Tests that encoded properties can be read by several threads at once.
+   *
+   * @throws Exception if a reading thread fails
+   */
+  @Test
+  public void testConcurrentRead() throws Exception {
+    Properties in = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    DictionaryPropertiesSerializer serializer = new DictionaryPropertiesSerializer(dictionary);
+    List<Properties> encoded = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      encoded.add(writeAndRead(serializer, in));
+    }
+    int threadCount = 4;
+    CyclicBarrier start = new CyclicBarrier(threadCount);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < threadCount; t++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          for (Properties properties : encoded) {
+            if (!in.equals(properties) || properties.size() != in.size() ||
+              !in.get(KEY_1).equals(properties.get(KEY_1))) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testValueFormatOfEncodedProperties() throws Exception {
+    Properties in = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties encoded = writeAndRead(new DictionaryPropertiesSerializer(dictionary), in);
+
+    assertEquals(in, writeAndReadValue(Properties.class, encoded));
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.AssertJUnit.*;
+
+public class PropertyValueComparatorTest {
+
+  private final PropertyValueComparator comparator = new PropertyValueComparator(true);
+
+  /**
+   * Values of each list are in ascending order.
+   */
+  private final List<List<Object>> orderedValues = Arrays.asList(
+    Arrays.asList(false, true),
+    Arrays.asList((short) -300, (short) -1, (short) 0, (short) 1, Short.MAX_VALUE),
+    Arrays.asList(Integer.MIN_VALUE, -70000, -1, 0, 1, 256, Integer.MAX_VALUE),
+    Arrays.asList(Long.MIN_VALUE, -1L, 0L, 1L, 1L << 40, Long.MAX_VALUE),
+    Arrays.asList(Float.NEGATIVE_INFINITY, -1.5f, -0.0f, 0.0f, Float.MIN_VALUE, 2.5f,
+      Float.POSITIVE_INFINITY, Float.NaN),
+    Arrays.asList(Double.NEGATIVE_INFINITY, -1.5d, -0.0d, 0.0d, Double.MIN_VALUE, 2.5d,
+      Double.POSITIVE_INFINITY, Double.NaN),
+    Arrays.asList(new BigDecimal("-10.5"), new BigDecimal("1"), new BigDecimal("1.00"),
+      new BigDecimal("1.0000000000000000000001"), new BigDecimal("1e400")),
+    Arrays.asList("", "\u0000", "a", "a\u0000", "ab", "abcdefghijklmnopq", "abcdefghijklmnopr",
+      "b", "\u00e4", "\u0800", "\ud800\udc00", "\udbff\udfff", "\ue000", "\uffff"),
+    Arrays.asList(LocalDate.of(-5, 1, 1), LocalDate.of(1970, 1, 1), LocalDate.of(1970, 1, 2),
+      LocalDate.of(2019, 12, 31)),
+    Arrays.asList(LocalTime.MIN, LocalTime.of(0, 0, 0, 1), LocalTime.of(12, 0), LocalTime.MAX),
+    Arrays.asList(LocalDateTime.of(-5, 1, 1, 0, 0), LocalDateTime.of(1970, 1, 1, 0, 0, 0, 1),
+      LocalDateTime.of(1970, 1, 1, 0, 0, 1), LocalDateTime.of(2019, 12, 31, 23, 59)),
+    Arrays.asList(GradoopId.fromString("000000000000000000000000"),
+      GradoopId.fromString("0000000000000000000000ff"),
+      GradoopId.fromString("ff0000000000000000000000")));
+
+  private byte[] normalizedKey(PropertyValue value, int length) {
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[length + 2]);
+    segment.put(0, (byte) 42);
+    segment.put(length + 1, (byte) 42);
+    comparator.putNormalizedKey(value, segment, 1, length);
+    assertEquals(42, segment.get(0));
+    assertEquals(42, segment.get(length + 1));
+    byte[] key = new byte[length];
+    segment.get(1, key);
+    return key;
+  }
+
+  private int compareKeys(PropertyValue first, PropertyValue second, int length) {
+    byte[] firstKey = normalizedKey(first, length);
+    byte[] secondKey = normalizedKey(second, length);
+    MemorySegment firstSegment = MemorySegmentFactory.wrap(firstKey);
+    return firstSegment.compare(MemorySegmentFactory.wrap(secondKey), 0, 0, length);
+  }
+
+  private PropertyValue writeAndRead(PropertyValue value) throws IOException {
+    DataOutputSerializer output = new DataOutputSerializer(64);
+    value.write(output);
+    PropertyValue result = new PropertyValue();
+    result.read(new DataInputDeserializer(output.getCopyOfBuffer()));
+    return result;
+  }
+
+  @Test
+  public void testTypeInformation() {
+    TypeInformation<PropertyValue> typeInfo = TypeInformation.of(PropertyValue.class);
+    assertTrue(typeInfo instanceof PropertyValueTypeInfo);
+    assertTrue(typeInfo.isKeyType());
+    TypeComparator<PropertyValue> typeComparator = ((PropertyValueTypeInfo) typeInfo)
+      .createComparator(true, new ExecutionConfig());
+    assertTrue(typeComparator instanceof PropertyValueComparator);
+    assertTrue(typeComparator.supportsNormalizedKey());
+  }
+
+  @Test
+  public void testOrderWithinTypes() throws IOException {
+    for (List<Object> values : orderedValues) {
+      for (int i = 0; i < values.size(); i++) {
+        for (int j = 0; j < values.size(); j++) {
+          PropertyValue first = PropertyValue.create(values.get(i));
+          PropertyValue second = writeAndRead(PropertyValue.create(values.get(j)));
+          String message = values.get(i) + " <> " + values.get(j);
+          int expected = Integer.signum(Integer.compare(i, j));
+          assertEquals(message, expected, Integer.signum(comparator.compare(first, second)));
+          int keyResult = Integer.signum(compareKeys(first, second, 16));
+          assertTrue(message, keyResult == 0 || keyResult == expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testOrderOfTypes() {
+    PropertyValue nullValue = PropertyValue.create(null);
+    PropertyValue intValue = PropertyValue.create(1);
+    PropertyValue longValue = PropertyValue.create(1L);
+    PropertyValue stringValue = PropertyValue.create("1");
+
+    assertTrue(comparator.compare(nullValue, intValue) < 0);
+    assertTrue(comparator.compare(intValue, longValue) < 0);
+    assertTrue(comparator.compare(longValue, stringValue) < 0);
+    assertTrue(compareKeys(nullValue, intValue, 1) < 0);
+    assertTrue(compareKeys(intValue, longValue, 1) < 0);
+    assertTrue(compareKeys(longValue, stringValue, 1) < 0);
+  }
+
+  @Test
+  public void testStringCompareRawEqualsCompareTo() {
+    List<String> strings = Arrays.asList("", "a", "ab", "\u00e4", "\u00e4b", "\uffff",
+      "\ud83d\ude00", "\ud83d\ude01", "x\ud83d\ude00", "x\uffff", "x\ue000y");
+    for (String first : strings) {
+      for (String second : strings) {
+        assertEquals(first + " <> " + second, Integer.signum(first.compareTo(second)),
+          Integer.signum(PropertyValue.fromRawBytes(PropertyValue.create(first).getRawBytes())
+            .compareTo(PropertyValue.fromRawBytes(PropertyValue.create(second).getRawBytes()))));
+      }
+    }
+  }
+
+  @Test
+  public void testEqualityIsConsistentWithHashCode() throws IOException {
+    PropertyValue first = PropertyValue.create(new BigDecimal("1"));
+    PropertyValue second = PropertyValue.create(new BigDecimal("1.0"));
+    assertEquals(0, first.compareTo(second));
+    assertTrue(comparator.compare(first, second) != 0);
+
+    PropertyValue value = PropertyValue.create("value");
+    PropertyValue rawValue = writeAndRead(value);
+    assertEquals(0, comparator.compare(value, rawValue));
+    assertEquals(comparator.hash(value), comparator.hash(rawValue));
+    comparator.setReference(value);
+    assertTrue(comparator.equalToReference(rawValue));
+    assertFalse(comparator.equalToReference(PropertyValue.create("other")));
+  }
+
+  @Test
+  public void testCompareToReference() {
+    TypeComparator<PropertyValue> other = comparator.duplicate();
+    comparator.setReference(PropertyValue.create(1));
+    other.setReference(PropertyValue.create(2));
+    assertTrue(comparator.compareToReference(other) > 0);
+    assertTrue(other.compareToReference(comparator) < 0);
+  }
+
+  @Test
+  public void testCompareSerialized() throws IOException {
+    DataOutputSerializer first = new DataOutputSerializer(16);
+    DataOutputSerializer second = new DataOutputSerializer(16);
+    PropertyValue.create("abc").write(first);
+    PropertyValue.create("abd").write(second);
+
+    assertTrue(comparator.compareSerialized(
+      new DataInputDeserializer(first.getCopyOfBuffer()),
+      new DataInputDeserializer(second.getCopyOfBuffer())) < 0);
+    assertTrue(new PropertyValueComparator(false).compareSerialized(
+      new DataInputDeserializer(first.getCopyOfBuffer()),
+      new DataInputDeserializer(second.getCopyOfBuffer())) > 0);
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    byte[] key = normalizedKey(PropertyValue.create(-2), 20);
+    byte[] expected = new byte[20];
+    expected[0] = Type.INTEGER.getTypeByte();
+    expected[1] = (byte) 0x7f;
+    expected[2] = (byte) 0xff;
+    expected[3] = (byte) 0xff;
+    expected[4] = (byte) 0xfe;
+    assertTrue(Arrays.equals(expected, key));
+
+    key = normalizedKey(PropertyValue.create("ab"), 3);
+    assertTrue(Arrays.equals(new byte[] {Type.STRING.getTypeByte(), 0, 'a'}, key));
+  }
+}
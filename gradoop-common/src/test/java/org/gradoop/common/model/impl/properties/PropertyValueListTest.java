@@ -16,6 +16,8 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.gradoop.common.GradoopTestUtils;
 import org.testng.annotations.Test;
 
@@ -137,4 +139,21 @@ public class PropertyValueListTest {
     Iterator<PropertyValue> iterator =  propertyValueList.iterator();
     iterator.next();
   }
+
+  @Test
+  public void testNormalizedKey() throws IOException {
+    PropertyValueList list = PropertyValueList.fromPropertyValues(
+      Lists.newArrayList(PropertyValue.create(1L), PropertyValue.create(3L))
+    );
+    PropertyValueList prefix = PropertyValueList.fromPropertyValues(
+      Lists.newArrayList(PropertyValue.create(1L))
+    );
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[40]);
+    list.copyNormalizedKey(segment, 0, 20);
+    prefix.copyNormalizedKey(segment, 20, 20);
+
+    assertTrue(list.getMaxNormalizedKeyLen() > 20);
+    assertTrue(segment.compare(segment, 20, 0, 20) < 0);
+    assertEquals(0, segment.get(39));
+  }
 }
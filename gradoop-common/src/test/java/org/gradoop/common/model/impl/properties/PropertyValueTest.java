@@ -28,6 +28,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.gradoop.common.GradoopTestUtils.*;
 import static org.gradoop.common.model.impl.properties.PropertyValue.create;
@@ -862,6 +866,125 @@ public class PropertyValueTest {
     }
   }
 
+  /**
+   * Tests type checks and access of a value which is read, but not yet deserialized.
+   */
+  @Test(dataProvider = "supportedTypeProvider", dataProviderClass = PropertyValueTestProvider.class)
+  public void testLazyValue(Object supportedType) throws IOException {
+    PropertyValue expected = create(supportedType);
+    PropertyValue value = writeAndReadFields(PropertyValue.class, expected);
+
+    assertEquals(expected.getType(), value.getType());
+    assertEquals(expected.isNull(), value.isNull());
+    assertEquals(expected.isString(), value.isString());
+    assertEquals(expected.isList(), value.isList());
+    assertEquals(expected.getByteSize(), value.getByteSize());
+    assertTrue(Arrays.equals(expected.getRawBytes(), value.getRawBytes()));
+    assertEquals(expected, writeAndReadFields(PropertyValue.class, value));
+    assertEquals(expected, value);
+    assertEquals(expected.hashCode(), value.hashCode());
+    assertEquals(expected.getObject(), value.getObject());
+  }
+
+  /**
+   * Tests that modifying the returned raw bytes or a returned collection does not change a value
+   * which is not yet deserialized.
+   */
+  @Test
+  public void testLazyValueIsNotExposed() {
+    PropertyValue expected = create("value");
+    PropertyValue value = raw(expected);
+    value.getRawBytes()[1] = 0;
+    assertEquals(expected, value);
+    assertEquals("value", value.getString());
+
+    List<PropertyValue> list = Arrays.asList(create(1), create(2));
+    value = raw(create(new ArrayList<>(list)));
+    value.getList().add(create(3));
+    assertEquals(list, value.getList());
+    assertEquals(create(list), value);
+  }
+
+  /**
+   * Tests that values which are not yet deserialized can be read by several threads at once.
+   *
+   * @throws Exception if a reading thread fails
+   */
+  @Test
+  public void testConcurrentReadOfLazyValues() throws Exception {
+    List<PropertyValue> values = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      values.add(raw(create("value" + i)));
+    }
+    int threadCount = 4;
+    CyclicBarrier start = new CyclicBarrier(threadCount);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < threadCount; t++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < values.size(); i++) {
+            PropertyValue value = values.get(i);
+            if (value.isNull() || !("value" + i).equals(value.getObject()) ||
+              !value.equals(create("value" + i))) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests {@link PropertyValue#equals(Object)} and {@link PropertyValue#hashCode()} for values
+   * which are not yet deserialized.
+   */
+  @Test(dataProvider = "testEqualsAndHashCodeProvider",
+    dataProviderClass = PropertyValueTestProvider.class)
+  public void testEqualsAndHashCodeOfRawValues(PropertyValue value1, PropertyValue value2,
+    PropertyValue value3) {
+    validateEqualsAndHashCode(raw(value1), raw(value2), raw(value3));
+    validateEqualsAndHashCode(raw(value1), value2, raw(value3));
+    validateEqualsAndHashCode(value1, raw(value2), value3);
+  }
+
+  /**
+   * Tests {@link PropertyValue#compareTo(PropertyValue)} for values which are not yet
+   * deserialized.
+   */
+  @Test
+  public void testCompareToOfRawValues() {
+    validateCompareTo(raw(create(null)), raw(create(null)), raw(create(12)));
+    validateCompareTo(raw(create(false)), raw(create(false)), raw(create(true)));
+    validateCompareTo(raw(create((short) -10)), raw(create((short) -10)), raw(create((short) 12)));
+    validateCompareTo(raw(create(-10)), raw(create(-10)), raw(create(12)));
+    validateCompareTo(raw(create(-10L)), raw(create(-10L)), raw(create(12L)));
+    validateCompareTo(raw(create(-10F)), raw(create(-10F)), raw(create(12F)));
+    validateCompareTo(raw(create(-10D)), raw(create(-10D)), raw(create(12D)));
+    validateCompareTo(raw(create(-10)), raw(create(-10L)), raw(create(12D)));
+    validateCompareTo(raw(create((short) 10)), create(10F), raw(create(new BigDecimal(12))));
+    validateCompareTo(raw(create("10")), raw(create("10")), raw(create("12")));
+    validateCompareTo(raw(create(DATE_VAL_b)), create(DATE_VAL_b),
+      raw(create(DATE_VAL_b.plusDays(1))));
+  }
+
+  /**
+   * Creates a property value from the raw bytes of the given value.
+   *
+   * @param value property value
+   * @return property value which is not deserialized yet
+   */
+  private PropertyValue raw(PropertyValue value) {
+    return PropertyValue.fromRawBytes(value.getRawBytes());
+  }
+
   /**
    * Assumes that p1 == p2 < p3
    */
@@ -31,8 +31,18 @@ public abstract class BaseGellyAlgorithm<K, VV, EV, O> implements UnaryGraphToVa
 
   @Override
   public O execute(LogicalGraph graph) {
+    return executeInGellyUnchecked(transformToGelly(graph));
+  }
+
+  /**
+   * Calls {@link #executeInGelly(Graph)} and rethrows its exceptions unchecked.
+   *
+   * @param graph The Gelly graph.
+   * @return output format.
+   */
+  protected O executeInGellyUnchecked(Graph<K, VV, EV> graph) {
     try {
-      return executeInGelly(transformToGelly(graph));
+      return executeInGelly(graph);
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
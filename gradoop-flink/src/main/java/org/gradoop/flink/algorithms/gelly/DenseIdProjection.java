@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.graph.Graph;
+import org.apache.flink.graph.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdge;
+import org.gradoop.flink.algorithms.gelly.functions.IndexEdgeSource;
+import org.gradoop.flink.algorithms.gelly.functions.IndexEdgeTarget;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedEdgeToGellyEdge;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToGellyVertex;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToId;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+
+import java.util.Objects;
+
+/**
+ * Projection of a {@link LogicalGraph} to dense {@code long} vertex ids in {@code [0, |V|)}.
+ * <p>
+ * Gelly algorithms executed on the projection shuffle 8-byte keys instead of {@link GradoopId}s
+ * and their results are joined back to the vertices once at the end. The index is assigned only
+ * once per projection, so a projection can be shared by several algorithms on the same graph.
+ * To persist the projection, write its {@link #getVertexIndex() vertex index} to a data sink and
+ * restore it using {@link #of(LogicalGraph, DataSet)}.
+ */
+public class DenseIdProjection {
+
+  /**
+   * The projected graph.
+   */
+  private final LogicalGraph graph;
+
+  /**
+   * Vertex index and vertex.
+   */
+  private final DataSet<Tuple2<Long, EPGMVertex>> vertices;
+
+  /**
+   * Source vertex index, target vertex index and edge.
+   */
+  private final DataSet<Tuple3<Long, Long, EPGMEdge>> edges;
+
+  /**
+   * Creates a new projection.
+   *
+   * @param graph    projected graph
+   * @param vertices indexed vertices
+   * @param edges    indexed edges
+   */
+  private DenseIdProjection(LogicalGraph graph, DataSet<Tuple2<Long, EPGMVertex>> vertices,
+    DataSet<Tuple3<Long, Long, EPGMEdge>> edges) {
+    this.graph = graph;
+    this.vertices = vertices;
+    this.edges = edges;
+  }
+
+  /**
+   * Creates a projection of the graph by assigning consecutive indices to its vertices.
+   *
+   * @param graph graph to project
+   * @return projection of the graph
+   */
+  public static DenseIdProjection of(LogicalGraph graph) {
+    Objects.requireNonNull(graph);
+    DataSet<Tuple2<Long, EPGMVertex>> vertices = DataSetUtils.zipWithIndex(graph.getVertices());
+    return new DenseIdProjection(graph, vertices,
+      indexEdges(graph, vertices.map(new IndexedVertexToId())));
+  }
+
+  /**
+   * Creates a projection of the graph from an existing vertex index, e.g. one that was persisted
+   * from an earlier projection of the same graph. The index has to contain each vertex exactly
+   * once.
+   *
+   * @param graph       graph to project
+   * @param vertexIndex vertex index and vertex id
+   * @return projection of the graph
+   */
+  public static DenseIdProjection of(LogicalGraph graph,
+    DataSet<Tuple2<Long, GradoopId>> vertexIndex) {
+    Objects.requireNonNull(graph);
+    Objects.requireNonNull(vertexIndex);
+    DataSet<Tuple2<Long, EPGMVertex>> vertices = vertexIndex
+      .join(graph.getVertices())
+      .where(1).equalTo(new Id<>())
+      .projectFirst(0).projectSecond();
+    return new DenseIdProjection(graph, vertices, indexEdges(graph, vertexIndex));
+  }
+
+  /**
+   * Replaces the source and target ids of the graph's edges by their vertex indices.
+   *
+   * @param graph       projected graph
+   * @param vertexIndex vertex index and vertex id
+   * @return indexed edges
+   */
+  private static DataSet<Tuple3<Long, Long, EPGMEdge>> indexEdges(LogicalGraph graph,
+    DataSet<Tuple2<Long, GradoopId>> vertexIndex) {
+    return graph.getEdges()
+      .join(vertexIndex)
+      .where(new SourceId<>()).equalTo(1)
+      .with(new IndexEdgeSource())
+      .join(vertexIndex)
+      .where(new TargetIdOfIndexedEdge()).equalTo(1)
+      .with(new IndexEdgeTarget());
+  }
+
+  /**
+   * Returns the projected graph.
+   *
+   * @return projected graph
+   */
+  public LogicalGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the vertices with their index {@code (index, vertex)}.
+   *
+   * @return indexed vertices
+   */
+  public DataSet<Tuple2<Long, EPGMVertex>> getVertices() {
+    return vertices;
+  }
+
+  /**
+   * Returns the edges with the indices of their source and target vertex
+   * {@code (sourceIndex, targetIndex, edge)}.
+   *
+   * @return indexed edges
+   */
+  public DataSet<Tuple3<Long, Long, EPGMEdge>> getEdges() {
+    return edges;
+  }
+
+  /**
+   * Returns the vertex index {@code (index, vertexId)}.
+   *
+   * @return vertex index
+   */
+  public DataSet<Tuple2<Long, GradoopId>> getVertexIndex() {
+    return vertices.map(new IndexedVertexToId());
+  }
+
+  /**
+   * Creates a Gelly graph on the vertex indices of this projection.
+   *
+   * @param toGellyVertex function computing the vertex values
+   * @param toGellyEdge   function computing the edge values
+   * @param <VV> vertex value type
+   * @param <EV> edge value type
+   * @return Gelly graph
+   */
+  public <VV, EV> Graph<Long, VV, EV> toGellyGraph(VertexToGellyVertex<VV> toGellyVertex,
+    EdgeToGellyEdge<EV> toGellyEdge) {
+    return Graph.fromDataSet(toGellyVertices(toGellyVertex), toGellyEdges(toGellyEdge),
+      graph.getConfig().getExecutionEnvironment());
+  }
+
+  /**
+   * Creates Gelly vertices identified by their vertex index.
+   *
+   * @param toGellyVertex function computing the vertex values
+   * @param <VV> vertex value type
+   * @return Gelly vertices
+   */
+  public <VV> DataSet<Vertex<Long, VV>> toGellyVertices(VertexToGellyVertex<VV> toGellyVertex) {
+    TypeInformation<Vertex<GradoopId, VV>> vertexType = TypeExtractor
+      .getMapReturnTypes(toGellyVertex, TypeExtractor.getForClass(EPGMVertex.class));
+    return vertices
+      .map(new IndexedVertexToGellyVertex<>(toGellyVertex))
+      .returns(tupleType(Vertex.class, BasicTypeInfo.LONG_TYPE_INFO,
+        ((TupleTypeInfo<?>) vertexType).getTypeAt(1)));
+  }
+
+  /**
+   * Creates Gelly edges between the indices of their source and target vertex.
+   *
+   * @param toGellyEdge function computing the edge values
+   * @param <EV> edge value type
+   * @return Gelly edges
+   */
+  public <EV> DataSet<Edge<Long, EV>> toGellyEdges(EdgeToGellyEdge<EV> toGellyEdge) {
+    TypeInformation<Edge<GradoopId, EV>> edgeType = TypeExtractor
+      .getMapReturnTypes(toGellyEdge, TypeExtractor.getForClass(EPGMEdge.class));
+    return edges
+      .map(new IndexedEdgeToGellyEdge<>(toGellyEdge))
+      .returns(tupleType(Edge.class, BasicTypeInfo.LONG_TYPE_INFO,
+        BasicTypeInfo.LONG_TYPE_INFO, ((TupleTypeInfo<?>) edgeType).getTypeAt(2)));
+  }
+
+  /**
+   * Joins the results of an algorithm executed on this projection with the vertices they belong
+   * to.
+   *
+   * @param results  algorithm results
+   * @param index    selects the vertex index of a result
+   * @param function joins a result with its vertex
+   * @param <T> result type
+   * @return joined vertices
+   */
+  public <T> DataSet<EPGMVertex> joinWithVertices(DataSet<T> results, KeySelector<T, Long> index,
+    JoinFunction<T, EPGMVertex, EPGMVertex> function) {
+    return results.join(vertices)
+      .where(index).equalTo(0)
+      .with(new IndexedVertexJoin<>(function));
+  }
+
+  /**
+   * Joins the results of an algorithm executed on this projection with the vertices they belong
+   * to.
+   *
+   * @param results  algorithm results (tuples)
+   * @param index    position of the vertex index in a result tuple
+   * @param function joins a result with its vertex
+   * @param <T> result type
+   * @return joined vertices
+   */
+  public <T> DataSet<EPGMVertex> joinWithVertices(DataSet<T> results, int index,
+    JoinFunction<T, EPGMVertex, EPGMVertex> function) {
+    return results.join(vertices)
+      .where(index).equalTo(0)
+      .with(new IndexedVertexJoin<>(function));
+  }
+
+  /**
+   * Creates the type information of a tuple type with the given field types.
+   *
+   * @param tupleClass tuple class
+   * @param types      field types
+   * @param <T> tuple type
+   * @return type information of the tuple
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> TypeInformation<T> tupleType(Class<?> tupleClass,
+    TypeInformation<?>... types) {
+    return (TypeInformation<T>) new TupleTypeInfo(tupleClass, types);
+  }
+
+  /**
+   * Selects the target id of an indexed edge.
+   */
+  private static class TargetIdOfIndexedEdge
+    implements KeySelector<Tuple3<Long, Long, EPGMEdge>, GradoopId> {
+
+    @Override
+    public GradoopId getKey(Tuple3<Long, Long, EPGMEdge> indexedEdge) {
+      return indexedEdge.f2.getTargetId();
+    }
+  }
+}
@@ -15,11 +15,7 @@
  */
 package org.gradoop.flink.algorithms.gelly;
 
-import org.apache.flink.api.java.DataSet;
-import org.apache.flink.graph.Edge;
 import org.apache.flink.graph.Graph;
-import org.apache.flink.graph.Vertex;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdge;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -27,12 +23,17 @@ import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
 
 /**
  * Base class for Algorithms executed in Flink Gelly that returns a {@link LogicalGraph}.
+ * <p>
+ * The algorithms are executed on a {@link DenseIdProjection} of the graph, i.e. Gelly vertices
+ * are identified by dense {@code long} indices instead of
+ * {@link org.gradoop.common.model.impl.id.GradoopId}s.
+ * A projection may be shared by several algorithms using {@link #execute(DenseIdProjection)}.
  *
  * @param <VV> Value type for gelly vertices.
  * @param <EV> Value type for gelly edges.
  */
 public abstract class GradoopGellyAlgorithm<VV, EV>
-  extends BaseGellyAlgorithm<GradoopId, VV, EV, LogicalGraph>
+  extends BaseGellyAlgorithm<Long, VV, EV, LogicalGraph>
   implements UnaryGraphToGraphOperator {
 
   /**
@@ -40,6 +41,11 @@ public abstract class GradoopGellyAlgorithm<VV, EV>
    */
   protected LogicalGraph currentGraph;
 
+  /**
+   * The projection of {@link #currentGraph} the algorithm is executed on.
+   */
+  protected DenseIdProjection currentProjection;
+
   /**
    * Function mapping edge to gelly edge.
    */
@@ -64,12 +70,19 @@ public abstract class GradoopGellyAlgorithm<VV, EV>
 
   @Override
   public LogicalGraph execute(LogicalGraph graph) {
-    this.currentGraph = graph;
-    try {
-      return executeInGelly(transformToGelly(graph));
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return execute(DenseIdProjection.of(graph));
+  }
+
+  /**
+   * Executes the algorithm on an existing projection of a graph.
+   *
+   * @param projection projection of the input graph
+   * @return The Gradoop graph.
+   */
+  public LogicalGraph execute(DenseIdProjection projection) {
+    this.currentProjection = projection;
+    this.currentGraph = projection.getGraph();
+    return executeInGellyUnchecked(transformToGelly(projection));
   }
 
   /**
@@ -78,11 +91,18 @@ public abstract class GradoopGellyAlgorithm<VV, EV>
    * @param graph Gradoop Graph.
    * @return Gelly Graph.
    */
-  public Graph<GradoopId, VV, EV> transformToGelly(LogicalGraph graph) {
-    DataSet<Vertex<GradoopId, VV>> gellyVertices = graph.getVertices().map(toGellyVertex);
-    DataSet<Edge<GradoopId, EV>> gellyEdges = graph.getEdges().map(toGellyEdge);
-    return Graph.fromDataSet(gellyVertices, gellyEdges,
-      graph.getConfig().getExecutionEnvironment());
+  public Graph<Long, VV, EV> transformToGelly(LogicalGraph graph) {
+    return transformToGelly(DenseIdProjection.of(graph));
+  }
+
+  /**
+   * Default transformation from a projection of a Gradoop Graph to a Gelly Graph.
+   *
+   * @param projection projection of the Gradoop Graph.
+   * @return Gelly Graph.
+   */
+  public Graph<Long, VV, EV> transformToGelly(DenseIdProjection projection) {
+    return projection.toGellyGraph(toGellyVertex, toGellyEdge);
   }
 
   /**
@@ -93,5 +113,5 @@ public abstract class GradoopGellyAlgorithm<VV, EV>
    * @return The Gradoop graph.
    * @throws Exception on failure
    */
-  public abstract LogicalGraph executeInGelly(Graph<GradoopId, VV, EV> graph) throws Exception;
+  public abstract LogicalGraph executeInGelly(Graph<Long, VV, EV> graph) throws Exception;
 }
@@ -16,8 +16,9 @@
 package org.gradoop.flink.algorithms.gelly.clusteringcoefficient;
 
 import org.apache.flink.graph.Graph;
+import org.apache.flink.graph.asm.translate.translators.LongToLongValue;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
@@ -57,19 +58,20 @@ public abstract class ClusteringCoefficientBase extends
   }
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
+  public LogicalGraph executeInGelly(Graph<Long, NullValue, NullValue> graph)
     throws Exception {
-    return executeInternal(graph);
+    return executeInternal(graph.translateGraphIds(new LongToLongValue()));
   }
 
   /**
-   * Executes the computation of the clustering coefficient.
+   * Executes the computation of the clustering coefficient. The vertex ids are translated to
+   * {@link LongValue}, as required by the Gelly implementations.
    *
    * @param gellyGraph Gelly graph with initialized vertices
    * @return {@link LogicalGraph} with local values written to the vertices or global value
    * written to the graph head
    * @throws Exception Thrown if the gelly algorithm fails
    */
-  protected abstract LogicalGraph executeInternal(Graph<GradoopId, NullValue, NullValue> gellyGraph)
+  protected abstract LogicalGraph executeInternal(Graph<LongValue, NullValue, NullValue> gellyGraph)
     throws Exception;
 }
@@ -18,8 +18,8 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.graph.library.clustering.directed.GlobalClusteringCoefficient;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.algorithms.gelly.functions.WritePropertyToGraphHeadMap;
@@ -47,11 +47,11 @@ public class GellyGlobalClusteringCoefficientDirected extends ClusteringCoeffici
    * Calls Flink Gelly algorithms to compute the global clustering coefficient for a directed graph.
    */
   @Override
-  protected LogicalGraph executeInternal(Graph<GradoopId, NullValue, NullValue> gellyGraph)
+  protected LogicalGraph executeInternal(Graph<LongValue, NullValue, NullValue> gellyGraph)
     throws Exception {
 
     GlobalClusteringCoefficient global = new org.apache.flink.graph.library.clustering.directed
-      .GlobalClusteringCoefficient<GradoopId, NullValue, NullValue>().run(gellyGraph);
+      .GlobalClusteringCoefficient<LongValue, NullValue, NullValue>().run(gellyGraph);
 
     currentGraph.getConfig().getExecutionEnvironment().execute();
 
@@ -17,13 +17,12 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions.LocalCCResultTupleToVertexJoin;
 import org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions.LocalUndirectedCCResultToTupleMap;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * Gradoop EPGM model wrapper for Flink Gellys implementation of the local clustering coefficient
@@ -48,15 +47,14 @@ public class GellyLocalClusteringCoefficientUndirected extends ClusteringCoeffic
    * graph.
    */
   @Override
-  protected LogicalGraph executeInternal(Graph<GradoopId, NullValue, NullValue> gellyGraph)
+  protected LogicalGraph executeInternal(Graph<LongValue, NullValue, NullValue> gellyGraph)
     throws Exception {
 
-    DataSet<EPGMVertex> resultVertices = new org.apache.flink.graph.library.clustering.undirected
-      .LocalClusteringCoefficient<GradoopId, NullValue, NullValue>().run(gellyGraph)
-      .map(new LocalUndirectedCCResultToTupleMap())
-      .join(currentGraph.getVertices())
-      .where(0).equalTo(new Id<>())
-      .with(new LocalCCResultTupleToVertexJoin());
+    DataSet<EPGMVertex> resultVertices = currentProjection.joinWithVertices(
+      new org.apache.flink.graph.library.clustering.undirected
+        .LocalClusteringCoefficient<LongValue, NullValue, NullValue>().run(gellyGraph)
+        .map(new LocalUndirectedCCResultToTupleMap()),
+      0, new LocalCCResultTupleToVertexJoin());
 
     return currentGraph.getFactory().fromDataSets(
       currentGraph.getGraphHead(), resultVertices, currentGraph.getEdges());
@@ -17,19 +17,18 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.algorithms.gelly.clusteringcoefficient.ClusteringCoefficientBase;
 
 /**
- * Writes the local clustering coefficient from {@code Tuple2<GradoopId, Double>} to the
+ * Writes the local clustering coefficient from {@code Tuple2<Long, Double>} to the
  * corresponding epgm vertex as property.
  */
 public class LocalCCResultTupleToVertexJoin implements
-  JoinFunction<Tuple2<GradoopId, Double>, EPGMVertex, EPGMVertex> {
+  JoinFunction<Tuple2<Long, Double>, EPGMVertex, EPGMVertex> {
 
   @Override
-  public EPGMVertex join(Tuple2<GradoopId, Double> resultTuple, EPGMVertex vertex) throws Exception {
+  public EPGMVertex join(Tuple2<Long, Double> resultTuple, EPGMVertex vertex) throws Exception {
     vertex.setProperty(ClusteringCoefficientBase.PROPERTY_KEY_LOCAL, resultTuple.f1);
     return vertex;
   }
@@ -18,24 +18,24 @@ package org.gradoop.flink.algorithms.gelly.clusteringcoefficient.functions;
 import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.library.clustering.directed.LocalClusteringCoefficient;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.apache.flink.types.LongValue;
 
 /**
  * Maps the {@link LocalClusteringCoefficient.Result} for a directed graph to a
- * {@code Tuple2<GradoopId, Double>} for further processing.
+ * {@code Tuple2<Long, Double>} for further processing.
  * Checks for and catches the return of {@code Double.NaN} from
  * {@link LocalClusteringCoefficient.Result#getLocalClusteringCoefficientScore()}
  */
 public class LocalDirectedCCResultToTupleMap implements
-  MapFunction<LocalClusteringCoefficient.Result<GradoopId>, Tuple2<GradoopId, Double>> {
+  MapFunction<LocalClusteringCoefficient.Result<LongValue>, Tuple2<Long, Double>> {
 
   @Override
-  public Tuple2<GradoopId, Double> map(
-    LocalClusteringCoefficient.Result<GradoopId> result) throws Exception {
+  public Tuple2<Long, Double> map(
+    LocalClusteringCoefficient.Result<LongValue> result) throws Exception {
     double value = result.getLocalClusteringCoefficientScore();
     if (Double.isNaN(value)) {
       value = 0.0;
     }
-    return Tuple2.of(result.getVertexId0(), value);
+    return Tuple2.of(result.getVertexId0().getValue(), value);
   }
 }
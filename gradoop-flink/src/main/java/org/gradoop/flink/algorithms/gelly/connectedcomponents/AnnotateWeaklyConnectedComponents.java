@@ -85,13 +85,12 @@ public class AnnotateWeaklyConnectedComponents extends GradoopGellyAlgorithm<Gra
   }
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, GradoopId, NullValue> graph)
+  public LogicalGraph executeInGelly(Graph<Long, GradoopId, NullValue> graph)
     throws Exception {
-    DataSet<EPGMVertex> annotatedVertices = new org.apache.flink.graph.library.ConnectedComponents<
-      GradoopId, GradoopId, NullValue>(maxIterations).run(graph)
-      .join(currentGraph.getVertices())
-      .where(0).equalTo(new Id<>())
-      .with(new GellyVertexValueToVertexPropertyJoin(propertyKey));
+    DataSet<EPGMVertex> annotatedVertices = currentProjection.joinWithVertices(
+      new org.apache.flink.graph.library.ConnectedComponents<Long, GradoopId, NullValue>(
+        maxIterations).run(graph),
+      0, new GellyVertexValueToVertexPropertyJoin(propertyKey));
 
     DataSet<EPGMEdge> edges = currentGraph.getEdges();
 
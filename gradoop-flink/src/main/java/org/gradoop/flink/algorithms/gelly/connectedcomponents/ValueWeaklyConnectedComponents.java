@@ -17,22 +17,17 @@ package org.gradoop.flink.algorithms.gelly.connectedcomponents;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.api.java.utils.DataSetUtils;
 import org.apache.flink.graph.Edge;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.graph.Vertex;
 import org.apache.flink.graph.library.ConnectedComponents;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.algorithms.gelly.BaseGellyAlgorithm;
-import org.gradoop.flink.algorithms.gelly.connectedcomponents.functions.CreateLongSourceIds;
-import org.gradoop.flink.algorithms.gelly.connectedcomponents.functions.CreateLongTargetIds;
-import org.gradoop.flink.algorithms.gelly.functions.LongTupleToGellyEdgeWithLongValue;
+import org.gradoop.flink.algorithms.gelly.DenseIdProjection;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.LongTupleToGellyVertexWithLongValue;
 import org.gradoop.flink.algorithms.gelly.connectedcomponents.functions.MapVertexIdComponentId;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
-import org.gradoop.flink.model.impl.functions.epgm.SourceId;
 
 /**
  * A gradoop operator wrapping Flinks ScatterGatherIteration-Algorithm for ConnectedComponents
@@ -66,21 +61,13 @@ public class ValueWeaklyConnectedComponents
   @Override
   public Graph<Long, Long, NullValue> transformToGelly(LogicalGraph graph) {
 
-    DataSet<Tuple2<Long, GradoopId>> uniqueVertexID =
-      DataSetUtils.zipWithUniqueId(graph.getVertices().map(new Id<>()));
+    DenseIdProjection projection = DenseIdProjection.of(graph);
 
-    DataSet<Vertex<Long, Long>> vertices = uniqueVertexID
-        .map(new LongTupleToGellyVertexWithLongValue());
+    DataSet<Vertex<Long, Long>> vertices = projection.getVertexIndex()
+      .map(new LongTupleToGellyVertexWithLongValue());
 
     DataSet<Edge<Long, NullValue>> edges =
-      uniqueVertexID
-      .join(graph.getEdges())
-      .where(1).equalTo(new SourceId<>())
-      .with(new CreateLongSourceIds())
-      .join(uniqueVertexID)
-      .where(3).equalTo(1)
-      .with(new CreateLongTargetIds())
-      .map(new LongTupleToGellyEdgeWithLongValue());
+      projection.toGellyEdges(new EdgeToGellyEdgeWithNullValue());
 
     return Graph.fromDataSet(vertices, edges, graph.getConfig().getExecutionEnvironment());
   }
@@ -24,7 +24,7 @@ import org.gradoop.common.model.impl.pojo.EPGMVertex;
  * the gradoop vertex.
  */
 public class GellyVertexValueToVertexPropertyJoin
-  implements JoinFunction<org.apache.flink.graph.Vertex<GradoopId, GradoopId>, EPGMVertex, EPGMVertex> {
+  implements JoinFunction<org.apache.flink.graph.Vertex<Long, GradoopId>, EPGMVertex, EPGMVertex> {
 
   /**
    * Property key to store the gelly vertex value.
@@ -41,7 +41,7 @@ public class GellyVertexValueToVertexPropertyJoin
   }
 
   @Override
-  public EPGMVertex join(org.apache.flink.graph.Vertex<GradoopId, GradoopId> gellyVertex,
+  public EPGMVertex join(org.apache.flink.graph.Vertex<Long, GradoopId> gellyVertex,
     EPGMVertex gradoopVertex) {
     gradoopVertex.setProperty(propertyKey, gellyVertex.getValue());
     return gradoopVertex;
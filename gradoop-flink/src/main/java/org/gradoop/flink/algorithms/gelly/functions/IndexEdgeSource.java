@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+
+/**
+ * Creates an indexed edge {@code (sourceIndex, targetIndex, edge)} from an edge and the index of
+ * its source vertex. The target index is set by {@link IndexEdgeTarget}.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f0->f0")
+public class IndexEdgeSource
+  implements JoinFunction<EPGMEdge, Tuple2<Long, GradoopId>, Tuple3<Long, Long, EPGMEdge>> {
+
+  /**
+   * Reuse object.
+   */
+  private final Tuple3<Long, Long, EPGMEdge> reuse;
+
+  /**
+   * Constructor.
+   */
+  public IndexEdgeSource() {
+    this.reuse = new Tuple3<>();
+    this.reuse.f1 = -1L;
+  }
+
+  @Override
+  public Tuple3<Long, Long, EPGMEdge> join(EPGMEdge edge, Tuple2<Long, GradoopId> sourceIndex) {
+    reuse.f0 = sourceIndex.f0;
+    reuse.f2 = edge;
+    return reuse;
+  }
+}
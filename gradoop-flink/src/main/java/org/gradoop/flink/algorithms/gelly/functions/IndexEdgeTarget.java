@@ -13,41 +13,27 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.gradoop.flink.algorithms.gelly.randomjump.functions;
+package org.gradoop.flink.algorithms.gelly.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
 
 /**
- * Replaces the target GradoopId with the unique long id this target vertex is mapped to.
+ * Sets the index of the target vertex of an indexed edge {@code (sourceIndex, targetIndex, edge)}.
  */
 @FunctionAnnotation.ForwardedFieldsFirst("f0;f2")
 @FunctionAnnotation.ForwardedFieldsSecond("f0->f1")
-public class ReplaceTargetWithLongIdJoin implements
-  JoinFunction<Tuple3<Long, GradoopId, GradoopId>, Tuple2<Long, GradoopId>,
-    Tuple3<Long, Long, GradoopId>> {
-
-  /**
-   * Reduce object instantiation.
-   */
-  private final Tuple3<Long, Long, GradoopId> reuseTuple;
-
-  /**
-   * Creates an instance of ReplaceTargetWithLongIdJoin.
-   */
-  public ReplaceTargetWithLongIdJoin() {
-    this.reuseTuple = new Tuple3<>();
-  }
+public class IndexEdgeTarget implements JoinFunction<Tuple3<Long, Long, EPGMEdge>,
+  Tuple2<Long, GradoopId>, Tuple3<Long, Long, EPGMEdge>> {
 
   @Override
-  public Tuple3<Long, Long, GradoopId> join(Tuple3<Long, GradoopId, GradoopId> edgeTuple,
-    Tuple2<Long, GradoopId> uniqueLongToVertexId) throws Exception {
-    reuseTuple.f0 = edgeTuple.f0;
-    reuseTuple.f1 = uniqueLongToVertexId.f0;
-    reuseTuple.f2 = edgeTuple.f2;
-    return reuseTuple;
+  public Tuple3<Long, Long, EPGMEdge> join(Tuple3<Long, Long, EPGMEdge> indexedEdge,
+    Tuple2<Long, GradoopId> targetIndex) {
+    indexedEdge.f1 = targetIndex.f0;
+    return indexedEdge;
   }
 }
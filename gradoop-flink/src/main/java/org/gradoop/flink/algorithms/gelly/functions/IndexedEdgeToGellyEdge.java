@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.graph.Edge;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+
+/**
+ * Maps an indexed edge {@code (sourceIndex, targetIndex, edge)} to a Gelly edge between the
+ * vertex indices. The edge value is computed by a {@link EdgeToGellyEdge} function.
+ *
+ * @param <EV> value type of the Gelly edge
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class IndexedEdgeToGellyEdge<EV>
+  implements ElementToGellyEdge<Tuple3<Long, Long, EPGMEdge>, Long, EV> {
+
+  /**
+   * Function computing the edge value.
+   */
+  private final EdgeToGellyEdge<EV> toGellyEdge;
+
+  /**
+   * Reuse object.
+   */
+  private final Edge<Long, EV> reuseEdge;
+
+  /**
+   * Constructor.
+   *
+   * @param toGellyEdge function computing the edge value
+   */
+  public IndexedEdgeToGellyEdge(EdgeToGellyEdge<EV> toGellyEdge) {
+    this.toGellyEdge = toGellyEdge;
+    this.reuseEdge = new Edge<>();
+  }
+
+  @Override
+  public Edge<Long, EV> map(Tuple3<Long, Long, EPGMEdge> indexedEdge) throws Exception {
+    Edge<GradoopId, EV> edge = toGellyEdge.map(indexedEdge.f2);
+    reuseEdge.setSource(indexedEdge.f0);
+    reuseEdge.setTarget(indexedEdge.f1);
+    reuseEdge.setValue(edge.getValue());
+    return reuseEdge;
+  }
+}
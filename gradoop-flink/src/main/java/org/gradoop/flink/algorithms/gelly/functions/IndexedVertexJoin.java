@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+
+/**
+ * Joins a result of a Gelly algorithm with the indexed vertex it belongs to, using a join function
+ * on the vertex itself.
+ *
+ * @param <T> result type
+ */
+public class IndexedVertexJoin<T> implements JoinFunction<T, Tuple2<Long, EPGMVertex>, EPGMVertex> {
+
+  /**
+   * Function joining the result and the vertex.
+   */
+  private final JoinFunction<T, EPGMVertex, EPGMVertex> function;
+
+  /**
+   * Constructor.
+   *
+   * @param function function joining the result and the vertex
+   */
+  public IndexedVertexJoin(JoinFunction<T, EPGMVertex, EPGMVertex> function) {
+    this.function = function;
+  }
+
+  @Override
+  public EPGMVertex join(T result, Tuple2<Long, EPGMVertex> indexedVertex) throws Exception {
+    return function.join(result, indexedVertex.f1);
+  }
+}
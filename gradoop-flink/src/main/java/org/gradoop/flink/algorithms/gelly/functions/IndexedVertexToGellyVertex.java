@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.graph.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+
+/**
+ * Maps an indexed vertex to a Gelly vertex using the vertex index as id. The vertex value is
+ * computed by a {@link VertexToGellyVertex} function.
+ *
+ * @param <VV> value type of the Gelly vertex
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class IndexedVertexToGellyVertex<VV>
+  implements ElementToGellyVertex<Tuple2<Long, EPGMVertex>, Long, VV> {
+
+  /**
+   * Function computing the vertex value.
+   */
+  private final VertexToGellyVertex<VV> toGellyVertex;
+
+  /**
+   * Reuse object.
+   */
+  private final Vertex<Long, VV> reuseVertex;
+
+  /**
+   * Constructor.
+   *
+   * @param toGellyVertex function computing the vertex value
+   */
+  public IndexedVertexToGellyVertex(VertexToGellyVertex<VV> toGellyVertex) {
+    this.toGellyVertex = toGellyVertex;
+    this.reuseVertex = new Vertex<>();
+  }
+
+  @Override
+  public Vertex<Long, VV> map(Tuple2<Long, EPGMVertex> indexedVertex) throws Exception {
+    Vertex<GradoopId, VV> vertex = toGellyVertex.map(indexedVertex.f1);
+    reuseVertex.setId(indexedVertex.f0);
+    reuseVertex.setValue(vertex.getValue());
+    return reuseVertex;
+  }
+}
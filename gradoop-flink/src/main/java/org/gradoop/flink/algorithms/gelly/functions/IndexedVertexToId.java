@@ -15,42 +15,35 @@
  */
 package org.gradoop.flink.algorithms.gelly.functions;
 
+import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
-import org.apache.flink.api.java.tuple.Tuple4;
-import org.apache.flink.graph.Edge;
-import org.apache.flink.types.NullValue;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 
 /**
- * Map function to create gelly edge from long tuple.
+ * Reduces an indexed vertex to its index and its {@link GradoopId}.
  */
-@FunctionAnnotation.ForwardedFields({"f2->f0", "f3->f1"})
-public class LongTupleToGellyEdgeWithLongValue
-  implements ElementToGellyEdge<Tuple4<Long, GradoopId, Long, Long>, Long, NullValue> {
+@FunctionAnnotation.ForwardedFields({"f0", "f1.id->f1"})
+public class IndexedVertexToId
+  implements MapFunction<Tuple2<Long, EPGMVertex>, Tuple2<Long, GradoopId>> {
 
   /**
    * Reuse object.
    */
-  private Edge<Long, NullValue> reuse;
+  private final Tuple2<Long, GradoopId> reuse;
 
   /**
-   * Creates an instance of this map function to create gelly edges.
+   * Constructor.
    */
-  public LongTupleToGellyEdgeWithLongValue() {
-    reuse = new Edge<>();
-    reuse.setValue(NullValue.getInstance());
+  public IndexedVertexToId() {
+    this.reuse = new Tuple2<>();
   }
 
-  /**
-   * Create gelly edge.
-   *
-   * @param tuple identifier of source and target vertex id's.
-   * @return gelly edge.
-   */
   @Override
-  public Edge<Long, NullValue> map(Tuple4<Long, GradoopId, Long, Long> tuple) {
-    reuse.setSource(tuple.f2);
-    reuse.setTarget(tuple.f3);
+  public Tuple2<Long, GradoopId> map(Tuple2<Long, EPGMVertex> indexedVertex) {
+    reuse.f0 = indexedVertex.f0;
+    reuse.f1 = indexedVertex.f1.getId();
     return reuse;
   }
 }
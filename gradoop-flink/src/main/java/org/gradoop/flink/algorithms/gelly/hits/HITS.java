@@ -18,7 +18,6 @@ package org.gradoop.flink.algorithms.gelly.hits;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
@@ -26,7 +25,6 @@ import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullV
 import org.gradoop.flink.algorithms.gelly.hits.functions.HITSToAttributes;
 import org.gradoop.flink.algorithms.gelly.hits.functions.HitsResultKeySelector;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.linkanalysis.HITS}
@@ -51,7 +49,7 @@ public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
   /**
    * Gelly HITS implementation
    */
-  private org.apache.flink.graph.library.linkanalysis.HITS<GradoopId, NullValue, NullValue> hits;
+  private org.apache.flink.graph.library.linkanalysis.HITS<Long, NullValue, NullValue> hits;
 
   /**
    * HITS with fixed number of iterations
@@ -102,13 +100,11 @@ public class HITS extends GradoopGellyAlgorithm<NullValue, NullValue> {
 
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
+  public LogicalGraph executeInGelly(Graph<Long, NullValue, NullValue> graph)
     throws Exception {
 
-    DataSet<EPGMVertex> newVertices = hits.runInternal(graph)
-      .join(currentGraph.getVertices())
-      .where(new HitsResultKeySelector()).equalTo(new Id<>())
-      .with(new HITSToAttributes(authorityPropertyKey, hubPropertyKey));
+    DataSet<EPGMVertex> newVertices = currentProjection.joinWithVertices(hits.runInternal(graph),
+      new HitsResultKeySelector(), new HITSToAttributes(authorityPropertyKey, hubPropertyKey));
 
     return currentGraph.getFactory()
       .fromDataSets(currentGraph.getGraphHead(), newVertices, currentGraph.getEdges());
@@ -17,24 +17,23 @@ package org.gradoop.flink.algorithms.gelly.hits.functions;
 
 import org.apache.flink.api.java.functions.KeySelector;
 import org.apache.flink.graph.library.linkanalysis.HITS;
-import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * Key selector for HITS.Result
  */
 public class HitsResultKeySelector
-  implements KeySelector<org.apache.flink.graph.library.linkanalysis.HITS.Result<GradoopId>,
-  GradoopId> {
+  implements KeySelector<org.apache.flink.graph.library.linkanalysis.HITS.Result<Long>,
+  Long> {
 
   /**
-   * Selects GradoopId as key
+   * Selects vertex index as key
    *
-   * @param gradoopIdResult HITS Algorithm result
-   * @return selects gradoop id
+   * @param result HITS Algorithm result
+   * @return selects vertex index
    * @throws Exception on failure
    */
   @Override
-  public GradoopId getKey(HITS.Result<GradoopId> gradoopIdResult) throws Exception {
-    return gradoopIdResult.getVertexId0();
+  public Long getKey(HITS.Result<Long> result) throws Exception {
+    return result.getVertexId0();
   }
 }
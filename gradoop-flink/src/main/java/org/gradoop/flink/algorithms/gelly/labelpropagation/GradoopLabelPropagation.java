@@ -18,7 +18,6 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.algorithms.gelly.labelpropagation.functions.LPMessageFunction;
 import org.gradoop.flink.algorithms.gelly.labelpropagation.functions.LPUpdateFunction;
@@ -39,8 +38,8 @@ public class GradoopLabelPropagation extends LabelPropagation {
   }
 
   @Override
-  protected DataSet<org.apache.flink.graph.Vertex<GradoopId, PropertyValue>>
-  executeInternal(Graph<GradoopId, PropertyValue, NullValue> gellyGraph) {
+  protected DataSet<org.apache.flink.graph.Vertex<Long, PropertyValue>>
+  executeInternal(Graph<Long, PropertyValue, NullValue> gellyGraph) {
     return gellyGraph.runScatterGatherIteration(
       new LPMessageFunction(), new LPUpdateFunction(), getMaxIterations())
       .getVertices();
@@ -18,7 +18,6 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
@@ -26,7 +25,6 @@ import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithPropertyValue;
 import org.gradoop.flink.algorithms.gelly.labelpropagation.functions.LPVertexJoin;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -69,11 +67,9 @@ public abstract class LabelPropagation extends GradoopGellyAlgorithm<PropertyVal
   }
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, PropertyValue, NullValue> graph) {
-    DataSet<EPGMVertex> labeledVertices = executeInternal(graph)
-      .join(currentGraph.getVertices())
-      .where(0).equalTo(new Id<>())
-      .with(new LPVertexJoin(propertyKey));
+  public LogicalGraph executeInGelly(Graph<Long, PropertyValue, NullValue> graph) {
+    DataSet<EPGMVertex> labeledVertices = currentProjection.joinWithVertices(
+      executeInternal(graph), 0, new LPVertexJoin(propertyKey));
 
     // return labeled graph
     return currentGraph.getFactory()
@@ -86,8 +82,8 @@ public abstract class LabelPropagation extends GradoopGellyAlgorithm<PropertyVal
    * @param gellyGraph gelly graph with initialized vertices
    * @return updated vertex set
    */
-  protected abstract DataSet<org.apache.flink.graph.Vertex<GradoopId, PropertyValue>>
-  executeInternal(Graph<GradoopId, PropertyValue, NullValue> gellyGraph);
+  protected abstract DataSet<org.apache.flink.graph.Vertex<Long, PropertyValue>>
+  executeInternal(Graph<Long, PropertyValue, NullValue> gellyGraph);
 
   /**
    * Returns the maximum number of iterations the algorithm is executed.
@@ -19,7 +19,6 @@ import org.apache.flink.graph.Vertex;
 import org.apache.flink.graph.spargel.GatherFunction;
 import org.apache.flink.graph.spargel.MessageIterator;
 import org.apache.flink.hadoop.shaded.com.google.common.collect.Lists;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import java.util.Collections;
@@ -30,7 +29,7 @@ import java.util.List;
  * all incoming values.
  */
 public class LPUpdateFunction
-  extends GatherFunction<GradoopId, PropertyValue, PropertyValue> {
+  extends GatherFunction<Long, PropertyValue, PropertyValue> {
   /**
    * Updates the vertex value if it has changed.
    *
@@ -38,7 +37,7 @@ public class LPUpdateFunction
    * @param msg     message
    */
   @Override
-  public void updateVertex(Vertex<GradoopId, PropertyValue> vertex,
+  public void updateVertex(Vertex<Long, PropertyValue> vertex,
     MessageIterator<PropertyValue> msg) {
     PropertyValue value = getNewValue(vertex,
       Lists.newArrayList(msg.iterator()));
@@ -63,7 +62,7 @@ public class LPUpdateFunction
    * @param allMessages all received messages
    * @return most frequent value below all messages
    */
-  private PropertyValue getNewValue(Vertex<GradoopId, PropertyValue> vertex,
+  private PropertyValue getNewValue(Vertex<Long, PropertyValue> vertex,
     List<PropertyValue> allMessages) {
 
     Collections.sort(allMessages);
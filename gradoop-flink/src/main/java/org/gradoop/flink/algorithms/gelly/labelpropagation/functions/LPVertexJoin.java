@@ -17,7 +17,6 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
@@ -27,7 +26,7 @@ import org.gradoop.common.model.impl.properties.PropertyValue;
 @FunctionAnnotation.ForwardedFieldsSecond("id;label;graphIds")
 @FunctionAnnotation.ReadFieldsFirst("f1")
 public class LPVertexJoin implements JoinFunction
-  <org.apache.flink.graph.Vertex<GradoopId, PropertyValue>, EPGMVertex, EPGMVertex> {
+  <org.apache.flink.graph.Vertex<Long, PropertyValue>, EPGMVertex, EPGMVertex> {
 
   /**
    * Property key to access the value which will be propagated
@@ -45,7 +44,7 @@ public class LPVertexJoin implements JoinFunction
 
   @Override
   public EPGMVertex join(
-    org.apache.flink.graph.Vertex<GradoopId, PropertyValue> gellyVertex,
+    org.apache.flink.graph.Vertex<Long, PropertyValue> gellyVertex,
     EPGMVertex epgmVertex) throws Exception {
     epgmVertex.setProperty(propertyKey, gellyVertex.getValue());
     return epgmVertex;
@@ -18,7 +18,6 @@ package org.gradoop.flink.algorithms.gelly.pagerank;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
@@ -26,7 +25,6 @@ import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullV
 import org.gradoop.flink.algorithms.gelly.pagerank.functions.PageRankToAttribute;
 import org.gradoop.flink.algorithms.gelly.pagerank.functions.PageRankResultKey;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.linkanalysis.PageRank}.
@@ -88,14 +86,12 @@ public class PageRank extends GradoopGellyAlgorithm<NullValue, NullValue> {
   }
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
+  public LogicalGraph executeInGelly(Graph<Long, NullValue, NullValue> graph)
     throws Exception {
-    DataSet<EPGMVertex> newVertices =
-      new org.apache.flink.graph.library.linkanalysis.PageRank<GradoopId, NullValue, NullValue>(
-        dampingFactor, iterations).setIncludeZeroDegreeVertices(includeZeroDegrees).run(graph)
-      .join(currentGraph.getVertices())
-      .where(new PageRankResultKey()).equalTo(new Id<>())
-      .with(new PageRankToAttribute(propertyKey));
+    DataSet<EPGMVertex> newVertices = currentProjection.joinWithVertices(
+      new org.apache.flink.graph.library.linkanalysis.PageRank<Long, NullValue, NullValue>(
+        dampingFactor, iterations).setIncludeZeroDegreeVertices(includeZeroDegrees).run(graph),
+      new PageRankResultKey(), new PageRankToAttribute(propertyKey));
     return currentGraph.getFactory().fromDataSets(
       currentGraph.getGraphHead(), newVertices, currentGraph.getEdges());
   }
@@ -17,15 +17,14 @@ package org.gradoop.flink.algorithms.gelly.pagerank.functions;
 
 import org.apache.flink.api.java.functions.KeySelector;
 import org.apache.flink.graph.library.linkanalysis.PageRank;
-import org.gradoop.common.model.impl.id.GradoopId;
 
 /**
  * Select the vertex id of an Page Rank result.
  */
-public class PageRankResultKey implements KeySelector<PageRank.Result<GradoopId>, GradoopId> {
+public class PageRankResultKey implements KeySelector<PageRank.Result<Long>, Long> {
 
   @Override
-  public GradoopId getKey(PageRank.Result<GradoopId> result) throws Exception {
+  public Long getKey(PageRank.Result<Long> result) throws Exception {
     return result.getVertexId0();
   }
 }
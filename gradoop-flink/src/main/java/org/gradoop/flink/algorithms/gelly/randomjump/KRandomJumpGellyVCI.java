@@ -18,6 +18,7 @@ package org.gradoop.flink.algorithms.gelly.randomjump;
 import org.apache.flink.api.common.aggregators.LongSumAggregator;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.api.java.utils.DataSetUtils;
 import org.apache.flink.graph.Edge;
 import org.apache.flink.graph.Graph;
@@ -27,22 +28,20 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.algorithms.gelly.BaseGellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.DenseIdProjection;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.EPGMEdgeWithGellyEdgeIdJoin;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.GellyVertexWithEPGMVertexJoin;
-import org.gradoop.flink.algorithms.gelly.randomjump.functions.GellyVertexWithLongIdToGradoopIdJoin;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.GetVisitedGellyEdgeLongIdsFlatMap;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.GetVisitedSourceTargetIdsFlatMap;
+import org.gradoop.flink.algorithms.gelly.randomjump.functions.IndexedEdgeToEdgeIdMap;
+import org.gradoop.flink.algorithms.gelly.randomjump.functions.IndexedEdgeToGellyEdgeWithLongValueMap;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.LongIdToGellyVertexWithVCIValueMap;
-import org.gradoop.flink.algorithms.gelly.randomjump.functions.LongIdTupleToGellyEdgeWithLongValueJoin;
-import org.gradoop.flink.algorithms.gelly.randomjump.functions.LongIdWithEdgeToTupleJoin;
-import org.gradoop.flink.algorithms.gelly.randomjump.functions.ReplaceTargetWithLongIdJoin;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.VCIComputeFunction;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.VCIVertexValue;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.VertexWithVisitedSourceTargetIdJoin;
 import org.gradoop.flink.algorithms.gelly.randomjump.functions.VisitedGellyEdgesWithLongIdToGradoopIdJoin;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
-import org.gradoop.flink.model.impl.functions.epgm.SourceId;
 import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
 import org.gradoop.flink.model.impl.operators.sampling.common.SamplingConstants;
 
@@ -72,6 +71,11 @@ public class KRandomJumpGellyVCI
    */
   protected LogicalGraph currentGraph;
 
+  /**
+   * The projection of {@link #currentGraph} the algorithm is executed on.
+   */
+  protected DenseIdProjection currentProjection;
+
   /**
    * Number of starting vertices.
    */
@@ -129,26 +133,43 @@ public class KRandomJumpGellyVCI
 
   @Override
   public Graph<Long, VCIVertexValue, Long> transformToGelly(LogicalGraph graph) {
-    this.currentGraph = graph;
+    return transformToGelly(DenseIdProjection.of(graph));
+  }
+
+  /**
+   * Transforms a projection of a graph to a Gelly graph.
+   *
+   * @param projection projection of the Gradoop graph
+   * @return Gelly graph
+   */
+  public Graph<Long, VCIVertexValue, Long> transformToGelly(DenseIdProjection projection) {
+    this.currentProjection = projection;
+    this.currentGraph = projection.getGraph();
 
-    indexToVertexIdMap = DataSetUtils.zipWithIndex(graph.getVertices().map(new Id<>()));
-    indexToEdgeIdMap = DataSetUtils.zipWithIndex(graph.getEdges().map(new Id<>()));
+    DataSet<Tuple2<Long, Tuple3<Long, Long, EPGMEdge>>> indexedEdges =
+      DataSetUtils.zipWithIndex(projection.getEdges());
+
+    indexToVertexIdMap = projection.getVertexIndex();
+    indexToEdgeIdMap = indexedEdges.map(new IndexedEdgeToEdgeIdMap());
 
     DataSet<Vertex<Long, VCIVertexValue>> vertices = indexToVertexIdMap
       .map(new LongIdToGellyVertexWithVCIValueMap());
 
-    DataSet<Edge<Long, Long>> edges = graph.getEdges()
-      .join(indexToVertexIdMap)
-      .where(new SourceId<>()).equalTo(1)
-      .with(new LongIdWithEdgeToTupleJoin())
-      .join(indexToVertexIdMap)
-      .where(1).equalTo(1)
-      .with(new ReplaceTargetWithLongIdJoin())
-      .join(indexToEdgeIdMap)
-      .where(2).equalTo(1)
-      .with(new LongIdTupleToGellyEdgeWithLongValueJoin());
+    DataSet<Edge<Long, Long>> edges = indexedEdges
+      .map(new IndexedEdgeToGellyEdgeWithLongValueMap());
+
+    return Graph.fromDataSet(vertices, edges,
+      currentGraph.getConfig().getExecutionEnvironment());
+  }
 
-    return Graph.fromDataSet(vertices, edges, graph.getConfig().getExecutionEnvironment());
+  /**
+   * Executes the algorithm on an existing projection of a graph.
+   *
+   * @param projection projection of the input graph
+   * @return the input graph with sampled vertices and edges annotated
+   */
+  public LogicalGraph execute(DenseIdProjection projection) {
+    return executeInGellyUnchecked(transformToGelly(projection));
   }
 
   @Override
@@ -207,13 +228,9 @@ public class KRandomJumpGellyVCI
       .distinct();
 
     // compute new visited vertices
-    DataSet<EPGMVertex> visitedVertices = resultGraph.getVertices()
-      .join(indexToVertexIdMap)
-      .where(0).equalTo(0)
-      .with(new GellyVertexWithLongIdToGradoopIdJoin())
-      .join(currentGraph.getVertices())
-      .where(0).equalTo(new Id<>())
-      .with(new GellyVertexWithEPGMVertexJoin(SamplingConstants.PROPERTY_KEY_SAMPLED));
+    DataSet<EPGMVertex> visitedVertices = currentProjection.joinWithVertices(
+      resultGraph.getVertices(), 0,
+      new GellyVertexWithEPGMVertexJoin(SamplingConstants.PROPERTY_KEY_SAMPLED));
 
     visitedVertices = visitedVertices.leftOuterJoin(visitedSourceTargetIds)
       .where(new Id<>()).equalTo("*")
@@ -17,7 +17,6 @@ package org.gradoop.flink.algorithms.gelly.randomjump.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 
 /**
@@ -27,7 +26,7 @@ import org.gradoop.common.model.impl.pojo.EPGMVertex;
 @FunctionAnnotation.ReadFieldsFirst("f1")
 @FunctionAnnotation.ForwardedFieldsSecond("id;label;graphIds")
 public class GellyVertexWithEPGMVertexJoin implements
-  JoinFunction<org.apache.flink.graph.Vertex<GradoopId, VCIVertexValue>, EPGMVertex, EPGMVertex> {
+  JoinFunction<org.apache.flink.graph.Vertex<Long, VCIVertexValue>, EPGMVertex, EPGMVertex> {
 
   /**
    * Key for the boolean property value to assign to the EPGM vertex.
@@ -45,7 +44,7 @@ public class GellyVertexWithEPGMVertexJoin implements
   }
 
   @Override
-  public EPGMVertex join(org.apache.flink.graph.Vertex<GradoopId, VCIVertexValue> gellyVertex,
+  public EPGMVertex join(org.apache.flink.graph.Vertex<Long, VCIVertexValue> gellyVertex,
     EPGMVertex epgmVertex) throws Exception {
     epgmVertex.setProperty(propertyKey, gellyVertex.getValue().f0);
     return epgmVertex;
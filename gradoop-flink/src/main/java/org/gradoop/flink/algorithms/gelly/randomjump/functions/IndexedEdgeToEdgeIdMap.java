@@ -15,7 +15,7 @@
  */
 package org.gradoop.flink.algorithms.gelly.randomjump.functions;
 
-import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
@@ -23,33 +23,29 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 
 /**
- * Takes an EPGM edge and creates a tuple, containing the edges source id as unique long id, its
- * target id as GradoopId and its own id as GradoopId.
+ * Maps an indexed edge {@code (edgeIndex, (sourceIndex, targetIndex, edge))} to its index and
+ * its {@link GradoopId}.
  */
-@FunctionAnnotation.ForwardedFieldsFirst("targetId->f1;id->f2")
-@FunctionAnnotation.ForwardedFieldsSecond("f0")
-public class LongIdWithEdgeToTupleJoin implements
-  JoinFunction<EPGMEdge, Tuple2<Long, GradoopId>, Tuple3<Long, GradoopId, GradoopId>> {
+@FunctionAnnotation.ForwardedFields({"f0", "f1.f2.id->f1"})
+public class IndexedEdgeToEdgeIdMap implements
+  MapFunction<Tuple2<Long, Tuple3<Long, Long, EPGMEdge>>, Tuple2<Long, GradoopId>> {
 
   /**
    * Reduce object instantiation.
    */
-  private final Tuple3<Long, GradoopId, GradoopId> reuseTuple;
+  private final Tuple2<Long, GradoopId> reuseTuple;
 
   /**
-   * Creates an instance of LongIdWithEdgeToTupleJoin.
+   * Creates an instance of IndexedEdgeToEdgeIdMap.
    */
-  public LongIdWithEdgeToTupleJoin() {
-    this.reuseTuple = new Tuple3<>();
+  public IndexedEdgeToEdgeIdMap() {
+    this.reuseTuple = new Tuple2<>();
   }
 
   @Override
-  public Tuple3<Long, GradoopId, GradoopId> join(
-    EPGMEdge epgmEdge,
-    Tuple2<Long, GradoopId> uniqueLongToVertexId) throws Exception {
-    reuseTuple.f0 = uniqueLongToVertexId.f0;
-    reuseTuple.f1 = epgmEdge.getTargetId();
-    reuseTuple.f2 = epgmEdge.getId();
+  public Tuple2<Long, GradoopId> map(Tuple2<Long, Tuple3<Long, Long, EPGMEdge>> indexedEdge) {
+    reuseTuple.f0 = indexedEdge.f0;
+    reuseTuple.f1 = indexedEdge.f1.f2.getId();
     return reuseTuple;
   }
 }
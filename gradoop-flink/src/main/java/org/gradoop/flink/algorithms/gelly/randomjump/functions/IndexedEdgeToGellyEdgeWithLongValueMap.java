@@ -15,20 +15,20 @@
  */
 package org.gradoop.flink.algorithms.gelly.randomjump.functions;
 
-import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.graph.Edge;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
 
 /**
- * Creates a Gelly edge with its long index as its value.
+ * Maps an indexed edge {@code (edgeIndex, (sourceIndex, targetIndex, edge))} to a gelly edge
+ * between the vertex indices with the edge index as value.
  */
-@FunctionAnnotation.ForwardedFieldsFirst("f0;f1")
-@FunctionAnnotation.ForwardedFieldsSecond("f0->f2")
-public class LongIdTupleToGellyEdgeWithLongValueJoin implements
-  JoinFunction<Tuple3<Long, Long, GradoopId>, Tuple2<Long, GradoopId>, Edge<Long, Long>> {
+@FunctionAnnotation.ForwardedFields({"f1.f0->f0", "f1.f1->f1", "f0->f2"})
+public class IndexedEdgeToGellyEdgeWithLongValueMap implements
+  MapFunction<Tuple2<Long, Tuple3<Long, Long, EPGMEdge>>, Edge<Long, Long>> {
 
   /**
    * Reduce object instantiation.
@@ -36,18 +36,17 @@ public class LongIdTupleToGellyEdgeWithLongValueJoin implements
   private final Edge<Long, Long> reuseEdge;
 
   /**
-   * Creates an instance of LongIdTupleToGellyEdgeWithLongValueJoin.
+   * Creates an instance of IndexedEdgeToGellyEdgeWithLongValueMap.
    */
-  public LongIdTupleToGellyEdgeWithLongValueJoin() {
+  public IndexedEdgeToGellyEdgeWithLongValueMap() {
     this.reuseEdge = new Edge<>();
   }
 
   @Override
-  public Edge<Long, Long> join(Tuple3<Long, Long, GradoopId> edgeTuple,
-    Tuple2<Long, GradoopId> indexToEdgeId) throws Exception {
-    reuseEdge.setSource(edgeTuple.f0);
-    reuseEdge.setTarget(edgeTuple.f1);
-    reuseEdge.setValue(indexToEdgeId.f0);
+  public Edge<Long, Long> map(Tuple2<Long, Tuple3<Long, Long, EPGMEdge>> indexedEdge) {
+    reuseEdge.setSource(indexedEdge.f1.f0);
+    reuseEdge.setTarget(indexedEdge.f1.f1);
+    reuseEdge.setValue(indexedEdge.f0);
     return reuseEdge;
   }
 }
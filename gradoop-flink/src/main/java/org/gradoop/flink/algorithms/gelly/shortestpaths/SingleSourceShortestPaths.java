@@ -17,21 +17,21 @@ package org.gradoop.flink.algorithms.gelly.shortestpaths;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
-import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithDouble;
-import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.SingleSourceShortestPathsAttribute;
+import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.VertexToGellyVertexWithInitialDistance;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.SingleSourceShortestPaths}.
- *
+ * <p>
+ * The initial distances are assigned while projecting the vertices, as the index of the source
+ * vertex is not known when the Gelly algorithm is created.
  */
-public class SingleSourceShortestPaths extends GradoopGellyAlgorithm<NullValue, Double> {
+public class SingleSourceShortestPaths extends GradoopGellyAlgorithm<Double, Double> {
 
   /**
    * ID of the source vertex
@@ -64,7 +64,7 @@ public class SingleSourceShortestPaths extends GradoopGellyAlgorithm<NullValue,
   public SingleSourceShortestPaths(GradoopId srcVertexId, String propertyKeyEdge,
     int iterations, String propertyKeyVertex) {
     super(
-      new VertexToGellyVertexWithNullValue(),
+      new VertexToGellyVertexWithInitialDistance(srcVertexId),
       new EdgeToGellyEdgeWithDouble(propertyKeyEdge));
     this.propertyKeyVertex = propertyKeyVertex;
     this.propertyKeyEdge = propertyKeyEdge;
@@ -73,15 +73,17 @@ public class SingleSourceShortestPaths extends GradoopGellyAlgorithm<NullValue,
   }
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, Double> graph) {
+  public LogicalGraph executeInGelly(Graph<Long, Double, Double> graph) {
+
+    DataSet<org.apache.flink.graph.Vertex<Long, Double>> distances = graph
+      .runScatterGatherIteration(
+        new org.apache.flink.graph.library.SingleSourceShortestPaths.MinDistanceMessenger<>(),
+        new org.apache.flink.graph.library.SingleSourceShortestPaths.VertexDistanceUpdater<>(),
+        iterations)
+      .getVertices();
 
-    DataSet<EPGMVertex> newVertices = new org.apache.flink.graph.library.SingleSourceShortestPaths
-      <GradoopId, NullValue>(srcVertexId, iterations)
-      .run(graph)
-      .join(currentGraph.getVertices())
-      .where(0)
-      .equalTo(new Id<>())
-      .with(new SingleSourceShortestPathsAttribute(propertyKeyVertex));
+    DataSet<EPGMVertex> newVertices = currentProjection.joinWithVertices(distances, 0,
+      new SingleSourceShortestPathsAttribute(propertyKeyVertex));
     return currentGraph.getFactory()
       .fromDataSets(currentGraph.getGraphHead(), newVertices, currentGraph.getEdges());
   }
@@ -16,14 +16,13 @@
 package org.gradoop.flink.algorithms.gelly.shortestpaths.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 
 /**
  * Stores the minimum distance as a property in vertex.
  */
 public class SingleSourceShortestPathsAttribute
-  implements JoinFunction<org.apache.flink.graph.Vertex<GradoopId, Double>, EPGMVertex, EPGMVertex> {
+  implements JoinFunction<org.apache.flink.graph.Vertex<Long, Double>, EPGMVertex, EPGMVertex> {
 
   /**
    * Property to store the minimum distance in.
@@ -40,7 +39,7 @@ public class SingleSourceShortestPathsAttribute
   }
 
   @Override
-  public EPGMVertex join(org.apache.flink.graph.Vertex<GradoopId, Double> gellyVertex,
+  public EPGMVertex join(org.apache.flink.graph.Vertex<Long, Double> gellyVertex,
     EPGMVertex gradoopVertex) {
     gradoopVertex.setProperty(shortestPathProperty, gellyVertex.getValue());
     return gradoopVertex;
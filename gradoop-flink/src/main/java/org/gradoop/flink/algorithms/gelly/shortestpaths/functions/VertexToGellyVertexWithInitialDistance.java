@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.shortestpaths.functions;
+
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.graph.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
+
+/**
+ * Maps a vertex to a gelly vertex with its initial distance to the source vertex as value, i.e.
+ * {@code 0} for the source vertex and {@link Double#MAX_VALUE} for all other vertices.
+ */
+@FunctionAnnotation.ForwardedFields("id->f0")
+public class VertexToGellyVertexWithInitialDistance implements VertexToGellyVertex<Double> {
+
+  /**
+   * ID of the source vertex.
+   */
+  private final GradoopId srcVertexId;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Vertex<GradoopId, Double> reuseVertex;
+
+  /**
+   * Constructor.
+   *
+   * @param srcVertexId ID of the source vertex
+   */
+  public VertexToGellyVertexWithInitialDistance(GradoopId srcVertexId) {
+    this.srcVertexId = srcVertexId;
+    this.reuseVertex = new Vertex<>();
+  }
+
+  @Override
+  public Vertex<GradoopId, Double> map(EPGMVertex epgmVertex) {
+    reuseVertex.setId(epgmVertex.getId());
+    reuseVertex.setValue(srcVertexId.equals(epgmVertex.getId()) ? 0d : Double.MAX_VALUE);
+    return reuseVertex;
+  }
+}
@@ -19,7 +19,6 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
@@ -52,10 +51,10 @@ public class GellyTriangleCounting extends GradoopGellyAlgorithm<NullValue, Null
   }
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
+  public LogicalGraph executeInGelly(Graph<Long, NullValue, NullValue> graph)
     throws Exception {
-    DataSet<Tuple3<GradoopId, GradoopId, GradoopId>> triangles =
-      new org.apache.flink.graph.library.TriangleEnumerator<GradoopId, NullValue, NullValue>()
+    DataSet<Tuple3<Long, Long, Long>> triangles =
+      new org.apache.flink.graph.library.TriangleEnumerator<Long, NullValue, NullValue>()
       .run(graph);
 
     DataSet<EPGMGraphHead> resultHead = currentGraph.getGraphHead()
@@ -18,14 +18,12 @@ package org.gradoop.flink.algorithms.gelly.vertexdegrees;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.algorithms.gelly.GradoopGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.vertexdegrees.functions.DistinctVertexDegreesToAttribute;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees}.
@@ -84,14 +82,12 @@ public class DistinctVertexDegrees extends GradoopGellyAlgorithm<NullValue, Null
   }
 
   @Override
-  public LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph) throws Exception {
-    DataSet<EPGMVertex> newVertices =
-      new org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees<GradoopId, NullValue, NullValue>()
-      .setIncludeZeroDegreeVertices(includeZeroDegreeVertices)
-      .run(graph)
-      .join(currentGraph.getVertices())
-      .where(0).equalTo(new Id<>())
-      .with(new DistinctVertexDegreesToAttribute(propertyKey, propertyKeyIn, propertyKeyOut));
+  public LogicalGraph executeInGelly(Graph<Long, NullValue, NullValue> graph) throws Exception {
+    DataSet<EPGMVertex> newVertices = currentProjection.joinWithVertices(
+      new org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees<Long, NullValue, NullValue>()
+        .setIncludeZeroDegreeVertices(includeZeroDegreeVertices)
+        .run(graph),
+      0, new DistinctVertexDegreesToAttribute(propertyKey, propertyKeyIn, propertyKeyOut));
 
     return currentGraph.getFactory()
       .fromDataSets(currentGraph.getGraphHead(), newVertices, currentGraph.getEdges());
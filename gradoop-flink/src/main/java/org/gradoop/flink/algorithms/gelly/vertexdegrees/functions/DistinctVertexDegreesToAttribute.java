@@ -18,7 +18,6 @@ package org.gradoop.flink.algorithms.gelly.vertexdegrees.functions;
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees;
 import org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees.Degrees;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
@@ -27,7 +26,7 @@ import org.gradoop.common.model.impl.properties.PropertyValue;
  */
 public class DistinctVertexDegreesToAttribute
   implements JoinFunction
-  <org.apache.flink.graph.Vertex<GradoopId, VertexDegrees.Degrees>, EPGMVertex, EPGMVertex> {
+  <org.apache.flink.graph.Vertex<Long, VertexDegrees.Degrees>, EPGMVertex, EPGMVertex> {
 
   /**
    * Property to store the sum of vertex degrees in.
@@ -57,7 +56,7 @@ public class DistinctVertexDegreesToAttribute
   }
 
   @Override
-  public EPGMVertex join(org.apache.flink.graph.Vertex<GradoopId, Degrees> degree, EPGMVertex vertex)
+  public EPGMVertex join(org.apache.flink.graph.Vertex<Long, Degrees> degree, EPGMVertex vertex)
     throws Exception {
     vertex.setProperty(vertexDegreesProperty,
         PropertyValue.create(degree.getValue().getDegree().getValue()));
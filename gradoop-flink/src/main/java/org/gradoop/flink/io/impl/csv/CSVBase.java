@@ -194,6 +194,15 @@ public abstract class CSVBase {
     return csvRoot + METADATA_FILE;
   }
 
+  /**
+   * Returns the root directory of the csv files, including a trailing separator.
+   *
+   * @return root directory
+   */
+  protected String getCSVRoot() {
+    return csvRoot;
+  }
+
   protected GradoopFlinkConfig getConfig() {
     return config;
   }
@@ -33,7 +33,10 @@ import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.model.impl.epgm.LogicalGraphFactory;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedGVECollectionLayoutFactory;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedGVELayout;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedGVEGraphLayoutFactory;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
@@ -52,6 +55,9 @@ import java.util.stream.Collectors;
  * |- knows.csv      # contains all edges with label 'knows'
  * |- studyAt.csv    # contains all edges with label 'studyAt'
  * |- metadata.csv   # Meta data for all data contained in the graph
+ * <p>
+ * Graphs and graph collections read by this source use the {@link IndexedGVELayout}, so operators
+ * selecting elements by label only read the files of the matching labels.
  */
 public class IndexedCSVDataSource extends CSVBase implements DataSource {
   /**
@@ -84,7 +90,17 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
 
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination<>());
+    CSVMetaDataSource source = new CSVMetaDataSource();
+    CSVMetaData metaData = source.readLocal(getMetaDataPath(), hdfsConfig);
+    DataSet<Tuple3<String, String, String>> metaDataBroadcast =
+      source.readDistributed(getMetaDataPath(), getConfig());
+
+    LogicalGraphFactory factory = new LogicalGraphFactory(getConfig());
+    factory.setLayoutFactory(new IndexedGVEGraphLayoutFactory());
+
+    return factory.fromIndexedDataSets(
+      readVertices(metaData, metaDataBroadcast),
+      readEdges(metaData, metaDataBroadcast));
   }
 
   @Override
@@ -94,30 +110,72 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
     DataSet<Tuple3<String, String, String>> metaDataBroadcast =
       source.readDistributed(getMetaDataPath(), getConfig());
 
+    GraphCollectionFactory factory = new GraphCollectionFactory(getConfig());
+    factory.setLayoutFactory(new IndexedGVECollectionLayoutFactory());
+
+    return factory.fromIndexedDataSets(
+      readGraphHeads(metaData, metaDataBroadcast),
+      readVertices(metaData, metaDataBroadcast),
+      readEdges(metaData, metaDataBroadcast));
+  }
+
+  /**
+   * Reads the graph heads of each graph label from their own file.
+   *
+   * @param metaData meta data of the graph
+   * @param metaDataBroadcast meta data to broadcast to the parsing functions
+   * @return mapping from graph label to graph heads with that label
+   */
+  private Map<String, DataSet<EPGMGraphHead>> readGraphHeads(CSVMetaData metaData,
+    DataSet<Tuple3<String, String, String>> metaDataBroadcast) {
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
     GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
 
-    Map<String, DataSet<EPGMGraphHead>> graphHeads = metaData.getGraphLabels().stream()
+    return metaData.getGraphLabels().stream()
       .map(label -> Tuple2.of(label, env.readTextFile(getGraphHeadCSVPath(label))
         .map(new CSVLineToGraphHead(factory.getGraphHeadFactory()))
         .withBroadcastSet(metaDataBroadcast, BC_METADATA)
         .filter(graphHead -> graphHead.getLabel().equals(label))))
       .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+  }
 
-    Map<String, DataSet<EPGMVertex>> vertices = metaData.getVertexLabels().stream()
+  /**
+   * Reads the vertices of each vertex label from their own file.
+   *
+   * @param metaData meta data of the graph
+   * @param metaDataBroadcast meta data to broadcast to the parsing functions
+   * @return mapping from vertex label to vertices with that label
+   */
+  private Map<String, DataSet<EPGMVertex>> readVertices(CSVMetaData metaData,
+    DataSet<Tuple3<String, String, String>> metaDataBroadcast) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
+
+    return metaData.getVertexLabels().stream()
       .map(label -> Tuple2.of(label, env.readTextFile(getVertexCSVPath(label))
         .map(new CSVLineToVertex(factory.getVertexFactory()))
         .withBroadcastSet(metaDataBroadcast, BC_METADATA)
         .filter(vertex -> vertex.getLabel().equals(label))))
       .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+  }
 
-    Map<String, DataSet<EPGMEdge>> edges = metaData.getEdgeLabels().stream()
+  /**
+   * Reads the edges of each edge label from their own file.
+   *
+   * @param metaData meta data of the graph
+   * @param metaDataBroadcast meta data to broadcast to the parsing functions
+   * @return mapping from edge label to edges with that label
+   */
+  private Map<String, DataSet<EPGMEdge>> readEdges(CSVMetaData metaData,
+    DataSet<Tuple3<String, String, String>> metaDataBroadcast) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
+
+    return metaData.getEdgeLabels().stream()
       .map(label -> Tuple2.of(label, env.readTextFile(getEdgeCSVPath(label))
         .map(new CSVLineToEdge(factory.getEdgeFactory()))
         .withBroadcastSet(metaDataBroadcast, BC_METADATA)
         .filter(edge -> edge.getLabel().equals(label))))
       .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
-
-    return factory.fromIndexedDataSets(graphHeads, vertices, edges);
   }
 }
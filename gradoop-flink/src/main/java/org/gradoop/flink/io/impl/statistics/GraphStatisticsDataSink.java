@@ -17,19 +17,26 @@ package org.gradoop.flink.io.impl.statistics;
 
 import java.io.IOException;
 
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctEdgeProperties;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctSourceIdsByEdgeLabel;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctTargetIdsByEdgeLabel;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctVertexProperties;
 import org.gradoop.flink.model.impl.operators.statistics.EdgeLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.EdgePropertyHistogramsByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.IncomingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.OutgoingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.VertexPropertyHistogramsByLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.FormatMostCommonValues;
+import org.gradoop.flink.model.impl.operators.statistics.functions.FormatPropertyHistogram;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctEdgePropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctSourceVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctTargetVertexCountPreparer;
@@ -151,6 +158,32 @@ public class GraphStatisticsDataSink implements DataSink {
         appendSeparator(this.path) +
         GraphStatisticsReader.OUTGOING_VERTEX_DEGREE_DISTRIBUTION,
         overwrite);
+
+    DataSet<Tuple3<String, String, PropertyHistogram>> edgePropertyHistograms =
+      new EdgePropertyHistogramsByLabel().execute(logicalGraph);
+    StatisticWriter.writeCSV(edgePropertyHistograms
+        .map(new FormatPropertyHistogram()),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL,
+        overwrite);
+    StatisticWriter.writeCSV(edgePropertyHistograms
+        .flatMap(new FormatMostCommonValues()),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_MOST_COMMON_PROPERTY_VALUES_BY_LABEL,
+        overwrite);
+
+    DataSet<Tuple3<String, String, PropertyHistogram>> vertexPropertyHistograms =
+      new VertexPropertyHistogramsByLabel().execute(logicalGraph);
+    StatisticWriter.writeCSV(vertexPropertyHistograms
+        .map(new FormatPropertyHistogram()),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL,
+        overwrite);
+    StatisticWriter.writeCSV(vertexPropertyHistograms
+        .flatMap(new FormatMostCommonValues()),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_PROPERTY_VALUES_BY_LABEL,
+        overwrite);
   }
 
   @Override
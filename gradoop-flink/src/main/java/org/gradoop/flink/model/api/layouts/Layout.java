@@ -19,6 +19,9 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.Vertex;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * Base description of a graph / collection layout.
  *
@@ -56,4 +59,24 @@ public interface Layout<V extends Vertex, E extends Edge> {
    * @return filtered edges
    */
   DataSet<E> getEdgesByLabel(String label);
+
+  /**
+   * Returns the labels of the vertex datasets a label-indexed layout is partitioned into.
+   * Layouts that are not partitioned by label return an empty set.
+   *
+   * @return labels of the vertex partitions
+   */
+  default Set<String> getVertexLabels() {
+    return Collections.emptySet();
+  }
+
+  /**
+   * Returns the labels of the edge datasets a label-indexed layout is partitioned into.
+   * Layouts that are not partitioned by label return an empty set.
+   *
+   * @return labels of the edge partitions
+   */
+  default Set<String> getEdgeLabels() {
+    return Collections.emptySet();
+  }
 }
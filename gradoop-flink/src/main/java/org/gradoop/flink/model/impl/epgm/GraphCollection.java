@@ -33,6 +33,7 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A graph collection graph is one of the base concepts of the Extended Property Graph Model. From
@@ -113,6 +114,16 @@ public class GraphCollection implements
     return layout.getEdgesByLabel(label);
   }
 
+  @Override
+  public Set<String> getVertexLabels() {
+    return layout.getVertexLabels();
+  }
+
+  @Override
+  public Set<String> getEdgeLabels() {
+    return layout.getEdgeLabels();
+  }
+
   @Override
   public DataSet<EPGMGraphHead> getGraphHeads() {
     return layout.getGraphHeads();
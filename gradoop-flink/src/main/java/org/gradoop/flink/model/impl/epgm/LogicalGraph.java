@@ -41,6 +41,7 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A logical graph is one of the base concepts of the Extended Property Graph Model. A logical graph
@@ -138,6 +139,16 @@ public class LogicalGraph implements
     return layout.getEdgesByLabel(label);
   }
 
+  @Override
+  public Set<String> getVertexLabels() {
+    return layout.getVertexLabels();
+  }
+
+  @Override
+  public Set<String> getEdgeLabels() {
+    return layout.getEdgeLabels();
+  }
+
   //----------------------------------------------------------------------------
   // Unary Operators
   //----------------------------------------------------------------------------
@@ -38,6 +38,15 @@ public class ByLabel<L extends Labeled> implements CombinableFilter<L> {
     this.label = label;
   }
 
+  /**
+   * Returns the label this filter accepts.
+   *
+   * @return label to be filtered on
+   */
+  public String getLabel() {
+    return label;
+  }
+
   @Override
   public boolean filter(L l) throws Exception {
     return l.getLabel().equals(label);
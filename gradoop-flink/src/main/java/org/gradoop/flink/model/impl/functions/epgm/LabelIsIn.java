@@ -20,6 +20,7 @@ import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.flink.model.impl.functions.filters.CombinableFilter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 
@@ -54,6 +55,15 @@ public class LabelIsIn<EL extends Element> implements CombinableFilter<EL> {
     this.labels = new HashSet<>(labels);
   }
 
+  /**
+   * Returns the labels this filter accepts.
+   *
+   * @return white list of labels
+   */
+  public Collection<String> getLabels() {
+    return Collections.unmodifiableCollection(labels);
+  }
+
   @Override
   public boolean filter(EL element) throws Exception {
     return labels.contains(element.getLabel());
@@ -21,6 +21,9 @@ import org.apache.flink.api.common.functions.RichFunction;
 import org.apache.flink.api.common.functions.RuntimeContext;
 import org.apache.flink.configuration.Configuration;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -53,6 +56,15 @@ public abstract class AbstractRichCombinedFilterFunction<T>
     components = filters;
   }
 
+  /**
+   * Returns the filters this filter is composed of.
+   *
+   * @return The component filters.
+   */
+  public List<FilterFunction<? super T>> getComponents() {
+    return Collections.unmodifiableList(Arrays.asList(components));
+  }
+
   @Override
   public void setRuntimeContext(RuntimeContext t) {
     super.setRuntimeContext(t);
@@ -21,12 +21,13 @@ import org.apache.flink.util.Collector;
 /**
  * Returns the left side if the right side is null.
  *
- * @param <E> an object type
+ * @param <L> left object type
+ * @param <R> right object type
  */
-public class LeftWhenRightIsNull<E> implements FlatJoinFunction<E, E, E> {
+public class LeftWhenRightIsNull<L, R> implements FlatJoinFunction<L, R, L> {
 
   @Override
-  public void join(E left, E right, Collector<E> collector) {
+  public void join(L left, R right, Collector<L> collector) {
     if (left != null && right == null) {
       collector.collect(left);
     }
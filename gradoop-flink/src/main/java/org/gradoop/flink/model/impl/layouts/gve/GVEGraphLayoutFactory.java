@@ -91,7 +91,7 @@ public class GVEGraphLayoutFactory extends GVEBaseFactory
         Map.Entry::getKey, e -> e.getValue().map(new AddToGraph<>(graphHead))
           .withForwardedFields("id;sourceId;targetId;label;properties")));
 
-    return create(graphHeads, vertices, edges);
+    return fromIndexedDataSets(graphHeads, vertices, edges);
   }
 
   @Override
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.layouts.gve.indexed;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
@@ -23,7 +24,9 @@ import org.gradoop.flink.model.api.layouts.GraphCollectionLayout;
 import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Like {@link GVELayout}, this layout separated between graph head, vertex and edge layouts. In
@@ -62,7 +65,7 @@ public class IndexedGVELayout extends GVELayout implements
       vertices.values().stream().reduce(DataSet::union)
         .orElseThrow(() -> new RuntimeException("Error during vertex union")),
       edges.values().stream().reduce(DataSet::union)
-        .orElseThrow(() -> new RuntimeException("Error during edge union"))
+        .orElseGet(() -> emptyDataSet(vertices.values().iterator().next(), EPGMEdge.class))
     );
     this.graphHeads = graphHeads;
     this.vertices = vertices;
@@ -76,16 +79,43 @@ public class IndexedGVELayout extends GVELayout implements
 
   @Override
   public DataSet<EPGMGraphHead> getGraphHeadsByLabel(String label) {
-    return graphHeads.get(label);
+    return graphHeads.containsKey(label) ? graphHeads.get(label) :
+      emptyDataSet(getGraphHeads(), EPGMGraphHead.class);
   }
 
   @Override
   public DataSet<EPGMVertex> getVerticesByLabel(String label) {
-    return vertices.get(label);
+    return vertices.containsKey(label) ? vertices.get(label) :
+      emptyDataSet(getVertices(), EPGMVertex.class);
   }
 
   @Override
   public DataSet<EPGMEdge> getEdgesByLabel(String label) {
-    return edges.get(label);
+    return edges.containsKey(label) ? edges.get(label) :
+      emptyDataSet(getEdges(), EPGMEdge.class);
+  }
+
+  @Override
+  public Set<String> getVertexLabels() {
+    return Collections.unmodifiableSet(vertices.keySet());
+  }
+
+  @Override
+  public Set<String> getEdgeLabels() {
+    return Collections.unmodifiableSet(edges.keySet());
+  }
+
+  /**
+   * Creates an empty dataset of the given type in the environment of an existing dataset. It is
+   * used for labels without a partition, so that accessing them does not scan any other label.
+   *
+   * @param dataSet dataset providing the execution environment
+   * @param type element type of the empty dataset
+   * @param <T> element type
+   * @return empty dataset
+   */
+  private static <T> DataSet<T> emptyDataSet(DataSet<?> dataSet, Class<T> type) {
+    return dataSet.getExecutionEnvironment()
+      .fromCollection(Collections.emptyList(), TypeInformation.of(type));
   }
 }
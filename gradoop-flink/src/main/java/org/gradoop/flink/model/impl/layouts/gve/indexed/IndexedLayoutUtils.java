@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.indexed;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
+import org.gradoop.flink.model.impl.functions.epgm.LabelIsIn;
+import org.gradoop.flink.model.impl.functions.filters.And;
+import org.gradoop.flink.model.impl.functions.filters.Or;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Utilities for label-aware access to graphs.<p>
+ * If a graph uses the {@link IndexedGVELayout}, label predicates are answered by reading only the
+ * datasets of the matching labels instead of filtering all elements. For any other layout the
+ * predicates are evaluated as filters on the complete datasets.
+ */
+public final class IndexedLayoutUtils {
+
+  /**
+   * No instances of this class are needed.
+   */
+  private IndexedLayoutUtils() {
+  }
+
+  /**
+   * Returns all vertices having one of the given labels.
+   *
+   * @param graph the graph
+   * @param labels accepted vertex labels
+   * @param <V> vertex type
+   * @return vertices having one of the labels
+   */
+  public static <V extends Vertex> DataSet<V> getVerticesByLabels(
+    LogicalGraphLayout<?, V, ?> graph, Collection<String> labels) {
+    return selectByLabels(graph.isIndexedGVELayout(), labels, graph::getVerticesByLabel,
+      graph.getVertices());
+  }
+
+  /**
+   * Returns all edges having one of the given labels.
+   *
+   * @param graph the graph
+   * @param labels accepted edge labels
+   * @param <E> edge type
+   * @return edges having one of the labels
+   */
+  public static <E extends Edge> DataSet<E> getEdgesByLabels(
+    LogicalGraphLayout<?, ?, E> graph, Collection<String> labels) {
+    return selectByLabels(graph.isIndexedGVELayout(), labels, graph::getEdgesByLabel,
+      graph.getEdges());
+  }
+
+  /**
+   * Returns all vertices fulfilling a filter function. Label predicates of the filter are answered
+   * from the label index, if the graph has one.
+   *
+   * @param graph the graph
+   * @param filter vertex filter function
+   * @param <V> vertex type
+   * @return filtered vertices
+   */
+  public static <V extends Vertex> DataSet<V> filterVertices(
+    LogicalGraphLayout<?, V, ?> graph, FilterFunction<V> filter) {
+    Set<String> labels = graph.isIndexedGVELayout() ? getLabels(filter) : null;
+    if (labels == null) {
+      return graph.getVertices().filter(filter);
+    }
+    DataSet<V> vertices = getVerticesByLabels(graph, labels);
+    return isLabelFilter(filter) ? vertices : vertices.filter(filter);
+  }
+
+  /**
+   * Returns all edges fulfilling a filter function. Label predicates of the filter are answered
+   * from the label index, if the graph has one.
+   *
+   * @param graph the graph
+   * @param filter edge filter function
+   * @param <E> edge type
+   * @return filtered edges
+   */
+  public static <E extends Edge> DataSet<E> filterEdges(
+    LogicalGraphLayout<?, ?, E> graph, FilterFunction<E> filter) {
+    Set<String> labels = graph.isIndexedGVELayout() ? getLabels(filter) : null;
+    if (labels == null) {
+      return graph.getEdges().filter(filter);
+    }
+    DataSet<E> edges = getEdgesByLabels(graph, labels);
+    return isLabelFilter(filter) ? edges : edges.filter(filter);
+  }
+
+  /**
+   * Derives the set of labels an element has to have in order to pass a filter function.
+   * {@link ByLabel} and {@link LabelIsIn} filters are evaluated directly, {@link And} and
+   * {@link Or} filters are evaluated by intersecting and uniting the labels of their components.
+   *
+   * @param filter filter function
+   * @return labels accepted by the filter or {@code null}, if the filter accepts any label
+   */
+  public static Set<String> getLabels(FilterFunction<?> filter) {
+    if (filter instanceof ByLabel) {
+      return Collections.singleton(((ByLabel<?>) filter).getLabel());
+    } else if (filter instanceof LabelIsIn) {
+      return new HashSet<>(((LabelIsIn<?>) filter).getLabels());
+    } else if (filter instanceof And) {
+      Set<String> labels = null;
+      for (FilterFunction<?> component : ((And<?>) filter).getComponents()) {
+        Set<String> componentLabels = getLabels(component);
+        if (labels == null) {
+          labels = componentLabels == null ? null : new HashSet<>(componentLabels);
+        } else if (componentLabels != null) {
+          labels.retainAll(componentLabels);
+        }
+      }
+      return labels;
+    } else if (filter instanceof Or) {
+      Set<String> labels = new HashSet<>();
+      for (FilterFunction<?> component : ((Or<?>) filter).getComponents()) {
+        Set<String> componentLabels = getLabels(component);
+        if (componentLabels == null) {
+          return null;
+        }
+        labels.addAll(componentLabels);
+      }
+      return labels;
+    }
+    return null;
+  }
+
+  /**
+   * Checks if a filter function only checks the label of an element.
+   *
+   * @param filter filter function
+   * @return {@code true}, if the filter is fully answered by its labels
+   */
+  private static boolean isLabelFilter(FilterFunction<?> filter) {
+    return filter instanceof ByLabel || filter instanceof LabelIsIn;
+  }
+
+  /**
+   * Selects the elements having one of the given labels. Indexed layouts union the datasets of
+   * the labels, all other layouts filter the complete dataset.
+   *
+   * @param indexed {@code true}, if the layout is label-indexed
+   * @param labels accepted labels
+   * @param byLabel returns the elements of a single label
+   * @param elements all elements
+   * @param <EL> element type
+   * @return elements having one of the labels
+   */
+  private static <EL extends Element> DataSet<EL> selectByLabels(boolean indexed,
+    Collection<String> labels, Function<String, DataSet<EL>> byLabel, DataSet<EL> elements) {
+    if (labels.size() == 1) {
+      return byLabel.apply(labels.iterator().next());
+    }
+    if (indexed && !labels.isEmpty()) {
+      return labels.stream().map(byLabel).reduce(DataSet::union)
+        .orElseThrow(() -> new RuntimeException("Error during label union"));
+    }
+    return elements.filter(new LabelIsIn<>(labels));
+  }
+}
@@ -64,10 +64,11 @@ public class Exclusion<
 
   @Override
   public LG execute(LG firstGraph, LG secondGraph) {
+    // only the ids of the second graph are needed to exclude its vertices
     DataSet<V> newVertexSet = firstGraph.getVertices()
-      .leftOuterJoin(secondGraph.getVertices())
+      .leftOuterJoin(secondGraph.getVertices().map(new Id<>()))
       .where(new Id<>())
-      .equalTo(new Id<>())
+      .equalTo("*")
       .with(new LeftWhenRightIsNull<>());
 
     return firstGraph.getFactory()
@@ -19,6 +19,7 @@ import org.apache.flink.api.java.tuple.Tuple;
 import org.gradoop.common.model.api.entities.Attributed;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.api.entities.Labeled;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.KeyFunction;
 import org.gradoop.flink.model.api.functions.KeyFunctionWithDefaultValue;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.keys.ConstantKeyFunction;
@@ -104,7 +105,7 @@ public final class GroupingKeys {
    * @return The grouping key function extracting the property with that key.
    * @see PropertyKeyFunction
    */
-  public static <T extends Attributed> KeyFunctionWithDefaultValue<T, byte[]> property(String key) {
+  public static <T extends Attributed> KeyFunctionWithDefaultValue<T, PropertyValue> property(String key) {
     return new PropertyKeyFunction<>(key);
   }
 }
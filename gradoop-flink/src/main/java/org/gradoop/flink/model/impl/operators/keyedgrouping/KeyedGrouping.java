@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.operators.keyedgrouping;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
@@ -28,15 +29,21 @@ import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
 import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphOperator;
 import org.gradoop.flink.model.impl.functions.filters.Not;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.AssignSuperVertexIds;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperEdgeFromTuple;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperVertexFromTuple;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromEdges;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromVertices;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.FilterSuperVertices;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.MergeSuperVertexTuples;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceEdgeTuples;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceSuperVertexTuples;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceVertexTuples;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.SaltHotKeys;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.SelectHotKeys;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.UpdateIdField;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.UpdateSuperVertexIds;
 
 import java.util.Collections;
 import java.util.List;
@@ -53,7 +60,13 @@ import java.util.stream.IntStream;
  * on the super-elements.<p>
  * This implementation will use tuples to represent elements during the execution of this operator.
  * These tuples will contain IDs, the values of key functions and the aggregate values for each element
- * and super-element.
+ * and super-element.<p>
+ * Optionally, vertex keys shared by a large fraction of all vertices (hot keys) can be split into several
+ * salted sub-groups, see {@link #setUseHotKeySalting(int)}. Sub-groups are reduced independently and
+ * their partial super-vertices are merged afterwards, which avoids a single reducer processing all
+ * vertices of a hot key.<p>
+ * If the number of vertex groups is known to be small, super-vertex IDs can instead be assigned using a
+ * broadcast set of all super-vertices, see {@link #setUseSuperVertexIdBroadcast(boolean)}.
  *
  * @param <G> The graph head type.
  * @param <V> The vertex type.
@@ -68,6 +81,16 @@ public class KeyedGrouping<
   LG extends BaseGraph<G, V, E, LG, GC>,
   GC extends BaseGraphCollection<G, V, E, LG, GC>> implements UnaryBaseGraphToBaseGraphOperator<LG> {
 
+  /**
+   * The default fraction of vertices sampled to determine hot keys.
+   */
+  public static final double DEFAULT_HOT_KEY_SAMPLE_FRACTION = 0.01d;
+
+  /**
+   * The default number of sampled vertices a key needs to be considered a hot key.
+   */
+  public static final long DEFAULT_HOT_KEY_THRESHOLD = 100L;
+
   /**
    * The vertex grouping keys.
    */
@@ -93,6 +116,26 @@ public class KeyedGrouping<
    */
   private boolean useGroupCombine = true;
 
+  /**
+   * Should super-vertex IDs be assigned to vertices using a broadcast set of all super-vertices?
+   */
+  private boolean useSuperVertexIdBroadcast = false;
+
+  /**
+   * The number of sub-groups each hot vertex key is split into. Salting is disabled for values below 2.
+   */
+  private int saltCount = 1;
+
+  /**
+   * The fraction of vertices sampled to determine hot keys.
+   */
+  private double hotKeySampleFraction = DEFAULT_HOT_KEY_SAMPLE_FRACTION;
+
+  /**
+   * The number of sampled vertices a key needs to be considered a hot key.
+   */
+  private long hotKeyThreshold = DEFAULT_HOT_KEY_THRESHOLD;
+
   /**
    * Instantiate this grouping function.
    *
@@ -125,15 +168,34 @@ public class KeyedGrouping<
     /* First we create tuple representations of each vertex.
        Those tuples will then be grouped by the respective key fields (the fields containing the values
        extracted by the key functions) and reduced to assign a super vertex and to calculate aggregates. */
-    DataSet<Tuple> verticesWithSuperVertex = graph.getVertices()
-      .map(new BuildTuplesFromVertices<>(vertexGroupingKeys, vertexAggregateFunctions))
-      .groupBy(getInternalVertexGroupingKeys())
-      .reduceGroup(new ReduceVertexTuples<>(
-        GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size(), vertexAggregateFunctions));
-    /* Extract a mapping from vertex-ID to super-vertex-ID from the result of the vertex-reduce step. */
-    DataSet<Tuple2<GradoopId, GradoopId>> idToSuperId = verticesWithSuperVertex
-      .filter(new Not<>(new FilterSuperVertices<>()))
-      .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    DataSet<Tuple> vertexTuples = graph.getVertices()
+      .map(new BuildTuplesFromVertices<>(vertexGroupingKeys, vertexAggregateFunctions));
+    DataSet<Tuple> superVertexTuples;
+    DataSet<Tuple2<GradoopId, GradoopId>> idToSuperId;
+    if (useSuperVertexIdBroadcast) {
+      /* Reduce the vertex-tuples to super-vertex-tuples only, allowing a combine step. Since there are
+         few super-vertices, the mapping is then created locally by looking up the keys of each vertex. */
+      superVertexTuples = vertexTuples
+        .groupBy(getInternalVertexGroupingKeys())
+        .reduceGroup(new ReduceSuperVertexTuples<>(
+          GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size(), vertexAggregateFunctions))
+        .setCombinable(true);
+      idToSuperId = vertexTuples
+        .map(new AssignSuperVertexIds<>(getInternalVertexGroupingKeys()))
+        .withBroadcastSet(superVertexTuples, AssignSuperVertexIds.SUPER_VERTICES);
+    } else {
+      DataSet<Tuple> verticesWithSuperVertex = saltCount > 1 ?
+        reduceVertexTuplesWithSalting(vertexTuples) :
+        vertexTuples
+          .groupBy(getInternalVertexGroupingKeys())
+          .reduceGroup(new ReduceVertexTuples<>(
+            GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size(), vertexAggregateFunctions));
+      /* Extract a mapping from vertex-ID to super-vertex-ID from the result of the vertex-reduce step. */
+      idToSuperId = verticesWithSuperVertex
+        .filter(new Not<>(new FilterSuperVertices<>()))
+        .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+      superVertexTuples = verticesWithSuperVertex.filter(new FilterSuperVertices<>());
+    }
 
     /* Create tuple representations of each edge and update the source- and target-ids of those tuples with
        with the mapping extracted in the previous step. Edges will then point from and to super-vertices. */
@@ -157,8 +219,7 @@ public class KeyedGrouping<
 
     /* Rebuild super-vertices from vertex-tuples. Those new vertices contain the data extracted by the key
        functions and aggregated by the aggregate functions. */
-    DataSet<V> superVertices = verticesWithSuperVertex
-      .filter(new FilterSuperVertices<>())
+    DataSet<V> superVertices = superVertexTuples
       .map(new BuildSuperVertexFromTuple<>(vertexGroupingKeys, vertexAggregateFunctions,
         graph.getFactory().getVertexFactory()));
 
@@ -170,6 +231,47 @@ public class KeyedGrouping<
     return graph.getFactory().fromDataSets(superVertices, superEdges);
   }
 
+  /**
+   * Reduce vertex tuples to super-vertices, splitting hot keys into salted sub-groups.<p>
+   * Hot keys are determined on a sample of the vertex tuples. Every tuple of a hot key is assigned
+   * one of {@link #saltCount} salts, all other tuples share a default salt. The tuples are then reduced
+   * per key and salt, resulting in one partial super-vertex per sub-group. Partial super-vertices of the
+   * same key are merged and the super-vertex IDs of their vertices are updated accordingly.
+   *
+   * @param vertexTuples The vertex tuples.
+   * @return The vertex tuples with their super-vertex IDs and the super-vertex tuples.
+   */
+  private DataSet<Tuple> reduceVertexTuplesWithSalting(DataSet<Tuple> vertexTuples) {
+    final int tupleDataOffset = GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size();
+
+    DataSet<Tuple> hotKeys = DataSetUtils.sample(vertexTuples, false, hotKeySampleFraction)
+      .groupBy(getInternalVertexGroupingKeys())
+      .reduceGroup(new SelectHotKeys<>(hotKeyThreshold));
+
+    /* The salt is stored in the super-vertex ID field, which is part of the grouping keys here. */
+    DataSet<Tuple> partiallyReduced = vertexTuples
+      .map(new SaltHotKeys<>(getInternalVertexGroupingKeys(), saltCount))
+      .withBroadcastSet(hotKeys, SaltHotKeys.HOT_KEYS)
+      .groupBy(getInternalSaltedVertexGroupingKeys())
+      .reduceGroup(new ReduceVertexTuples<>(tupleDataOffset, vertexAggregateFunctions));
+
+    DataSet<Tuple> mergedSuperVertices = partiallyReduced
+      .filter(new FilterSuperVertices<>())
+      .groupBy(getInternalVertexGroupingKeys())
+      .reduceGroup(new MergeSuperVertexTuples<>(tupleDataOffset, vertexAggregateFunctions));
+
+    /* Only partial super-vertices of hot keys are mapped, therefore this mapping is small. */
+    DataSet<Tuple2<GradoopId, GradoopId>> partialToSuperId = mergedSuperVertices
+      .filter(new Not<>(new FilterSuperVertices<>()))
+      .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+
+    return partiallyReduced
+      .filter(new Not<>(new FilterSuperVertices<>()))
+      .map(new UpdateSuperVertexIds<>())
+      .withBroadcastSet(partialToSuperId, UpdateSuperVertexIds.PARTIAL_SUPER_IDS)
+      .union(mergedSuperVertices.filter(new FilterSuperVertices<>()));
+  }
+
   /**
    * Get the internal grouping keys used for grouping the edge tuples.
    *
@@ -190,6 +292,17 @@ public class KeyedGrouping<
       GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size()).toArray();
   }
 
+  /**
+   * Get the internal grouping keys used for grouping salted vertex tuples, i.e. the salt followed by
+   * the vertex grouping keys.
+   *
+   * @return The grouping keys, as tuple indices.
+   */
+  private int[] getInternalSaltedVertexGroupingKeys() {
+    return IntStream.range(GroupingConstants.VERTEX_TUPLE_SUPERID,
+      GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size()).toArray();
+  }
+
   /**
    * Enable or disable an optional combine step before the reduce step.
    * Note that this currently only affects the edge reduce step.
@@ -203,4 +316,60 @@ public class KeyedGrouping<
     this.useGroupCombine = useGroupCombine;
     return this;
   }
+
+  /**
+   * Enable or disable splitting hot vertex keys into salted sub-groups.
+   * <p>
+   * Salting is disabled by default.
+   *
+   * @param saltCount The number of sub-groups each hot key is split into, {@code 1} disables salting.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUseHotKeySalting(int saltCount) {
+    if (saltCount < 1) {
+      throw new IllegalArgumentException("The number of salts must be positive: " + saltCount);
+    }
+    this.saltCount = saltCount;
+    return this;
+  }
+
+  /**
+   * Set how hot vertex keys are determined when salting is enabled. A key is considered hot, if it
+   * occurs at least {@code threshold} times in a sample of the vertices.
+   * <p>
+   * By default, {@value #DEFAULT_HOT_KEY_SAMPLE_FRACTION} of all vertices are sampled and the threshold
+   * is {@value #DEFAULT_HOT_KEY_THRESHOLD}.
+   *
+   * @param sampleFraction The fraction of vertices sampled, in {@code (0, 1]}.
+   * @param threshold      The number of sampled vertices a key needs to be considered hot.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setHotKeySampling(double sampleFraction, long threshold) {
+    if (sampleFraction <= 0d || sampleFraction > 1d) {
+      throw new IllegalArgumentException("The sample fraction must be in (0, 1]: " + sampleFraction);
+    }
+    if (threshold < 1L) {
+      throw new IllegalArgumentException("The hot key threshold must be positive: " + threshold);
+    }
+    this.hotKeySampleFraction = sampleFraction;
+    this.hotKeyThreshold = threshold;
+    return this;
+  }
+
+  /**
+   * Enable or disable assigning super-vertex IDs to vertices using a broadcast set of all super-vertices.
+   * Vertex-tuples are then reduced to super-vertex-tuples with a combine step, instead of grouping all
+   * vertex-tuples to extract the mapping from vertex-ID to super-vertex-ID. This should only be enabled
+   * if the number of vertex groups is small, e.g. when grouping by label only. Hot key salting is not
+   * used in this mode.
+   * <p>
+   * This mode is disabled by default.
+   *
+   * @param useSuperVertexIdBroadcast {@code true}, if super-vertex IDs should be broadcast.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUseSuperVertexIdBroadcast(boolean useSuperVertexIdBroadcast) {
+    this.useSuperVertexIdBroadcast = useSuperVertexIdBroadcast;
+    return this;
+  }
 }
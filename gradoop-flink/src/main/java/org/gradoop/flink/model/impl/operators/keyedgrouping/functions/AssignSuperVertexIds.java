@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Map vertex tuples to a {@link Tuple2} of vertex ID and super-vertex ID. The super-vertex ID is
+ * looked up by the grouping keys of the vertex in a broadcast set of super-vertex tuples.
+ * <p>
+ * This should only be used if the number of groups is small, since each instance of this function
+ * stores all super-vertex IDs.
+ *
+ * @param <T> The tuple type.
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class AssignSuperVertexIds<T extends Tuple>
+  extends RichMapFunction<T, Tuple2<GradoopId, GradoopId>> {
+
+  /**
+   * Broadcast set identifier for the super-vertex tuples.
+   */
+  public static final String SUPER_VERTICES = "superVertices";
+
+  /**
+   * The positions of the grouping keys in the tuple.
+   */
+  private final int[] keyFields;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * The super-vertex IDs by the values of their grouping keys.
+   */
+  private Map<List<Object>, GradoopId> superIdsByKey;
+
+  /**
+   * Initialize this mapping function.
+   *
+   * @param keyFields The positions of the grouping keys in the tuple.
+   */
+  public AssignSuperVertexIds(int[] keyFields) {
+    this.keyFields = keyFields;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    superIdsByKey = new HashMap<>();
+    for (T superVertex : getRuntimeContext().<T>getBroadcastVariable(SUPER_VERTICES)) {
+      superIdsByKey.put(GroupingKeyValues.of(superVertex, keyFields),
+        superVertex.getField(GroupingConstants.VERTEX_TUPLE_SUPERID));
+    }
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> map(T tuple) throws Exception {
+    final GradoopId superId = superIdsByKey.get(GroupingKeyValues.of(tuple, keyFields));
+    if (superId == null) {
+      throw new IllegalStateException("No super-vertex found for the grouping keys of vertex " +
+        tuple.getField(GroupingConstants.VERTEX_TUPLE_ID));
+    }
+    reuseTuple.f0 = tuple.getField(GroupingConstants.VERTEX_TUPLE_ID);
+    reuseTuple.f1 = superId;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.java.tuple.Tuple;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utility methods for the grouping key values stored in element tuples.
+ */
+final class GroupingKeyValues {
+
+  /**
+   * No instances of this class are needed.
+   */
+  private GroupingKeyValues() {
+  }
+
+  /**
+   * Get the values of the grouping keys of a tuple. The result is comparable by value and can
+   * therefore be used as a key of hash-based collections.
+   *
+   * @param tuple     The tuple.
+   * @param keyFields The positions of the grouping keys in the tuple.
+   * @return The grouping key values.
+   */
+  static List<Object> of(Tuple tuple, int[] keyFields) {
+    final Object[] key = new Object[keyFields.length];
+    for (int i = 0; i < keyFields.length; i++) {
+      key[i] = tuple.getField(keyFields[i]);
+    }
+    return Arrays.asList(key);
+  }
+}
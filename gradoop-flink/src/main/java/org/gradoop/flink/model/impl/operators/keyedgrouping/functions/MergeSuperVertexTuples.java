@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_ID;
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_SUPERID;
+
+/**
+ * Merge partial super-vertex tuples of the same group, i.e. super-vertices created for different
+ * sub-groups of a salted grouping key. The ID of the first partial super-vertex is kept as the ID of
+ * the merged super-vertex. This function outputs two kinds of tuples:
+ * <ul>
+ *   <li>A tuple for every other partial super-vertex, storing its ID as the vertex ID and the ID of
+ *   the merged super-vertex as the super-vertex ID.</li>
+ *   <li>A tuple representing the merged super vertex, storing the keys and the merged aggregation
+ *   results.</li>
+ * </ul>
+ *
+ * @param <T> The tuple type.
+ */
+public class MergeSuperVertexTuples<T extends Tuple> extends ReduceElementTuples<T> {
+
+  /**
+   * Initialize this reduce function.
+   *
+   * @param tupleDataOffset    The data offset of the tuple. This will be
+   *                           {@value GroupingConstants#VERTEX_TUPLE_RESERVED} {@code +}
+   *                           the number of the grouping keys.
+   *
+   * @param aggregateFunctions The vertex aggregate functions.
+   */
+  public MergeSuperVertexTuples(int tupleDataOffset, List<AggregateFunction> aggregateFunctions) {
+    super(tupleDataOffset, aggregateFunctions);
+  }
+
+  @Override
+  public void reduce(Iterable<T> input, Collector<T> out) throws Exception {
+    T superVertexTuple = null;
+
+    for (T inputTuple : input) {
+      if (superVertexTuple == null) {
+        // Keep the first partial super-vertex.
+        superVertexTuple = inputTuple.copy();
+      } else {
+        // Merge the aggregate values of every other partial super-vertex.
+        callAggregateFunctions(superVertexTuple, inputTuple);
+        // Return a mapping from the partial super-vertex to the merged one.
+        final GradoopId superVertexId = superVertexTuple.getField(VERTEX_TUPLE_ID);
+        inputTuple.setField(superVertexId, VERTEX_TUPLE_SUPERID);
+        out.collect(inputTuple);
+      }
+    }
+    if (superVertexTuple == null) {
+      // This should not happen, since the reduce function can not be called on an empty group.
+      throw new IllegalStateException(
+        "Super-vertex was not initialized. Do not call this function on empty groups.");
+    }
+    out.collect(superVertexTuple);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_ID;
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_SUPERID;
+
+/**
+ * Reduce vertex tuples to a single super-vertex tuple per group, calculating aggregate values and
+ * assigning a new super-vertex ID. Unlike {@link ReduceVertexTuples}, this function does not output
+ * the vertex tuples of the group and can therefore be combined before the reduce step.
+ *
+ * @param <T> The tuple type.
+ */
+public class ReduceSuperVertexTuples<T extends Tuple> extends ReduceElementTuples<T>
+  implements GroupCombineFunction<T, T> {
+
+  /**
+   * Initialize this reduce function.
+   *
+   * @param tupleDataOffset    The data offset of the tuple. This will be
+   *                           {@value GroupingConstants#VERTEX_TUPLE_RESERVED} {@code +}
+   *                           the number of the grouping keys.
+   *
+   * @param aggregateFunctions The vertex aggregate functions.
+   */
+  public ReduceSuperVertexTuples(int tupleDataOffset, List<AggregateFunction> aggregateFunctions) {
+    super(tupleDataOffset, aggregateFunctions);
+  }
+
+  @Override
+  public void combine(Iterable<T> values, Collector<T> out) throws Exception {
+    out.collect(aggregate(values));
+  }
+
+  @Override
+  public void reduce(Iterable<T> input, Collector<T> out) throws Exception {
+    T superVertexTuple = aggregate(input);
+    GradoopId superVertexId = GradoopId.get();
+    superVertexTuple.setField(superVertexId, VERTEX_TUPLE_ID);
+    superVertexTuple.setField(superVertexId, VERTEX_TUPLE_SUPERID);
+    out.collect(superVertexTuple);
+  }
+
+  /**
+   * Calculate the aggregate values of a group of tuples.
+   *
+   * @param input The tuples of the group.
+   * @return A tuple storing the keys and aggregate values of the group.
+   */
+  private T aggregate(Iterable<T> input) {
+    T first = null;
+    for (T inputTuple : input) {
+      if (first == null) {
+        first = inputTuple.copy();
+      } else {
+        callAggregateFunctions(first, inputTuple);
+      }
+    }
+    if (first == null) {
+      // This should not happen, since the reduce function can not be called on an empty group.
+      throw new IllegalStateException(
+        "Super-vertex was not initialized. Do not call this function on empty groups.");
+    }
+    return first;
+  }
+}
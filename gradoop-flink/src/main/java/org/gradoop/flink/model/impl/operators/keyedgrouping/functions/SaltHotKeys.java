@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Assign a salt to vertex tuples with a hot grouping key. The salt is stored in the (not yet used)
+ * super-vertex ID field, which allows tuples of a hot key to be grouped into several sub-groups.
+ * Tuples of all other keys get the same default salt.
+ * <p>
+ * The hot keys are read from a broadcast set of tuples containing the keys at the same positions.
+ *
+ * @param <T> The tuple type.
+ */
+public class SaltHotKeys<T extends Tuple> extends RichMapFunction<T, T> {
+
+  /**
+   * Broadcast set identifier for the hot keys.
+   */
+  public static final String HOT_KEYS = "hotKeys";
+
+  /**
+   * The positions of the grouping keys in the tuple.
+   */
+  private final int[] keyFields;
+
+  /**
+   * The salts used for tuples with a hot key.
+   */
+  private final GradoopId[] salts;
+
+  /**
+   * The values of all hot keys.
+   */
+  private Set<List<Object>> hotKeys;
+
+  /**
+   * Initialize this salting function.
+   *
+   * @param keyFields The positions of the grouping keys in the tuple.
+   * @param saltCount The number of sub-groups to split each hot key into.
+   */
+  public SaltHotKeys(int[] keyFields, int saltCount) {
+    this.keyFields = keyFields;
+    this.salts = new GradoopId[saltCount];
+    for (int i = 0; i < saltCount; i++) {
+      salts[i] = GradoopId.get();
+    }
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    hotKeys = new HashSet<>();
+    for (T hotKey : getRuntimeContext().<T>getBroadcastVariable(HOT_KEYS)) {
+      hotKeys.add(GroupingKeyValues.of(hotKey, keyFields));
+    }
+  }
+
+  @Override
+  public T map(T tuple) throws Exception {
+    if (!hotKeys.isEmpty() && hotKeys.contains(GroupingKeyValues.of(tuple, keyFields))) {
+      final GradoopId id = tuple.getField(GroupingConstants.VERTEX_TUPLE_ID);
+      tuple.setField(salts[Math.floorMod(id.hashCode(), salts.length)],
+        GroupingConstants.VERTEX_TUPLE_SUPERID);
+    } else {
+      tuple.setField(GradoopId.NULL_VALUE, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    }
+    return tuple;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+
+/**
+ * Select the grouping keys occurring at least a certain number of times in a (sampled) set of tuples.
+ * The first tuple of each group reaching the threshold is returned as a representative of the key.
+ *
+ * @param <T> The tuple type.
+ */
+public class SelectHotKeys<T extends Tuple> implements GroupReduceFunction<T, T> {
+
+  /**
+   * The minimum number of tuples per key for the key to be selected.
+   */
+  private final long threshold;
+
+  /**
+   * Initialize this reduce function.
+   *
+   * @param threshold The minimum number of tuples per key for the key to be selected.
+   */
+  public SelectHotKeys(long threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void reduce(Iterable<T> input, Collector<T> out) throws Exception {
+    T representative = null;
+    long count = 0L;
+    for (T inputTuple : input) {
+      if (representative == null) {
+        representative = inputTuple.copy();
+      }
+      count++;
+    }
+    if (representative != null && count >= threshold) {
+      out.collect(representative);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replace the super-vertex ID of vertex tuples pointing to a partial super-vertex by the ID of the
+ * merged super-vertex. Tuples pointing to any other super-vertex are left unchanged.
+ * <p>
+ * The mapping is read from a broadcast set of {@link Tuple2 tuples} storing the partial and the
+ * merged super-vertex ID.
+ *
+ * @param <T> The tuple type.
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class UpdateSuperVertexIds<T extends Tuple> extends RichMapFunction<T, T> {
+
+  /**
+   * Broadcast set identifier for the mapping from partial to merged super-vertex IDs.
+   */
+  public static final String PARTIAL_SUPER_IDS = "partialSuperIds";
+
+  /**
+   * The mapping from partial to merged super-vertex IDs.
+   */
+  private Map<GradoopId, GradoopId> partialToSuperId;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    partialToSuperId = new HashMap<>();
+    for (Tuple2<GradoopId, GradoopId> mapping : getRuntimeContext()
+      .<Tuple2<GradoopId, GradoopId>>getBroadcastVariable(PARTIAL_SUPER_IDS)) {
+      partialToSuperId.put(mapping.f0, mapping.f1);
+    }
+  }
+
+  @Override
+  public T map(T tuple) throws Exception {
+    final GradoopId superId = partialToSuperId.get(tuple.getField(GroupingConstants.VERTEX_TUPLE_SUPERID));
+    if (superId != null) {
+      tuple.setField(superId, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    }
+    return tuple;
+  }
+}
@@ -24,10 +24,13 @@ import java.util.Objects;
 
 /**
  * A grouping key function extracting a property value with a certain type.
+ * <p>
+ * Keys are compared by the {@link org.gradoop.common.model.impl.properties.PropertyValueComparator}
+ * on their serialized form.
  *
  * @param <T> The type of the elements to group.
  */
-public class PropertyKeyFunction<T extends Attributed> implements KeyFunctionWithDefaultValue<T, byte[]> {
+public class PropertyKeyFunction<T extends Attributed> implements KeyFunctionWithDefaultValue<T, PropertyValue> {
 
   /**
    * The key of the property to group by.
@@ -44,26 +47,26 @@ public class PropertyKeyFunction<T extends Attributed> implements KeyFunctionWit
   }
 
   @Override
-  public byte[] getKey(T element) {
+  public PropertyValue getKey(T element) {
     final PropertyValue value = element.getPropertyValue(propertyKey);
-    return value == null ? PropertyValue.NULL_VALUE.getRawBytes() : value.getRawBytes();
+    return value == null ? getDefaultKey() : value;
   }
 
   @Override
   public void addKeyToElement(T element, Object key) {
-    if (!(key instanceof byte[])) {
+    if (!(key instanceof PropertyValue)) {
       throw new IllegalArgumentException("Invalid type for key: " + key.getClass().getSimpleName());
     }
-    element.setProperty(propertyKey, PropertyValue.fromRawBytes((byte[]) key));
+    element.setProperty(propertyKey, (PropertyValue) key);
   }
 
   @Override
-  public TypeInformation<byte[]> getType() {
-    return TypeInformation.of(byte[].class);
+  public TypeInformation<PropertyValue> getType() {
+    return TypeInformation.of(PropertyValue.class);
   }
 
   @Override
-  public byte[] getDefaultKey() {
-    return PropertyValue.NULL_VALUE.getRawBytes();
+  public PropertyValue getDefaultKey() {
+    return PropertyValue.NULL_VALUE.copy();
   }
 }
@@ -260,6 +260,17 @@ public class QueryHandler {
     return edgeCache.containsKey(variable);
   }
 
+  /**
+   * Checks if the given variable of an edge was generated by the parser, i.e. the edge is
+   * anonymous in the query and can not be referenced by predicates.
+   *
+   * @param variable the edges variable
+   * @return True if the variable was generated for an anonymous edge
+   */
+  public boolean isAnonymousEdge(String variable) {
+    return gdlHandler.getEdgeCache(false, true).containsKey(variable);
+  }
+
   /**
    * Returns the vertex associated with the given id or {@code null} if the
    * vertex does not exist.
@@ -84,6 +84,14 @@ public class GraphStatistics {
    * Number of distinct vertex property values for property names
    */
   private Map<String, Long> distinctVertexProperties;
+  /**
+   * Value distribution of edge properties of a given label - property name pair
+   */
+  private Map<String, Map<String, PropertyHistogram>> edgePropertyHistogramsByLabel;
+  /**
+   * Value distribution of vertex properties of a given label - property name pair
+   */
+  private Map<String, Map<String, PropertyHistogram>> vertexPropertyHistogramsByLabel;
 
   /**
    * Constructor using basic statistics.
@@ -108,6 +116,8 @@ public class GraphStatistics {
       Collections.emptyMap(),
       Collections.emptyMap(),
       Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap(),
       Collections.emptyMap());
   }
 
@@ -128,6 +138,8 @@ public class GraphStatistics {
    * @param distinctVertexPropertiesByLabel {@code (label,property) -> distinct values}
    * @param distinctEdgeProperties {@code (edge property) -> distinct values}
    * @param distinctVertexProperties {@code (vertex property) -> distinct values}
+   * @param edgePropertyHistogramsByLabel {@code (label,property) -> value distribution}
+   * @param vertexPropertyHistogramsByLabel {@code (label,property) -> value distribution}
    */
   GraphStatistics(long vertexCount, long edgeCount, Map<String, Long> vertexCountByLabel,
     Map<String, Long> edgeCountByLabel,
@@ -139,7 +151,9 @@ public class GraphStatistics {
     Map<String, Map<String, Long>> distinctEdgePropertiesByLabel,
     Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
     Map<String, Long> distinctEdgeProperties,
-    Map<String, Long> distinctVertexProperties) {
+    Map<String, Long> distinctVertexProperties,
+    Map<String, Map<String, PropertyHistogram>> edgePropertyHistogramsByLabel,
+    Map<String, Map<String, PropertyHistogram>> vertexPropertyHistogramsByLabel) {
     this.vertexCount = vertexCount;
     this.edgeCount = edgeCount;
     this.vertexCountByLabel = vertexCountByLabel;
@@ -154,6 +168,8 @@ public class GraphStatistics {
     this.distinctVertexPropertiesByLabel = distinctVertexPropertiesByLabel;
     this.distinctEdgeProperties = distinctEdgeProperties;
     this.distinctVertexProperties = distinctVertexProperties;
+    this.edgePropertyHistogramsByLabel = edgePropertyHistogramsByLabel;
+    this.vertexPropertyHistogramsByLabel = vertexPropertyHistogramsByLabel;
   }
 
   /**
@@ -306,6 +322,30 @@ public class GraphStatistics {
       distinctEdgePropertiesByLabel.get(edgeLabel).getOrDefault(propertyName, 0L) : 0;
   }
 
+  /**
+   * Returns the value distribution of the given vertex label property name pair.
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return value distribution or {@code null}, if there is none for the pair
+   */
+  public PropertyHistogram getVertexPropertyHistogram(String vertexLabel, String propertyName) {
+    return vertexPropertyHistogramsByLabel.containsKey(vertexLabel) ?
+      vertexPropertyHistogramsByLabel.get(vertexLabel).get(propertyName) : null;
+  }
+
+  /**
+   * Returns the value distribution of the given edge label property name pair.
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return value distribution or {@code null}, if there is none for the pair
+   */
+  public PropertyHistogram getEdgePropertyHistogram(String edgeLabel, String propertyName) {
+    return edgePropertyHistogramsByLabel.containsKey(edgeLabel) ?
+      edgePropertyHistogramsByLabel.get(edgeLabel).get(propertyName) : null;
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("GraphStatistics{");
@@ -337,6 +377,10 @@ public class GraphStatistics {
       .append(distinctVertexPropertiesByLabel);
     sb.append(String.format(",%n distinctEdgePropertiesByLabel="))
       .append(distinctEdgePropertiesByLabel);
+    sb.append(String.format(",%n vertexPropertyHistogramsByLabel="))
+      .append(vertexPropertyHistogramsByLabel);
+    sb.append(String.format(",%n edgePropertyHistogramsByLabel="))
+      .append(edgePropertyHistogramsByLabel);
 
     sb.append(String.format("%n}"));
     return sb.toString();
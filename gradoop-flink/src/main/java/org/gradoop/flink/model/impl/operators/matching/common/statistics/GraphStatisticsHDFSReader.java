@@ -24,7 +24,9 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Reads {@link GraphStatistics} from dedicated files in HDFS.
@@ -34,7 +36,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * property histogram files are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -61,6 +64,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
     Map<String, Map<String, Long>> distinctPropertyValuesByVertexLabelAndPropertyName;
     Map<String, Long> distinctEdgePropertyValuesByPropertyName;
     Map<String, Long> distinctVertexPropertyValuesByPropertyName;
+    Map<String, Map<String, PropertyHistogram>> edgePropertyHistogramsByLabel;
+    Map<String, Map<String, PropertyHistogram>> vertexPropertyHistogramsByLabel;
 
     Path p = new Path(root, GraphStatisticsReader.FILE_VERTEX_COUNT);
     try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
@@ -136,11 +141,53 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
+    edgePropertyHistogramsByLabel = readPropertyHistograms(fs, root, charset,
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL,
+      GraphStatisticsReader.FILE_EDGE_MOST_COMMON_PROPERTY_VALUES_BY_LABEL);
+
+    vertexPropertyHistogramsByLabel = readPropertyHistograms(fs, root, charset,
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL,
+      GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_PROPERTY_VALUES_BY_LABEL);
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
-      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel, vertexPropertyHistogramsByLabel);
+  }
+
+  /**
+   * Reads property histograms from the given files, if they exist.
+   *
+   * @param fs file system
+   * @param root directory containing statistics files
+   * @param charset file charset
+   * @param histogramFile name of the histogram file
+   * @param mostCommonValueFile name of the most common values file
+   * @return nested property histogram map
+   * @throws IOException if an I/O error occurs opening the files
+   */
+  private static Map<String, Map<String, PropertyHistogram>> readPropertyHistograms(
+    FileSystem fs, Path root, Charset charset, String histogramFile, String mostCommonValueFile)
+    throws IOException {
+    Path histograms = new Path(root, histogramFile);
+    Path mostCommonValues = new Path(root, mostCommonValueFile);
+    if (!fs.exists(histograms)) {
+      return Collections.emptyMap();
+    }
+    if (!fs.exists(mostCommonValues)) {
+      try (BufferedReader br =
+        new BufferedReader(new InputStreamReader(fs.open(histograms), charset))) {
+        return readPropertyHistograms(br.lines(), Stream.empty());
+      }
+    }
+    try (BufferedReader br =
+      new BufferedReader(new InputStreamReader(fs.open(histograms), charset));
+      BufferedReader mcv =
+        new BufferedReader(new InputStreamReader(fs.open(mostCommonValues), charset))) {
+      return readPropertyHistograms(br.lines(), mcv.lines());
+    }
   }
 }
@@ -22,7 +22,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Reads {@link GraphStatistics} from dedicated files in the local file system.
@@ -32,7 +34,8 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * property histogram files are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -99,6 +102,16 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
+    Map<String, Map<String, PropertyHistogram>> edgePropertyHistogramsByLabel =
+      readPropertyHistograms(statisticsDir, charset,
+        GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL,
+        GraphStatisticsReader.FILE_EDGE_MOST_COMMON_PROPERTY_VALUES_BY_LABEL);
+
+    Map<String, Map<String, PropertyHistogram>> vertexPropertyHistogramsByLabel =
+      readPropertyHistograms(statisticsDir, charset,
+        GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL,
+        GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_PROPERTY_VALUES_BY_LABEL);
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
@@ -106,7 +119,31 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
-      distinctVertexPropertyValuesByPropertyName);
+      distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel,
+      vertexPropertyHistogramsByLabel);
+  }
+
+  /**
+   * Reads property histograms from the given files, if they exist.
+   *
+   * @param statisticsDir directory containing statistics files
+   * @param charset file charset
+   * @param histogramFile name of the histogram file
+   * @param mostCommonValueFile name of the most common values file
+   * @return nested property histogram map
+   * @throws IOException if an I/O error occurs opening the files
+   */
+  private static Map<String, Map<String, PropertyHistogram>> readPropertyHistograms(
+    Path statisticsDir, Charset charset, String histogramFile, String mostCommonValueFile)
+    throws IOException {
+    Path histograms = statisticsDir.resolve(Paths.get(histogramFile));
+    Path mostCommonValues = statisticsDir.resolve(Paths.get(mostCommonValueFile));
+    if (!Files.exists(histograms)) {
+      return Collections.emptyMap();
+    }
+    return readPropertyHistograms(Files.lines(histograms, charset),
+      Files.exists(mostCommonValues) ? Files.lines(mostCommonValues, charset) : Stream.empty());
   }
 
 }
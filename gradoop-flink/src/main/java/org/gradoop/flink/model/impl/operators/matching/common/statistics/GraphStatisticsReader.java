@@ -15,8 +15,15 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.apache.flink.util.StringUtils;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -195,6 +202,54 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Each line contains the edge label, a property name, the number of non-null values, the
+   * number of distinct values and the bucket bounds of an equi-depth histogram over all values
+   * which are not listed in {@link #FILE_EDGE_MOST_COMMON_PROPERTY_VALUES_BY_LABEL}. Values are
+   * encoded as hex strings of their byte representation, e.g.
+   *
+   * BOF
+   * knows,since,10,3,02000007dd,02000007dd,02000007df
+   * EOF
+   */
+  public static final String FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "edge_property_histograms_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, the number of non-null values, the
+   * number of distinct values and the bucket bounds of an equi-depth histogram over all values
+   * which are not listed in {@link #FILE_VERTEX_MOST_COMMON_PROPERTY_VALUES_BY_LABEL}. Values
+   * are encoded as hex strings of their byte representation, e.g.
+   *
+   * BOF
+   * Person,age,6,4,0200000014,0200000014,0200000028
+   * EOF
+   */
+  public static final String FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "vertex_property_histograms_by_label";
+
+  /**
+   * Each line contains the edge label, a property name, one of the most common values and its
+   * frequency. Values are encoded as hex strings of their byte representation, e.g.
+   *
+   * BOF
+   * knows,since,02000007de,4
+   * EOF
+   */
+  public static final String FILE_EDGE_MOST_COMMON_PROPERTY_VALUES_BY_LABEL =
+    "edge_most_common_property_values_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, one of the most common values and its
+   * frequency. Values are encoded as hex strings of their byte representation, e.g.
+   *
+   * BOF
+   * Person,city,064472657364656e,3
+   * EOF
+   */
+  public static final String FILE_VERTEX_MOST_COMMON_PROPERTY_VALUES_BY_LABEL =
+    "vertex_most_common_property_values_by_label";
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -251,4 +306,45 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads property histograms grouped by label and property name from the given files.
+   *
+   * @param histogramLines stream of lines in the histogram file
+   * @param mostCommonValueLines stream of lines in the most common values file
+   * @return nested property histogram map
+   * @throws IOException if an I/O error occurs opening the files
+   */
+  static Map<String, Map<String, PropertyHistogram>> readPropertyHistograms(
+    Stream<String> histogramLines, Stream<String> mostCommonValueLines) throws IOException {
+
+    final Map<String, Map<String, Map<PropertyValue, Long>>> mostCommonValues = new HashMap<>();
+
+    mostCommonValueLines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> mostCommonValues
+        .computeIfAbsent(tokens[0], label -> new HashMap<>())
+        .computeIfAbsent(tokens[1], propertyName -> new LinkedHashMap<>())
+        .put(PropertyValue.fromRawBytes(StringUtils.hexStringToByte(tokens[2])),
+          Long.parseLong(tokens[3])));
+
+    final Map<String, Map<String, PropertyHistogram>> mapping = new HashMap<>();
+
+    histogramLines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> {
+        List<PropertyValue> bounds = new ArrayList<>();
+        for (int i = 4; i < tokens.length; i++) {
+          bounds.add(PropertyValue.fromRawBytes(StringUtils.hexStringToByte(tokens[i])));
+        }
+        Map<PropertyValue, Long> values = mostCommonValues
+          .getOrDefault(tokens[0], Collections.emptyMap())
+          .getOrDefault(tokens[1], new LinkedHashMap<>());
+        mapping.computeIfAbsent(tokens[0], label -> new HashMap<>())
+          .put(tokens[1], new PropertyHistogram(Long.parseLong(tokens[2]),
+            Long.parseLong(tokens[3]), bounds, values));
+      });
+
+    return mapping;
+  }
 }
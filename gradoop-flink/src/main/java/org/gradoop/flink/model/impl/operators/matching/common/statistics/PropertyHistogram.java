@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes the value distribution of a single property of elements with a specific label.<p>
+ * The distribution consists of a list of most common values with their frequencies and an
+ * equi-depth histogram over all remaining values. The histogram is represented by its bucket
+ * bounds, i.e. {@code n + 1} sorted values split the values into {@code n} buckets containing
+ * roughly the same number of values.
+ */
+public class PropertyHistogram implements Value {
+  /**
+   * Number of non-null values
+   */
+  private long count;
+  /**
+   * Number of distinct non-null values
+   */
+  private long distinctCount;
+  /**
+   * Sorted bucket bounds of the histogram over all values which are not most common values
+   */
+  private List<PropertyValue> bounds;
+  /**
+   * Most common values and their frequencies, ordered by descending frequency
+   */
+  private Map<PropertyValue, Long> mostCommonValues;
+
+  /**
+   * Default constructor for serialization.
+   */
+  public PropertyHistogram() {
+    this(0L, 0L, new ArrayList<>(), new LinkedHashMap<>());
+  }
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param count number of non-null values
+   * @param distinctCount number of distinct non-null values
+   * @param bounds sorted bucket bounds of the histogram
+   * @param mostCommonValues most common values and their frequencies
+   */
+  public PropertyHistogram(long count, long distinctCount, List<PropertyValue> bounds,
+    Map<PropertyValue, Long> mostCommonValues) {
+    this.count = count;
+    this.distinctCount = distinctCount;
+    this.bounds = bounds;
+    this.mostCommonValues = mostCommonValues;
+  }
+
+  /**
+   * Returns the number of non-null values.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the number of distinct non-null values.
+   *
+   * @return number of distinct values
+   */
+  public long getDistinctCount() {
+    return distinctCount;
+  }
+
+  /**
+   * Returns the sorted bucket bounds of the histogram. All bounds have the same type.
+   *
+   * @return bucket bounds
+   */
+  public List<PropertyValue> getBounds() {
+    return bounds;
+  }
+
+  /**
+   * Returns the most common values and their frequencies.
+   *
+   * @return most common values
+   */
+  public Map<PropertyValue, Long> getMostCommonValues() {
+    return mostCommonValues;
+  }
+
+  /**
+   * Checks if the given value can be compared to the values described by the histogram.
+   *
+   * @param value property value
+   * @return true, iff the value can be compared to the histogram values
+   */
+  public boolean isComparable(PropertyValue value) {
+    PropertyValue sample = !bounds.isEmpty() ? bounds.get(0) :
+      !mostCommonValues.isEmpty() ? mostCommonValues.keySet().iterator().next() : null;
+    return sample != null && isComparable(sample, value);
+  }
+
+  /**
+   * Checks if two property values can be compared, i.e. if they are of the same type or both
+   * numeric.
+   *
+   * @param first first property value
+   * @param second second property value
+   * @return true, iff both values can be compared
+   */
+  public static boolean isComparable(PropertyValue first, PropertyValue second) {
+    return !first.isNull() && !second.isNull() &&
+      (first.getType().equals(second.getType()) || (first.isNumber() && second.isNumber()));
+  }
+
+  /**
+   * Estimates the number of values equal to the given value.
+   *
+   * @param value property value
+   * @return estimated number of equal values
+   */
+  public double estimateEqual(PropertyValue value) {
+    for (Map.Entry<PropertyValue, Long> mostCommonValue : mostCommonValues.entrySet()) {
+      if (isComparable(mostCommonValue.getKey(), value) &&
+        mostCommonValue.getKey().compareTo(value) == 0) {
+        return mostCommonValue.getValue();
+      }
+    }
+    long remainingDistinct = distinctCount - mostCommonValues.size();
+    return remainingDistinct > 0 ? (double) getHistogramCount() / remainingDistinct : 0d;
+  }
+
+  /**
+   * Estimates the number of values smaller than the given value.
+   *
+   * @param value property value
+   * @param inclusive true, iff values equal to the given value are counted as well
+   * @return estimated number of smaller values
+   */
+  public double estimateLessThan(PropertyValue value, boolean inclusive) {
+    double result = 0d;
+    for (Map.Entry<PropertyValue, Long> mostCommonValue : mostCommonValues.entrySet()) {
+      if (isComparable(mostCommonValue.getKey(), value)) {
+        int comparison = mostCommonValue.getKey().compareTo(value);
+        if (comparison < 0 || (inclusive && comparison == 0)) {
+          result += mostCommonValue.getValue();
+        }
+      }
+    }
+    return result + getHistogramCount() * getHistogramFraction(value, inclusive);
+  }
+
+  /**
+   * Estimates the number of values greater than the given value.
+   *
+   * @param value property value
+   * @param inclusive true, iff values equal to the given value are counted as well
+   * @return estimated number of greater values
+   */
+  public double estimateGreaterThan(PropertyValue value, boolean inclusive) {
+    return Math.max(0d, count - estimateLessThan(value, !inclusive));
+  }
+
+  /**
+   * Returns the number of values represented by the histogram buckets.
+   *
+   * @return number of values which are not most common values
+   */
+  private long getHistogramCount() {
+    long result = count;
+    for (long frequency : mostCommonValues.values()) {
+      result -= frequency;
+    }
+    return Math.max(0L, result);
+  }
+
+  /**
+   * Returns the fraction of histogram values smaller than the given value. Within a bucket, the
+   * values are assumed to be uniformly distributed.
+   *
+   * @param value property value
+   * @param inclusive true, iff values equal to the given value are counted as well
+   * @return fraction of smaller values
+   */
+  private double getHistogramFraction(PropertyValue value, boolean inclusive) {
+    if (bounds.isEmpty() || !isComparable(bounds.get(0), value)) {
+      return 0d;
+    }
+    int lower = value.compareTo(bounds.get(0));
+    if (lower < 0 || (lower == 0 && !inclusive)) {
+      return 0d;
+    }
+    int upper = value.compareTo(bounds.get(bounds.size() - 1));
+    if (upper > 0 || (upper == 0 && inclusive)) {
+      return 1d;
+    }
+    int buckets = bounds.size() - 1;
+    int bucket = 1;
+    while (bucket < buckets && value.compareTo(bounds.get(bucket)) >= 0) {
+      bucket++;
+    }
+    return (bucket - 1 + interpolate(bounds.get(bucket - 1), bounds.get(bucket), value)) /
+      buckets;
+  }
+
+  /**
+   * Returns the relative position of a value between two bucket bounds. Non-numeric values are
+   * assumed to be in the middle of the bucket.
+   *
+   * @param lower lower bucket bound
+   * @param upper upper bucket bound
+   * @param value property value
+   * @return relative position in {@code [0, 1]}
+   */
+  private static double interpolate(PropertyValue lower, PropertyValue upper,
+    PropertyValue value) {
+    if (!lower.isNumber() || !upper.isNumber() || !value.isNumber()) {
+      return 0.5d;
+    }
+    double low = ((Number) lower.getObject()).doubleValue();
+    double high = ((Number) upper.getObject()).doubleValue();
+    double position = ((Number) value.getObject()).doubleValue();
+    return high > low ? Math.min(1d, Math.max(0d, (position - low) / (high - low))) : 0.5d;
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeLong(count);
+    out.writeLong(distinctCount);
+    out.writeInt(bounds.size());
+    for (PropertyValue bound : bounds) {
+      bound.write(out);
+    }
+    out.writeInt(mostCommonValues.size());
+    for (Map.Entry<PropertyValue, Long> mostCommonValue : mostCommonValues.entrySet()) {
+      mostCommonValue.getKey().write(out);
+      out.writeLong(mostCommonValue.getValue());
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    count = in.readLong();
+    distinctCount = in.readLong();
+    int boundCount = in.readInt();
+    bounds = new ArrayList<>(boundCount);
+    for (int i = 0; i < boundCount; i++) {
+      PropertyValue bound = new PropertyValue();
+      bound.read(in);
+      bounds.add(bound);
+    }
+    int mostCommonValueCount = in.readInt();
+    mostCommonValues = new LinkedHashMap<>(mostCommonValueCount);
+    for (int i = 0; i < mostCommonValueCount; i++) {
+      PropertyValue value = new PropertyValue();
+      value.read(in);
+      mostCommonValues.put(value, in.readLong());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("PropertyHistogram{count=%d, distinctCount=%d, bounds=%s, " +
+      "mostCommonValues=%s}", count, distinctCount, bounds, mostCommonValues);
+  }
+}
@@ -33,6 +33,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.Print
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamicprogramming.DynamicProgrammingPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
@@ -79,6 +80,16 @@ public class CypherPatternMatching<
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Maximum number of query vertices and edges planned by the {@link DynamicProgrammingPlanner},
+   * {@code 0} to always use the {@link GreedyPlanner}
+   */
+  private final int dynamicProgrammingLimit;
+  /**
+   * True, if anonymous variable length paths may be matched by a single path per pair of
+   * endpoints, see {@link GreedyPlanner}
+   */
+  private final boolean reachability;
 
   /**
    * Instantiates a new operator.
@@ -106,11 +117,58 @@ public class CypherPatternMatching<
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics, 0);
+  }
+
+  /**
+   * Instantiates a new operator. Queries with at most the given number of vertices and edges are
+   * planned by the {@link DynamicProgrammingPlanner}, larger queries by the {@link GreedyPlanner}.
+   *
+   * @param query                   Cypher query string
+   * @param constructionPattern     Construction pattern
+   * @param attachData              true, if original data shall be attached to the result
+   * @param vertexStrategy          morphism strategy for vertex mappings
+   * @param edgeStrategy            morphism strategy for edge mappings
+   * @param graphStatistics         statistics about the data graph
+   * @param dynamicProgrammingLimit maximum number of query vertices and edges that are planned by
+   *                                dynamic programming, {@code 0} to always plan greedily
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    int dynamicProgrammingLimit) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      dynamicProgrammingLimit, false);
+  }
+
+  /**
+   * Instantiates a new operator. Queries with at most the given number of vertices and edges are
+   * planned by the {@link DynamicProgrammingPlanner}, larger queries by the {@link GreedyPlanner}.
+   * <p>
+   * If reachability is enabled and vertices and edges are matched homomorphically, an anonymous
+   * variable length path with a lower bound of at most 1 is matched by a single path for each pair
+   * of endpoints instead of all paths between them.
+   *
+   * @param query                   Cypher query string
+   * @param constructionPattern     Construction pattern
+   * @param attachData              true, if original data shall be attached to the result
+   * @param vertexStrategy          morphism strategy for vertex mappings
+   * @param edgeStrategy            morphism strategy for edge mappings
+   * @param graphStatistics         statistics about the data graph
+   * @param dynamicProgrammingLimit maximum number of query vertices and edges that are planned by
+   *                                dynamic programming, {@code 0} to always plan greedily
+   * @param reachability            true, if anonymous variable length paths may be evaluated by
+   *                                reachability
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    int dynamicProgrammingLimit, boolean reachability) {
     super(query, attachData, LOG);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.dynamicProgrammingLimit = dynamicProgrammingLimit;
+    this.reachability = reachability;
   }
 
   @Override
@@ -122,9 +180,12 @@ public class CypherPatternMatching<
   protected GC executeForPattern(LG graph) {
     // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner<>(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+    GreedyPlanner<G, V, E, LG, GC> planner = dynamicProgrammingLimit > 0 ?
+      new DynamicProgrammingPlanner<>(graph, queryHandler, graphStatistics, vertexStrategy,
+        edgeStrategy, dynamicProgrammingLimit, reachability) :
+      new GreedyPlanner<>(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+        reachability);
+    QueryPlan plan = planner.plan().getQueryPlan();
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ReverseEdgeEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AdoptEmptyPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AppendReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AttachPathTarget;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractEndpoints;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractKeyedCandidateEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.GrowHalfPath;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.InitHalfPath;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeHalfPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+import java.util.List;
+
+/**
+ * Expands a vertex along the edges towards a vertex that is already bound in the input
+ * embedding (closing column). The input embedding is appended by 2 Entries, the first one
+ * represents the path (edge, vertex, edge, vertex, ..., edge), the second one the end vertex.
+ * <p>
+ * Instead of growing paths from the start vertex up to the upper bound {@code k}, half paths are
+ * grown from the distinct start vertices to depth {@code ceil(k/2)} and, along the reversed edges,
+ * from the distinct end vertices to depth {@code floor(k/2)}. The halves are joined on the
+ * (start, end) pairs of the input and on the vertex they meet at. A path of length {@code l} is
+ * only built from a forward half of length {@code ceil(l/2)} and a backward half of length
+ * {@code floor(l/2)}, so every path is produced exactly once.
+ * <p>
+ * The number of intermediate paths grows with the fan-out to the power of {@code k/2} instead of
+ * {@code k}, which pays off if both endpoints are selective.
+ */
+public class ExpandEmbeddingsBidirectional implements PhysicalOperator {
+  /**
+   * Input Embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Candidate edges
+   */
+  private final DataSet<Embedding> candidateEdges;
+  /**
+   * specifies the input column that will be expanded
+   */
+  private final int expandColumn;
+  /**
+   * minimum hops
+   */
+  private final int lowerBound;
+  /**
+   * maximum hops
+   */
+  private final int upperBound;
+  /**
+   * expand direction
+   */
+  private final ExpandDirection direction;
+  /**
+   * Holds indices of input vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertexColumns;
+  /**
+   * Holds indices of input edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdgeColumns;
+  /**
+   * Define the column which should be equal with the paths end
+   */
+  private final int closingColumn;
+  /**
+   * join hint
+   */
+  private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New Expand Bidirectional Operator
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion (see {@link ExpandDirection})
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   * @param joinHint join strategy
+   */
+  public ExpandEmbeddingsBidirectional(DataSet<Embedding> input,
+    DataSet<Embedding> candidateEdges, int expandColumn, int lowerBound, int upperBound,
+    ExpandDirection direction, List<Integer> distinctVertexColumns,
+    List<Integer> distinctEdgeColumns, int closingColumn, JoinOperatorBase.JoinHint joinHint) {
+    if (closingColumn < 0) {
+      throw new IllegalArgumentException(
+        "Bidirectional expansion requires the end vertex to be bound by a closing column.");
+    }
+    if (upperBound == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        "Bidirectional expansion does not support an unbounded path length.");
+    }
+    this.input = input;
+    this.candidateEdges = candidateEdges;
+    this.expandColumn = expandColumn;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.direction = direction;
+    this.distinctVertexColumns = distinctVertexColumns;
+    this.distinctEdgeColumns = distinctEdgeColumns;
+    this.closingColumn = closingColumn;
+    this.joinHint = joinHint;
+    this.setName("ExpandEmbeddingsBidirectional");
+  }
+
+  /**
+   * New Expand Bidirectional Operator with default join strategy
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion (see {@link ExpandDirection})
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   */
+  public ExpandEmbeddingsBidirectional(DataSet<Embedding> input,
+    DataSet<Embedding> candidateEdges, int expandColumn, int lowerBound, int upperBound,
+    ExpandDirection direction, List<Integer> distinctVertexColumns,
+    List<Integer> distinctEdgeColumns, int closingColumn) {
+    this(input, candidateEdges, expandColumn, lowerBound, upperBound, direction,
+      distinctVertexColumns, distinctEdgeColumns, closingColumn,
+      JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<Embedding> reversedEdges = candidateEdges
+      .map(new ReverseEdgeEmbedding())
+      .name(getName() + " - Reverse Edges");
+
+    DataSet<Embedding> forwardEdges = direction == ExpandDirection.IN ?
+      reversedEdges : candidateEdges;
+    DataSet<Embedding> backwardEdges = direction == ExpandDirection.IN ?
+      candidateEdges : reversedEdges;
+
+    boolean distinctVertices = !distinctVertexColumns.isEmpty();
+    boolean distinctEdges = !distinctEdgeColumns.isEmpty();
+
+    DataSet<ReachableVertex> forwardPaths = expand(
+      input
+        .distinct(new ExtractExpandColumn(expandColumn))
+        .name(getName() + " - Distinct start vertices")
+        .map(new InitHalfPath(expandColumn))
+        .name(getName() + " - Initialize forward paths"),
+      toEdgeTuples(forwardEdges, "forward"), (upperBound + 1) / 2, "Forward",
+      distinctVertices, distinctEdges);
+
+    DataSet<ReachableVertex> backwardPaths = expand(
+      input
+        .distinct(new ExtractExpandColumn(closingColumn))
+        .name(getName() + " - Distinct end vertices")
+        .map(new InitHalfPath(closingColumn))
+        .name(getName() + " - Initialize backward paths"),
+      toEdgeTuples(backwardEdges, "backward"), upperBound / 2, "Backward",
+      distinctVertices, distinctEdges);
+
+    DataSet<ReachableVertex> paths = forwardPaths
+      .join(input
+        .distinct(new ExtractEndpoints(expandColumn, closingColumn))
+        .name(getName() + " - Distinct endpoints"), joinHint)
+      .where(0).equalTo(new ExtractExpandColumn(expandColumn))
+      .with(new AttachPathTarget(closingColumn))
+      .name(getName() + " - Attach path targets")
+      .join(backwardPaths, joinHint)
+      .where("f0", "f1.f2").equalTo("f0", "f2")
+      .with(new MergeHalfPaths(lowerBound, upperBound, distinctVertices, distinctEdges))
+      .name(getName() + " - Merge half paths");
+
+    DataSet<Embedding> results = input
+      .join(paths, joinHint)
+      .where(new ExtractEndpoints(expandColumn, closingColumn)).equalTo(0, 2)
+      .with(new AppendReachableVertex(distinctVertexColumns, distinctEdgeColumns, closingColumn))
+      .name(getName() + " - Append paths");
+
+    if (lowerBound == 0) {
+      results = results.union(
+        input
+          .flatMap(new AdoptEmptyPaths(expandColumn, closingColumn))
+          .name(getName() + " - Append empty paths")
+      );
+    }
+
+    return results;
+  }
+
+  /**
+   * Extracts the tie points of the given candidate edges
+   *
+   * @param edges candidate edges
+   * @param side side of the expansion used in the operator names
+   * @return candidate edges with extracted tie point
+   */
+  private DataSet<EdgeWithTiePoint> toEdgeTuples(DataSet<Embedding> edges, String side) {
+    return edges
+      .map(new ExtractKeyedCandidateEdges())
+      .name(getName() + " - Create " + side + " candidate edge tuples")
+      .partitionByHash(0)
+      .name(getName() + " - Partition " + side + " edge tuples");
+  }
+
+  /**
+   * Grows the given half paths along the candidate edges. The expansion depth is at most half of
+   * the upper bound, hence the steps are unrolled instead of using a bulk iteration.
+   *
+   * @param initialPaths empty paths at the vertices to start from
+   * @param edgeTuples candidate edges with extracted tie point
+   * @param depth maximum length of the half paths
+   * @param side side of the expansion used in the operator names
+   * @param distinctVertices true, if the vertices of the path have to be distinct
+   * @param distinctEdges true, if the edges of the path have to be distinct
+   * @return half paths of length 0 to depth
+   */
+  private DataSet<ReachableVertex> expand(DataSet<ReachableVertex> initialPaths,
+    DataSet<EdgeWithTiePoint> edgeTuples, int depth, String side, boolean distinctVertices,
+    boolean distinctEdges) {
+    DataSet<ReachableVertex> paths = initialPaths;
+    DataSet<ReachableVertex> frontier = initialPaths;
+
+    for (int i = 1; i <= depth; i++) {
+      frontier = frontier
+        .join(edgeTuples, joinHint)
+        .where(2).equalTo(0)
+        .with(new GrowHalfPath(distinctVertices, distinctEdges))
+        .name(getName() + " - " + side + " expansion " + i);
+      paths = paths.union(frontier);
+    }
+
+    return paths;
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
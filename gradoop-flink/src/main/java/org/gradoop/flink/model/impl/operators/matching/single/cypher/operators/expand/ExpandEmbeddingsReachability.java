@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ReverseEdgeEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AdoptEmptyPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AppendReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractKeyedCandidateEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FilterUnreachedVertices;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.GrowReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+/**
+ * Expands a vertex along the edges using reachability semantics. In contrast to
+ * {@link ExpandEmbeddings}, only a single (shortest) path is computed for each pair of start and
+ * reachable end vertex. The input embedding is appended by 2 Entries, the first one represents
+ * the path (edge, vertex, edge, vertex, ..., edge), the second one the end vertex.
+ * <p>
+ * The expansion is computed once per distinct start vertex using a {@code DeltaIteration}. Its
+ * solution set contains the (start, end) pairs reached so far and the working set contains the
+ * pairs reached in the previous step. New pairs are deduplicated and pairs already contained in
+ * the solution set are dropped, so each vertex is expanded at most once per start vertex and the
+ * iteration terminates as soon as no new vertices are reached, regardless of the upper bound.
+ * <p>
+ * The semantics are only equivalent to the path semantics under vertex and edge homomorphism,
+ * if the path itself is not relevant, and for a lower bound of at most 1.
+ */
+public class ExpandEmbeddingsReachability implements PhysicalOperator {
+  /**
+   * Input Embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Candidate edges
+   */
+  private DataSet<Embedding> candidateEdges;
+  /**
+   * specifies the input column that will be expanded
+   */
+  private final int expandColumn;
+  /**
+   * minimum hops
+   */
+  private final int lowerBound;
+  /**
+   * maximum hops
+   */
+  private final int upperBound;
+  /**
+   * expand direction
+   */
+  private final ExpandDirection direction;
+  /**
+   * Define the column which should be equal with the paths end
+   */
+  private final int closingColumn;
+  /**
+   * join hint
+   */
+  private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New Expand Reachability Operator
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand (0 or 1)
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion (see {@link ExpandDirection})
+   * @param closingColumn defines the column which should be equal with the paths end
+   * @param joinHint join strategy
+   */
+  public ExpandEmbeddingsReachability(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    int closingColumn, JoinOperatorBase.JoinHint joinHint) {
+    if (lowerBound > 1) {
+      throw new IllegalArgumentException(
+        "Reachability expansion does not support a lower bound greater than 1.");
+    }
+    this.input = input;
+    this.candidateEdges = candidateEdges;
+    this.expandColumn = expandColumn;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.direction = direction;
+    this.closingColumn = closingColumn;
+    this.joinHint = joinHint;
+    this.setName("ExpandEmbeddingsReachability");
+  }
+
+  /**
+   * New Expand Reachability Operator with default join strategy
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand (0 or 1)
+   * @param upperBound specifies the maximum hops we want to expand
+   * @param direction direction of the expansion (see {@link ExpandDirection})
+   * @param closingColumn defines the column which should be equal with the paths end
+   */
+  public ExpandEmbeddingsReachability(DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    int closingColumn) {
+    this(input, candidateEdges, expandColumn, lowerBound, upperBound, direction, closingColumn,
+      JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    if (direction == ExpandDirection.IN) {
+      candidateEdges = candidateEdges
+        .map(new ReverseEdgeEmbedding())
+        .name(getName() + " - Reverse Edges");
+    }
+
+    DataSet<EdgeWithTiePoint> candidateEdgeTuples = candidateEdges
+      .map(new ExtractKeyedCandidateEdges())
+      .name(getName() + " - Create candidate edge tuples")
+      .partitionByHash(0)
+      .name(getName() + " - Partition edge tuples");
+
+    DataSet<ReachableVertex> initialVertices = candidateEdgeTuples
+      .join(input
+        .distinct(new ExtractExpandColumn(expandColumn))
+        .name(getName() + " - Distinct start vertices"), joinHint)
+      .where(0).equalTo(new ExtractExpandColumn(expandColumn))
+      .with(new CreateReachableVertex())
+      .name(getName() + " - Initial expansion")
+      .distinct(0, 2)
+      .name(getName() + " - Deduplicate initial expansion");
+
+    DataSet<ReachableVertex> reachableVertices = upperBound > 1 ?
+      iterate(initialVertices, candidateEdgeTuples) : initialVertices;
+
+    DataSet<Embedding> results = input
+      .join(reachableVertices, joinHint)
+      .where(new ExtractExpandColumn(expandColumn)).equalTo(0)
+      .with(new AppendReachableVertex(closingColumn))
+      .name(getName() + " - Append reachable vertices");
+
+    if (lowerBound == 0) {
+      results = results.union(
+        input
+          .flatMap(new AdoptEmptyPaths(expandColumn, closingColumn))
+          .name(getName() + " - Append empty paths")
+      );
+    }
+
+    return results;
+  }
+
+  /**
+   * Runs the iterative traversal
+   *
+   * @param initialVertices vertices reached by a single edge from their start vertex
+   * @param candidateEdgeTuples candidate edges with extracted tie point
+   * @return all vertices reachable within the upper bound with a path leading to them
+   */
+  private DataSet<ReachableVertex> iterate(DataSet<ReachableVertex> initialVertices,
+    DataSet<EdgeWithTiePoint> candidateEdgeTuples) {
+
+    DeltaIteration<ReachableVertex, ReachableVertex> iteration = initialVertices
+      .iterateDelta(initialVertices, upperBound - 1, 0, 2)
+      .name(getName());
+
+    DataSet<ReachableVertex> frontier = iteration.getWorkset()
+      .join(candidateEdgeTuples, joinHint)
+        .where(2).equalTo(0)
+        .with(new GrowReachableVertex())
+      .name(getName() + " - Expansion")
+      .coGroup(iteration.getSolutionSet())
+        .where(0, 2).equalTo(0, 2)
+        .with(new FilterUnreachedVertices())
+      .name(getName() + " - Deduplicate frontier");
+
+    return iteration.closeWith(frontier, frontier);
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Appends the path to a reachable vertex and the vertex itself to an input embedding
+ * {@code (base, (s,(a,b,c),d)) -> (base, IdListEntry(a,b,c), IdEntry(d))}
+ * <p>
+ * Results that do not match the circle condition or the distinct criteria for the inner vertices
+ * and edges of the path are removed.
+ */
+public class AppendReachableVertex
+  implements FlatJoinFunction<Embedding, ReachableVertex, Embedding> {
+
+  /**
+   * Holds the index of all base vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertices;
+  /**
+   * Holds the index of all base edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdges;
+  /**
+   * Specifies the base column which should be equal to the paths end column
+   */
+  private final int closingColumn;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param closingColumn the base column which should equal the paths end column
+   */
+  public AppendReachableVertex(int closingColumn) {
+    this(Collections.emptyList(), Collections.emptyList(), closingColumn);
+  }
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param distinctVertices indices of distinct vertex columns
+   * @param distinctEdges indices of distinct edge columns
+   * @param closingColumn the base column which should equal the paths end column
+   */
+  public AppendReachableVertex(List<Integer> distinctVertices, List<Integer> distinctEdges,
+    int closingColumn) {
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+    this.closingColumn = closingColumn;
+  }
+
+  @Override
+  public void join(Embedding base, ReachableVertex vertex, Collector<Embedding> out)
+    throws Exception {
+    if ((closingColumn >= 0 && !base.getId(closingColumn).equals(vertex.getEnd())) ||
+      !checkDistinctiveness(base, vertex.getPath())) {
+      return;
+    }
+
+    Embedding embedding = base.copy();
+    embedding.add(vertex.getPath());
+    embedding.add(vertex.getEnd());
+    out.collect(embedding);
+  }
+
+  /**
+   * Checks the distinct criteria for the inner vertices and the edges of the path
+   *
+   * @param base the base part of the expansion
+   * @param path path (edge, vertex, edge, vertex, ..., edge)
+   * @return true if distinct criteria hold for the path
+   */
+  private boolean checkDistinctiveness(Embedding base, GradoopId[] path) {
+    for (int i : distinctVertices) {
+      List<GradoopId> ids = base.getIdAsList(i);
+      for (int j = 1; j < path.length; j += 2) {
+        if (ids.contains(path[j])) {
+          return false;
+        }
+      }
+    }
+
+    for (int i : distinctEdges) {
+      List<GradoopId> ids = base.getIdAsList(i);
+      for (int j = 0; j < path.length; j += 2) {
+        if (ids.contains(path[j])) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Attaches the end vertex of the path to expand, stored in the closing column of an embedding, to
+ * a half path starting at the start vertex of the embedding
+ * {@code (s,(a,b,c),d) x (base) -> (base[closingColumn], (s,(a,b,c),d))}
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->f1")
+public class AttachPathTarget
+  implements JoinFunction<ReachableVertex, Embedding, Tuple2<GradoopId, ReachableVertex>> {
+  /**
+   * Column that holds the end vertex of the path
+   */
+  private final int closingColumn;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param closingColumn column that holds the end vertex of the path
+   */
+  public AttachPathTarget(int closingColumn) {
+    this.closingColumn = closingColumn;
+  }
+
+  @Override
+  public Tuple2<GradoopId, ReachableVertex> join(ReachableVertex path, Embedding embedding)
+    throws Exception {
+    return Tuple2.of(embedding.getId(closingColumn), path);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Creates the vertices reached from a start vertex by a single edge
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0; f2")
+public class CreateReachableVertex
+  implements JoinFunction<EdgeWithTiePoint, Embedding, ReachableVertex> {
+
+  @Override
+  public ReachableVertex join(EdgeWithTiePoint edge, Embedding start) throws Exception {
+    return new ReachableVertex(edge.getSource(), new GradoopId[] {edge.getId()}, edge.getTarget());
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts the start and end vertex of a path to expand from an embedding record
+ * The ids are referenced via their column index.
+ */
+public class ExtractEndpoints implements KeySelector<Embedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column that holds the start vertex
+   */
+  private final int startColumn;
+  /**
+   * Column that holds the end vertex
+   */
+  private final int endColumn;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates the key selector
+   *
+   * @param startColumn column that holds the start vertex
+   * @param endColumn column that holds the end vertex
+   */
+  public ExtractEndpoints(int startColumn, int endColumn) {
+    this.startColumn = startColumn;
+    this.endColumn = endColumn;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> getKey(Embedding value) throws Exception {
+    reuseTuple.f0 = value.getId(startColumn);
+    reuseTuple.f1 = value.getId(endColumn);
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+
+import java.util.Iterator;
+
+/**
+ * Deduplicates the frontier of a reachability expansion. Groups candidates and reached vertices
+ * by start and end vertex and returns a single candidate of each group, if the vertex was not
+ * reached from the start vertex before.
+ */
+public class FilterUnreachedVertices
+  implements CoGroupFunction<ReachableVertex, ReachableVertex, ReachableVertex> {
+
+  @Override
+  public void coGroup(Iterable<ReachableVertex> candidates, Iterable<ReachableVertex> reached,
+    Collector<ReachableVertex> out) throws Exception {
+    Iterator<ReachableVertex> candidateIterator = candidates.iterator();
+    if (candidateIterator.hasNext() && !reached.iterator().hasNext()) {
+      out.collect(candidateIterator.next());
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+
+/**
+ * Expands a half path of a bidirectional expansion by the given edge.
+ * Before growing it is checked whether the path would still be distinct.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f2")
+public class GrowHalfPath
+  implements FlatJoinFunction<ReachableVertex, EdgeWithTiePoint, ReachableVertex> {
+  /**
+   * True, if the vertices of the path have to be distinct
+   */
+  private final boolean distinctVertices;
+  /**
+   * True, if the edges of the path have to be distinct
+   */
+  private final boolean distinctEdges;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param distinctVertices true, if the vertices of the path have to be distinct
+   * @param distinctEdges true, if the edges of the path have to be distinct
+   */
+  public GrowHalfPath(boolean distinctVertices, boolean distinctEdges) {
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+  }
+
+  @Override
+  public void join(ReachableVertex path, EdgeWithTiePoint edge, Collector<ReachableVertex> out)
+    throws Exception {
+    if ((distinctVertices && path.containsVertex(edge.getTarget())) ||
+      (distinctEdges && path.containsEdge(edge.getId()))) {
+      return;
+    }
+    out.collect(path.grow(edge));
+  }
+}
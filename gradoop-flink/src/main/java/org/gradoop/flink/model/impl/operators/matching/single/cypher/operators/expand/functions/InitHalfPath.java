@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Creates an empty path starting and ending at the vertex of the given embedding column
+ * {@code (base) -> (v, (), v)}
+ */
+public class InitHalfPath implements MapFunction<Embedding, ReachableVertex> {
+  /**
+   * Column that holds the vertex to start at
+   */
+  private final int column;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param column column that holds the vertex to start at
+   */
+  public InitHalfPath(int column) {
+    this.column = column;
+  }
+
+  @Override
+  public ReachableVertex map(Embedding embedding) throws Exception {
+    GradoopId vertexId = embedding.getId(column);
+    return new ReachableVertex(vertexId, new GradoopId[0], vertexId);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ReachableVertex;
+
+/**
+ * Combines a forward half path from the start vertex and a backward half path from the end vertex
+ * meeting at the same vertex to a path from the start to the end vertex
+ * {@code (t,(s,(a,b,c),d)) x (t,(g,f,e),d) -> (s,(a,b,c,d,e,f,g),t)}
+ * <p>
+ * Each path of length {@code l} is only created from a forward half of length {@code ceil(l/2)}
+ * and a backward half of length {@code floor(l/2)}. Before merging it is checked whether the
+ * path lies within the bounds and would still be distinct.
+ */
+public class MergeHalfPaths
+  implements FlatJoinFunction<Tuple2<GradoopId, ReachableVertex>, ReachableVertex, ReachableVertex> {
+  /**
+   * Minimum path length
+   */
+  private final int lowerBound;
+  /**
+   * Maximum path length
+   */
+  private final int upperBound;
+  /**
+   * True, if the vertices of the path have to be distinct
+   */
+  private final boolean distinctVertices;
+  /**
+   * True, if the edges of the path have to be distinct
+   */
+  private final boolean distinctEdges;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param lowerBound minimum path length
+   * @param upperBound maximum path length
+   * @param distinctVertices true, if the vertices of the path have to be distinct
+   * @param distinctEdges true, if the edges of the path have to be distinct
+   */
+  public MergeHalfPaths(int lowerBound, int upperBound, boolean distinctVertices,
+    boolean distinctEdges) {
+    this.lowerBound = Math.max(lowerBound, 1);
+    this.upperBound = upperBound;
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+  }
+
+  @Override
+  public void join(Tuple2<GradoopId, ReachableVertex> forwardWithTarget, ReachableVertex backward,
+    Collector<ReachableVertex> out) throws Exception {
+    ReachableVertex forward = forwardWithTarget.f1;
+    int forwardLength = forward.pathLength();
+    int backwardLength = backward.pathLength();
+    int length = forwardLength + backwardLength;
+
+    if ((forwardLength != backwardLength && forwardLength != backwardLength + 1) ||
+      length < lowerBound || length > upperBound || !checkDistinctiveness(forward, backward)) {
+      return;
+    }
+
+    GradoopId[] path = forward.getPath();
+    if (backwardLength > 0) {
+      GradoopId[] backwardPath = ArrayUtils.clone(backward.getPath());
+      ArrayUtils.reverse(backwardPath);
+      path = ArrayUtils.addAll(ArrayUtils.add(path, forward.getEnd()), backwardPath);
+    }
+    out.collect(new ReachableVertex(forward.getStart(), path, backward.getStart()));
+  }
+
+  /**
+   * Checks that the merged path would be distinct, given that both halves are distinct
+   *
+   * @param forward half path from the start vertex
+   * @param backward half path from the end vertex
+   * @return true if the merged path is distinct
+   */
+  private boolean checkDistinctiveness(ReachableVertex forward, ReachableVertex backward) {
+    GradoopId[] backwardPath = backward.getPath();
+    if (distinctVertices && backwardPath.length > 0) {
+      // the end vertex may only be equal to the start vertex of the path
+      GradoopId end = backward.getStart();
+      if (!end.equals(forward.getStart()) && forward.containsVertex(end)) {
+        return false;
+      }
+      for (int i = 1; i < backwardPath.length; i += 2) {
+        if (forward.containsVertex(backwardPath[i])) {
+          return false;
+        }
+      }
+    }
+    if (distinctEdges) {
+      for (int i = 0; i < backwardPath.length; i += 2) {
+        if (forward.containsEdge(backwardPath[i])) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
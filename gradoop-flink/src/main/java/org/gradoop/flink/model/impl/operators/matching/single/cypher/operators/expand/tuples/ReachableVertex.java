@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Represents a vertex reached from a start vertex during a reachability expansion together with
+ * the path it was reached on.
+ * <p>
+ * {@code f0 -> start vertex id}<br>
+ * {@code f1 -> path (edge, vertex, edge, vertex, ..., edge)}<br>
+ * {@code f2 -> reached vertex id}
+ */
+public class ReachableVertex extends Tuple3<GradoopId, GradoopId[], GradoopId> {
+
+  /**
+   * Creates an empty Object
+   */
+  public ReachableVertex() {
+    super();
+  }
+
+  /**
+   * Creates a new reachable vertex
+   *
+   * @param start the start vertex of the path
+   * @param path the path from the start vertex to the reached vertex
+   * @param end the reached vertex
+   */
+  public ReachableVertex(GradoopId start, GradoopId[] path, GradoopId end) {
+    super(start, path, end);
+  }
+
+  /**
+   * Returns the start vertex
+   * @return the start vertex
+   */
+  public GradoopId getStart() {
+    return f0;
+  }
+
+  /**
+   * Returns the path
+   * @return the path
+   */
+  public GradoopId[] getPath() {
+    return f1;
+  }
+
+  /**
+   * Returns the reached vertex
+   * @return the reached vertex
+   */
+  public GradoopId getEnd() {
+    return f2;
+  }
+
+  /**
+   * Reaches the next vertex along the given edge
+   * {@code (s,(a,b,c),d) x (d,e,f) -> (s, (a,b,c,d,e), f)}, or {@code (s,(),s) x (s,e,f) ->
+   * (s, (e), f)} for an empty path
+   *
+   * @param edge the edge along which we expand
+   * @return vertex reached by the given edge
+   */
+  public ReachableVertex grow(EdgeWithTiePoint edge) {
+    GradoopId[] path = f1.length == 0 ? new GradoopId[] {edge.getId()} :
+      ArrayUtils.addAll(f1, f2, edge.getId());
+    return new ReachableVertex(f0, path, edge.getTarget());
+  }
+
+  /**
+   * Returns the number of edges in the path
+   * @return path length
+   */
+  public int pathLength() {
+    return (f1.length + 1) / 2;
+  }
+
+  /**
+   * Checks if the given vertex is the start, end or an inner vertex of the path
+   * @param vertexId vertex id
+   * @return true, iff the path contains the vertex
+   */
+  public boolean containsVertex(GradoopId vertexId) {
+    return f0.equals(vertexId) || f2.equals(vertexId) || containsEntry(vertexId, 1);
+  }
+
+  /**
+   * Checks if the given edge is part of the path
+   * @param edgeId edge id
+   * @return true, iff the path contains the edge
+   */
+  public boolean containsEdge(GradoopId edgeId) {
+    return containsEntry(edgeId, 0);
+  }
+
+  /**
+   * Checks if the path contains the given id at the positions starting at the given offset,
+   * i.e. at the edge (0) or vertex (1) positions
+   * @param id id to search for
+   * @param offset position of the first entry to check
+   * @return true, iff the id is contained
+   */
+  private boolean containsEntry(GradoopId id, int offset) {
+    for (int i = offset; i < f1.length; i += 2) {
+      if (f1[i].equals(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of3;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExpandExtension;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractAdjacentVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractCandidateVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractExtensionJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.FilterCandidateList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.InitCandidateList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.IntersectExtension;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ProposeExtension;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.SelectCandidateList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Extends embeddings by a new vertex that is connected to several vertices of the embedding.
+ * This is a single step of a worst-case optimal multiway join (Generic Join) over a cyclic
+ * pattern, which binds one query vertex at a time.
+ *
+ * Each embedding has a candidate list per edge input, i.e. the edges adjacent to its join vertex.
+ * First, the sizes of all candidate lists are counted and each embedding selects its smallest
+ * one. Afterwards, the smallest list proposes the neighbor vertices as extensions, which are
+ * then checked against the other lists by joining on both endpoints of their edges. Hence, the
+ * work per embedding is bounded by its smallest candidate list, and the intermediate results
+ * of a cascade of binary joins are never materialized.
+ *
+ * The result is always a new embedding with the following constraints.
+ *
+ * <ul>
+ * <li>the edges are appended to the embedding in the order of the inputs</li>
+ * <li>the new vertex is appended after the edges</li>
+ * <li>all edge properties are appended to the properties of the embedding</li>
+ * </ul>
+ *
+ * The properties of the new vertex are not part of the result. They can be added by a subsequent
+ * {@link JoinEmbeddings} with the embeddings of the vertex.
+ */
+public class WorstCaseOptimalJoin implements PhysicalOperator {
+
+  /**
+   * Embeddings to extend
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Edge embeddings of the form (source, edge, target)
+   */
+  private final List<DataSet<Embedding>> edges;
+  /**
+   * Columns of the input embedding that are joined with the edges
+   */
+  private final List<Integer> joinColumns;
+  /**
+   * Direction of the edges, starting at the join vertex
+   */
+  private final List<ExpandDirection> directions;
+  /**
+   * Number of properties of the edge embeddings
+   */
+  private final List<Integer> edgePropertyCounts;
+  /**
+   * Vertex columns of the input embedding
+   */
+  private final List<Integer> vertexColumns;
+  /**
+   * Edge columns of the input embedding
+   */
+  private final List<Integer> edgeColumns;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Instantiates a new worst-case optimal join step.
+   *
+   * @param input embeddings to extend
+   * @param edges edge embeddings of the form (source, edge, target)
+   * @param joinColumns columns of the input embedding that are joined with the edges
+   * @param directions direction of each edge input, starting at the join vertex
+   * @param edgePropertyCounts number of properties of each edge input
+   * @param vertexColumns vertex columns of the input embedding
+   * @param edgeColumns edge columns of the input embedding
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public WorstCaseOptimalJoin(DataSet<Embedding> input, List<DataSet<Embedding>> edges,
+    List<Integer> joinColumns, List<ExpandDirection> directions,
+    List<Integer> edgePropertyCounts,
+    List<Integer> vertexColumns, List<Integer> edgeColumns,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    if (edges.isEmpty() || edges.size() != joinColumns.size() ||
+      edges.size() != directions.size() || edges.size() != edgePropertyCounts.size()) {
+      throw new IllegalArgumentException(
+        "A join column, direction and property count is required for each edge input");
+    }
+    this.input              = input;
+    this.edges              = edges;
+    this.joinColumns        = joinColumns;
+    this.directions         = directions;
+    this.edgePropertyCounts = edgePropertyCounts;
+    this.vertexColumns      = vertexColumns;
+    this.edgeColumns        = edgeColumns;
+    this.vertexStrategy     = vertexStrategy;
+    this.edgeStrategy       = edgeStrategy;
+    this.setName("WorstCaseOptimalJoin");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    if (edges.size() == 1) {
+      return expand(input, 0);
+    }
+
+    DataSet<Tuple3<Embedding, Integer, Long>> embeddings = input
+      .map(new InitCandidateList())
+      .name(getName());
+    for (int i = 0; i < edges.size(); i++) {
+      embeddings = embeddings
+        .join(countCandidates(i))
+        .where(new ExtractCandidateVertex(joinColumns.get(i)))
+        .equalTo(0)
+        .with(new SelectCandidateList(i))
+        .name(getName());
+    }
+
+    DataSet<Embedding> result = null;
+    for (int i = 0; i < edges.size(); i++) {
+      DataSet<Embedding> expanded = expand(embeddings
+        .filter(new FilterCandidateList(i))
+        .map(new Value0Of3<>())
+        .name(getName()), i);
+      result = result == null ? expanded : result.union(expanded);
+    }
+    return result;
+  }
+
+  /**
+   * Counts the candidate list size of each join vertex of the specified edge input.
+   *
+   * @param index index of the edge input
+   * @return pairs of join vertex and candidate list size
+   */
+  private DataSet<Tuple2<GradoopId, Long>> countCandidates(int index) {
+    return edges.get(index)
+      .map(new ExtractAdjacentVertex(getEdgeJoinColumn(index)))
+      .groupBy(0)
+      .sum(1)
+      .name(getName());
+  }
+
+  /**
+   * Extends the embeddings by the neighbors proposed by the specified edge input, which are
+   * intersected with the neighbors of all other edge inputs.
+   *
+   * @param embeddings embeddings to extend
+   * @param proposer index of the edge input proposing the extensions
+   * @return extended embeddings
+   */
+  private DataSet<Embedding> expand(DataSet<Embedding> embeddings, int proposer) {
+    List<Integer> joinOrder = new ArrayList<>();
+    joinOrder.add(proposer);
+
+    DataSet<Tuple2<Embedding, Embedding>> extensions = embeddings
+      .join(edges.get(proposer))
+      .where(new ExtractJoinColumns(Collections.singletonList(joinColumns.get(proposer))))
+      .equalTo(new ExtractJoinColumns(Collections.singletonList(getEdgeJoinColumn(proposer))))
+      .with(new ProposeExtension(getNeighborColumn(proposer)))
+      .name(getName());
+
+    for (int i = 0; i < edges.size(); i++) {
+      if (i != proposer) {
+        joinOrder.add(i);
+        extensions = extensions
+          .join(edges.get(i))
+          .where(new ExtractExtensionJoinColumns(joinColumns.get(i)))
+          .equalTo(new ExtractJoinColumns(
+            Arrays.asList(getEdgeJoinColumn(i), getNeighborColumn(i))))
+          .with(new IntersectExtension())
+          .name(getName());
+      }
+    }
+
+    return extensions
+      .flatMap(new ExpandExtension(joinOrder, edgePropertyCounts, vertexColumns, edgeColumns,
+        vertexStrategy, edgeStrategy))
+      .name(getName());
+  }
+
+  /**
+   * Returns the column of the join vertex in the embeddings of the specified edge input.
+   *
+   * @param index index of the edge input
+   * @return column of the join vertex
+   */
+  private int getEdgeJoinColumn(int index) {
+    return directions.get(index) == ExpandDirection.OUT ? 0 : 2;
+  }
+
+  /**
+   * Returns the column of the neighbor vertex in the embeddings of the specified edge input.
+   *
+   * @param index index of the edge input
+   * @return column of the neighbor vertex
+   */
+  private int getNeighborColumn(int index) {
+    return 2 - getEdgeJoinColumn(index);
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
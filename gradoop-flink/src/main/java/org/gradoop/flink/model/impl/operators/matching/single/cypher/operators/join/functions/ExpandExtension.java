@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Extends an embedding by its extension and checks for vertex/edge isomorphism/homomorphism.
+ *
+ * The extension stores the neighbor vertex followed by the edges in the order they were joined
+ * by {@link ProposeExtension} and {@link IntersectExtension}. The edges are appended to the
+ * embedding in the order of the edge inputs, followed by the neighbor vertex. The edge
+ * properties are appended to the properties of the embedding in the same order.
+ */
+public class ExpandExtension
+  implements FlatMapFunction<Tuple2<Embedding, Embedding>, Embedding> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Embedding reuseEmbedding;
+  /**
+   * Column of each edge input in the extension
+   */
+  private final int[] extensionColumns;
+  /**
+   * First property of each edge input in the extension
+   */
+  private final int[] propertyOffsets;
+  /**
+   * Number of properties of each edge input
+   */
+  private final int[] propertyCounts;
+  /**
+   * Vertex columns of the embedding
+   */
+  private final int[] vertexColumns;
+  /**
+   * Edge columns of the embedding
+   */
+  private final int[] edgeColumns;
+  /**
+   * Flag, if vertex distinctiveness needs to be checked.
+   */
+  private final boolean checkDistinctVertices;
+  /**
+   * Flag, if edge distinctiveness needs to be checked.
+   */
+  private final boolean checkDistinctEdges;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param joinOrder edge inputs in the order they were joined to the extension
+   * @param edgePropertyCounts number of properties of each edge input
+   * @param vertexColumns vertex columns of the embedding
+   * @param edgeColumns edge columns of the embedding
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public ExpandExtension(List<Integer> joinOrder, List<Integer> edgePropertyCounts,
+    List<Integer> vertexColumns, List<Integer> edgeColumns,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    ToIntFunction<Integer> f = i -> i;
+    this.propertyCounts = edgePropertyCounts.stream().mapToInt(f).toArray();
+    this.extensionColumns = new int[joinOrder.size()];
+    this.propertyOffsets = new int[joinOrder.size()];
+    int propertyOffset = 0;
+    for (int position = 0; position < joinOrder.size(); position++) {
+      int input = joinOrder.get(position);
+      extensionColumns[input] = position + 1;
+      propertyOffsets[input] = propertyOffset;
+      propertyOffset += propertyCounts[input];
+    }
+    this.vertexColumns = vertexColumns.stream().mapToInt(f).toArray();
+    this.edgeColumns = edgeColumns.stream().mapToInt(f).toArray();
+    this.checkDistinctVertices = vertexStrategy == MatchStrategy.ISOMORPHISM;
+    this.checkDistinctEdges = edgeStrategy == MatchStrategy.ISOMORPHISM;
+    this.reuseEmbedding = new Embedding();
+  }
+
+  @Override
+  public void flatMap(Tuple2<Embedding, Embedding> embeddingWithExtension,
+    Collector<Embedding> out) throws Exception {
+    Embedding embedding = embeddingWithExtension.f0;
+    Embedding extension = embeddingWithExtension.f1;
+
+    if (isValid(embedding, extension)) {
+      byte[] idData = embedding.getIdData();
+      byte[] propertyData = embedding.getPropertyData();
+      for (int input = 0; input < extensionColumns.length; input++) {
+        idData = ArrayUtils.addAll(idData, extension.getRawIdEntry(extensionColumns[input]));
+        for (int i = 0; i < propertyCounts[input]; i++) {
+          propertyData = ArrayUtils.addAll(propertyData,
+            extension.getRawProperty(propertyOffsets[input] + i));
+        }
+      }
+      idData = ArrayUtils.addAll(idData, extension.getRawIdEntry(0));
+
+      reuseEmbedding.setIdData(idData);
+      reuseEmbedding.setPropertyData(propertyData);
+      reuseEmbedding.setIdListData(embedding.getIdListData());
+      out.collect(reuseEmbedding);
+    }
+  }
+
+  /**
+   * Checks if the embedding extended by the extension would hold under the morphism setting.
+   *
+   * @param embedding embedding to extend
+   * @param extension neighbor vertex followed by the edges
+   * @return true, if the morphism condition holds
+   */
+  private boolean isValid(Embedding embedding, Embedding extension) {
+    if (checkDistinctVertices) {
+      GradoopId neighbor = extension.getId(0);
+      for (int column : vertexColumns) {
+        if (embedding.getIdAsList(column).contains(neighbor)) {
+          return false;
+        }
+      }
+    }
+    if (checkDistinctEdges) {
+      for (int edge = 1; edge < extension.size(); edge++) {
+        GradoopId edgeId = extension.getId(edge);
+        for (int column : edgeColumns) {
+          if (embedding.getIdAsList(column).contains(edgeId)) {
+            return false;
+          }
+        }
+        for (int other = 1; other < edge; other++) {
+          if (extension.getId(other).equals(edgeId)) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts the vertex an edge embedding is adjacent to, paired with a count of one. Summing up the
+ * counts yields the size of the adjacency list of each vertex.
+ * <p>
+ * {@code (v0,e0,v1),0 -> (v0,1)}
+ */
+public class ExtractAdjacentVertex implements MapFunction<Embedding, Tuple2<GradoopId, Long>> {
+  /**
+   * Column of the adjacent vertex
+   */
+  private final int column;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, Long> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param column column of the adjacent vertex
+   */
+  public ExtractAdjacentVertex(int column) {
+    this.column = column;
+    this.reuseTuple = new Tuple2<>(null, 1L);
+  }
+
+  @Override
+  public Tuple2<GradoopId, Long> map(Embedding edge) throws Exception {
+    reuseTuple.f0 = edge.getId(column);
+    return reuseTuple;
+  }
+}
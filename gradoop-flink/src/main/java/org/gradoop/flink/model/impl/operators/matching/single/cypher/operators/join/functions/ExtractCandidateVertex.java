@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Given an embedding paired with its smallest candidate list, the key selector returns the id of
+ * the vertex stored at the specified column of the embedding.
+ */
+public class ExtractCandidateVertex
+  implements KeySelector<Tuple3<Embedding, Integer, Long>, GradoopId> {
+  /**
+   * Column of the vertex
+   */
+  private final int column;
+
+  /**
+   * Creates the key selector
+   *
+   * @param column column of the vertex
+   */
+  public ExtractCandidateVertex(int column) {
+    this.column = column;
+  }
+
+  @Override
+  public GradoopId getKey(Tuple3<Embedding, Integer, Long> value) throws Exception {
+    return value.f0.getId(column);
+  }
+}
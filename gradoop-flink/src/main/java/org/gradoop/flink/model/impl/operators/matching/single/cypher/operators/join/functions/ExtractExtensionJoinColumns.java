@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Given an embedding paired with an extension, the key selector returns the concatenated id
+ * values of the specified column of the embedding and the neighbor vertex of the extension. The
+ * key matches the one of {@link ExtractJoinColumns} for the corresponding columns of an edge.
+ * <p>
+ * {@code ((id0,id1,id2),(id3,...)),2 -> "id2id3"}
+ */
+public class ExtractExtensionJoinColumns
+  implements KeySelector<Tuple2<Embedding, Embedding>, String> {
+  /**
+   * Column of the embedding
+   */
+  private final int column;
+  /**
+   * Stores the concatenated id string
+   */
+  private final StringBuilder sb;
+
+  /**
+   * Creates the key selector
+   *
+   * @param column column of the embedding
+   */
+  public ExtractExtensionJoinColumns(int column) {
+    this.column = column;
+    this.sb = new StringBuilder();
+  }
+
+  @Override
+  public String getKey(Tuple2<Embedding, Embedding> value) throws Exception {
+    sb.delete(0, sb.length());
+    sb.append(ArrayUtils.toString(value.f0.getRawId(column)));
+    sb.append(ArrayUtils.toString(value.f1.getRawId(0)));
+    return sb.toString();
+  }
+}
@@ -15,44 +15,46 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.flink.api.java.functions.KeySelector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Given a set of property columns, this key selector returns a concatenated string containing the
- * property values of the specified columns.
+ * Given a set of property columns, this key selector returns a list containing the property
+ * values of the specified columns. The list is compared by its byte representation.
  * <p>
- * {@code ("Foo",42,0.5),[0,2] -> "Foo0.5"}
+ * {@code ("Foo",42,0.5),[0,2] -> ["Foo",0.5]}
  */
-public class ExtractPropertyJoinColumns implements KeySelector<Embedding, String> {
+public class ExtractPropertyJoinColumns implements KeySelector<Embedding, PropertyValueList> {
   /**
-   * Property columns to concatenate properties from
+   * Property columns to extract properties from
    */
   private final List<Integer> properties;
   /**
-   * Stores the concatenated key string
+   * Stores the extracted property values
    */
-  private final StringBuilder sb;
+  private final List<PropertyValue> values;
 
   /**
    * Creates the key selector
    *
-   * @param properties columns to create hash code from
+   * @param properties columns to create the key from
    */
   public ExtractPropertyJoinColumns(List<Integer> properties) {
     this.properties = properties;
-    this.sb = new StringBuilder();
+    this.values = new ArrayList<>(properties.size());
   }
 
   @Override
-  public String getKey(Embedding value) throws Exception {
-    sb.delete(0, sb.length());
+  public PropertyValueList getKey(Embedding value) throws Exception {
+    values.clear();
     for (Integer property : properties) {
-      sb.append(ArrayUtils.toString(value.getRawProperty(property)));
+      values.add(value.getProperty(property));
     }
-    return sb.toString();
+    return PropertyValueList.fromPropertyValues(values);
   }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Filters embeddings whose smallest candidate list is the specified one.
+ */
+public class FilterCandidateList implements FilterFunction<Tuple3<Embedding, Integer, Long>> {
+  /**
+   * Index of the candidate list
+   */
+  private final int list;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param list index of the candidate list
+   */
+  public FilterCandidateList(int list) {
+    this.list = list;
+  }
+
+  @Override
+  public boolean filter(Tuple3<Embedding, Integer, Long> embedding) throws Exception {
+    return embedding.f1 == list;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Pairs an embedding with the index and the size of its smallest candidate list, which are
+ * determined by {@link SelectCandidateList}. Initially, no list is selected.
+ * <p>
+ * {@code e -> (e,-1,Long.MAX_VALUE)}
+ */
+public class InitCandidateList
+  implements MapFunction<Embedding, Tuple3<Embedding, Integer, Long>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<Embedding, Integer, Long> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   */
+  public InitCandidateList() {
+    this.reuseTuple = new Tuple3<>(null, -1, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Tuple3<Embedding, Integer, Long> map(Embedding embedding) throws Exception {
+    reuseTuple.f0 = embedding;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Appends an edge connecting the embedding to the neighbor vertex of its extension. Since the
+ * edges are joined on both of their endpoints, extensions without such an edge are pruned, i.e.
+ * the candidates are intersected with the adjacency list of the edges.
+ * <p>
+ * {@code ((v0,e0,v1),(v2,e1)),(v0,e2,v2) -> ((v0,e0,v1),(v2,e1,e2))}
+ */
+public class IntersectExtension implements
+  JoinFunction<Tuple2<Embedding, Embedding>, Embedding, Tuple2<Embedding, Embedding>> {
+  /**
+   * Column of the edge id in the edge embeddings
+   */
+  private static final int EDGE_COLUMN = 1;
+
+  @Override
+  public Tuple2<Embedding, Embedding> join(Tuple2<Embedding, Embedding> embeddingWithExtension,
+    Embedding edge) throws Exception {
+    Embedding extension = embeddingWithExtension.f1;
+    embeddingWithExtension.f1 = new Embedding(
+      ArrayUtils.addAll(extension.getIdData(), edge.getRawIdEntry(EDGE_COLUMN)),
+      ArrayUtils.addAll(extension.getPropertyData(), edge.getPropertyData()),
+      new byte[0]);
+    return embeddingWithExtension;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Pairs an embedding with an extension proposed by an adjacent edge.
+ * <p>
+ * The extension stores the neighbor vertex reached by the edge, followed by the edge. The
+ * properties of the extension are the properties of the edge. Further edges to the same neighbor
+ * are appended by {@link IntersectExtension}.
+ * <p>
+ * {@code (v0,e0,v1),(v1,e1,v2),2 -> ((v0,e0,v1),(v2,e1))}
+ */
+public class ProposeExtension
+  implements JoinFunction<Embedding, Embedding, Tuple2<Embedding, Embedding>> {
+  /**
+   * Column of the edge id in the edge embeddings
+   */
+  private static final int EDGE_COLUMN = 1;
+  /**
+   * Column of the neighbor vertex in the edge embeddings
+   */
+  private final int neighborColumn;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<Embedding, Embedding> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param neighborColumn column of the neighbor vertex in the edge embeddings
+   */
+  public ProposeExtension(int neighborColumn) {
+    this.neighborColumn = neighborColumn;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<Embedding, Embedding> join(Embedding embedding, Embedding edge) throws Exception {
+    reuseTuple.f0 = embedding;
+    reuseTuple.f1 = new Embedding(
+      ArrayUtils.addAll(edge.getRawIdEntry(neighborColumn), edge.getRawIdEntry(EDGE_COLUMN)),
+      edge.getPropertyData(), new byte[0]);
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Joins an embedding paired with its smallest candidate list so far with the size of a further
+ * candidate list and selects that list, if it is smaller.
+ * <p>
+ * {@code (e,0,5),(v,3),1 -> (e,1,3)}
+ */
+public class SelectCandidateList implements JoinFunction<Tuple3<Embedding, Integer, Long>,
+  Tuple2<GradoopId, Long>, Tuple3<Embedding, Integer, Long>> {
+  /**
+   * Index of the candidate list
+   */
+  private final int list;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param list index of the candidate list
+   */
+  public SelectCandidateList(int list) {
+    this.list = list;
+  }
+
+  @Override
+  public Tuple3<Embedding, Integer, Long> join(Tuple3<Embedding, Integer, Long> embedding,
+    Tuple2<GradoopId, Long> listSize) throws Exception {
+    if (listSize.f1 < embedding.f2) {
+      embedding.f1 = list;
+      embedding.f2 = listSize.f1;
+    }
+    return embedding;
+  }
+}
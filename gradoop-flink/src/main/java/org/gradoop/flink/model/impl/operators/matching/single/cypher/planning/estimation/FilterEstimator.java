@@ -15,19 +15,39 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.s1ck.gdl.utils.Comparator;
 
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
  * from the applied predicates.
+ *
+ * Comparisons between a property and a literal are estimated using the property histograms of the
+ * graph statistics. If there is no histogram, equality is estimated using the number of distinct
+ * property values and all other comparisons use a default selectivity.
  */
 class FilterEstimator extends Estimator {
+  /**
+   * Selectivity of range comparisons if there is no histogram for the property
+   */
+  static final double DEFAULT_RANGE_SELECTIVITY = 1d / 3d;
+  /**
+   * Property key used to compare labels
+   */
+  private static final String LABEL_KEY = "__label__";
   /**
    * The non-filtered cardinality of the leaf node.
    */
@@ -101,6 +121,111 @@ class FilterEstimator extends Estimator {
    * @param predicates query predicates
    */
   private void updateSelectivity(CNF predicates) {
-    // TODO
+    for (CNFElement clause : predicates.getPredicates()) {
+      double rejected = 1d;
+      for (ComparisonExpression comparison : clause.getPredicates()) {
+        rejected *= 1d - estimateSelectivity(comparison);
+      }
+      selectivity *= 1d - rejected;
+    }
+  }
+
+  /**
+   * Estimates the selectivity of a single comparison. Only comparisons between a property and a
+   * literal are estimated, all other comparisons are not considered to be selective.
+   *
+   * @param comparison comparison expression
+   * @return estimated selectivity
+   */
+  private double estimateSelectivity(ComparisonExpression comparison) {
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+    Comparator comparator = comparison.getComparator();
+    if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+      QueryComparable swap = lhs;
+      lhs = rhs;
+      rhs = swap;
+      comparator = mirror(comparator);
+    }
+    if (!(lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable)) {
+      return 1d;
+    }
+
+    String variable = ((PropertySelectorComparable) lhs).getVariable();
+    String propertyKey = ((PropertySelectorComparable) lhs).getPropertyKey();
+    boolean isVertex = getQueryHandler().getVertexByVariable(variable) != null;
+    if (propertyKey.equals(LABEL_KEY) ||
+      (!isVertex && getQueryHandler().getEdgeByVariable(variable) == null)) {
+      return 1d;
+    }
+    String label = getLabel(variable, isVertex);
+    PropertyValue value = PropertyValue.create(((LiteralComparable) rhs).getValue());
+
+    PropertyHistogram histogram = isVertex ?
+      getGraphStatistics().getVertexPropertyHistogram(label, propertyKey) :
+      getGraphStatistics().getEdgePropertyHistogram(label, propertyKey);
+
+    if (histogram != null && histogram.isComparable(value)) {
+      double count;
+      switch (comparator) {
+      case EQ:
+        count = histogram.estimateEqual(value);
+        break;
+      case NEQ:
+        count = histogram.getCount() - histogram.estimateEqual(value);
+        break;
+      case LT:
+        count = histogram.estimateLessThan(value, false);
+        break;
+      case LTE:
+        count = histogram.estimateLessThan(value, true);
+        break;
+      case GT:
+        count = histogram.estimateGreaterThan(value, false);
+        break;
+      default:
+        count = histogram.estimateGreaterThan(value, true);
+      }
+      return Math.min(1d, Math.max(0d, count / getCardinality(label, isVertex)));
+    }
+
+    long distinctValues = isVertex ?
+      getGraphStatistics().getDistinctVertexProperties(label, propertyKey) :
+      getGraphStatistics().getDistinctEdgeProperties(label, propertyKey);
+    if (distinctValues == 0) {
+      distinctValues = isVertex ?
+        getGraphStatistics().getDistinctVertexProperties(propertyKey) :
+        getGraphStatistics().getDistinctEdgeProperties(propertyKey);
+    }
+    double equalSelectivity = distinctValues > 0 ? 1d / distinctValues : 1d;
+    switch (comparator) {
+    case EQ:
+      return equalSelectivity;
+    case NEQ:
+      return distinctValues > 0 ? 1d - equalSelectivity : 1d;
+    default:
+      return DEFAULT_RANGE_SELECTIVITY;
+    }
+  }
+
+  /**
+   * Returns the comparator resulting from swapping both sides of a comparison.
+   *
+   * @param comparator comparator
+   * @return mirrored comparator
+   */
+  private static Comparator mirror(Comparator comparator) {
+    switch (comparator) {
+    case LT:
+      return Comparator.GT;
+    case LTE:
+      return Comparator.GTE;
+    case GT:
+      return Comparator.LT;
+    case GTE:
+      return Comparator.LTE;
+    default:
+      return comparator;
+    }
   }
 }
@@ -22,6 +22,9 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
 import org.s1ck.gdl.model.Edge;
 
 import java.util.Collection;
@@ -34,7 +37,7 @@ import java.util.stream.Collectors;
  * Keeps track of the joined leaf nodes in a query plan and computes a total estimated cardinality
  * for the plan.
  */
-class JoinEstimator extends Estimator {
+public class JoinEstimator extends Estimator {
   /**
    * Maps vertex and edge variables to their estimated cardinality
    */
@@ -50,7 +53,7 @@ class JoinEstimator extends Estimator {
    * @param queryHandler query handler
    * @param graphStatistics graph statistics
    */
-  JoinEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics) {
+  public JoinEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics) {
     super(queryHandler, graphStatistics);
     this.cardinalities = new HashMap<>();
     this.distinctValues = new HashMap<>();
@@ -70,6 +73,12 @@ class JoinEstimator extends Estimator {
       if (binaryNode.getRightChild() instanceof LeafNode) {
         process(binaryNode.getRightChild().getEmbeddingMetaData());
       }
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        if (child instanceof LeafNode) {
+          process(child.getEmbeddingMetaData());
+        }
+      }
     }
   }
 
@@ -91,6 +100,93 @@ class JoinEstimator extends Estimator {
     return Math.round(1.0 * numerator / denominator);
   }
 
+  /**
+   * Checks if expanding a variable length path from both of its endpoints is estimated to be
+   * cheaper than expanding it from its start vertices only. This requires the end vertices to be
+   * bound by the embeddings to expand.
+   * <p>
+   * The unidirectional expansion grows every input embedding up to the upper bound, while the
+   * bidirectional expansion grows every distinct start vertex to half the upper bound (rounded
+   * up) and every distinct end vertex to half the upper bound (rounded down). The forward halves
+   * are then attached to each input embedding before they meet the backward halves. The costs
+   * are estimated by the number of intermediate paths using the average out- and in-degree of
+   * the traversed edges.
+   *
+   * @param edgeVariable variable of the variable length path
+   * @param direction direction in which the path is expanded
+   * @param inputCardinality estimated number of embeddings to expand
+   * @return true, iff the bidirectional expansion is estimated to create fewer intermediate paths
+   */
+  public boolean isBidirectionalExpansionCheaper(String edgeVariable, ExpandDirection direction,
+    long inputCardinality) {
+    String edgeLabel = getLabel(edgeVariable, false);
+    long edgeCardinality = getCardinality(edgeLabel, false);
+    long distinctStartCount = direction == ExpandDirection.OUT ?
+      getDistinctSourceCount(edgeLabel) : getDistinctTargetCount(edgeLabel);
+    long distinctEndCount = direction == ExpandDirection.OUT ?
+      getDistinctTargetCount(edgeLabel) : getDistinctSourceCount(edgeLabel);
+    if (distinctStartCount == 0L || distinctEndCount == 0L) {
+      return false;
+    }
+
+    int upperBound = getQueryHandler().getEdgeByVariable(edgeVariable).getUpperBound();
+    double forwardDegree = 1.0 * edgeCardinality / distinctStartCount;
+    double backwardDegree = 1.0 * edgeCardinality / distinctEndCount;
+
+    double forwardPathCount = getPathCount(forwardDegree, (upperBound + 1) / 2);
+    double backwardPathCount = getPathCount(backwardDegree, upperBound / 2);
+
+    double unidirectional = inputCardinality * getPathCount(forwardDegree, upperBound);
+    double bidirectional =
+      Math.min(inputCardinality, distinctStartCount) * forwardPathCount +
+      Math.min(inputCardinality, distinctEndCount) * backwardPathCount +
+      inputCardinality * forwardPathCount;
+
+    return bidirectional < unidirectional;
+  }
+
+  /**
+   * Estimates the number of paths with a length between 1 and the given depth starting at a
+   * single vertex.
+   *
+   * @param degree average number of edges per vertex
+   * @param depth maximum path length
+   * @return estimated number of paths
+   */
+  private double getPathCount(double degree, int depth) {
+    double pathCount = 0d;
+    for (int i = 1; i <= depth; i++) {
+      pathCount += Math.pow(degree, i);
+    }
+    return pathCount;
+  }
+
+  /**
+   * Returns the number of distinct source vertices of edges with the given label or of all
+   * edges, if there are no statistics for the label.
+   *
+   * @param edgeLabel edge label
+   * @return distinct source vertex count
+   */
+  private long getDistinctSourceCount(String edgeLabel) {
+    long distinctSourceCount = getGraphStatistics().getDistinctSourceVertexCount(edgeLabel);
+    return distinctSourceCount == 0L ?
+      getGraphStatistics().getDistinctSourceVertexCount() : distinctSourceCount;
+  }
+
+  /**
+   * Returns the number of distinct target vertices of edges with the given label or of all
+   * edges, if there are no statistics for the label.
+   *
+   * @param edgeLabel edge label
+   * @return distinct target vertex count
+   */
+  private long getDistinctTargetCount(String edgeLabel) {
+    long distinctTargetCount = getGraphStatistics().getDistinctTargetVertexCount(edgeLabel);
+    return distinctTargetCount == 0L ?
+      getGraphStatistics().getDistinctTargetVertexCount() : distinctTargetCount;
+  }
+
   /**
    * Updates the state using the information stored in the given meta data.
    *
@@ -102,12 +198,13 @@ class JoinEstimator extends Estimator {
     if (entryCount == 1) {
       processVertex(variables.get(0));
     } else {
-      String edgeVariable = variables.get(1);
+      // the column of the edge variable is not fixed, since the target of a path may be its source
+      String edgeVariable = metaData.getEdgeVariables().get(0);
       String sourceVariable = getQueryHandler().getVertexById(
         getQueryHandler().getEdgeByVariable(edgeVariable).getSourceVertexId()).getVariable();
       String targetVariable = getQueryHandler().getVertexById(
         getQueryHandler().getEdgeByVariable(edgeVariable).getTargetVertexId()).getVariable();
-      processEdge(sourceVariable, variables.get(1), targetVariable);
+      processEdge(sourceVariable, edgeVariable, targetVariable);
     }
   }
 
@@ -133,14 +230,8 @@ class JoinEstimator extends Estimator {
   private void processEdge(String sourceVariable, String edgeVariable, String targetVariable) {
     String edgeLabel = getLabel(edgeVariable, false);
 
-    long distinctSourceCount = getGraphStatistics().getDistinctSourceVertexCount(edgeLabel);
-    if (distinctSourceCount == 0L) {
-      distinctSourceCount = getGraphStatistics().getDistinctSourceVertexCount();
-    }
-    long distinctTargetCount = getGraphStatistics().getDistinctTargetVertexCount(edgeLabel);
-    if (distinctTargetCount == 0L) {
-      distinctTargetCount = getGraphStatistics().getDistinctTargetVertexCount();
-    }
+    long distinctSourceCount = getDistinctSourceCount(edgeLabel);
+    long distinctTargetCount = getDistinctTargetCount(edgeLabel);
 
     Edge queryEdge = getQueryHandler().getEdgeByVariable(edgeVariable);
     if (queryEdge.getUpperBound() > 1) {
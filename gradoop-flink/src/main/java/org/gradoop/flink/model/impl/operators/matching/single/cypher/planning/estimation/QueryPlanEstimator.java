@@ -20,9 +20,16 @@ import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphSt
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.WorstCaseOptimalJoinNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Estimates a given query plan by traversing its nodes and updating the state of specific
@@ -33,6 +40,14 @@ public class QueryPlanEstimator {
    * The query plan to estimate
    */
   private final QueryPlan queryPlan;
+  /**
+   * The query handler represents the query.
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Statistics about the search graph.
+   */
+  private final GraphStatistics graphStatistics;
   /**
    * Estimates the cardinality of the joins in the given query plan.
    */
@@ -52,6 +67,8 @@ public class QueryPlanEstimator {
   public QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
     GraphStatistics graphStatistics) {
     this.queryPlan = queryPlan;
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
     this.joinEstimator = new JoinEstimator(queryHandler, graphStatistics);
     this.filterEstimator = new FilterEstimator(queryHandler, graphStatistics);
   }
@@ -83,6 +100,107 @@ public class QueryPlanEstimator {
     return Math.round(cardinality * selectivity);
   }
 
+  /**
+   * Computes the estimated costs of the query plan, i.e. the sum of the estimated cardinalities of
+   * all intermediate results created by its joins.
+   *
+   * @return estimated costs of the specified plan
+   */
+  public double getCosts() {
+    return getCosts(queryPlan.getRoot());
+  }
+
+  /**
+   * Computes the estimated costs of the joins in the sub-plan rooted at the given node.
+   *
+   * @param node plan node
+   * @return estimated costs of the sub-plan
+   */
+  private double getCosts(PlanNode node) {
+    double costs = 0d;
+    if (node instanceof WorstCaseOptimalJoinNode) {
+      costs += getWorstCaseOptimalJoinCosts((WorstCaseOptimalJoinNode) node);
+    } else if (node instanceof JoinNode) {
+      costs += getCardinality(node);
+    }
+
+    if (node instanceof BinaryNode) {
+      costs += getCosts(((BinaryNode) node).getLeftChild());
+      costs += getCosts(((BinaryNode) node).getRightChild());
+    }
+    if (node instanceof UnaryNode) {
+      costs += getCosts(((UnaryNode) node).getChildNode());
+    }
+    if (node instanceof NaryNode) {
+      costs += ((NaryNode) node).getChildren().stream().mapToDouble(this::getCosts).sum();
+    }
+    return costs;
+  }
+
+  /**
+   * Computes the estimated costs of a worst-case optimal join. For each bound vertex, the costs
+   * consist of
+   *
+   * <ul>
+   * <li>the embeddings paired with each candidate list size, if there are multiple lists</li>
+   * <li>the candidates proposed by the smallest list of each embedding</li>
+   * <li>the candidates remaining after each further intersection</li>
+   * <li>the embeddings joined with the vertex</li>
+   * </ul>
+   *
+   * The candidate list sizes of an edge are assumed to be exponentially distributed. Hence, the
+   * minimum of several lists is exponentially distributed as well and its mean is the reciprocal
+   * of the sum of the reciprocal means.
+   *
+   * @param node worst-case optimal join node
+   * @return estimated costs of the join
+   */
+  private double getWorstCaseOptimalJoinCosts(WorstCaseOptimalJoinNode node) {
+    List<PlanNode> vertexNodes = node.getVertexNodes();
+    List<PlanNode> boundEdgeNodes = new ArrayList<>();
+    PlanNode boundNode = vertexNodes.get(0);
+    double boundCardinality = getCardinality(boundNode);
+    double costs = 0d;
+
+    for (int step = 1; step < vertexNodes.size(); step++) {
+      List<PlanNode> edgeNodes = node.getEdgeNodes(step);
+      List<String> boundVariables = boundNode.getEmbeddingMetaData().getVertexVariables();
+      double inverseProposals = 0d;
+      for (PlanNode edgeNode : edgeNodes) {
+        List<String> joinVariables = edgeNode.getEmbeddingMetaData().getVertexVariables().stream()
+          .filter(boundVariables::contains)
+          .collect(Collectors.toList());
+        PlanNode candidates = new JoinEmbeddingsNode(boundNode, edgeNode, joinVariables,
+          node.getVertexStrategy(), node.getEdgeStrategy());
+        inverseProposals += 1d / Math.max(getCardinality(candidates), 1L);
+      }
+
+      boundEdgeNodes.addAll(edgeNodes);
+      boundNode = new WorstCaseOptimalJoinNode(vertexNodes.subList(0, step + 1), boundEdgeNodes,
+        node.getVertexStrategy(), node.getEdgeStrategy());
+      double extendedCardinality = getCardinality(boundNode);
+
+      if (edgeNodes.size() > 1) {
+        costs += edgeNodes.size() * boundCardinality +
+          (edgeNodes.size() - 1) * extendedCardinality;
+      }
+      costs += 1d / inverseProposals + extendedCardinality;
+      boundCardinality = extendedCardinality;
+    }
+    return costs;
+  }
+
+  /**
+   * Estimates the cardinality of the sub-plan rooted at the given node.
+   *
+   * @param node plan node
+   * @return estimated cardinality of the sub-plan
+   */
+  private long getCardinality(PlanNode node) {
+    return new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+      .getCardinality();
+  }
+
   /**
    * Visits the node if necessary and traverses the plan further if possible.
    *
@@ -103,5 +221,8 @@ public class QueryPlanEstimator {
     if (node instanceof UnaryNode) {
       traversePlan(((UnaryNode) node).getChildNode());
     }
+    if (node instanceof NaryNode) {
+      ((NaryNode) node).getChildren().forEach(this::traversePlan);
+    }
   }
 }
@@ -0,0 +1,463 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamicprogramming;
+
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.flink.model.api.epgm.BaseGraph;
+import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.VERTEX;
+
+/**
+ * A cost-based query planner that enumerates bushy join trees by dynamic programming.
+ * <p>
+ * The planner follows the DPccp algorithm: the leaf entries of the plan table, i.e. the query
+ * vertices and (variable length) edges, form a join graph in which two entries are connected if
+ * they share a query variable. The planner enumerates each pair of a connected sub-pattern and a
+ * connected complement exactly once, smaller sub-patterns before larger ones. For every connected
+ * sub-pattern it keeps the split into two joined sub-patterns with the lowest costs, where the
+ * costs of a plan are the sum of the estimated cardinalities of all its intermediate results.
+ * <p>
+ * The leaves of each cyclic component, i.e. the 1-hop edges lying on a cycle and their vertices,
+ * may additionally be joined by a single worst-case optimal join. This plan is a further candidate
+ * for the sub-pattern of the component, which is kept unless a split into two sub-patterns is
+ * estimated to be cheaper.
+ * <p>
+ * The estimated cardinality of a sub-pattern does not depend on the order in which its vertices
+ * and edges are joined. It is therefore estimated once per sub-pattern and query plans are only
+ * built for the splits that are actually used.
+ * <p>
+ * The number of enumerated pairs grows exponentially with the pattern size. Patterns with more
+ * vertices and edges than a configurable maximum are therefore planned by the
+ * {@link GreedyPlanner}, which joins cyclic components the same way. The connected components of disconnected patterns are planned
+ * separately and combined like in the {@link GreedyPlanner}.
+ *
+ * @param <G> The graph head type.
+ * @param <V> The vertex type.
+ * @param <E> The edge type.
+ * @param <LG> The graph type.
+ * @param <GC> The graph collection type.
+ */
+public class DynamicProgrammingPlanner<
+  G extends GraphHead,
+  V extends org.gradoop.common.model.api.entities.Vertex,
+  E extends org.gradoop.common.model.api.entities.Edge,
+  LG extends BaseGraph<G, V, E, LG, GC>,
+  GC extends BaseGraphCollection<G, V, E, LG, GC>> extends GreedyPlanner<G, V, E, LG, GC> {
+
+  /**
+   * Default maximum number of query vertices and edges that are planned by dynamic programming.
+   * Dense patterns of this size still plan in milliseconds, larger ones may enumerate millions of
+   * sub-pattern pairs.
+   */
+  public static final int DEFAULT_MAX_PATTERN_SIZE = 12;
+  /**
+   * Maximum number of query vertices and edges that are planned by dynamic programming.
+   */
+  private final int maxPatternSize;
+  /**
+   * Bit mask of the adjacent leaf entries in the join graph for each leaf entry.
+   */
+  private long[] neighbors;
+  /**
+   * First part of the cheapest split of each connected sub-pattern, identified by the bit mask
+   * of its leaves.
+   */
+  private Map<Long, Long> bestSplits;
+  /**
+   * Costs of the cheapest split of each connected sub-pattern.
+   */
+  private Map<Long, Double> bestCosts;
+  /**
+   * Estimated cardinality of each connected sub-pattern.
+   */
+  private Map<Long, Long> cardinalities;
+  /**
+   * Query plan of each connected sub-pattern, built from its cheapest split on demand.
+   */
+  private Map<Long, PlanTableEntry> plans;
+
+  /**
+   * Creates a new dynamic programming planner using the {@link #DEFAULT_MAX_PATTERN_SIZE}.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public DynamicProgrammingPlanner(LG graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DEFAULT_MAX_PATTERN_SIZE);
+  }
+
+  /**
+   * Creates a new dynamic programming planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxPatternSize maximum number of query vertices and edges that are planned by dynamic
+   *                       programming, larger patterns are planned greedily
+   */
+  public DynamicProgrammingPlanner(LG graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int maxPatternSize) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, maxPatternSize,
+      false);
+  }
+
+  /**
+   * Creates a new dynamic programming planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxPatternSize maximum number of query vertices and edges that are planned by dynamic
+   *                       programming, larger patterns are planned greedily
+   * @param reachability true, if anonymous variable length paths may be evaluated by reachability
+   */
+  public DynamicProgrammingPlanner(LG graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int maxPatternSize, boolean reachability) {
+    super(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, reachability);
+    this.maxPatternSize = Math.min(maxPatternSize, Long.SIZE - 1);
+  }
+
+  @Override
+  public PlanTableEntry plan() {
+    PlanTable leafTable = initPlanTable();
+    if (leafTable.size() > maxPatternSize) {
+      return plan(joinCyclicComponents(leafTable));
+    }
+
+    leafTable = orderBreadthFirst(leafTable);
+    initJoinGraph(leafTable);
+    addCyclicComponents(leafTable);
+    for (int i = leafTable.size() - 1; i >= 0; i--) {
+      long leaf = 1L << i;
+      emitConnectedSubgraph(leaf);
+      enumerateConnectedSubgraphs(leaf, lowerOrEqual(i));
+    }
+
+    PlanTable componentTable = new PlanTable();
+    for (long component : getComponents(leafTable.size())) {
+      PlanTableEntry entry = getPlan(component);
+      if (entry == null) {
+        // no plan connects all vertices and edges of the component
+        return plan(joinCyclicComponents(leafTable));
+      }
+      componentTable.add(entry);
+    }
+    return plan(componentTable);
+  }
+
+  /**
+   * Orders the leaf entries breadth-first along the join graph. The enumeration relies on this
+   * order to visit each sub-pattern before any larger sub-pattern containing it.
+   *
+   * @param leafTable plan table containing the leaf entries
+   * @return plan table containing the leaf entries in breadth-first order
+   */
+  private PlanTable orderBreadthFirst(PlanTable leafTable) {
+    List<PlanTableEntry> remaining = new ArrayList<>();
+    leafTable.forEach(remaining::add);
+    List<PlanTableEntry> ordered = new ArrayList<>();
+
+    while (!remaining.isEmpty()) {
+      ordered.add(remaining.remove(0));
+      for (int i = ordered.size() - 1; i < ordered.size(); i++) {
+        Iterator<PlanTableEntry> iterator = remaining.iterator();
+        while (iterator.hasNext()) {
+          PlanTableEntry entry = iterator.next();
+          if (isConnected(ordered.get(i), entry)) {
+            ordered.add(entry);
+            iterator.remove();
+          }
+        }
+      }
+    }
+
+    PlanTable orderedTable = new PlanTable();
+    ordered.forEach(orderedTable::add);
+    return orderedTable;
+  }
+
+  /**
+   * Creates the join graph of the leaf entries and initializes the best plans of the single
+   * leaves.
+   *
+   * @param leafTable plan table containing the leaf entries
+   */
+  private void initJoinGraph(PlanTable leafTable) {
+    int size = leafTable.size();
+    neighbors = new long[size];
+    bestSplits = new HashMap<>();
+    bestCosts = new HashMap<>();
+    cardinalities = new HashMap<>();
+    plans = new HashMap<>();
+
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        if (i != j && isConnected(leafTable.get(i), leafTable.get(j))) {
+          neighbors[i] |= 1L << j;
+        }
+      }
+      plans.put(1L << i, leafTable.get(i));
+      bestCosts.put(1L << i, 0d);
+    }
+  }
+
+  /**
+   * Adds a worst-case optimal join of each cyclic component as the initial plan of the
+   * sub-pattern formed by the leaves of the component.
+   *
+   * @param leafTable plan table containing the leaf entries
+   */
+  private void addCyclicComponents(PlanTable leafTable) {
+    for (List<PlanTableEntry> component : getCyclicComponents(leafTable)) {
+      long subgraph = 0;
+      for (int i = 0; i < leafTable.size(); i++) {
+        if (component.contains(leafTable.get(i))) {
+          subgraph |= 1L << i;
+        }
+      }
+      PlanTableEntry entry = createWorstCaseOptimalJoinEntry(component);
+      plans.put(subgraph, entry);
+      cardinalities.put(subgraph, getCardinality(entry));
+      bestCosts.put(subgraph, getCosts(entry));
+    }
+  }
+
+  /**
+   * Checks if two leaf entries are connected in the join graph. A vertex entry is connected to
+   * the entries of its incident edges. Edge entries are not connected to each other, since they
+   * can only be joined via a vertex or a partial match.
+   *
+   * @param first first leaf entry
+   * @param second second leaf entry
+   * @return true, iff the entries are connected
+   */
+  private boolean isConnected(PlanTableEntry first, PlanTableEntry second) {
+    return (first.getType() == VERTEX) != (second.getType() == VERTEX) &&
+      !getOverlap(first, second).isEmpty();
+  }
+
+  /**
+   * Enumerates all connected sub-patterns that extend the given sub-pattern by leaves which are
+   * not excluded.
+   *
+   * @param subgraph connected sub-pattern
+   * @param excluded leaves that must not be added
+   */
+  private void enumerateConnectedSubgraphs(long subgraph, long excluded) {
+    long neighborhood = getNeighborhood(subgraph) & ~excluded;
+    for (long subset = next(0, neighborhood); subset != 0; subset = next(subset, neighborhood)) {
+      emitConnectedSubgraph(subgraph | subset);
+    }
+    for (long subset = next(0, neighborhood); subset != 0; subset = next(subset, neighborhood)) {
+      enumerateConnectedSubgraphs(subgraph | subset, excluded | neighborhood);
+    }
+  }
+
+  /**
+   * Enumerates all connected complements of a connected sub-pattern and combines the plans of
+   * both.
+   *
+   * @param subgraph connected sub-pattern
+   */
+  private void emitConnectedSubgraph(long subgraph) {
+    long excluded = subgraph | lowerOrEqual(Long.numberOfTrailingZeros(subgraph));
+    long neighborhood = getNeighborhood(subgraph) & ~excluded;
+    for (int i = Long.SIZE - 1 - Long.numberOfLeadingZeros(neighborhood); i >= 0; i--) {
+      long complement = 1L << i;
+      if ((neighborhood & complement) != 0) {
+        emitPair(subgraph, complement);
+        enumerateComplements(subgraph, complement,
+          excluded | (lowerOrEqual(i) & neighborhood));
+      }
+    }
+  }
+
+  /**
+   * Enumerates all connected complements of a sub-pattern that extend the given complement by
+   * leaves which are not excluded.
+   *
+   * @param subgraph connected sub-pattern
+   * @param complement connected complement of the sub-pattern
+   * @param excluded leaves that must not be added to the complement
+   */
+  private void enumerateComplements(long subgraph, long complement, long excluded) {
+    long neighborhood = getNeighborhood(complement) & ~excluded;
+    for (long subset = next(0, neighborhood); subset != 0; subset = next(subset, neighborhood)) {
+      emitPair(subgraph, complement | subset);
+    }
+    for (long subset = next(0, neighborhood); subset != 0; subset = next(subset, neighborhood)) {
+      enumerateComplements(subgraph, complement | subset, excluded | neighborhood);
+    }
+  }
+
+  /**
+   * Evaluates the split of the union of two disjoint connected sub-patterns into these
+   * sub-patterns and keeps it, if it is cheaper than the best split found so far.
+   *
+   * @param first first sub-pattern
+   * @param second second sub-pattern
+   */
+  private void emitPair(long first, long second) {
+    long union = first | second;
+    Double currentCosts = bestCosts.get(union);
+    if (currentCosts == null) {
+      // first split of this sub-pattern, its plan is built to estimate the cardinality
+      PlanTableEntry entry = join(first, second);
+      if (entry == null) {
+        return;
+      }
+      plans.put(union, entry);
+      cardinalities.put(union, getCardinality(entry));
+    }
+
+    double costs = bestCosts.get(first) + bestCosts.get(second) + cardinalities.get(union);
+    if (currentCosts == null || costs < currentCosts) {
+      if (currentCosts != null) {
+        plans.remove(union);
+      }
+      bestSplits.put(union, first);
+      bestCosts.put(union, costs);
+    }
+  }
+
+  /**
+   * Returns the plan of a connected sub-pattern. The plan is built from the cheapest split of
+   * the sub-pattern, if it does not exist yet.
+   *
+   * @param subgraph connected sub-pattern
+   * @return plan of the sub-pattern or {@code null}, if there is none
+   */
+  private PlanTableEntry getPlan(long subgraph) {
+    PlanTableEntry entry = plans.get(subgraph);
+    if (entry == null && bestSplits.containsKey(subgraph)) {
+      long first = bestSplits.get(subgraph);
+      entry = join(first, subgraph & ~first);
+      plans.put(subgraph, entry);
+    }
+    return entry;
+  }
+
+  /**
+   * Joins the plans of two disjoint connected sub-patterns.
+   *
+   * @param first first sub-pattern
+   * @param second second sub-pattern
+   * @return cheapest plan joining both sub-patterns or {@code null}, if they cannot be joined
+   */
+  private PlanTableEntry join(long first, long second) {
+    PlanTableEntry firstEntry = getPlan(first);
+    PlanTableEntry secondEntry = getPlan(second);
+    PlanTable candidates = new PlanTable();
+    addJoins(candidates, firstEntry, secondEntry);
+    addJoins(candidates, secondEntry, firstEntry);
+    return candidates.size() == 0 ? null :
+      evaluateProjection(evaluateFilter(candidates)).min();
+  }
+
+  /**
+   * Returns the estimated cardinality of a plan. Estimations exceeding the value range are
+   * treated as the maximum cardinality.
+   *
+   * @param entry plan table entry
+   * @return estimated cardinality
+   */
+  private static long getCardinality(PlanTableEntry entry) {
+    long cardinality = entry.getEstimatedCardinality();
+    return cardinality < 0 ? Long.MAX_VALUE : cardinality;
+  }
+
+  /**
+   * Computes the connected components of the join graph.
+   *
+   * @param size number of leaf entries
+   * @return bit masks of the leaves of each component
+   */
+  private List<Long> getComponents(int size) {
+    List<Long> components = new ArrayList<>();
+    long remaining = lowerOrEqual(size - 1);
+    while (remaining != 0) {
+      long component = Long.lowestOneBit(remaining);
+      long frontier = component;
+      while (frontier != 0) {
+        frontier = getNeighborhood(component);
+        component |= frontier;
+      }
+      components.add(component);
+      remaining &= ~component;
+    }
+    return components;
+  }
+
+  /**
+   * Returns the leaves adjacent to a sub-pattern that are not part of the sub-pattern.
+   *
+   * @param subgraph sub-pattern
+   * @return neighborhood of the sub-pattern
+   */
+  private long getNeighborhood(long subgraph) {
+    long neighborhood = 0;
+    for (long rest = subgraph; rest != 0; rest &= rest - 1) {
+      neighborhood |= neighbors[Long.numberOfTrailingZeros(rest)];
+    }
+    return neighborhood & ~subgraph;
+  }
+
+  /**
+   * Returns the next non-empty subset of a set in ascending order, so that each subset is
+   * returned before its supersets.
+   *
+   * @param subset current subset, {@code 0} to start the enumeration
+   * @param set set to enumerate the subsets of
+   * @return next subset or {@code 0}, if all subsets have been enumerated
+   */
+  private static long next(long subset, long set) {
+    return (subset - set) & set;
+  }
+
+  /**
+   * Returns the bit mask of all leaves with an index lower or equal to the given index.
+   *
+   * @param index leaf index
+   * @return bit mask of the leaves {@code 0..index}
+   */
+  private static long lowerOrEqual(int index) {
+    return index >= Long.SIZE - 1 ? -1L : (1L << (index + 1)) - 1;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.flink.api.java.DataSet;
@@ -22,15 +23,19 @@ import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.util.GradoopConstants;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedLayoutUtils;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.JoinEstimator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
@@ -42,6 +47,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.WorstCaseOptimalJoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.ProjectEmbeddingsNode;
 import org.s1ck.gdl.model.Edge;
@@ -49,8 +55,11 @@ import org.s1ck.gdl.model.Vertex;
 import org.s1ck.gdl.utils.Comparator;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -96,6 +105,10 @@ public class GreedyPlanner<
    * The morphism type for edge mappings.
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * True, if anonymous variable length paths may be evaluated by reachability.
+   */
+  private final boolean reachability;
 
   /**
    * Creates a new greedy planner.
@@ -108,11 +121,32 @@ public class GreedyPlanner<
    */
   public GreedyPlanner(LG graph, QueryHandler queryHandler,
     GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, false);
+  }
+
+  /**
+   * Creates a new greedy planner.
+   * <p>
+   * If reachability is enabled, an anonymous variable length path with a lower bound of at most 1
+   * is matched by a single path for each pair of endpoints, if vertices and edges are matched
+   * homomorphically. Otherwise, every path between the endpoints is part of the result.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param reachability true, if anonymous variable length paths may be evaluated by reachability
+   */
+  public GreedyPlanner(LG graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    boolean reachability) {
     this.graph = graph;
     this.queryHandler = queryHandler;
     this.graphStatistics = graphStatistics;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
+    this.reachability = reachability;
   }
 
   /**
@@ -122,8 +156,17 @@ public class GreedyPlanner<
    * @return entry with minimum execution costs
    */
   public PlanTableEntry plan() {
-    PlanTable planTable = initPlanTable();
+    return plan(joinCyclicComponents(initPlanTable()));
+  }
 
+  /**
+   * Greedily combines the entries of the specified plan table until a single entry covers the
+   * whole query.
+   *
+   * @param planTable plan table containing the entries to combine
+   * @return entry with minimum execution costs
+   */
+  protected PlanTableEntry plan(PlanTable planTable) {
     while (planTable.size() > 1) {
       PlanTable newPlans = evaluateJoins(planTable);
 
@@ -153,7 +196,7 @@ public class GreedyPlanner<
    *
    * @return initial plan table
    */
-  private PlanTable initPlanTable() {
+  protected PlanTable initPlanTable() {
     PlanTable planTable = new PlanTable();
     createVertexPlans(planTable);
     createEdgePlans(planTable);
@@ -179,9 +222,10 @@ public class GreedyPlanner<
       CNF vertexPredicates = allPredicates.removeSubCNF(vertexVariable);
       Set<String> projectionKeys = allPredicates.getPropertyKeys(vertexVariable);
 
-      DataSet<V> vertices =
-        vertex.getLabel().equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
-          graph.getVertices() : graph.getVerticesByLabel(vertex.getLabel());
+      Set<String> labels = getLabels(vertexVariable, vertex.getLabel(),
+        GradoopConstants.DEFAULT_VERTEX_LABEL, vertexPredicates);
+      DataSet<V> vertices = labels == null ?
+        graph.getVertices() : IndexedLayoutUtils.getVerticesByLabels(graph, labels);
 
       FilterAndProjectVerticesNode<V> node = new FilterAndProjectVerticesNode<>(vertices,
         vertex.getVariable(), vertexPredicates, projectionKeys);
@@ -211,9 +255,10 @@ public class GreedyPlanner<
 
       boolean isPath = edge.getUpperBound() != 1;
 
-      DataSet<E> edges =
-        edge.getLabel().equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
-          graph.getEdges() : graph.getEdgesByLabel(edge.getLabel());
+      Set<String> labels = getLabels(edgeVariable, edge.getLabel(),
+        GradoopConstants.DEFAULT_EDGE_LABEL, edgePredicates);
+      DataSet<E> edges = labels == null ?
+        graph.getEdges() : IndexedLayoutUtils.getEdgesByLabels(graph, labels);
 
       FilterAndProjectEdgesNode<E> node = new FilterAndProjectEdgesNode<>(edges,
         sourceVariable, edgeVariable, targetVariable, edgePredicates, projectionKeys, isPath);
@@ -225,6 +270,357 @@ public class GreedyPlanner<
     }
   }
 
+  /**
+   * Returns the labels the elements of a query variable are restricted to. The labels are given by
+   * the label of the query element. On a label-indexed search graph, clauses of the form
+   * {@code (v.__label__ = 'A' OR v.__label__ = 'B')} additionally restrict the labels, so that only
+   * the datasets of those labels are read.
+   *
+   * @param variable query variable
+   * @param label label of the query element
+   * @param defaultLabel default label of the element type
+   * @param predicates predicates of the query variable
+   * @return labels of the query element or {@code null}, if the element may have any label
+   */
+  private Set<String> getLabels(String variable, String label, String defaultLabel,
+    CNF predicates) {
+    Set<String> labels = label.equals(defaultLabel) ? null : Sets.newHashSet(label);
+    if (!graph.isIndexedGVELayout()) {
+      return labels;
+    }
+    for (CNFElement clause : predicates.getPredicates()) {
+      Set<String> clauseLabels = new HashSet<>();
+      for (ComparisonExpression comparison : clause.getPredicates()) {
+        String clauseLabel = getLabel(variable, comparison);
+        if (clauseLabel == null) {
+          clauseLabels = null;
+          break;
+        }
+        clauseLabels.add(clauseLabel);
+      }
+      if (clauseLabels != null) {
+        if (labels == null) {
+          labels = clauseLabels;
+        } else {
+          labels.retainAll(clauseLabels);
+        }
+      }
+    }
+    return labels;
+  }
+
+  /**
+   * Returns the label compared by an expression of the form {@code v.__label__ = 'A'}.
+   *
+   * @param variable query variable
+   * @param comparison comparison expression
+   * @return compared label or {@code null}, if the expression is not a label equality
+   */
+  private String getLabel(String variable, ComparisonExpression comparison) {
+    if (comparison.getComparator() != Comparator.EQ) {
+      return null;
+    }
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+    if (rhs instanceof PropertySelectorComparable) {
+      QueryComparable swap = lhs;
+      lhs = rhs;
+      rhs = swap;
+    }
+    if (!(lhs instanceof PropertySelectorComparable) || !(rhs instanceof LiteralComparable)) {
+      return null;
+    }
+    PropertySelectorComparable selector = (PropertySelectorComparable) lhs;
+    Object value = ((LiteralComparable) rhs).getValue();
+    return selector.getVariable().equals(variable) &&
+      selector.getPropertyKey().equals("__label__") && value instanceof String ?
+      (String) value : null;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Cyclic sub-patterns
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Replaces the leaf entries of each cyclic component of the query graph by a single entry that
+   * joins them using a {@link WorstCaseOptimalJoinNode}, if that is estimated to be cheaper than
+   * joining them by binary joins. Binary joins may materialize all open paths of a cycle before
+   * the closing edge prunes them, but on sparse graphs they are often cheaper than counting and
+   * intersecting the candidate lists.
+   *
+   * @param leafTable plan table containing the leaf entries
+   * @return plan table containing the remaining leaf entries and the cyclic component entries
+   */
+  protected PlanTable joinCyclicComponents(PlanTable leafTable) {
+    Set<PlanTableEntry> joinedEntries = new HashSet<>();
+    PlanTable componentTable = new PlanTable();
+    for (List<PlanTableEntry> component : getCyclicComponents(leafTable)) {
+      PlanTableEntry joinEntry = createWorstCaseOptimalJoinEntry(component);
+      PlanTable binaryTable = new PlanTable();
+      component.forEach(binaryTable::add);
+      if (getCosts(joinEntry) < getCosts(plan(binaryTable))) {
+        joinedEntries.addAll(component);
+        componentTable.add(joinEntry);
+      }
+    }
+    if (joinedEntries.isEmpty()) {
+      return leafTable;
+    }
+
+    PlanTable planTable = new PlanTable();
+    for (PlanTableEntry entry : leafTable) {
+      if (!joinedEntries.contains(entry)) {
+        planTable.add(entry);
+      }
+    }
+    componentTable.forEach(planTable::add);
+    return planTable;
+  }
+
+  /**
+   * Returns the leaf entries of each cyclic component of the query graph. A cyclic component
+   * consists of the 1-hop edges lying on a cycle of the query graph (i.e. edges that are no
+   * bridges) and their vertices.
+   *
+   * @param leafTable plan table containing the leaf entries
+   * @return vertex and edge entries of each cyclic component
+   */
+  protected List<List<PlanTableEntry>> getCyclicComponents(PlanTable leafTable) {
+    Map<String, PlanTableEntry> vertexEntries = new HashMap<>();
+    List<PlanTableEntry> edgeEntries = new ArrayList<>();
+    for (PlanTableEntry entry : leafTable) {
+      if (entry.getType() == VERTEX) {
+        vertexEntries.put(entry.getProcessedVariables().iterator().next(), entry);
+      } else if (entry.getType() == EDGE) {
+        List<String> endpoints = getEndpoints(entry);
+        if (!endpoints.get(0).equals(endpoints.get(1))) {
+          edgeEntries.add(entry);
+        }
+      }
+    }
+
+    List<PlanTableEntry> cyclicEdges = edgeEntries.stream()
+      .filter(edge -> !isBridge(edge, edgeEntries))
+      .collect(Collectors.toList());
+
+    List<List<PlanTableEntry>> components = new ArrayList<>();
+    for (List<PlanTableEntry> edges : getConnectedComponents(cyclicEdges)) {
+      List<PlanTableEntry> component = edges.stream()
+        .flatMap(edge -> getEndpoints(edge).stream())
+        .distinct()
+        .map(vertexEntries::get)
+        .collect(Collectors.toList());
+      component.addAll(edges);
+      components.add(component);
+    }
+    return components;
+  }
+
+  /**
+   * Creates an entry that joins the vertex and edge entries of a cyclic component using a
+   * {@link WorstCaseOptimalJoinNode}. Each vertex is tried as the first one to bind and the
+   * order with the lowest estimated costs is used.
+   *
+   * @param component vertex and edge entries of the component
+   * @return an entry that represents the join of all entries of the component
+   */
+  protected PlanTableEntry createWorstCaseOptimalJoinEntry(List<PlanTableEntry> component) {
+    Map<String, PlanTableEntry> vertexEntries = new HashMap<>();
+    List<PlanTableEntry> edges = new ArrayList<>();
+    for (PlanTableEntry entry : component) {
+      if (entry.getType() == VERTEX) {
+        vertexEntries.put(entry.getProcessedVariables().iterator().next(), entry);
+      } else {
+        edges.add(entry);
+      }
+    }
+
+    PlanTableEntry bestEntry = null;
+    double bestCosts = 0d;
+    for (PlanTableEntry startEntry : component) {
+      if (startEntry.getType() != VERTEX) {
+        continue;
+      }
+      String start = startEntry.getProcessedVariables().iterator().next();
+      PlanTable joinTable = new PlanTable();
+      joinTable.add(createWorstCaseOptimalJoinEntry(
+        orderVertices(start, edges, vertexEntries), edges));
+      PlanTableEntry entry = evaluateProjection(evaluateFilter(joinTable)).get(0);
+      double costs = getCosts(entry);
+      if (bestEntry == null || costs < bestCosts) {
+        bestEntry = entry;
+        bestCosts = costs;
+      }
+    }
+    return bestEntry;
+  }
+
+  /**
+   * Returns the estimated costs of the query plan of an entry, i.e. the sum of the estimated
+   * cardinalities of its intermediate results.
+   *
+   * @param entry plan table entry
+   * @return estimated costs
+   */
+  protected double getCosts(PlanTableEntry entry) {
+    return new QueryPlanEstimator(entry.getQueryPlan(), queryHandler, graphStatistics)
+      .getCosts();
+  }
+
+  /**
+   * Returns the source and target vertex variable of an edge entry.
+   *
+   * @param edgeEntry edge entry
+   * @return source and target vertex variable
+   */
+  private List<String> getEndpoints(PlanTableEntry edgeEntry) {
+    Edge edge = queryHandler.getEdgeByVariable(edgeEntry.getProcessedVariables().iterator().next());
+    return Lists.newArrayList(
+      queryHandler.getVertexById(edge.getSourceVertexId()).getVariable(),
+      queryHandler.getVertexById(edge.getTargetVertexId()).getVariable());
+  }
+
+  /**
+   * Checks if an edge is a bridge, i.e. its endpoints are not connected by the other edges.
+   *
+   * @param edge edge entry
+   * @param edges all edge entries
+   * @return true, iff the edge does not lie on a cycle
+   */
+  private boolean isBridge(PlanTableEntry edge, List<PlanTableEntry> edges) {
+    List<String> endpoints = getEndpoints(edge);
+    Set<String> visited = Sets.newHashSet(endpoints.get(0));
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (PlanTableEntry other : edges) {
+        List<String> otherEndpoints = getEndpoints(other);
+        if (other != edge && visited.contains(otherEndpoints.get(0)) !=
+          visited.contains(otherEndpoints.get(1))) {
+          visited.addAll(otherEndpoints);
+          changed = true;
+        }
+      }
+    }
+    return !visited.contains(endpoints.get(1));
+  }
+
+  /**
+   * Groups edges into components connected by shared vertices.
+   *
+   * @param edges edge entries
+   * @return connected components
+   */
+  private List<List<PlanTableEntry>> getConnectedComponents(List<PlanTableEntry> edges) {
+    List<PlanTableEntry> remaining = new ArrayList<>(edges);
+    List<List<PlanTableEntry>> components = new ArrayList<>();
+    while (!remaining.isEmpty()) {
+      List<PlanTableEntry> component = Lists.newArrayList(remaining.remove(0));
+      Set<String> vertices = Sets.newHashSet(getEndpoints(component.get(0)));
+      boolean changed = true;
+      while (changed) {
+        changed = false;
+        Iterator<PlanTableEntry> iterator = remaining.iterator();
+        while (iterator.hasNext()) {
+          PlanTableEntry edge = iterator.next();
+          List<String> endpoints = getEndpoints(edge);
+          if (vertices.contains(endpoints.get(0)) || vertices.contains(endpoints.get(1))) {
+            component.add(edge);
+            vertices.addAll(endpoints);
+            iterator.remove();
+            changed = true;
+          }
+        }
+      }
+      components.add(component);
+    }
+    return components;
+  }
+
+  /**
+   * Orders the vertices of a connected component for a worst-case optimal join. The order
+   * starts with the given vertex and continues with the vertex connected to most of the already
+   * ordered vertices, so that as many candidate lists as possible are intersected when binding a
+   * vertex. Ties are broken by the minimum cardinality.
+   *
+   * @param start variable of the first vertex
+   * @param component edge entries of the component
+   * @param vertexEntries vertex entries by their variable
+   * @return vertex entries of the component in join order
+   */
+  private List<PlanTableEntry> orderVertices(String start, List<PlanTableEntry> component,
+    Map<String, PlanTableEntry> vertexEntries) {
+    Set<String> remaining = component.stream()
+      .flatMap(edge -> getEndpoints(edge).stream())
+      .collect(Collectors.toSet());
+    List<String> ordered = Lists.newArrayList(start);
+    remaining.remove(start);
+
+    while (!remaining.isEmpty()) {
+      String next = null;
+      long nextEdges = -1;
+      for (String vertex : remaining) {
+        long edges = component.stream()
+          .map(this::getEndpoints)
+          .filter(endpoints -> endpoints.contains(vertex) &&
+            (ordered.contains(endpoints.get(0)) || ordered.contains(endpoints.get(1))))
+          .count();
+        if (edges > nextEdges || (edges == nextEdges &&
+          vertexEntries.get(vertex).getEstimatedCardinality() <
+            vertexEntries.get(next).getEstimatedCardinality())) {
+          next = vertex;
+          nextEdges = edges;
+        }
+      }
+      ordered.add(next);
+      remaining.remove(next);
+    }
+    return ordered.stream().map(vertexEntries::get).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates an entry that joins the specified vertex and edge entries using a
+   * {@link WorstCaseOptimalJoinNode}. The edges are passed in the order of their estimated
+   * cardinality.
+   *
+   * @param vertices vertex entries in join order
+   * @param edges edge entries
+   * @return an entry that represents the join of all input entries
+   */
+  private PlanTableEntry createWorstCaseOptimalJoinEntry(List<PlanTableEntry> vertices,
+    List<PlanTableEntry> edges) {
+    List<PlanTableEntry> sortedEdges = new ArrayList<>(edges);
+    sortedEdges.sort((a, b) ->
+      Long.compare(a.getEstimatedCardinality(), b.getEstimatedCardinality()));
+
+    WorstCaseOptimalJoinNode node = new WorstCaseOptimalJoinNode(
+      vertices.stream().map(entry -> entry.getQueryPlan().getRoot()).collect(Collectors.toList()),
+      sortedEdges.stream().map(entry -> entry.getQueryPlan().getRoot())
+        .collect(Collectors.toList()),
+      vertexStrategy, edgeStrategy);
+
+    // merge processed variables and predicates as a sequence of joins would do
+    List<PlanTableEntry> entries = new ArrayList<>(vertices);
+    entries.addAll(sortedEdges);
+    Set<String> processedVariables = new HashSet<>();
+    CNF predicates = null;
+    for (PlanTableEntry entry : entries) {
+      if (predicates == null) {
+        predicates = new CNF(entry.getPredicates());
+      } else {
+        CNF leftPredicates = predicates;
+        CNF rightPredicates = new CNF(entry.getPredicates());
+        leftPredicates.removeSubCNF(entry.getProcessedVariables());
+        rightPredicates.removeSubCNF(processedVariables);
+        predicates = leftPredicates.and(rightPredicates);
+      }
+      processedVariables.addAll(entry.getProcessedVariables());
+    }
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
   //------------------------------------------------------------------------------------------------
   // Join and Expand
   //------------------------------------------------------------------------------------------------
@@ -243,19 +639,8 @@ public class GreedyPlanner<
       PlanTableEntry leftEntry = currentTable.get(i);
       if (mayExtend(leftEntry)) {
         for (int j = 0; j < currentTable.size(); j++) {
-          PlanTableEntry rightEntry = currentTable.get(j);
           if (i != j) {
-            List<String> joinVariables = getOverlap(leftEntry, rightEntry);
-            if (joinVariables.size() > 0) {
-              if (rightEntry.getType() == PATH && joinVariables.size() == 2) {
-                // evaluate join with variable length path on source and target vertex
-                newTable.add(joinEntries(leftEntry, rightEntry, joinVariables.subList(0, 1)));
-                newTable.add(joinEntries(leftEntry, rightEntry, joinVariables.subList(1, 2)));
-              } else {
-                // regular join or join with variable length path on source or target vertex
-                newTable.add(joinEntries(leftEntry, rightEntry, joinVariables));
-              }
-            }
+            addJoins(newTable, leftEntry, currentTable.get(j));
           }
         }
       }
@@ -263,6 +648,32 @@ public class GreedyPlanner<
     return newTable;
   }
 
+  /**
+   * Adds all possible joins of the specified entries to the specified plan table. The left entry
+   * is extended by the right entry, if it represents a vertex or a partial match graph and both
+   * entries share at least one query variable.
+   *
+   * @param table plan table to add the joined entries to
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   */
+  protected void addJoins(PlanTable table, PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+    if (!mayExtend(leftEntry)) {
+      return;
+    }
+    List<String> joinVariables = getOverlap(leftEntry, rightEntry);
+    if (joinVariables.size() > 0) {
+      if (rightEntry.getType() == PATH && joinVariables.size() == 2) {
+        // evaluate join with variable length path on source and target vertex
+        table.add(joinEntries(leftEntry, rightEntry, joinVariables.subList(0, 1)));
+        table.add(joinEntries(leftEntry, rightEntry, joinVariables.subList(1, 2)));
+      } else {
+        // regular join or join with variable length path on source or target vertex
+        table.add(joinEntries(leftEntry, rightEntry, joinVariables));
+      }
+    }
+  }
+
   /**
    * Checks if the given entry may be extended. This is only the case for entries that represents
    * either a vertex or a partial match graph.
@@ -281,7 +692,7 @@ public class GreedyPlanner<
    * @param secondEntry second entry
    * @return variables that are available in both input entries
    */
-  private List<String> getOverlap(PlanTableEntry firstEntry, PlanTableEntry secondEntry) {
+  protected List<String> getOverlap(PlanTableEntry firstEntry, PlanTableEntry secondEntry) {
     Set<String> overlap = firstEntry.getAllVariables();
     overlap.retainAll(secondEntry.getAllVariables());
     return new ArrayList<>(overlap);
@@ -323,7 +734,12 @@ public class GreedyPlanner<
   }
 
   /**
-   * Creates an {@link ExpandEmbeddingsNode} from the specified arguments.
+   * Creates an {@link ExpandEmbeddingsNode} from the specified arguments. If reachability is
+   * enabled, the path is anonymous, vertices and edges are matched homomorphic and the lower bound
+   * is at most 1, the node is created with reachability semantics, i.e. a single path is computed
+   * for each pair of start and end vertex. Otherwise, if
+   * the end vertex is already bound by the left entry and the path length is bounded, the path is
+   * expanded from both endpoints if the {@link JoinEstimator} considers that to be cheaper.
    *
    * @param leftEntry left entry
    * @param rightEntry right entry
@@ -348,10 +764,23 @@ public class GreedyPlanner<
     String endVariable = direction == ExpandDirection.OUT ?
       targetVertex.getVariable() : sourceVertex.getVariable();
 
-    return new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+    ExpandStrategy expandStrategy = ExpandStrategy.PATHS;
+    if (reachability && queryHandler.isAnonymousEdge(pathVariable) && lowerBound <= 1 &&
+      vertexStrategy == MatchStrategy.HOMOMORPHISM && edgeStrategy == MatchStrategy.HOMOMORPHISM) {
+      expandStrategy = ExpandStrategy.REACHABILITY;
+    } else if (upperBound > 1 && upperBound < Integer.MAX_VALUE &&
+      leftEntry.getQueryPlan().getRoot().getEmbeddingMetaData().containsEntryColumn(endVariable) &&
+      new JoinEstimator(queryHandler, graphStatistics).isBidirectionalExpansionCheaper(
+        pathVariable, direction, leftEntry.getEstimatedCardinality())) {
+      expandStrategy = ExpandStrategy.BIDIRECTIONAL;
+    }
+
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
       rightEntry.getQueryPlan().getRoot(),
       startVariable, pathVariable, endVariable, lowerBound, upperBound, direction,
       vertexStrategy, edgeStrategy);
+    node.setExpandStrategy(expandStrategy);
+    return node;
   }
 
   //------------------------------------------------------------------------------------------------
@@ -366,7 +795,7 @@ public class GreedyPlanner<
    * @param currentTable query plan table
    * @return input table with possibly updated entries
    */
-  private PlanTable evaluateFilter(PlanTable currentTable) {
+  protected PlanTable evaluateFilter(PlanTable currentTable) {
     PlanTable newTable = new PlanTable();
 
     for (PlanTableEntry entry : currentTable) {
@@ -398,7 +827,7 @@ public class GreedyPlanner<
    * @param currentTable query plan table
    * @return input table with possibly updated entries
    */
-  private PlanTable evaluateProjection(PlanTable currentTable) {
+  protected PlanTable evaluateProjection(PlanTable currentTable) {
     PlanTable newTable = new PlanTable();
 
     for (PlanTableEntry entry : currentTable) {
@@ -81,6 +81,10 @@ public class QueryPlan {
     } else if (node instanceof BinaryNode) {
       printPlanNode(((BinaryNode) node).getLeftChild(), level, sb);
       printPlanNode(((BinaryNode) node).getRightChild(), level, sb);
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        printPlanNode(child, level, sb);
+      }
     }
   }
 }
@@ -19,22 +19,27 @@ import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand
-  .ExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBidirectional;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBulk;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsReachability;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
- * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator.
+ * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator or, depending on the
+ * {@link ExpandStrategy}, an {@link ExpandEmbeddingsReachability} or
+ * {@link ExpandEmbeddingsBidirectional} operator.
  */
 public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   /**
@@ -77,6 +82,10 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * Morphism type for edges
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * Physical operator used for the expansion
+   */
+  private ExpandStrategy expandStrategy = ExpandStrategy.PATHS;
 
   /**
    * Creates a new node.
@@ -110,14 +119,50 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
       leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
   }
 
+  /**
+   * Returns the physical operator used for the expansion.
+   *
+   * @return expand strategy
+   */
+  public ExpandStrategy getExpandStrategy() {
+    return expandStrategy;
+  }
+
+  /**
+   * Sets the physical operator used for the expansion, {@link ExpandStrategy#PATHS} by default.
+   *
+   * @param expandStrategy expand strategy
+   */
+  public void setExpandStrategy(ExpandStrategy expandStrategy) {
+    this.expandStrategy = Objects.requireNonNull(expandStrategy);
+  }
+
   @Override
   public DataSet<Embedding> execute() {
-    ExpandEmbeddings op = new ExpandEmbeddingsBulk(
-      getLeftChild().execute(), getRightChild().execute(),
-      expandColumn, lowerBound, upperBound, expandDirection,
-      getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
-      getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
-      closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+    PhysicalOperator op;
+    switch (expandStrategy) {
+    case REACHABILITY:
+      op = new ExpandEmbeddingsReachability(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, lowerBound, upperBound, expandDirection,
+        closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+      break;
+    case BIDIRECTIONAL:
+      op = new ExpandEmbeddingsBidirectional(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, lowerBound, upperBound, expandDirection,
+        getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+        getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+        closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+      break;
+    default:
+      op = new ExpandEmbeddingsBulk(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, lowerBound, upperBound, expandDirection,
+        getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+        getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+        closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+    }
     op.setName(toString());
     return op.evaluate();
   }
@@ -178,8 +223,9 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
         "upperBound=%d, " +
         "expandDirection=%s, " +
         "vertexMorphismType=%s, " +
-        "edgeMorphismType=%s}",
+        "edgeMorphismType=%s, " +
+        "expandStrategy=%s}",
       startVariable, pathVariable, endVariable, lowerBound, upperBound, expandDirection,
-      vertexStrategy, edgeStrategy);
+      vertexStrategy, edgeStrategy, expandStrategy);
   }
 }
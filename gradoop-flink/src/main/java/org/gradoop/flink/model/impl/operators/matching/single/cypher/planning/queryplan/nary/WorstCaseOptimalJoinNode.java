@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.JoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.WorstCaseOptimalJoin;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * N-ary node that joins vertex and edge leaves forming a (cyclic) sub-pattern by a sequence of
+ * {@link WorstCaseOptimalJoin} operators.
+ *
+ * The vertices are bound in the given order, starting with the embeddings of the first vertex.
+ * Each further vertex is bound by intersecting the adjacency lists of all edges connecting it to
+ * the already bound vertices, where the smallest list of each embedding proposes the candidates.
+ * Afterwards the properties of the vertex are added by a {@link JoinEmbeddings} with its
+ * embeddings.
+ *
+ * For each bound vertex, the resulting embedding contains its edges in the given order, followed
+ * by the vertex. The properties are ordered alike.
+ */
+public class WorstCaseOptimalJoinNode extends NaryNode implements JoinNode {
+  /**
+   * Vertex input nodes in the order the vertices are bound
+   */
+  private final List<PlanNode> vertexNodes;
+  /**
+   * Edge input nodes grouped by the vertex they bind
+   */
+  private final List<List<PlanNode>> edgeNodesByVertex;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Creates a new node.
+   *
+   * @param vertexNodes vertex input nodes in the order the vertices are bound
+   * @param edgeNodes edge input nodes
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public WorstCaseOptimalJoinNode(List<PlanNode> vertexNodes, List<PlanNode> edgeNodes,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    super(concat(vertexNodes, edgeNodes));
+    this.vertexNodes = new ArrayList<>(vertexNodes);
+    this.edgeNodesByVertex = groupByVertex(vertexNodes, edgeNodes);
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+  }
+
+  @Override
+  public DataSet<Embedding> execute() {
+    EmbeddingMetaData metaData = vertexNodes.get(0).getEmbeddingMetaData();
+    DataSet<Embedding> embeddings = vertexNodes.get(0).execute();
+
+    for (int i = 1; i < vertexNodes.size(); i++) {
+      PlanNode vertexNode = vertexNodes.get(i);
+      String vertexVariable = getVertexVariable(vertexNode);
+
+      List<DataSet<Embedding>> edges = new ArrayList<>();
+      List<Integer> joinColumns = new ArrayList<>();
+      List<ExpandDirection> directions = new ArrayList<>();
+      List<Integer> edgePropertyCounts = new ArrayList<>();
+      for (PlanNode edgeNode : edgeNodesByVertex.get(i)) {
+        List<String> endpoints = edgeNode.getEmbeddingMetaData().getVertexVariables();
+        boolean outgoing = endpoints.get(1).equals(vertexVariable);
+        edges.add(edgeNode.execute());
+        joinColumns.add(metaData.getEntryColumn(endpoints.get(outgoing ? 0 : 1)));
+        directions.add(outgoing ? ExpandDirection.OUT : ExpandDirection.IN);
+        edgePropertyCounts.add(edgeNode.getEmbeddingMetaData().getPropertyCount());
+      }
+
+      WorstCaseOptimalJoin op = new WorstCaseOptimalJoin(embeddings, edges,
+        joinColumns, directions, edgePropertyCounts,
+        getColumns(metaData, metaData.getVertexVariables()),
+        getColumns(metaData, metaData.getEdgeVariables()),
+        vertexStrategy, edgeStrategy);
+      op.setName(toString());
+      embeddings = op.evaluate();
+
+      metaData = extendMetaData(metaData, i);
+      JoinEmbeddings join = new JoinEmbeddings(embeddings, vertexNode.execute(),
+        vertexNode.getEmbeddingMetaData().getEntryCount(),
+        metaData.getEntryColumn(vertexVariable), 0);
+      join.setName(toString());
+      embeddings = join.evaluate();
+    }
+    return embeddings;
+  }
+
+  /**
+   * Returns the vertex input nodes in the order the vertices are bound.
+   *
+   * @return vertex input nodes
+   */
+  public List<PlanNode> getVertexNodes() {
+    return vertexNodes;
+  }
+
+  /**
+   * Returns the edge input nodes connecting the vertex bound in the specified step to the
+   * preceding vertices.
+   *
+   * @param step index of the bound vertex
+   * @return edge input nodes
+   */
+  public List<PlanNode> getEdgeNodes(int step) {
+    return edgeNodesByVertex.get(step);
+  }
+
+  /**
+   * Returns the morphism type for vertices.
+   *
+   * @return morphism type for vertices
+   */
+  public MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  /**
+   * Returns the morphism type for edges.
+   *
+   * @return morphism type for edges
+   */
+  public MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    EmbeddingMetaData embeddingMetaData = vertexNodes.get(0).getEmbeddingMetaData();
+    for (int i = 1; i < vertexNodes.size(); i++) {
+      embeddingMetaData = extendMetaData(embeddingMetaData, i);
+    }
+    return embeddingMetaData;
+  }
+
+  /**
+   * Appends the edges and the vertex bound in the specified step to the given meta data.
+   *
+   * @param metaData meta data of the embeddings before the step
+   * @param step index of the bound vertex
+   * @return meta data of the embeddings after the step
+   */
+  private EmbeddingMetaData extendMetaData(EmbeddingMetaData metaData, int step) {
+    EmbeddingMetaData embeddingMetaData = new EmbeddingMetaData(metaData);
+    int entryCount = metaData.getEntryCount();
+    int propertyCount = metaData.getPropertyCount();
+
+    List<PlanNode> nodes = new ArrayList<>(edgeNodesByVertex.get(step));
+    nodes.add(vertexNodes.get(step));
+    for (PlanNode node : nodes) {
+      EmbeddingMetaData nodeMetaData = node.getEmbeddingMetaData();
+      boolean isVertex = nodeMetaData.getEntryCount() == 1;
+      String variable = isVertex ?
+        getVertexVariable(node) : nodeMetaData.getEdgeVariables().get(0);
+      embeddingMetaData.setEntryColumn(variable,
+        isVertex ? EntryType.VERTEX : EntryType.EDGE, entryCount++);
+      for (String key : nodeMetaData.getPropertyKeys(variable)) {
+        embeddingMetaData.setPropertyColumn(variable, key, propertyCount++);
+      }
+    }
+    return embeddingMetaData;
+  }
+
+  /**
+   * Assigns each edge to the vertex whose binding it takes part in, i.e. the later one of its
+   * endpoints.
+   *
+   * @param vertexNodes vertex input nodes in the order the vertices are bound
+   * @param edgeNodes edge input nodes
+   * @return edge input nodes grouped by vertex index
+   */
+  private static List<List<PlanNode>> groupByVertex(List<PlanNode> vertexNodes,
+    List<PlanNode> edgeNodes) {
+    List<String> vertexVariables = vertexNodes.stream()
+      .map(WorstCaseOptimalJoinNode::getVertexVariable)
+      .collect(Collectors.toList());
+    List<List<PlanNode>> edgeNodesByVertex = new ArrayList<>();
+    vertexNodes.forEach(node -> edgeNodesByVertex.add(new ArrayList<>()));
+
+    for (PlanNode edgeNode : edgeNodes) {
+      EmbeddingMetaData metaData = edgeNode.getEmbeddingMetaData();
+      List<String> endpoints = metaData.getVertexVariables();
+      if (metaData.getEntryCount() != 3 || metaData.getEdgeVariables().size() != 1 ||
+        endpoints.size() != 2) {
+        throw new IllegalArgumentException("Edge input must not be a path or a loop: " + edgeNode);
+      }
+      int source = vertexVariables.indexOf(endpoints.get(0));
+      int target = vertexVariables.indexOf(endpoints.get(1));
+      if (source == -1 || target == -1) {
+        throw new IllegalArgumentException("Edge input connects unknown vertices: " + edgeNode);
+      }
+      edgeNodesByVertex.get(Math.max(source, target)).add(edgeNode);
+    }
+
+    for (int i = 1; i < vertexNodes.size(); i++) {
+      if (edgeNodesByVertex.get(i).isEmpty()) {
+        throw new IllegalArgumentException(
+          "Vertex is not connected to its preceding vertices: " + vertexVariables.get(i));
+      }
+    }
+    return edgeNodesByVertex;
+  }
+
+  /**
+   * Returns the variable of a vertex input node.
+   *
+   * @param vertexNode vertex input node
+   * @return vertex variable
+   */
+  private static String getVertexVariable(PlanNode vertexNode) {
+    return vertexNode.getEmbeddingMetaData().getVertexVariables().get(0);
+  }
+
+  /**
+   * Returns the columns of the specified variables.
+   *
+   * @param metaData meta data
+   * @param variables query variables
+   * @return columns of the variables
+   */
+  private static List<Integer> getColumns(EmbeddingMetaData metaData, List<String> variables) {
+    return variables.stream().map(metaData::getEntryColumn).collect(Collectors.toList());
+  }
+
+  /**
+   * Concatenates the vertex and the edge input nodes.
+   *
+   * @param vertexNodes vertex input nodes
+   * @param edgeNodes edge input nodes
+   * @return all input nodes
+   */
+  private static List<PlanNode> concat(List<PlanNode> vertexNodes, List<PlanNode> edgeNodes) {
+    List<PlanNode> children = new ArrayList<>(vertexNodes);
+    children.addAll(edgeNodes);
+    return children;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("WorstCaseOptimalJoinNode{" +
+      "vertexVariables=%s, " +
+      "vertexMorphismType=%s, " +
+      "edgeMorphismType=%s}",
+      vertexNodes.stream()
+        .map(WorstCaseOptimalJoinNode::getVertexVariable)
+        .collect(Collectors.toList()),
+      vertexStrategy, edgeStrategy);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+/**
+ * Specifies the physical operator used to evaluate an expand operation
+ */
+public enum ExpandStrategy {
+  /**
+   * Grow all paths from the start vertices up to the upper bound
+   */
+  PATHS,
+  /**
+   * Compute a single path for each pair of start and reachable end vertex
+   */
+  REACHABILITY,
+  /**
+   * Grow paths from both bound endpoints and merge them in the middle
+   */
+  BIDIRECTIONAL
+}
@@ -48,16 +48,17 @@ public class Overlap<
   @Override
   public LG execute(LG firstGraph, LG secondGraph) {
 
+    // only the ids of the second graph are needed to determine the overlap
     DataSet<V> newVertices = firstGraph.getVertices()
-      .join(secondGraph.getVertices())
+      .join(secondGraph.getVertices().map(new Id<>()))
       .where(new Id<>())
-      .equalTo(new Id<>())
+      .equalTo("*")
       .with(new LeftSide<>());
 
     DataSet<E> newEdges = firstGraph.getEdges()
-      .join(secondGraph.getEdges())
+      .join(secondGraph.getEdges().map(new Id<>()))
       .where(new Id<>())
-      .equalTo(new Id<>())
+      .equalTo("*")
       .with(new LeftSide<>());
 
     return firstGraph.getFactory().fromDataSets(newVertices, newEdges);
@@ -58,7 +58,9 @@ public class EdgeRollUp extends RollUp {
   }
 
   @Override
-  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys) {
+  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys,
+    List<AggregateFunction> vertexAggregateFunctions,
+    List<AggregateFunction> edgeAggregateFunctions) {
     return graph.groupBy(vertexGroupingKeys, vertexAggregateFunctions, groupingKeys,
       edgeAggregateFunctions, strategy);
   }
@@ -25,10 +25,20 @@ import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.SetProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.Average;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.Max;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.Min;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.Sum;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.rollup.functions.CombinePartialAggregates;
+import org.gradoop.flink.model.impl.operators.rollup.functions.FinalizeAggregates;
+import org.gradoop.flink.model.impl.operators.rollup.functions.PartialAggregate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The rollUp operator generates all combinations of the supplied vertex or edge grouping keys
@@ -37,6 +47,12 @@ import java.util.List;
  * keys A, B and C leads to three differently grouped graphs {A,B,C},{A,B},{A} within the resulting
  * graph collection. The grouping can be applied using the vertex or edge grouping keys depending on
  * the implementations of the used sub class.
+ * <p>
+ * If all aggregate functions are decomposable (sum, count, min, max and average), the input graph
+ * is only grouped once using the finest combination of grouping keys. Since the combinations are
+ * prefixes of each other, the coarser groupings are computed from the resulting super vertices and
+ * super edges by combining their partial aggregates. Otherwise, each combination is grouped
+ * separately on the input graph.
  */
 public abstract class RollUp implements UnaryGraphToCollectionOperator {
   /**
@@ -99,10 +115,29 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     DataSet<EPGMEdge> edges = null;
     List<List<String>> groupingKeyCombinations = getGroupingKeyCombinations();
 
+    // group the input graph once by the finest combination, if the coarser ones can be derived
+    LogicalGraph finestGraph = null;
+    if (!groupingKeyCombinations.isEmpty() && isDecomposable(vertexAggregateFunctions) &&
+      isDecomposable(edgeAggregateFunctions)) {
+      finestGraph = applyGrouping(graph, groupingKeyCombinations.get(0),
+        wrap(vertexAggregateFunctions, PartialAggregate::new),
+        wrap(edgeAggregateFunctions, PartialAggregate::new));
+    }
+
     // for each permutation execute a grouping
     for (List<String> combination : groupingKeyCombinations) {
       // apply the grouping
-      LogicalGraph groupedGraph = applyGrouping(graph, combination);
+      LogicalGraph groupedGraph;
+      if (finestGraph == null) {
+        groupedGraph = applyGrouping(graph, combination, vertexAggregateFunctions,
+          edgeAggregateFunctions);
+      } else if (combination == groupingKeyCombinations.get(0)) {
+        groupedGraph = finalizeAggregates(finestGraph);
+      } else {
+        groupedGraph = applyGrouping(finestGraph, combination,
+          wrap(vertexAggregateFunctions, CombinePartialAggregates::new),
+          wrap(edgeAggregateFunctions, CombinePartialAggregates::new));
+      }
 
       // add a property to the grouped graph's head to specify the used keys
       PropertyValue groupingKeys = PropertyValue.create(String.join(",", combination));
@@ -155,6 +190,43 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     return combinations;
   }
 
+  /**
+   * Checks if all given aggregate functions are decomposable, i.e. if their aggregates can be
+   * computed by combining the aggregates of disjoint subsets.
+   *
+   * @param aggregateFunctions aggregate functions, may be {@code null}
+   * @return true, iff all aggregate functions are decomposable
+   */
+  private boolean isDecomposable(List<AggregateFunction> aggregateFunctions) {
+    return aggregateFunctions == null || aggregateFunctions.stream().allMatch(f ->
+      f instanceof Sum || f instanceof Min || f instanceof Max || f instanceof Average);
+  }
+
+  /**
+   * Wraps each of the given aggregate functions.
+   *
+   * @param aggregateFunctions aggregate functions, may be {@code null}
+   * @param wrapper function creating the wrapping aggregate function
+   * @return wrapped aggregate functions
+   */
+  private List<AggregateFunction> wrap(List<AggregateFunction> aggregateFunctions,
+    Function<AggregateFunction, AggregateFunction> wrapper) {
+    return aggregateFunctions == null ? Collections.emptyList() :
+      aggregateFunctions.stream().map(wrapper).collect(Collectors.toList());
+  }
+
+  /**
+   * Computes the final aggregates of a graph grouped using {@link PartialAggregate} functions.
+   *
+   * @param graph graph with partial aggregates
+   * @return graph with final aggregates
+   */
+  private LogicalGraph finalizeAggregates(LogicalGraph graph) {
+    return graph.getFactory().fromDataSets(graph.getGraphHead(),
+      graph.getVertices().map(new FinalizeAggregates<>(wrap(vertexAggregateFunctions, f -> f))),
+      graph.getEdges().map(new FinalizeAggregates<>(wrap(edgeAggregateFunctions, f -> f))));
+  }
+
   /**
    * Set the grouping strategy that will be used for each grouping.
    * {@link GroupingStrategy#GROUP_REDUCE} is used as default.
@@ -179,9 +251,13 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
    *
    * @param graph the graph the group-By operator is applied on
    * @param groupingKeys the vertex or edge grouping keys to use
+   * @param vertexAggregateFunctions aggregate functions to apply on super vertices
+   * @param edgeAggregateFunctions aggregate functions to apply on super edges
    * @return the grouped graph
    */
-  abstract LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys);
+  abstract LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys,
+    List<AggregateFunction> vertexAggregateFunctions,
+    List<AggregateFunction> edgeAggregateFunctions);
 
   /**
    * Returns all vertex or edge grouping key combinations as list. Internally the
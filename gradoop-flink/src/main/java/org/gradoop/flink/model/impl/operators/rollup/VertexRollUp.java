@@ -59,7 +59,9 @@ public class VertexRollUp extends RollUp {
   }
 
   @Override
-  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys) {
+  LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys,
+    List<AggregateFunction> vertexAggregateFunctions,
+    List<AggregateFunction> edgeAggregateFunctions) {
     return graph.groupBy(groupingKeys, vertexAggregateFunctions, edgeGroupingKeys,
       edgeAggregateFunctions, strategy);
   }
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.rollup.functions;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.util.Objects;
+
+/**
+ * Wraps an aggregate function to combine the partial aggregates stored at elements that were
+ * grouped using {@link PartialAggregate}. The increment of an element is its partial aggregate,
+ * which is combined using the aggregation logic of the wrapped function. This is only correct for
+ * decomposable aggregate functions, i.e. functions whose aggregation logic can merge aggregates.
+ */
+public class CombinePartialAggregates implements AggregateFunction {
+  /**
+   * The wrapped aggregate function.
+   */
+  private final AggregateFunction function;
+
+  /**
+   * Creates a new instance wrapping the given aggregate function.
+   *
+   * @param function aggregate function to wrap
+   */
+  public CombinePartialAggregates(AggregateFunction function) {
+    this.function = Objects.requireNonNull(function);
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    return function.aggregate(aggregate, increment);
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return function.getAggregatePropertyKey();
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    return element.getPropertyValue(function.getAggregatePropertyKey());
+  }
+
+  @Override
+  public boolean isVertexAggregation() {
+    return function.isVertexAggregation();
+  }
+
+  @Override
+  public boolean isEdgeAggregation() {
+    return function.isEdgeAggregation();
+  }
+
+  @Override
+  public PropertyValue postAggregate(PropertyValue result) {
+    return function.postAggregate(result);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.rollup.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.util.List;
+
+/**
+ * Computes the final results of the partial aggregates stored at an element that was grouped using
+ * {@link PartialAggregate}.
+ *
+ * @param <E> element type
+ */
+@FunctionAnnotation.ForwardedFields("id;label")
+public class FinalizeAggregates<E extends Element> implements MapFunction<E, E> {
+  /**
+   * Aggregate functions whose partial aggregates are finalized.
+   */
+  private final List<AggregateFunction> aggregateFunctions;
+
+  /**
+   * Creates a new instance of this map function.
+   *
+   * @param aggregateFunctions aggregate functions whose partial aggregates are finalized
+   */
+  public FinalizeAggregates(List<AggregateFunction> aggregateFunctions) {
+    this.aggregateFunctions = aggregateFunctions;
+  }
+
+  @Override
+  public E map(E element) throws Exception {
+    for (AggregateFunction function : aggregateFunctions) {
+      PropertyValue partialAggregate = element.getPropertyValue(function.getAggregatePropertyKey());
+      if (partialAggregate != null) {
+        element.setProperty(function.getAggregatePropertyKey(),
+          function.postAggregate(partialAggregate));
+      }
+    }
+    return element;
+  }
+}
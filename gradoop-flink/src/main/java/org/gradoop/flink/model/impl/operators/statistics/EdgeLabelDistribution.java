@@ -32,6 +32,9 @@ public class EdgeLabelDistribution
 
   @Override
   public DataSet<WithCount<String>> execute(LogicalGraph graph) {
+    if (graph.isIndexedGVELayout() && !graph.getEdgeLabels().isEmpty()) {
+      return ValueDistribution.countPerLabel(graph.getEdgeLabels(), graph::getEdgesByLabel);
+    }
     return new EdgeValueDistribution<>(new Label<>()).execute(graph);
   }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+
+/**
+ * Computes the value distribution of edge properties for label - property name pairs
+ */
+public class EdgePropertyHistogramsByLabel extends PropertyHistogramsByLabel<EPGMEdge> {
+
+  /**
+   * Creates a new operator using the default histogram size.
+   */
+  public EdgePropertyHistogramsByLabel() {
+    this(DEFAULT_BUCKET_COUNT, DEFAULT_MOST_COMMON_VALUE_COUNT);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param bucketCount maximum number of histogram buckets
+   * @param mostCommonValueCount maximum number of most common values
+   */
+  public EdgePropertyHistogramsByLabel(int bucketCount, int mostCommonValueCount) {
+    super(bucketCount, mostCommonValueCount);
+  }
+
+  @Override
+  protected DataSet<EPGMEdge> getElements(LogicalGraph graph) {
+    return graph.getEdges();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.EPGMGraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.CreateMostCommonValues;
+import org.gradoop.flink.model.impl.operators.statistics.functions.CreatePropertyHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractPropertyValueCountsByLabel;
+
+/**
+ * Base class for statistic operators computing a {@link PropertyHistogram} for each label -
+ * property name pair.
+ *
+ * @param <T> element type
+ */
+public abstract class PropertyHistogramsByLabel<T extends EPGMGraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple3<String, String, PropertyHistogram>>> {
+  /**
+   * Default maximum number of histogram buckets
+   */
+  public static final int DEFAULT_BUCKET_COUNT = 32;
+  /**
+   * Default maximum number of most common values
+   */
+  public static final int DEFAULT_MOST_COMMON_VALUE_COUNT = 16;
+  /**
+   * Maximum number of histogram buckets
+   */
+  private final int bucketCount;
+  /**
+   * Maximum number of most common values
+   */
+  private final int mostCommonValueCount;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param bucketCount maximum number of histogram buckets
+   * @param mostCommonValueCount maximum number of most common values
+   */
+  protected PropertyHistogramsByLabel(int bucketCount, int mostCommonValueCount) {
+    this.bucketCount = bucketCount;
+    this.mostCommonValueCount = mostCommonValueCount;
+  }
+
+  @Override
+  public DataSet<Tuple3<String, String, PropertyHistogram>> execute(LogicalGraph graph) {
+    DataSet<Tuple4<String, String, PropertyValue, Long>> valueCounts = getElements(graph)
+      .flatMap(new ExtractPropertyValueCountsByLabel<>())
+      .groupBy(0, 1, 2)
+      .sum(3);
+
+    DataSet<Tuple3<String, String, PropertyHistogram>> mostCommonValues = valueCounts
+      .groupBy(0, 1)
+      .sortGroup(2, Order.ASCENDING)
+      .reduceGroup(new CreateMostCommonValues(mostCommonValueCount));
+
+    return valueCounts
+      .coGroup(mostCommonValues)
+      .where(0, 1).equalTo(0, 1)
+      .sortFirstGroup(2, Order.ASCENDING)
+      .with(new CreatePropertyHistogram(bucketCount));
+  }
+
+  /**
+   * Returns the elements to compute the histograms for.
+   *
+   * @param graph input graph
+   * @return graph elements
+   */
+  protected abstract DataSet<T> getElements(LogicalGraph graph);
+}
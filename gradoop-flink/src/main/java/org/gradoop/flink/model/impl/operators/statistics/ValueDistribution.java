@@ -19,10 +19,15 @@ import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.EPGMElement;
 import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.functions.epgm.Label;
 import org.gradoop.flink.model.impl.functions.tuple.Tuple2ToWithCount;
 import org.gradoop.flink.model.impl.operators.count.Count;
+import org.gradoop.flink.model.impl.operators.count.functions.Tuple2WithObjectAnd1L;
 import org.gradoop.flink.model.impl.tuples.WithCount;
 
+import java.util.Set;
+import java.util.function.Function;
+
 /**
  * Base class to compute value distributions of computed from EPGM elements.
  *
@@ -57,4 +62,25 @@ abstract class ValueDistribution<EL extends EPGMElement, T>
     return Count.groupBy(elements.map(valueFunction))
       .map(new Tuple2ToWithCount<>());
   }
+
+  /**
+   * Counts the elements per label of a label-indexed graph. The dataset of each label is counted
+   * on its own, which avoids grouping all elements by their label.
+   *
+   * @param labels labels of the indexed datasets
+   * @param elementsByLabel returns the elements of a label
+   * @param <EL> element type
+   * @return labels and the corresponding number of elements with that label
+   */
+  static <EL extends EPGMElement> DataSet<WithCount<String>> countPerLabel(
+    Set<String> labels, Function<String, DataSet<EL>> elementsByLabel) {
+    return labels.stream()
+      .<DataSet<WithCount<String>>>map(label -> elementsByLabel.apply(label)
+        .map(new Label<>())
+        .map(new Tuple2WithObjectAnd1L<>())
+        .sum(1)
+        .map(new Tuple2ToWithCount<>()))
+      .reduce(DataSet::union)
+      .orElseThrow(() -> new IllegalArgumentException("No labels given."));
+  }
 }
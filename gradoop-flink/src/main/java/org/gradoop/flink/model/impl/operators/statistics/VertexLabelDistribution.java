@@ -25,13 +25,17 @@ import org.gradoop.flink.model.impl.tuples.WithCount;
  * Convenience operator to compute the vertex label distribution.
  *
  * For each vertex label, the output contains a tuple consisting of the label and the number of
- * vertices with that label.
+ * vertices with that label. On a label-indexed graph, the vertices of each label are counted
+ * separately.
  */
 public class VertexLabelDistribution
   implements UnaryGraphToValueOperator<DataSet<WithCount<String>>> {
 
   @Override
   public DataSet<WithCount<String>> execute(LogicalGraph graph) {
+    if (graph.isIndexedGVELayout() && !graph.getVertexLabels().isEmpty()) {
+      return ValueDistribution.countPerLabel(graph.getVertexLabels(), graph::getVerticesByLabel);
+    }
     return new VertexValueDistribution<>(new Label<>()).execute(graph);
   }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Counts the values of a property and selects its most common values in a single pass over the
+ * frequencies of all distinct values. Only the most common values are kept in memory.
+ * <p>
+ * Values occurring more often than the average value are most common values. If there are more
+ * of them than the maximum number, the most frequent ones are kept, ties are resolved in favour
+ * of the value seen first. The resulting histogram has no buckets yet.
+ * <p>
+ * {@code (label, propertyKey, propertyValue, count)* -> (label, propertyKey, histogram)}
+ */
+public class CreateMostCommonValues implements GroupReduceFunction<
+  Tuple4<String, String, PropertyValue, Long>, Tuple3<String, String, PropertyHistogram>> {
+
+  /**
+   * Maximum number of most common values
+   */
+  private final int mostCommonValueCount;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param mostCommonValueCount maximum number of most common values
+   */
+  public CreateMostCommonValues(int mostCommonValueCount) {
+    this.mostCommonValueCount = mostCommonValueCount;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Collector<Tuple3<String, String, PropertyHistogram>> out) {
+
+    String label = null;
+    String propertyKey = null;
+    long count = 0L;
+    long distinctCount = 0L;
+    // (value, frequency, position), the least frequent and latest value on top
+    PriorityQueue<Tuple3<PropertyValue, Long, Long>> candidates = new PriorityQueue<>(
+      Comparator.comparing((Tuple3<PropertyValue, Long, Long> candidate) -> candidate.f1)
+        .thenComparing(candidate -> -candidate.f2));
+
+    for (Tuple4<String, String, PropertyValue, Long> value : values) {
+      label = value.f0;
+      propertyKey = value.f1;
+      count += value.f3;
+      distinctCount++;
+      if (mostCommonValueCount <= 0 || value.f3 <= 1) {
+        continue;
+      }
+      if (candidates.size() < mostCommonValueCount) {
+        candidates.add(Tuple3.of(value.f2.copy(), value.f3, distinctCount));
+      } else if (candidates.peek().f1 < value.f3) {
+        candidates.poll();
+        candidates.add(Tuple3.of(value.f2.copy(), value.f3, distinctCount));
+      }
+    }
+
+    double averageCount = (double) count / distinctCount;
+    List<Tuple3<PropertyValue, Long, Long>> sorted = new ArrayList<>(candidates);
+    sorted.sort(candidates.comparator().reversed());
+    Map<PropertyValue, Long> mostCommonValues = new LinkedHashMap<>();
+    for (Tuple3<PropertyValue, Long, Long> candidate : sorted) {
+      if (candidate.f1 > averageCount) {
+        mostCommonValues.put(candidate.f0, candidate.f1);
+      }
+    }
+
+    out.collect(Tuple3.of(label, propertyKey,
+      new PropertyHistogram(count, distinctCount, new ArrayList<>(), mostCommonValues)));
+  }
+}
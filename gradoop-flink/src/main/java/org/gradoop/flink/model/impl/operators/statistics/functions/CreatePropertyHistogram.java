@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Completes a {@link PropertyHistogram} holding the counts and most common values of a property
+ * (see {@link CreateMostCommonValues}) by an equi-depth histogram over all other values.
+ * <p>
+ * The frequencies of the distinct values are expected to be sorted in ascending order of the
+ * value. They are streamed once, only the bucket bounds are kept in memory. Bucket bounds are
+ * only created if all remaining values have the same type, as values of different types are not
+ * ordered by their magnitude.
+ * <p>
+ * {@code (label, propertyKey, propertyValue, count)*, (label, propertyKey, histogram)
+ * -> (label, propertyKey, histogram)}
+ */
+public class CreatePropertyHistogram implements CoGroupFunction<
+  Tuple4<String, String, PropertyValue, Long>, Tuple3<String, String, PropertyHistogram>,
+  Tuple3<String, String, PropertyHistogram>> {
+
+  /**
+   * Maximum number of histogram buckets
+   */
+  private final int bucketCount;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param bucketCount maximum number of histogram buckets
+   */
+  public CreatePropertyHistogram(int bucketCount) {
+    this.bucketCount = bucketCount;
+  }
+
+  @Override
+  public void coGroup(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Iterable<Tuple3<String, String, PropertyHistogram>> summaries,
+    Collector<Tuple3<String, String, PropertyHistogram>> out) {
+
+    for (Tuple3<String, String, PropertyHistogram> summary : summaries) {
+      PropertyHistogram histogram = summary.f2;
+      Map<PropertyValue, Long> mostCommonValues = histogram.getMostCommonValues();
+      long total = histogram.getCount();
+      for (long mostCommonCount : mostCommonValues.values()) {
+        total -= mostCommonCount;
+      }
+      int buckets = (int) Math.min(bucketCount,
+        histogram.getDistinctCount() - mostCommonValues.size());
+
+      List<PropertyValue> bounds = new ArrayList<>();
+      long cumulativeCount = 0L;
+      int bucket = 1;
+      for (Tuple4<String, String, PropertyValue, Long> value : values) {
+        if (mostCommonValues.containsKey(value.f2)) {
+          continue;
+        }
+        if (bounds.isEmpty()) {
+          bounds.add(value.f2.copy());
+        } else if (!bounds.get(0).getType().equals(value.f2.getType())) {
+          bounds.clear();
+          break;
+        }
+        cumulativeCount += value.f3;
+        while (bucket <= buckets && cumulativeCount * buckets >= bucket * total) {
+          bounds.add(value.f2.copy());
+          bucket++;
+        }
+      }
+
+      out.collect(Tuple3.of(summary.f0, summary.f1, new PropertyHistogram(histogram.getCount(),
+        histogram.getDistinctCount(), bounds, mostCommonValues)));
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.EPGMGraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Extracts all non-null property values of a graph element.
+ * <p>
+ * {@code (element) -> (label, propertyKey, propertyValue, 1)*}
+ *
+ * @param <T> graph element type
+ */
+@FunctionAnnotation.ForwardedFields("label->f0")
+public class ExtractPropertyValueCountsByLabel<T extends EPGMGraphElement>
+  implements FlatMapFunction<T, Tuple4<String, String, PropertyValue, Long>> {
+
+  /**
+   * Reuse tuple
+   */
+  private final Tuple4<String, String, PropertyValue, Long> reuseTuple;
+
+  /**
+   * Creates a new UDF
+   */
+  public ExtractPropertyValueCountsByLabel() {
+    this.reuseTuple = new Tuple4<>();
+    this.reuseTuple.f3 = 1L;
+  }
+
+  @Override
+  public void flatMap(T value, Collector<Tuple4<String, String, PropertyValue, Long>> out) {
+    if (value.getProperties() != null) {
+      for (Property property : value.getProperties()) {
+        if (!property.getValue().isNull()) {
+          reuseTuple.f0 = value.getLabel();
+          reuseTuple.f1 = property.getKey();
+          reuseTuple.f2 = property.getValue();
+          out.collect(reuseTuple);
+        }
+      }
+    }
+  }
+}
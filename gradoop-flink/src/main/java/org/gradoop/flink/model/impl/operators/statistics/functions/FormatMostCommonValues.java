@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.apache.flink.util.StringUtils;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
+
+import java.util.Map;
+
+/**
+ * Formats the most common values of a {@link PropertyHistogram} for writing them to a CSV file.
+ * The values are encoded as hex strings of their byte representation.
+ * <p>
+ * {@code (label, propertyKey, histogram) -> (label, propertyKey, propertyValue, count)*}
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class FormatMostCommonValues implements FlatMapFunction<
+  Tuple3<String, String, PropertyHistogram>, Tuple4<String, String, String, Long>> {
+
+  /**
+   * Reuse tuple
+   */
+  private final Tuple4<String, String, String, Long> reuseTuple = new Tuple4<>();
+
+  @Override
+  public void flatMap(Tuple3<String, String, PropertyHistogram> value,
+    Collector<Tuple4<String, String, String, Long>> out) {
+    reuseTuple.f0 = value.f0;
+    reuseTuple.f1 = value.f1;
+    for (Map.Entry<PropertyValue, Long> mostCommonValue :
+      value.f2.getMostCommonValues().entrySet()) {
+      reuseTuple.f2 = StringUtils.byteToHexString(mostCommonValue.getKey().getRawBytes());
+      reuseTuple.f3 = mostCommonValue.getValue();
+      out.collect(reuseTuple);
+    }
+  }
+}
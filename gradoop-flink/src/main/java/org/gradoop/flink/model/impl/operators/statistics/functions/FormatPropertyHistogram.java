@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.util.StringUtils;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
+
+import java.util.stream.Collectors;
+
+/**
+ * Formats the histogram part of a {@link PropertyHistogram} for writing it to a CSV file. The
+ * bucket bounds are encoded as hex strings of their byte representation.
+ * <p>
+ * {@code (label, propertyKey, histogram) -> (label, propertyKey, count, distinctCount, bounds)}
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class FormatPropertyHistogram implements MapFunction<
+  Tuple3<String, String, PropertyHistogram>, Tuple5<String, String, Long, Long, String>> {
+
+  /**
+   * Reuse tuple
+   */
+  private final Tuple5<String, String, Long, Long, String> reuseTuple = new Tuple5<>();
+
+  @Override
+  public Tuple5<String, String, Long, Long, String> map(
+    Tuple3<String, String, PropertyHistogram> value) {
+    reuseTuple.f0 = value.f0;
+    reuseTuple.f1 = value.f1;
+    reuseTuple.f2 = value.f2.getCount();
+    reuseTuple.f3 = value.f2.getDistinctCount();
+    reuseTuple.f4 = value.f2.getBounds().stream()
+      .map(bound -> StringUtils.byteToHexString(bound.getRawBytes()))
+      .collect(Collectors.joining(GraphStatisticsReader.TOKEN_SEPARATOR));
+    return reuseTuple;
+  }
+}
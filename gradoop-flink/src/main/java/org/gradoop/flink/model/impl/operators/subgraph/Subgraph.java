@@ -27,6 +27,7 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.SourceId;
 import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.utils.RightSide;
+import org.gradoop.flink.model.impl.layouts.gve.indexed.IndexedLayoutUtils;
 import org.gradoop.flink.model.impl.operators.subgraph.functions.EdgeToSourceAndTargetId;
 import org.gradoop.flink.model.impl.operators.verify.Verify;
 
@@ -171,7 +172,7 @@ public class Subgraph<
    * @return vertex-induced subgraph
    */
   private LG vertexInducedSubgraph(LG superGraph) {
-    DataSet<V> filteredVertices = superGraph.getVertices().filter(vertexFilterFunction);
+    DataSet<V> filteredVertices = IndexedLayoutUtils.filterVertices(superGraph, vertexFilterFunction);
 
     return superGraph.getFactory()
       .fromDataSets(superGraph.getGraphHead(), filteredVertices, superGraph.getEdges())
@@ -186,7 +187,7 @@ public class Subgraph<
    * @return edge-induced subgraph
    */
   private LG edgeInducedSubgraph(LG superGraph) {
-    DataSet<E> filteredEdges = superGraph.getEdges().filter(edgeFilterFunction);
+    DataSet<E> filteredEdges = IndexedLayoutUtils.filterEdges(superGraph, edgeFilterFunction);
     DataSet<V> inducedVertices = filteredEdges
       .join(superGraph.getVertices())
       .where(new SourceId<>()).equalTo(new Id<>())
@@ -209,7 +210,7 @@ public class Subgraph<
    * @return edge-induced subgraph
    */
   private LG edgeInducedSubgraphProjectFirst(LG superGraph) {
-    DataSet<E> filteredEdges = superGraph.getEdges().filter(edgeFilterFunction);
+    DataSet<E> filteredEdges = IndexedLayoutUtils.filterEdges(superGraph, edgeFilterFunction);
     DataSet<V> inducedVertices = filteredEdges
       .flatMap(new EdgeToSourceAndTargetId<>())
       .distinct()
@@ -233,7 +234,7 @@ public class Subgraph<
   private LG subgraph(LG superGraph) {
     return superGraph.getFactory().fromDataSets(
       superGraph.getGraphHead(),
-      superGraph.getVertices().filter(vertexFilterFunction),
-      superGraph.getEdges().filter(edgeFilterFunction));
+      IndexedLayoutUtils.filterVertices(superGraph, vertexFilterFunction),
+      IndexedLayoutUtils.filterEdges(superGraph, edgeFilterFunction));
   }
 }
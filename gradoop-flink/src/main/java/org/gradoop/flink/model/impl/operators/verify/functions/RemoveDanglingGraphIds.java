@@ -44,9 +44,7 @@ public class RemoveDanglingGraphIds<E extends GraphElement> extends RichMapFunct
 
   @Override
   public E map(E element) {
-    GradoopIdSet graphIds = element.getGraphIds();
-    graphIds.retainAll(idSet);
-    element.setGraphIds(graphIds);
+    element.getGraphIds().retainAll(idSet);
     return element;
   }
 }
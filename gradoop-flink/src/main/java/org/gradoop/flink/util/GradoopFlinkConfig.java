@@ -20,6 +20,9 @@ import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionaryParameters;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -160,4 +163,31 @@ public class GradoopFlinkConfig extends GradoopConfig<EPGMGraphHead, EPGMVertex,
     factory.setGradoopFlinkConfig(this);
     graphCollectionFactory.setLayoutFactory(factory);
   }
+
+  /**
+   * Sets the dictionary used to serialize {@link Properties} within jobs of the execution
+   * environment. Property keys contained in the dictionary are shipped as small integer ids
+   * instead of strings and deserialized properties are decoded lazily. Keys which are not
+   * contained in the dictionary are still supported.
+   *
+   * The dictionary only affects the data exchange between operators. Data sources and sinks
+   * read and write properties in their usual format.
+   *
+   * The dictionary is shipped as {@link PropertyKeyDictionaryParameters}, which wrap the global
+   * job parameters set before.
+   *
+   * @param dictionary property key dictionary or {@code null} to use the default serialization
+   */
+  public void setPropertyKeyDictionary(PropertyKeyDictionary dictionary) {
+    PropertyKeyDictionaryParameters.setDictionary(executionEnvironment.getConfig(), dictionary);
+  }
+
+  /**
+   * Returns the dictionary used to serialize {@link Properties}.
+   *
+   * @return property key dictionary or {@code null} if the default serialization is used
+   */
+  public PropertyKeyDictionary getPropertyKeyDictionary() {
+    return PropertyKeyDictionaryParameters.getDictionary(executionEnvironment.getConfig());
+  }
 }
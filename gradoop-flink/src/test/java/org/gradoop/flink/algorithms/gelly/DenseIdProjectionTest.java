@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.graph.Graph;
+import org.apache.flink.graph.Vertex;
+import org.apache.flink.types.NullValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithPropertyValue;
+import org.gradoop.flink.algorithms.gelly.pagerank.PageRank;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DenseIdProjection}.
+ */
+public class DenseIdProjectionTest extends GradoopFlinkTestBase {
+
+  /**
+   * graph for testing
+   */
+  private LogicalGraph testGraph;
+
+  /**
+   * Initialize the graph for testing
+   */
+  @Before
+  public void prepareTestGraph() {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("graph[" +
+      "(v0 {value:\"A\"})" +
+      "(v1 {value:\"B\"})" +
+      "(v2 {value:\"C\"})" +
+      "(v3 {value:\"D\"})" +
+      "(v0)-[e0]->(v1)" +
+      "(v1)-[e1]->(v2)" +
+      "(v2)-[e2]->(v0)" +
+      "(v2)-[e3]->(v2)" +
+      "]");
+    testGraph = loader.getLogicalGraphByVariable("graph");
+  }
+
+  /**
+   * Checks that the vertex indices are dense and the edges refer to the indices of their source
+   * and target vertex.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testIndices() throws Exception {
+    DenseIdProjection projection = DenseIdProjection.of(testGraph);
+
+    List<Tuple2<Long, EPGMVertex>> vertices = new ArrayList<>();
+    List<Tuple3<Long, Long, EPGMEdge>> edges = new ArrayList<>();
+    projection.getVertices().output(new LocalCollectionOutputFormat<>(vertices));
+    projection.getEdges().output(new LocalCollectionOutputFormat<>(edges));
+    getExecutionEnvironment().execute();
+
+    Map<GradoopId, Long> indices = new HashMap<>();
+    for (Tuple2<Long, EPGMVertex> vertex : vertices) {
+      assertTrue(vertex.f0 >= 0 && vertex.f0 < 4);
+      indices.put(vertex.f1.getId(), vertex.f0);
+    }
+    assertEquals(4, indices.size());
+    assertEquals(4, indices.values().stream().distinct().count());
+
+    assertEquals(4, edges.size());
+    for (Tuple3<Long, Long, EPGMEdge> edge : edges) {
+      assertEquals(indices.get(edge.f2.getSourceId()), edge.f0);
+      assertEquals(indices.get(edge.f2.getTargetId()), edge.f1);
+    }
+  }
+
+  /**
+   * Checks that a projection restored from a persisted vertex index uses the same indices.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testRestoreFromVertexIndex() throws Exception {
+    List<Tuple2<Long, GradoopId>> index = DenseIdProjection.of(testGraph)
+      .getVertexIndex().collect();
+
+    DenseIdProjection restored = DenseIdProjection.of(testGraph,
+      getExecutionEnvironment().fromCollection(index));
+
+    List<Tuple2<Long, GradoopId>> restoredIndex = restored.getVertexIndex().collect();
+    index.sort((a, b) -> Long.compare(a.f0, b.f0));
+    restoredIndex.sort((a, b) -> Long.compare(a.f0, b.f0));
+    assertEquals(index, restoredIndex);
+    assertEquals(4, restored.getEdges().count());
+  }
+
+  /**
+   * Checks the Gelly graph created from the projection.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testToGellyGraph() throws Exception {
+    Graph<Long, PropertyValue, NullValue> gellyGraph = DenseIdProjection.of(testGraph)
+      .toGellyGraph(new VertexToGellyVertexWithPropertyValue("value"),
+        new EdgeToGellyEdgeWithNullValue());
+
+    List<Vertex<Long, PropertyValue>> vertices = gellyGraph.getVertices().collect();
+    List<Edge<Long, NullValue>> edges = gellyGraph.getEdges().collect();
+
+    assertEquals(4, vertices.size());
+    assertEquals(4, edges.size());
+    Map<String, Long> indices = new HashMap<>();
+    for (Vertex<Long, PropertyValue> vertex : vertices) {
+      indices.put(vertex.getValue().getString(), vertex.getId());
+    }
+    assertTrue(edges.stream().anyMatch(e ->
+      e.getSource().equals(indices.get("A")) && e.getTarget().equals(indices.get("B"))));
+    assertTrue(edges.stream().anyMatch(e ->
+      e.getSource().equals(indices.get("C")) && e.getTarget().equals(indices.get("C"))));
+  }
+
+  /**
+   * Checks that several algorithms can be executed on the same projection.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testSharedProjection() throws Exception {
+    DenseIdProjection projection = DenseIdProjection.of(testGraph);
+
+    List<EPGMVertex> first = new ArrayList<>();
+    List<EPGMVertex> second = new ArrayList<>();
+    new PageRank("pr1", 0.85, 10, true).execute(projection).getVertices()
+      .output(new LocalCollectionOutputFormat<>(first));
+    new PageRank("pr2", 0.5, 10, true).execute(projection).getVertices()
+      .output(new LocalCollectionOutputFormat<>(second));
+    getExecutionEnvironment().execute();
+
+    assertEquals(4, first.size());
+    assertEquals(4, second.size());
+    for (EPGMVertex vertex : first) {
+      assertTrue(vertex.getPropertyValue("pr1").getDouble() > 0d);
+    }
+    for (EPGMVertex vertex : second) {
+      assertTrue(vertex.getPropertyValue("pr2").getDouble() > 0d);
+    }
+  }
+}
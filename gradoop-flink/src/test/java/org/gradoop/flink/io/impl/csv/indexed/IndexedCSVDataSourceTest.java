@@ -19,9 +19,22 @@ import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
+import org.gradoop.flink.model.impl.functions.epgm.LabelIsIn;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.model.impl.operators.statistics.EdgeLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.VertexLabelDistribution;
+import org.gradoop.flink.model.impl.operators.subgraph.Subgraph;
+import org.gradoop.flink.model.impl.tuples.WithCount;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Test class for indexed csv data source
  */
@@ -44,6 +57,7 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
     GraphCollection expected = getLoaderFromFile(gdlPath)
       .getGraphCollectionByVariables("expected1", "expected2");
 
+    assertTrue(input.isIndexedGVELayout());
     collectAndAssertTrue(input.equalsByGraphElementData(expected));
   }
 
@@ -65,9 +79,71 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
       .getGraphCollectionByVariables("expected1", "expected2");
     LogicalGraph expected = graphCollection.reduce(new ReduceCombination<>());
 
+    assertTrue(input.isIndexedGVELayout());
     collectAndAssertTrue(input.equalsByElementData(expected));
   }
 
+  /**
+   * Test label-selective operators on a single logical indexed csv graph.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testLabelSelectiveOperators() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed");
+
+    String gdlPath = getFilePath("/data/csv/expected/expected_graph_collection.gdl");
+
+    LogicalGraph input = new IndexedCSVDataSource(csvPath, getConfig()).getLogicalGraph();
+
+    LogicalGraph expected = getLoaderFromFile(gdlPath)
+      .getGraphCollectionByVariables("expected1", "expected2")
+      .reduce(new ReduceCombination<>());
+
+    collectAndAssertTrue(
+      input.subgraph(new LabelIsIn<>("A", "C"), new ByLabel<>("a"), Subgraph.Strategy.BOTH)
+        .equalsByElementData(expected.subgraph(new LabelIsIn<>("A", "C"), new ByLabel<>("a"),
+          Subgraph.Strategy.BOTH)));
+    collectAndAssertTrue(input.vertexInducedSubgraph(new ByLabel<>("B"))
+      .equalsByElementData(expected.vertexInducedSubgraph(new ByLabel<>("B"))));
+
+    List<WithCount<String>> vertexLabels = new VertexLabelDistribution().execute(input).collect();
+    vertexLabels.sort(Comparator.comparing(WithCount::getObject));
+    assertEquals(Arrays.asList(new WithCount<>("A", 2), new WithCount<>("B", 3)), vertexLabels);
+
+    List<WithCount<String>> edgeLabels = new EdgeLabelDistribution().execute(input).collect();
+    edgeLabels.sort(Comparator.comparing(WithCount::getObject));
+    assertEquals(Arrays.asList(new WithCount<>("a", 3), new WithCount<>("b", 3)), edgeLabels);
+  }
+
+  /**
+   * Test label-selective pattern matching on a single logical indexed csv graph.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testLabelSelectiveQuery() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed");
+
+    String gdlPath = getFilePath("/data/csv/expected/expected_graph_collection.gdl");
+
+    LogicalGraph input = new IndexedCSVDataSource(csvPath, getConfig()).getLogicalGraph();
+
+    LogicalGraph expected = getLoaderFromFile(gdlPath)
+      .getGraphCollectionByVariables("expected1", "expected2")
+      .reduce(new ReduceCombination<>());
+
+    String query = "MATCH (a)-[e]->(b:A) WHERE a.__label__ = 'A' OR a.__label__ = 'C'";
+    GraphCollection result = input.query(query);
+    GraphCollection expectedResult = expected.query(query);
+    // vertex and edge ids of the csv input overlap, so only matches and vertices are compared
+    assertEquals(expectedResult.getGraphHeads().count(), result.getGraphHeads().count());
+    assertEquals(expectedResult.getVertices().count(), result.getVertices().count());
+
+    GraphCollection unknownLabel = input.query("MATCH (a:C)-[e:c]->(b)");
+    assertEquals(0, unknownLabel.getGraphHeads().count());
+  }
+
   /**
    * Test reading a indexed csv graph collection without edges.
    *
@@ -18,11 +18,13 @@ package org.gradoop.flink.io.impl.statistics;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -293,4 +295,33 @@ public class GraphStatisticsDataSinkTest extends GradoopFlinkTestBase {
     assertThat(statistics.getDistinctVertexProperties("title"),   is(2L));
   }
 
+  @Test
+  public void testWritePropertyHistograms() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    DataSink statisticDataSink = new GraphStatisticsDataSink(tmpPath);
+    statisticDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(tmpPath);
+
+    PropertyHistogram city = statistics.getVertexPropertyHistogram("Person", "city");
+    assertThat(city.getCount(), is(6L));
+    assertThat(city.getDistinctCount(), is(3L));
+    assertThat(city.getMostCommonValues().get(PropertyValue.create("Dresden")), is(3L));
+    assertThat(city.estimateEqual(PropertyValue.create("Dresden")), is(3d));
+
+    PropertyHistogram name = statistics.getVertexPropertyHistogram("Person", "name");
+    assertThat(name.getMostCommonValues().isEmpty(), is(true));
+    assertThat(name.getBounds().get(0), is(PropertyValue.create("Alice")));
+    assertThat(name.getBounds().get(name.getBounds().size() - 1),
+      is(PropertyValue.create("Frank")));
+
+    PropertyHistogram since = statistics.getEdgePropertyHistogram("knows", "since");
+    assertThat(since.getCount(), is(10L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2014)), is(4L));
+  }
 }
@@ -142,4 +142,23 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
     GradoopTestUtils.validateGraphElementCollections(Sets.newHashSet(e0),
       from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).getEdgesByLabel("a").collect());
   }
+
+  @Test
+  public void getVerticesByUnknownLabel() throws Exception {
+    assertTrue(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1))
+      .getVerticesByLabel("D").collect().isEmpty());
+  }
+
+  @Test
+  public void getEdgesByUnknownLabel() throws Exception {
+    assertTrue(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1))
+      .getEdgesByLabel("c").collect().isEmpty());
+  }
+
+  @Test
+  public void getVertexAndEdgeLabels() throws Exception {
+    GVELayout layout = from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+    assertTrue(layout.getVertexLabels().isEmpty());
+    assertTrue(layout.getEdgeLabels().isEmpty());
+  }
 }
@@ -15,18 +15,23 @@
  */
 package org.gradoop.flink.model.impl.layouts.gve.indexed;
 
+import com.google.common.collect.Sets;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayoutTest;
+import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class IndexedGVELayoutTest extends GVELayoutTest {
@@ -53,4 +58,16 @@ public class IndexedGVELayoutTest extends GVELayoutTest {
   public void isIndexedGVELayout() throws Exception {
     assertTrue(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isIndexedGVELayout());
   }
+
+  @Test
+  public void getEdgesWithoutEdges() throws Exception {
+    assertTrue(from(singletonList(g0), singletonList(v0), emptyList()).getEdges().collect().isEmpty());
+  }
+
+  @Override
+  public void getVertexAndEdgeLabels() throws Exception {
+    GVELayout layout = from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+    assertEquals(Sets.newHashSet("A", "B", "C"), layout.getVertexLabels());
+    assertEquals(Sets.newHashSet("a", "b"), layout.getEdgeLabels());
+  }
 }
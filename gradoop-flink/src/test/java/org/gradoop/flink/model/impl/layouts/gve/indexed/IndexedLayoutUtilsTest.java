@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.indexed;
+
+import com.google.common.collect.Sets;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
+import org.gradoop.flink.model.impl.functions.epgm.ByProperty;
+import org.gradoop.flink.model.impl.functions.epgm.LabelIsIn;
+import org.gradoop.flink.model.impl.functions.filters.And;
+import org.gradoop.flink.model.impl.functions.filters.Not;
+import org.gradoop.flink.model.impl.functions.filters.Or;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test for {@link IndexedLayoutUtils}.
+ */
+public class IndexedLayoutUtilsTest {
+
+  /**
+   * Test deriving the accepted labels from filter functions.
+   */
+  @Test
+  public void testGetLabels() {
+    ByLabel<EPGMVertex> byA = new ByLabel<>("A");
+    LabelIsIn<EPGMVertex> inAB = new LabelIsIn<>("A", "B");
+    LabelIsIn<EPGMVertex> inBC = new LabelIsIn<>("B", "C");
+    ByProperty<EPGMVertex> byProperty = new ByProperty<>("key");
+
+    assertEquals(Sets.newHashSet("A"), IndexedLayoutUtils.getLabels(byA));
+    assertEquals(Sets.newHashSet("A", "B"), IndexedLayoutUtils.getLabels(inAB));
+    assertNull(IndexedLayoutUtils.getLabels(byProperty));
+    assertNull(IndexedLayoutUtils.getLabels(new Not<>(byA)));
+
+    assertEquals(Sets.newHashSet("B"), IndexedLayoutUtils.getLabels(new And<>(inAB, inBC)));
+    assertEquals(Sets.newHashSet("A", "B"),
+      IndexedLayoutUtils.getLabels(new And<>(byProperty, inAB)));
+    assertNull(IndexedLayoutUtils.getLabels(new And<>(byProperty, byProperty)));
+
+    assertEquals(Sets.newHashSet("A", "B", "C"),
+      IndexedLayoutUtils.getLabels(new Or<>(byA, inBC)));
+    assertNull(IndexedLayoutUtils.getLabels(new Or<>(byA, byProperty)));
+  }
+}
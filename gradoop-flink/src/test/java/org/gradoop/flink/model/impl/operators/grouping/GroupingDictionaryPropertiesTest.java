@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Runs the grouping tests using dictionary encoded properties.
+ */
+public class GroupingDictionaryPropertiesTest extends GroupingGroupReduceTest {
+
+  @Override
+  protected GradoopFlinkConfig getConfig() {
+    GradoopFlinkConfig config = super.getConfig();
+    if (config.getPropertyKeyDictionary() == null) {
+      // not all keys are part of the dictionary to cover inline keys as well
+      config.setPropertyKeyDictionary(
+        PropertyKeyDictionary.create("name", "city", "age", "since", "count"));
+    }
+    return config;
+  }
+}
@@ -15,17 +15,23 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping;
 
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.EdgeCount;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -56,4 +62,112 @@ public class TupleBasedGroupingTest extends LabelSpecificGroupingTestBase {
       new KeyedGrouping<>(vertexKeys, vertexAggregations, Collections.emptyList(), edgeAggregations));
     collectAndAssertTrue(result.equalsByElementData(expected));
   }
+
+  /**
+   * Test the tuple-based grouping implementation with hot key salting, where all vertices share the
+   * same (hot) key.
+   */
+  @Test
+  public void testGroupVerticesWithEmptyKeyFunctionAndSalting() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.appendToDatabaseFromString("expected[" +
+      "(expectedVertex {vertexCount: 3L})-[{edgeCount: 4L}]->(expectedVertex)" +
+      "]");
+    LogicalGraph input = loader.getLogicalGraphByVariable("g0");
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.nothing());
+    List<AggregateFunction> vertexAggregations = Collections.singletonList(new VertexCount());
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+    KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> grouping =
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, Collections.emptyList(), edgeAggregations);
+    LogicalGraph result = input.callForGraph(grouping
+      .setUseHotKeySalting(4)
+      .setHotKeySampling(1d, 1L));
+    collectAndAssertTrue(result.equalsByElementData(expected));
+  }
+
+  /**
+   * Test if the tuple-based grouping implementation with hot key salting yields the same result as
+   * without salting. Some of the keys are hot, the others are not.
+   */
+  @Test
+  public void testGroupVerticesWithSalting() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Arrays.asList(GroupingKeys.label(),
+      GroupingKeys.property("city"));
+    List<AggregateFunction> vertexAggregations = Arrays.asList(new VertexCount(),
+      new AverageVertexProperty("age"), new MinVertexProperty("age"));
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+
+    LogicalGraph expected = input.callForGraph(
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations));
+    KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> grouping =
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations);
+    LogicalGraph result = input.callForGraph(grouping
+      .setUseHotKeySalting(3)
+      .setHotKeySampling(1d, 3L));
+    collectAndAssertTrue(result.equalsByElementData(expected));
+  }
+
+  /**
+   * Test the tuple-based grouping implementation with broadcast super-vertex IDs and the
+   * {@link GroupingKeys#nothing()} key function.
+   */
+  @Test
+  public void testGroupVerticesWithEmptyKeyFunctionAndSuperVertexIdBroadcast() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.appendToDatabaseFromString("expected[" +
+      "(expectedVertex {vertexCount: 3L})-[{edgeCount: 4L}]->(expectedVertex)" +
+      "]");
+    LogicalGraph input = loader.getLogicalGraphByVariable("g0");
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.nothing());
+    List<AggregateFunction> vertexAggregations = Collections.singletonList(new VertexCount());
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+    KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> grouping =
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, Collections.emptyList(), edgeAggregations);
+    LogicalGraph result = input.callForGraph(grouping.setUseSuperVertexIdBroadcast(true));
+    collectAndAssertTrue(result.equalsByElementData(expected));
+  }
+
+  /**
+   * Test if the tuple-based grouping implementation with broadcast super-vertex IDs yields the same
+   * result as without.
+   */
+  @Test
+  public void testGroupVerticesWithSuperVertexIdBroadcast() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Arrays.asList(GroupingKeys.label(),
+      GroupingKeys.property("city"));
+    List<AggregateFunction> vertexAggregations = Arrays.asList(new VertexCount(),
+      new AverageVertexProperty("age"), new MinVertexProperty("age"));
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> edgeAggregations = Collections.singletonList(new EdgeCount());
+
+    LogicalGraph expected = input.callForGraph(
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations));
+    KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> grouping =
+      new KeyedGrouping<>(vertexKeys, vertexAggregations, edgeKeys, edgeAggregations);
+    LogicalGraph result = input.callForGraph(grouping.setUseSuperVertexIdBroadcast(true));
+    collectAndAssertTrue(result.equalsByElementData(expected));
+  }
+
+  /**
+   * Test if invalid salting parameters are rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSaltCount() {
+    new KeyedGrouping<>(Collections.singletonList(GroupingKeys.nothing()), Collections.emptyList(),
+      Collections.emptyList(), Collections.emptyList()).setUseHotKeySalting(0);
+  }
+
+  /**
+   * Test if invalid hot key sampling parameters are rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidHotKeySampleFraction() {
+    new KeyedGrouping<>(Collections.singletonList(GroupingKeys.nothing()), Collections.emptyList(),
+      Collections.emptyList(), Collections.emptyList()).setHotKeySampling(0d, 1L);
+  }
 }
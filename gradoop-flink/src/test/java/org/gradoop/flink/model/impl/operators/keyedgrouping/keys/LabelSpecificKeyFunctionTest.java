@@ -61,8 +61,8 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
   /**
    * The default key for elements with label {@code a}.
    */
-  private Tuple defaultForLabelA = Tuple2.of(PropertyValue.NULL_VALUE.getRawBytes(),
-    PropertyValue.NULL_VALUE.getRawBytes());
+  private Tuple defaultForLabelA = Tuple2.of(PropertyValue.NULL_VALUE,
+    PropertyValue.NULL_VALUE);
 
   /**
    * The default key for elements with label {@code b}.
@@ -72,12 +72,12 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
   /**
    * The default key for elements with label {@code c}.
    */
-  private byte[] defaultForLabelC = PropertyValue.NULL_VALUE.getRawBytes();
+  private PropertyValue defaultForLabelC = PropertyValue.NULL_VALUE;
 
   /**
    * The default key for elements with other labels.
    */
-  private Tuple defaultForOtherLabels = Tuple2.of(PropertyValue.NULL_VALUE.getRawBytes(), "");
+  private Tuple defaultForOtherLabels = Tuple2.of(PropertyValue.NULL_VALUE, "");
 
   /**
    * The default key for the label-specific key function.
@@ -143,7 +143,7 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
   @Test
   public void testKeyType() {
     final TypeInformation<Tuple> type = testFunction.getType();
-    final TypeInformation<byte[]> propertyType = TypeInformation.of(byte[].class);
+    final TypeInformation<PropertyValue> propertyType = TypeInformation.of(PropertyValue.class);
     final TypeInformation<String> labelType = BasicTypeInfo.STRING_TYPE_INFO;
     TypeInformation<Tuple> expectedType = new TupleTypeInfo<>(
       BasicTypeInfo.INT_TYPE_INFO, // Label identifier
@@ -163,8 +163,8 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
     testVertex.setLabel("a");
     Tuple expectedForLabelA = defaultKey.copy();
     expectedForLabelA.setField(1, 0);
-    expectedForLabelA.setField(Tuple2.of(PropertyValue.create("valueForA").getRawBytes(),
-      PropertyValue.create("valueForA2").getRawBytes()), 2);
+    expectedForLabelA.setField(Tuple2.of(PropertyValue.create("valueForA"),
+      PropertyValue.create("valueForA2")), 2);
     assertTupleEquals(expectedForLabelA, testFunction.getKey(testVertex));
     testVertex.setLabel("b");
     Tuple expectedForLabelB = defaultKey.copy();
@@ -174,7 +174,7 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
     testVertex.setLabel("c");
     Tuple expectedForLabelC = defaultKey.copy();
     expectedForLabelC.setField(3, 0);
-    expectedForLabelC.setField(PropertyValue.create("valueForC").getRawBytes(), 4);
+    expectedForLabelC.setField(PropertyValue.create("valueForC"), 4);
     assertTupleEquals(expectedForLabelC, testFunction.getKey(testVertex));
   }
 
@@ -188,7 +188,7 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
     testVertex.setProperty("forDefault", value);
     final Tuple expected = defaultKey.copy();
     expected.setField(0, 0);
-    expected.setField(Tuple2.of(value.getRawBytes(), "d"), 1);
+    expected.setField(Tuple2.of(value, "d"), 1);
     assertTupleEquals(expected, testFunction.getKey(testVertex));
   }
 
@@ -202,7 +202,7 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
     PropertyValue valueA = PropertyValue.create("otherValueA");
     PropertyValue valueA2 = PropertyValue.create("otherValueA2");
     key.setField(1, 0);
-    key.setField(Tuple2.of(valueA.copy().getRawBytes(), valueA2.copy().getRawBytes()), 2);
+    key.setField(Tuple2.of(valueA.copy(), valueA2.copy()), 2);
     assertNotEquals(valueA, testVertex.getPropertyValue("valueForA"));
     assertNotEquals(valueA2, testVertex.getPropertyValue("valueForA2"));
     assertNotEquals("a", testVertex.getLabel());
@@ -227,7 +227,7 @@ public class LabelSpecificKeyFunctionTest extends GradoopFlinkTestBase {
     key = defaultKey.copy();
     PropertyValue valueForDefault = PropertyValue.create(10000L);
     key.setField(0, 0);
-    key.setField(Tuple2.of(valueForDefault.copy().getRawBytes(), "newLabel"), 1);
+    key.setField(Tuple2.of(valueForDefault.copy(), "newLabel"), 1);
     testFunction.addKeyToElement(testVertex, key);
     assertEquals(valueA, testVertex.getPropertyValue("forA"));
     assertEquals(valueA2, testVertex.getPropertyValue("forA2"));
@@ -103,6 +103,9 @@ public class TestData {
   public static final String VAR_LENGTH_PATH_PATTERN_4 =
     "(s:A)-[:a*1..2]->(s)";
 
+  public static final String VAR_LENGTH_PATH_PATTERN_5 =
+    "(:A)-[:a*1..2]->(:B)";
+
   public static final String GRAPH_1 = DATA_GRAPH_VARIABLE +
     "[" +
     "(v0:B {id : 0})" +
@@ -183,4 +186,10 @@ public class TestData {
 
   public static final String GRAPH_5 = DATA_GRAPH_VARIABLE +
     "[(v0 {id : 0})-[e0 {id:0}]->(v1 {id : 1})]";
+
+  public static final String GRAPH_6 = DATA_GRAPH_VARIABLE +
+    "[" +
+    "(v0:A {id : 0})-[e0:a {id : 0}]->(v1:C {id : 1})-[e1:a {id : 1}]->(v3:B {id : 3})" +
+    "(v0)-[e2:a {id : 2}]->(v2:C {id : 2})-[e3:a {id : 3}]->(v3)" +
+    "]";
 }
@@ -104,6 +104,16 @@ public class QueryHandlerTest {
     assertFalse(QUERY_HANDLER.isEdge("v1"));
   }
 
+  @Test
+  public void testIsAnonymousEdge() {
+    QueryHandler queryHandler = new QueryHandler("(v1)-[e1]->(v2)-[*1..3]->(v3)");
+    assertFalse(queryHandler.isAnonymousEdge("e1"));
+    String anonymousEdge = queryHandler.getEdgeVariables().stream()
+      .filter(variable -> !variable.equals("e1"))
+      .findFirst().orElseThrow(IllegalStateException::new);
+    assertTrue(queryHandler.isAnonymousEdge(anonymousEdge));
+  }
+
   @Test
   public void testGetVertexById() throws Exception {
     Vertex expected = GDL_HANDLER.getVertexCache().get("v1");
@@ -15,9 +15,13 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 
 public abstract class GraphStatisticsTest {
@@ -199,4 +203,29 @@ public abstract class GraphStatisticsTest {
       is(0L));
   }
 
+  @Test
+  public void testGetVertexPropertyHistogram() throws Exception {
+    PropertyHistogram histogram = TEST_STATISTICS.getVertexPropertyHistogram("Person", "age");
+    assertThat(histogram.getCount(), is(6L));
+    assertThat(histogram.getDistinctCount(), is(4L));
+    assertThat(histogram.getBounds(), is(Arrays.asList(
+      PropertyValue.create(20), PropertyValue.create(20), PropertyValue.create(40))));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(30)), is(2L));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(35)), is(2L));
+    // nonexistent property
+    assertThat(TEST_STATISTICS.getVertexPropertyHistogram("Person", "bar"), is(nullValue()));
+    // nonexistent vertex label
+    assertThat(TEST_STATISTICS.getVertexPropertyHistogram("Foo", "age"), is(nullValue()));
+  }
+
+  @Test
+  public void testGetEdgePropertyHistogram() throws Exception {
+    PropertyHistogram histogram = TEST_STATISTICS.getEdgePropertyHistogram("knows", "since");
+    assertThat(histogram.getCount(), is(10L));
+    assertThat(histogram.getDistinctCount(), is(3L));
+    assertThat(histogram.getMostCommonValues().size(), is(1));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(2014)), is(4L));
+    // nonexistent edge label
+    assertThat(TEST_STATISTICS.getEdgePropertyHistogram("foo", "since"), is(nullValue()));
+  }
 }
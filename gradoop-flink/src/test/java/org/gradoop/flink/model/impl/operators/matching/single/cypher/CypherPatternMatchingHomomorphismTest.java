@@ -65,6 +65,13 @@ public class CypherPatternMatchingHomomorphismTest extends SubgraphHomomorphismT
       "expected1",
       "expected1[(v2)-[e8]->(v6)-[e7]->(v2)]"
     });
+    data.add(new String[] {
+      "Graph6_VarLength5",
+      GRAPH_6, VAR_LENGTH_PATH_PATTERN_5,
+      "expected1,expected2",
+      "expected1[(v0)-[e0]->(v1)-[e1]->(v3)]" +
+        "expected2[(v0)-[e2]->(v2)-[e3]->(v3)]"
+    });
     return data;
   }
 
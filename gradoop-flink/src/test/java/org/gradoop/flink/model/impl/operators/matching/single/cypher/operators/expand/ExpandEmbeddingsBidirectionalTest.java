@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class ExpandEmbeddingsBidirectionalTest extends PhysicalOperatorTest {
+  //define some vertices
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+
+  //define some edges
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+  private final GradoopId e5 = GradoopId.get();
+
+  @Test
+  public void testResultForOutExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, d)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, createCandidateEdges(), 0, 1, 3, ExpandDirection.OUT,
+      new ArrayList<>(), new ArrayList<>(), 2).evaluate();
+
+    assertEquals(3, result.count());
+    assertEveryEmbedding(result, embedding -> assertEquals(5, embedding.size()));
+    assertEmbeddingExists(result, a, e0, d, e4, d);
+    assertEmbeddingExists(result, a, e0, d, e1, b, e5, d);
+    assertEmbeddingExists(result, a, e0, d, e1, b, e2, c, e3, d);
+  }
+
+  @Test
+  public void testResultForInExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(d, e0, a)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, createCandidateEdges(), 0, 1, 3, ExpandDirection.IN,
+      new ArrayList<>(), new ArrayList<>(), 2).evaluate();
+
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, d, e0, a, e4, a);
+    assertEmbeddingExists(result, d, e0, a, e5, b, e1, a);
+    assertEmbeddingExists(result, d, e0, a, e3, c, e2, b, e1, a);
+  }
+
+  @Test
+  public void testBoundRequirements() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, d)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, createCandidateEdges(), 0, 2, 2, ExpandDirection.OUT,
+      new ArrayList<>(), new ArrayList<>(), 2).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e0, d, e1, b, e5, d);
+  }
+
+  @Test
+  public void testLowerBound0() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, a)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, a)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 0, 2, ExpandDirection.OUT,
+      new ArrayList<>(), new ArrayList<>(), 2).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, e0, a, e1, b, e2, a);
+    assertEmbeddingExists(result, embedding -> embedding.getIdList(3).size() == 0);
+  }
+
+  @Test
+  public void testCircleCondition() throws Exception {
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, c),
+      createEmbedding(b, e2, a),
+      createEmbedding(c, e3, a)
+    );
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 2, 1, 2, ExpandDirection.OUT,
+      new ArrayList<>(), new ArrayList<>(), 0).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, e0, b, e2, a);
+    assertEmbeddingExists(result, a, e0, b, e1, c, e3, a);
+  }
+
+  @Test
+  public void testFilterDistinctVertices() throws Exception {
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, a),
+      createEmbedding(b, e3, c),
+      createEmbedding(c, e4, d)
+    );
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, d)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 1, 5, ExpandDirection.OUT,
+      Lists.newArrayList(0, 2), new ArrayList<>(), 2).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e0, d, e1, b, e3, c, e4, d);
+  }
+
+  @Test
+  public void testFilterDistinctEdges() throws Exception {
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(b, e1, a)
+    );
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsBidirectional(
+      input, candidateEdges, 0, 1, 4, ExpandDirection.OUT,
+      new ArrayList<>(), Lists.newArrayList(1), 2).evaluate();
+
+    assertEquals(0, result.count());
+  }
+
+  @Test
+  public void testEqualsBulkExpansion() throws Exception {
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(b, e1, c),
+      createEmbedding(c, e2, a),
+      createEmbedding(a, e3, c),
+      createEmbedding(c, e4, d),
+      createEmbedding(d, e5, a)
+    );
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(c, e4, d),
+      createEmbedding(d, e5, a)
+    );
+
+    for (int upperBound = 2; upperBound <= 5; upperBound++) {
+      for (List<Integer> distinctColumns : Lists.<List<Integer>>newArrayList(
+        new ArrayList<>(), Lists.newArrayList(0, 2))) {
+        List<Integer> distinctEdgeColumns = distinctColumns.isEmpty() ?
+          new ArrayList<>() : Lists.newArrayList(1);
+
+        // path entries are referenced by random ids, hence the string representations are compared
+        List<String> expected = new ExpandEmbeddingsBulk(input, candidateEdges, 2, 1,
+          upperBound, ExpandDirection.OUT, distinctColumns, distinctEdgeColumns, 0)
+          .evaluate().map(Embedding::toString).collect();
+        List<String> actual = new ExpandEmbeddingsBidirectional(input, candidateEdges, 2, 1,
+          upperBound, ExpandDirection.OUT, distinctColumns, distinctEdgeColumns, 0)
+          .evaluate().map(Embedding::toString).collect();
+
+        Collections.sort(expected);
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingClosingColumn() {
+    new ExpandEmbeddingsBidirectional(
+      createEmbeddings(getExecutionEnvironment(), 1, a),
+      createEmbeddings(getExecutionEnvironment(), 1, a, e0, b),
+      0, 1, 3, ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1);
+  }
+
+  /**
+   * Creates the candidate edges {@code a->b->c->d, a->d, b->d}
+   *
+   * @return candidate edges
+   */
+  private DataSet<Embedding> createCandidateEdges() {
+    return getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, d),
+      createEmbedding(a, e4, d),
+      createEmbedding(b, e5, d)
+    );
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.junit.Test;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class ExpandEmbeddingsReachabilityTest extends PhysicalOperatorTest {
+  //define some vertices
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+  private final GradoopId m = GradoopId.get();
+  private final GradoopId n = GradoopId.get();
+
+  //define some edges
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+
+  @Test
+  public void testOutputFormat() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(m, e0, n)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(n, e1, a),
+      createEmbedding(a, e2, b),
+      createEmbedding(b, e3, c)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsReachability(
+      input, candidateEdges, 2, 1, 3, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(3, result.count());
+    assertEveryEmbedding(result, embedding -> assertEquals(5, embedding.size()));
+    assertEmbeddingExists(result, m, e0, n, e1, a);
+    assertEmbeddingExists(result, m, e0, n, e1, a, e2, b);
+    assertEmbeddingExists(result, m, e0, n, e1, a, e2, b, e3, c);
+  }
+
+  @Test
+  public void testResultForInExpansion() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, a),
+      createEmbedding(c, e2, b),
+      createEmbedding(d, e3, c)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsReachability(
+      input, candidateEdges, 0, 1, 2, ExpandDirection.IN, -1).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, e1, b);
+    assertEmbeddingExists(result, a, e1, b, e2, c);
+  }
+
+  @Test
+  public void testSinglePathPerReachableVertex() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    // two paths of length 2 and one of length 3 from a to d
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(a, e1, c),
+      createEmbedding(b, e2, d),
+      createEmbedding(c, e3, d),
+      createEmbedding(b, e4, c)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsReachability(
+      input, candidateEdges, 0, 1, 3, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, a, e0, b);
+    assertEmbeddingExists(result, a, e1, c);
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(d) &&
+      embedding.getIdList(1).size() == 3);
+  }
+
+  @Test
+  public void testTerminatesOnCyclesWithoutUpperBound() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a),
+      createEmbedding(b)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(b, e1, c),
+      createEmbedding(c, e2, a)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsReachability(
+      input, candidateEdges, 0, 1, Integer.MAX_VALUE, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(6, result.count());
+    assertEmbeddingExists(result, a, e0, b, e1, c, e2, a);
+    assertEmbeddingExists(result, b, e1, c, e2, a, e0, b);
+  }
+
+  @Test
+  public void testLowerBound0() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 1, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsReachability(
+      input, candidateEdges, 0, 0, 3, ExpandDirection.OUT, -1).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, embedding ->
+      embedding.getId(0).equals(embedding.getId(2)) &&
+      embedding.getIdList(1).size() == 0
+    );
+  }
+
+  @Test
+  public void testCircleCondition() throws Exception {
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, c),
+      createEmbedding(b, e2, a)
+    );
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b)
+    );
+
+    DataSet<Embedding> result = new ExpandEmbeddingsReachability(
+      input, candidateEdges, 2, 1, 2, ExpandDirection.OUT, 0).evaluate();
+
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, a, e0, b, e2, a);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLowerBoundGreaterThanOne() {
+    new ExpandEmbeddingsReachability(
+      createEmbeddings(getExecutionEnvironment(), 1, a),
+      createEmbeddings(getExecutionEnvironment(), 1, a, e0, b),
+      0, 2, 3, ExpandDirection.OUT, -1);
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class WorstCaseOptimalJoinTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+  private static GradoopId e4 = GradoopId.get();
+  private static GradoopId e5 = GradoopId.get();
+
+  @Test
+  public void testIntersection() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    // edges from v0
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e1, v2),
+      createEmbedding(v0, e2, v3)
+    );
+    // edges from v1
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e3, v2),
+      createEmbedding(v1, e4, v2),
+      createEmbedding(v2, e5, v3)
+    );
+
+    PhysicalOperator join = new WorstCaseOptimalJoin(input, asList(left, right), asList(0, 2),
+      asList(ExpandDirection.OUT, ExpandDirection.OUT), asList(0, 0),
+      asList(0, 2), Collections.singletonList(1),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1, e3, v2);
+    assertEmbeddingExists(result, v0, e0, v1, e1, e4, v2);
+  }
+
+  @Test
+  public void testIncomingEdges() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v2, e1, v0),
+      createEmbedding(v3, e2, v0)
+    );
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(
+      createEmbedding(v3, e3, v1),
+      createEmbedding(v1, e4, v3)
+    );
+
+    PhysicalOperator join = new WorstCaseOptimalJoin(input, asList(left, right), asList(0, 2),
+      asList(ExpandDirection.IN, ExpandDirection.IN), asList(0, 0),
+      asList(0, 2), Collections.singletonList(1),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e2, e3, v3);
+  }
+
+  @Test
+  public void testProperties() throws Exception {
+    Embedding embedding = new Embedding();
+    embedding.add(v0, PropertyValue.create("Alice"));
+    embedding.add(e0);
+    embedding.add(v1);
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(embedding);
+
+    Embedding leftEdge = new Embedding();
+    leftEdge.add(v0);
+    leftEdge.add(e1, PropertyValue.create(2014), PropertyValue.create("a"));
+    leftEdge.add(v2);
+    Embedding rightEdge = new Embedding();
+    rightEdge.add(v1);
+    rightEdge.add(e2, PropertyValue.create(2015));
+    rightEdge.add(v2);
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(leftEdge);
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(rightEdge);
+
+    PhysicalOperator join = new WorstCaseOptimalJoin(input, asList(left, right), asList(0, 2),
+      asList(ExpandDirection.OUT, ExpandDirection.OUT), asList(2, 1),
+      asList(0, 2), Collections.singletonList(1),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1, e2, v2);
+    assertEveryEmbedding(result, e ->
+      assertEquals(Lists.newArrayList(
+        PropertyValue.create("Alice"),
+        PropertyValue.create(2014),
+        PropertyValue.create("a"),
+        PropertyValue.create(2015)
+      ), e.getProperties()));
+  }
+
+  @Test
+  public void testSmallestCandidateListProposes() throws Exception {
+    Embedding embedding = new Embedding();
+    embedding.add(v0);
+    embedding.add(e0);
+    embedding.add(v1);
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(embedding);
+
+    // v0 is a hub, so the edges from v1 have to propose the extensions
+    List<Embedding> leftEdges = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Embedding leftEdge = new Embedding();
+      leftEdge.add(v0);
+      leftEdge.add(GradoopId.get(), PropertyValue.create(i), PropertyValue.create("b"));
+      leftEdge.add(GradoopId.get());
+      leftEdges.add(leftEdge);
+    }
+    Embedding leftEdge = new Embedding();
+    leftEdge.add(v0);
+    leftEdge.add(e1, PropertyValue.create(2014), PropertyValue.create("a"));
+    leftEdge.add(v2);
+    leftEdges.add(leftEdge);
+    Embedding rightEdge = new Embedding();
+    rightEdge.add(v1);
+    rightEdge.add(e2, PropertyValue.create(2015));
+    rightEdge.add(v2);
+    DataSet<Embedding> left = getExecutionEnvironment().fromCollection(leftEdges);
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(rightEdge);
+
+    PhysicalOperator join = new WorstCaseOptimalJoin(input, asList(left, right), asList(0, 2),
+      asList(ExpandDirection.OUT, ExpandDirection.OUT), asList(2, 1),
+      asList(0, 2), Collections.singletonList(1),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1, e2, v2);
+    assertEveryEmbedding(result, e ->
+      assertEquals(Lists.newArrayList(
+        PropertyValue.create(2014),
+        PropertyValue.create("a"),
+        PropertyValue.create(2015)
+      ), e.getProperties()));
+  }
+
+  @Test
+  public void testVertexIsomorphism() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e1, v1),
+      createEmbedding(v0, e2, v2)
+    );
+    DataSet<Embedding> right = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e3, v1),
+      createEmbedding(v1, e4, v2)
+    );
+
+    List<DataSet<Embedding>> edges = asList(left, right);
+    PhysicalOperator isomorphism = new WorstCaseOptimalJoin(input, edges, asList(0, 2),
+      asList(ExpandDirection.OUT, ExpandDirection.OUT), asList(0, 0),
+      asList(0, 2), Collections.singletonList(1),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = isomorphism.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e2, e4, v2);
+
+    PhysicalOperator homomorphism = new WorstCaseOptimalJoin(input, edges, asList(0, 2),
+      asList(ExpandDirection.OUT, ExpandDirection.OUT), asList(0, 0),
+      asList(0, 2), Collections.singletonList(1),
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    result = homomorphism.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, e1, e3, v1);
+    assertEmbeddingExists(result, v0, e0, v1, e2, e4, v2);
+  }
+
+  @Test
+  public void testEdgeIsomorphism() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0)
+    );
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v0, e1, v1)
+    );
+
+    PhysicalOperator isomorphism = new WorstCaseOptimalJoin(input, asList(edges, edges),
+      asList(0, 0), asList(ExpandDirection.OUT, ExpandDirection.OUT), asList(0, 0),
+      Collections.singletonList(0), Collections.emptyList(),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = isomorphism.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e0, e1, v1);
+    assertEmbeddingExists(result, v0, e1, e0, v1);
+
+    PhysicalOperator homomorphism = new WorstCaseOptimalJoin(input, asList(edges, edges),
+      asList(0, 0), asList(ExpandDirection.OUT, ExpandDirection.OUT), asList(0, 0),
+      Collections.singletonList(0), Collections.emptyList(),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.HOMOMORPHISM);
+
+    assertEquals(4, homomorphism.evaluate().count());
+  }
+}
@@ -15,9 +15,9 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.junit.Assert;
@@ -39,7 +39,8 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
 
     ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Collections.singletonList(0));
 
-    Assert.assertEquals(ArrayUtils.toString(embedding.getRawProperty(0)), udf.getKey(embedding));
+    Assert.assertEquals(PropertyValueList.fromPropertyValues(Collections.singletonList(a)),
+      udf.getKey(embedding));
   }
 
   @Test
@@ -54,7 +55,7 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
     ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Arrays.asList(0, 1));
 
     Assert.assertEquals(
-      ArrayUtils.toString(embedding.getRawProperty(0)) + ArrayUtils.toString(embedding.getRawProperty(1)),
+      PropertyValueList.fromPropertyValues(Arrays.asList(a, b)),
       udf.getKey(embedding)
     );
   }
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+
+public class SelectCandidateListTest extends PhysicalOperatorTest {
+
+  @Test
+  public void testSelectSmallestList() throws Exception {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    Embedding embedding = createEmbedding(v0, v1);
+
+    Tuple3<Embedding, Integer, Long> candidates = new InitCandidateList().map(embedding).copy();
+    candidates = new SelectCandidateList(0).join(candidates, Tuple2.of(v0, 1000L));
+    candidates = new SelectCandidateList(1).join(candidates, Tuple2.of(v1, 2L));
+    candidates = new SelectCandidateList(2).join(candidates, Tuple2.of(v1, 5L));
+
+    assertEquals(embedding, candidates.f0);
+    assertEquals(1, (int) candidates.f1);
+    assertEquals(2L, (long) candidates.f2);
+  }
+
+  @Test
+  public void testKeepFirstOfEqualLists() throws Exception {
+    Embedding embedding = createEmbedding(GradoopId.get());
+
+    Tuple3<Embedding, Integer, Long> candidates = new InitCandidateList().map(embedding).copy();
+    candidates = new SelectCandidateList(0).join(candidates, Tuple2.of(embedding.getId(0), 3L));
+    candidates = new SelectCandidateList(1).join(candidates, Tuple2.of(embedding.getId(0), 3L));
+
+    assertEquals(0, (int) candidates.f1);
+  }
+}
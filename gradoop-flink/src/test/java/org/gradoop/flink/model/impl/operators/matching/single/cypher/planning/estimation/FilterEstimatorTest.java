@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
 
 public class FilterEstimatorTest extends EstimatorTestBase {
 
@@ -87,4 +88,107 @@ public class FilterEstimatorTest extends EstimatorTestBase {
     assertThat(elementEstimator.getCardinality(), is(10L));
     assertThat(elementEstimator.getSelectivity(), is(1d));
   }
+
+  @Test
+  public void testVertexWithEqualityOnMostCommonValue() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.city = 'Dresden'";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(6L));
+    assertThat(elementEstimator.getSelectivity(), is(0.5d));
+  }
+
+  @Test
+  public void testVertexWithEqualityOnHistogramValue() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age = 20";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertEquals(1d / 6d, elementEstimator.getSelectivity(), 0.0001d);
+  }
+
+  @Test
+  public void testVertexWithRange() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age > 25";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    // most common values 30 and 35 plus a quarter of the bucket [20, 40]
+    assertEquals(4.75d / 6d, elementEstimator.getSelectivity(), 0.0001d);
+  }
+
+  @Test
+  public void testVertexWithMirroredRange() throws Exception {
+    String query = "MATCH (n:Person) WHERE 25 >= n.age";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertEquals(1.25d / 6d, elementEstimator.getSelectivity(), 0.0001d);
+  }
+
+  @Test
+  public void testVertexWithDisjunction() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.city = 'Dresden' OR n.age = 20";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertEquals(1d - 0.5d * 5d / 6d, elementEstimator.getSelectivity(), 0.0001d);
+  }
+
+  @Test
+  public void testVertexWithoutComparableHistogram() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.age = 'foo' AND n.age < 'bar'";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertEquals(0.25d * FilterEstimator.DEFAULT_RANGE_SELECTIVITY,
+      elementEstimator.getSelectivity(), 0.0001d);
+  }
+
+  @Test
+  public void testEdgeWithEquality() throws Exception {
+    String query = "MATCH (n)-[e:knows]->(m) WHERE e.since = 2014";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(10L));
+    assertEquals(0.4d, elementEstimator.getSelectivity(), 0.0001d);
+  }
 }
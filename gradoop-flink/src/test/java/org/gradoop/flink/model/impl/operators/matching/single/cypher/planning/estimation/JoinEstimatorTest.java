@@ -189,6 +189,27 @@ public class JoinEstimatorTest extends EstimatorTestBase {
     assertThat(estimator.getCardinality(), is(34L));
   }
 
+  @Test
+  public void testPathLoop() throws Exception {
+    String query = "MATCH (n)-[e*1..2]->(n)";
+
+    QueryHandler queryHandler = new QueryHandler(query);
+    LeafNode nNode = new FilterAndProjectVerticesNode(null, "n",
+      queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+    LeafNode eNode = new FilterAndProjectEdgesNode(null,
+      "n", "e", "n",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), true);
+
+    ExpandEmbeddingsNode neJoin = new ExpandEmbeddingsNode(nNode, eNode,
+      "n", "e", "n", 1, 2,
+      ExpandDirection.OUT, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    JoinEstimator estimator = new JoinEstimator(queryHandler, STATS);
+    estimator.visit(neJoin);
+
+    assertThat(estimator.getCardinality(), is(4L));
+  }
+
   @Test
   public void testPathFixedLength() throws Exception {
     String query = "MATCH (n)-[e*2..2]->(m)";
@@ -251,4 +272,18 @@ public class JoinEstimatorTest extends EstimatorTestBase {
 
     assertThat(estimator.getCardinality(), is(30L));
   }
+
+  @Test
+  public void testBidirectionalExpansion() throws Exception {
+    QueryHandler queryHandler = new QueryHandler("MATCH (n)-[e:knows*1..4]->(m)");
+    JoinEstimator estimator = new JoinEstimator(queryHandler, STATS);
+
+    assertThat(estimator.isBidirectionalExpansionCheaper("e", ExpandDirection.OUT, 36L), is(true));
+    assertThat(estimator.isBidirectionalExpansionCheaper("e", ExpandDirection.IN, 36L), is(true));
+
+    queryHandler = new QueryHandler("MATCH (n)-[e:knows*1..2]->(m)");
+    estimator = new JoinEstimator(queryHandler, STATS);
+
+    assertThat(estimator.isBidirectionalExpansionCheaper("e", ExpandDirection.OUT, 1L), is(false));
+  }
 }
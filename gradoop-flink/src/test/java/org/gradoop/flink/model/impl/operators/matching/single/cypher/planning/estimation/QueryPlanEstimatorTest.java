@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
@@ -28,6 +29,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.WorstCaseOptimalJoinNode;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -230,4 +232,50 @@ public class QueryPlanEstimatorTest extends EstimatorTestBase  {
       ce2dEstimator.getCardinality()));
   }
 
+  @Test
+  public void testWorstCaseOptimalJoinCosts() throws Exception {
+    String query = "MATCH (a)-[e1]->(b)-[e2]->(c), (a)-[e3]->(c)";
+    QueryHandler queryHandler = new QueryHandler(query);
+    GraphStatistics statistics = new GraphStatistics(100, 2000, 100, 100);
+
+    LeafNode aNode = new FilterAndProjectVerticesNode(null, "a",
+      queryHandler.getPredicates().getSubCNF("a"), Sets.newHashSet());
+    LeafNode bNode = new FilterAndProjectVerticesNode(null, "b",
+      queryHandler.getPredicates().getSubCNF("b"), Sets.newHashSet());
+    LeafNode cNode = new FilterAndProjectVerticesNode(null, "c",
+      queryHandler.getPredicates().getSubCNF("c"), Sets.newHashSet());
+    LeafNode e1Node = new FilterAndProjectEdgesNode(null, "a", "e1", "b",
+      queryHandler.getPredicates().getSubCNF("e1"), Sets.newHashSet(), false);
+    LeafNode e2Node = new FilterAndProjectEdgesNode(null, "b", "e2", "c",
+      queryHandler.getPredicates().getSubCNF("e2"), Sets.newHashSet(), false);
+    LeafNode e3Node = new FilterAndProjectEdgesNode(null, "a", "e3", "c",
+      queryHandler.getPredicates().getSubCNF("e3"), Sets.newHashSet(), false);
+
+    WorstCaseOptimalJoinNode wcoj = new WorstCaseOptimalJoinNode(
+      Lists.newArrayList(aNode, bNode, cNode), Lists.newArrayList(e1Node, e2Node, e3Node),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    QueryPlanEstimator estimator =
+      new QueryPlanEstimator(new QueryPlan(wcoj), queryHandler, statistics);
+
+    // binding b: 2000 proposals + 2000 vertex joins
+    // binding c: 2 * 2000 counts + 20000 proposals + 8000 intersections + 8000 vertex joins
+    assertThat(estimator.getCardinality(), is(8000L));
+    assertThat(estimator.getCosts(), is(44000d));
+
+    BinaryNode ae1 = new JoinEmbeddingsNode(aNode, e1Node, Lists.newArrayList("a"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    BinaryNode ae1b = new JoinEmbeddingsNode(ae1, bNode, Lists.newArrayList("b"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    BinaryNode ae1be2 = new JoinEmbeddingsNode(ae1b, e2Node, Lists.newArrayList("b"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    BinaryNode ae1be2e3 = new JoinEmbeddingsNode(ae1be2, e3Node, Lists.newArrayList("a", "c"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    BinaryNode ae1be2e3c = new JoinEmbeddingsNode(ae1be2e3, cNode, Lists.newArrayList("c"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    estimator = new QueryPlanEstimator(new QueryPlan(ae1be2e3c), queryHandler, statistics);
+
+    // the open path (a)-[e1]->(b)-[e2]->() dominates the costs of the binary joins
+    assertThat(estimator.getCardinality(), is(8000L));
+    assertThat(estimator.getCosts(), is(2000d + 2000d + 40000d + 8000d + 8000d));
+  }
 }
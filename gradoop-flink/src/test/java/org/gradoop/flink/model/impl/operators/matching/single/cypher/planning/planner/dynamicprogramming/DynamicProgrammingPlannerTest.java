@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamicprogramming;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.WorstCaseOptimalJoinNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class DynamicProgrammingPlannerTest extends GradoopFlinkTestBase {
+
+  private static final String TRIANGLE = "MATCH (a)-->(b)-->(c), (a)-->(c)";
+
+  private LogicalGraph socialNetwork;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+  }
+
+  @Test
+  public void testTriangleOnDenseGraph() throws Exception {
+    GraphStatistics statistics = new GraphStatistics(100, 2000, 100, 100);
+
+    PlanTableEntry entry = plan(TRIANGLE, statistics,
+      DynamicProgrammingPlanner.DEFAULT_MAX_PATTERN_SIZE);
+
+    assertThat(containsWorstCaseOptimalJoin(entry.getQueryPlan().getRoot()), is(true));
+    assertThat(entry.getProcessedVariables().size(), is(6));
+  }
+
+  @Test
+  public void testTriangleOnSparseGraph() throws Exception {
+    GraphStatistics statistics = new GraphStatistics(1000, 1000, 1000, 1000);
+
+    PlanTableEntry entry = plan(TRIANGLE, statistics,
+      DynamicProgrammingPlanner.DEFAULT_MAX_PATTERN_SIZE);
+
+    assertThat(containsWorstCaseOptimalJoin(entry.getQueryPlan().getRoot()), is(false));
+    assertThat(entry.getProcessedVariables().size(), is(6));
+  }
+
+  @Test
+  public void testTriangleExceedingMaxPatternSize() throws Exception {
+    GraphStatistics statistics = new GraphStatistics(100, 2000, 100, 100);
+
+    PlanTableEntry entry = plan(TRIANGLE, statistics, 5);
+
+    assertThat(containsWorstCaseOptimalJoin(entry.getQueryPlan().getRoot()), is(true));
+  }
+
+  private PlanTableEntry plan(String query, GraphStatistics statistics, int maxPatternSize) {
+    DynamicProgrammingPlanner planner = new DynamicProgrammingPlanner(socialNetwork,
+      new QueryHandler(query), statistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM,
+      maxPatternSize);
+    return planner.plan();
+  }
+
+  private static boolean containsWorstCaseOptimalJoin(PlanNode node) {
+    if (node instanceof WorstCaseOptimalJoinNode) {
+      return true;
+    }
+    if (node instanceof BinaryNode) {
+      return containsWorstCaseOptimalJoin(((BinaryNode) node).getLeftChild()) ||
+        containsWorstCaseOptimalJoin(((BinaryNode) node).getRightChild());
+    }
+    if (node instanceof UnaryNode) {
+      return containsWorstCaseOptimalJoin(((UnaryNode) node).getChildNode());
+    }
+    if (node instanceof NaryNode) {
+      return ((NaryNode) node).getChildren().stream()
+        .anyMatch(DynamicProgrammingPlannerTest::containsWorstCaseOptimalJoin);
+    }
+    return false;
+  }
+}
@@ -20,6 +20,7 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
@@ -140,6 +141,7 @@ public class ExpandEmbeddingsNodeTest extends GradoopFlinkTestBase {
     GradoopId e = GradoopId.get();
     GradoopId f = GradoopId.get();
     GradoopId g = GradoopId.get();
+    GradoopId h = GradoopId.get();
 
     EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
     leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
@@ -196,4 +198,94 @@ public class ExpandEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertThat(embedding.getIdList(1).get(4), is(f));
     assertThat(embedding.getId(2), is(g));
   }
+
+  @SuppressWarnings("ArraysAsListWithZeroOrOneArgument")
+  @Test
+  public void testExecuteReachability() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e = GradoopId.get();
+    GradoopId f = GradoopId.get();
+
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+
+    DataSet<Embedding> leftEmbeddings = getExecutionEnvironment().fromElements(createEmbedding(a));
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    rightInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+
+    // two paths from a to c
+    DataSet<Embedding> rightEmbeddings = getExecutionEnvironment().fromElements(
+      createEmbedding(a, b, c),
+      createEmbedding(a, d, e),
+      createEmbedding(e, f, c));
+
+    MockPlanNode leftChild = new MockPlanNode(leftEmbeddings, leftInputMetaData);
+    MockPlanNode rightChild = new MockPlanNode(rightEmbeddings, rightInputMetaData);
+
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(leftChild, rightChild,
+      "v1", "e1", "v2",
+      1, 3, ExpandDirection.OUT,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM);
+    node.setExpandStrategy(ExpandStrategy.REACHABILITY);
+
+    List<Embedding> result = node.execute().collect();
+    assertThat(result.size(), is(2));
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(c) &&
+      embedding.getIdList(1).equals(asList(b)));
+    assertEmbeddingExists(result, embedding -> embedding.getId(2).equals(e) &&
+      embedding.getIdList(1).equals(asList(d)));
+  }
+
+  @Test
+  public void testExecuteBidirectional() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e = GradoopId.get();
+    GradoopId f = GradoopId.get();
+    GradoopId g = GradoopId.get();
+    GradoopId h = GradoopId.get();
+
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    leftInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 1);
+
+    DataSet<Embedding> leftEmbeddings = getExecutionEnvironment()
+      .fromElements(createEmbedding(a, g));
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    rightInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+
+    DataSet<Embedding> rightEmbeddings = getExecutionEnvironment().fromElements(
+      createEmbedding(a, b, c),
+      createEmbedding(c, d, e),
+      createEmbedding(e, f, g),
+      createEmbedding(c, h, a));
+
+    MockPlanNode leftChild = new MockPlanNode(leftEmbeddings, leftInputMetaData);
+    MockPlanNode rightChild = new MockPlanNode(rightEmbeddings, rightInputMetaData);
+
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(leftChild, rightChild,
+      "v1", "e1", "v2",
+      1, 4, ExpandDirection.OUT,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    node.setExpandStrategy(ExpandStrategy.BIDIRECTIONAL);
+
+    List<Embedding> result = node.execute().collect();
+    assertThat(result.size(), is(1));
+    Embedding embedding = result.get(0);
+    assertThat(embedding.getId(0), is(a));
+    assertThat(embedding.getId(1), is(g));
+    assertThat(embedding.getIdList(2), is(asList(b, c, d, e, f)));
+    assertThat(embedding.getId(3), is(g));
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbedding;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WorstCaseOptimalJoinNodeTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMetaDataInitialization() throws Exception {
+    List<PlanNode> vertexNodes = asList(
+      createVertexNode(null, "a", "age"),
+      createVertexNode(null, "b", "age"),
+      createVertexNode(null, "c", "name"));
+    List<PlanNode> edgeNodes = asList(
+      createEdgeNode(null, "a", "e1", "b", "since"),
+      createEdgeNode(null, "c", "e2", "b", null),
+      createEdgeNode(null, "a", "e3", "c", "since"));
+
+    WorstCaseOptimalJoinNode node = new WorstCaseOptimalJoinNode(vertexNodes, edgeNodes,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    EmbeddingMetaData outputMetaData = node.getEmbeddingMetaData();
+
+    assertThat(outputMetaData.getEntryCount(), is(6));
+    assertThat(outputMetaData.getEntryColumn("a"), is(0));
+    assertThat(outputMetaData.getEntryColumn("e1"), is(1));
+    assertThat(outputMetaData.getEntryColumn("b"), is(2));
+    assertThat(outputMetaData.getEntryColumn("e2"), is(3));
+    assertThat(outputMetaData.getEntryColumn("e3"), is(4));
+    assertThat(outputMetaData.getEntryColumn("c"), is(5));
+    assertThat(outputMetaData.getEntryType("e2"), is(EntryType.EDGE));
+    assertThat(outputMetaData.getEntryType("c"), is(EntryType.VERTEX));
+
+    assertThat(outputMetaData.getPropertyCount(), is(5));
+    assertThat(outputMetaData.getPropertyColumn("a", "age"), is(0));
+    assertThat(outputMetaData.getPropertyColumn("e1", "since"), is(1));
+    assertThat(outputMetaData.getPropertyColumn("b", "age"), is(2));
+    assertThat(outputMetaData.getPropertyColumn("e3", "since"), is(3));
+    assertThat(outputMetaData.getPropertyColumn("c", "name"), is(4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDisconnectedVertex() {
+    new WorstCaseOptimalJoinNode(
+      asList(createVertexNode(null, "a", null), createVertexNode(null, "b", null),
+        createVertexNode(null, "c", null)),
+      singletonList(createEdgeNode(null, "a", "e1", "b", null)),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+    GradoopId e3 = GradoopId.get();
+    GradoopId e4 = GradoopId.get();
+
+    DataSet<Embedding> vertices = getExecutionEnvironment().fromElements(
+      createEmbedding(singletonList(Pair.of(a, singletonList(23)))),
+      createEmbedding(singletonList(Pair.of(b, singletonList(42)))),
+      createEmbedding(singletonList(Pair.of(c, singletonList(84)))),
+      createEmbedding(singletonList(Pair.of(d, singletonList(77)))));
+
+    // triangle (a)->(b)->(c)<-(a) and open path (a)->(b)->(d)
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(asList(Pair.of(a, emptyList()), Pair.of(e1, emptyList()),
+        Pair.of(b, emptyList()))),
+      createEmbedding(asList(Pair.of(b, emptyList()), Pair.of(e2, emptyList()),
+        Pair.of(c, emptyList()))),
+      createEmbedding(asList(Pair.of(a, emptyList()), Pair.of(e3, emptyList()),
+        Pair.of(c, emptyList()))),
+      createEmbedding(asList(Pair.of(b, emptyList()), Pair.of(e4, emptyList()),
+        Pair.of(d, emptyList()))));
+
+    WorstCaseOptimalJoinNode node = new WorstCaseOptimalJoinNode(
+      asList(createVertexNode(vertices, "x", "age"), createVertexNode(vertices, "y", "age"),
+        createVertexNode(vertices, "z", "age")),
+      asList(createEdgeNode(edges, "x", "f1", "y", null),
+        createEdgeNode(edges, "y", "f2", "z", null),
+        createEdgeNode(edges, "x", "f3", "z", null)),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = node.execute().collect();
+
+    assertThat(result.size(), is(1));
+    assertEmbedding(result.get(0), asList(a, e1, b, e2, e3, c), asList(
+      PropertyValue.create(23), PropertyValue.create(42), PropertyValue.create(84)));
+  }
+
+  private static PlanNode createVertexNode(DataSet<Embedding> embeddings, String variable,
+    String propertyKey) {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn(variable, EntryType.VERTEX, 0);
+    if (propertyKey != null) {
+      metaData.setPropertyColumn(variable, propertyKey, 0);
+    }
+    return new MockPlanNode(embeddings, metaData);
+  }
+
+  private static PlanNode createEdgeNode(DataSet<Embedding> embeddings, String sourceVariable,
+    String edgeVariable, String targetVariable, String propertyKey) {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn(sourceVariable, EntryType.VERTEX, 0);
+    metaData.setEntryColumn(edgeVariable, EntryType.EDGE, 1);
+    metaData.setEntryColumn(targetVariable, EntryType.VERTEX, 2);
+    if (propertyKey != null) {
+      metaData.setPropertyColumn(edgeVariable, propertyKey, 0);
+    }
+    return new MockPlanNode(embeddings, metaData);
+  }
+}
@@ -19,7 +19,11 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumProperty;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
@@ -35,6 +39,21 @@ import java.util.List;
  */
 public class RollUpTest extends GradoopFlinkTestBase {
 
+  /**
+   * Input graph for the rollUp tests using decomposable aggregate functions.
+   */
+  private static final String DECOMPOSABLE_INPUT = "input[" +
+    "(a:Person {gender:\"f\",city:\"L\",age:20})" +
+    "(b:Person {gender:\"f\",city:\"L\",age:30})" +
+    "(c:Person {gender:\"m\",city:\"L\",age:40})" +
+    "(d:Person {gender:\"m\",city:\"D\",age:50})" +
+    "(a)-[:knows {since:2011}]->(b)" +
+    "(a)-[:knows {since:2014}]->(c)" +
+    "(c)-[:knows {since:2016}]->(d)" +
+    "(b)-[:knows {since:2018}]->(d)" +
+    "(a)-[:likes {since:2016}]->(d)" +
+    "]";
+
   /**
    * Executes a rollUp on vertices using a single grouping key and checks if the result
    * is correct.
@@ -244,4 +263,100 @@ public class RollUpTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(output.equalsByGraphData(expected));
   }
+
+
+  /**
+   * Executes a rollUp on vertices using decomposable aggregate functions, whose coarser groupings
+   * are derived from the finest one, and checks if the result is correct.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testVertexRollUpWithDecomposableAggregates() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(DECOMPOSABLE_INPUT);
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    //expected
+    loader.appendToDatabaseFromString("g0 {vertexRollUpGroupingKeys:\":label,gender,city\"}[" +
+      "(v0:Person {gender:\"f\",city:\"L\",count:2L,avg_age:25.0d,min_age:20,max_age:30," +
+      "sum_age:50})" +
+      "(v1:Person {gender:\"m\",city:\"L\",count:1L,avg_age:40.0d,min_age:40,max_age:40," +
+      "sum_age:40})" +
+      "(v2:Person {gender:\"m\",city:\"D\",count:1L,avg_age:50.0d,min_age:50,max_age:50," +
+      "sum_age:50})" +
+      "(v0)-[e0 {count:1L,avg_since:2011.0d}]->(v0)" +
+      "(v0)-[e1 {count:1L,avg_since:2014.0d}]->(v1)" +
+      "(v1)-[e2 {count:1L,avg_since:2016.0d}]->(v2)" +
+      "(v0)-[e3 {count:2L,avg_since:2017.0d}]->(v2)" +
+      "]" +
+      "g1 {vertexRollUpGroupingKeys:\":label,gender\"}[" +
+      "(v3:Person {gender:\"f\",count:2L,avg_age:25.0d,min_age:20,max_age:30,sum_age:50})" +
+      "(v4:Person {gender:\"m\",count:2L,avg_age:45.0d,min_age:40,max_age:50,sum_age:90})" +
+      "(v3)-[e4 {count:1L,avg_since:2011.0d}]->(v3)" +
+      "(v3)-[e5 {count:3L,avg_since:2016.0d}]->(v4)" +
+      "(v4)-[e6 {count:1L,avg_since:2016.0d}]->(v4)" +
+      "]" +
+      "g2 {vertexRollUpGroupingKeys:\":label\"}[" +
+      "(v5:Person {count:4L,avg_age:35.0d,min_age:20,max_age:50,sum_age:140})" +
+      "(v5)-[e7 {count:5L,avg_since:2015.0d}]->(v5)" +
+      "]");
+
+    GraphCollection expected = loader.getGraphCollectionByVariables("g0", "g1", "g2");
+
+    List<String> vertexGK = Arrays.asList(Grouping.LABEL_SYMBOL, "gender", "city");
+    List<AggregateFunction> vertexAGG = Arrays.asList(new Count("count"),
+      new AverageProperty("age"), new MinProperty("age"), new MaxProperty("age"),
+      new SumProperty("age"));
+    List<String> edgeGK = Collections.emptyList();
+    List<AggregateFunction> edgeAGG = Arrays.asList(new Count("count"),
+      new AverageProperty("since"));
+
+    GraphCollection output = input.groupVerticesByRollUp(vertexGK, vertexAGG, edgeGK, edgeAGG);
+
+    collectAndAssertTrue(output.equalsByGraphData(expected));
+  }
+
+  /**
+   * Executes a rollUp on edges using decomposable aggregate functions, whose coarser groupings
+   * are derived from the finest one, and checks if the result is correct.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testEdgeRollUpWithDecomposableAggregates() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(DECOMPOSABLE_INPUT);
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    //expected
+    loader.appendToDatabaseFromString("g0 {edgeRollUpGroupingKeys:\":label,since\"}[" +
+      "(v0 {city:\"L\",count:3L})" +
+      "(v1 {city:\"D\",count:1L})" +
+      "(v0)-[e0:knows {since:2011,count:1L,min_since:2011,avg_since:2011.0d}]->(v0)" +
+      "(v0)-[e1:knows {since:2014,count:1L,min_since:2014,avg_since:2014.0d}]->(v0)" +
+      "(v0)-[e2:knows {since:2016,count:1L,min_since:2016,avg_since:2016.0d}]->(v1)" +
+      "(v0)-[e3:knows {since:2018,count:1L,min_since:2018,avg_since:2018.0d}]->(v1)" +
+      "(v0)-[e4:likes {since:2016,count:1L,min_since:2016,avg_since:2016.0d}]->(v1)" +
+      "]" +
+      "g1 {edgeRollUpGroupingKeys:\":label\"}[" +
+      "(v2 {city:\"L\",count:3L})" +
+      "(v3 {city:\"D\",count:1L})" +
+      "(v2)-[e5:knows {count:2L,min_since:2011,avg_since:2012.5d}]->(v2)" +
+      "(v2)-[e6:knows {count:2L,min_since:2016,avg_since:2017.0d}]->(v3)" +
+      "(v2)-[e7:likes {count:1L,min_since:2016,avg_since:2016.0d}]->(v3)" +
+      "]");
+
+    GraphCollection expected = loader.getGraphCollectionByVariables("g0", "g1");
+
+    List<String> vertexGK = Collections.singletonList("city");
+    List<AggregateFunction> vertexAGG = Collections.singletonList(new Count("count"));
+    List<String> edgeGK = Arrays.asList(Grouping.LABEL_SYMBOL, "since");
+    List<AggregateFunction> edgeAGG = Arrays.asList(new Count("count"),
+      new MinProperty("since"), new AverageProperty("since"));
+
+    GraphCollection output = input.groupEdgesByRollUp(vertexGK, vertexAGG, edgeGK, edgeAGG);
+
+    collectAndAssertTrue(output.equalsByGraphData(expected));
+  }
 }
@@ -17,12 +17,16 @@ package org.gradoop.flink.model.impl.operators.statistics;
 
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyHistogram;
 import org.gradoop.flink.model.impl.tuples.WithCount;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -408,4 +412,45 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("locIP"), is(1L));
     assertThat(cache.get("title"), is(2L));
   }
+
+  @Test
+  public void testVertexPropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getLoaderFromString("g[" +
+      "(:A {x: 1})(:A {x: 2})(:A {x: 3})(:A {x: 3})(:A {x: 3})" +
+      "(:A {x: 4})(:A {x: 4})(:A {x: 4})(:A {x: 5})" +
+      "]").getLogicalGraphByVariable("g");
+
+    List<Tuple3<String, String, PropertyHistogram>> result =
+      new VertexPropertyHistogramsByLabel(2, 1)
+        .execute(db)
+        .collect();
+
+    assertThat(result.size(), is(1));
+    PropertyHistogram histogram = result.get(0).f2;
+    assertThat(histogram.getCount(), is(9L));
+    assertThat(histogram.getDistinctCount(), is(5L));
+    assertThat(histogram.getMostCommonValues().size(), is(1));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(3)), is(3L));
+    assertThat(histogram.getBounds(), is(Arrays.asList(
+      PropertyValue.create(1), PropertyValue.create(4), PropertyValue.create(5))));
+  }
+
+  @Test
+  public void testVertexPropertyHistogramsByLabelWithMixedTypes() throws Exception {
+    LogicalGraph db = getLoaderFromString("g[" +
+      "(:A {x: 1})(:A {x: 2L})(:A {x: 3})(:A {x: 3})(:A {x: 3})" +
+      "]").getLogicalGraphByVariable("g");
+
+    List<Tuple3<String, String, PropertyHistogram>> result =
+      new VertexPropertyHistogramsByLabel()
+        .execute(db)
+        .collect();
+
+    assertThat(result.size(), is(1));
+    PropertyHistogram histogram = result.get(0).f2;
+    assertThat(histogram.getCount(), is(5L));
+    assertThat(histogram.getDistinctCount(), is(3L));
+    assertThat(histogram.getMostCommonValues().get(PropertyValue.create(3)), is(3L));
+    assertThat(histogram.getBounds().isEmpty(), is(true));
+  }
 }
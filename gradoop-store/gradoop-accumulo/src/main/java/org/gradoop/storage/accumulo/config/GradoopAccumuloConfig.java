@@ -68,6 +68,12 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
    */
   public static final String GRADOOP_BATCH_SCANNER_THREADS = "gradoop.batch.scanner.threads";
 
+  /**
+   * gradoop vertex adjacency flag, store incoming and outgoing edges inside the vertex rows,
+   * default false
+   */
+  public static final String GRADOOP_ADJACENCY_ENABLED = "gradoop.adjacency.enabled";
+
   /**
    * zookeeper hosts, default "localhost:2181"
    */
@@ -34,16 +34,21 @@ import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.io.Text;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood.EdgeDirection;
 import org.gradoop.storage.common.api.EPGMConfigProvider;
 import org.gradoop.storage.common.api.EPGMGraphInput;
+import org.gradoop.storage.common.api.EPGMGraphNeighborhoodOutput;
 import org.gradoop.storage.common.api.EPGMGraphPredictableOutput;
 import org.gradoop.storage.common.iterator.ClosableIterator;
 import org.gradoop.storage.common.iterator.EmptyClosableIterator;
@@ -54,6 +59,7 @@ import org.gradoop.storage.accumulo.impl.constants.AccumuloDefault;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
 import org.gradoop.storage.accumulo.impl.handler.AccumuloRowHandler;
 import org.gradoop.storage.accumulo.impl.iterator.client.ClientClosableIterator;
+import org.gradoop.storage.accumulo.impl.iterator.tserver.BaseElementIterator;
 import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopEdgeIterator;
 import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopGraphHeadIterator;
 import org.gradoop.storage.accumulo.impl.iterator.tserver.GradoopVertexIterator;
@@ -64,6 +70,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -75,10 +82,12 @@ import java.util.stream.Collectors;
  * Store contains instances are divided by {@link GradoopAccumuloConfig#ACCUMULO_TABLE_PREFIX}
  *
  * @see EPGMGraphPredictableOutput
+ * @see EPGMGraphNeighborhoodOutput
  */
 public class AccumuloEPGMStore implements
   EPGMConfigProvider<GradoopAccumuloConfig>,
   EPGMGraphInput,
+  EPGMGraphNeighborhoodOutput,
   EPGMGraphPredictableOutput<
     AccumuloElementFilter<EPGMGraphHead>,
     AccumuloElementFilter<EPGMVertex>,
@@ -198,6 +207,27 @@ public class AccumuloEPGMStore implements
   @Override
   public void writeEdge(@Nonnull Edge record) {
     writeRecord(record, edgeWriter, config.getEdgeHandler());
+    if (isAdjacencyEnabled()) {
+      try {
+        vertexWriter.addMutations(config.getVertexHandler().writeAdjacency(record));
+        if (autoFlush) {
+          vertexWriter.flush();
+        }
+      } catch (MutationsRejectedException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * Whether the adjacency of each vertex is stored inside its row,
+   * see {@link GradoopAccumuloConfig#GRADOOP_ADJACENCY_ENABLED}
+   *
+   * @return true if adjacency is stored
+   */
+  public boolean isAdjacencyEnabled() {
+    return config.get(GradoopAccumuloConfig.GRADOOP_ADJACENCY_ENABLED,
+      AccumuloDefault.ADJACENCY_ENABLED);
   }
 
   @Override
@@ -294,6 +324,50 @@ public class AccumuloEPGMStore implements
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * All vertices are read by a single batch scanner with a range per vertex.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, EPGMVertex> readVertices(@Nonnull Collection<GradoopId> vertexIds)
+    throws IOException {
+    ElementQuery<AccumuloElementFilter<EPGMVertex>> query = Query
+      .elements()
+      .fromSets(GradoopIdSet.fromExisting(vertexIds))
+      .noFilter();
+    Map<GradoopId, EPGMVertex> vertices = new HashMap<>();
+    try (ClosableIterator<EPGMVertex> it = getVertexSpace(query)) {
+      while (it.hasNext()) {
+        EPGMVertex vertex = it.next();
+        vertices.put(vertex.getId(), vertex);
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * {@inheritDoc}
+   * All edges are read by a single batch scanner with a range per edge.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, EPGMEdge> readEdges(@Nonnull Collection<GradoopId> edgeIds)
+    throws IOException {
+    ElementQuery<AccumuloElementFilter<EPGMEdge>> query = Query
+      .elements()
+      .fromSets(GradoopIdSet.fromExisting(edgeIds))
+      .noFilter();
+    Map<GradoopId, EPGMEdge> edges = new HashMap<>();
+    try (ClosableIterator<EPGMEdge> it = getEdgeSpace(query)) {
+      while (it.hasNext()) {
+        EPGMEdge edge = it.next();
+        edges.put(edge.getId(), edge);
+      }
+    }
+    return edges;
+  }
+
   @Nonnull
   @Override
   public ClosableIterator<EPGMGraphHead> getGraphSpace(
@@ -387,6 +461,63 @@ public class AccumuloEPGMStore implements
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * Requires the adjacency to be enabled by {@link GradoopAccumuloConfig#GRADOOP_ADJACENCY_ENABLED}.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, Tuple2<GradoopId, GradoopId>> readAdjacency(
+    @Nonnull Collection<GradoopId> vertexIds,
+    @Nonnull EdgeDirection direction
+  ) throws IOException {
+    if (!isAdjacencyEnabled()) {
+      throw new UnsupportedOperationException("The adjacency of vertices is not stored.");
+    }
+    Map<GradoopId, Tuple2<GradoopId, GradoopId>> adjacency = new HashMap<>();
+    if (vertexIds.isEmpty()) {
+      return adjacency;
+    }
+
+    BatchScanner scanner;
+    try {
+      scanner = conn.createBatchScanner(getVertexTableName(),
+        config.get(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS,
+          AccumuloDefault.AUTHORIZATION),
+        config.get(GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
+          AccumuloDefault.BATCH_SCANNER_THREADS));
+    } catch (TableNotFoundException e) {
+      throw new IOException(e);
+    }
+    try {
+      if (direction != EdgeDirection.IN) {
+        scanner.fetchColumnFamily(new Text(AccumuloTables.KEY.EDGE_OUT));
+      }
+      if (direction != EdgeDirection.OUT) {
+        scanner.fetchColumnFamily(new Text(AccumuloTables.KEY.EDGE_IN));
+      }
+      scanner.setRanges(vertexIds.stream()
+        .map(GradoopId::toString)
+        .map(Range::exact)
+        .collect(Collectors.toList()));
+
+      for (Map.Entry<Key, Value> entry : scanner) {
+        Key key = entry.getKey();
+        GradoopId vertexId = GradoopId.fromString(key.getRow().toString());
+        GradoopId edgeId = GradoopId.fromString(key.getColumnQualifier().toString());
+        GradoopId neighborId = GradoopId.fromString(entry.getValue().toString());
+        if (AccumuloTables.KEY.EDGE_OUT.equals(key.getColumnFamily().toString())) {
+          adjacency.put(edgeId, Tuple2.of(vertexId, neighborId));
+        } else {
+          adjacency.put(edgeId, Tuple2.of(neighborId, vertexId));
+        }
+      }
+    } finally {
+      scanner.close();
+    }
+    return adjacency;
+  }
+
   /**
    * Write an EPGM Element instance into table
    *
@@ -432,6 +563,10 @@ public class AccumuloEPGMStore implements
     if (predicate != null && predicate.getFilterPredicate() != null) {
       options.put(AccumuloTables.KEY_PREDICATE, predicate.getFilterPredicate().encode());
     }
+    if (predicate != null && predicate.getProjection() != null) {
+      options.put(AccumuloTables.KEY_PROJECTION,
+        BaseElementIterator.encodeProjection(predicate.getProjection()));
+    }
     BatchScanner scanner;
     try {
       scanner = conn.createBatchScanner(table,
@@ -62,4 +62,9 @@ public class AccumuloDefault {
    */
   public static final int BATCH_SCANNER_THREADS = 10;
 
+  /**
+   * gradoop vertex adjacency flag
+   */
+  public static final boolean ADJACENCY_ENABLED = false;
+
 }
@@ -40,6 +40,11 @@ public class AccumuloTables {
    */
   public static final String KEY_PREDICATE = "__filter__";
 
+  /**
+   * gradoop projection options key
+   */
+  public static final String KEY_PROJECTION = "__projection__";
+
   /**
    * cf or cq constants key
    */
@@ -17,12 +17,16 @@ package org.gradoop.storage.accumulo.impl.handler;
 
 import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Value;
+import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.Vertex;
 import org.gradoop.common.model.api.entities.VertexFactory;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Accumulo vertex handler for row's read/write operator
  */
@@ -67,6 +71,22 @@ public class AccumuloVertexHandler implements AccumuloRowHandler<EPGMVertex, Ver
     return mutation;
   }
 
+  /**
+   * Write an edge into the adjacency of its source and target vertex row
+   *
+   * @param record edge to be write
+   * @return mutations of the source and target vertex row
+   */
+  public List<Mutation> writeAdjacency(Edge record) {
+    Mutation source = new Mutation(record.getSourceId().toString());
+    source.put(AccumuloTables.KEY.EDGE_OUT, record.getId().toString(),
+      record.getTargetId().toString());
+    Mutation target = new Mutation(record.getTargetId().toString());
+    target.put(AccumuloTables.KEY.EDGE_IN, record.getId().toString(),
+      record.getSourceId().toString());
+    return Arrays.asList(source, target);
+  }
+
   @Override
   public EPGMVertex readRow(Vertex origin) {
     return factory.initVertex(
@@ -23,13 +23,20 @@ import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.util.Pair;
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 import org.gradoop.storage.accumulo.impl.constants.AccumuloTables;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
@@ -39,7 +46,8 @@ import java.util.Map;
  * This Iterator will be created in accumulo tablet server runtime, when executing a partition
  * range query. A Gradoop element iterator will decode query options as query filter, transform
  * multi-rows into epgm element and check if this element should be return by predicate. Each
- * element that fulfill the predicate will be serialized into one row.
+ * element that fulfill the predicate will be reduced to the projected columns and serialized
+ * into one row.
  *
  * @param <E> gradoop epgm element
  * @see <a href="https://accumulo.apache.org/1.9/accumulo_user_manual.html#_iterator_design">
@@ -68,6 +76,50 @@ public abstract class BaseElementIterator<E extends Element> implements
    */
   private AccumuloElementFilter<E> filter;
 
+  /**
+   * Column projection, may be null
+   */
+  private ElementProjection projection;
+
+  /**
+   * Serialize projection as base64 encoded string
+   * this action will be execute by client
+   *
+   * @param projection column projection
+   * @return encoded string
+   */
+  @Nonnull
+  public static String encodeProjection(@Nonnull ElementProjection projection) {
+    try (
+      ByteArrayOutputStream arr = new ByteArrayOutputStream();
+      ObjectOutputStream out = new ObjectOutputStream(arr)) {
+      out.writeObject(projection);
+      out.flush();
+      return Base64.getEncoder().encodeToString(arr.toByteArray());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Deserialize projection from base64 encoded string
+   * this action will be execute by tserver
+   *
+   * @param encoded encoded string
+   * @return column projection
+   */
+  @Nonnull
+  private static ElementProjection decodeProjection(@Nonnull String encoded) {
+    byte[] content = Base64.getDecoder().decode(encoded);
+    try (
+      ByteArrayInputStream arr = new ByteArrayInputStream(content);
+      ObjectInput in = new ObjectInputStream(arr)) {
+      return (ElementProjection) in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Deserialize from key-value pair
    *
@@ -124,6 +176,12 @@ public abstract class BaseElementIterator<E extends Element> implements
     } else {
       this.filter = (AccumuloElementFilter<E>) t -> true;
     }
+    //read column projection
+    if (options != null && options.containsKey(AccumuloTables.KEY_PROJECTION)) {
+      this.projection = decodeProjection(options.get(AccumuloTables.KEY_PROJECTION));
+    } else {
+      this.projection = null;
+    }
   }
 
   @Override
@@ -134,6 +192,10 @@ public abstract class BaseElementIterator<E extends Element> implements
   @Override
   public void next() throws IOException {
     E topElement = seekIterator.hasNext() ? seekIterator.next() : null;
+    //filter has been evaluated on all columns, drop those not projected before serialization
+    if (topElement != null && projection != null) {
+      topElement = projection.apply(topElement);
+    }
     top = topElement == null ? null : toRow(topElement);
   }
 
@@ -105,6 +105,7 @@ public class GradoopVertexIterator extends BaseElementIterator<Vertex> {
         row.getGraphIds().add(GradoopId.fromString(key.getColumnQualifier().toString()));
         break;
       default:
+        // e.g. the adjacency of the vertex
         break;
       }
       source.next();
@@ -21,6 +21,7 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.storage.accumulo.impl.predicate.filter.api.AccumuloElementFilter;
 import org.gradoop.storage.accumulo.utils.KryoUtils;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 
 import javax.annotation.Nonnull;
@@ -48,6 +49,11 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
    */
   private final AccumuloElementFilter<T> reduceFilter;
 
+  /**
+   * Column projection for element
+   */
+  private final ElementProjection projection;
+
   /**
    * Accumulo predicate instance, low level api for store implement
    *
@@ -55,15 +61,18 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
    * @param reduceFilter query reduce filter
    *                     only those in predicate should be return from tserver.
    *                     if null, return all in range
+   * @param projection column projection, if null, return all columns
    */
   private AccumuloQueryHolder(
     @Nullable List<Range> logicalRanges,
-    @Nullable AccumuloElementFilter<T> reduceFilter
+    @Nullable AccumuloElementFilter<T> reduceFilter,
+    @Nullable ElementProjection projection
   ) {
     RangeWrapper wrapper = new RangeWrapper();
     wrapper.ranges = logicalRanges;
     this.queryRanges = wrapper.encrypt();
     this.reduceFilter = reduceFilter;
+    this.projection = projection;
   }
 
   /**
@@ -84,7 +93,8 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
       .collect(Collectors.toList()));
     return new AccumuloQueryHolder<>(
       query.getQueryRanges() == null ? null : ranges,
-      query.getFilterPredicate());
+      query.getFilterPredicate(),
+      query.getProjection());
   }
 
   /**
@@ -101,7 +111,7 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
     if (idRanges.isEmpty()) {
       throw new IllegalArgumentException("id range is empty");
     }
-    return new AccumuloQueryHolder<>(idRanges, reduceFilter);
+    return new AccumuloQueryHolder<>(idRanges, reduceFilter, null);
   }
 
   /**
@@ -122,6 +132,15 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
     return reduceFilter;
   }
 
+  /**
+   * Get column projection
+   *
+   * @return column projection, null for all columns
+   */
+  public ElementProjection getProjection() {
+    return projection;
+  }
+
   @Override
   public String toString() {
     List<String> ranges = getQueryRanges() == null ? null :
@@ -130,7 +149,8 @@ public class AccumuloQueryHolder<T extends Element> implements Serializable {
           it.getStartKey().getRow(),
           it.getEndKey().getRow()))
         .collect(Collectors.toList());
-    return String.format("range=%1$s, filter=%2$s", ranges, getReduceFilter());
+    return String.format("range=%1$s, filter=%2$s, projection=%3$s", ranges, getReduceFilter(),
+      getProjection());
   }
 
   /**
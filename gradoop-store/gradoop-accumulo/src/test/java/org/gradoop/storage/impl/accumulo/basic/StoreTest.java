@@ -20,6 +20,7 @@ import com.google.common.collect.Queues;
 import org.apache.accumulo.core.client.AccumuloException;
 import org.apache.accumulo.core.client.AccumuloSecurityException;
 import org.apache.accumulo.core.client.Connector;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.GradoopTestUtils;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.api.entities.GraphHead;
@@ -32,9 +33,11 @@ import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood.EdgeDirection;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.accumulo.config.GradoopAccumuloConfig;
 import org.gradoop.storage.accumulo.impl.AccumuloEPGMStore;
+import org.gradoop.storage.common.model.GraphNeighborhood;
 import org.gradoop.storage.impl.accumulo.AccumuloStoreTestBase;
 import org.gradoop.storage.impl.accumulo.AccumuloTestSuite;
 import org.junit.FixMethodOrder;
@@ -42,9 +45,15 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
 import static org.gradoop.common.GradoopTestUtils.BIG_DECIMAL_VAL_7;
 import static org.gradoop.common.GradoopTestUtils.BOOL_VAL_1;
@@ -96,6 +105,8 @@ public class StoreTest extends AccumuloStoreTestBase {
   private static final String TEST03 = "basic_03";
   private static final String TEST04 = "basic_04";
   private static final String TEST05 = "basic_05";
+  private static final String TEST06 = "basic_06";
+  private static final String TEST07 = "basic_07";
 
   /**
    * Creates tables, deletes them and checks if they were deleted.
@@ -393,6 +404,118 @@ public class StoreTest extends AccumuloStoreTestBase {
     }
   }
 
+  /**
+   * Stores social network data along with the adjacency of each vertex and checks the
+   * neighborhoods read from the adjacency.
+   */
+  @Test
+  public void neighborhoodTest() throws IOException, AccumuloSecurityException,
+    AccumuloException {
+    GradoopAccumuloConfig config = AccumuloTestSuite.getAcConfig(TEST06)
+      .set(GradoopAccumuloConfig.GRADOOP_ADJACENCY_ENABLED, true);
+    AccumuloEPGMStore graphStore = new AccumuloEPGMStore(config);
+
+    AsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader =
+      GradoopTestUtils.getSocialNetworkLoader();
+    Collection<EPGMEdge> edges = loader.getEdges();
+    Collection<EPGMVertex> vertices = loader.getVertices();
+
+    // edges are written first, the adjacency does not represent a vertex on its own
+    for (EPGMEdge e : edges) {
+      graphStore.writeEdge(e);
+    }
+    for (EPGMVertex v : vertices) {
+      graphStore.writeVertex(v);
+    }
+
+    graphStore.flush();
+
+    validateElementCollections(vertices,
+      graphStore.getVertexSpace().readRemainsAndClose());
+
+    GradoopId seedId = loader.getVertexByVariable("alice").getId();
+    for (EdgeDirection direction : EdgeDirection.values()) {
+      for (int hops = 0; hops <= 2; hops++) {
+        // a small batch size to read the adjacency by multiple requests
+        GraphNeighborhood neighborhood =
+          graphStore.readNeighborhood(Collections.singleton(seedId), hops, direction, 2);
+
+        // expand the neighborhood on the edges of the social network
+        Map<GradoopId, Integer> expectedDistances = new HashMap<>();
+        expectedDistances.put(seedId, 0);
+        Set<GradoopId> expectedEdgeIds = new HashSet<>();
+        Set<GradoopId> frontier = Collections.singleton(seedId);
+        for (int hop = 1; hop <= hops; hop++) {
+          Set<GradoopId> nextFrontier = new HashSet<>();
+          for (EPGMEdge edge : edges) {
+            if ((direction != EdgeDirection.IN && frontier.contains(edge.getSourceId())) ||
+              (direction != EdgeDirection.OUT && frontier.contains(edge.getTargetId()))) {
+              expectedEdgeIds.add(edge.getId());
+              assertEquals(Tuple2.of(edge.getSourceId(), edge.getTargetId()),
+                neighborhood.getEdge(edge.getId()));
+              for (GradoopId vertexId : Arrays.asList(edge.getSourceId(), edge.getTargetId())) {
+                if (expectedDistances.putIfAbsent(vertexId, hop) == null) {
+                  nextFrontier.add(vertexId);
+                }
+              }
+            }
+          }
+          frontier = nextFrontier;
+        }
+
+        assertEquals(expectedDistances.keySet(), neighborhood.getVertexIds());
+        for (Map.Entry<GradoopId, Integer> distance : expectedDistances.entrySet()) {
+          assertEquals(distance.getValue(), neighborhood.getDistance(distance.getKey()));
+        }
+        assertEquals(expectedEdgeIds, neighborhood.getEdgeIds());
+      }
+    }
+
+    graphStore.close();
+  }
+
+  /**
+   * Stores social network data and reads vertices and edges by batches of ids.
+   */
+  @Test
+  public void batchReadTest() throws IOException, AccumuloSecurityException, AccumuloException {
+    AccumuloEPGMStore graphStore = new AccumuloEPGMStore(AccumuloTestSuite.getAcConfig(TEST07));
+
+    AsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader =
+      GradoopTestUtils.getSocialNetworkLoader();
+    Collection<EPGMVertex> vertices = loader.getVertices();
+    Collection<EPGMEdge> edges = loader.getEdges();
+
+    for (EPGMVertex v : vertices) {
+      graphStore.writeVertex(v);
+    }
+    for (EPGMEdge e : edges) {
+      graphStore.writeEdge(e);
+    }
+    graphStore.flush();
+
+    // ids without an element are skipped
+    List<GradoopId> vertexIds = Lists.newArrayList(GradoopId.get());
+    vertices.forEach(v -> vertexIds.add(v.getId()));
+    List<GradoopId> edgeIds = Lists.newArrayList(GradoopId.get());
+    edges.forEach(e -> edgeIds.add(e.getId()));
+
+    Map<GradoopId, EPGMVertex> loadedVertices = graphStore.readVertices(vertexIds);
+    validateElementCollections(vertices, loadedVertices.values());
+    validateGraphElementCollections(vertices, loadedVertices.values());
+    loadedVertices.forEach((id, vertex) -> assertEquals(id, vertex.getId()));
+
+    Map<GradoopId, EPGMEdge> loadedEdges = graphStore.readEdges(edgeIds);
+    validateElementCollections(edges, loadedEdges.values());
+    validateGraphElementCollections(edges, loadedEdges.values());
+    loadedEdges.forEach((id, edge) -> assertEquals(id, edge.getId()));
+
+    assertTrue(graphStore.readVertices(Collections.emptyList()).isEmpty());
+    assertTrue(graphStore.readEdges(Collections.emptyList()).isEmpty());
+
+    graphStore.close();
+  }
+
   private AsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> getMinimalFullFeaturedGraphLoader() {
     String asciiGraph = ":G{k:\"v\"}[(v:V{k:\"v\"}),(v)-[:e{k:\"v\"}]->(v)]";
 
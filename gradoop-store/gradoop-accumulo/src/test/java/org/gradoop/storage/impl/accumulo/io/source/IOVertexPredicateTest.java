@@ -16,6 +16,7 @@
 package org.gradoop.storage.impl.accumulo.io.source;
 
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.impl.accumulo.AccumuloStoreTestBase;
 import org.gradoop.storage.accumulo.impl.io.AccumuloDataSource;
@@ -30,6 +31,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static org.gradoop.common.GradoopTestUtils.validateElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateGraphElementCollections;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class IOVertexPredicateTest extends AccumuloStoreTestBase {
@@ -37,6 +39,7 @@ public class IOVertexPredicateTest extends AccumuloStoreTestBase {
   private static final String TEST01 = "io_vertex_predicate_01";
   private static final String TEST02 = "io_vertex_predicate_02";
   private static final String TEST03 = "io_vertex_predicate_03";
+  private static final String TEST04 = "io_vertex_predicate_04";
 
   /**
    * Pick 3 person randomly
@@ -146,4 +149,38 @@ public class IOVertexPredicateTest extends AccumuloStoreTestBase {
     });
   }
 
+  /**
+   * Find the names of all person who's age is not smaller than 35
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void findPersonNameWithProjection() throws Throwable {
+    doTest(TEST04, (loader, store, config) -> {
+      ElementProjection projection = ElementProjection.properties("name").withoutGraphIds();
+      List<EPGMVertex> inputVertices = loader.getVertices()
+        .stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.getPropertyValue("age") != null)
+        .filter(it -> it.getPropertyValue("age").getInt() >= 35)
+        .map(projection::apply)
+        .collect(Collectors.toList());
+
+      AccumuloDataSource source = new AccumuloDataSource(store, config);
+      List<EPGMVertex> queryResult = source
+        .applyVertexPredicate(
+          Query.elements()
+            .fromAll()
+            .select(projection)
+            .where(AccumuloFilters.<EPGMVertex>labelIn("Person")
+              .and(AccumuloFilters.propLargerThan("age", 35, true))))
+        .getGraphCollection()
+        .getVertices()
+        .collect();
+
+      validateElementCollections(inputVertices, queryResult);
+      validateGraphElementCollections(inputVertices, queryResult);
+    });
+  }
+
 }
@@ -19,6 +19,7 @@ import org.gradoop.common.GradoopTestUtils;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.impl.accumulo.AccumuloStoreTestBase;
 import org.gradoop.storage.accumulo.utils.AccumuloFilters;
@@ -42,6 +43,7 @@ public class StorePropPredicateTest extends AccumuloStoreTestBase {
   private static final String TEST03 = "prop_predicate_03";
   private static final String TEST04 = "prop_predicate_04";
   private static final String TEST05 = "prop_predicate_05";
+  private static final String TEST06 = "prop_predicate_06";
 
   /**
    * find all vertices by property equality
@@ -190,4 +192,32 @@ public class StorePropPredicateTest extends AccumuloStoreTestBase {
     });
   }
 
+  /**
+   * find all edges by property equality, without fetching label and properties
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void edgePropEqualsWithProjection() throws Throwable {
+    doTest(TEST06, (loader, store, config) -> {
+      ElementProjection projection = ElementProjection.properties().withoutLabel();
+      List<EPGMEdge> inputEdges = loader.getEdges().stream()
+        .filter(it -> it.getPropertyValue("since") != null &&
+          Objects.equals(it.getPropertyValue("since").getInt(), 2014))
+        .map(projection::apply)
+        .collect(Collectors.toList());
+
+      List<EPGMEdge> query = store
+        .getEdgeSpace(
+          Query.elements()
+            .fromAll()
+            .select(projection)
+            .where(AccumuloFilters.propEquals("since", 2014)))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateElementCollections(inputEdges, query);
+      GradoopTestUtils.validateGraphElementCollections(inputEdges, query);
+    });
+  }
+
 }
@@ -28,6 +28,7 @@ import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
 import org.gradoop.storage.hbase.impl.handler.HBaseEdgeHandler;
 import org.gradoop.storage.hbase.impl.handler.HBaseGraphHeadHandler;
 import org.gradoop.storage.hbase.impl.handler.HBaseVertexHandler;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.utils.RegionSplitter;
 import org.gradoop.storage.hbase.utils.RowKeyDistributor;
 
@@ -74,12 +75,18 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
    */
   private final EdgeHandler edgeHandler;
 
+  /**
+   * Secondary index definition of vertices and edges.
+   */
+  private final HBaseSecondaryIndex secondaryIndex;
+
   /**
    * Creates a new Configuration.
    *
    * @param graphHeadHandler            graph head handler
    * @param vertexHandler               vertex handler
    * @param edgeHandler                 edge handler
+   * @param secondaryIndex              secondary index definition
    * @param graphTableName              graph table name
    * @param vertexTableName             vertex table name
    * @param edgeTableName               edge table name
@@ -88,6 +95,7 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     GraphHeadHandler graphHeadHandler,
     VertexHandler vertexHandler,
     EdgeHandler edgeHandler,
+    HBaseSecondaryIndex secondaryIndex,
     String graphTableName,
     String vertexTableName,
     String edgeTableName
@@ -106,6 +114,7 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     this.graphHeadHandler = checkNotNull(graphHeadHandler, "GraphHeadHandler was null");
     this.vertexHandler = checkNotNull(vertexHandler, "VertexHandler was null");
     this.edgeHandler = checkNotNull(edgeHandler, "EdgeHandler was null");
+    this.secondaryIndex = checkNotNull(secondaryIndex, "SecondaryIndex was null");
   }
 
   /**
@@ -125,6 +134,7 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     this(config.getGraphHeadHandler(),
       config.getVertexHandler(),
       config.getEdgeHandler(),
+      config.getSecondaryIndex(),
       graphTableName,
       vertexTableName,
       edgeTableName);
@@ -145,6 +155,7 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
       graphHeadHandler,
       vertexHandler,
       edgeHandler,
+      new HBaseSecondaryIndex(),
       HBaseConstants.DEFAULT_TABLE_GRAPHS,
       HBaseConstants.DEFAULT_TABLE_VERTICES,
       HBaseConstants.DEFAULT_TABLE_EDGES
@@ -188,6 +199,24 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     return TableName.valueOf(edgeTableName);
   }
 
+  /**
+   * Get vertex index table name
+   *
+   * @return vertex index table name
+   */
+  public TableName getVertexIndexTableName() {
+    return TableName.valueOf(vertexTableName + HBaseConstants.INDEX_TABLE_SUFFIX);
+  }
+
+  /**
+   * Get edge index table name
+   *
+   * @return edge index table name
+   */
+  public TableName getEdgeIndexTableName() {
+    return TableName.valueOf(edgeTableName + HBaseConstants.INDEX_TABLE_SUFFIX);
+  }
+
   /**
    * Get graph table name
    *
@@ -224,6 +253,15 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     return edgeHandler;
   }
 
+  /**
+   * Get secondary index definition
+   *
+   * @return secondary index definition
+   */
+  public HBaseSecondaryIndex getSecondaryIndex() {
+    return secondaryIndex;
+  }
+
   /**
    * Enable/Disable the usage of pre-splitting regions at the moment of table creation.
    * If the HBase table size grows, it should be created with pre-split regions in order to avoid
@@ -262,4 +300,62 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
     this.graphHeadHandler.setSpreadingByteUsage(true);
     return this;
   }
+
+  /**
+   * Enable storing the adjacency of each vertex inside its row. Incoming and outgoing edges are
+   * added to the adjacency of their target and source vertex on every write of an edge. This
+   * allows reading the neighborhood of vertices without scanning the edge table.
+   *
+   * Note that the adjacency column family is only created along with a new vertex table and the
+   * adjacency only contains edges written after it was enabled.
+   *
+   * @return this modified config
+   */
+  public GradoopHBaseConfig enableAdjacency() {
+    this.vertexHandler.setAdjacencyUsage(true);
+    return this;
+  }
+
+  /**
+   * Enable the secondary label index of vertices and edges. Predicates on labels are answered by a
+   * prefix scan on the index table instead of a scan over the whole element table.
+   *
+   * Note that the index only contains elements written after the index was enabled.
+   *
+   * @return this modified config
+   */
+  public GradoopHBaseConfig enableLabelIndex() {
+    this.secondaryIndex.enableLabelIndex();
+    return this;
+  }
+
+  /**
+   * Enable the secondary property value index of vertices and edges for the given property keys.
+   * Equality predicates on these keys are answered by a prefix scan on the index table instead of
+   * a scan over the whole element table.
+   *
+   * Note that the index only contains elements written after the index was enabled.
+   *
+   * @param propertyKeys the property keys to index
+   * @return this modified config
+   */
+  public GradoopHBaseConfig enablePropertyIndex(final String... propertyKeys) {
+    this.secondaryIndex.enablePropertyIndex(propertyKeys);
+    return this;
+  }
+
+  /**
+   * Set the number of buckets the index entries of a single label or property value are spread
+   * over. The index tables are pre-split into one region per bucket and an index lookup reads all
+   * buckets in parallel.
+   *
+   * Note that this has to be set before the index tables are created and must not change later.
+   *
+   * @param bucketCount the number of buckets, at most 127
+   * @return this modified config
+   */
+  public GradoopHBaseConfig useIndexBuckets(final int bucketCount) {
+    this.secondaryIndex.setBucketCount(bucketCount);
+    return this;
+  }
 }
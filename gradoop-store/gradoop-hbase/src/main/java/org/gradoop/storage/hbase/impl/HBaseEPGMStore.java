@@ -16,13 +16,19 @@
 package org.gradoop.storage.hbase.impl;
 
 import com.google.common.base.Preconditions;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.filter.ColumnPrefixFilter;
+import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Edge;
@@ -31,15 +37,20 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood.EdgeDirection;
 import org.gradoop.storage.common.api.EPGMConfigProvider;
 import org.gradoop.storage.common.api.EPGMGraphInput;
+import org.gradoop.storage.common.api.EPGMGraphNeighborhoodOutput;
 import org.gradoop.storage.common.api.EPGMGraphPredictableOutput;
 import org.gradoop.storage.common.iterator.ClosableIterator;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.hbase.config.GradoopHBaseConfig;
 import org.gradoop.storage.hbase.impl.api.EdgeHandler;
+import org.gradoop.storage.hbase.impl.api.ElementHandler;
 import org.gradoop.storage.hbase.impl.api.GraphHeadHandler;
 import org.gradoop.storage.hbase.impl.api.VertexHandler;
+import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.impl.iterator.HBaseEdgeIterator;
 import org.gradoop.storage.hbase.impl.iterator.HBaseGraphIterator;
 import org.gradoop.storage.hbase.impl.iterator.HBaseVertexIterator;
@@ -50,17 +61,24 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 
 /**
  * Default HBase graph store that handles reading and writing vertices and
  * graphs from and to HBase.
  *
  * @see EPGMGraphPredictableOutput
+ * @see EPGMGraphNeighborhoodOutput
  */
 public class HBaseEPGMStore implements
   EPGMConfigProvider<GradoopHBaseConfig>,
   EPGMGraphInput,
+  EPGMGraphNeighborhoodOutput,
   EPGMGraphPredictableOutput<
     HBaseElementFilter<EPGMGraphHead>,
     HBaseElementFilter<EPGMVertex>,
@@ -82,6 +100,14 @@ public class HBaseEPGMStore implements
    * HBase table for storing edge data.
    */
   private final Table edgeTable;
+  /**
+   * HBase table for storing the secondary vertex index, {@code null} if the index is disabled.
+   */
+  private final Table vertexIndexTable;
+  /**
+   * HBase table for storing the secondary edge index, {@code null} if the index is disabled.
+   */
+  private final Table edgeIndexTable;
   /**
    * HBase admin instance
    */
@@ -107,10 +133,36 @@ public class HBaseEPGMStore implements
     final Table edgeTable,
     final GradoopHBaseConfig config,
     final Admin admin
+  ) {
+    this(graphHeadTable, vertexTable, edgeTable, null, null, config, admin);
+  }
+
+  /**
+   * Creates a HBaseEPGMStore based on the given parameters. The index tables are
+   * {@code null} if the secondary index is disabled, all other parameters are mandatory.
+   *
+   * @param graphHeadTable HBase table to store graph data
+   * @param vertexTable HBase table to store vertex data
+   * @param edgeTable HBase table to store edge data
+   * @param vertexIndexTable HBase table to store the secondary vertex index
+   * @param edgeIndexTable HBase table to store the secondary edge index
+   * @param config Gradoop Configuration
+   * @param admin HBase admin instance
+   */
+  public HBaseEPGMStore(
+    final Table graphHeadTable,
+    final Table vertexTable,
+    final Table edgeTable,
+    @Nullable final Table vertexIndexTable,
+    @Nullable final Table edgeIndexTable,
+    final GradoopHBaseConfig config,
+    final Admin admin
   ) {
     this.graphHeadTable = Preconditions.checkNotNull(graphHeadTable);
     this.vertexTable = Preconditions.checkNotNull(vertexTable);
     this.edgeTable = Preconditions.checkNotNull(edgeTable);
+    this.vertexIndexTable = vertexIndexTable;
+    this.edgeIndexTable = edgeIndexTable;
     this.config = Preconditions.checkNotNull(config);
     this.admin = Preconditions.checkNotNull(admin);
   }
@@ -158,6 +210,7 @@ public class HBaseEPGMStore implements
     put = vertexHandler.writeVertex(put, vertexData);
     // write to table
     vertexTable.put(put);
+    writeIndex(vertexIndexTable, vertexData);
     if (autoFlush) {
       admin.flush(vertexTable.getName());
     }
@@ -172,8 +225,16 @@ public class HBaseEPGMStore implements
     // write edge data to Put
     put = edgeHandler.writeEdge(put, edgeData);
     edgeTable.put(put);
+    writeIndex(edgeIndexTable, edgeData);
+    VertexHandler vertexHandler = config.getVertexHandler();
+    if (vertexHandler.isAdjacencyUsed()) {
+      vertexTable.put(vertexHandler.createAdjacencyPuts(edgeData));
+    }
     if (autoFlush) {
       admin.flush(edgeTable.getName());
+      if (vertexHandler.isAdjacencyUsed()) {
+        admin.flush(vertexTable.getName());
+      }
     }
   }
 
@@ -204,14 +265,9 @@ public class HBaseEPGMStore implements
   public EPGMVertex readVertex(@Nonnull final GradoopId vertexId) throws IOException {
     EPGMVertex vertexData = null;
     VertexHandler vertexHandler = config.getVertexHandler();
-    List<Get> getList = new ArrayList<>();
-
-    if (vertexHandler.isSpreadingByteUsed()) {
-      for (byte[] rowKey : vertexHandler.getPossibleRowKeys(vertexId)) {
-        getList.add(new Get(rowKey));
-      }
-    } else {
-      getList.add(new Get(vertexHandler.getRowKey(vertexId)));
+    List<Get> getList = createGets(vertexHandler, Collections.singletonList(vertexId));
+    if (vertexHandler.isAdjacencyUsed()) {
+      getList.forEach(HBaseFilterUtils::restrictToElementFamilies);
     }
 
     final Result[] results = vertexTable.get(getList);
@@ -229,15 +285,7 @@ public class HBaseEPGMStore implements
   public EPGMEdge readEdge(@Nonnull final GradoopId edgeId) throws IOException {
     EPGMEdge edgeData = null;
     EdgeHandler edgeHandler = config.getEdgeHandler();
-    List<Get> getList = new ArrayList<>();
-
-    if (edgeHandler.isSpreadingByteUsed()) {
-      for (byte[] rowKey : edgeHandler.getPossibleRowKeys(edgeId)) {
-        getList.add(new Get(rowKey));
-      }
-    } else {
-      getList.add(new Get(edgeHandler.getRowKey(edgeId)));
-    }
+    List<Get> getList = createGets(edgeHandler, Collections.singletonList(edgeId));
 
     final Result[] results = edgeTable.get(getList);
     for (Result res : results) {
@@ -250,6 +298,55 @@ public class HBaseEPGMStore implements
     return edgeData;
   }
 
+  /**
+   * {@inheritDoc}
+   * All vertices are read by a single multi-get.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, EPGMVertex> readVertices(@Nonnull Collection<GradoopId> vertexIds)
+    throws IOException {
+    VertexHandler vertexHandler = config.getVertexHandler();
+    List<Get> getList = createGets(vertexHandler, vertexIds);
+    if (vertexHandler.isAdjacencyUsed()) {
+      getList.forEach(HBaseFilterUtils::restrictToElementFamilies);
+    }
+
+    Map<GradoopId, EPGMVertex> vertices = new HashMap<>();
+    if (!getList.isEmpty()) {
+      for (Result res : vertexTable.get(getList)) {
+        if (!res.isEmpty()) {
+          EPGMVertex vertexData = vertexHandler.readVertex(res);
+          vertices.put(vertexData.getId(), vertexData);
+        }
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * {@inheritDoc}
+   * All edges are read by a single multi-get.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, EPGMEdge> readEdges(@Nonnull Collection<GradoopId> edgeIds)
+    throws IOException {
+    EdgeHandler edgeHandler = config.getEdgeHandler();
+    List<Get> getList = createGets(edgeHandler, edgeIds);
+
+    Map<GradoopId, EPGMEdge> edges = new HashMap<>();
+    if (!getList.isEmpty()) {
+      for (Result res : edgeTable.get(getList)) {
+        if (!res.isEmpty()) {
+          EPGMEdge edgeData = edgeHandler.readEdge(res);
+          edges.put(edgeData.getId(), edgeData);
+        }
+      }
+    }
+    return edges;
+  }
+
   @Nonnull
   @Override
   public ClosableIterator<EPGMGraphHead> getGraphSpace(
@@ -262,9 +359,11 @@ public class HBaseEPGMStore implements
 
     if (query != null) {
       attachFilter(query, scan, config.getGraphHeadHandler().isSpreadingByteUsed());
+      attachProjection(query, scan);
     }
 
-    return new HBaseGraphIterator(graphHeadTable.getScanner(scan), config.getGraphHeadHandler());
+    return new HBaseGraphIterator(graphHeadTable.getScanner(scan), config.getGraphHeadHandler(),
+      query != null ? query.getProjection() : null);
   }
 
   @Nonnull
@@ -279,9 +378,14 @@ public class HBaseEPGMStore implements
 
     if (query != null) {
       attachFilter(query, scan, config.getVertexHandler().isSpreadingByteUsed());
+      attachProjection(query, scan);
+    }
+    if (config.getVertexHandler().isAdjacencyUsed()) {
+      HBaseFilterUtils.restrictToElementFamilies(scan);
     }
 
-    return new HBaseVertexIterator(vertexTable.getScanner(scan), config.getVertexHandler());
+    return new HBaseVertexIterator(vertexTable.getScanner(scan), config.getVertexHandler(),
+      query != null ? query.getProjection() : null);
   }
 
   @Nonnull
@@ -296,9 +400,52 @@ public class HBaseEPGMStore implements
 
     if (query != null) {
       attachFilter(query, scan, config.getEdgeHandler().isSpreadingByteUsed());
+      attachProjection(query, scan, HBaseConstants.COL_SOURCE,
+        HBaseConstants.COL_TARGET);
+    }
+
+    return new HBaseEdgeIterator(edgeTable.getScanner(scan), config.getEdgeHandler(),
+      query != null ? query.getProjection() : null);
+  }
+
+  /**
+   * {@inheritDoc}
+   * Requires the adjacency to be enabled by {@link GradoopHBaseConfig#enableAdjacency()}.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, Tuple2<GradoopId, GradoopId>> readAdjacency(
+    @Nonnull Collection<GradoopId> vertexIds,
+    @Nonnull EdgeDirection direction
+  ) throws IOException {
+    VertexHandler vertexHandler = config.getVertexHandler();
+    if (!vertexHandler.isAdjacencyUsed()) {
+      throw new UnsupportedOperationException("The adjacency of vertices is not stored.");
+    }
+    // both directions are read without a filter
+    Filter directionFilter = null;
+    if (direction == EdgeDirection.OUT) {
+      directionFilter = new ColumnPrefixFilter(Bytes.toBytes(HBaseConstants.COL_OUT_EDGE_PREFIX));
+    } else if (direction == EdgeDirection.IN) {
+      directionFilter = new ColumnPrefixFilter(Bytes.toBytes(HBaseConstants.COL_IN_EDGE_PREFIX));
+    }
+    List<Get> getList = createGets(vertexHandler, vertexIds);
+    for (Get get : getList) {
+      get.addFamily(Bytes.toBytes(HBaseConstants.CF_ADJACENCY));
+      if (directionFilter != null) {
+        get.setFilter(directionFilter);
+      }
     }
 
-    return new HBaseEdgeIterator(edgeTable.getScanner(scan), config.getEdgeHandler());
+    Map<GradoopId, Tuple2<GradoopId, GradoopId>> adjacency = new HashMap<>();
+    if (!getList.isEmpty()) {
+      for (Result res : vertexTable.get(getList)) {
+        if (!res.isEmpty()) {
+          adjacency.putAll(vertexHandler.readAdjacency(res));
+        }
+      }
+    }
+    return adjacency;
   }
 
   @Override
@@ -311,6 +458,10 @@ public class HBaseEPGMStore implements
     admin.flush(vertexTable.getName());
     admin.flush(edgeTable.getName());
     admin.flush(graphHeadTable.getName());
+    if (isIndexed()) {
+      admin.flush(vertexIndexTable.getName());
+      admin.flush(edgeIndexTable.getName());
+    }
   }
 
   @Override
@@ -318,10 +469,36 @@ public class HBaseEPGMStore implements
     vertexTable.close();
     edgeTable.close();
     graphHeadTable.close();
+    if (isIndexed()) {
+      vertexIndexTable.close();
+      edgeIndexTable.close();
+    }
+  }
+
+  /**
+   * Indicates whether the secondary index tables are maintained by this store.
+   *
+   * @return true, if the secondary index is enabled
+   */
+  public boolean isIndexed() {
+    return vertexIndexTable != null && edgeIndexTable != null;
+  }
+
+  /**
+   * Get the start keys of all regions of the given table in ascending order.
+   *
+   * @param tableName the table name
+   * @return the region start keys, the first one is empty
+   * @throws IOException on failure
+   */
+  public byte[][] getRegionStartKeys(TableName tableName) throws IOException {
+    try (RegionLocator regionLocator = admin.getConnection().getRegionLocator(tableName)) {
+      return regionLocator.getStartKeys();
+    }
   }
 
   /**
-   * First disable, then drop all three tables.
+   * First disable, then drop all three tables and the index tables.
    *
    * @throws IOException on error
    */
@@ -333,6 +510,14 @@ public class HBaseEPGMStore implements
     admin.deleteTable(vertexTable.getName());
     admin.deleteTable(edgeTable.getName());
     admin.deleteTable(graphHeadTable.getName());
+
+    if (isIndexed()) {
+      admin.disableTable(vertexIndexTable.getName());
+      admin.disableTable(edgeIndexTable.getName());
+
+      admin.deleteTable(vertexIndexTable.getName());
+      admin.deleteTable(edgeIndexTable.getName());
+    }
   }
 
   /**
@@ -348,6 +533,56 @@ public class HBaseEPGMStore implements
     admin.truncateTable(getConfig().getGraphTableName(), true);
     admin.truncateTable(getConfig().getVertexTableName(), true);
     admin.truncateTable(getConfig().getEdgeTableName(), true);
+
+    if (isIndexed()) {
+      admin.disableTable(vertexIndexTable.getName());
+      admin.disableTable(edgeIndexTable.getName());
+
+      admin.truncateTable(vertexIndexTable.getName(), true);
+      admin.truncateTable(edgeIndexTable.getName(), true);
+    }
+  }
+
+  /**
+   * Creates the gets of the rows of the given elements. If the spreading byte is used, a get
+   * is created for each possible row key of an element.
+   *
+   * @param handler element handler
+   * @param elementIds element identifiers
+   * @return gets of all (possible) rows of the elements
+   * @throws IOException if creating a row key fails
+   */
+  private List<Get> createGets(@Nonnull ElementHandler handler,
+    @Nonnull Collection<GradoopId> elementIds) throws IOException {
+    List<Get> getList = new ArrayList<>();
+    for (GradoopId elementId : elementIds) {
+      if (handler.isSpreadingByteUsed()) {
+        for (byte[] rowKey : handler.getPossibleRowKeys(elementId)) {
+          getList.add(new Get(rowKey));
+        }
+      } else {
+        getList.add(new Get(handler.getRowKey(elementId)));
+      }
+    }
+    return getList;
+  }
+
+  /**
+   * Writes the secondary index entries of the given element, if the index is enabled.
+   *
+   * @param indexTable the index table of the element type, {@code null} if not indexed
+   * @param element the element to index
+   * @throws IOException on failure
+   */
+  private void writeIndex(@Nullable Table indexTable, @Nonnull Element element)
+    throws IOException {
+    if (indexTable != null) {
+      HBaseSecondaryIndex secondaryIndex = config.getSecondaryIndex();
+      indexTable.put(secondaryIndex.createIndexPuts(element));
+      if (autoFlush) {
+        admin.flush(indexTable.getName());
+      }
+    }
   }
 
   /**
@@ -380,4 +615,23 @@ public class HBaseEPGMStore implements
     }
   }
 
+  /**
+   * Restrict the columns fetched by the given scan instance to the projection of the given query.
+   *
+   * @param query the query that contains a projection
+   * @param scan the HBase scan instance on which the projection will be applied
+   * @param requiredMetaColumns meta data columns which are always fetched
+   * @param <T> the type of the EPGM element
+   */
+  private <T extends Element> void attachProjection(
+    @Nonnull ElementQuery<HBaseElementFilter<T>> query,
+    @Nonnull Scan scan,
+    @Nonnull String... requiredMetaColumns) {
+    Map<byte[], NavigableSet<byte[]>> columns =
+      HBaseFilterUtils.getProjectedColumns(query, requiredMetaColumns);
+    if (columns != null) {
+      scan.setFamilyMap(columns);
+    }
+  }
+
 }
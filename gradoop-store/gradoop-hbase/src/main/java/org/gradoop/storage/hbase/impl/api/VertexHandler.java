@@ -17,11 +17,17 @@ package org.gradoop.storage.hbase.impl.api;
 
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Responsible for reading and writing vertex data from and to HBase.
  */
@@ -44,6 +50,42 @@ public interface VertexHandler extends GraphElementHandler {
    */
   EPGMVertex readVertex(final Result res);
 
+  /**
+   * Creates the {@link Put}s of the adjacency columns of the given edge, i.e. an outgoing edge
+   * column in the row of the source vertex and an incoming edge column in the row of the target
+   * vertex.
+   *
+   * @param edge edge to add to the adjacency of its source and target vertex
+   * @return puts of the source and target vertex row
+   */
+  List<Put> createAdjacencyPuts(final Edge edge);
+
+  /**
+   * Reads the adjacency columns from the given {@link Result}.
+   *
+   * @param res HBase row
+   * @return source and target vertex identifier by edge identifier
+   */
+  Map<GradoopId, Tuple2<GradoopId, GradoopId>> readAdjacency(final Result res);
+
+  /**
+   * Enable/Disable storing the adjacency of each vertex inside its row. The adjacency of a vertex
+   * contains the identifiers of its incoming and outgoing edges along with the identifier of the
+   * neighbor vertex.
+   *
+   * Note that the adjacency column family is only created along with a new table.
+   *
+   * @param useAdjacency flag to decide if the adjacency should be stored
+   */
+  void setAdjacencyUsage(boolean useAdjacency);
+
+  /**
+   * Indicates whether the adjacency of each vertex is stored inside its row or not.
+   *
+   * @return true, if the adjacency is stored
+   */
+  boolean isAdjacencyUsed();
+
   /**
    * Applies the given ElementQuery to the handler.
    *
@@ -31,6 +31,10 @@ public final class HBaseConstants {
    * Default HBase table name for edges.
    */
   public static final String DEFAULT_TABLE_EDGES = "edges";
+  /**
+   * Suffix of the HBase table names for secondary indexes.
+   */
+  public static final String INDEX_TABLE_SUFFIX = "_index";
 
   /**
    * Column family name for label.
@@ -60,4 +64,24 @@ public final class HBaseConstants {
    * Column identifier for target vertex identifier.
    */
   public static final String COL_TARGET = "t";
+  /**
+   * Column family name for the adjacency of a vertex.
+   */
+  public static final String CF_ADJACENCY = "a";
+  /**
+   * Column identifier prefix for outgoing edges, followed by the edge identifier.
+   */
+  public static final String COL_OUT_EDGE_PREFIX = "o";
+  /**
+   * Column identifier prefix for incoming edges, followed by the edge identifier.
+   */
+  public static final String COL_IN_EDGE_PREFIX = "i";
+  /**
+   * Column family name for secondary index entries.
+   */
+  public static final String CF_INDEX = "i";
+  /**
+   * Column identifier for the element identifier of a secondary index entry.
+   */
+  public static final String COL_ID = "id";
 }
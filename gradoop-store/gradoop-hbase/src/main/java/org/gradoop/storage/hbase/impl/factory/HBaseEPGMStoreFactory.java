@@ -29,6 +29,7 @@ import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
 import org.gradoop.storage.hbase.impl.api.EdgeHandler;
 import org.gradoop.storage.hbase.impl.api.GraphHeadHandler;
 import org.gradoop.storage.hbase.impl.api.VertexHandler;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 
 import java.io.IOException;
 
@@ -96,10 +97,25 @@ public class HBaseEPGMStoreFactory {
     Table vertexDataTable = connection.getTable(gradoopHBaseConfig.getVertexTableName());
     Table edgeDataTable = connection.getTable(gradoopHBaseConfig.getEdgeTableName());
 
+    Table vertexIndexTable = null;
+    Table edgeIndexTable = null;
+    if (gradoopHBaseConfig.getSecondaryIndex().isEnabled()) {
+      createIndexTablesIfNotExists(
+        connection.getAdmin(),
+        gradoopHBaseConfig.getSecondaryIndex(),
+        gradoopHBaseConfig.getVertexIndexTableName(),
+        gradoopHBaseConfig.getEdgeIndexTableName()
+      );
+      vertexIndexTable = connection.getTable(gradoopHBaseConfig.getVertexIndexTableName());
+      edgeIndexTable = connection.getTable(gradoopHBaseConfig.getEdgeIndexTableName());
+    }
+
     return new HBaseEPGMStore(
       graphDataTable,
       vertexDataTable,
       edgeDataTable,
+      vertexIndexTable,
+      edgeIndexTable,
       gradoopHBaseConfig,
       connection.getAdmin()
     );
@@ -131,7 +147,8 @@ public class HBaseEPGMStoreFactory {
   }
 
   /**
-   * Deletes the graph store based on the given table names.
+   * Deletes the graph store based on the given table names. The secondary index tables of
+   * vertices and edges are deleted as well, if they exist.
    *
    * @param config          Hadoop configuration
    * @param vertexTableName vertex data table name
@@ -149,7 +166,9 @@ public class HBaseEPGMStoreFactory {
         connection.getAdmin(),
         TableName.valueOf(vertexTableName),
         TableName.valueOf(edgeTableName),
-        TableName.valueOf(graphTableName)
+        TableName.valueOf(graphTableName),
+        TableName.valueOf(vertexTableName + HBaseConstants.INDEX_TABLE_SUFFIX),
+        TableName.valueOf(edgeTableName + HBaseConstants.INDEX_TABLE_SUFFIX)
       );
     } catch (IOException e) {
       e.printStackTrace();
@@ -192,29 +211,47 @@ public class HBaseEPGMStoreFactory {
   }
 
   /**
-   * Deletes the tables given tables.
+   * Creates the secondary index tables of vertices and edges.
    *
-   * @param admin               HBase admin instance
-   * @param vertexDataTableName vertex data table name
-   * @param edgeDataTableName   edge data table name
-   * @param graphDataTableName  graph data table name
+   * @param admin                HBase admin instance
+   * @param secondaryIndex       secondary index definition
+   * @param vertexIndexTableName vertex index table name
+   * @param edgeIndexTableName   edge index table name
    * @throws IOException if checking for the existence of the tables fails
    */
-  private static void deleteTablesIfExists(
+  private static void createIndexTablesIfNotExists(
     final Admin admin,
-    final TableName vertexDataTableName,
-    final TableName edgeDataTableName,
-    final TableName graphDataTableName
+    final HBaseSecondaryIndex secondaryIndex,
+    final TableName vertexIndexTableName,
+    final TableName edgeIndexTableName
   ) throws IOException {
 
-    if (admin.tableExists(vertexDataTableName)) {
-      deleteTable(admin, vertexDataTableName);
+    if (!admin.tableExists(vertexIndexTableName)) {
+      secondaryIndex.createTable(admin, vertexIndexTableName);
     }
-    if (admin.tableExists(edgeDataTableName)) {
-      deleteTable(admin, edgeDataTableName);
+    if (!admin.tableExists(edgeIndexTableName)) {
+      secondaryIndex.createTable(admin, edgeIndexTableName);
     }
-    if (admin.tableExists(graphDataTableName)) {
-      deleteTable(admin, graphDataTableName);
+
+    admin.close();
+  }
+
+  /**
+   * Deletes the given tables.
+   *
+   * @param admin      HBase admin instance
+   * @param tableNames names of the tables to delete
+   * @throws IOException if checking for the existence of the tables fails
+   */
+  private static void deleteTablesIfExists(
+    final Admin admin,
+    final TableName... tableNames
+  ) throws IOException {
+
+    for (TableName tableName : tableNames) {
+      if (admin.tableExists(tableName)) {
+        deleteTable(admin, tableName);
+      }
     }
 
     admin.close();
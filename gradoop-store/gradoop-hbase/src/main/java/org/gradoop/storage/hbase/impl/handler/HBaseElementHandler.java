@@ -115,9 +115,14 @@ public abstract class HBaseElementHandler implements ElementHandler {
     return put;
   }
 
+  /**
+   * {@inheritDoc}
+   * Returns an empty label, if the label column was not fetched.
+   */
   @Override
   public String readLabel(final Result res) {
-    return Bytes.toString(res.getValue(CF_META_BYTES, COL_LABEL_BYTES));
+    byte[] label = res.getValue(CF_META_BYTES, COL_LABEL_BYTES);
+    return label == null ? "" : Bytes.toString(label);
   }
 
   @Override
@@ -20,8 +20,12 @@ import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.Vertex;
 import org.gradoop.common.model.api.entities.VertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
@@ -30,6 +34,11 @@ import org.gradoop.storage.hbase.impl.api.VertexHandler;
 import org.gradoop.storage.hbase.utils.RegionSplitter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 
 /**
  * Used to read/write EPGM vertex data from/to a HBase table.
@@ -43,6 +52,17 @@ import java.io.IOException;
  * |         |----------|---------|----|----|
  * |         | "Person" |  [0,2]  | v1 | v2 |
  * |---------|----------|---------|----|----|
+ * <p>
+ * If the adjacency is stored, each incident edge of a vertex is an additional column of the
+ * adjacency family, which holds the identifier of the neighbor vertex:
+ * <p>
+ * |---------|---------------|
+ * | row-key | adjacency     |
+ * |---------|-------|-------|
+ * | "0"     | "o"+4 | "i"+5 |
+ * |         |-------|-------|
+ * |         | 1     | 2     |
+ * |---------|-------|-------|
  */
 public class HBaseVertexHandler extends HBaseGraphElementHandler implements VertexHandler {
 
@@ -51,6 +71,23 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
    */
   private static final long serialVersionUID = 42L;
 
+  /**
+   * Byte representation of the adjacency column family.
+   */
+  private static final byte[] CF_ADJACENCY_BYTES = Bytes.toBytes(HBaseConstants.CF_ADJACENCY);
+
+  /**
+   * Byte representation of the outgoing edge column identifier prefix.
+   */
+  private static final byte[] COL_OUT_EDGE_PREFIX_BYTES =
+    Bytes.toBytes(HBaseConstants.COL_OUT_EDGE_PREFIX);
+
+  /**
+   * Byte representation of the incoming edge column identifier prefix.
+   */
+  private static final byte[] COL_IN_EDGE_PREFIX_BYTES =
+    Bytes.toBytes(HBaseConstants.COL_IN_EDGE_PREFIX);
+
   /**
    * Creates vertex data objects from the rows.
    */
@@ -61,6 +98,11 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
    */
   private ElementQuery<HBaseElementFilter<EPGMVertex>> vertexQuery;
 
+  /**
+   * Flag to identify if the adjacency of each vertex is stored inside its row
+   */
+  private boolean useAdjacency;
+
   /**
    * Creates a vertex handler.
    *
@@ -76,6 +118,9 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_TYPE));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_VALUE));
+    if (isAdjacencyUsed()) {
+      tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_ADJACENCY));
+    }
     if (isPreSplitRegions()) {
       admin.createTable(
         tableDescriptor,
@@ -101,6 +146,50 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
       readGraphIds(res));
   }
 
+  @Override
+  public List<Put> createAdjacencyPuts(final Edge edge) {
+    byte[] edgeId = edge.getId().toByteArray();
+    Put sourcePut = new Put(getRowKey(edge.getSourceId()))
+      .addColumn(CF_ADJACENCY_BYTES, Bytes.add(COL_OUT_EDGE_PREFIX_BYTES, edgeId),
+        edge.getTargetId().toByteArray());
+    Put targetPut = new Put(getRowKey(edge.getTargetId()))
+      .addColumn(CF_ADJACENCY_BYTES, Bytes.add(COL_IN_EDGE_PREFIX_BYTES, edgeId),
+        edge.getSourceId().toByteArray());
+    return Arrays.asList(sourcePut, targetPut);
+  }
+
+  @Override
+  public Map<GradoopId, Tuple2<GradoopId, GradoopId>> readAdjacency(final Result res) {
+    Map<GradoopId, Tuple2<GradoopId, GradoopId>> adjacency = new HashMap<>();
+    NavigableMap<byte[], byte[]> adjacencyMap = res.getFamilyMap(CF_ADJACENCY_BYTES);
+    if (adjacencyMap == null) {
+      return adjacency;
+    }
+    GradoopId vertexId = readId(res);
+    for (Map.Entry<byte[], byte[]> column : adjacencyMap.entrySet()) {
+      byte[] qualifier = column.getKey();
+      GradoopId edgeId = GradoopId.fromByteArray(Arrays.copyOfRange(
+        qualifier, COL_OUT_EDGE_PREFIX_BYTES.length, qualifier.length));
+      GradoopId neighborId = GradoopId.fromByteArray(column.getValue());
+      if (Bytes.startsWith(qualifier, COL_OUT_EDGE_PREFIX_BYTES)) {
+        adjacency.put(edgeId, Tuple2.of(vertexId, neighborId));
+      } else {
+        adjacency.put(edgeId, Tuple2.of(neighborId, vertexId));
+      }
+    }
+    return adjacency;
+  }
+
+  @Override
+  public void setAdjacencyUsage(boolean useAdjacency) {
+    this.useAdjacency = useAdjacency;
+  }
+
+  @Override
+  public boolean isAdjacencyUsed() {
+    return useAdjacency;
+  }
+
   @Override
   public VertexHandler applyQuery(ElementQuery<HBaseElementFilter<EPGMVertex>> query) {
     this.vertexQuery = query;
@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.index;
+
+import org.apache.hadoop.hbase.HColumnDescriptor;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Definition of the optional secondary index tables of vertices and edges. The index maps labels and,
+ * for selected property keys, property values to the ids of the elements having them.
+ * <p>
+ * Secondary index data in HBase:
+ * <p>
+ * |--------------------------------------------------------|----|
+ * | row-key                                                | i  |
+ * |--------------------------------------------------------|----|
+ * | bucket | 0x00 | len | "Person" | id                      | id |
+ * |--------|------|-----|----------|-----|-----------|------|----|
+ * | bucket | 0x01 | len | "city"   | len | "Leipzig" | id   | id |
+ * |--------|------|-----|----------|-----|-----------|------|----|
+ * <p>
+ * The leading bucket byte is derived from the element id. It spreads the entries of a single label or
+ * property value over {@link #getBucketCount()} pre-split regions of the index table. All ids with the
+ * same label or property value in a bucket share a row key prefix, which makes an index lookup one
+ * prefix scan per bucket. These scans are read in parallel. Index entries are never removed, an
+ * element that does no longer match is filtered when its row is read.
+ */
+public class HBaseSecondaryIndex implements Serializable {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Byte representation of the index column family.
+   */
+  private static final byte[] CF_INDEX_BYTES = Bytes.toBytes(HBaseConstants.CF_INDEX);
+
+  /**
+   * Byte representation of the id column identifier.
+   */
+  private static final byte[] COL_ID_BYTES = Bytes.toBytes(HBaseConstants.COL_ID);
+
+  /**
+   * Row key type marker of label entries.
+   */
+  private static final byte TYPE_LABEL = 0x00;
+
+  /**
+   * Row key type marker of property value entries.
+   */
+  private static final byte TYPE_PROPERTY = 0x01;
+
+  /**
+   * Default number of buckets the entries of a label or property value are spread over.
+   */
+  private static final int DEFAULT_BUCKET_COUNT = 16;
+
+  /**
+   * Flag to identify if labels are indexed.
+   */
+  private boolean labelIndexed;
+
+  /**
+   * The indexed property keys.
+   */
+  private final Set<String> propertyKeys = new HashSet<>();
+
+  /**
+   * Number of buckets the entries of a label or property value are spread over.
+   */
+  private int bucketCount = DEFAULT_BUCKET_COUNT;
+
+  /**
+   * Enable the label index.
+   */
+  public void enableLabelIndex() {
+    this.labelIndexed = true;
+  }
+
+  /**
+   * Enable the property value index for the given property keys.
+   *
+   * @param keys the property keys to index
+   */
+  public void enablePropertyIndex(String... keys) {
+    Collections.addAll(propertyKeys, keys);
+  }
+
+  /**
+   * Set the number of buckets the entries of a label or property value are spread over. The index
+   * table is pre-split into one region per bucket.
+   * <p>
+   * Note that the bucket count must not be changed once the index tables exist.
+   *
+   * @param bucketCount the number of buckets
+   */
+  public void setBucketCount(int bucketCount) {
+    if (bucketCount <= 0 || bucketCount > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        "The number of buckets has to be between 1 and " + Byte.MAX_VALUE + ".");
+    }
+    this.bucketCount = bucketCount;
+  }
+
+  /**
+   * Get the number of buckets the entries of a label or property value are spread over.
+   *
+   * @return the number of buckets
+   */
+  public int getBucketCount() {
+    return bucketCount;
+  }
+
+  /**
+   * Indicates whether any index is enabled.
+   *
+   * @return true, if labels or at least one property key are indexed
+   */
+  public boolean isEnabled() {
+    return labelIndexed || !propertyKeys.isEmpty();
+  }
+
+  /**
+   * Indicates whether labels are indexed.
+   *
+   * @return true, if labels are indexed
+   */
+  public boolean isLabelIndexed() {
+    return labelIndexed;
+  }
+
+  /**
+   * Indicates whether values of the given property key are indexed.
+   *
+   * @param key the property key
+   * @return true, if the property values are indexed
+   */
+  public boolean isPropertyIndexed(String key) {
+    return propertyKeys.contains(key);
+  }
+
+  /**
+   * Creates the row key prefix of all index entries of the given label.
+   *
+   * @param label the label
+   * @return row key prefix
+   */
+  public byte[] getLabelPrefix(@Nonnull String label) {
+    return Bytes.add(new byte[] {TYPE_LABEL}, withLength(Bytes.toBytes(label)));
+  }
+
+  /**
+   * Creates the row key prefix of all index entries of the given property value.
+   *
+   * @param key   the property key
+   * @param value the property value
+   * @return row key prefix
+   */
+  public byte[] getPropertyPrefix(@Nonnull String key, @Nonnull PropertyValue value) {
+    return Bytes.add(new byte[] {TYPE_PROPERTY}, withLength(Bytes.toBytes(key)),
+      withLength(value.getRawBytes()));
+  }
+
+  /**
+   * Creates the row key prefix of all index entries with the given prefix in the given bucket.
+   *
+   * @param bucket the bucket, between 0 and {@link #getBucketCount()} (exclusive)
+   * @param prefix the label or property value prefix
+   * @return row key prefix
+   */
+  public byte[] getBucketPrefix(int bucket, @Nonnull byte[] prefix) {
+    return Bytes.add(new byte[] {(byte) bucket}, prefix);
+  }
+
+  /**
+   * Creates the index entries of the given element.
+   *
+   * @param element the element to index
+   * @return a {@link Put} for each index entry
+   */
+  public List<Put> createIndexPuts(@Nonnull Element element) {
+    List<Put> puts = new ArrayList<>();
+    if (labelIndexed && element.getLabel() != null) {
+      puts.add(createIndexPut(getLabelPrefix(element.getLabel()), element.getId()));
+    }
+    for (String key : propertyKeys) {
+      PropertyValue value = element.getPropertyValue(key);
+      if (value != null) {
+        puts.add(createIndexPut(getPropertyPrefix(key, value), element.getId()));
+      }
+    }
+    return puts;
+  }
+
+  /**
+   * Reads the element id from an index row {@link Result}.
+   *
+   * @param res index row result
+   * @return the id of the indexed element
+   */
+  public GradoopId readId(@Nonnull Result res) {
+    return GradoopId.fromByteArray(res.getValue(CF_INDEX_BYTES, COL_ID_BYTES));
+  }
+
+  /**
+   * Creates an index table.
+   *
+   * @param admin     HBase admin
+   * @param tableName the name of the index table
+   * @throws IOException on failure
+   */
+  public void createTable(final Admin admin, final TableName tableName) throws IOException {
+    HTableDescriptor tableDescriptor = new HTableDescriptor(tableName);
+    tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_INDEX));
+    if (bucketCount > 1) {
+      byte[][] splitKeys = new byte[bucketCount - 1][];
+      for (int bucket = 1; bucket < bucketCount; bucket++) {
+        splitKeys[bucket - 1] = new byte[] {(byte) bucket};
+      }
+      admin.createTable(tableDescriptor, splitKeys);
+    } else {
+      admin.createTable(tableDescriptor);
+    }
+  }
+
+  /**
+   * Creates a single index entry.
+   *
+   * @param prefix the row key prefix of the entry
+   * @param id     the element id
+   * @return the index entry
+   */
+  private Put createIndexPut(byte[] prefix, GradoopId id) {
+    byte[] idBytes = id.toByteArray();
+    int bucket = (id.hashCode() & Integer.MAX_VALUE) % bucketCount;
+    return new Put(Bytes.add(getBucketPrefix(bucket, prefix), idBytes))
+      .addColumn(CF_INDEX_BYTES, COL_ID_BYTES, idBytes);
+  }
+
+  /**
+   * Prepends the length of the given bytes, which makes prefixes of different values distinct.
+   *
+   * @param bytes the bytes
+   * @return the length followed by the bytes
+   */
+  private static byte[] withLength(byte[] bytes) {
+    return Bytes.add(Bytes.toBytes(bytes.length), bytes);
+  }
+}
@@ -15,27 +15,53 @@
  */
 package org.gradoop.storage.hbase.impl.io;
 
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
 import org.apache.hadoop.mapreduce.Job;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.storage.hbase.impl.io.functions.BuildAdjacencyMutations;
+import org.gradoop.storage.hbase.impl.io.functions.BuildBulkLoadRecord;
 import org.gradoop.storage.hbase.impl.io.functions.BuildEdgeMutation;
 import org.gradoop.storage.hbase.impl.io.functions.BuildGraphHeadMutation;
+import org.gradoop.storage.hbase.impl.io.functions.BuildIndexMutations;
 import org.gradoop.storage.hbase.impl.io.functions.BuildVertexMutation;
+import org.gradoop.storage.hbase.impl.io.functions.RegionPartitioner;
+import org.gradoop.storage.hbase.impl.io.outputformats.BulkLoadOutputFormat;
 import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.UUID;
 
 /**
  * Converts runtime representation of EPGM elements into persistent
  * representations and writes them to HBase.
+ * <p>
+ * By default, the elements are written as {@link org.apache.hadoop.hbase.client.Put} mutations
+ * to the region servers. In bulk load mode, the elements are sorted by their row key and written
+ * to HFiles, one per region and column family, which are handed over to HBase after the job
+ * finished. This bypasses the write path of the region servers when importing large graphs.
  */
 public class HBaseDataSink extends HBaseBase implements DataSink {
 
+  /**
+   * Directory to write the HFiles to in bulk load mode, {@code null} if bulk load is disabled.
+   */
+  @Nullable
+  private final String bulkLoadDirectory;
+
   /**
    * Creates a new HBase data sink.
    *
@@ -47,6 +73,24 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
     @Nonnull GradoopFlinkConfig flinkConfig
   ) {
     super(epgmStore, flinkConfig);
+    this.bulkLoadDirectory = null;
+  }
+
+  /**
+   * Creates a new HBase data sink in bulk load mode. The HFiles are written to a temporary
+   * directory per table below the given directory, which is removed after loading the files.
+   *
+   * @param epgmStore store implementation
+   * @param flinkConfig gradoop flink execute config
+   * @param bulkLoadDirectory directory to write the HFiles to
+   */
+  public HBaseDataSink(
+    @Nonnull HBaseEPGMStore epgmStore,
+    @Nonnull GradoopFlinkConfig flinkConfig,
+    @Nonnull String bulkLoadDirectory
+  ) {
+    super(epgmStore, flinkConfig);
+    this.bulkLoadDirectory = bulkLoadDirectory;
   }
 
   @Override
@@ -91,13 +135,9 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
     throws IOException {
 
     // write (graph-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getGraphTableName().getNameAsString());
-
-    collection.getGraphHeads()
-      .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(collection.getGraphHeads()
+      .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler())),
+      getHBaseConfig().getGraphTableName());
   }
 
   /**
@@ -110,18 +150,17 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
   private void writeVertices(final GraphCollection collection) throws IOException {
 
     // write (vertex-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName().getNameAsString());
+    writeMutations(collection.getVertices()
+      .map(new BuildVertexMutation(getHBaseConfig().getVertexHandler())),
+      getHBaseConfig().getVertexTableName());
 
-    collection.getVertices()
-      .map(new BuildVertexMutation(getHBaseConfig().getVertexHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeIndex(collection.getVertices(), getHBaseConfig().getVertexIndexTableName());
   }
 
   /**
    * Converts runtime edge data to persistent edge data (includes
-   * source/target vertex data) and writes it to HBase.
+   * source/target vertex data) and writes it to HBase. If the adjacency is
+   * stored, the edges are added to the rows of their source and target vertex.
    *
    * @param collection Graph collection
    * @throws IOException if fetching mapreduce instance failed
@@ -129,12 +168,70 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
   private void writeEdges(final GraphCollection collection) throws IOException {
 
     // write (edge-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getEdgeTableName().getNameAsString());
+    writeMutations(collection.getEdges()
+      .map(new BuildEdgeMutation(getHBaseConfig().getEdgeHandler())),
+      getHBaseConfig().getEdgeTableName());
+
+    writeIndex(collection.getEdges(), getHBaseConfig().getEdgeIndexTableName());
 
-    collection.getEdges()
-      .map(new BuildEdgeMutation(getHBaseConfig().getEdgeHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    if (getHBaseConfig().getVertexHandler().isAdjacencyUsed()) {
+      // write (adjacency-data) to HBase vertex table
+      writeMutations(collection.getEdges()
+        .flatMap(new BuildAdjacencyMutations(getHBaseConfig().getVertexHandler())),
+        getHBaseConfig().getVertexTableName());
+    }
+  }
+
+  /**
+   * Converts runtime elements to their secondary index entries and writes them to the given
+   * HBase index table, if the store maintains a secondary index.
+   *
+   * @param elements elements to index
+   * @param indexTableName index table name
+   * @param <E> element type
+   * @throws IOException if fetching mapreduce instance failed
+   */
+  private <E extends Element> void writeIndex(final DataSet<E> elements,
+    final TableName indexTableName) throws IOException {
+    if (!getStore().isIndexed()) {
+      return;
+    }
+
+    // write (index-data) to HBase table
+    writeMutations(elements
+      .flatMap(new BuildIndexMutations<>(getHBaseConfig().getSecondaryIndex())),
+      indexTableName);
+  }
+
+  /**
+   * Writes the given mutations to a HBase table. In bulk load mode, the mutations are partitioned
+   * by the regions of the table and sorted by their row key, including the spreading byte, before
+   * they are written to HFiles.
+   *
+   * @param mutations mutations to write
+   * @param tableName table name
+   * @throws IOException if fetching mapreduce instance or the table regions failed
+   */
+  private void writeMutations(final DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    final TableName tableName) throws IOException {
+    if (bulkLoadDirectory == null) {
+      Job job = Job.getInstance();
+      job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, tableName.getNameAsString());
+
+      mutations.output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    } else {
+      RegionPartitioner regionPartitioner =
+        new RegionPartitioner(getStore().getRegionStartKeys(tableName));
+      // a unique directory per write, so files of failed jobs are never loaded
+      Path outputDirectory = new Path(bulkLoadDirectory,
+        tableName.getNameAsString() + "_" + UUID.randomUUID());
+
+      mutations
+        .map(new BuildBulkLoadRecord())
+        .partitionCustom(regionPartitioner, 0)
+        .sortPartition(0, Order.ASCENDING)
+        .output(new BulkLoadOutputFormat(tableName.getNameAsString(), outputDirectory.toString(),
+          regionPartitioner));
+    }
   }
 }
@@ -20,6 +20,7 @@ import org.apache.flink.api.java.typeutils.TupleTypeInfo;
 import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
@@ -31,12 +32,15 @@ import org.gradoop.storage.common.io.FilterableDataSource;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.hbase.impl.io.inputformats.EdgeTableInputFormat;
 import org.gradoop.storage.hbase.impl.io.inputformats.GraphHeadTableInputFormat;
+import org.gradoop.storage.hbase.impl.io.inputformats.IndexedEdgeTableInputFormat;
+import org.gradoop.storage.hbase.impl.io.inputformats.IndexedVertexTableInputFormat;
 import org.gradoop.storage.hbase.impl.io.inputformats.VertexTableInputFormat;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
 
 /**
  * Creates an EPGM instance from HBase.
@@ -117,17 +121,33 @@ public class HBaseDataSource extends HBaseBase
         new TupleTypeInfo<>(TypeExtractor.createTypeInfo(factory.getGraphHeadFactory().getType())))
       .map(new ValueOf1<>());
 
+    List<byte[]> vertexIndexPrefixes = getIndexPrefixes(vertexQuery);
     DataSet<EPGMVertex> vertices = config.getExecutionEnvironment()
-      .createInput(new VertexTableInputFormat(
-          getHBaseConfig().getVertexHandler().applyQuery(vertexQuery),
-          store.getVertexTableName()),
+      .createInput(vertexIndexPrefixes != null ?
+          new IndexedVertexTableInputFormat(
+            getHBaseConfig().getVertexHandler().applyQuery(vertexQuery),
+            store.getVertexTableName(),
+            getHBaseConfig().getVertexIndexTableName().getNameAsString(),
+            vertexIndexPrefixes,
+            getHBaseConfig().getSecondaryIndex()) :
+          new VertexTableInputFormat(
+            getHBaseConfig().getVertexHandler().applyQuery(vertexQuery),
+            store.getVertexTableName()),
         new TupleTypeInfo<>(TypeExtractor.createTypeInfo(factory.getVertexFactory().getType())))
       .map(new ValueOf1<>());
 
+    List<byte[]> edgeIndexPrefixes = getIndexPrefixes(edgeQuery);
     DataSet<EPGMEdge> edges = config.getExecutionEnvironment()
-      .createInput(new EdgeTableInputFormat(
-          getHBaseConfig().getEdgeHandler().applyQuery(edgeQuery),
-          store.getEdgeTableName()),
+      .createInput(edgeIndexPrefixes != null ?
+          new IndexedEdgeTableInputFormat(
+            getHBaseConfig().getEdgeHandler().applyQuery(edgeQuery),
+            store.getEdgeTableName(),
+            getHBaseConfig().getEdgeIndexTableName().getNameAsString(),
+            edgeIndexPrefixes,
+            getHBaseConfig().getSecondaryIndex()) :
+          new EdgeTableInputFormat(
+            getHBaseConfig().getEdgeHandler().applyQuery(edgeQuery),
+            store.getEdgeTableName()),
         new TupleTypeInfo<>(TypeExtractor.createTypeInfo(factory.getEdgeFactory().getType())))
       .map(new ValueOf1<>());
 
@@ -162,4 +182,22 @@ public class HBaseDataSource extends HBaseBase
   public boolean isFilterPushedDown() {
     return this.graphHeadQuery != null || this.vertexQuery != null || this.edgeQuery != null;
   }
+
+  /**
+   * Translates the predicate of the given query to the row key prefixes of the secondary index,
+   * which replaces a scan over the whole element table by index lookups.
+   *
+   * @param query the element query
+   * @param <T> the type of the EPGM element
+   * @return the index row key prefixes or {@code null}, if the index can not be used
+   */
+  @Nullable
+  private <T extends Element> List<byte[]> getIndexPrefixes(
+    @Nullable ElementQuery<HBaseElementFilter<T>> query
+  ) {
+    if (!getStore().isIndexed() || query == null || query.getFilterPredicate() == null) {
+      return null;
+    }
+    return query.getFilterPredicate().toIndexPrefixes(getHBaseConfig().getSecondaryIndex());
+  }
 }
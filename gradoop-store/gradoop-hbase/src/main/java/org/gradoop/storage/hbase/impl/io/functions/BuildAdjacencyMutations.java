@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.storage.hbase.impl.api.VertexHandler;
+
+/**
+ * Creates the HBase {@link Mutation}s of the adjacency columns of an edge, which are written to
+ * the rows of its source and target vertex.
+ */
+public class BuildAdjacencyMutations
+  extends RichFlatMapFunction<EPGMEdge, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Reusable tuple for each writer.
+   */
+  private transient Tuple2<GradoopId, Mutation> reuseTuple;
+
+  /**
+   * EPGMVertex data handler to create Mutations.
+   */
+  private final VertexHandler vertexHandler;
+
+  /**
+   * Creates rich flat map function.
+   *
+   * @param vertexHandler vertex data handler
+   */
+  public BuildAdjacencyMutations(VertexHandler vertexHandler) {
+    this.vertexHandler = vertexHandler;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void flatMap(EPGMEdge edge, Collector<Tuple2<GradoopId, Mutation>> out) throws Exception {
+    reuseTuple.f0 = edge.getId();
+    for (Put put : vertexHandler.createAdjacencyPuts(edge)) {
+      reuseTuple.f1 = put;
+      out.collect(reuseTuple);
+    }
+  }
+}
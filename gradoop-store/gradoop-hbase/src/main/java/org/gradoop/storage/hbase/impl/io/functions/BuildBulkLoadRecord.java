@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.protobuf.ProtobufUtil;
+import org.apache.hadoop.hbase.protobuf.generated.ClientProtos.MutationProto.MutationType;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Creates a bulk load record from a HBase {@link Mutation}, i.e. the hex representation of the
+ * row key and the serialized mutation. The hex representation preserves the unsigned
+ * lexicographical order of HBase row keys and can therefore be used to sort the records.
+ */
+public class BuildBulkLoadRecord
+  implements MapFunction<Tuple2<GradoopId, Mutation>, Tuple2<String, byte[]>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Reusable tuple for each record.
+   */
+  private final Tuple2<String, byte[]> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<String, byte[]> map(Tuple2<GradoopId, Mutation> mutation) throws Exception {
+    reuseTuple.f0 = Bytes.toHex(mutation.f1.getRow());
+    reuseTuple.f1 = ProtobufUtil.toMutation(MutationType.PUT, mutation.f1).toByteArray();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
+
+/**
+ * Creates the HBase {@link Mutation}s of the secondary index entries of an element.
+ *
+ * @param <E> element type
+ */
+public class BuildIndexMutations<E extends Element>
+  extends RichFlatMapFunction<E, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Reusable tuple for each writer.
+   */
+  private transient Tuple2<GradoopId, Mutation> reuseTuple;
+
+  /**
+   * Secondary index definition to create Mutations.
+   */
+  private final HBaseSecondaryIndex secondaryIndex;
+
+  /**
+   * Creates rich flat map function.
+   *
+   * @param secondaryIndex secondary index definition
+   */
+  public BuildIndexMutations(HBaseSecondaryIndex secondaryIndex) {
+    this.secondaryIndex = secondaryIndex;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void flatMap(E element, Collector<Tuple2<GradoopId, Mutation>> out) throws Exception {
+    reuseTuple.f0 = element.getId();
+    for (Put put : secondaryIndex.createIndexPuts(element)) {
+      reuseTuple.f1 = put;
+      out.collect(reuseTuple);
+    }
+  }
+}
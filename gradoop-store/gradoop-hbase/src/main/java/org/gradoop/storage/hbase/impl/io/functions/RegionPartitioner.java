@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.functions;
+
+import org.apache.flink.api.common.functions.Partitioner;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.Arrays;
+
+/**
+ * Partitions bulk load records by the HBase region of their row key. All records of a region are
+ * assigned to the same partition.
+ */
+public class RegionPartitioner implements Partitioner<String> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Hex representation of the region start keys in ascending order, the first one is empty.
+   */
+  private final String[] startKeys;
+
+  /**
+   * Creates a region partitioner.
+   *
+   * @param startKeys the start keys of all regions of the table in ascending order
+   */
+  public RegionPartitioner(byte[][] startKeys) {
+    this.startKeys = new String[startKeys.length];
+    for (int i = 0; i < startKeys.length; i++) {
+      this.startKeys[i] = Bytes.toHex(startKeys[i]);
+    }
+  }
+
+  @Override
+  public int partition(String rowKey, int numPartitions) {
+    return getRegion(rowKey) % numPartitions;
+  }
+
+  /**
+   * Get the index of the region containing the given row key.
+   *
+   * @param rowKey hex representation of the row key
+   * @return index of the region
+   */
+  public int getRegion(String rowKey) {
+    int index = Arrays.binarySearch(startKeys, rowKey);
+    // a row key between two start keys belongs to the region of the lower one
+    return index >= 0 ? index : Math.max(0, -index - 2);
+  }
+}
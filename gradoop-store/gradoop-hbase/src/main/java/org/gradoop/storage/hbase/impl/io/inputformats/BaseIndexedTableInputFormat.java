@@ -0,0 +1,358 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.inputformats;
+
+import org.apache.flink.api.common.io.LocatableInputSplitAssigner;
+import org.apache.flink.api.common.io.RichInputFormat;
+import org.apache.flink.api.common.io.statistics.BaseStatistics;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.io.InputSplitAssigner;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.storage.common.api.EPGMGraphOutput;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.hbase.impl.api.ElementHandler;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
+import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
+import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+
+/**
+ * Base class for common functionality of HBase input formats reading elements via the secondary
+ * index. The entries of each index prefix are spread over the buckets of the index. Each bucket
+ * is scanned by at least one input split, splits do not span index regions. The found element ids
+ * are read from the element table by batched multi-gets. The query predicate is applied to each
+ * get, since the index may contain entries of elements which do no longer match.
+ *
+ * @param <E> type of element
+ */
+abstract class BaseIndexedTableInputFormat<E extends Element>
+  extends RichInputFormat<Tuple1<E>, IndexInputSplit> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Name of the element table to read from.
+   */
+  private final String tableName;
+
+  /**
+   * Name of the index table to look up the element ids.
+   */
+  private final String indexTableName;
+
+  /**
+   * Index row key prefixes to read, without the bucket.
+   */
+  private final List<byte[]> prefixes;
+
+  /**
+   * Secondary index definition.
+   */
+  private final HBaseSecondaryIndex secondaryIndex;
+
+  /**
+   * HBase connection, opened once per input format instance.
+   */
+  private transient Connection connection;
+
+  /**
+   * Element table.
+   */
+  private transient Table table;
+
+  /**
+   * Index table.
+   */
+  private transient Table indexTable;
+
+  /**
+   * Scanner over the index entries of the current split.
+   */
+  private transient ResultScanner indexScanner;
+
+  /**
+   * Elements read but not yet emitted.
+   */
+  private transient Queue<Result> buffer;
+
+  /**
+   * Flag to identify if the index scanner is exhausted.
+   */
+  private transient boolean indexExhausted;
+
+  /**
+   * Creates an indexed table input format.
+   *
+   * @param tableName      element table name
+   * @param indexTableName index table name
+   * @param prefixes       index row key prefixes to read
+   * @param secondaryIndex secondary index definition
+   */
+  BaseIndexedTableInputFormat(String tableName, String indexTableName, List<byte[]> prefixes,
+    HBaseSecondaryIndex secondaryIndex) {
+    this.tableName = tableName;
+    this.indexTableName = indexTableName;
+    this.prefixes = new ArrayList<>(prefixes);
+    this.secondaryIndex = secondaryIndex;
+  }
+
+  /**
+   * Get the handler of the elements to read.
+   *
+   * @return element handler
+   */
+  abstract ElementHandler getElementHandler();
+
+  /**
+   * Get the query applied to the elements to read.
+   *
+   * @return the element query or {@code null}
+   */
+  abstract ElementQuery<HBaseElementFilter<E>> getQuery();
+
+  /**
+   * Maps a row of the element table to a tuple.
+   *
+   * @param result the element row
+   * @return the element tuple
+   */
+  abstract Tuple1<E> mapResultToTuple(Result result);
+
+  /**
+   * Get the meta data columns of the elements to read, which are always fetched by a projection.
+   *
+   * @return required meta data column identifiers
+   */
+  String[] getRequiredMetaColumns() {
+    return new String[0];
+  }
+
+  /**
+   * Indicates whether the element rows contain columns besides the element data, which are
+   * skipped if no projection defines the columns to fetch.
+   *
+   * @return true, if the element rows contain additional columns
+   */
+  boolean hasAdditionalColumns() {
+    return false;
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public BaseStatistics getStatistics(BaseStatistics cachedStatistics) {
+    return cachedStatistics;
+  }
+
+  @Override
+  public IndexInputSplit[] createInputSplits(int minNumSplits) throws IOException {
+    List<IndexInputSplit> splits = new ArrayList<>();
+    try (Connection splitConnection = ConnectionFactory.createConnection(HBaseConfiguration.create());
+      RegionLocator regionLocator =
+        splitConnection.getRegionLocator(TableName.valueOf(indexTableName))) {
+      byte[][] regionStartKeys = regionLocator.getStartKeys();
+      for (byte[] prefix : prefixes) {
+        for (int bucket = 0; bucket < secondaryIndex.getBucketCount(); bucket++) {
+          byte[] startRow = secondaryIndex.getBucketPrefix(bucket, prefix);
+          byte[] stopRow = getStopRow(startRow);
+          // cut the prefix range at each region start inside of it
+          for (byte[] regionStartKey : regionStartKeys) {
+            if (Bytes.compareTo(regionStartKey, startRow) > 0 &&
+              (stopRow.length == 0 || Bytes.compareTo(regionStartKey, stopRow) < 0)) {
+              splits.add(new IndexInputSplit(splits.size(),
+                regionLocator.getRegionLocation(startRow).getHostname(), startRow, regionStartKey));
+              startRow = regionStartKey;
+            }
+          }
+          splits.add(new IndexInputSplit(splits.size(),
+            regionLocator.getRegionLocation(startRow).getHostname(), startRow, stopRow));
+        }
+      }
+    }
+    return splits.toArray(new IndexInputSplit[0]);
+  }
+
+  @Override
+  public InputSplitAssigner getInputSplitAssigner(IndexInputSplit[] inputSplits) {
+    return new LocatableInputSplitAssigner(inputSplits);
+  }
+
+  @Override
+  public void openInputFormat() throws IOException {
+    connection = ConnectionFactory.createConnection(HBaseConfiguration.create());
+    table = connection.getTable(TableName.valueOf(tableName));
+    indexTable = connection.getTable(TableName.valueOf(indexTableName));
+    buffer = new ArrayDeque<>();
+  }
+
+  @Override
+  public void open(IndexInputSplit split) throws IOException {
+    Scan scan = new Scan(split.getStartRow(), split.getStopRow());
+    scan.setCaching(EPGMGraphOutput.DEFAULT_CACHE_SIZE);
+    indexScanner = indexTable.getScanner(scan);
+    indexExhausted = false;
+    buffer.clear();
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (buffer.isEmpty() && !indexExhausted) {
+      fetchNextBatch();
+    }
+    return buffer.isEmpty();
+  }
+
+  @Override
+  public Tuple1<E> nextRecord(Tuple1<E> reuse) throws IOException {
+    if (reachedEnd()) {
+      return null;
+    }
+    Tuple1<E> tuple = mapResultToTuple(buffer.poll());
+    ElementQuery<HBaseElementFilter<E>> query = getQuery();
+    ElementProjection projection = query != null ? query.getProjection() : null;
+    if (projection != null) {
+      projection.apply(tuple.f0);
+    }
+    return tuple;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (indexScanner != null) {
+      indexScanner.close();
+      indexScanner = null;
+    }
+  }
+
+  @Override
+  public void closeInputFormat() throws IOException {
+    if (table != null) {
+      table.close();
+    }
+    if (indexTable != null) {
+      indexTable.close();
+    }
+    if (connection != null) {
+      connection.close();
+    }
+  }
+
+  /**
+   * Reads the next batch of element ids from the index and the according elements by a single
+   * multi-get on the element table. Elements which do not exist or do not fulfill the query
+   * predicate are skipped.
+   *
+   * @throws IOException on failure
+   */
+  private void fetchNextBatch() throws IOException {
+    Result[] indexResults = indexScanner.next(EPGMGraphOutput.DEFAULT_CACHE_SIZE);
+    if (indexResults.length < EPGMGraphOutput.DEFAULT_CACHE_SIZE) {
+      indexExhausted = true;
+    }
+
+    ElementHandler handler = getElementHandler();
+    ElementQuery<HBaseElementFilter<E>> query = getQuery();
+    GradoopIdSet queryRanges = query != null ? query.getQueryRanges() : null;
+    Filter filter = query != null && query.getFilterPredicate() != null ?
+      query.getFilterPredicate().toHBaseFilter(false) : null;
+    Map<byte[], NavigableSet<byte[]>> columns = query != null ?
+      HBaseFilterUtils.getProjectedColumns(query, getRequiredMetaColumns()) : null;
+
+    List<Get> getList = new ArrayList<>();
+    for (Result indexResult : indexResults) {
+      GradoopId id = secondaryIndex.readId(indexResult);
+      if (queryRanges != null && !queryRanges.isEmpty() && !queryRanges.contains(id)) {
+        continue;
+      }
+      List<byte[]> rowKeys = handler.isSpreadingByteUsed() ?
+        handler.getPossibleRowKeys(id) : Collections.singletonList(handler.getRowKey(id));
+      for (byte[] rowKey : rowKeys) {
+        Get get = new Get(rowKey);
+        if (filter != null) {
+          get.setFilter(filter);
+        }
+        if (columns != null) {
+          for (Map.Entry<byte[], NavigableSet<byte[]>> family : columns.entrySet()) {
+            if (family.getValue() == null) {
+              get.addFamily(family.getKey());
+            } else {
+              family.getValue().forEach(column -> get.addColumn(family.getKey(), column));
+            }
+          }
+        } else if (hasAdditionalColumns()) {
+          HBaseFilterUtils.restrictToElementFamilies(get);
+        }
+        getList.add(get);
+      }
+    }
+
+    if (!getList.isEmpty()) {
+      for (Result result : table.get(getList)) {
+        if (!result.isEmpty()) {
+          buffer.add(result);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the first row key behind all row keys starting with the given prefix.
+   *
+   * @param prefix row key prefix
+   * @return stop row of a prefix scan, empty if the prefix range ends with the table
+   */
+  private static byte[] getStopRow(byte[] prefix) {
+    for (int i = prefix.length - 1; i >= 0; i--) {
+      if (prefix[i] != (byte) 0xFF) {
+        byte[] stopRow = Arrays.copyOf(prefix, i + 1);
+        stopRow[i]++;
+        return stopRow;
+      }
+    }
+    return HConstants.EMPTY_END_ROW;
+  }
+}
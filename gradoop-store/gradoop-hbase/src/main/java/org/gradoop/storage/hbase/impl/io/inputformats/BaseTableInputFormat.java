@@ -20,11 +20,15 @@ import org.apache.flink.api.java.tuple.Tuple1;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.NavigableSet;
 
 /**
  * Base class for common functionality of HBase input formats
@@ -61,4 +65,35 @@ abstract class BaseTableInputFormat<E extends Element> extends TableInputFormat<
       scan.setFilter(conjunctFilters);
     }
   }
+
+  /**
+   * Restrict the columns fetched by the given scan instance to the projection of the given query.
+   *
+   * @param query the query that contains a projection
+   * @param scan the HBase scan instance on which the projection will be applied
+   * @param requiredMetaColumns meta data columns which are always fetched
+   */
+  void attachProjection(
+    @Nonnull ElementQuery<HBaseElementFilter<E>> query,
+    @Nonnull Scan scan,
+    @Nonnull String... requiredMetaColumns) {
+    Map<byte[], NavigableSet<byte[]>> columns =
+      HBaseFilterUtils.getProjectedColumns(query, requiredMetaColumns);
+    if (columns != null) {
+      scan.setFamilyMap(columns);
+    }
+  }
+
+  /**
+   * Remove all columns of the given element, which are not part of the projection of the given
+   * query, e.g. properties which were only fetched to evaluate the filter.
+   *
+   * @param query the query that contains a projection
+   * @param element the element read from HBase
+   * @return the projected element
+   */
+  E project(@Nullable ElementQuery<HBaseElementFilter<E>> query, @Nonnull E element) {
+    ElementProjection projection = query != null ? query.getProjection() : null;
+    return projection != null ? projection.apply(element) : element;
+  }
 }
@@ -21,6 +21,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.storage.common.api.EPGMGraphOutput;
 import org.gradoop.storage.hbase.impl.api.EdgeHandler;
+import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
 
 /**
  * Reads edge data from HBase.
@@ -61,6 +62,8 @@ public class EdgeTableInputFormat extends BaseTableInputFormat<EPGMEdge> {
 
     if (edgeHandler.getQuery() != null) {
       attachFilter(edgeHandler.getQuery(), scan, edgeHandler.isSpreadingByteUsed());
+      attachProjection(edgeHandler.getQuery(), scan, HBaseConstants.COL_SOURCE,
+        HBaseConstants.COL_TARGET);
     }
 
     return scan;
@@ -73,6 +76,6 @@ public class EdgeTableInputFormat extends BaseTableInputFormat<EPGMEdge> {
 
   @Override
   protected Tuple1<EPGMEdge> mapResultToTuple(Result result) {
-    return new Tuple1<>(edgeHandler.readEdge(result));
+    return new Tuple1<>(project(edgeHandler.getQuery(), edgeHandler.readEdge(result)));
   }
 }
@@ -62,6 +62,7 @@ public class GraphHeadTableInputFormat extends BaseTableInputFormat<EPGMGraphHea
 
     if (graphHeadHandler.getQuery() != null) {
       attachFilter(graphHeadHandler.getQuery(), scan, graphHeadHandler.isSpreadingByteUsed());
+      attachProjection(graphHeadHandler.getQuery(), scan);
     }
 
     return scan;
@@ -74,6 +75,7 @@ public class GraphHeadTableInputFormat extends BaseTableInputFormat<EPGMGraphHea
 
   @Override
   protected Tuple1<EPGMGraphHead> mapResultToTuple(Result result) {
-    return new Tuple1<>(graphHeadHandler.readGraphHead(result));
+    return new Tuple1<>(
+      project(graphHeadHandler.getQuery(), graphHeadHandler.readGraphHead(result)));
   }
 }
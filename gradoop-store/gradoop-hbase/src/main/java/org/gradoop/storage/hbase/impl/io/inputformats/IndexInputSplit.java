@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.inputformats;
+
+import org.apache.flink.core.io.LocatableInputSplit;
+
+/**
+ * Input split of an index lookup, a row key range of the index table inside a single region.
+ */
+class IndexInputSplit extends LocatableInputSplit {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * First row key of the split (inclusive).
+   */
+  private final byte[] startRow;
+
+  /**
+   * Last row key of the split (exclusive), empty for the end of the table.
+   */
+  private final byte[] stopRow;
+
+  /**
+   * Creates a new index input split.
+   *
+   * @param splitNumber number of the split
+   * @param hostname    host of the region containing the split
+   * @param startRow    first row key (inclusive)
+   * @param stopRow     last row key (exclusive), empty for the end of the table
+   */
+  IndexInputSplit(int splitNumber, String hostname, byte[] startRow, byte[] stopRow) {
+    super(splitNumber, hostname);
+    this.startRow = startRow;
+    this.stopRow = stopRow;
+  }
+
+  /**
+   * Get the first row key of the split.
+   *
+   * @return first row key (inclusive)
+   */
+  byte[] getStartRow() {
+    return startRow;
+  }
+
+  /**
+   * Get the last row key of the split.
+   *
+   * @return last row key (exclusive), empty for the end of the table
+   */
+  byte[] getStopRow() {
+    return stopRow;
+  }
+}
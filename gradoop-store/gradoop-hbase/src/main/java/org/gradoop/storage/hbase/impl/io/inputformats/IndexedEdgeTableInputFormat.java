@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.inputformats;
+
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.hbase.impl.api.ElementHandler;
+import org.gradoop.storage.hbase.impl.api.EdgeHandler;
+import org.gradoop.storage.hbase.impl.constants.HBaseConstants;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
+import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
+
+import java.util.List;
+
+/**
+ * Reads edge data from HBase by looking up the edge ids in the secondary index.
+ */
+public class IndexedEdgeTableInputFormat extends BaseIndexedTableInputFormat<EPGMEdge> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Handles reading of persistent edge data.
+   */
+  private final EdgeHandler edgeHandler;
+
+  /**
+   * Creates an indexed edge table input format.
+   *
+   * @param edgeHandler    edge data handler
+   * @param edgeTableName  edge data table name
+   * @param indexTableName edge index table name
+   * @param prefixes       index row key prefixes of the edges to read
+   * @param secondaryIndex secondary index definition
+   */
+  public IndexedEdgeTableInputFormat(EdgeHandler edgeHandler, String edgeTableName,
+    String indexTableName, List<byte[]> prefixes, HBaseSecondaryIndex secondaryIndex) {
+    super(edgeTableName, indexTableName, prefixes, secondaryIndex);
+    this.edgeHandler = edgeHandler;
+  }
+
+  @Override
+  ElementHandler getElementHandler() {
+    return edgeHandler;
+  }
+
+  @Override
+  ElementQuery<HBaseElementFilter<EPGMEdge>> getQuery() {
+    return edgeHandler.getQuery();
+  }
+
+  @Override
+  String[] getRequiredMetaColumns() {
+    return new String[] {HBaseConstants.COL_SOURCE, HBaseConstants.COL_TARGET};
+  }
+
+  @Override
+  Tuple1<EPGMEdge> mapResultToTuple(Result result) {
+    return new Tuple1<>(edgeHandler.readEdge(result));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.inputformats;
+
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.hbase.impl.api.ElementHandler;
+import org.gradoop.storage.hbase.impl.api.VertexHandler;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
+import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
+
+import java.util.List;
+
+/**
+ * Reads vertex data from HBase by looking up the vertex ids in the secondary index.
+ */
+public class IndexedVertexTableInputFormat extends BaseIndexedTableInputFormat<EPGMVertex> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Handles reading of persistent vertex data.
+   */
+  private final VertexHandler vertexHandler;
+
+  /**
+   * Creates an indexed vertex table input format.
+   *
+   * @param vertexHandler   vertex data handler
+   * @param vertexTableName vertex data table name
+   * @param indexTableName vertex index table name
+   * @param prefixes       index row key prefixes of the vertexs to read
+   * @param secondaryIndex secondary index definition
+   */
+  public IndexedVertexTableInputFormat(VertexHandler vertexHandler, String vertexTableName,
+    String indexTableName, List<byte[]> prefixes, HBaseSecondaryIndex secondaryIndex) {
+    super(vertexTableName, indexTableName, prefixes, secondaryIndex);
+    this.vertexHandler = vertexHandler;
+  }
+
+  @Override
+  ElementHandler getElementHandler() {
+    return vertexHandler;
+  }
+
+  @Override
+  ElementQuery<HBaseElementFilter<EPGMVertex>> getQuery() {
+    return vertexHandler.getQuery();
+  }
+
+  @Override
+  boolean hasAdditionalColumns() {
+    return vertexHandler.isAdjacencyUsed();
+  }
+
+  @Override
+  Tuple1<EPGMVertex> mapResultToTuple(Result result) {
+    return new Tuple1<>(vertexHandler.readVertex(result));
+  }
+}
@@ -21,6 +21,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.storage.common.api.EPGMGraphOutput;
 import org.gradoop.storage.hbase.impl.api.VertexHandler;
+import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 
 /**
  * Reads vertex data from HBase.
@@ -61,6 +62,10 @@ public class VertexTableInputFormat extends BaseTableInputFormat<EPGMVertex> {
 
     if (vertexHandler.getQuery() != null) {
       attachFilter(vertexHandler.getQuery(), scan, vertexHandler.isSpreadingByteUsed());
+      attachProjection(vertexHandler.getQuery(), scan);
+    }
+    if (vertexHandler.isAdjacencyUsed()) {
+      HBaseFilterUtils.restrictToElementFamilies(scan);
     }
 
     return scan;
@@ -73,6 +78,6 @@ public class VertexTableInputFormat extends BaseTableInputFormat<EPGMVertex> {
 
   @Override
   protected Tuple1<EPGMVertex> mapResultToTuple(Result result) {
-    return new Tuple1<>(vertexHandler.readVertex(result));
+    return new Tuple1<>(project(vertexHandler.getQuery(), vertexHandler.readVertex(result)));
   }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.hbase.impl.io.outputformats;
+
+import org.apache.flink.api.common.io.FinalizeOnMaster;
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.io.hfile.CacheConfig;
+import org.apache.hadoop.hbase.io.hfile.HFileContextBuilder;
+import org.apache.hadoop.hbase.mapreduce.LoadIncrementalHFiles;
+import org.apache.hadoop.hbase.protobuf.ProtobufUtil;
+import org.apache.hadoop.hbase.protobuf.generated.ClientProtos.MutationProto;
+import org.apache.hadoop.hbase.regionserver.StoreFile;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.storage.hbase.impl.io.functions.RegionPartitioner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes bulk load records, sorted by their row key, to HFiles and hands them over to HBase
+ * after all tasks finished.
+ * <p>
+ * The records of each task are expected to be sorted and to contain all records of the regions
+ * they belong to. Each task writes one HFile per column family and region to a directory per
+ * column family below the given output directory, which is the layout expected by
+ * {@link LoadIncrementalHFiles}. The files are loaded into the table and the output directory is
+ * deleted in {@link #finalizeGlobal(int)}.
+ */
+public class BulkLoadOutputFormat implements OutputFormat<Tuple2<String, byte[]>>, FinalizeOnMaster {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Name of the table to load the HFiles into.
+   */
+  private final String tableName;
+
+  /**
+   * Directory to write the HFiles to.
+   */
+  private final String outputDirectory;
+
+  /**
+   * Partitioner to identify the region of a record.
+   */
+  private final RegionPartitioner regionPartitioner;
+
+  /**
+   * HBase configuration
+   */
+  private transient org.apache.hadoop.conf.Configuration hbaseConfig;
+
+  /**
+   * File system of the output directory.
+   */
+  private transient FileSystem fileSystem;
+
+  /**
+   * Open HFile writers of the current region by column family.
+   */
+  private transient Map<byte[], StoreFile.Writer> writers;
+
+  /**
+   * Region of the records written by the open writers.
+   */
+  private transient int currentRegion;
+
+  /**
+   * Row key of the buffered cells.
+   */
+  private transient String currentRow;
+
+  /**
+   * Cells of the current row by column family. A row may be spread over several records, e.g.
+   * the adjacency of a vertex, so its cells are collected until the next row starts.
+   */
+  private transient Map<byte[], List<KeyValue>> rowCells;
+
+  /**
+   * Timestamp set to the cells, which have none, and written to the file info.
+   */
+  private transient byte[] now;
+
+  /**
+   * Creates a new bulk load output format.
+   *
+   * @param tableName         name of the table to load the HFiles into
+   * @param outputDirectory   directory to write the HFiles to, it must not exist
+   * @param regionPartitioner partitioner used to distribute the records by region
+   */
+  public BulkLoadOutputFormat(String tableName, String outputDirectory,
+    RegionPartitioner regionPartitioner) {
+    this.tableName = tableName;
+    this.outputDirectory = outputDirectory;
+    this.regionPartitioner = regionPartitioner;
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+    // do nothing
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    // disable the block cache of the writers, like the HFileOutputFormat2 of HBase does
+    hbaseConfig = HBaseConfiguration.create();
+    hbaseConfig.setFloat(HConstants.HFILE_BLOCK_CACHE_SIZE_KEY, 0.0f);
+    fileSystem = new Path(outputDirectory).getFileSystem(hbaseConfig);
+    writers = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+    currentRegion = -1;
+    currentRow = null;
+    rowCells = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+    now = Bytes.toBytes(System.currentTimeMillis());
+  }
+
+  @Override
+  public void writeRecord(Tuple2<String, byte[]> record) throws IOException {
+    if (!record.f0.equals(currentRow)) {
+      writeRow();
+      currentRow = record.f0;
+    }
+    int region = regionPartitioner.getRegion(record.f0);
+    if (region != currentRegion) {
+      // start new files for each region, so no file has to be split while loading
+      closeWriters();
+      currentRegion = region;
+    }
+
+    Put put = ProtobufUtil.toPut(MutationProto.parseFrom(record.f1));
+    for (Map.Entry<byte[], List<Cell>> family : put.getFamilyCellMap().entrySet()) {
+      List<KeyValue> keyValues = rowCells.computeIfAbsent(family.getKey(), f -> new ArrayList<>());
+      for (Cell cell : family.getValue()) {
+        KeyValue keyValue = KeyValueUtil.ensureKeyValue(cell);
+        keyValue.updateLatestStamp(now);
+        keyValues.add(keyValue);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    writeRow();
+    closeWriters();
+  }
+
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    org.apache.hadoop.conf.Configuration config = HBaseConfiguration.create();
+    Path outputPath = new Path(outputDirectory);
+    FileSystem fs = outputPath.getFileSystem(config);
+    if (!fs.exists(outputPath)) {
+      // nothing was written
+      return;
+    }
+
+    LoadIncrementalHFiles loader;
+    try {
+      loader = new LoadIncrementalHFiles(config);
+    } catch (Exception e) {
+      throw new IOException("Unable to create the bulk loader for table " + tableName, e);
+    }
+
+    TableName table = TableName.valueOf(tableName);
+    try (Connection connection = ConnectionFactory.createConnection(config);
+      Admin admin = connection.getAdmin();
+      Table hTable = connection.getTable(table);
+      RegionLocator regionLocator = connection.getRegionLocator(table)) {
+      loader.doBulkLoad(outputPath, admin, hTable, regionLocator);
+    }
+    fs.delete(outputPath, true);
+  }
+
+  /**
+   * Get the writer for the given column family, a new HFile is created if there is no open one.
+   *
+   * @param family the column family
+   * @return HFile writer
+   * @throws IOException on failure
+   */
+  private StoreFile.Writer getWriter(byte[] family) throws IOException {
+    StoreFile.Writer writer = writers.get(family);
+    if (writer == null) {
+      writer = new StoreFile.WriterBuilder(hbaseConfig, new CacheConfig(hbaseConfig), fileSystem)
+        .withOutputDir(new Path(outputDirectory, Bytes.toString(family)))
+        .withComparator(KeyValue.COMPARATOR)
+        .withFileContext(new HFileContextBuilder().build())
+        .build();
+      writers.put(family, writer);
+    }
+    return writer;
+  }
+
+  /**
+   * Appends the buffered cells of the current row to the writers of their column families.
+   *
+   * @throws IOException on failure
+   */
+  private void writeRow() throws IOException {
+    for (Map.Entry<byte[], List<KeyValue>> family : rowCells.entrySet()) {
+      List<KeyValue> keyValues = family.getValue();
+      // cells of a row have to be appended in the order of their qualifiers
+      keyValues.sort(KeyValue.COMPARATOR);
+
+      StoreFile.Writer writer = getWriter(family.getKey());
+      for (KeyValue keyValue : keyValues) {
+        writer.append(keyValue);
+      }
+    }
+    rowCells.clear();
+  }
+
+  /**
+   * Appends the bulk load file info to all open writers and closes them.
+   *
+   * @throws IOException on failure
+   */
+  private void closeWriters() throws IOException {
+    for (StoreFile.Writer writer : writers.values()) {
+      writer.appendFileInfo(StoreFile.BULKLOAD_TIME_KEY, now);
+      writer.appendFileInfo(StoreFile.MAJOR_COMPACTION_KEY, Bytes.toBytes(false));
+      writer.appendFileInfo(StoreFile.EXCLUDE_FROM_MINOR_COMPACTION_KEY, Bytes.toBytes(false));
+      writer.appendTrackedTimestampsToMetadata();
+      writer.close();
+    }
+    writers.clear();
+  }
+}
@@ -19,8 +19,10 @@ import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.hbase.impl.api.EdgeHandler;
 
+import javax.annotation.Nullable;
 import java.util.Iterator;
 
 /**
@@ -43,6 +45,11 @@ public class HBaseEdgeIterator implements ClosableIterator<EPGMEdge> {
    */
   private final Iterator<Result> it;
 
+  /**
+   * Projection applied to each element, may be null
+   */
+  private final ElementProjection projection;
+
   /**
    * mapper EPGM result
    */
@@ -55,8 +62,24 @@ public class HBaseEdgeIterator implements ClosableIterator<EPGMEdge> {
    * @param handler element handler for gradoop
    */
   public HBaseEdgeIterator(ResultScanner scanner, EdgeHandler handler) {
+    this(scanner, handler, null);
+  }
+
+  /**
+   * HBase EPGMGraphHead Iterator
+   *
+   * @param scanner HBase result scanner
+   * @param handler element handler for gradoop
+   * @param projection projection applied to each element, may be null
+   */
+  public HBaseEdgeIterator(
+    ResultScanner scanner,
+    EdgeHandler handler,
+    @Nullable ElementProjection projection
+  ) {
     this.scanner = scanner;
     this.handler = handler;
+    this.projection = projection;
     this.it = scanner.iterator();
   }
 
@@ -77,6 +100,7 @@ public class HBaseEdgeIterator implements ClosableIterator<EPGMEdge> {
 
   @Override
   public EPGMEdge next() {
-    return handler.readEdge(result);
+    EPGMEdge edge = handler.readEdge(result);
+    return projection != null ? projection.apply(edge) : edge;
   }
 }
@@ -19,8 +19,10 @@ import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.hbase.impl.api.GraphHeadHandler;
 
+import javax.annotation.Nullable;
 import java.util.Iterator;
 
 /**
@@ -43,6 +45,11 @@ public class HBaseGraphIterator implements ClosableIterator<EPGMGraphHead> {
    */
   private final Iterator<Result> it;
 
+  /**
+   * Projection applied to each element, may be null
+   */
+  private final ElementProjection projection;
+
   /**
    * mapper EPGM result
    */
@@ -57,9 +64,25 @@ public class HBaseGraphIterator implements ClosableIterator<EPGMGraphHead> {
   public HBaseGraphIterator(
     ResultScanner scanner,
     GraphHeadHandler handler
+  ) {
+    this(scanner, handler, null);
+  }
+
+  /**
+   * HBase EPGMGraphHead Iterator
+   *
+   * @param scanner HBase result scanner
+   * @param handler element handler for gradoop
+   * @param projection projection applied to each element, may be null
+   */
+  public HBaseGraphIterator(
+    ResultScanner scanner,
+    GraphHeadHandler handler,
+    @Nullable ElementProjection projection
   ) {
     this.scanner = scanner;
     this.handler = handler;
+    this.projection = projection;
     this.it = scanner.iterator();
   }
 
@@ -80,6 +103,7 @@ public class HBaseGraphIterator implements ClosableIterator<EPGMGraphHead> {
 
   @Override
   public EPGMGraphHead next() {
-    return handler.readGraphHead(result);
+    EPGMGraphHead graphHead = handler.readGraphHead(result);
+    return projection != null ? projection.apply(graphHead) : graphHead;
   }
 }
@@ -19,8 +19,10 @@ import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.hbase.impl.api.VertexHandler;
 
+import javax.annotation.Nullable;
 import java.util.Iterator;
 
 /**
@@ -43,6 +45,11 @@ public class HBaseVertexIterator implements ClosableIterator<EPGMVertex> {
    */
   private final Iterator<Result> it;
 
+  /**
+   * Projection applied to each element, may be null
+   */
+  private final ElementProjection projection;
+
   /**
    * mapper EPGM result
    */
@@ -57,9 +64,25 @@ public class HBaseVertexIterator implements ClosableIterator<EPGMVertex> {
   public HBaseVertexIterator(
     ResultScanner scanner,
     VertexHandler handler
+  ) {
+    this(scanner, handler, null);
+  }
+
+  /**
+   * HBase EPGMGraphHead Iterator
+   *
+   * @param scanner HBase result scanner
+   * @param handler element handler for gradoop
+   * @param projection projection applied to each element, may be null
+   */
+  public HBaseVertexIterator(
+    ResultScanner scanner,
+    VertexHandler handler,
+    @Nullable ElementProjection projection
   ) {
     this.scanner = scanner;
     this.handler = handler;
+    this.projection = projection;
     this.it = scanner.iterator();
   }
 
@@ -80,7 +103,8 @@ public class HBaseVertexIterator implements ClosableIterator<EPGMVertex> {
 
   @Override
   public EPGMVertex next() {
-    return handler.readVertex(result);
+    EPGMVertex vertex = handler.readVertex(result);
+    return projection != null ? projection.apply(vertex) : vertex;
   }
 
 }
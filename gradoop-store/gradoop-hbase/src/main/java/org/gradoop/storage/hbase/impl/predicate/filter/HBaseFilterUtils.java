@@ -15,6 +15,8 @@
  */
 package org.gradoop.storage.hbase.impl.predicate.filter;
 
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.filter.BinaryComparator;
 import org.apache.hadoop.hbase.filter.CompareFilter;
 import org.apache.hadoop.hbase.filter.Filter;
@@ -25,21 +27,32 @@ import org.apache.hadoop.hbase.filter.RowFilter;
 import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.Pair;
+import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
 import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_META;
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_PROPERTY_TYPE;
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_PROPERTY_VALUE;
+import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.COL_GRAPHS;
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.COL_LABEL;
 
 /**
@@ -62,6 +75,10 @@ public class HBaseFilterUtils {
    * Byte representation of column qualifier
    */
   private static final byte[] COL_LABEL_BYTES = Bytes.toBytesBinary(COL_LABEL);
+  /**
+   * Byte representation of graphs column qualifier
+   */
+  private static final byte[] COL_GRAPHS_BYTES = Bytes.toBytesBinary(COL_GRAPHS);
 
   /**
    * Creates a HBase Filter object to return only graph elements that are equal to the given
@@ -283,4 +300,92 @@ public class HBaseFilterUtils {
     filterList.addFilter(typeFilter);
     return filterList;
   }
+
+  /**
+   * Creates the family map of all columns, which have to be fetched to evaluate the filter of the
+   * given query and to return the projected columns of each element. The result can be applied
+   * to a {@link org.apache.hadoop.hbase.client.Scan} via {@code setFamilyMap}, a family mapped to
+   * {@code null} is fetched completely.
+   *
+   * @param query the element query
+   * @param requiredMetaColumns meta data columns, which are always fetched
+   * @param <T> the type of the EPGM element
+   * @return the family map of all fetched columns or {@code null}, if no projection is defined
+   */
+  @Nullable
+  public static <T extends Element> Map<byte[], NavigableSet<byte[]>> getProjectedColumns(
+    @Nonnull ElementQuery<HBaseElementFilter<T>> query,
+    @Nonnull String... requiredMetaColumns) {
+    ElementProjection projection = query.getProjection();
+    if (projection == null) {
+      return null;
+    }
+    HBaseElementFilter<T> filter = query.getFilterPredicate();
+    Map<byte[], NavigableSet<byte[]>> familyMap = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+
+    NavigableSet<byte[]> metaColumns = new TreeSet<>(Bytes.BYTES_COMPARATOR);
+    for (String column : requiredMetaColumns) {
+      metaColumns.add(Bytes.toBytes(column));
+    }
+    // The label is evaluated by label filters and keeps rows without any other fetched column
+    // inside the result, the element label is removed afterwards if it is not projected
+    if (projection.isLabelProjected() || filter != null || metaColumns.isEmpty()) {
+      metaColumns.add(COL_LABEL_BYTES);
+    }
+    if (projection.isGraphIdsProjected()) {
+      metaColumns.add(COL_GRAPHS_BYTES);
+    }
+    familyMap.put(CF_META_BYTES, metaColumns);
+
+    if (projection.getPropertyKeys() == null) {
+      familyMap.put(CF_PROPERTY_TYPE_BYTES, null);
+      familyMap.put(CF_PROPERTY_VALUE_BYTES, null);
+    } else {
+      Set<String> keys = new HashSet<>(projection.getPropertyKeys());
+      if (filter != null) {
+        keys.addAll(filter.getReferencedPropertyKeys());
+      }
+      if (!keys.isEmpty()) {
+        NavigableSet<byte[]> typeColumns = new TreeSet<>(Bytes.BYTES_COMPARATOR);
+        NavigableSet<byte[]> valueColumns = new TreeSet<>(Bytes.BYTES_COMPARATOR);
+        for (String key : keys) {
+          typeColumns.add(Bytes.toBytes(key));
+          valueColumns.add(Bytes.toBytes(key));
+        }
+        familyMap.put(CF_PROPERTY_TYPE_BYTES, typeColumns);
+        familyMap.put(CF_PROPERTY_VALUE_BYTES, valueColumns);
+      }
+    }
+    return familyMap;
+  }
+
+  /**
+   * Restrict the given scan to the column families of the element data, if its columns are not
+   * defined yet. Vertex rows which store the adjacency of the vertex contain an additional family,
+   * which is not required to read the vertex and does not represent a vertex on its own.
+   *
+   * @param scan the HBase scan instance to restrict
+   */
+  public static void restrictToElementFamilies(@Nonnull Scan scan) {
+    if (!scan.hasFamilies()) {
+      scan.addFamily(CF_META_BYTES)
+        .addFamily(CF_PROPERTY_TYPE_BYTES)
+        .addFamily(CF_PROPERTY_VALUE_BYTES);
+    }
+  }
+
+  /**
+   * Restrict the given get to the column families of the element data, if its columns are not
+   * defined yet.
+   *
+   * @param get the HBase get instance to restrict
+   * @see #restrictToElementFamilies(Scan)
+   */
+  public static void restrictToElementFamilies(@Nonnull Get get) {
+    if (!get.hasFamilies()) {
+      get.addFamily(CF_META_BYTES)
+        .addFamily(CF_PROPERTY_TYPE_BYTES)
+        .addFamily(CF_PROPERTY_VALUE_BYTES);
+    }
+  }
 }
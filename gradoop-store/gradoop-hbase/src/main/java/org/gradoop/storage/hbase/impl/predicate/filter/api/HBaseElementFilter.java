@@ -18,12 +18,17 @@ package org.gradoop.storage.hbase.impl.predicate.filter.api;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.impl.predicate.filter.calculate.And;
 import org.gradoop.storage.hbase.impl.predicate.filter.calculate.Not;
 import org.gradoop.storage.hbase.impl.predicate.filter.calculate.Or;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 /**
  * HBase Element Filter interface to chain predicates
@@ -60,4 +65,27 @@ public interface HBaseElementFilter<T extends Element>
    */
   @Nonnull
   Filter toHBaseFilter(boolean negate);
+
+  /**
+   * Translate the filter to the row key prefixes of the secondary index entries of all elements
+   * that may fulfill the filter. Filters which can not be answered by the index return {@code null}.
+   *
+   * @param index the secondary index definition
+   * @return the index row key prefixes or {@code null}, if the index can not be used
+   */
+  @Nullable
+  default List<byte[]> toIndexPrefixes(@Nonnull HBaseSecondaryIndex index) {
+    return null;
+  }
+
+  /**
+   * Get the keys of all properties evaluated by this filter. The columns of these properties have
+   * to be fetched from the store, even if they are not part of a projection.
+   *
+   * @return the property keys referenced by this filter
+   */
+  @Nonnull
+  default Set<String> getReferencedPropertyKeys() {
+    return Collections.emptySet();
+  }
 }
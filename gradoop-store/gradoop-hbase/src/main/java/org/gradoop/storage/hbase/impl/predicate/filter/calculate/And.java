@@ -18,12 +18,16 @@ package org.gradoop.storage.hbase.impl.predicate.filter.calculate;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -80,6 +84,29 @@ public final class And<T extends Element> implements HBaseElementFilter<T> {
     return filterList;
   }
 
+  @Nullable
+  @Override
+  public List<byte[]> toIndexPrefixes(@Nonnull HBaseSecondaryIndex index) {
+    // Each element fulfilling the conjunction fulfills every predicate, so any indexed one suffices
+    for (HBaseElementFilter<T> predicate : predicates) {
+      List<byte[]> prefixes = predicate.toIndexPrefixes(index);
+      if (prefixes != null) {
+        return prefixes;
+      }
+    }
+    return null;
+  }
+
+  @Nonnull
+  @Override
+  public Set<String> getReferencedPropertyKeys() {
+    Set<String> keys = new HashSet<>();
+    for (HBaseElementFilter<T> predicate : predicates) {
+      keys.addAll(predicate.getReferencedPropertyKeys());
+    }
+    return keys;
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" AND ");
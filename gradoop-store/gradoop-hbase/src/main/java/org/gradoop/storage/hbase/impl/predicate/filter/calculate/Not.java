@@ -20,6 +20,7 @@ import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import java.util.Set;
 
 /**
  * Negated filter
@@ -60,6 +61,12 @@ public final class Not<T extends Element> implements HBaseElementFilter<T> {
     return predicate.toHBaseFilter(!negate);
   }
 
+  @Nonnull
+  @Override
+  public Set<String> getReferencedPropertyKeys() {
+    return predicate.getReferencedPropertyKeys();
+  }
+
   @Override
   public String toString() {
     return "NOT " + predicate;
@@ -23,7 +23,9 @@ import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
 
 /**
@@ -80,6 +82,16 @@ public final class Or<T extends Element> implements HBaseElementFilter<T> {
     return filterList;
   }
 
+  @Nonnull
+  @Override
+  public Set<String> getReferencedPropertyKeys() {
+    Set<String> keys = new HashSet<>();
+    for (HBaseElementFilter<T> predicate : predicates) {
+      keys.addAll(predicate.getReferencedPropertyKeys());
+    }
+    return keys;
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" OR ");
@@ -18,10 +18,14 @@ package org.gradoop.storage.hbase.impl.predicate.filter.impl;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.common.predicate.filter.impl.LabelIn;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * HBase label equality predicate implementation
@@ -45,4 +49,13 @@ public class HBaseLabelIn<T extends Element> extends LabelIn<HBaseElementFilter<
   public Filter toHBaseFilter(boolean negate) {
     return HBaseFilterUtils.getLabelInFilter(getLabels(), negate);
   }
+
+  @Nullable
+  @Override
+  public List<byte[]> toIndexPrefixes(@Nonnull HBaseSecondaryIndex index) {
+    if (!index.isLabelIndexed()) {
+      return null;
+    }
+    return getLabels().stream().map(index::getLabelPrefix).collect(Collectors.toList());
+  }
 }
@@ -18,10 +18,15 @@ package org.gradoop.storage.hbase.impl.predicate.filter.impl;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.storage.common.predicate.filter.impl.PropEquals;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 /**
  * HBase property equality implementation
@@ -46,4 +51,19 @@ public class HBasePropEquals<T extends Element> extends PropEquals<HBaseElementF
   public Filter toHBaseFilter(boolean negate) {
     return HBaseFilterUtils.getPropEqualsFilter(getKey(), getValue(), negate);
   }
+
+  @Nullable
+  @Override
+  public List<byte[]> toIndexPrefixes(@Nonnull HBaseSecondaryIndex index) {
+    if (!index.isPropertyIndexed(getKey())) {
+      return null;
+    }
+    return Collections.singletonList(index.getPropertyPrefix(getKey(), getValue()));
+  }
+
+  @Nonnull
+  @Override
+  public Set<String> getReferencedPropertyKeys() {
+    return Collections.singleton(getKey());
+  }
 }
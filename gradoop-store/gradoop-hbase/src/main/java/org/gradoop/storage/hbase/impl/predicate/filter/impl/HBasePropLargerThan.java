@@ -22,6 +22,8 @@ import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * HBase property value compare predicate implement
@@ -47,4 +49,10 @@ public class HBasePropLargerThan<T extends Element>
   public Filter toHBaseFilter(boolean negate) {
     return HBaseFilterUtils.getPropLargerThanFilter(getKey(), getMin(), isInclude(), negate);
   }
+
+  @Nonnull
+  @Override
+  public Set<String> getReferencedPropertyKeys() {
+    return Collections.singleton(getKey());
+  }
 }
@@ -22,6 +22,8 @@ import org.gradoop.storage.hbase.impl.predicate.filter.HBaseFilterUtils;
 import org.gradoop.storage.hbase.impl.predicate.filter.api.HBaseElementFilter;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -47,4 +49,10 @@ public class HBasePropReg<T extends Element> extends PropReg<HBaseElementFilter<
   public Filter toHBaseFilter(boolean negate) {
     return HBaseFilterUtils.getPropRegFilter(getKey(), getReg(), negate);
   }
+
+  @Nonnull
+  @Override
+  public Set<String> getReferencedPropertyKeys() {
+    return Collections.singleton(getKey());
+  }
 }
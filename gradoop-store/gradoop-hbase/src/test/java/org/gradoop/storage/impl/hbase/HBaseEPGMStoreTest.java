@@ -29,19 +29,28 @@ import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.storage.common.cache.CachingGraphStore;
+import org.gradoop.storage.common.cache.ElementCache;
 import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
+import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
+import org.gradoop.storage.hbase.utils.HBaseFilters;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.stream.Collectors;
 
 import static org.gradoop.common.GradoopTestUtils.*;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -198,6 +207,60 @@ public class HBaseEPGMStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Stores social network data and loads it again with a column projection.
+   *
+   * @throws IOException if read to or write from store fails
+   */
+  @Test
+  public void iteratorWithProjectionTest() throws IOException {
+    HBaseEPGMStore graphStore = createEmptyEPGMStore();
+    writeSocialGraphToStore(graphStore);
+
+    // project copies of the social graph elements, since the projection modifies the elements
+    ElementProjection vertexProjection = ElementProjection.properties(PROP_CITY).withoutLabel();
+    List<EPGMVertex> vertices = getSocialVertices().stream()
+      .map(v -> vertexProjection.apply(
+        new EPGMVertex(v.getId(), v.getLabel(), v.getProperties(), v.getGraphIds())))
+      .collect(Collectors.toList());
+
+    ElementProjection edgeProjection = ElementProjection.properties()
+      .withoutLabel()
+      .withoutGraphIds();
+    List<EPGMEdge> edges = getSocialEdges().stream()
+      .filter(e -> e.hasProperty(PROP_SINCE) && e.getPropertyValue(PROP_SINCE).getInt() >= 2014)
+      .map(e -> edgeProjection.apply(new EPGMEdge(e.getId(), e.getLabel(), e.getSourceId(),
+        e.getTargetId(), e.getProperties(), e.getGraphIds())))
+      .collect(Collectors.toList());
+
+    List<EPGMVertex> loadedVertices = graphStore.getVertexSpace(
+      Query.elements().fromAll()
+        .select(vertexProjection)
+        .noFilter())
+      .readRemainsAndClose();
+    // the filtered property is not part of the projection
+    List<EPGMEdge> loadedEdges = graphStore.getEdgeSpace(
+      Query.elements().fromAll()
+        .select(edgeProjection)
+        .where(HBaseFilters.propLargerThan(PROP_SINCE, 2014, true)))
+      .readRemainsAndClose();
+
+    validateElementCollections(vertices, loadedVertices);
+    validateGraphElementCollections(vertices, loadedVertices);
+    validateElementCollections(edges, loadedEdges);
+    validateGraphElementCollections(edges, loadedEdges);
+    // source and target ids are always fetched
+    Map<GradoopId, EPGMEdge> edgesById = edges.stream()
+      .collect(Collectors.toMap(EPGMEdge::getId, e -> e));
+    for (EPGMEdge edge : loadedEdges) {
+      assertTrue(edge.getGraphIds().isEmpty());
+      assertEquals(edge.getSourceId(), edgesById.get(edge.getId()).getSourceId());
+      assertEquals(edge.getTargetId(), edgesById.get(edge.getId()).getTargetId());
+    }
+
+    graphStore.close();
+  }
+
   /**
    * Tries to add an unsupported property type {@link Queue} as property value.
    *
@@ -325,6 +388,125 @@ public class HBaseEPGMStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Stores social network data and reads vertices and edges by batches of ids.
+   *
+   * @throws IOException if read to or write from store fails
+   */
+  @Test
+  public void batchReadTest() throws IOException {
+    HBaseEPGMStore graphStore = createEmptyEPGMStore("batchReadTest");
+
+    List<EPGMVertex> vertices = Lists.newArrayList(getSocialVertices());
+    List<EPGMEdge> edges = Lists.newArrayList(getSocialEdges());
+
+    for (EPGMVertex v : vertices) {
+      graphStore.writeVertex(v);
+    }
+    for (EPGMEdge e : edges) {
+      graphStore.writeEdge(e);
+    }
+    graphStore.flush();
+
+    // ids without an element are skipped
+    List<GradoopId> vertexIds = vertices.stream().map(EPGMVertex::getId)
+      .collect(Collectors.toList());
+    vertexIds.add(GradoopId.get());
+    List<GradoopId> edgeIds = edges.stream().map(EPGMEdge::getId)
+      .collect(Collectors.toList());
+    edgeIds.add(GradoopId.get());
+
+    Map<GradoopId, EPGMVertex> loadedVertices = graphStore.readVertices(vertexIds);
+    assertEquals(loadedVertices.size(), vertices.size());
+    validateElementCollections(vertices, loadedVertices.values());
+    validateGraphElementCollections(vertices, loadedVertices.values());
+    loadedVertices.forEach((id, vertex) -> assertEquals(vertex.getId(), id));
+
+    Map<GradoopId, EPGMEdge> loadedEdges = graphStore.readEdges(edgeIds);
+    assertEquals(loadedEdges.size(), edges.size());
+    validateElementCollections(edges, loadedEdges.values());
+    validateGraphElementCollections(edges, loadedEdges.values());
+    loadedEdges.forEach((id, edge) -> assertEquals(edge.getId(), id));
+
+    assertTrue(graphStore.readVertices(Collections.emptyList()).isEmpty());
+    assertTrue(graphStore.readEdges(Collections.emptyList()).isEmpty());
+
+    graphStore.close();
+  }
+
+  /**
+   * Reads social network data through a {@link CachingGraphStore} and validates
+   * hits, misses, eviction and the invalidation by writes.
+   *
+   * @throws IOException if read to or write from store fails
+   */
+  @Test
+  public void cachingStoreTest() throws IOException {
+    HBaseEPGMStore graphStore = createEmptyEPGMStore("cachingStoreTest");
+
+    List<EPGMVertex> vertices = Lists.newArrayList(getSocialVertices());
+    List<EPGMEdge> edges = Lists.newArrayList(getSocialEdges());
+
+    for (EPGMVertex v : vertices) {
+      graphStore.writeVertex(v);
+    }
+    for (EPGMEdge e : edges) {
+      graphStore.writeEdge(e);
+    }
+    graphStore.flush();
+
+    CachingGraphStore<HBaseEPGMStore> cachingStore =
+      new CachingGraphStore<>(graphStore, 1 << 20, false);
+    EPGMVertex vertex = vertices.get(0);
+
+    // first read is a miss, the second one a hit
+    EPGMVertex loadedVertex = cachingStore.readVertex(vertex.getId());
+    validateElements(vertex, loadedVertex);
+    validateElements(cachingStore.readVertex(vertex.getId()), loadedVertex);
+    assertEquals(cachingStore.getMissCount(), 1);
+    assertEquals(cachingStore.getHitCount(), 1);
+
+    // a batch read only reads the missing vertices from the store
+    List<GradoopId> vertexIds = vertices.stream().map(EPGMVertex::getId)
+      .collect(Collectors.toList());
+    validateElementCollections(vertices, cachingStore.readVertices(vertexIds).values());
+    assertEquals(cachingStore.getVertexCache().size(), vertices.size());
+    assertEquals(cachingStore.getHitCount(), 2);
+    assertEquals(cachingStore.getMissCount(), vertices.size());
+
+    List<GradoopId> edgeIds = edges.stream().map(EPGMEdge::getId)
+      .collect(Collectors.toList());
+    validateElementCollections(edges, cachingStore.readEdges(edgeIds).values());
+    validateElementCollections(edges, cachingStore.readEdges(edgeIds).values());
+    assertEquals(cachingStore.getEdgeCache().getHitCount(), edges.size());
+    assertEquals(cachingStore.getEdgeCache().getMissCount(), edges.size());
+
+    // a written vertex is not cached until the write is flushed
+    Properties properties = Properties.create();
+    properties.set("cached", false);
+    EPGMVertex updatedVertex = new EPGMVertexFactory().initVertex(vertex.getId(),
+      vertex.getLabel(), properties, vertex.getGraphIds());
+    cachingStore.writeVertex(updatedVertex);
+    assertEquals(cachingStore.getVertexCache().size(), vertices.size() - 1);
+    cachingStore.readVertex(vertex.getId());
+    assertEquals(cachingStore.getVertexCache().size(), vertices.size() - 1);
+    cachingStore.flush();
+    loadedVertex = cachingStore.readVertex(vertex.getId());
+    assertNotNull(loadedVertex);
+    assertFalse(loadedVertex.getPropertyValue("cached").getBoolean());
+    assertEquals(cachingStore.getVertexCache().size(), vertices.size());
+
+    // the cache is bounded by the weight of the elements
+    CachingGraphStore<HBaseEPGMStore> smallStore =
+      new CachingGraphStore<>(graphStore, ElementCache.weigh(loadedVertex), false);
+    smallStore.readVertex(vertex.getId());
+    assertEquals(smallStore.getVertexCache().size(), 1);
+    smallStore.readVertices(vertexIds);
+    assertTrue(smallStore.getVertexCache().getWeight() <= ElementCache.weigh(loadedVertex));
+
+    cachingStore.close();
+  }
+
   /**
    * Test the truncate tables functionality.
    */
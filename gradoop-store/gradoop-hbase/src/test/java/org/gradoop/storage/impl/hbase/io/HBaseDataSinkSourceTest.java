@@ -17,8 +17,9 @@ package org.gradoop.storage.impl.hbase.io;
 
 import com.google.common.collect.Lists;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
-import org.gradoop.common.GradoopTestUtils;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.api.entities.Identifiable;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
@@ -27,7 +28,10 @@ import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood.EdgeDirection;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.storage.common.model.GraphNeighborhood;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.hbase.config.GradoopHBaseConfig;
 import org.gradoop.storage.hbase.impl.HBaseEPGMStore;
@@ -45,11 +49,18 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.gradoop.common.GradoopTestUtils.validateElementCollections;
@@ -58,6 +69,7 @@ import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.*;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 /**
  * Test class for {@link HBaseDataSource} and {@link HBaseDataSink}
@@ -76,7 +88,7 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
    */
   @BeforeClass
   public static void setUp() throws IOException {
-    epgmStores = new HBaseEPGMStore[3];
+    epgmStores = new HBaseEPGMStore[4];
 
     epgmStores[0] = openEPGMStore("HBaseDataSinkSourceTest.");
     writeSocialGraphToStore(epgmStores[0]);
@@ -88,8 +100,16 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
     final GradoopHBaseConfig spreadingConfig = GradoopHBaseConfig.getDefaultConfig();
     spreadingConfig.useSpreadingByte(32);
+    spreadingConfig.enableAdjacency();
     epgmStores[2] = openEPGMStore("HBaseDataSinkSourceSpreadingByteTest.", spreadingConfig);
     writeSocialGraphToStore(epgmStores[2]);
+
+    final GradoopHBaseConfig indexConfig = GradoopHBaseConfig.getDefaultConfig()
+      .enableLabelIndex()
+      .enablePropertyIndex(PROP_CITY, PROP_SINCE, PROP_NAME)
+      .enableAdjacency();
+    epgmStores[3] = openEPGMStore("HBaseDataSinkSourceSecondaryIndexTest.", indexConfig);
+    writeSocialGraphToStore(epgmStores[3]);
   }
 
   /**
@@ -109,12 +129,13 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
   /**
    * Parameters for tests. 0 => default store config; 1 => pre-split regions; 2 => spreading byte
+   * and adjacency; 3 => secondary index and adjacency
    *
    * @return the integer to choose the epgm store to test
    */
   @DataProvider(name = "store index")
   public static Object[][] storeIndexProvider() {
-    return new Object[][] {{0}, {1}, {2}};
+    return new Object[][] {{0}, {1}, {2}, {3}};
   }
 
   /**
@@ -140,6 +161,16 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
       assertTrue(epgmStores[storeIndex].getConfig().getVertexHandler().isSpreadingByteUsed());
       assertTrue(epgmStores[storeIndex].getConfig().getEdgeHandler().isSpreadingByteUsed());
       assertTrue(epgmStores[storeIndex].getConfig().getGraphHeadHandler().isSpreadingByteUsed());
+
+      assertTrue(epgmStores[storeIndex].getConfig().getVertexHandler().isAdjacencyUsed());
+      break;
+    case 3:
+      assertTrue(epgmStores[storeIndex].isIndexed());
+      assertTrue(epgmStores[storeIndex].getConfig().getSecondaryIndex().isLabelIndexed());
+      assertTrue(epgmStores[storeIndex].getConfig().getSecondaryIndex().isPropertyIndexed(PROP_CITY));
+      assertFalse(epgmStores[storeIndex].getConfig().getSecondaryIndex().isPropertyIndexed(PROP_AGE));
+
+      assertTrue(epgmStores[storeIndex].getConfig().getVertexHandler().isAdjacencyUsed());
       break;
     default:
       assertFalse(epgmStores[storeIndex].getConfig().getVertexHandler().isPreSplitRegions());
@@ -149,6 +180,8 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
       assertFalse(epgmStores[storeIndex].getConfig().getVertexHandler().isSpreadingByteUsed());
       assertFalse(epgmStores[storeIndex].getConfig().getEdgeHandler().isSpreadingByteUsed());
       assertFalse(epgmStores[storeIndex].getConfig().getGraphHeadHandler().isSpreadingByteUsed());
+
+      assertFalse(epgmStores[storeIndex].getConfig().getVertexHandler().isAdjacencyUsed());
       break;
     }
   }
@@ -712,37 +745,99 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
   }
 
   /**
-   * Test writing a graph to {@link HBaseDataSink}
+   * Test reading a graph collection from {@link HBaseDataSource}
+   * with a column projection on each graph element
    *
    * @throws Exception on failure
    */
   @Test(dataProvider = "store index")
-  public void testWriteToSink(int storeIndex) throws Exception {
-    // Create an empty store
-    HBaseEPGMStore newStore;
+  public void testReadWithProjection(int storeIndex) throws Exception {
+    // Project copies of the social graph elements, since the projection modifies the elements
+    ElementProjection graphHeadProjection = ElementProjection.properties(PROP_VERTEX_COUNT);
+    List<EPGMGraphHead> graphHeads = getSocialGraphHeads()
+      .stream()
+      .filter(g -> g.hasProperty(PROP_INTEREST))
+      .filter(g -> g.getPropertyValue(PROP_INTEREST).getString().equals("Hadoop"))
+      .map(g -> graphHeadProjection.apply(
+        new EPGMGraphHead(g.getId(), g.getLabel(), g.getProperties())))
+      .collect(Collectors.toList());
 
-    switch (storeIndex) {
-    case 1:
-      final GradoopHBaseConfig splitConfig = GradoopHBaseConfig.getDefaultConfig();
-      splitConfig.enablePreSplitRegions(32);
-      newStore = openEPGMStore("HBaseDataSinkSplitRegionTest" + storeIndex + ".", splitConfig);
-      break;
-    case 2:
-      final GradoopHBaseConfig spreadingConfig = GradoopHBaseConfig.getDefaultConfig();
-      spreadingConfig.useSpreadingByte(32);
-      newStore = openEPGMStore("HBaseDataSinkSpreadingTest" + storeIndex + ".", spreadingConfig);
-      break;
-    default:
-      newStore = openEPGMStore("HBaseDataSinkTest" + storeIndex + ".");
-      break;
+    ElementProjection edgeProjection = ElementProjection.properties().withoutLabel();
+    List<EPGMEdge> edges = getSocialEdges()
+      .stream()
+      .map(e -> edgeProjection.apply(new EPGMEdge(e.getId(), e.getLabel(), e.getSourceId(),
+        e.getTargetId(), e.getProperties(), e.getGraphIds())))
+      .collect(Collectors.toList());
+
+    ElementProjection vertexProjection = ElementProjection.properties(PROP_NAME)
+      .withoutGraphIds();
+    List<EPGMVertex> vertices = getSocialVertices()
+      .stream()
+      .filter(v -> v.getLabel().equals("Person"))
+      .map(v -> vertexProjection.apply(
+        new EPGMVertex(v.getId(), v.getLabel(), v.getProperties(), v.getGraphIds())))
+      .collect(Collectors.toList());
+
+    HBaseDataSource hBaseDataSource = new HBaseDataSource(epgmStores[storeIndex], getConfig())
+      // the filtered property is not part of the projection
+      .applyGraphPredicate(Query.elements().fromAll()
+        .select(graphHeadProjection)
+        .where(HBaseFilters.propEquals(PROP_INTEREST, "Hadoop")))
+      .applyEdgePredicate(Query.elements().fromAll()
+        .select(edgeProjection)
+        .noFilter())
+      .applyVertexPredicate(Query.elements().fromAll()
+        .select(vertexProjection)
+        .where(HBaseFilters.labelIn("Person")));
+
+    GraphCollection graphCollection = hBaseDataSource.getGraphCollection();
+
+    Collection<EPGMGraphHead> loadedGraphHeads = graphCollection.getGraphHeads().collect();
+    Collection<EPGMVertex> loadedVertices = graphCollection.getVertices().collect();
+    Collection<EPGMEdge> loadedEdges = graphCollection.getEdges().collect();
+
+    validateElementCollections(graphHeads, loadedGraphHeads);
+    validateElementCollections(vertices, loadedVertices);
+    validateGraphElementCollections(vertices, loadedVertices);
+    validateElementCollections(edges, loadedEdges);
+    validateGraphElementCollections(edges, loadedEdges);
+
+    // Source and target ids are always fetched
+    Map<GradoopId, EPGMEdge> edgesById = edges.stream()
+      .collect(Collectors.toMap(EPGMEdge::getId, e -> e));
+    for (EPGMEdge loadedEdge : loadedEdges) {
+      assertEquals(loadedEdge.getSourceId(), edgesById.get(loadedEdge.getId()).getSourceId());
+      assertEquals(loadedEdge.getTargetId(), edgesById.get(loadedEdge.getId()).getTargetId());
     }
+  }
 
-    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(getConfig());
+  /**
+   * Test reading the neighborhood of a vertex from the adjacency stored in the vertex rows
+   *
+   * @throws IOException on failure
+   */
+  @Test(dataProvider = "store index")
+  public void testReadNeighborhood(int storeIndex) throws IOException {
+    HBaseEPGMStore store = epgmStores[storeIndex];
+    if (!store.getConfig().getVertexHandler().isAdjacencyUsed()) {
+      expectThrows(UnsupportedOperationException.class,
+        () -> store.readNeighborhood(Collections.singleton(GradoopId.get()), 1, EdgeDirection.OUT));
+      return;
+    }
+    validateNeighborhoodInStore(store, getSocialVertices(), getSocialEdges());
+  }
 
-    InputStream inputStream = getClass()
-      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+  /**
+   * Test writing a graph to {@link HBaseDataSink}
+   *
+   * @throws Exception on failure
+   */
+  @Test(dataProvider = "store index")
+  public void testWriteToSink(int storeIndex) throws Exception {
+    // Create an empty store
+    HBaseEPGMStore newStore = openNewStore(storeIndex, "HBaseDataSink");
 
-    loader.initDatabaseFromStream(inputStream);
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
 
     new HBaseDataSink(newStore, getConfig()).write(getConfig().getGraphCollectionFactory()
       .fromCollections(
@@ -754,31 +849,186 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
     newStore.flush();
 
+    validateSocialNetworkInStore(newStore, loader);
+  }
+
+  /**
+   * Test writing a graph to {@link HBaseDataSink} in bulk load mode
+   *
+   * @throws Exception on failure
+   */
+  @Test(dataProvider = "store index")
+  public void testWriteToSinkWithBulkLoad(int storeIndex) throws Exception {
+    // Create an empty store
+    HBaseEPGMStore newStore = openNewStore(storeIndex, "HBaseDataSinkBulkLoad");
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    File bulkLoadDirectory = Files.createTempDirectory("HBaseDataSinkBulkLoad").toFile();
+
+    new HBaseDataSink(newStore, getConfig(), bulkLoadDirectory.toURI().toString())
+      .write(getConfig().getGraphCollectionFactory()
+        .fromCollections(
+          loader.getGraphHeads(),
+          loader.getVertices(),
+          loader.getEdges()));
+
+    getExecutionEnvironment().execute();
+
+    validateSocialNetworkInStore(newStore, loader);
+
+    // the HFiles are removed after loading them
+    assertEquals(bulkLoadDirectory.list().length, 0);
+    assertTrue(bulkLoadDirectory.delete());
+  }
+
+  /**
+   * Creates an empty store with the configuration given by the store index.
+   *
+   * @param storeIndex the store index, see {@link #storeIndexProvider()}
+   * @param prefix the table prefix
+   * @return the new store
+   * @throws IOException on failure
+   */
+  private HBaseEPGMStore openNewStore(int storeIndex, String prefix) throws IOException {
+    switch (storeIndex) {
+    case 1:
+      final GradoopHBaseConfig splitConfig = GradoopHBaseConfig.getDefaultConfig();
+      splitConfig.enablePreSplitRegions(32);
+      return openEPGMStore(prefix + "SplitRegionTest" + storeIndex + ".", splitConfig);
+    case 2:
+      final GradoopHBaseConfig spreadingConfig = GradoopHBaseConfig.getDefaultConfig();
+      spreadingConfig.useSpreadingByte(32);
+      spreadingConfig.enableAdjacency();
+      return openEPGMStore(prefix + "SpreadingTest" + storeIndex + ".", spreadingConfig);
+    case 3:
+      final GradoopHBaseConfig indexConfig = GradoopHBaseConfig.getDefaultConfig()
+        .enableLabelIndex()
+        .enablePropertyIndex(PROP_CITY)
+        .enableAdjacency();
+      return openEPGMStore(prefix + "SecondaryIndexTest" + storeIndex + ".", indexConfig);
+    default:
+      return openEPGMStore(prefix + "Test" + storeIndex + ".");
+    }
+  }
+
+  /**
+   * Validates that the given store contains the social network of the given loader.
+   *
+   * @param store the store to validate
+   * @param loader the loader of the social network
+   * @throws Exception on failure
+   */
+  private void validateSocialNetworkInStore(HBaseEPGMStore store, FlinkAsciiGraphLoader loader)
+    throws Exception {
     // read social network from HBase
 
     // graph heads
     validateElementCollections(
       loader.getGraphHeads(),
-      newStore.getGraphSpace().readRemainsAndClose()
+      store.getGraphSpace().readRemainsAndClose()
     );
     // vertices
     validateElementCollections(
       loader.getVertices(),
-      newStore.getVertexSpace().readRemainsAndClose()
+      store.getVertexSpace().readRemainsAndClose()
     );
     validateGraphElementCollections(
       loader.getVertices(),
-      newStore.getVertexSpace().readRemainsAndClose()
+      store.getVertexSpace().readRemainsAndClose()
     );
     // edges
     validateElementCollections(
       loader.getEdges(),
-      newStore.getEdgeSpace().readRemainsAndClose()
+      store.getEdgeSpace().readRemainsAndClose()
     );
     validateGraphElementCollections(
       loader.getEdges(),
-      newStore.getEdgeSpace().readRemainsAndClose()
+      store.getEdgeSpace().readRemainsAndClose()
     );
+
+    if (store.isIndexed()) {
+      // read via the index entries written by the sink
+      List<EPGMVertex> vertices = loader.getVertices().stream()
+        .filter(v -> v.getLabel().equals("Person") && v.hasProperty(PROP_CITY))
+        .filter(v -> v.getPropertyValue(PROP_CITY).getString().equals("Leipzig"))
+        .collect(Collectors.toList());
+      List<EPGMEdge> edges = loader.getEdges().stream()
+        .filter(e -> e.getLabel().equals(LABEL_HAS_MEMBER))
+        .collect(Collectors.toList());
+
+      GraphCollection indexedCollection = new HBaseDataSource(store, getConfig())
+        .applyVertexPredicate(Query.elements().fromAll()
+          .where(HBaseFilters.<EPGMVertex>labelIn("Person")
+            .and(HBaseFilters.propEquals(PROP_CITY, "Leipzig"))))
+        .applyEdgePredicate(Query.elements().fromAll()
+          .where(HBaseFilters.labelIn(LABEL_HAS_MEMBER)))
+        .getGraphCollection();
+
+      validateElementCollections(vertices, indexedCollection.getVertices().collect());
+      validateElementCollections(edges, indexedCollection.getEdges().collect());
+    }
+
+    if (store.getConfig().getVertexHandler().isAdjacencyUsed()) {
+      // read via the adjacency written by the sink
+      validateNeighborhoodInStore(store, loader.getVertices(), loader.getEdges());
+    }
+  }
+
+  /**
+   * Validates the neighborhoods of a vertex of the social network, which are read from the
+   * given store, for all directions and up to two hops.
+   *
+   * @param store the store to read from
+   * @param vertices the vertices of the social network
+   * @param edges the edges of the social network
+   * @throws IOException on failure
+   */
+  private void validateNeighborhoodInStore(HBaseEPGMStore store, Collection<EPGMVertex> vertices,
+    Collection<EPGMEdge> edges) throws IOException {
+    GradoopId seedId = vertices.stream()
+      .filter(v -> v.hasProperty(PROP_NAME))
+      .filter(v -> v.getPropertyValue(PROP_NAME).getString().equals("Alice"))
+      .findFirst()
+      .orElseThrow(IllegalStateException::new)
+      .getId();
+
+    for (EdgeDirection direction : EdgeDirection.values()) {
+      for (int hops = 0; hops <= 2; hops++) {
+        // a small batch size to read the adjacency by multiple requests
+        GraphNeighborhood neighborhood =
+          store.readNeighborhood(Collections.singleton(seedId), hops, direction, 2);
+
+        // expand the neighborhood on the edges of the social network
+        Map<GradoopId, Integer> expectedDistances = new HashMap<>();
+        expectedDistances.put(seedId, 0);
+        Set<GradoopId> expectedEdgeIds = new HashSet<>();
+        Set<GradoopId> frontier = Collections.singleton(seedId);
+        for (int hop = 1; hop <= hops; hop++) {
+          Set<GradoopId> nextFrontier = new HashSet<>();
+          for (EPGMEdge edge : edges) {
+            if ((direction != EdgeDirection.IN && frontier.contains(edge.getSourceId())) ||
+              (direction != EdgeDirection.OUT && frontier.contains(edge.getTargetId()))) {
+              expectedEdgeIds.add(edge.getId());
+              assertEquals(neighborhood.getEdge(edge.getId()),
+                Tuple2.of(edge.getSourceId(), edge.getTargetId()));
+              for (GradoopId vertexId : Arrays.asList(edge.getSourceId(), edge.getTargetId())) {
+                if (expectedDistances.putIfAbsent(vertexId, hop) == null) {
+                  nextFrontier.add(vertexId);
+                }
+              }
+            }
+          }
+          frontier = nextFrontier;
+        }
+
+        assertEquals(neighborhood.getVertexIds(), expectedDistances.keySet());
+        for (Map.Entry<GradoopId, Integer> distance : expectedDistances.entrySet()) {
+          assertEquals(neighborhood.getDistance(distance.getKey()), distance.getValue());
+        }
+        assertEquals(neighborhood.getEdgeIds(), expectedEdgeIds);
+      }
+    }
   }
 
   /**
@@ -20,14 +20,18 @@ import org.apache.hadoop.hbase.filter.FilterList;
 import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.impl.predicate.filter.impl.HBaseLabelIn;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_META;
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.COL_LABEL;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class for {@link HBaseLabelIn}
@@ -57,4 +61,23 @@ public class HBaseLabelInTest {
     }
     assertEquals(edgeFilter.toHBaseFilter(false).toString(), expectedFilterList.toString());
   }
+
+  /**
+   * Test the toIndexPrefixes function
+   */
+  @Test
+  public void testToIndexPrefixes() {
+    HBaseLabelIn<EPGMEdge> edgeFilter = new HBaseLabelIn<>("test1", "test2");
+    HBaseSecondaryIndex index = new HBaseSecondaryIndex();
+
+    assertNull(edgeFilter.toIndexPrefixes(index));
+
+    index.enableLabelIndex();
+    List<byte[]> prefixes = edgeFilter.toIndexPrefixes(index);
+
+    assertEquals(prefixes.size(), 2);
+    for (String label : Arrays.asList("test1", "test2")) {
+      assertTrue(prefixes.stream().anyMatch(p -> Arrays.equals(p, index.getLabelPrefix(label))));
+    }
+  }
 }
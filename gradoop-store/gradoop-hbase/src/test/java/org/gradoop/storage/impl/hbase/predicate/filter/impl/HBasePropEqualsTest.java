@@ -23,23 +23,47 @@ import org.gradoop.common.GradoopTestUtils;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.storage.hbase.impl.index.HBaseSecondaryIndex;
 import org.gradoop.storage.hbase.impl.predicate.filter.impl.HBasePropEquals;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_PROPERTY_TYPE;
 import static org.gradoop.storage.hbase.impl.constants.HBaseConstants.CF_PROPERTY_VALUE;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 
 /**
  * Test class for {@link HBasePropEquals}
  */
 public class HBasePropEqualsTest {
 
+  /**
+   * Test the toIndexPrefixes function
+   */
+  @Test
+  public void testToIndexPrefixes() {
+    String key = "key";
+    PropertyValue value = PropertyValue.create("value");
+
+    HBasePropEquals<EPGMVertex> vertexFilter = new HBasePropEquals<>(key, value);
+    HBaseSecondaryIndex index = new HBaseSecondaryIndex();
+    index.enablePropertyIndex("otherKey");
+
+    assertNull(vertexFilter.toIndexPrefixes(index));
+
+    index.enablePropertyIndex(key);
+    List<byte[]> prefixes = vertexFilter.toIndexPrefixes(index);
+
+    assertEquals(prefixes.size(), 1);
+    assertEquals(prefixes.get(0), index.getPropertyPrefix(key, value));
+  }
+
   /**
    * Test the toHBaseFilter function
    */
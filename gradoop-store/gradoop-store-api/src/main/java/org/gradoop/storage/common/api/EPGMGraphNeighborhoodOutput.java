@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.api;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood.EdgeDirection;
+import org.gradoop.storage.common.model.GraphNeighborhood;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Definition of a graph store output which stores the adjacency of each vertex inside its row.
+ * Neighborhoods of vertices are read from the adjacency of the vertices, instead of a scan over
+ * all edges with a source or target predicate.
+ */
+public interface EPGMGraphNeighborhoodOutput extends EPGMGraphOutput {
+
+  /**
+   * Default number of vertices whose adjacency is read by a single request
+   */
+  int DEFAULT_BATCH_SIZE = 1000;
+
+  /**
+   * Reads the adjacency of the given vertices, i.e. all edges in the given direction relative to
+   * these vertices. Vertices without adjacency are ignored.
+   *
+   * @param vertexIds vertex identifiers
+   * @param direction direction of the edges relative to the given vertices
+   * @return source and target vertex identifier by edge identifier
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   */
+  @Nonnull
+  Map<GradoopId, Tuple2<GradoopId, GradoopId>> readAdjacency(
+    @Nonnull Collection<GradoopId> vertexIds,
+    @Nonnull EdgeDirection direction
+  ) throws IOException;
+
+  /**
+   * Reads the k-hop neighborhood of the given seed vertices.
+   *
+   * @param seedIds seed vertex identifiers
+   * @param hops maximum number of hops from the seed vertices
+   * @param direction direction of the traversed edges
+   * @return neighborhood topology
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   */
+  @Nonnull
+  default GraphNeighborhood readNeighborhood(
+    @Nonnull Collection<GradoopId> seedIds,
+    int hops,
+    @Nonnull EdgeDirection direction
+  ) throws IOException {
+    return readNeighborhood(seedIds, hops, direction, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Reads the k-hop neighborhood of the given seed vertices. The neighborhood is expanded hop by
+   * hop, the adjacency of all vertices reached by the previous hop is read in batches of the
+   * given size. The neighborhood contains all vertices reachable by at most {@code hops} edges
+   * and all edges of these paths.
+   *
+   * @param seedIds seed vertex identifiers
+   * @param hops maximum number of hops from the seed vertices
+   * @param direction direction of the traversed edges
+   * @param batchSize number of vertices whose adjacency is read by a single request
+   * @return neighborhood topology
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   */
+  @Nonnull
+  default GraphNeighborhood readNeighborhood(
+    @Nonnull Collection<GradoopId> seedIds,
+    int hops,
+    @Nonnull EdgeDirection direction,
+    int batchSize
+  ) throws IOException {
+    if (hops < 0) {
+      throw new IllegalArgumentException("Number of hops must not be negative: " + hops);
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+    }
+    GraphNeighborhood neighborhood = new GraphNeighborhood(seedIds);
+    List<GradoopId> frontier = new ArrayList<>(neighborhood.getVertexIds());
+
+    for (int hop = 1; hop <= hops && !frontier.isEmpty(); hop++) {
+      List<GradoopId> nextFrontier = new ArrayList<>();
+      for (int from = 0; from < frontier.size(); from += batchSize) {
+        List<GradoopId> batch =
+          frontier.subList(from, Math.min(from + batchSize, frontier.size()));
+        for (Map.Entry<GradoopId, Tuple2<GradoopId, GradoopId>> edge :
+          readAdjacency(batch, direction).entrySet()) {
+          GradoopId sourceId = edge.getValue().f0;
+          GradoopId targetId = edge.getValue().f1;
+          neighborhood.addEdge(edge.getKey(), sourceId, targetId);
+          if (neighborhood.addVertex(sourceId, hop)) {
+            nextFrontier.add(sourceId);
+          }
+          if (neighborhood.addVertex(targetId, hop)) {
+            nextFrontier.add(targetId);
+          }
+        }
+      }
+      frontier = nextFrontier;
+    }
+    return neighborhood;
+  }
+}
@@ -24,6 +24,9 @@ import org.gradoop.storage.common.iterator.ClosableIterator;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Definition of graph store output.
@@ -82,6 +85,29 @@ public interface EPGMGraphOutput {
   @Nullable
   EPGMVertex readVertex(@Nonnull GradoopId vertexId) throws IOException;
 
+  /**
+   * Reads the vertex data entities with the given vertex identifiers from the
+   * EPGMGraphOutput. Identifiers which do not exist are not contained in the result.
+   * Implementations should override this method to read all vertices in a single
+   * round trip.
+   *
+   * @param vertexIds vertex identifiers
+   * @return vertex data entities by their identifier
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   */
+  @Nonnull
+  default Map<GradoopId, EPGMVertex> readVertices(@Nonnull Collection<GradoopId> vertexIds)
+    throws IOException {
+    Map<GradoopId, EPGMVertex> vertices = new HashMap<>();
+    for (GradoopId vertexId : vertexIds) {
+      EPGMVertex vertex = readVertex(vertexId);
+      if (vertex != null) {
+        vertices.put(vertexId, vertex);
+      }
+    }
+    return vertices;
+  }
+
   /**
    * Reads all vertices from the EPGMGraphOutput.
    *
@@ -115,6 +141,29 @@ public interface EPGMGraphOutput {
   @Nullable
   EPGMEdge readEdge(@Nonnull GradoopId edgeId) throws IOException;
 
+  /**
+   * Reads the edge data entities with the given edge identifiers from the
+   * EPGMGraphOutput. Identifiers which do not exist are not contained in the result.
+   * Implementations should override this method to read all edges in a single
+   * round trip.
+   *
+   * @param edgeIds edge identifiers
+   * @return edge data entities by their identifier
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   */
+  @Nonnull
+  default Map<GradoopId, EPGMEdge> readEdges(@Nonnull Collection<GradoopId> edgeIds)
+    throws IOException {
+    Map<GradoopId, EPGMEdge> edges = new HashMap<>();
+    for (GradoopId edgeId : edgeIds) {
+      EPGMEdge edge = readEdge(edgeId);
+      if (edge != null) {
+        edges.put(edgeId, edge);
+      }
+    }
+    return edges;
+  }
+
   /**
    * Reads all edges from the EPGMGraphOutput.
    *
@@ -0,0 +1,451 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.cache;
+
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.storage.common.api.EPGMGraphInput;
+import org.gradoop.storage.common.api.EPGMGraphOutput;
+import org.gradoop.storage.common.iterator.ClosableIterator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache around a graph store. Point reads by identifier are answered by
+ * a bounded {@link ElementCache} per element type, misses are read from the wrapped
+ * store and added to the cache. Scans of the element spaces bypass the cache. Each
+ * read returns a separate copy of the element.
+ *
+ * Writes through this instance invalidate the cached element. An element read while
+ * it is written concurrently is not added to the cache, since the read may have
+ * returned its previous version. While auto flush is disabled, written elements are
+ * not cached again until the next {@link #flush()}, since the wrapped store may still
+ * return their previous version. Writes which bypass this instance are not noticed.
+ *
+ * @param <S> type of the wrapped store
+ */
+public class CachingGraphStore<S extends EPGMGraphInput & EPGMGraphOutput>
+  implements EPGMGraphInput, EPGMGraphOutput {
+
+  /**
+   * Factory used to copy graph heads
+   */
+  private static final EPGMGraphHeadFactory GRAPH_HEAD_FACTORY = new EPGMGraphHeadFactory();
+
+  /**
+   * Factory used to copy vertices
+   */
+  private static final EPGMVertexFactory VERTEX_FACTORY = new EPGMVertexFactory();
+
+  /**
+   * Factory used to copy edges
+   */
+  private static final EPGMEdgeFactory EDGE_FACTORY = new EPGMEdgeFactory();
+
+  /**
+   * Wrapped graph store
+   */
+  private final S store;
+
+  /**
+   * Cache of graph heads
+   */
+  private final ElementCache<EPGMGraphHead> graphHeadCache;
+
+  /**
+   * Cache of vertices
+   */
+  private final ElementCache<EPGMVertex> vertexCache;
+
+  /**
+   * Cache of edges
+   */
+  private final ElementCache<EPGMEdge> edgeCache;
+
+  /**
+   * Identifiers of elements written since the last flush, mapped to the sequence
+   * number of their last write
+   */
+  private final Map<GradoopId, Long> unflushedWrites;
+
+  /**
+   * Sequence number of the last write while auto flush is disabled
+   */
+  private final AtomicLong writeSequence;
+
+  /**
+   * Flag whether the wrapped store flushes after every write
+   */
+  private volatile boolean autoFlush;
+
+  /**
+   * Creates a new caching graph store and sets the auto flush mode of the wrapped store,
+   * which has to be known to decide when written elements may be cached again.
+   *
+   * @param store wrapped graph store
+   * @param maxWeight maximum weight in bytes of each of the graph head, vertex and edge caches
+   * @param autoFlush true, if the wrapped store shall flush after every write
+   */
+  public CachingGraphStore(@Nonnull S store, long maxWeight, boolean autoFlush) {
+    this.store = store;
+    this.graphHeadCache = new ElementCache<>(maxWeight, CachingGraphStore::copyGraphHead);
+    this.vertexCache = new ElementCache<>(maxWeight, CachingGraphStore::copyVertex);
+    this.edgeCache = new ElementCache<>(maxWeight, CachingGraphStore::copyEdge);
+    this.unflushedWrites = new ConcurrentHashMap<>();
+    this.writeSequence = new AtomicLong();
+    this.store.setAutoFlush(autoFlush);
+    this.autoFlush = autoFlush;
+  }
+
+  /**
+   * Returns the wrapped graph store, e.g. to run queries which bypass the cache.
+   *
+   * @return wrapped graph store
+   */
+  public S getStore() {
+    return store;
+  }
+
+  /**
+   * Returns the cache of graph heads.
+   *
+   * @return graph head cache
+   */
+  public ElementCache<EPGMGraphHead> getGraphHeadCache() {
+    return graphHeadCache;
+  }
+
+  /**
+   * Returns the cache of vertices.
+   *
+   * @return vertex cache
+   */
+  public ElementCache<EPGMVertex> getVertexCache() {
+    return vertexCache;
+  }
+
+  /**
+   * Returns the cache of edges.
+   *
+   * @return edge cache
+   */
+  public ElementCache<EPGMEdge> getEdgeCache() {
+    return edgeCache;
+  }
+
+  /**
+   * Returns the number of point reads answered by the caches.
+   *
+   * @return hit count of all caches
+   */
+  public long getHitCount() {
+    return graphHeadCache.getHitCount() + vertexCache.getHitCount() + edgeCache.getHitCount();
+  }
+
+  /**
+   * Returns the number of point reads forwarded to the wrapped store.
+   *
+   * @return miss count of all caches
+   */
+  public long getMissCount() {
+    return graphHeadCache.getMissCount() + vertexCache.getMissCount() + edgeCache.getMissCount();
+  }
+
+  /**
+   * Removes all elements from the caches.
+   */
+  public void invalidateAll() {
+    graphHeadCache.invalidateAll();
+    vertexCache.invalidateAll();
+    edgeCache.invalidateAll();
+  }
+
+  @Override
+  public void writeGraphHead(@Nonnull GraphHead graphData) throws IOException {
+    store.writeGraphHead(graphData);
+    invalidate(graphHeadCache, graphData.getId());
+  }
+
+  @Override
+  public void writeVertex(@Nonnull Vertex vertexData) throws IOException {
+    store.writeVertex(vertexData);
+    invalidate(vertexCache, vertexData.getId());
+  }
+
+  @Override
+  public void writeEdge(@Nonnull Edge edgeData) throws IOException {
+    store.writeEdge(edgeData);
+    invalidate(edgeCache, edgeData.getId());
+  }
+
+  @Override
+  public void setAutoFlush(boolean autoFlush) {
+    store.setAutoFlush(autoFlush);
+    this.autoFlush = autoFlush;
+  }
+
+  /**
+   * {@inheritDoc}
+   * Elements written before the flush may be cached again afterwards. Elements written
+   * concurrently to the flush stay excluded from the cache until the next flush.
+   */
+  @Override
+  public void flush() throws IOException {
+    Map<GradoopId, Long> flushedWrites = new HashMap<>(unflushedWrites);
+    store.flush();
+    for (Map.Entry<GradoopId, Long> write : flushedWrites.entrySet()) {
+      // invalidate again, since a previous version may have been read during the flush
+      graphHeadCache.invalidate(write.getKey());
+      vertexCache.invalidate(write.getKey());
+      edgeCache.invalidate(write.getKey());
+      unflushedWrites.remove(write.getKey(), write.getValue());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    invalidateAll();
+    unflushedWrites.clear();
+    store.close();
+  }
+
+  @Nullable
+  @Override
+  public EPGMGraphHead readGraph(@Nonnull GradoopId graphId) throws IOException {
+    EPGMGraphHead graphHead = graphHeadCache.get(graphId);
+    if (graphHead == null) {
+      long generation = graphHeadCache.getGeneration(graphId);
+      graphHead = store.readGraph(graphId);
+      cache(graphHeadCache, graphHead, generation);
+    }
+    return graphHead;
+  }
+
+  @Nullable
+  @Override
+  public EPGMVertex readVertex(@Nonnull GradoopId vertexId) throws IOException {
+    EPGMVertex vertex = vertexCache.get(vertexId);
+    if (vertex == null) {
+      long generation = vertexCache.getGeneration(vertexId);
+      vertex = store.readVertex(vertexId);
+      cache(vertexCache, vertex, generation);
+    }
+    return vertex;
+  }
+
+  @Nullable
+  @Override
+  public EPGMEdge readEdge(@Nonnull GradoopId edgeId) throws IOException {
+    EPGMEdge edge = edgeCache.get(edgeId);
+    if (edge == null) {
+      long generation = edgeCache.getGeneration(edgeId);
+      edge = store.readEdge(edgeId);
+      cache(edgeCache, edge, generation);
+    }
+    return edge;
+  }
+
+  /**
+   * {@inheritDoc}
+   * All cache misses are read from the wrapped store by a single batched read.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, EPGMVertex> readVertices(@Nonnull Collection<GradoopId> vertexIds)
+    throws IOException {
+    Map<GradoopId, EPGMVertex> vertices = new HashMap<>();
+    Map<GradoopId, Long> missingIds = lookup(vertexCache, vertexIds, vertices);
+    if (!missingIds.isEmpty()) {
+      for (EPGMVertex vertex : store.readVertices(missingIds.keySet()).values()) {
+        cache(vertexCache, vertex, missingIds.get(vertex.getId()));
+        vertices.put(vertex.getId(), vertex);
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * {@inheritDoc}
+   * All cache misses are read from the wrapped store by a single batched read.
+   */
+  @Nonnull
+  @Override
+  public Map<GradoopId, EPGMEdge> readEdges(@Nonnull Collection<GradoopId> edgeIds)
+    throws IOException {
+    Map<GradoopId, EPGMEdge> edges = new HashMap<>();
+    Map<GradoopId, Long> missingIds = lookup(edgeCache, edgeIds, edges);
+    if (!missingIds.isEmpty()) {
+      for (EPGMEdge edge : store.readEdges(missingIds.keySet()).values()) {
+        cache(edgeCache, edge, missingIds.get(edge.getId()));
+        edges.put(edge.getId(), edge);
+      }
+    }
+    return edges;
+  }
+
+  @Nonnull
+  @Override
+  public ClosableIterator<EPGMGraphHead> getGraphSpace(int cacheSize) throws IOException {
+    return store.getGraphSpace(cacheSize);
+  }
+
+  @Nonnull
+  @Override
+  public ClosableIterator<EPGMVertex> getVertexSpace(int cacheSize) throws IOException {
+    return store.getVertexSpace(cacheSize);
+  }
+
+  @Nonnull
+  @Override
+  public ClosableIterator<EPGMEdge> getEdgeSpace(int cacheSize) throws IOException {
+    return store.getEdgeSpace(cacheSize);
+  }
+
+  /**
+   * Collects all cached elements with the given identifiers.
+   *
+   * @param cache element cache
+   * @param ids element identifiers
+   * @param found map to add the cached elements to
+   * @param <T> element type
+   * @return identifiers of all elements not found in the cache and their write generation
+   */
+  private <T extends Element> Map<GradoopId, Long> lookup(
+    ElementCache<T> cache, Collection<GradoopId> ids, Map<GradoopId, T> found) {
+    Map<GradoopId, Long> missingIds = new HashMap<>();
+    for (GradoopId id : ids) {
+      T element = cache.get(id);
+      if (element != null) {
+        found.put(id, element);
+      } else {
+        missingIds.put(id, cache.getGeneration(id));
+      }
+    }
+    return missingIds;
+  }
+
+  /**
+   * Adds an element read from the wrapped store to the cache, unless it was written
+   * since the last flush or since the given write generation was obtained.
+   *
+   * @param cache element cache
+   * @param element element read from the store or {@code null}
+   * @param generation write generation obtained before the element was read
+   * @param <T> element type
+   */
+  private <T extends Element> void cache(ElementCache<T> cache, @Nullable T element,
+    long generation) {
+    if (element != null && !unflushedWrites.containsKey(element.getId())) {
+      cache.put(element, generation);
+    }
+  }
+
+  /**
+   * Removes a written element from the cache and remembers it until the next flush.
+   * The identifier is remembered before the invalidation, thus a concurrent reader
+   * either notices the write or its read is discarded by the new write generation.
+   *
+   * @param cache element cache
+   * @param id identifier of the written element
+   * @param <T> element type
+   */
+  private <T extends Element> void invalidate(ElementCache<T> cache, GradoopId id) {
+    if (!autoFlush) {
+      unflushedWrites.put(id, writeSequence.incrementAndGet());
+    }
+    cache.invalidate(id);
+  }
+
+  /**
+   * Creates a copy of a graph head.
+   *
+   * @param graphHead graph head
+   * @return copy of the graph head
+   */
+  private static EPGMGraphHead copyGraphHead(EPGMGraphHead graphHead) {
+    return GRAPH_HEAD_FACTORY.initGraphHead(graphHead.getId(), graphHead.getLabel(),
+      copyProperties(graphHead.getProperties()));
+  }
+
+  /**
+   * Creates a copy of a vertex.
+   *
+   * @param vertex vertex
+   * @return copy of the vertex
+   */
+  private static EPGMVertex copyVertex(EPGMVertex vertex) {
+    return VERTEX_FACTORY.initVertex(vertex.getId(), vertex.getLabel(),
+      copyProperties(vertex.getProperties()), copyGraphIds(vertex.getGraphIds()));
+  }
+
+  /**
+   * Creates a copy of an edge.
+   *
+   * @param edge edge
+   * @return copy of the edge
+   */
+  private static EPGMEdge copyEdge(EPGMEdge edge) {
+    return EDGE_FACTORY.initEdge(edge.getId(), edge.getLabel(), edge.getSourceId(),
+      edge.getTargetId(), copyProperties(edge.getProperties()),
+      copyGraphIds(edge.getGraphIds()));
+  }
+
+  /**
+   * Creates a deep copy of the given properties.
+   *
+   * @param properties properties or {@code null}
+   * @return copy of the properties or {@code null}
+   */
+  private static Properties copyProperties(@Nullable Properties properties) {
+    if (properties == null) {
+      return null;
+    }
+    Properties copy = Properties.createWithCapacity(properties.size());
+    for (Property property : properties) {
+      copy.set(property.getKey(), property.getValue().copy());
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a copy of the given graph identifiers.
+   *
+   * @param graphIds graph identifiers or {@code null}
+   * @return copy of the graph identifiers or {@code null}
+   */
+  private static GradoopIdSet copyGraphIds(@Nullable GradoopIdSet graphIds) {
+    return graphIds == null ? null : graphIds.copy();
+  }
+}
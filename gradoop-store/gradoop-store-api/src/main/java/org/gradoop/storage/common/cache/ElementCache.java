@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.cache;
+
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.Property;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded least-recently-used cache of EPGM elements. The cache is bounded by the
+ * estimated byte size of its elements (see {@link #weigh(Element)}) instead of their
+ * number, thus a few large elements can not blow up the memory footprint.
+ *
+ * Elements are copied when they are added to and returned from the cache, thus callers
+ * may modify them without affecting the cached version.
+ *
+ * Every invalidation increments a write generation of the element identifier. A reader
+ * which fetched an element from the underlying storage adds it by {@link #put(Element, long)}
+ * with the generation obtained before the read. The element is not cached if it was
+ * invalidated in between, since it may be outdated. To bound the memory footprint, the
+ * generations are kept per stripe of identifiers instead of per identifier.
+ *
+ * @param <T> element type
+ */
+public class ElementCache<T extends Element> {
+
+  /**
+   * Number of stripes the write generations of the identifiers are kept for
+   */
+  private static final int GENERATION_STRIPES = 64;
+
+  /**
+   * Function creating a copy of an element
+   */
+  private final UnaryOperator<T> copyFunction;
+
+  /**
+   * Maximum accumulated weight of all cached elements in bytes
+   */
+  private final long maxWeight;
+
+  /**
+   * Cached elements in access order, together with their weight
+   */
+  private final LinkedHashMap<GradoopId, Entry<T>> entries;
+
+  /**
+   * Write generation of each stripe of identifiers
+   */
+  private final long[] generations;
+
+  /**
+   * Accumulated weight of all cached elements in bytes
+   */
+  private long weight;
+
+  /**
+   * Number of lookups answered by the cache
+   */
+  private long hitCount;
+
+  /**
+   * Number of lookups not answered by the cache
+   */
+  private long missCount;
+
+  /**
+   * Creates a new element cache.
+   *
+   * @param maxWeight maximum accumulated weight of all cached elements in bytes
+   * @param copyFunction function creating a copy of an element
+   */
+  public ElementCache(long maxWeight, @Nonnull UnaryOperator<T> copyFunction) {
+    if (maxWeight <= 0) {
+      throw new IllegalArgumentException("Maximum weight must be positive, was " + maxWeight);
+    }
+    this.maxWeight = maxWeight;
+    this.copyFunction = copyFunction;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    this.generations = new long[GENERATION_STRIPES];
+  }
+
+  /**
+   * Returns a copy of the cached element with the given identifier and marks it as
+   * recently used.
+   *
+   * @param id element identifier
+   * @return copy of the cached element or {@code null} if the element is not cached
+   */
+  @Nullable
+  public T get(@Nonnull GradoopId id) {
+    T element;
+    synchronized (this) {
+      Entry<T> entry = entries.get(id);
+      if (entry == null) {
+        missCount++;
+        return null;
+      }
+      hitCount++;
+      element = entry.element;
+    }
+    // the cached instance is never modified, thus it can be copied outside of the lock
+    return copyFunction.apply(element);
+  }
+
+  /**
+   * Returns the write generation of the given identifier, which has to be obtained
+   * before reading the element from the underlying storage.
+   *
+   * @param id element identifier
+   * @return current write generation
+   */
+  public synchronized long getGeneration(@Nonnull GradoopId id) {
+    return generations[stripe(id)];
+  }
+
+  /**
+   * Adds a copy of the given element to the cache and evicts the least recently used
+   * elements until the maximum weight is satisfied. Elements heavier than the maximum
+   * weight are not cached.
+   *
+   * @param element element to cache
+   */
+  public void put(@Nonnull T element) {
+    T copy = copyFunction.apply(element);
+    synchronized (this) {
+      add(copy);
+    }
+  }
+
+  /**
+   * Adds a copy of the given element to the cache, unless its identifier was invalidated
+   * since the given write generation was obtained.
+   *
+   * @param element element to cache
+   * @param generation write generation obtained before the element was read
+   * @return true, iff the element was added to the cache
+   */
+  public boolean put(@Nonnull T element, long generation) {
+    T copy = copyFunction.apply(element);
+    synchronized (this) {
+      if (generations[stripe(element.getId())] != generation) {
+        return false;
+      }
+      return add(copy);
+    }
+  }
+
+  /**
+   * Adds the given element to the cache and evicts the least recently used elements
+   * until the maximum weight is satisfied.
+   *
+   * @param element element to cache
+   * @return true, iff the element was added to the cache
+   */
+  private boolean add(T element) {
+    long elementWeight = weigh(element);
+    if (elementWeight > maxWeight) {
+      remove(element.getId());
+      return false;
+    }
+    Entry<T> previous = entries.put(element.getId(), new Entry<>(element, elementWeight));
+    if (previous != null) {
+      weight -= previous.weight;
+    }
+    weight += elementWeight;
+
+    Iterator<Entry<T>> lruIterator = entries.values().iterator();
+    while (weight > maxWeight) {
+      weight -= lruIterator.next().weight;
+      lruIterator.remove();
+    }
+    return true;
+  }
+
+  /**
+   * Removes the element with the given identifier from the cache and increments the
+   * write generation of the identifier.
+   *
+   * @param id element identifier
+   */
+  public synchronized void invalidate(@Nonnull GradoopId id) {
+    generations[stripe(id)]++;
+    remove(id);
+  }
+
+  /**
+   * Removes all elements from the cache and increments the write generations of all
+   * identifiers. The hit and miss counters are kept.
+   */
+  public synchronized void invalidateAll() {
+    for (int i = 0; i < generations.length; i++) {
+      generations[i]++;
+    }
+    entries.clear();
+    weight = 0;
+  }
+
+  /**
+   * Returns the number of cached elements.
+   *
+   * @return number of cached elements
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the accumulated weight of all cached elements.
+   *
+   * @return accumulated weight in bytes
+   */
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  /**
+   * Returns the maximum accumulated weight of all cached elements.
+   *
+   * @return maximum weight in bytes
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Returns the number of lookups answered by the cache.
+   *
+   * @return hit count
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of lookups not answered by the cache.
+   *
+   * @return miss count
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Estimates the byte size of an element by the size of its identifiers, its label
+   * and its serialized properties.
+   *
+   * @param element element to weigh
+   * @return estimated byte size
+   */
+  public static long weigh(@Nonnull Element element) {
+    long size = GradoopId.ID_SIZE;
+    if (element.getLabel() != null) {
+      size += element.getLabel().length();
+    }
+    if (element.getProperties() != null) {
+      for (Property property : element.getProperties()) {
+        size += property.getKey().length() + property.getValue().byteSize();
+      }
+    }
+    if (element instanceof GraphElement) {
+      size += (long) ((GraphElement) element).getGraphCount() * GradoopId.ID_SIZE;
+    }
+    if (element instanceof Edge) {
+      size += 2 * GradoopId.ID_SIZE;
+    }
+    return size;
+  }
+
+  /**
+   * Removes the element with the given identifier from the cache.
+   *
+   * @param id element identifier
+   */
+  private void remove(GradoopId id) {
+    Entry<T> previous = entries.remove(id);
+    if (previous != null) {
+      weight -= previous.weight;
+    }
+  }
+
+  /**
+   * Returns the stripe of write generations the given identifier belongs to.
+   *
+   * @param id element identifier
+   * @return stripe index
+   */
+  private static int stripe(GradoopId id) {
+    return (id.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format("ElementCache{size=%d, weight=%d/%d, hits=%d, misses=%d}",
+      entries.size(), weight, maxWeight, hitCount, missCount);
+  }
+
+  /**
+   * A cached element together with its weight.
+   *
+   * @param <T> element type
+   */
+  private static class Entry<T> {
+
+    /**
+     * Cached element
+     */
+    private final T element;
+
+    /**
+     * Weight of the cached element in bytes
+     */
+    private final long weight;
+
+    /**
+     * Creates a new cache entry.
+     *
+     * @param element cached element
+     * @param weight weight of the cached element in bytes
+     */
+    Entry(T element, long weight) {
+      this.element = element;
+      this.weight = weight;
+    }
+  }
+}
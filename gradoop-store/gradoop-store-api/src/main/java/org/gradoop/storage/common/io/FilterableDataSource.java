@@ -16,6 +16,7 @@
 package org.gradoop.storage.common.io;
 
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.storage.common.predicate.query.ElementProjection;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 
 import javax.annotation.Nonnull;
@@ -23,7 +24,9 @@ import javax.annotation.Nonnull;
 /**
  * Data source with support for filter push-down. A Source
  * extending this interface is able to filter records such
- * that the returned DataSet returns fewer records.
+ * that the returned DataSet returns fewer records. If a query
+ * contains an {@link ElementProjection}, only the projected
+ * columns of each record are fetched from the store.
  *
  * @param <GQuery> graph element filter
  * @param <VQuery> vertex element filter
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.model;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Topology of the k-hop neighborhood of a set of seed vertices, as read from the adjacency of a
+ * graph store. It contains the identifiers of all reached vertices along with their hop distance
+ * to the nearest seed vertex and all traversed edges along with their source and target vertex.
+ * The elements themselves can be read by their identifiers afterwards.
+ */
+public class GraphNeighborhood {
+
+  /**
+   * Hop distance to the nearest seed vertex by vertex identifier, in order of discovery
+   */
+  private final Map<GradoopId, Integer> distances = new LinkedHashMap<>();
+
+  /**
+   * Source and target vertex identifier by edge identifier, in order of discovery
+   */
+  private final Map<GradoopId, Tuple2<GradoopId, GradoopId>> edges = new LinkedHashMap<>();
+
+  /**
+   * Creates a neighborhood which contains the given seed vertices only.
+   *
+   * @param seedIds seed vertex identifiers
+   */
+  public GraphNeighborhood(@Nonnull Iterable<GradoopId> seedIds) {
+    seedIds.forEach(seedId -> addVertex(seedId, 0));
+  }
+
+  /**
+   * Adds a vertex reached after the given number of hops, if it is not contained yet.
+   *
+   * @param vertexId vertex identifier
+   * @param distance hop distance to the nearest seed vertex
+   * @return true, if the vertex was not contained before
+   */
+  public boolean addVertex(@Nonnull GradoopId vertexId, int distance) {
+    return distances.putIfAbsent(vertexId, distance) == null;
+  }
+
+  /**
+   * Adds a traversed edge, if it is not contained yet.
+   *
+   * @param edgeId edge identifier
+   * @param sourceId source vertex identifier
+   * @param targetId target vertex identifier
+   * @return true, if the edge was not contained before
+   */
+  public boolean addEdge(
+    @Nonnull GradoopId edgeId,
+    @Nonnull GradoopId sourceId,
+    @Nonnull GradoopId targetId
+  ) {
+    return edges.putIfAbsent(edgeId, Tuple2.of(sourceId, targetId)) == null;
+  }
+
+  /**
+   * Get the identifiers of all vertices in the neighborhood, including the seed vertices
+   *
+   * @return vertex identifiers
+   */
+  @Nonnull
+  public Set<GradoopId> getVertexIds() {
+    return Collections.unmodifiableSet(distances.keySet());
+  }
+
+  /**
+   * Get the hop distance of a vertex to the nearest seed vertex
+   *
+   * @param vertexId vertex identifier
+   * @return hop distance, {@code null} if the vertex is not part of the neighborhood
+   */
+  @Nullable
+  public Integer getDistance(@Nonnull GradoopId vertexId) {
+    return distances.get(vertexId);
+  }
+
+  /**
+   * Get the identifiers of all edges in the neighborhood
+   *
+   * @return edge identifiers
+   */
+  @Nonnull
+  public Set<GradoopId> getEdgeIds() {
+    return Collections.unmodifiableSet(edges.keySet());
+  }
+
+  /**
+   * Get the source and target vertex identifier of an edge
+   *
+   * @param edgeId edge identifier
+   * @return source and target vertex identifier, {@code null} if the edge is not part of the
+   * neighborhood
+   */
+  @Nullable
+  public Tuple2<GradoopId, GradoopId> getEdge(@Nonnull GradoopId edgeId) {
+    return edges.get(edgeId);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("NEIGHBORHOOD VERTICES %s EDGES %s", distances, edges);
+  }
+}
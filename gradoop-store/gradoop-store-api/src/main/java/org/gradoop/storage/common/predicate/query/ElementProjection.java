@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.predicate.query;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Element Projection
+ * <p>
+ * A projection limits the columns which are fetched for each result element of a query
+ * <ul>
+ * <li>property keys (all properties, if not restricted)</li>
+ * <li>label (an excluded label is returned as empty string)</li>
+ * <li>graph ids (excluded graph ids are returned as empty set)</li>
+ * </ul>
+ * Columns referenced by the filter of a query are still evaluated by the store, even if they
+ * are not part of the projection.
+ *
+ * @see ElementQuery.BuilderWithRange#select(ElementProjection)
+ */
+public class ElementProjection implements Serializable {
+
+  /**
+   * projected property keys, {@code null} for all properties
+   */
+  private final Set<String> propertyKeys;
+
+  /**
+   * flag to fetch the element label
+   */
+  private final boolean label;
+
+  /**
+   * flag to fetch the graph ids of an element
+   */
+  private final boolean graphIds;
+
+  /**
+   * element projection constructor
+   *
+   * @param propertyKeys projected property keys, {@code null} for all properties
+   * @param label flag to fetch the element label
+   * @param graphIds flag to fetch the graph ids of an element
+   */
+  private ElementProjection(
+    @Nullable Set<String> propertyKeys,
+    boolean label,
+    boolean graphIds
+  ) {
+    this.propertyKeys = propertyKeys;
+    this.label = label;
+    this.graphIds = graphIds;
+  }
+
+  /**
+   * projection of all columns
+   *
+   * @return projection without restriction
+   */
+  @Nonnull
+  public static ElementProjection all() {
+    return new ElementProjection(null, true, true);
+  }
+
+  /**
+   * projection of the given property keys, label and graph ids
+   *
+   * @param keys projected property keys
+   * @return projection restricted to the given property keys
+   */
+  @Nonnull
+  public static ElementProjection properties(@Nonnull String... keys) {
+    return new ElementProjection(
+      Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(keys))), true, true);
+  }
+
+  /**
+   * copy of this projection, which excludes the element label
+   *
+   * @return projection without label
+   */
+  @Nonnull
+  public ElementProjection withoutLabel() {
+    return new ElementProjection(propertyKeys, false, graphIds);
+  }
+
+  /**
+   * copy of this projection, which excludes the graph ids of an element
+   *
+   * @return projection without graph ids
+   */
+  @Nonnull
+  public ElementProjection withoutGraphIds() {
+    return new ElementProjection(propertyKeys, label, false);
+  }
+
+  /**
+   * get projected property keys
+   *
+   * @return projected property keys, {@code null} for all properties
+   */
+  @Nullable
+  public Set<String> getPropertyKeys() {
+    return propertyKeys;
+  }
+
+  /**
+   * check if a property key is part of the projection
+   *
+   * @param key property key
+   * @return true, if the property should be returned
+   */
+  public boolean isPropertyProjected(@Nonnull String key) {
+    return propertyKeys == null || propertyKeys.contains(key);
+  }
+
+  /**
+   * check if the label is part of the projection
+   *
+   * @return true, if the label should be returned
+   */
+  public boolean isLabelProjected() {
+    return label;
+  }
+
+  /**
+   * check if the graph ids are part of the projection
+   *
+   * @return true, if the graph ids should be returned
+   */
+  public boolean isGraphIdsProjected() {
+    return graphIds;
+  }
+
+  /**
+   * Remove all columns from an element, which are not part of this projection.
+   * This is used by stores, after the element filter was evaluated on all fetched columns.
+   *
+   * @param element element to project, will be modified
+   * @param <E> element type
+   * @return the projected element
+   */
+  @Nonnull
+  public <E extends Element> E apply(@Nonnull E element) {
+    if (propertyKeys != null && element.getProperties() != null) {
+      Properties projected = Properties.createWithCapacity(propertyKeys.size());
+      for (Property property : element.getProperties()) {
+        if (propertyKeys.contains(property.getKey())) {
+          projected.set(property);
+        }
+      }
+      element.setProperties(projected);
+    }
+    if (!label) {
+      element.setLabel("");
+    }
+    if (!graphIds && element instanceof GraphElement) {
+      ((GraphElement) element).setGraphIds(new GradoopIdSet());
+    }
+    return element;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(propertyKeys == null ? "*" :
+      String.join(",", propertyKeys));
+    if (label) {
+      builder.append(",:label");
+    }
+    if (graphIds) {
+      builder.append(",:graphs");
+    }
+    return builder.toString();
+  }
+
+}
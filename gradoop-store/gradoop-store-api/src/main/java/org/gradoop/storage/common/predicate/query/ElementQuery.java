@@ -32,6 +32,7 @@ import java.util.stream.Collectors;
  * <ul>
  * <li>id range set (which define the query id range of result element)</li>
  * <li>element filter expression (which define should a result element be return from server)</li>
+ * <li>element projection (which define the columns of a result element fetched from server)</li>
  * </ul>
  *
  * @see Query#elements()
@@ -49,17 +50,25 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
    */
   private final FilterImpl filter;
 
+  /**
+   * column projection
+   */
+  private final ElementProjection projection;
+
   /**
    * element query with range constructor
    * @param range element query range
    * @param filter filter definition
+   * @param projection projection definition
    */
   private ElementQuery(
     @Nullable GradoopIdSet range,
-    @Nullable FilterImpl filter
+    @Nullable FilterImpl filter,
+    @Nullable ElementProjection projection
   ) {
     this.ranges = range;
     this.filter = filter;
+    this.projection = projection;
   }
 
   /**
@@ -82,9 +91,20 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
     return ranges;
   }
 
+  /**
+   * get column projection
+   *
+   * @return projection definition, {@code null} for all columns
+   */
+  @Nullable
+  public ElementProjection getProjection() {
+    return projection;
+  }
+
   @Override
   public String toString() {
-    return String.format("QUERY ELEMENT FROM %1$s %2$s",
+    return String.format("QUERY ELEMENT %1$sFROM %2$s %3$s",
+      projection == null ? "" : ("SELECT " + projection + " "),
       ranges == null ? "ALL" : ranges,
       filter == null ? "" : ("WHERE " + filter));
   }
@@ -142,7 +162,8 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
   }
 
   /**
-   * {@code Builder - (set range) -> [BuilderWithRange] -(set filter) -> ElementQuery}
+   * {@code Builder - (set range) -> [BuilderWithRange] -(set projection, optional)
+   *   -(set filter) -> ElementQuery}
    */
   public static class BuilderWithRange {
 
@@ -151,12 +172,38 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
      */
     private final GradoopIdSet range;
 
+    /**
+     * column projection
+     */
+    private final ElementProjection projection;
+
     /**
      * element query with range constructor
      * @param range element query range
      */
     BuilderWithRange(@Nullable GradoopIdSet range) {
+      this(range, null);
+    }
+
+    /**
+     * element query with range and projection constructor
+     * @param range element query range
+     * @param projection column projection
+     */
+    private BuilderWithRange(@Nullable GradoopIdSet range, @Nullable ElementProjection projection) {
       this.range = range;
+      this.projection = projection;
+    }
+
+    /**
+     * fetch only the columns of the given projection
+     *
+     * @param projection column projection
+     * @return element query with range and projection
+     */
+    @Nonnull
+    public BuilderWithRange select(@Nonnull ElementProjection projection) {
+      return new BuilderWithRange(range, projection);
     }
 
     /**
@@ -167,7 +214,7 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
      */
     @Nonnull
     public <FilterImpl extends ElementFilter> ElementQuery<FilterImpl> noFilter() {
-      return new ElementQuery<>(range, null);
+      return new ElementQuery<>(range, null, projection);
     }
 
     /**
@@ -181,7 +228,7 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
     public <FilterImpl extends ElementFilter> ElementQuery<FilterImpl> where(
       @Nonnull FilterImpl filter
     ) {
-      return new ElementQuery<>(range, filter);
+      return new ElementQuery<>(range, filter, projection);
     }
 
   }
@@ -0,0 +1,355 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.cache;
+
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.storage.common.api.EPGMGraphInput;
+import org.gradoop.storage.common.api.EPGMGraphOutput;
+import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CachingGraphStoreTest {
+
+  private static final EPGMGraphHeadFactory GRAPH_HEAD_FACTORY = new EPGMGraphHeadFactory();
+
+  private static final EPGMVertexFactory VERTEX_FACTORY = new EPGMVertexFactory();
+
+  private static final EPGMEdgeFactory EDGE_FACTORY = new EPGMEdgeFactory();
+
+  private InMemoryGraphStore store;
+
+  private EPGMGraphHead graphHead;
+
+  private EPGMVertex v1;
+
+  private EPGMVertex v2;
+
+  private EPGMEdge edge;
+
+  @Before
+  public void setUp() throws IOException {
+    store = new InMemoryGraphStore();
+    graphHead = GRAPH_HEAD_FACTORY.createGraphHead("Graph", createProperties(0));
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(graphHead.getId());
+    v1 = VERTEX_FACTORY.createVertex("Vertex", createProperties(1), graphIds);
+    v2 = VERTEX_FACTORY.createVertex("Vertex", createProperties(2), graphIds);
+    edge = EDGE_FACTORY.createEdge("edge", v1.getId(), v2.getId(), createProperties(3), graphIds);
+    store.writeGraphHead(graphHead);
+    store.writeVertex(v1);
+    store.writeVertex(v2);
+    store.writeEdge(edge);
+  }
+
+  @Test
+  public void testAutoFlushIsPassedToStore() {
+    new CachingGraphStore<>(store, 1 << 10, false);
+    assertFalse(store.autoFlush);
+    new CachingGraphStore<>(store, 1 << 10, true);
+    assertTrue(store.autoFlush);
+  }
+
+  @Test
+  public void testReadThrough() throws IOException {
+    CachingGraphStore<InMemoryGraphStore> cachingStore =
+      new CachingGraphStore<>(store, 1 << 10, true);
+
+    assertEquals(1, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(1, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(1, store.readCount);
+    assertEquals(1, cachingStore.getHitCount());
+    assertEquals(1, cachingStore.getMissCount());
+
+    // only the missing vertex is read from the store
+    Map<GradoopId, EPGMVertex> vertices =
+      cachingStore.readVertices(Arrays.asList(v1.getId(), v2.getId()));
+    assertEquals(2, vertices.size());
+    assertEquals(2, vertices.get(v2.getId()).getPropertyValue("key").getInt());
+    assertEquals(2, store.readCount);
+    assertEquals(2, cachingStore.getVertexCache().size());
+
+    cachingStore.readGraph(graphHead.getId());
+    cachingStore.readGraph(graphHead.getId());
+    cachingStore.readEdge(edge.getId());
+    cachingStore.readEdges(Arrays.asList(edge.getId(), GradoopId.get()));
+    assertEquals(5, store.readCount);
+    assertEquals(1, cachingStore.getGraphHeadCache().getHitCount());
+    assertEquals(1, cachingStore.getEdgeCache().getHitCount());
+  }
+
+  @Test
+  public void testWriteInvalidates() throws IOException {
+    CachingGraphStore<InMemoryGraphStore> cachingStore =
+      new CachingGraphStore<>(store, 1 << 10, true);
+    cachingStore.readVertex(v1.getId());
+
+    cachingStore.writeVertex(updateVertex(v1, 10));
+    assertEquals(0, cachingStore.getVertexCache().size());
+
+    // the flushed write is cached again by the next read
+    assertEquals(10, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(1, cachingStore.getVertexCache().size());
+    assertEquals(10, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(2, store.readCount);
+  }
+
+  @Test
+  public void testUnflushedWritesAreNotCached() throws IOException {
+    CachingGraphStore<InMemoryGraphStore> cachingStore =
+      new CachingGraphStore<>(store, 1 << 10, false);
+    cachingStore.readVertex(v1.getId());
+
+    cachingStore.writeVertex(updateVertex(v1, 10));
+    assertEquals(0, cachingStore.getVertexCache().size());
+
+    // the store still returns the previous version, which must not be cached
+    assertEquals(1, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(0, cachingStore.getVertexCache().size());
+
+    // unwritten elements are still cached
+    cachingStore.readVertex(v2.getId());
+    assertEquals(1, cachingStore.getVertexCache().size());
+
+    cachingStore.flush();
+    assertEquals(10, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(2, cachingStore.getVertexCache().size());
+    assertEquals(10, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(4, store.readCount);
+  }
+
+  @Test
+  public void testWriteDuringRead() throws IOException {
+    CachingGraphStore<InMemoryGraphStore> cachingStore =
+      new CachingGraphStore<>(store, 1 << 10, true);
+
+    // the vertex is written after the store returned its previous version
+    store.readHook = () -> cachingStore.writeVertex(updateVertex(v1, 10));
+    assertEquals(1, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(0, cachingStore.getVertexCache().size());
+
+    assertEquals(10, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(1, cachingStore.getVertexCache().size());
+  }
+
+  @Test
+  public void testFlushDuringRead() throws IOException {
+    CachingGraphStore<InMemoryGraphStore> cachingStore =
+      new CachingGraphStore<>(store, 1 << 10, false);
+    cachingStore.writeVertex(updateVertex(v1, 10));
+
+    // the write is flushed after the store returned the previous version
+    store.readHook = cachingStore::flush;
+    assertEquals(1, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(0, cachingStore.getVertexCache().size());
+
+    assertEquals(10, cachingStore.readVertex(v1.getId()).getPropertyValue("key").getInt());
+    assertEquals(1, cachingStore.getVertexCache().size());
+  }
+
+  @Test
+  public void testReturnedElementsAreCopies() throws IOException {
+    CachingGraphStore<InMemoryGraphStore> cachingStore =
+      new CachingGraphStore<>(store, 1 << 10, true);
+
+    // modify the element returned by a miss and by a hit
+    EPGMVertex vertex = cachingStore.readVertex(v1.getId());
+    vertex.setProperty("key", 10);
+    vertex = cachingStore.readVertex(v1.getId());
+    assertEquals(1, vertex.getPropertyValue("key").getInt());
+    vertex.setLabel("Modified");
+    vertex.setProperty("key", 10);
+    vertex.addGraphId(GradoopId.get());
+
+    vertex = cachingStore.readVertex(v1.getId());
+    assertEquals("Vertex", vertex.getLabel());
+    assertEquals(1, vertex.getPropertyValue("key").getInt());
+    assertEquals(1, vertex.getGraphCount());
+
+    EPGMEdge cachedEdge = cachingStore.readEdges(Arrays.asList(edge.getId())).get(edge.getId());
+    cachedEdge.setProperty("key", 10);
+    cachedEdge = cachingStore.readEdge(edge.getId());
+    assertEquals(3, cachedEdge.getPropertyValue("key").getInt());
+    cachedEdge.setProperty("key", 10);
+    assertEquals(3, cachingStore.readEdge(edge.getId()).getPropertyValue("key").getInt());
+    assertEquals(2, store.readCount);
+  }
+
+  private static Properties createProperties(int value) {
+    Properties properties = Properties.create();
+    properties.set("key", value);
+    return properties;
+  }
+
+  private static EPGMVertex updateVertex(EPGMVertex vertex, int value) {
+    return VERTEX_FACTORY.initVertex(vertex.getId(), vertex.getLabel(), createProperties(value),
+      vertex.getGraphIds().copy());
+  }
+
+  private static Properties copyProperties(Properties properties) {
+    Properties copy = Properties.create();
+    properties.forEach(p -> copy.set(p.getKey(), p.getValue().copy()));
+    return copy;
+  }
+
+  /**
+   * Operation of the in-memory store which may fail.
+   */
+  private interface IOOperation {
+    void run() throws IOException;
+  }
+
+  /**
+   * Graph store keeping copies of the flushed elements in memory.
+   */
+  private static class InMemoryGraphStore implements EPGMGraphInput, EPGMGraphOutput {
+
+    private final Map<GradoopId, GraphHead> graphHeads = new HashMap<>();
+
+    private final Map<GradoopId, Vertex> vertices = new HashMap<>();
+
+    private final Map<GradoopId, Edge> edges = new HashMap<>();
+
+    private final List<Runnable> pendingWrites = new ArrayList<>();
+
+    private boolean autoFlush = true;
+
+    private int readCount;
+
+    /**
+     * Operation executed once by the next read, after the element was looked up.
+     */
+    private IOOperation readHook;
+
+    @Override
+    public void writeGraphHead(@Nonnull GraphHead graphHead) {
+      GraphHead copy = GRAPH_HEAD_FACTORY.initGraphHead(graphHead.getId(),
+        graphHead.getLabel(), copyProperties(graphHead.getProperties()));
+      write(() -> graphHeads.put(copy.getId(), copy));
+    }
+
+    @Override
+    public void writeVertex(@Nonnull Vertex vertex) {
+      Vertex copy = VERTEX_FACTORY.initVertex(vertex.getId(), vertex.getLabel(),
+        copyProperties(vertex.getProperties()), vertex.getGraphIds().copy());
+      write(() -> vertices.put(copy.getId(), copy));
+    }
+
+    @Override
+    public void writeEdge(@Nonnull Edge edge) {
+      Edge copy = EDGE_FACTORY.initEdge(edge.getId(), edge.getLabel(), edge.getSourceId(),
+        edge.getTargetId(), copyProperties(edge.getProperties()), edge.getGraphIds().copy());
+      write(() -> edges.put(copy.getId(), copy));
+    }
+
+    @Override
+    public void setAutoFlush(boolean autoFlush) {
+      this.autoFlush = autoFlush;
+    }
+
+    @Override
+    public void flush() {
+      pendingWrites.forEach(Runnable::run);
+      pendingWrites.clear();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public EPGMGraphHead readGraph(@Nonnull GradoopId graphId) throws IOException {
+      GraphHead graphHead = graphHeads.get(graphId);
+      afterRead();
+      return graphHead == null ? null : GRAPH_HEAD_FACTORY.initGraphHead(graphHead.getId(),
+        graphHead.getLabel(), copyProperties(graphHead.getProperties()));
+    }
+
+    @Override
+    public EPGMVertex readVertex(@Nonnull GradoopId vertexId) throws IOException {
+      Vertex vertex = vertices.get(vertexId);
+      afterRead();
+      return vertex == null ? null : VERTEX_FACTORY.initVertex(vertex.getId(),
+        vertex.getLabel(), copyProperties(vertex.getProperties()), vertex.getGraphIds().copy());
+    }
+
+    @Override
+    public EPGMEdge readEdge(@Nonnull GradoopId edgeId) throws IOException {
+      Edge edge = edges.get(edgeId);
+      afterRead();
+      return edge == null ? null : EDGE_FACTORY.initEdge(edge.getId(), edge.getLabel(),
+        edge.getSourceId(), edge.getTargetId(), copyProperties(edge.getProperties()),
+        edge.getGraphIds().copy());
+    }
+
+    @Nonnull
+    @Override
+    public ClosableIterator<EPGMGraphHead> getGraphSpace(int cacheSize) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Nonnull
+    @Override
+    public ClosableIterator<EPGMVertex> getVertexSpace(int cacheSize) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Nonnull
+    @Override
+    public ClosableIterator<EPGMEdge> getEdgeSpace(int cacheSize) {
+      throw new UnsupportedOperationException();
+    }
+
+    private void write(Runnable write) {
+      if (autoFlush) {
+        write.run();
+      } else {
+        pendingWrites.add(write);
+      }
+    }
+
+    private void afterRead() throws IOException {
+      readCount++;
+      IOOperation hook = readHook;
+      readHook = null;
+      if (hook != null) {
+        hook.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.cache;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ElementCacheTest {
+
+  private static final EPGMVertexFactory FACTORY = new EPGMVertexFactory();
+
+  @Test
+  public void testGetAndPut() {
+    ElementCache<EPGMVertex> cache = createCache(1 << 10);
+    EPGMVertex vertex = createVertex(1);
+
+    assertNull(cache.get(vertex.getId()));
+    cache.put(vertex);
+    EPGMVertex cachedVertex = cache.get(vertex.getId());
+
+    assertNotNull(cachedVertex);
+    assertEquals(vertex.getId(), cachedVertex.getId());
+    assertEquals(1, cachedVertex.getPropertyValue("key").getInt());
+    assertEquals(1, cache.size());
+    assertEquals(ElementCache.weigh(vertex), cache.getWeight());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testEvictionOrder() {
+    EPGMVertex v1 = createVertex(1);
+    EPGMVertex v2 = createVertex(2);
+    EPGMVertex v3 = createVertex(3);
+    EPGMVertex v4 = createVertex(4);
+    ElementCache<EPGMVertex> cache = createCache(3 * ElementCache.weigh(v1));
+
+    cache.put(v1);
+    cache.put(v2);
+    cache.put(v3);
+    // v1 becomes the most recently used element, thus v2 is evicted first
+    cache.get(v1.getId());
+    cache.put(v4);
+
+    assertEquals(3, cache.size());
+    assertNull(cache.get(v2.getId()));
+    assertNotNull(cache.get(v1.getId()));
+    assertNotNull(cache.get(v3.getId()));
+    assertNotNull(cache.get(v4.getId()));
+    assertTrue(cache.getWeight() <= cache.getMaxWeight());
+  }
+
+  @Test
+  public void testTooHeavyElement() {
+    EPGMVertex vertex = createVertex(1);
+    ElementCache<EPGMVertex> cache = createCache(ElementCache.weigh(vertex) - 1);
+
+    cache.put(vertex);
+
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getWeight());
+  }
+
+  @Test
+  public void testInvalidate() {
+    ElementCache<EPGMVertex> cache = createCache(1 << 10);
+    EPGMVertex v1 = createVertex(1);
+    EPGMVertex v2 = createVertex(2);
+    cache.put(v1);
+    cache.put(v2);
+
+    cache.invalidate(v1.getId());
+    assertNull(cache.get(v1.getId()));
+    assertNotNull(cache.get(v2.getId()));
+    assertEquals(ElementCache.weigh(v2), cache.getWeight());
+
+    cache.invalidateAll();
+    assertNull(cache.get(v2.getId()));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getWeight());
+  }
+
+  @Test
+  public void testPutWithGeneration() {
+    ElementCache<EPGMVertex> cache = createCache(1 << 10);
+    EPGMVertex vertex = createVertex(1);
+
+    // the element is invalidated while it is read from the storage
+    long generation = cache.getGeneration(vertex.getId());
+    cache.invalidate(vertex.getId());
+    assertFalse(cache.put(vertex, generation));
+    assertNull(cache.get(vertex.getId()));
+
+    // the element is read again without a concurrent invalidation
+    generation = cache.getGeneration(vertex.getId());
+    assertTrue(cache.put(vertex, generation));
+    assertNotNull(cache.get(vertex.getId()));
+
+    generation = cache.getGeneration(vertex.getId());
+    cache.invalidateAll();
+    assertFalse(cache.put(vertex, generation));
+  }
+
+  @Test
+  public void testCopies() {
+    ElementCache<EPGMVertex> cache = createCache(1 << 10);
+    EPGMVertex vertex = createVertex(1);
+    cache.put(vertex);
+
+    // modifying the added element does not affect the cache
+    vertex.setProperty("key", 2);
+    vertex.setLabel("Modified");
+    assertEquals(1, cache.get(vertex.getId()).getPropertyValue("key").getInt());
+
+    // modifying a returned element does not affect the cache
+    EPGMVertex cachedVertex = cache.get(vertex.getId());
+    cachedVertex.setProperty("key", 3);
+    cachedVertex.setProperty("other", true);
+    cachedVertex.addGraphId(GradoopId.get());
+
+    EPGMVertex reread = cache.get(vertex.getId());
+    assertEquals("Vertex", reread.getLabel());
+    assertEquals(1, reread.getPropertyValue("key").getInt());
+    assertFalse(reread.hasProperty("other"));
+    assertEquals(0, reread.getGraphCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxWeight() {
+    createCache(0);
+  }
+
+  private static ElementCache<EPGMVertex> createCache(long maxWeight) {
+    return new ElementCache<>(maxWeight, v -> {
+      Properties properties = Properties.create();
+      v.getProperties().forEach(p -> properties.set(p.getKey(), p.getValue().copy()));
+      return FACTORY.initVertex(v.getId(), v.getLabel(), properties, v.getGraphIds().copy());
+    });
+  }
+
+  private static EPGMVertex createVertex(int value) {
+    Properties properties = Properties.create();
+    properties.set("key", value);
+    return FACTORY.createVertex("Vertex", properties, new GradoopIdSet());
+  }
+}
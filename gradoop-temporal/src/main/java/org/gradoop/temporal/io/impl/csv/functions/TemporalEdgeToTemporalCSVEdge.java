@@ -39,8 +39,7 @@ public class TemporalEdgeToTemporalCSVEdge extends TemporalElementToCSV<Temporal
     csvEdge.setTargetId(temporalEdge.getTargetId().toString());
     csvEdge.setLabel(StringEscaper.escape(temporalEdge.getLabel(), CSVConstants.ESCAPED_CHARACTERS));
     csvEdge.setProperties(getPropertyString(temporalEdge, MetaDataSource.EDGE_TYPE));
-    csvEdge.setTemporalData(getTemporalDataString(temporalEdge.getTransactionTime(),
-      temporalEdge.getValidTime()));
+    csvEdge.setTemporalData(getTemporalDataString(temporalEdge));
     return csvEdge;
   }
 }
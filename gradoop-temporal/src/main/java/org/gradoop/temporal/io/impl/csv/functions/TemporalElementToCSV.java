@@ -16,7 +16,6 @@
 package org.gradoop.temporal.io.impl.csv.functions;
 
 import org.apache.flink.api.java.tuple.Tuple;
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.flink.io.impl.csv.functions.ElementToCSV;
 import org.gradoop.temporal.model.impl.pojo.TemporalElement;
 
@@ -33,15 +32,14 @@ abstract class TemporalElementToCSV<E extends TemporalElement, T extends Tuple>
    *
    * {@code (tx-from,tx-to),(val-from,val-to)}
    *
-   * @param transactionTime the transaction time
-   * @param validTime the valid time
+   * @param element the temporal element
    * @return CSV string representation
    */
-  String getTemporalDataString(Tuple2<Long, Long> transactionTime, Tuple2<Long, Long> validTime) {
+  String getTemporalDataString(TemporalElement element) {
     return String.format("(%d,%d),(%d,%d)",
-      transactionTime.f0,
-      transactionTime.f1,
-      validTime.f0,
-      validTime.f1);
+      element.getTxFrom(),
+      element.getTxTo(),
+      element.getValidFrom(),
+      element.getValidTo());
   }
 }
@@ -38,8 +38,7 @@ public class TemporalGraphHeadToTemporalCSVGraphHead
     csvGraphHead.setLabel(StringEscaper.escape(temporalGraphHead.getLabel(),
       CSVConstants.ESCAPED_CHARACTERS));
     csvGraphHead.setProperties(getPropertyString(temporalGraphHead, MetaDataSource.GRAPH_TYPE));
-    csvGraphHead.setTemporalData(getTemporalDataString(temporalGraphHead.getTransactionTime(),
-      temporalGraphHead.getValidTime()));
+    csvGraphHead.setTemporalData(getTemporalDataString(temporalGraphHead));
     return csvGraphHead;
   }
 }
@@ -38,8 +38,7 @@ public class TemporalVertexToTemporalCSVVertex
     csvVertex.setGradoopIds(collectionToCsvString(temporalVertex.getGraphIds()));
     csvVertex.setLabel(StringEscaper.escape(temporalVertex.getLabel(), CSVConstants.ESCAPED_CHARACTERS));
     csvVertex.setProperties(getPropertyString(temporalVertex, MetaDataSource.VERTEX_TYPE));
-    csvVertex.setTemporalData(getTemporalDataString(temporalVertex.getTransactionTime(),
-      temporalVertex.getValidTime()));
+    csvVertex.setTemporalData(getTemporalDataString(temporalVertex));
     return csvVertex;
   }
 }
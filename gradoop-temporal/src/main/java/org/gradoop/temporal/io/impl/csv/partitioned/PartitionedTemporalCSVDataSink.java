@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.io.impl.csv.partitioned;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.temporal.io.impl.csv.TemporalCSVDataSink;
+import org.gradoop.temporal.io.impl.csv.functions.TemporalEdgeToTemporalCSVEdge;
+import org.gradoop.temporal.io.impl.csv.functions.TemporalGraphHeadToTemporalCSVGraphHead;
+import org.gradoop.temporal.io.impl.csv.functions.TemporalVertexToTemporalCSVVertex;
+import org.gradoop.temporal.io.impl.csv.partitioned.functions.MergeTemporalCSVPartitions;
+import org.gradoop.temporal.io.impl.csv.partitioned.functions.TemporalElementToTemporalCSVPartition;
+import org.gradoop.temporal.io.impl.csv.partitioned.functions.TemporalPartitionedCSVFileFormat;
+import org.gradoop.temporal.io.impl.csv.tuples.TemporalCSVEdge;
+import org.gradoop.temporal.io.impl.csv.tuples.TemporalCSVGraphHead;
+import org.gradoop.temporal.io.impl.csv.tuples.TemporalCSVPartition;
+import org.gradoop.temporal.io.impl.csv.tuples.TemporalCSVVertex;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.impl.TemporalGraphCollection;
+
+import java.util.Objects;
+
+/**
+ * A data sink storing temporal graphs and graph collections as CSV files partitioned by time.
+ * <p>
+ * Vertices and edges are assigned to partitions of equal width by the start of their time
+ * interval in the given dimension. The partition {@code i} contains all elements starting in
+ * {@code [i * width, (i + 1) * width)}. Each partition is written to its own file, the time bounds
+ * of the elements of each partition are written to {@code partitions.csv}:
+ * <ul>
+ *   <li>{@code csvRoot}<ul>
+ *     <li>{@code vertices/<partition>/data.csv} - Vertex data of a partition</li>
+ *     <li>{@code edges/<partition>/data.csv} - Edge data of a partition</li>
+ *     <li>{@code graphs.csv} - Graph head data</li>
+ *     <li>{@code metadata.csv} - Metadata for all data contained in the graph</li>
+ *     <li>{@code partitions.csv} - Time bounds of all partitions</li>
+ *   </ul></li>
+ * </ul>
+ *
+ * @see PartitionedTemporalCSVDataSource
+ */
+public class PartitionedTemporalCSVDataSink extends TemporalCSVDataSink {
+
+  /**
+   * File name of the partition bounds.
+   */
+  static final String PARTITIONS_FILE = "partitions.csv";
+
+  /**
+   * The time dimension used to partition the elements.
+   */
+  private final TimeDimension dimension;
+
+  /**
+   * The width of a partition.
+   */
+  private final long width;
+
+  /**
+   * Initialize this data sink.
+   *
+   * @param csvPath   The output path.
+   * @param config    The Gradoop configuration.
+   * @param dimension The time dimension used to partition the elements.
+   * @param width     The width of a partition.
+   */
+  public PartitionedTemporalCSVDataSink(String csvPath, GradoopFlinkConfig config,
+    TimeDimension dimension, long width) {
+    this(csvPath, null, config, dimension, width);
+  }
+
+  /**
+   * Initialize this data sink with existing metadata.
+   *
+   * @param csvPath      The output path.
+   * @param metaDataPath The metadata path.
+   * @param config       The Gradoop configuration.
+   * @param dimension    The time dimension used to partition the elements.
+   * @param width        The width of a partition.
+   */
+  public PartitionedTemporalCSVDataSink(String csvPath, String metaDataPath,
+    GradoopFlinkConfig config, TimeDimension dimension, long width) {
+    super(csvPath, metaDataPath, config);
+    if (width <= 0) {
+      throw new IllegalArgumentException("The partition width has to be positive.");
+    }
+    this.dimension = Objects.requireNonNull(dimension, "No time dimension given.");
+    this.width = width;
+  }
+
+  @Override
+  public void write(TemporalGraphCollection temporalGraphCollection, boolean overwrite) {
+    FileSystem.WriteMode writeMode = overwrite ?
+      FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+    DataSet<Tuple3<String, String, String>> metaData;
+    CSVMetaDataSource source = new CSVMetaDataSource();
+
+    if (!reuseMetadata()) {
+      metaData = source.tuplesFromCollection(temporalGraphCollection);
+    } else {
+      metaData = source.readDistributed(metaDataPath, getConfig());
+    }
+
+    DataSet<TemporalCSVGraphHead> csvGraphHeads = temporalGraphCollection.getGraphHeads()
+      .map(new TemporalGraphHeadToTemporalCSVGraphHead())
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<TemporalCSVVertex> csvVertices = temporalGraphCollection.getVertices()
+      .map(new TemporalVertexToTemporalCSVVertex())
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<TemporalCSVEdge> csvEdges = temporalGraphCollection.getEdges()
+      .map(new TemporalEdgeToTemporalCSVEdge())
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<TemporalCSVPartition> partitions = temporalGraphCollection.getVertices()
+      .map(new TemporalElementToTemporalCSVPartition<>(MetaDataSource.VERTEX_TYPE, dimension, width))
+      .union(temporalGraphCollection.getEdges()
+        .map(new TemporalElementToTemporalCSVPartition<>(MetaDataSource.EDGE_TYPE, dimension, width)))
+      .groupBy(0, 1)
+      .reduce(new MergeTemporalCSVPartitions());
+
+    // Write metadata only if the path is not the same or reuseMetadata is false.
+    if (!getMetaDataPath().equals(metaDataPath) || !reuseMetadata()) {
+      new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
+    }
+
+    partitions.writeAsCsv(getCSVRoot() + PARTITIONS_FILE, CSVConstants.ROW_DELIMITER,
+      CSVConstants.TOKEN_DELIMITER, writeMode).setParallelism(1);
+
+    csvGraphHeads.writeAsCsv(getGraphHeadCSVPath(), CSVConstants.ROW_DELIMITER,
+      CSVConstants.TOKEN_DELIMITER, writeMode);
+
+    TemporalPartitionedCSVFileFormat<TemporalCSVVertex> vertexFormat =
+      new TemporalPartitionedCSVFileFormat<>(new Path(getVertexPath()), dimension, width);
+    vertexFormat.setWriteMode(writeMode);
+    csvVertices.output(vertexFormat);
+
+    TemporalPartitionedCSVFileFormat<TemporalCSVEdge> edgeFormat =
+      new TemporalPartitionedCSVFileFormat<>(new Path(getEdgePath()), dimension, width);
+    edgeFormat.setWriteMode(writeMode);
+    csvEdges.output(edgeFormat);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.io.impl.csv.partitioned;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.csv.CSVBase;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineToElement;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.temporal.io.api.TemporalDataSource;
+import org.gradoop.temporal.io.impl.csv.functions.CSVLineToTemporalEdge;
+import org.gradoop.temporal.io.impl.csv.functions.CSVLineToTemporalGraphHead;
+import org.gradoop.temporal.io.impl.csv.functions.CSVLineToTemporalVertex;
+import org.gradoop.temporal.model.impl.TemporalGraph;
+import org.gradoop.temporal.model.impl.TemporalGraphCollection;
+import org.gradoop.temporal.model.impl.TemporalGraphCollectionFactory;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionBounds;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionedGVELayout;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+import org.gradoop.temporal.util.TemporalGradoopConfig;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A graph data source for CSV files storing temporal graphs partitioned by time, as written by
+ * the {@link PartitionedTemporalCSVDataSink}.
+ * <p>
+ * Graphs read by this source use the {@link TemporalPartitionedGVELayout}, so snapshot and diff
+ * operators only read the partitions which may contain elements matching their predicates.
+ */
+public class PartitionedTemporalCSVDataSource extends CSVBase implements TemporalDataSource {
+
+  /**
+   * Creates a new data source.
+   *
+   * @param csvPath root path of csv files
+   * @param config  temporal gradoop configuration
+   */
+  public PartitionedTemporalCSVDataSource(String csvPath, TemporalGradoopConfig config) {
+    super(csvPath, config);
+  }
+
+  @Override
+  public TemporalGraph getTemporalGraph() throws IOException {
+    DataSet<Tuple3<String, String, String>> metaData = readMetaData();
+    return readGraph(readGraphHeads(metaData).first(1), metaData);
+  }
+
+  @Override
+  public TemporalGraphCollection getTemporalGraphCollection() throws IOException {
+    DataSet<Tuple3<String, String, String>> metaData = readMetaData();
+    DataSet<TemporalGraphHead> graphHeads = readGraphHeads(metaData);
+    TemporalGraph graph = readGraph(graphHeads, metaData);
+    return getConfig().getTemporalGraphCollectionFactory()
+      .fromDataSets(graphHeads, graph.getVertices(), graph.getEdges());
+  }
+
+  @Override
+  protected TemporalGradoopConfig getConfig() {
+    return (TemporalGradoopConfig) super.getConfig();
+  }
+
+  /**
+   * Reads the graph heads.
+   *
+   * @param metaData meta data to broadcast to the parsing function
+   * @return graph heads
+   */
+  private DataSet<TemporalGraphHead> readGraphHeads(
+    DataSet<Tuple3<String, String, String>> metaData) {
+    TemporalGraphCollectionFactory factory = getConfig().getTemporalGraphCollectionFactory();
+    return getConfig().getExecutionEnvironment()
+      .readTextFile(getGraphHeadCSVPath())
+      .map(new CSVLineToTemporalGraphHead(factory.getGraphHeadFactory()))
+      .withBroadcastSet(metaData, BC_METADATA);
+  }
+
+  /**
+   * Reads the partitions of vertices and edges and creates a time-partitioned graph.
+   *
+   * @param graphHeads graph heads of the graph
+   * @param metaData   meta data to broadcast to the parsing functions
+   * @return time-partitioned graph
+   * @throws IOException if the partition bounds can not be read
+   */
+  private TemporalGraph readGraph(DataSet<TemporalGraphHead> graphHeads,
+    DataSet<Tuple3<String, String, String>> metaData) throws IOException {
+    TemporalGraphCollectionFactory factory = getConfig().getTemporalGraphCollectionFactory();
+    Map<Long, TemporalPartitionBounds> vertexBounds = new TreeMap<>();
+    Map<Long, TemporalPartitionBounds> edgeBounds = new TreeMap<>();
+    readPartitionBounds(vertexBounds, edgeBounds);
+
+    Map<Long, DataSet<TemporalVertex>> vertices = readPartitions(vertexBounds, getVertexPath(),
+      new CSVLineToTemporalVertex(factory.getVertexFactory()), metaData);
+    Map<Long, DataSet<TemporalEdge>> edges = readPartitions(edgeBounds, getEdgePath(),
+      new CSVLineToTemporalEdge(factory.getEdgeFactory()), metaData);
+
+    return getConfig().getTemporalGraphFactory()
+      .fromPartitionedDataSets(graphHeads, vertices, edges, vertexBounds, edgeBounds);
+  }
+
+  /**
+   * Reads the elements of each partition from their own file.
+   *
+   * @param bounds       mapping from partition to time bounds
+   * @param elementPath  directory of the partitions
+   * @param csvToElement function parsing a CSV line
+   * @param metaData     meta data to broadcast to the parsing function
+   * @param <E> temporal element type
+   * @return mapping from partition to elements
+   */
+  private <E extends TemporalElement> Map<Long, DataSet<E>> readPartitions(
+    Map<Long, TemporalPartitionBounds> bounds, String elementPath,
+    CSVLineToElement<E> csvToElement, DataSet<Tuple3<String, String, String>> metaData) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    Map<Long, DataSet<E>> partitions = new TreeMap<>();
+    for (Long partition : bounds.keySet()) {
+      partitions.put(partition, env
+        .readTextFile(elementPath + CSVConstants.DIRECTORY_SEPARATOR + partition +
+          CSVConstants.DIRECTORY_SEPARATOR + CSVConstants.SIMPLE_FILE)
+        .map(csvToElement)
+        .withBroadcastSet(metaData, BC_METADATA));
+    }
+    return partitions;
+  }
+
+  /**
+   * Reads the time bounds of all vertex and edge partitions.
+   *
+   * @param vertexBounds mapping from partition to the time bounds of its vertices, filled by
+   *                     this method
+   * @param edgeBounds   mapping from partition to the time bounds of its edges, filled by
+   *                     this method
+   * @throws IOException if the partition bounds can not be read
+   */
+  private void readPartitionBounds(Map<Long, TemporalPartitionBounds> vertexBounds,
+    Map<Long, TemporalPartitionBounds> edgeBounds) throws IOException {
+    String path = getCSVRoot() + PartitionedTemporalCSVDataSink.PARTITIONS_FILE;
+    Path file = new Path(path);
+    FileSystem fs = file.getFileSystem();
+    if (!fs.exists(file)) {
+      throw new FileNotFoundException(path);
+    }
+    try (BufferedReader br = new BufferedReader(
+      new InputStreamReader(fs.open(file), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        String[] tokens = line.split(CSVConstants.TOKEN_DELIMITER);
+        TemporalPartitionBounds bounds = new TemporalPartitionBounds(
+          Long.parseLong(tokens[2]), Long.parseLong(tokens[3]),
+          Long.parseLong(tokens[4]), Long.parseLong(tokens[5]),
+          Long.parseLong(tokens[6]), Long.parseLong(tokens[7]),
+          Long.parseLong(tokens[8]), Long.parseLong(tokens[9]));
+        if (tokens[0].equals(MetaDataSource.VERTEX_TYPE)) {
+          vertexBounds.put(Long.parseLong(tokens[1]), bounds);
+        } else {
+          edgeBounds.put(Long.parseLong(tokens[1]), bounds);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the meta data to broadcast to the parsing functions.
+   *
+   * @return meta data tuples
+   */
+  private DataSet<Tuple3<String, String, String>> readMetaData() {
+    return new CSVMetaDataSource().readDistributed(getMetaDataPath(), getConfig());
+  }
+}
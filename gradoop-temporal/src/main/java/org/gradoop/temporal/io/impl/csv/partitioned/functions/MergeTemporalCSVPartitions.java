@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.io.impl.csv.partitioned.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.gradoop.temporal.io.impl.csv.tuples.TemporalCSVPartition;
+
+/**
+ * Merges the time bounds of two tuples of the same partition.
+ */
+public class MergeTemporalCSVPartitions implements ReduceFunction<TemporalCSVPartition> {
+
+  @Override
+  public TemporalCSVPartition reduce(TemporalCSVPartition first, TemporalCSVPartition second) {
+    first.merge(second);
+    return first;
+  }
+}
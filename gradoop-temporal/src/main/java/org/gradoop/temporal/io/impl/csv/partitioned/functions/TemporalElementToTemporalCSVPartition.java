@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.io.impl.csv.partitioned.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.temporal.io.impl.csv.tuples.TemporalCSVPartition;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionBounds;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+
+import java.util.Objects;
+
+/**
+ * Assigns a temporal element to the partition containing the start of its time interval in the
+ * given dimension. The resulting tuple holds the time intervals of the element as bounds.
+ *
+ * @param <E> temporal element type
+ */
+public class TemporalElementToTemporalCSVPartition<E extends TemporalElement>
+  implements MapFunction<E, TemporalCSVPartition> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final TemporalCSVPartition reuse;
+
+  /**
+   * The time dimension used to partition the elements.
+   */
+  private final TimeDimension dimension;
+
+  /**
+   * The width of a partition.
+   */
+  private final long width;
+
+  /**
+   * Creates a new partition assigner.
+   *
+   * @param type      element type stored in the partition tuple
+   * @param dimension the time dimension used to partition the elements
+   * @param width     the width of a partition
+   */
+  public TemporalElementToTemporalCSVPartition(String type, TimeDimension dimension, long width) {
+    this.dimension = Objects.requireNonNull(dimension);
+    this.width = width;
+    this.reuse = new TemporalCSVPartition();
+    this.reuse.setType(type);
+  }
+
+  @Override
+  public TemporalCSVPartition map(E element) {
+    reuse.setPartition(TemporalPartitionBounds.getPartition(
+      element.getFromByDimension(dimension), width));
+    reuse.setBounds(element.getTxFrom(), element.getTxTo(), element.getValidFrom(),
+      element.getValidTo());
+    return reuse;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.io.impl.csv.partitioned.functions;
+
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.flink.api.java.io.CsvOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.indexed.functions.MultipleFileOutputFormat;
+import org.gradoop.temporal.io.impl.csv.tuples.TemporalCSVElement;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionBounds;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * An OutputFormat writing temporal CSV tuples to one file per time partition. The partition of a
+ * tuple is derived from the start of its time interval in the given dimension, i.e. from the
+ * temporal data string {@code (tx-from,tx-to),(valid-from,valid-to)}.
+ *
+ * @param <T> Tuple that will be written to csv
+ */
+public class TemporalPartitionedCSVFileFormat<T extends Tuple & TemporalCSVElement>
+  extends MultipleFileOutputFormat<T> {
+
+  /**
+   * Pattern separating the time stamps of the temporal data string.
+   */
+  private static final Pattern TIME_SEPARATOR = Pattern.compile("[(),]+");
+
+  /**
+   * The time dimension used to partition the tuples.
+   */
+  private final TimeDimension dimension;
+
+  /**
+   * The width of a partition.
+   */
+  private final long width;
+
+  /**
+   * Creates a new time-partitioned CSV output format using the default record and field
+   * delimiters of CSV files.
+   *
+   * @param outputPath The path where the partition directories will be written.
+   * @param dimension  The time dimension used to partition the tuples.
+   * @param width      The width of a partition.
+   */
+  public TemporalPartitionedCSVFileFormat(Path outputPath, TimeDimension dimension, long width) {
+    super(outputPath);
+    this.dimension = Objects.requireNonNull(dimension);
+    this.width = width;
+  }
+
+  @Override
+  protected OutputFormat<T> createFormatForDirectory(Path directory) {
+    CsvOutputFormat<T> format = new CsvOutputFormat<>(directory, CSVConstants.ROW_DELIMITER,
+      CSVConstants.TOKEN_DELIMITER);
+    // initializeGlobal() takes care of OVERWRITE, see IndexedCSVFileFormat.
+    format.setWriteMode(FileSystem.WriteMode.NO_OVERWRITE);
+    format.configure(configuration);
+    return format;
+  }
+
+  @Override
+  protected String getDirectoryForRecord(T record) {
+    // The leading parenthesis results in an empty first token.
+    String[] times = TIME_SEPARATOR.split(record.getTemporalData());
+    long from = Long.parseLong(dimension == TimeDimension.TRANSACTION_TIME ? times[1] : times[3]);
+    return TemporalPartitionBounds.getPartition(from, width) + Path.SEPARATOR +
+      CSVConstants.SIMPLE_FILE;
+  }
+}
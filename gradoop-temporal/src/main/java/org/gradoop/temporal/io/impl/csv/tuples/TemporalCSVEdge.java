@@ -124,4 +124,9 @@ public class TemporalCSVEdge extends Tuple7<String, String, String, String, Stri
   public void setTemporalData(String temporalData) {
     f6 = temporalData;
   }
+
+  @Override
+  public String getTemporalData() {
+    return f6;
+  }
 }
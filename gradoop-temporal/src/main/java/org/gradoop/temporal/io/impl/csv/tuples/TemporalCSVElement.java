@@ -28,4 +28,11 @@ public interface TemporalCSVElement extends CSVElement {
    * @param temporalData the String representation of the temporal element
    */
   void setTemporalData(String temporalData);
+
+  /**
+   * Get the String representation of the temporal element.
+   *
+   * @return the String representation of the temporal element
+   */
+  String getTemporalData();
 }
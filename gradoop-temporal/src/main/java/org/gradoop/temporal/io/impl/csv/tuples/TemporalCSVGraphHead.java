@@ -65,4 +65,9 @@ public class TemporalCSVGraphHead extends Tuple4<String, String, String, String>
   public void setTemporalData(String temporalData) {
     f3 = temporalData;
   }
+
+  @Override
+  public String getTemporalData() {
+    return f3;
+  }
 }
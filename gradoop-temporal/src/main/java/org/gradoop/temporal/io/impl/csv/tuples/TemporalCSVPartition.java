@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.io.impl.csv.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple10;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionBounds;
+
+/**
+ * Tuple representing the time bounds of a partition of vertices or edges in a CSV file.
+ * <p>
+ * The tuple fields are:
+ * <ol start="0">
+ *   <li>the element type, {@code v} for vertices and {@code e} for edges</li>
+ *   <li>the partition</li>
+ *   <li>the smallest transaction-time start</li>
+ *   <li>the largest transaction-time start</li>
+ *   <li>the smallest transaction-time end</li>
+ *   <li>the largest transaction-time end</li>
+ *   <li>the smallest valid-time start</li>
+ *   <li>the largest valid-time start</li>
+ *   <li>the smallest valid-time end</li>
+ *   <li>the largest valid-time end</li>
+ * </ol>
+ */
+public class TemporalCSVPartition
+  extends Tuple10<String, Long, Long, Long, Long, Long, Long, Long, Long, Long> {
+
+  /**
+   * Get the element type of the partition.
+   *
+   * @return the element type
+   */
+  public String getType() {
+    return f0;
+  }
+
+  /**
+   * Set the element type of the partition.
+   *
+   * @param type the element type
+   */
+  public void setType(String type) {
+    f0 = type;
+  }
+
+  /**
+   * Get the partition.
+   *
+   * @return the partition
+   */
+  public Long getPartition() {
+    return f1;
+  }
+
+  /**
+   * Set the partition.
+   *
+   * @param partition the partition
+   */
+  public void setPartition(Long partition) {
+    f1 = partition;
+  }
+
+  /**
+   * Set the bounds of a single time interval of each dimension.
+   *
+   * @param txFrom    transaction-time start
+   * @param txTo      transaction-time end
+   * @param validFrom valid-time start
+   * @param validTo   valid-time end
+   */
+  public void setBounds(long txFrom, long txTo, long validFrom, long validTo) {
+    f2 = txFrom;
+    f3 = txFrom;
+    f4 = txTo;
+    f5 = txTo;
+    f6 = validFrom;
+    f7 = validFrom;
+    f8 = validTo;
+    f9 = validTo;
+  }
+
+  /**
+   * Extends the bounds of this partition by the bounds of another partition.
+   *
+   * @param other the other partition
+   */
+  public void merge(TemporalCSVPartition other) {
+    f2 = Math.min(f2, other.f2);
+    f3 = Math.max(f3, other.f3);
+    f4 = Math.min(f4, other.f4);
+    f5 = Math.max(f5, other.f5);
+    f6 = Math.min(f6, other.f6);
+    f7 = Math.max(f7, other.f7);
+    f8 = Math.min(f8, other.f8);
+    f9 = Math.max(f9, other.f9);
+  }
+
+  /**
+   * Get the time bounds of this partition.
+   *
+   * @return the time bounds
+   */
+  public TemporalPartitionBounds getBounds() {
+    return new TemporalPartitionBounds(f2, f3, f4, f5, f6, f7, f8, f9);
+  }
+}
@@ -84,4 +84,9 @@ public class TemporalCSVVertex extends Tuple5<String, String, String, String, St
   public void setTemporalData(String temporalData) {
     f4 = temporalData;
   }
+
+  @Override
+  public String getTemporalData() {
+    return f4;
+  }
 }
@@ -28,11 +28,14 @@ import org.gradoop.temporal.model.impl.functions.predicates.DeletedIn;
 import org.gradoop.temporal.model.impl.functions.predicates.FromTo;
 import org.gradoop.temporal.model.impl.functions.predicates.ValidDuring;
 import org.gradoop.temporal.model.impl.operators.diff.Diff;
+import org.gradoop.temporal.model.impl.operators.snapshot.MultiSnapshot;
 import org.gradoop.temporal.model.impl.operators.snapshot.Snapshot;
 import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
 import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
 import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
 
+import java.util.List;
+
 /**
  * Defines the operators that are available on a {@link TemporalGraph}.
  */
@@ -166,6 +169,38 @@ public interface TemporalGraphOperators extends BaseGraphOperators<TemporalGraph
     return snapshot(new DeletedIn(fromTimestamp, toTimestamp));
   }
 
+  /**
+   * Extracts multiple snapshots of this temporal graph at once, one for each given temporal
+   * predicate. The predicates are applied on the valid times. To use transaction time dimension,
+   * use {@link TemporalGraphOperators#snapshots(List, TimeDimension)} instead.
+   * Each snapshot is equal to the result of {@link #snapshot(TemporalPredicate)} for its predicate,
+   * but all of them are computed reading the vertices and edges of this graph only once.
+   *
+   * @param predicates the temporal predicates, one per snapshot
+   * @return the snapshots as a temporal graph collection
+   * @see MultiSnapshot
+   */
+  default TemporalGraphCollection snapshots(List<TemporalPredicate> predicates) {
+    return snapshots(predicates, TimeDimension.VALID_TIME);
+  }
+
+  /**
+   * Extracts multiple snapshots of this temporal graph at once, one for each given temporal
+   * predicate. The predicates are applied on the given time dimension.
+   * Each snapshot is equal to the result of {@link #snapshot(TemporalPredicate, TimeDimension)} for
+   * its predicate, but all of them are computed reading the vertices and edges of this graph only
+   * once.
+   *
+   * @param predicates the temporal predicates, one per snapshot
+   * @param dimension the dimension that is used
+   * @return the snapshots as a temporal graph collection
+   * @see MultiSnapshot
+   */
+  default TemporalGraphCollection snapshots(List<TemporalPredicate> predicates,
+    TimeDimension dimension) {
+    return callForCollection(new MultiSnapshot(predicates, dimension));
+  }
+
   /**
    * Compares two snapshots of this graph. Given two temporal predicates, this operation
    * will check if a graph element (vertex or edge) was added, removed or persists in the second
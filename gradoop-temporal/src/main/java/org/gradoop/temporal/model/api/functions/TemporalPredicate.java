@@ -32,4 +32,22 @@ public interface TemporalPredicate extends Serializable {
    * @return {@code true}, if the time-interval /-stamp matches this predicate.
    */
   boolean test(long from, long to);
+
+  /**
+   * Checks if any time-interval starting in {@code [minFrom, maxFrom]} and ending in
+   * {@code [minTo, maxTo]} may match this predicate. This is used to skip whole time partitions
+   * of a graph without evaluating the predicate on their elements, a result of {@code true} does
+   * therefore not guarantee a match.
+   * <p>
+   * The default implementation can not exclude any interval and always returns {@code true}.
+   *
+   * @param minFrom The smallest start of the time-intervals.
+   * @param maxFrom The largest start of the time-intervals.
+   * @param minTo   The smallest end of the time-intervals.
+   * @param maxTo   The largest end of the time-intervals.
+   * @return {@code false}, if none of the time-intervals can match this predicate.
+   */
+  default boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return true;
+  }
 }
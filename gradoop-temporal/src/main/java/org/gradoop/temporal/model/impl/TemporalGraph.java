@@ -31,9 +31,12 @@ import org.gradoop.flink.model.impl.operators.equality.GraphEquality;
 import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToEmptyString;
 import org.gradoop.temporal.io.api.TemporalDataSink;
 import org.gradoop.temporal.model.api.TemporalGraphOperators;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
 import org.gradoop.temporal.model.impl.functions.tpgm.TemporalEdgeToEdge;
 import org.gradoop.temporal.model.impl.functions.tpgm.TemporalGraphHeadToGraphHead;
 import org.gradoop.temporal.model.impl.functions.tpgm.TemporalVertexToVertex;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionedGVELayout;
 import org.gradoop.temporal.model.impl.operators.tostring.TemporalEdgeToDataString;
 import org.gradoop.temporal.model.impl.operators.tostring.TemporalGraphHeadToDataString;
 import org.gradoop.temporal.model.impl.operators.tostring.TemporalVertexToDataString;
@@ -164,6 +167,38 @@ public class TemporalGraph implements BaseGraph<TemporalGraphHead, TemporalVerte
     return this.layout.getEdgesByLabel(label);
   }
 
+  /**
+   * Returns the vertices which may match at least one of the given predicates. If the graph uses
+   * the {@link TemporalPartitionedGVELayout}, only the time partitions that may contain matching
+   * vertices are read, otherwise all vertices are returned. The vertices are not filtered.
+   *
+   * @param dimension  the time dimension the predicates are evaluated on
+   * @param predicates the temporal predicates
+   * @return candidate vertices for the predicates
+   */
+  public DataSet<TemporalVertex> getCandidateVertices(TimeDimension dimension,
+    TemporalPredicate... predicates) {
+    return this.layout instanceof TemporalPartitionedGVELayout ?
+      ((TemporalPartitionedGVELayout) this.layout).getCandidateVertices(dimension, predicates) :
+      this.layout.getVertices();
+  }
+
+  /**
+   * Returns the edges which may match at least one of the given predicates. If the graph uses
+   * the {@link TemporalPartitionedGVELayout}, only the time partitions that may contain matching
+   * edges are read, otherwise all edges are returned. The edges are not filtered.
+   *
+   * @param dimension  the time dimension the predicates are evaluated on
+   * @param predicates the temporal predicates
+   * @return candidate edges for the predicates
+   */
+  public DataSet<TemporalEdge> getCandidateEdges(TimeDimension dimension,
+    TemporalPredicate... predicates) {
+    return this.layout instanceof TemporalPartitionedGVELayout ?
+      ((TemporalPartitionedGVELayout) this.layout).getCandidateEdges(dimension, predicates) :
+      this.layout.getEdges();
+  }
+
   //----------------------------------------------------------------------------
   // Unary Operators
   //----------------------------------------------------------------------------
@@ -31,6 +31,8 @@ import org.gradoop.temporal.model.impl.functions.tpgm.EdgeToTemporalEdge;
 import org.gradoop.temporal.model.impl.functions.tpgm.GraphHeadToTemporalGraphHead;
 import org.gradoop.temporal.model.impl.functions.tpgm.VertexToTemporalVertex;
 import org.gradoop.temporal.model.impl.layout.TemporalGraphLayoutFactory;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionBounds;
+import org.gradoop.temporal.model.impl.layout.TemporalPartitionedGVELayout;
 import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
 import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
 import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
@@ -104,6 +106,28 @@ public class TemporalGraphFactory implements
       config);
   }
 
+  /**
+   * Creates a temporal graph using the {@link TemporalPartitionedGVELayout} from the datasets of
+   * each time partition and the time bounds of their elements.
+   *
+   * @param graphHead    graph head dataset
+   * @param vertices     mapping from partition to vertices
+   * @param edges        mapping from partition to edges
+   * @param vertexBounds mapping from partition to the time bounds of its vertices
+   * @param edgeBounds   mapping from partition to the time bounds of its edges
+   * @return time-partitioned temporal graph
+   */
+  public TemporalGraph fromPartitionedDataSets(DataSet<TemporalGraphHead> graphHead,
+    Map<Long, DataSet<TemporalVertex>> vertices, Map<Long, DataSet<TemporalEdge>> edges,
+    Map<Long, TemporalPartitionBounds> vertexBounds, Map<Long, TemporalPartitionBounds> edgeBounds) {
+    if (!(layoutFactory instanceof TemporalGraphLayoutFactory)) {
+      throw new UnsupportedOperationException(
+        "Creating a time-partitioned graph is not supported by the layout factory.");
+    }
+    return new TemporalGraph(((TemporalGraphLayoutFactory) layoutFactory)
+      .fromPartitionedDataSets(graphHead, vertices, edges, vertexBounds, edgeBounds), config);
+  }
+
   @Override
   public TemporalGraph fromCollections(TemporalGraphHead graphHead,
     Collection<TemporalVertex> vertices, Collection<TemporalEdge> edges) {
@@ -59,6 +59,11 @@ public class AsOf implements TemporalPredicate {
     return from <= queryTimestamp && to > queryTimestamp;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return minFrom <= queryTimestamp && maxTo > queryTimestamp;
+  }
+
   @Override
   public String toString() {
     return "AS OF " + queryTimestamp;
@@ -68,6 +68,11 @@ public class Between implements TemporalPredicate {
     return from <= queryTo && to > queryFrom;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return minFrom <= queryTo && maxTo > queryFrom;
+  }
+
   @Override
   public String toString() {
     return "BETWEEN " + queryFrom + " AND " + queryTo;
@@ -67,6 +67,11 @@ public class ContainedIn implements TemporalPredicate {
     return queryFrom <= from && to <= queryTo;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return queryFrom <= maxFrom && minTo <= queryTo;
+  }
+
   @Override
   public String toString() {
     return String.format("CONTAINED IN (%d, %d)", queryFrom, queryTo);
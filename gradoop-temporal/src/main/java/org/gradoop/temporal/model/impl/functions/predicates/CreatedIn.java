@@ -67,6 +67,11 @@ public class CreatedIn implements TemporalPredicate {
     return queryFrom <= from && from <= queryTo;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return queryFrom <= maxFrom && minFrom <= queryTo;
+  }
+
   @Override
   public String toString() {
     return String.format("CREATED IN (%d, %d)", queryFrom, queryTo);
@@ -67,6 +67,11 @@ public class DeletedIn implements TemporalPredicate {
     return queryFrom <= to && to <= queryTo;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return queryFrom <= maxTo && minTo <= queryTo;
+  }
+
   @Override
   public String toString() {
     return String.format("DELETED IN (%d, %d)", queryFrom, queryTo);
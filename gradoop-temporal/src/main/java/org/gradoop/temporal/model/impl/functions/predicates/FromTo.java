@@ -67,6 +67,11 @@ public class FromTo implements TemporalPredicate {
     return from < queryTo && to > queryFrom;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return minFrom < queryTo && maxTo > queryFrom;
+  }
+
   @Override
   public String toString() {
     return "FROM " + queryFrom + " TO " + queryTo;
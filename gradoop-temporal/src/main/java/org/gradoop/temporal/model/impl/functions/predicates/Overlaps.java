@@ -67,6 +67,11 @@ public class Overlaps implements TemporalPredicate {
     return Math.max(from, queryFrom) < Math.min(to, queryTo);
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return queryFrom < queryTo && minFrom < queryTo && maxTo > queryFrom;
+  }
+
   @Override
   public String toString() {
     return String.format("OVERLAPS (%d, %d)", queryFrom, queryTo);
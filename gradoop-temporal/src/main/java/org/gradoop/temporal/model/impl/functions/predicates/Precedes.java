@@ -67,6 +67,11 @@ public class Precedes implements TemporalPredicate {
     return from <= queryFrom && to <= queryFrom;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return minFrom <= queryFrom && minTo <= queryFrom;
+  }
+
   @Override
   public String toString() {
     return String.format("PRECEDES (%d, %d)", queryFrom, queryTo);
@@ -67,6 +67,11 @@ public class Succeeds implements TemporalPredicate {
     return from >= queryFrom && from >= queryTo;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return maxFrom >= queryFrom && maxFrom >= queryTo;
+  }
+
   @Override
   public String toString() {
     return String.format("SUCCEEDS (%d, %d)", queryFrom, queryTo);
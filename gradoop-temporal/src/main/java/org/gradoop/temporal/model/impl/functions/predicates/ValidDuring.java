@@ -67,6 +67,11 @@ public class ValidDuring implements TemporalPredicate {
     return from <= queryFrom && to >= queryTo;
   }
 
+  @Override
+  public boolean mayMatch(long minFrom, long maxFrom, long minTo, long maxTo) {
+    return minFrom <= queryFrom && maxTo >= queryTo;
+  }
+
   @Override
   public String toString() {
     return String.format("VALID DURING (%d, %d)", queryFrom, queryTo);
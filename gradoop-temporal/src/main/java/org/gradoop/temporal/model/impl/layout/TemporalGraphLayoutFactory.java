@@ -55,10 +55,10 @@ public class TemporalGraphLayoutFactory extends TemporalBaseLayoutFactory
     // update vertices and edges with new graph head id
     vertices = vertices
       .map(new AddToGraph<>(graphHead))
-      .withForwardedFields("id;label;properties;transactionTime;validTime");
+      .withForwardedFields("id;label;properties;txFrom;txTo;validFrom;validTo");
     edges = edges
       .map(new AddToGraph<>(graphHead))
-      .withForwardedFields("id;sourceId;targetId;label;properties;transactionTime;validTime");
+      .withForwardedFields("id;sourceId;targetId;label;properties;txFrom;txTo;validFrom;validTo");
 
     return new TemporalGVELayout(graphHeadSet, vertices, edges);
   }
@@ -99,6 +99,35 @@ public class TemporalGraphLayoutFactory extends TemporalBaseLayoutFactory
       "Creating a temporal graph layout from an indexed dataset is not supported yet.");
   }
 
+  /**
+   * Creates a time-partitioned layout from the datasets of each partition and the time bounds of
+   * their elements. Each partition of the vertex and edge datasets requires its bounds.
+   *
+   * @param graphHead    graph head dataset
+   * @param vertices     mapping from partition to vertices
+   * @param edges        mapping from partition to edges
+   * @param vertexBounds mapping from partition to the time bounds of its vertices
+   * @param edgeBounds   mapping from partition to the time bounds of its edges
+   * @return time-partitioned layout
+   */
+  public TemporalPartitionedGVELayout fromPartitionedDataSets(DataSet<TemporalGraphHead> graphHead,
+    Map<Long, DataSet<TemporalVertex>> vertices, Map<Long, DataSet<TemporalEdge>> edges,
+    Map<Long, TemporalPartitionBounds> vertexBounds, Map<Long, TemporalPartitionBounds> edgeBounds) {
+    requireNonNull(graphHead, "Temporal graphHead DataSet is null.");
+    requireNonNull(vertices, "Temporal vertex DataSets are null.");
+    requireNonNull(edges, "Temporal edge DataSets are null.");
+    if (!vertexBounds.keySet().containsAll(vertices.keySet()) ||
+      !edgeBounds.keySet().containsAll(edges.keySet())) {
+      throw new IllegalArgumentException("Missing time bounds for a partition.");
+    }
+    DataSet<TemporalVertex> allVertices = vertices.values().stream().reduce(DataSet::union)
+      .orElseGet(() -> createVertexDataSet(Collections.emptyList()));
+    DataSet<TemporalEdge> allEdges = edges.values().stream().reduce(DataSet::union)
+      .orElseGet(() -> createEdgeDataSet(Collections.emptyList()));
+    return new TemporalPartitionedGVELayout(graphHead, allVertices, allEdges, vertices, edges,
+      vertexBounds, edgeBounds);
+  }
+
   @Override
   public LogicalGraphLayout<TemporalGraphHead, TemporalVertex, TemporalEdge> fromCollections(
     TemporalGraphHead graphHead, Collection<TemporalVertex> vertices,
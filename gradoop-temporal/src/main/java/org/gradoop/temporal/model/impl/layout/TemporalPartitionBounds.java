@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.layout;
+
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The bounds of the time intervals of all elements in a time partition of a
+ * {@link TemporalPartitionedGVELayout}. For both time dimensions the smallest and largest start
+ * and end of the intervals are kept, which allows to decide if a partition may contain elements
+ * matching a {@link TemporalPredicate} without reading it.
+ */
+public class TemporalPartitionBounds implements Serializable {
+
+  /**
+   * Smallest transaction-time start.
+   */
+  private final long minTxFrom;
+  /**
+   * Largest transaction-time start.
+   */
+  private final long maxTxFrom;
+  /**
+   * Smallest transaction-time end.
+   */
+  private final long minTxTo;
+  /**
+   * Largest transaction-time end.
+   */
+  private final long maxTxTo;
+  /**
+   * Smallest valid-time start.
+   */
+  private final long minValidFrom;
+  /**
+   * Largest valid-time start.
+   */
+  private final long maxValidFrom;
+  /**
+   * Smallest valid-time end.
+   */
+  private final long minValidTo;
+  /**
+   * Largest valid-time end.
+   */
+  private final long maxValidTo;
+
+  /**
+   * Creates new partition bounds.
+   *
+   * @param minTxFrom    smallest transaction-time start
+   * @param maxTxFrom    largest transaction-time start
+   * @param minTxTo      smallest transaction-time end
+   * @param maxTxTo      largest transaction-time end
+   * @param minValidFrom smallest valid-time start
+   * @param maxValidFrom largest valid-time start
+   * @param minValidTo   smallest valid-time end
+   * @param maxValidTo   largest valid-time end
+   */
+  public TemporalPartitionBounds(long minTxFrom, long maxTxFrom, long minTxTo, long maxTxTo,
+    long minValidFrom, long maxValidFrom, long minValidTo, long maxValidTo) {
+    this.minTxFrom = minTxFrom;
+    this.maxTxFrom = maxTxFrom;
+    this.minTxTo = minTxTo;
+    this.maxTxTo = maxTxTo;
+    this.minValidFrom = minValidFrom;
+    this.maxValidFrom = maxValidFrom;
+    this.minValidTo = minValidTo;
+    this.maxValidTo = maxValidTo;
+  }
+
+  /**
+   * Returns the partition an interval belongs to, if the partitions are of equal width and the
+   * partition {@code 0} starts at time {@code 0}.
+   *
+   * @param from  the start of the interval
+   * @param width the width of a partition
+   * @return the partition containing the start of the interval
+   */
+  public static long getPartition(long from, long width) {
+    return Math.floorDiv(from, width);
+  }
+
+  /**
+   * Checks if the partition may contain elements matching a predicate in the given dimension.
+   *
+   * @param predicate the temporal predicate
+   * @param dimension the time dimension the predicate is evaluated on
+   * @return {@code false}, if no element of the partition matches the predicate
+   */
+  public boolean mayMatch(TemporalPredicate predicate, TimeDimension dimension) {
+    switch (Objects.requireNonNull(dimension)) {
+    case VALID_TIME:
+      return predicate.mayMatch(minValidFrom, maxValidFrom, minValidTo, maxValidTo);
+    case TRANSACTION_TIME:
+      return predicate.mayMatch(minTxFrom, maxTxFrom, minTxTo, maxTxTo);
+    default:
+      throw new IllegalArgumentException("Unknown dimension [" + dimension + "].");
+    }
+  }
+
+  /**
+   * Get the smallest transaction-time start.
+   *
+   * @return smallest transaction-time start
+   */
+  public long getMinTxFrom() {
+    return minTxFrom;
+  }
+
+  /**
+   * Get the largest transaction-time start.
+   *
+   * @return largest transaction-time start
+   */
+  public long getMaxTxFrom() {
+    return maxTxFrom;
+  }
+
+  /**
+   * Get the smallest transaction-time end.
+   *
+   * @return smallest transaction-time end
+   */
+  public long getMinTxTo() {
+    return minTxTo;
+  }
+
+  /**
+   * Get the largest transaction-time end.
+   *
+   * @return largest transaction-time end
+   */
+  public long getMaxTxTo() {
+    return maxTxTo;
+  }
+
+  /**
+   * Get the smallest valid-time start.
+   *
+   * @return smallest valid-time start
+   */
+  public long getMinValidFrom() {
+    return minValidFrom;
+  }
+
+  /**
+   * Get the largest valid-time start.
+   *
+   * @return largest valid-time start
+   */
+  public long getMaxValidFrom() {
+    return maxValidFrom;
+  }
+
+  /**
+   * Get the smallest valid-time end.
+   *
+   * @return smallest valid-time end
+   */
+  public long getMinValidTo() {
+    return minValidTo;
+  }
+
+  /**
+   * Get the largest valid-time end.
+   *
+   * @return largest valid-time end
+   */
+  public long getMaxValidTo() {
+    return maxValidTo;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("tx:[%d..%d, %d..%d] valid:[%d..%d, %d..%d]", minTxFrom, maxTxFrom,
+      minTxTo, maxTxTo, minValidFrom, maxValidFrom, minValidTo, maxValidTo);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.layout;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.functions.bool.False;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link TemporalGVELayout} storing vertices and edges in time partitions. Each partition is a
+ * separate dataset, for which the {@link TemporalPartitionBounds bounds} of the time intervals of
+ * its elements are known. Operators selecting elements by a {@link TemporalPredicate} only read the
+ * partitions that may contain matching elements.
+ */
+public class TemporalPartitionedGVELayout extends TemporalGVELayout {
+
+  /**
+   * Mapping from partition to the vertices of that partition.
+   */
+  private final Map<Long, DataSet<TemporalVertex>> vertexPartitions;
+  /**
+   * Mapping from partition to the edges of that partition.
+   */
+  private final Map<Long, DataSet<TemporalEdge>> edgePartitions;
+  /**
+   * Mapping from partition to the time bounds of its vertices.
+   */
+  private final Map<Long, TemporalPartitionBounds> vertexBounds;
+  /**
+   * Mapping from partition to the time bounds of its edges.
+   */
+  private final Map<Long, TemporalPartitionBounds> edgeBounds;
+
+  /**
+   * Creates a new time-partitioned layout.
+   *
+   * @param graphHeads       graph head dataset
+   * @param vertices         union of all vertex partitions
+   * @param edges            union of all edge partitions
+   * @param vertexPartitions mapping from partition to vertices
+   * @param edgePartitions   mapping from partition to edges
+   * @param vertexBounds     mapping from partition to the time bounds of its vertices
+   * @param edgeBounds       mapping from partition to the time bounds of its edges
+   */
+  TemporalPartitionedGVELayout(DataSet<TemporalGraphHead> graphHeads,
+    DataSet<TemporalVertex> vertices, DataSet<TemporalEdge> edges,
+    Map<Long, DataSet<TemporalVertex>> vertexPartitions,
+    Map<Long, DataSet<TemporalEdge>> edgePartitions,
+    Map<Long, TemporalPartitionBounds> vertexBounds,
+    Map<Long, TemporalPartitionBounds> edgeBounds) {
+    super(graphHeads, vertices, edges);
+    this.vertexPartitions = vertexPartitions;
+    this.edgePartitions = edgePartitions;
+    this.vertexBounds = vertexBounds;
+    this.edgeBounds = edgeBounds;
+  }
+
+  /**
+   * Returns the vertices of all partitions which may contain vertices matching at least one of
+   * the given predicates. The vertices are not filtered.
+   *
+   * @param dimension  the time dimension the predicates are evaluated on
+   * @param predicates the temporal predicates
+   * @return vertices of the partitions that may match
+   */
+  public DataSet<TemporalVertex> getCandidateVertices(TimeDimension dimension,
+    TemporalPredicate... predicates) {
+    return selectPartitions(vertexPartitions, vertexBounds, getVertices(), dimension, predicates);
+  }
+
+  /**
+   * Returns the edges of all partitions which may contain edges matching at least one of the
+   * given predicates. The edges are not filtered.
+   *
+   * @param dimension  the time dimension the predicates are evaluated on
+   * @param predicates the temporal predicates
+   * @return edges of the partitions that may match
+   */
+  public DataSet<TemporalEdge> getCandidateEdges(TimeDimension dimension,
+    TemporalPredicate... predicates) {
+    return selectPartitions(edgePartitions, edgeBounds, getEdges(), dimension, predicates);
+  }
+
+  /**
+   * Get the partitions of this layout and the time bounds of their vertices.
+   *
+   * @return mapping from partition to vertex time bounds
+   */
+  public Map<Long, TemporalPartitionBounds> getVertexBounds() {
+    return vertexBounds;
+  }
+
+  /**
+   * Get the partitions of this layout and the time bounds of their edges.
+   *
+   * @return mapping from partition to edge time bounds
+   */
+  public Map<Long, TemporalPartitionBounds> getEdgeBounds() {
+    return edgeBounds;
+  }
+
+  /**
+   * Unites the partitions that may contain elements matching one of the predicates. If no
+   * partition matches, an empty dataset is derived from a single partition, so no data has to be
+   * read.
+   *
+   * @param partitions mapping from partition to elements
+   * @param bounds     mapping from partition to time bounds
+   * @param elements   all elements
+   * @param dimension  the time dimension the predicates are evaluated on
+   * @param predicates the temporal predicates
+   * @param <EL> element type
+   * @return elements of the partitions that may match
+   */
+  private static <EL extends TemporalElement> DataSet<EL> selectPartitions(
+    Map<Long, DataSet<EL>> partitions, Map<Long, TemporalPartitionBounds> bounds,
+    DataSet<EL> elements, TimeDimension dimension, TemporalPredicate... predicates) {
+    Objects.requireNonNull(dimension, "No time dimension given.");
+    if (partitions.isEmpty()) {
+      return elements;
+    }
+    return partitions.entrySet().stream()
+      .filter(partition -> Arrays.stream(predicates)
+        .anyMatch(predicate -> bounds.get(partition.getKey()).mayMatch(predicate, dimension)))
+      .map(Map.Entry::getValue)
+      .reduce(DataSet::union)
+      .orElseGet(() -> partitions.values().iterator().next().filter(new False<>()));
+  }
+}
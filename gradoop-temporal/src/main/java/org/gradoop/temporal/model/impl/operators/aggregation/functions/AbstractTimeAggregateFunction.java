@@ -15,7 +15,6 @@
  */
 package org.gradoop.temporal.model.impl.operators.aggregation.functions;
 
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
 import org.gradoop.temporal.model.api.functions.TemporalAggregateFunction;
@@ -77,22 +76,11 @@ public abstract class AbstractTimeAggregateFunction extends BaseAggregateFunctio
    */
   @Override
   public PropertyValue getIncrement(TemporalElement element) {
-    final Tuple2<Long, Long> timeInterval;
-    switch (timeDimension) {
-    case TRANSACTION_TIME:
-      timeInterval = element.getTransactionTime();
-      break;
-    case VALID_TIME:
-      timeInterval = element.getValidTime();
-      break;
-    default:
-      throw new IllegalArgumentException("Unknown dimension [" + timeDimension + "].");
-    }
     switch (field) {
     case FROM:
-      return PropertyValue.create(timeInterval.f0);
+      return PropertyValue.create(element.getFromByDimension(timeDimension));
     case TO:
-      return PropertyValue.create(timeInterval.f1);
+      return PropertyValue.create(element.getToByDimension(timeDimension));
     default:
       throw new IllegalArgumentException("Field [" + field + "] is not supported for time intervals.");
     }
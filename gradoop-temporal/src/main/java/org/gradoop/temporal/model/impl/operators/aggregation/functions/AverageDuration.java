@@ -15,7 +15,6 @@
  */
 package org.gradoop.temporal.model.impl.operators.aggregation.functions;
 
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.average.Average;
@@ -64,26 +63,25 @@ public class AverageDuration extends BaseAggregateFunction implements Average, T
    */
   @Override
   public PropertyValue getIncrement(TemporalElement element) {
-    Tuple2<Long, Long> timeInterval;
+    final long from;
+    final long to;
     switch (dimension) {
     case TRANSACTION_TIME:
-      timeInterval = element.getTransactionTime();
+      from = element.getTxFrom();
+      to = element.getTxTo();
       break;
     case VALID_TIME:
-      timeInterval = element.getValidTime();
+      from = element.getValidFrom();
+      to = element.getValidTo();
       break;
     default:
       throw new IllegalArgumentException("Temporal attribute " + dimension + " is not supported.");
     }
-    if (timeInterval.f0 == null || timeInterval.f1 == null ||
-      timeInterval.f0.equals(TemporalElement.DEFAULT_TIME_FROM) ||
-      timeInterval.f0.equals(TemporalElement.DEFAULT_TIME_TO) ||
-      timeInterval.f1.equals(TemporalElement.DEFAULT_TIME_FROM) ||
-      timeInterval.f1.equals(TemporalElement.DEFAULT_TIME_TO)) {
+    if (from == TemporalElement.DEFAULT_TIME_FROM || from == TemporalElement.DEFAULT_TIME_TO ||
+      to == TemporalElement.DEFAULT_TIME_FROM || to == TemporalElement.DEFAULT_TIME_TO) {
       return Average.IGNORED_VALUE;
     } else {
-      return PropertyValue
-        .create(Arrays.asList(PropertyValue.create(timeInterval.f1 - timeInterval.f0), ONE));
+      return PropertyValue.create(Arrays.asList(PropertyValue.create(to - from), ONE));
     }
   }
 
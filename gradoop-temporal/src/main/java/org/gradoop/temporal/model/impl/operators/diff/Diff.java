@@ -102,9 +102,11 @@ public class Diff implements UnaryBaseGraphToBaseGraphOperator<TemporalGraph> {
 
   @Override
   public TemporalGraph execute(TemporalGraph graph) {
-    DataSet<TemporalVertex> transformedVertices = graph.getVertices()
+    DataSet<TemporalVertex> transformedVertices = graph
+      .getCandidateVertices(dimension, firstPredicate, secondPredicate)
       .flatMap(new DiffPerElement<>(firstPredicate, secondPredicate, dimension));
-    DataSet<TemporalEdge> transformedEdges = graph.getEdges()
+    DataSet<TemporalEdge> transformedEdges = graph
+      .getCandidateEdges(dimension, firstPredicate, secondPredicate)
       .flatMap(new DiffPerElement<>(firstPredicate, secondPredicate, dimension));
     return graph.getFactory().fromDataSets(graph.getGraphHead(), transformedVertices, transformedEdges);
   }
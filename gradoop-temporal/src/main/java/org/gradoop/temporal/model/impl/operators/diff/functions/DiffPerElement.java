@@ -17,7 +17,6 @@ package org.gradoop.temporal.model.impl.operators.diff.functions;
 
 import org.apache.flink.api.common.functions.FlatMapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.temporal.model.api.TimeDimension;
@@ -66,21 +65,11 @@ public class DiffPerElement<E extends TemporalElement> implements FlatMapFunctio
 
   @Override
   public void flatMap(E value, Collector<E> out) {
-    Tuple2<Long, Long> timeValues;
+    final long from = value.getFromByDimension(dimension);
+    final long to = value.getToByDimension(dimension);
 
-    switch (dimension) {
-    case VALID_TIME:
-      timeValues = value.getValidTime();
-      break;
-    case TRANSACTION_TIME:
-      timeValues = value.getTransactionTime();
-      break;
-    default:
-      throw new IllegalArgumentException("Unknown dimension [" + dimension + "].");
-    }
-
-    boolean inFirst = first.test(timeValues.f0, timeValues.f1);
-    boolean inSecond = second.test(timeValues.f0, timeValues.f1);
+    boolean inFirst = first.test(from, to);
+    boolean inSecond = second.test(from, to);
     PropertyValue result;
     if (inFirst && inSecond) {
       result = Diff.VALUE_EQUAL;
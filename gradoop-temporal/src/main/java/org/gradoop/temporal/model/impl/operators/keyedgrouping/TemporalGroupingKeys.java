@@ -22,6 +22,7 @@ import org.gradoop.temporal.model.api.TimeDimension;
 import org.gradoop.temporal.model.impl.operators.keyedgrouping.keys.DurationKeyFunction;
 import org.gradoop.temporal.model.impl.operators.keyedgrouping.keys.TimeIntervalKeyFunction;
 import org.gradoop.temporal.model.impl.operators.keyedgrouping.keys.TimeStampKeyFunction;
+import org.gradoop.temporal.model.impl.operators.keyedgrouping.keys.WindowKeyFunction;
 import org.gradoop.temporal.model.impl.pojo.TemporalElement;
 
 import java.time.temporal.TemporalField;
@@ -98,4 +99,20 @@ public final class TemporalGroupingKeys {
     TemporalField fieldOfTimeStamp) {
     return new TimeStampKeyFunction<>(interval, intervalField, fieldOfTimeStamp);
   }
+
+  /**
+   * Group by tumbling time windows. The windows have a fixed size in milliseconds and are aligned
+   * to the unix epoch. Use {@link TemporalWindowGrouping} to group by sliding windows.
+   *
+   * @param interval      The time interval to consider.
+   * @param intervalField The field of that time interval to consider.
+   * @param windowSize    The size of a window in milliseconds.
+   * @param <T> The type of the elements to group.
+   * @return The grouping key function extracting the start of a window.
+   * @see WindowKeyFunction
+   */
+  public static <T extends TemporalElement> KeyFunctionWithDefaultValue<T, Long> window(
+    TimeDimension interval, TimeDimension.Field intervalField, long windowSize) {
+    return new WindowKeyFunction<>(interval, intervalField, windowSize);
+  }
 }
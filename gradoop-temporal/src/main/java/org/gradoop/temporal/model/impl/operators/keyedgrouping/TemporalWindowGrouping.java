@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.keyedgrouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphOperator;
+import org.gradoop.flink.model.impl.functions.filters.Not;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperEdgeFromTuple;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperVertexFromTuple;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromEdges;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromVertices;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.FilterSuperVertices;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceEdgeTuples;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceVertexTuples;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.UpdateIdField;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.impl.TemporalGraph;
+import org.gradoop.temporal.model.impl.operators.keyedgrouping.functions.AssignPaneToWindows;
+import org.gradoop.temporal.model.impl.operators.keyedgrouping.functions.UpdateWindowIdField;
+import org.gradoop.temporal.model.impl.operators.keyedgrouping.keys.WindowKeyFunction;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Group a temporal graph by some key functions and sliding time windows.<p>
+ * Each vertex and edge is assigned to all windows containing a certain time stamp of the element,
+ * i.e. the start or end of its valid or transaction time. The windows have a fixed size and start
+ * at every multiple of the slide, tumbling windows are sliding windows with a slide equal to their
+ * size. Similar to {@link KeyedGrouping}, elements of the same window and with equal values of the
+ * key functions are reduced to a super-element. The result contains one super-vertex per key and
+ * window, storing the window as properties (see {@link WindowKeyFunction}) and the aggregate values.
+ * Super-edges connect the super-vertices of the same window, an edge is only part of a window
+ * containing both its source and target vertex.<p>
+ * Windows are not computed by copying elements to every window they belong to. Instead, time is
+ * divided into panes, whose size is the greatest common divisor of the window size and slide.
+ * Elements are grouped once per pane and the partial aggregates of each pane are then combined for
+ * every window containing it, e.g. for a window of 7 days sliding by 1 day, each element is
+ * aggregated only once and each daily partial aggregate is combined 7 times. This requires the
+ * {@link AggregateFunction#aggregate(org.gradoop.common.model.impl.properties.PropertyValue,
+ * org.gradoop.common.model.impl.properties.PropertyValue) aggregate} function to combine partial
+ * aggregates in any order, which is already required by {@link KeyedGrouping}.
+ */
+public class TemporalWindowGrouping implements UnaryBaseGraphToBaseGraphOperator<TemporalGraph> {
+
+  /**
+   * The time dimension used to assign elements to windows.
+   */
+  private final TimeDimension timeDimension;
+
+  /**
+   * The field of that time dimension used to assign elements to windows.
+   */
+  private final TimeDimension.Field timeDimensionField;
+
+  /**
+   * The size of a window in milliseconds.
+   */
+  private final long windowSize;
+
+  /**
+   * The distance between the starts of two windows in milliseconds.
+   */
+  private final long windowSlide;
+
+  /**
+   * The vertex grouping keys.
+   */
+  private final List<KeyFunction<TemporalVertex, ?>> vertexGroupingKeys;
+
+  /**
+   * The vertex aggregate functions.
+   */
+  private final List<AggregateFunction> vertexAggregateFunctions;
+
+  /**
+   * The edge grouping keys.
+   */
+  private final List<KeyFunction<TemporalEdge, ?>> edgeGroupingKeys;
+
+  /**
+   * The edge aggregate functions.
+   */
+  private final List<AggregateFunction> edgeAggregateFunctions;
+
+  /**
+   * Instantiate this grouping function.
+   *
+   * @param timeDimension            The time dimension used to assign elements to windows.
+   * @param timeDimensionField       The field of that time dimension used to assign elements to
+   *                                 windows.
+   * @param windowSize               The size of a window in milliseconds.
+   * @param windowSlide              The distance between the starts of two windows in milliseconds.
+   * @param vertexGroupingKeys       The vertex grouping keys.
+   * @param vertexAggregateFunctions The vertex aggregate functions.
+   * @param edgeGroupingKeys         The edge grouping keys.
+   * @param edgeAggregateFunctions   The edge aggregate functions.
+   */
+  public TemporalWindowGrouping(TimeDimension timeDimension, TimeDimension.Field timeDimensionField,
+    long windowSize, long windowSlide,
+    List<KeyFunction<TemporalVertex, ?>> vertexGroupingKeys,
+    List<AggregateFunction> vertexAggregateFunctions,
+    List<KeyFunction<TemporalEdge, ?>> edgeGroupingKeys,
+    List<AggregateFunction> edgeAggregateFunctions) {
+    this.timeDimension = Objects.requireNonNull(timeDimension);
+    this.timeDimensionField = Objects.requireNonNull(timeDimensionField);
+    if (windowSize <= 0 || windowSlide <= 0) {
+      throw new IllegalArgumentException("The window size and slide have to be positive.");
+    }
+    this.windowSize = windowSize;
+    this.windowSlide = windowSlide;
+    this.vertexGroupingKeys = vertexGroupingKeys == null ? Collections.emptyList() :
+      vertexGroupingKeys;
+    this.vertexAggregateFunctions = vertexAggregateFunctions == null ? Collections.emptyList() :
+      vertexAggregateFunctions;
+    this.edgeGroupingKeys = edgeGroupingKeys == null ? Collections.emptyList() :
+      edgeGroupingKeys;
+    this.edgeAggregateFunctions = edgeAggregateFunctions == null ? Collections.emptyList() :
+      edgeAggregateFunctions;
+  }
+
+  @Override
+  public TemporalGraph execute(TemporalGraph graph) {
+    final long paneSize = AssignPaneToWindows.getPaneSize(windowSize, windowSlide);
+    final long defaultPane =
+      new WindowKeyFunction<>(timeDimension, timeDimensionField, paneSize).getDefaultKey();
+    final int vertexPaneField = GroupingConstants.VERTEX_TUPLE_RESERVED;
+    final int edgePaneField = GroupingConstants.EDGE_TUPLE_RESERVED;
+    final int vertexDataOffset = vertexPaneField + 1 + vertexGroupingKeys.size();
+    final int edgeDataOffset = edgePaneField + 1 + edgeGroupingKeys.size();
+    final int[] vertexKeyFields = IntStream.range(vertexPaneField, vertexDataOffset).toArray();
+    final int[] edgeKeyFields = IntStream.range(0, edgeDataOffset).toArray();
+
+    /* Group the vertex-tuples by pane and key fields to calculate the partial aggregates per pane. */
+    DataSet<Tuple> verticesWithPane = graph.getVertices()
+      .map(new BuildTuplesFromVertices<>(withWindowKey(paneSize, vertexGroupingKeys),
+        vertexAggregateFunctions))
+      .groupBy(vertexKeyFields)
+      .reduceGroup(new ReduceVertexTuples<>(vertexDataOffset, vertexAggregateFunctions));
+    DataSet<Tuple2<GradoopId, GradoopId>> idToPaneId = verticesWithPane
+      .filter(new Not<>(new FilterSuperVertices<>()))
+      .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+
+    /* Assign each pane-tuple to its windows and group them again to combine the partial aggregates.
+       Afterwards the pane field stores the window and the ID field the ID of the pane-tuple. */
+    DataSet<Tuple> verticesWithWindow = verticesWithPane
+      .filter(new FilterSuperVertices<>())
+      .flatMap(new AssignPaneToWindows<>(vertexPaneField, windowSize, windowSlide, defaultPane))
+      .groupBy(vertexKeyFields)
+      .reduceGroup(new ReduceVertexTuples<>(vertexDataOffset, vertexAggregateFunctions));
+    DataSet<Tuple3<GradoopId, Long, GradoopId>> paneIdToWindowId = verticesWithWindow
+      .filter(new Not<>(new FilterSuperVertices<>()))
+      .project(GroupingConstants.VERTEX_TUPLE_ID, vertexPaneField,
+        GroupingConstants.VERTEX_TUPLE_SUPERID);
+
+    /* Edges are grouped the same way, source- and target-IDs are updated to the super-vertices of
+       the pane first and to the super-vertices of the window afterwards. */
+    DataSet<Tuple> edgesWithPane = graph.getEdges()
+      .map(new BuildTuplesFromEdges<>(withWindowKey(paneSize, edgeGroupingKeys), edgeAggregateFunctions))
+      .join(idToPaneId)
+      .where(GroupingConstants.EDGE_TUPLE_SOURCEID)
+      .equalTo(GroupingConstants.VERTEX_TUPLE_ID)
+      .with(new UpdateIdField<>(GroupingConstants.EDGE_TUPLE_SOURCEID))
+      .join(idToPaneId)
+      .where(GroupingConstants.EDGE_TUPLE_TARGETID)
+      .equalTo(GroupingConstants.VERTEX_TUPLE_ID)
+      .with(new UpdateIdField<>(GroupingConstants.EDGE_TUPLE_TARGETID))
+      .groupBy(edgeKeyFields)
+      .reduceGroup(new ReduceEdgeTuples<>(edgeDataOffset, edgeAggregateFunctions))
+      .setCombinable(true);
+    DataSet<Tuple> superEdgeTuples = edgesWithPane
+      .flatMap(new AssignPaneToWindows<>(edgePaneField, windowSize, windowSlide, defaultPane))
+      .join(paneIdToWindowId)
+      .where(GroupingConstants.EDGE_TUPLE_SOURCEID, edgePaneField)
+      .equalTo(0, 1)
+      .with(new UpdateWindowIdField<>(GroupingConstants.EDGE_TUPLE_SOURCEID))
+      .join(paneIdToWindowId)
+      .where(GroupingConstants.EDGE_TUPLE_TARGETID, edgePaneField)
+      .equalTo(0, 1)
+      .with(new UpdateWindowIdField<>(GroupingConstants.EDGE_TUPLE_TARGETID))
+      .groupBy(edgeKeyFields)
+      .reduceGroup(new ReduceEdgeTuples<>(edgeDataOffset, edgeAggregateFunctions))
+      .setCombinable(true);
+
+    DataSet<TemporalVertex> superVertices = verticesWithWindow
+      .filter(new FilterSuperVertices<>())
+      .map(new BuildSuperVertexFromTuple<>(withWindowKey(windowSize, vertexGroupingKeys),
+        vertexAggregateFunctions, graph.getFactory().getVertexFactory()));
+    DataSet<TemporalEdge> superEdges = superEdgeTuples
+      .map(new BuildSuperEdgeFromTuple<>(withWindowKey(windowSize, edgeGroupingKeys),
+        edgeAggregateFunctions, graph.getFactory().getEdgeFactory()));
+
+    return graph.getFactory().fromDataSets(superVertices, superEdges);
+  }
+
+  /**
+   * Get a list of key functions starting with a window key function, followed by other key
+   * functions.
+   *
+   * @param size The size of the windows.
+   * @param keys The other key functions.
+   * @param <E>  The type of the elements to group.
+   * @return All key functions.
+   */
+  private <E extends TemporalElement> List<KeyFunction<E, ?>> withWindowKey(long size,
+    List<KeyFunction<E, ?>> keys) {
+    List<KeyFunction<E, ?>> result = new ArrayList<>(keys.size() + 1);
+    result.add(new WindowKeyFunction<>(timeDimension, timeDimensionField, size));
+    result.addAll(keys);
+    return result;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+
+/**
+ * Assigns the partial aggregate of a pane to all sliding windows containing that pane.<p>
+ * Panes are the epoch-aligned, non-overlapping time intervals whose size is the greatest common
+ * divisor of the window size and slide, therefore each window is the union of a fixed number of
+ * panes. The input tuples store the start of their pane at a certain field, this function emits
+ * one copy of each tuple per window containing the pane, with that field set to the start of the
+ * window. Tuples with the default pane are not part of any window and will be discarded.
+ *
+ * @param <T> The type of the tuples.
+ */
+public class AssignPaneToWindows<T extends Tuple> implements FlatMapFunction<T, T> {
+
+  /**
+   * The index of the field storing the pane start.
+   */
+  private final int paneField;
+
+  /**
+   * The size of a pane.
+   */
+  private final long paneSize;
+
+  /**
+   * The size of a window.
+   */
+  private final long windowSize;
+
+  /**
+   * The distance between the starts of two windows.
+   */
+  private final long windowSlide;
+
+  /**
+   * The pane of elements not assigned to any window.
+   */
+  private final long defaultPane;
+
+  /**
+   * Create a new instance of this function.
+   *
+   * @param paneField   The index of the field storing the pane start.
+   * @param windowSize  The size of a window.
+   * @param windowSlide The distance between the starts of two windows.
+   * @param defaultPane The pane of elements not assigned to any window.
+   */
+  public AssignPaneToWindows(int paneField, long windowSize, long windowSlide, long defaultPane) {
+    this.paneField = paneField;
+    this.paneSize = getPaneSize(windowSize, windowSlide);
+    this.windowSize = windowSize;
+    this.windowSlide = windowSlide;
+    this.defaultPane = defaultPane;
+  }
+
+  @Override
+  public void flatMap(T tuple, Collector<T> out) {
+    final long paneStart = tuple.getField(paneField);
+    if (paneStart == defaultPane) {
+      return;
+    }
+    // Windows [start, start + size) with start <= paneStart and paneStart + paneSize <= start + size.
+    final long firstWindow = -Math.floorDiv(windowSize - paneStart - paneSize, windowSlide);
+    final long lastWindow = Math.floorDiv(paneStart, windowSlide);
+    for (long window = firstWindow; window <= lastWindow; window++) {
+      T copy = tuple.copy();
+      copy.setField(window * windowSlide, paneField);
+      out.collect(copy);
+    }
+  }
+
+  /**
+   * Get the size of the panes of sliding windows, which is the greatest common divisor of the window
+   * size and slide.
+   *
+   * @param windowSize  The size of a window.
+   * @param windowSlide The distance between the starts of two windows.
+   * @return The size of a pane.
+   */
+  public static long getPaneSize(long windowSize, long windowSlide) {
+    long a = windowSize;
+    long b = windowSlide;
+    while (b != 0) {
+      long remainder = a % b;
+      a = b;
+      b = remainder;
+    }
+    return a;
+  }
+}
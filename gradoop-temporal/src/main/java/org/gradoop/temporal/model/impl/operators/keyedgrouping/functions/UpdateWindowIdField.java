@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Update a tuple field with a certain index to the ID of a super-vertex of a window.
+ * The left side of this join function is the tuple to be updated and the right side a
+ * {@link Tuple3} with the old ID, the window and the new ID.
+ *
+ * @param <T> The input- and result-tuple type.
+ */
+public class UpdateWindowIdField<T extends Tuple>
+  implements JoinFunction<T, Tuple3<GradoopId, Long, GradoopId>, T> {
+
+  /**
+   * The index of the field to update.
+   */
+  private final int index;
+
+  /**
+   * Create a new instance of this update function.
+   *
+   * @param index The index of the field to update.
+   */
+  public UpdateWindowIdField(int index) {
+    this.index = index;
+  }
+
+  @Override
+  public T join(T inputTuple, Tuple3<GradoopId, Long, GradoopId> updateValue) {
+    inputTuple.setField(updateValue.f2, index);
+    return inputTuple;
+  }
+}
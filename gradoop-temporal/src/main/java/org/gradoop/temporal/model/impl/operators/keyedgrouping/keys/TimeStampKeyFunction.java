@@ -17,7 +17,6 @@ package org.gradoop.temporal.model.impl.operators.keyedgrouping.keys;
 
 import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.KeyFunctionWithDefaultValue;
 import org.gradoop.temporal.model.api.TimeDimension;
@@ -91,29 +90,17 @@ public class TimeStampKeyFunction<T extends TemporalElement> implements KeyFunct
 
   @Override
   public Long getKey(T element) {
-    final Tuple2<Long, Long> interval;
-    switch (timeDimension) {
-    case TRANSACTION_TIME:
-      interval = element.getTransactionTime();
-      break;
-    case VALID_TIME:
-      interval = element.getValidTime();
-      break;
-    default:
-      throw new UnsupportedOperationException(
-        "Time interval not supported by this element: " + timeDimension);
-    }
-    final Long fieldValue;
+    final long fieldValue;
     switch (timeDimensionField) {
     case FROM:
-      fieldValue = interval.f0;
-      if (fieldValue.equals(TemporalElement.DEFAULT_TIME_FROM) && (fieldOfTimeStamp != null)) {
+      fieldValue = element.getFromByDimension(timeDimension);
+      if (fieldValue == TemporalElement.DEFAULT_TIME_FROM && (fieldOfTimeStamp != null)) {
         return getDefaultKey();
       }
       break;
     case TO:
-      fieldValue = interval.f1;
-      if (fieldValue.equals(TemporalElement.DEFAULT_TIME_TO) && (fieldOfTimeStamp != null)) {
+      fieldValue = element.getToByDimension(timeDimension);
+      if (fieldValue == TemporalElement.DEFAULT_TIME_TO && (fieldOfTimeStamp != null)) {
         return getDefaultKey();
       }
       break;
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.keyedgrouping.keys;
+
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.KeyFunctionWithDefaultValue;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+
+import java.util.Objects;
+
+/**
+ * A key function assigning a {@link TemporalElement} to a tumbling time window.<p>
+ * The windows have a fixed size in milliseconds and are aligned to the unix epoch, i.e. the
+ * windows are {@code [n * size, (n + 1) * size)} for all integers {@code n}. An element is assigned
+ * to the window containing a time stamp of the element, the key is the start of that window.<p>
+ * The final grouping key will be stored on the super element as two properties with keys
+ * {@code window_INTERVAL_FIELD_start} and {@code window_INTERVAL_FIELD_end} where {@code INTERVAL}
+ * is the {@link TimeDimension} and {@code FIELD} the {@link TimeDimension.Field}, holding the
+ * start (inclusive) and end (exclusive) of the window.<p>
+ * When the extracted {@link TimeDimension.Field field} of the {@link TimeDimension} is set to a
+ * default value, that value will be returned as the default key instead. In this case no property
+ * will be set.
+ *
+ * @param <T> The type of the elements to group.
+ */
+public class WindowKeyFunction<T extends TemporalElement> implements KeyFunctionWithDefaultValue<T, Long> {
+
+  /**
+   * The time dimension of the temporal element to consider.
+   */
+  private final TimeDimension timeDimension;
+
+  /**
+   * The field of that dimension to consider.
+   */
+  private final TimeDimension.Field timeDimensionField;
+
+  /**
+   * The size of a window in milliseconds.
+   */
+  private final long windowSize;
+
+  /**
+   * The property key used to store the window start on the super-element.
+   */
+  private final String startPropertyKey;
+
+  /**
+   * The property key used to store the window end on the super-element.
+   */
+  private final String endPropertyKey;
+
+  /**
+   * Create a new instance of this grouping key function.
+   *
+   * @param timeDimension      The time dimension of the temporal element to consider.
+   * @param timeDimensionField The field of that time dimension to consider.
+   * @param windowSize         The size of a window in milliseconds.
+   */
+  public WindowKeyFunction(TimeDimension timeDimension, TimeDimension.Field timeDimensionField,
+    long windowSize) {
+    this.timeDimension = Objects.requireNonNull(timeDimension);
+    this.timeDimensionField = Objects.requireNonNull(timeDimensionField);
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("The window size has to be positive: " + windowSize);
+    }
+    this.windowSize = windowSize;
+    this.startPropertyKey = "window_" + timeDimension + "_" + timeDimensionField + "_start";
+    this.endPropertyKey = "window_" + timeDimension + "_" + timeDimensionField + "_end";
+  }
+
+  @Override
+  public Long getKey(T element) {
+    final long timeStamp;
+    switch (timeDimensionField) {
+    case FROM:
+      timeStamp = element.getFromByDimension(timeDimension);
+      break;
+    case TO:
+      timeStamp = element.getToByDimension(timeDimension);
+      break;
+    default:
+      throw new UnsupportedOperationException("Field is not supported: " + timeDimensionField);
+    }
+    if (timeStamp == getDefaultKey()) {
+      return getDefaultKey();
+    }
+    return getWindowStart(timeStamp, windowSize);
+  }
+
+  @Override
+  public void addKeyToElement(T element, Object key) {
+    if (!(key instanceof Long)) {
+      throw new IllegalArgumentException("Invalid type for key: " + key.getClass().getSimpleName());
+    }
+    if (!getDefaultKey().equals(key)) {
+      element.setProperty(startPropertyKey, PropertyValue.create(key));
+      element.setProperty(endPropertyKey, PropertyValue.create((Long) key + windowSize));
+    }
+  }
+
+  @Override
+  public TypeInformation<Long> getType() {
+    return BasicTypeInfo.LONG_TYPE_INFO;
+  }
+
+  @Override
+  public Long getDefaultKey() {
+    switch (timeDimensionField) {
+    case FROM:
+      return TemporalElement.DEFAULT_TIME_FROM;
+    case TO:
+      return TemporalElement.DEFAULT_TIME_TO;
+    default:
+      throw new UnsupportedOperationException("Field not supported: " + timeDimensionField);
+    }
+  }
+
+  /**
+   * Get the start of the epoch-aligned window of a certain size containing a time stamp.
+   *
+   * @param timeStamp  The time stamp.
+   * @param windowSize The size of the window.
+   * @return The start of the window.
+   */
+  public static long getWindowStart(long timeStamp, long windowSize) {
+    return Math.floorDiv(timeStamp, windowSize) * windowSize;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.snapshot;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.api.entities.GraphHeadFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphCollectionOperator;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
+import org.gradoop.temporal.model.impl.TemporalGraph;
+import org.gradoop.temporal.model.impl.TemporalGraphCollection;
+import org.gradoop.temporal.model.impl.functions.predicates.AsOf;
+import org.gradoop.temporal.model.impl.functions.predicates.FromTo;
+import org.gradoop.temporal.model.impl.operators.snapshot.functions.AddToSnapshots;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Extracts multiple snapshots of a temporal graph at once, one for each given temporal predicate.
+ * The result is a graph collection containing one graph per snapshot, which is equal to the result
+ * of the {@link Snapshot} operator for its predicate.
+ * <p>
+ * Instead of filtering the graph once per snapshot, each vertex and edge is read once and added
+ * to the graphs of all snapshots it matches. Elements matching no snapshot are discarded. The
+ * graph head of each snapshot has the label {@value #GRAPH_LABEL} and stores the position of its
+ * predicate as property {@value #PROPERTY_KEY_INDEX} and the predicate itself as property
+ * {@value #PROPERTY_KEY_PREDICATE}. Aggregates per snapshot can be computed on the resulting
+ * collection, e.g. using its {@code apply} operator.
+ * <p>
+ * The resulting graphs will not be verified, i.e. dangling edges could occur.
+ */
+public class MultiSnapshot
+  implements UnaryBaseGraphToBaseGraphCollectionOperator<TemporalGraph, TemporalGraphCollection> {
+
+  /**
+   * Label of the graph heads of the snapshots.
+   */
+  public static final String GRAPH_LABEL = "Snapshot";
+
+  /**
+   * Property key storing the position of the predicate of a snapshot.
+   */
+  public static final String PROPERTY_KEY_INDEX = "_snapshotIndex";
+
+  /**
+   * Property key storing the string representation of the predicate of a snapshot.
+   */
+  public static final String PROPERTY_KEY_PREDICATE = "_snapshotPredicate";
+
+  /**
+   * The predicates of the snapshots.
+   */
+  private final List<TemporalPredicate> predicates;
+
+  /**
+   * Specifies the time dimension that will be considered by the operator.
+   */
+  private final TimeDimension dimension;
+
+  /**
+   * Creates an instance of the multi-snapshot operator with the given temporal predicates.
+   * The predicates are applied on the valid time dimension.
+   *
+   * @param predicates The temporal predicates, one per snapshot.
+   */
+  public MultiSnapshot(List<TemporalPredicate> predicates) {
+    this(predicates, TimeDimension.VALID_TIME);
+  }
+
+  /**
+   * Creates an instance of the multi-snapshot operator with the given temporal predicates.
+   *
+   * @param predicates The temporal predicates, one per snapshot.
+   * @param dimension  The time dimension that will be considered by the operator.
+   */
+  public MultiSnapshot(List<TemporalPredicate> predicates, TimeDimension dimension) {
+    Objects.requireNonNull(predicates, "No predicates given.");
+    if (predicates.isEmpty()) {
+      throw new IllegalArgumentException("At least one predicate is required.");
+    }
+    this.predicates = new ArrayList<>(predicates);
+    this.dimension = Objects.requireNonNull(dimension, "No time dimension given.");
+  }
+
+  /**
+   * Creates the predicates of snapshots {@code AS OF} each of the given time stamps.
+   *
+   * @param timestamps the time stamps in milliseconds
+   * @return one {@link AsOf} predicate per time stamp
+   */
+  public static List<TemporalPredicate> asOf(long... timestamps) {
+    List<TemporalPredicate> result = new ArrayList<>(timestamps.length);
+    for (long timestamp : timestamps) {
+      result.add(new AsOf(timestamp));
+    }
+    return result;
+  }
+
+  /**
+   * Creates the predicates of sliding windows. The windows start at {@code from} and every
+   * {@code slide} milliseconds after it, as long as they start before {@code to}. A window
+   * starting at {@code start} is the snapshot {@code FROM start TO start + size}, i.e. it contains
+   * all elements overlapping the interval {@code [start, start + size)}.
+   *
+   * @param from  the start of the first window
+   * @param to    the time all windows start before
+   * @param size  the size of a window
+   * @param slide the distance between the starts of two windows
+   * @return one {@link FromTo} predicate per window
+   */
+  public static List<TemporalPredicate> slidingWindows(long from, long to, long size, long slide) {
+    if (size <= 0 || slide <= 0) {
+      throw new IllegalArgumentException("Window size and slide have to be positive.");
+    }
+    List<TemporalPredicate> result = new ArrayList<>();
+    for (long start = from; start < to; start += slide) {
+      result.add(new FromTo(start, start + size));
+    }
+    return result;
+  }
+
+  @Override
+  public TemporalGraphCollection execute(TemporalGraph graph) {
+    GraphHeadFactory<TemporalGraphHead> graphHeadFactory =
+      graph.getCollectionFactory().getGraphHeadFactory();
+    List<TemporalGraphHead> graphHeads = new ArrayList<>(predicates.size());
+    List<GradoopId> graphIds = new ArrayList<>(predicates.size());
+    for (int i = 0; i < predicates.size(); i++) {
+      TemporalGraphHead graphHead = graphHeadFactory.createGraphHead(GRAPH_LABEL);
+      graphHead.setProperty(PROPERTY_KEY_INDEX, PropertyValue.create(i));
+      graphHead.setProperty(PROPERTY_KEY_PREDICATE,
+        PropertyValue.create(predicates.get(i).toString()));
+      graphHeads.add(graphHead);
+      graphIds.add(graphHead.getId());
+    }
+
+    TemporalPredicate[] candidatePredicates = predicates.toArray(new TemporalPredicate[0]);
+    DataSet<TemporalVertex> vertices = graph
+      .getCandidateVertices(dimension, candidatePredicates)
+      .flatMap(new AddToSnapshots<>(predicates, graphIds, dimension));
+    DataSet<TemporalEdge> edges = graph
+      .getCandidateEdges(dimension, candidatePredicates)
+      .flatMap(new AddToSnapshots<>(predicates, graphIds, dimension));
+
+    return graph.getCollectionFactory().fromDataSets(
+      graph.getConfig().getExecutionEnvironment().fromCollection(graphHeads), vertices, edges);
+  }
+
+  /**
+   * Get the predicates of the snapshots.
+   *
+   * @return the temporal predicates, one per snapshot
+   */
+  public List<TemporalPredicate> getPredicates() {
+    return Collections.unmodifiableList(predicates);
+  }
+}
@@ -70,10 +70,10 @@ public class Snapshot implements UnaryBaseGraphToBaseGraphOperator<TemporalGraph
 
   @Override
   public TemporalGraph execute(TemporalGraph superGraph) {
-    DataSet<TemporalVertex> vertices = superGraph.getVertices()
+    DataSet<TemporalVertex> vertices = superGraph.getCandidateVertices(dimension, temporalPredicate)
       // Filter vertices
       .filter(new ByTemporalPredicate<>(temporalPredicate, dimension));
-    DataSet<TemporalEdge> edges = superGraph.getEdges()
+    DataSet<TemporalEdge> edges = superGraph.getCandidateEdges(dimension, temporalPredicate)
       // Filter edges
       .filter(new ByTemporalPredicate<>(temporalPredicate, dimension));
 
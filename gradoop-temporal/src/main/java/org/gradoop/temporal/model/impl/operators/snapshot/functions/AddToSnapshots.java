@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.snapshot.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Assigns a temporal element to the graphs of all snapshots whose predicate it matches. The
+ * element replaces its graph ids by the ids of these snapshots and is discarded, if it matches
+ * none of them.
+ *
+ * @param <E> temporal element type
+ */
+@FunctionAnnotation.NonForwardedFields("graphIds")
+public class AddToSnapshots<E extends TemporalGraphElement> implements FlatMapFunction<E, E> {
+
+  /**
+   * The predicates of the snapshots.
+   */
+  private final TemporalPredicate[] predicates;
+
+  /**
+   * The graph ids of the snapshots, in the order of their predicates.
+   */
+  private final GradoopId[] graphIds;
+
+  /**
+   * Specifies the time dimension that will be considered by the predicates.
+   */
+  private final TimeDimension dimension;
+
+  /**
+   * Creates a new instance of this function.
+   *
+   * @param predicates the predicates of the snapshots
+   * @param graphIds   the graph ids of the snapshots, in the order of their predicates
+   * @param dimension  the time dimension that will be considered by the predicates
+   */
+  public AddToSnapshots(List<TemporalPredicate> predicates, List<GradoopId> graphIds,
+    TimeDimension dimension) {
+    if (predicates.size() != graphIds.size()) {
+      throw new IllegalArgumentException("Each snapshot requires exactly one graph id.");
+    }
+    this.predicates = predicates.toArray(new TemporalPredicate[0]);
+    this.graphIds = graphIds.toArray(new GradoopId[0]);
+    this.dimension = Objects.requireNonNull(dimension, "No time dimension given.");
+  }
+
+  @Override
+  public void flatMap(E element, Collector<E> out) {
+    final long from = element.getFromByDimension(dimension);
+    final long to = element.getToByDimension(dimension);
+    List<GradoopId> snapshots = new ArrayList<>();
+    for (int i = 0; i < predicates.length; i++) {
+      if (predicates[i].test(from, to)) {
+        snapshots.add(graphIds[i]);
+      }
+    }
+    if (!snapshots.isEmpty()) {
+      // build the sorted set at once instead of inserting each id
+      element.setGraphIds(GradoopIdSet.fromExisting(snapshots));
+      out.collect(element);
+    }
+  }
+}
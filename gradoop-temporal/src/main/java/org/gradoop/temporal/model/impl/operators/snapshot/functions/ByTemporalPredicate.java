@@ -15,7 +15,6 @@
  */
 package org.gradoop.temporal.model.impl.operators.snapshot.functions;
 
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.flink.model.impl.functions.filters.CombinableFilter;
 import org.gradoop.temporal.model.api.functions.TemporalPredicate;
 import org.gradoop.temporal.model.api.TimeDimension;
@@ -54,7 +53,6 @@ public class ByTemporalPredicate<T extends TemporalElement> implements Combinabl
 
   @Override
   public boolean filter(T element) {
-    Tuple2<Long, Long> timeValues = element.getTimeByDimension(dimension);
-    return condition.test(timeValues.f0, timeValues.f1);
+    return condition.test(element.getFromByDimension(dimension), element.getToByDimension(dimension));
   }
 }
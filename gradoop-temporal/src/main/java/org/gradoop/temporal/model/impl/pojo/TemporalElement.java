@@ -38,22 +38,30 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    */
   public static final Long DEFAULT_TIME_TO = Long.MAX_VALUE;
   /**
-   * Transaction time interval containing the beginning and end of the elements transaction time.
-   * Its values are unix timestamps in milliseconds.
+   * The beginning of the elements transaction time as unix timestamp in milliseconds.
    */
-  private Tuple2<Long, Long> transactionTime;
+  private long txFrom;
   /**
-   * Valid time interval containing the beginning and end of the elements validity.
-   * Its values are unix timestamps in milliseconds.
+   * The end of the elements transaction time as unix timestamp in milliseconds.
    */
-  private Tuple2<Long, Long> validTime;
+  private long txTo;
+  /**
+   * The beginning of the elements validity as unix timestamp in milliseconds.
+   */
+  private long validFrom;
+  /**
+   * The end of the elements validity as unix timestamp in milliseconds.
+   */
+  private long validTo;
 
   /**
    * Default constructor. Needed because of Flink's POJO rules and serialization.
    */
   public TemporalElement() {
-    transactionTime = new Tuple2<>();
-    validTime = new Tuple2<>();
+    txFrom = DEFAULT_TIME_FROM;
+    txTo = DEFAULT_TIME_TO;
+    validFrom = DEFAULT_TIME_FROM;
+    validTo = DEFAULT_TIME_TO;
   }
 
   /**
@@ -68,25 +76,24 @@ public abstract class TemporalElement extends EPGMElement implements Element {
   TemporalElement(GradoopId id, String label, Properties properties, Long validFrom, Long validTo) {
     super(id, label, properties);
     // Set transaction time beginning to the current system time
-    transactionTime = new Tuple2<>(System.currentTimeMillis(), DEFAULT_TIME_TO);
-
-    Tuple2<Long, Long> newValidTime = new Tuple2<>();
-    newValidTime.f0 = validFrom == null ? DEFAULT_TIME_FROM : validFrom;
-    newValidTime.f1 = validTo == null ? DEFAULT_TIME_TO : validTo;
-    setValidTime(newValidTime);
+    this.txFrom = System.currentTimeMillis();
+    this.txTo = DEFAULT_TIME_TO;
+    setValidTime(new Tuple2<>(validFrom == null ? DEFAULT_TIME_FROM : validFrom,
+      validTo == null ? DEFAULT_TIME_TO : validTo));
   }
 
   /**
-   * Get the transaction time tuple (tx-from, tx-to). Needed because of Flink's POJO rules.
+   * Get the transaction time tuple (tx-from, tx-to). The tuple is a copy, changing it will not
+   * change this element.
    *
    * @return a {@link Tuple2} representing the transaction time interval
    */
   public Tuple2<Long, Long> getTransactionTime() {
-    return transactionTime;
+    return new Tuple2<>(txFrom, txTo);
   }
 
   /**
-   * Set the transaction time tuple (tx-from, tx-to). Needed because of Flink's POJO rules.
+   * Set the transaction time tuple (tx-from, tx-to).
    *
    * @param transactionTime a {@link Tuple2} representing the transaction time interval
    */
@@ -97,20 +104,22 @@ public abstract class TemporalElement extends EPGMElement implements Element {
     if (transactionTime.f0 > transactionTime.f1) {
       throw new IllegalArgumentException("tx-from time can not be after tx-to time");
     }
-    this.transactionTime = transactionTime;
+    this.txFrom = transactionTime.f0;
+    this.txTo = transactionTime.f1;
   }
 
   /**
-   * Get the valid time tuple (valid-from, valid-to). Needed because of Flink's POJO rules.
+   * Get the valid time tuple (valid-from, valid-to). The tuple is a copy, changing it will not
+   * change this element.
    *
    * @return a {@link Tuple2} representing the valid time interval
    */
   public Tuple2<Long, Long> getValidTime() {
-    return validTime;
+    return new Tuple2<>(validFrom, validTo);
   }
 
   /**
-   * Set the valid time tuple (valid-from, valid-to). Needed because of Flink's POJO rules.
+   * Set the valid time tuple (valid-from, valid-to).
    *
    * @param validTime a {@link Tuple2} representing the valid time interval
    */
@@ -121,21 +130,70 @@ public abstract class TemporalElement extends EPGMElement implements Element {
     if (validTime.f0 > validTime.f1) {
       throw new IllegalArgumentException("valid-from time can not be after valid-to time");
     }
-    this.validTime = validTime;
+    this.validFrom = validTime.f0;
+    this.validTo = validTime.f1;
   }
 
   /**
-   * Get the time tuple (from, to) regarding to the given {@link TimeDimension}.
+   * Get the time tuple (from, to) regarding to the given {@link TimeDimension}. The tuple is a
+   * copy, use {@link #getFromByDimension(TimeDimension)} and {@link #getToByDimension(TimeDimension)}
+   * to avoid its creation.
    *
    * @param dimension the time dimension of the returned values
    * @return a tuple 2 representing the time interval of the given dimension
    */
   public Tuple2<Long, Long> getTimeByDimension(TimeDimension dimension) {
+    return new Tuple2<>(getFromByDimension(dimension), getToByDimension(dimension));
+  }
+
+  /**
+   * Get the beginning of the time interval regarding to the given {@link TimeDimension}.
+   *
+   * @param dimension the time dimension of the returned value
+   * @return the beginning of the time interval as unix timestamp in milliseconds
+   */
+  public long getFromByDimension(TimeDimension dimension) {
+    switch (Objects.requireNonNull(dimension)) {
+    case VALID_TIME:
+      return this.validFrom;
+    case TRANSACTION_TIME:
+      return this.txFrom;
+    default:
+      throw new IllegalArgumentException("Unknown dimension [" + dimension + "].");
+    }
+  }
+
+  /**
+   * Get the end of the time interval regarding to the given {@link TimeDimension}.
+   *
+   * @param dimension the time dimension of the returned value
+   * @return the end of the time interval as unix timestamp in milliseconds
+   */
+  public long getToByDimension(TimeDimension dimension) {
+    switch (Objects.requireNonNull(dimension)) {
+    case VALID_TIME:
+      return this.validTo;
+    case TRANSACTION_TIME:
+      return this.txTo;
+    default:
+      throw new IllegalArgumentException("Unknown dimension [" + dimension + "].");
+    }
+  }
+
+  /**
+   * Get the name of the field storing a time stamp of temporal elements. The field can be used as
+   * key expression of Flink operators, e.g. to sort or range-partition a dataset by time.
+   *
+   * @param dimension the time dimension of the field
+   * @param field     the start or end of the time interval
+   * @return the name of the field
+   */
+  public static String getTimeFieldName(TimeDimension dimension, TimeDimension.Field field) {
     switch (Objects.requireNonNull(dimension)) {
     case VALID_TIME:
-      return this.validTime;
+      return Objects.requireNonNull(field) == TimeDimension.Field.FROM ? "validFrom" : "validTo";
     case TRANSACTION_TIME:
-      return this.transactionTime;
+      return Objects.requireNonNull(field) == TimeDimension.Field.FROM ? "txFrom" : "txTo";
     default:
       throw new IllegalArgumentException("Unknown dimension [" + dimension + "].");
     }
@@ -146,8 +204,8 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    *
    * @return the beginning of the elements validity as unix timestamp in milliseconds
    */
-  public Long getValidFrom() {
-    return this.validTime.f0;
+  public long getValidFrom() {
+    return this.validFrom;
   }
 
   /**
@@ -156,7 +214,7 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    * @param validFrom the beginning of the elements validity as unix timestamp in milliseconds
    */
   public void setValidFrom(long validFrom) {
-    this.validTime.f0 = validFrom;
+    this.validFrom = validFrom;
   }
 
   /**
@@ -164,8 +222,8 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    *
    * @return the end of the elements validity as unix timestamp in milliseconds
    */
-  public Long getValidTo() {
-    return this.validTime.f1;
+  public long getValidTo() {
+    return this.validTo;
   }
 
   /**
@@ -174,7 +232,7 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    * @param validTo the end of the elements validity as unix timestamp in milliseconds
    */
   public void setValidTo(long validTo) {
-    this.validTime.f1 = validTo;
+    this.validTo = validTo;
   }
 
   /**
@@ -182,8 +240,8 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    *
    * @return the beginning of the elements transaction interval as unix timestamp in milliseconds
    */
-  public Long getTxFrom() {
-    return this.transactionTime.f0;
+  public long getTxFrom() {
+    return this.txFrom;
   }
 
   /**
@@ -192,7 +250,7 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    * @param txFrom the beginning of the elements transaction interval as unit timestamp in milliseconds
    */
   public void setTxFrom(long txFrom) {
-    this.transactionTime.f0 = txFrom;
+    this.txFrom = txFrom;
   }
 
   /**
@@ -200,8 +258,8 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    *
    * @return the end of the elements transaction interval as unix timestamp in milliseconds
    */
-  public Long getTxTo() {
-    return this.transactionTime.f1;
+  public long getTxTo() {
+    return this.txTo;
   }
 
   /**
@@ -210,7 +268,7 @@ public abstract class TemporalElement extends EPGMElement implements Element {
    * @param txTo the end of the elements transaction interval as unix timestamp in milliseconds
    */
   public void setTxTo(long txTo) {
-    this.transactionTime.f1 = txTo;
+    this.txTo = txTo;
   }
 
   @Override
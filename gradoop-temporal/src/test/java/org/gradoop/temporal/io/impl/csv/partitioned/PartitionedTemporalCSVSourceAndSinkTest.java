@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.io.impl.csv.partitioned;
+
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
+import org.gradoop.temporal.model.impl.TemporalGraph;
+import org.gradoop.temporal.model.impl.functions.predicates.AsOf;
+import org.gradoop.temporal.model.impl.functions.predicates.Between;
+import org.gradoop.temporal.model.impl.functions.predicates.ContainedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.CreatedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.FromTo;
+import org.gradoop.temporal.util.TemporalGradoopTestBase;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A test for the time-partitioned temporal CSV data source and sink.
+ */
+public class PartitionedTemporalCSVSourceAndSinkTest extends TemporalGradoopTestBase {
+
+  /**
+   * Temporal graph to test
+   */
+  private TemporalGraph testGraph;
+
+  /**
+   * Temporary test folder to write the test graph.
+   */
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  /**
+   * Creates a test temporal graph with different valid and transaction times.
+   */
+  @Before
+  public void setUp() {
+    testGraph = getTestGraphWithValues();
+  }
+
+  /**
+   * Test writing and reading a time-partitioned graph.
+   *
+   * @throws Exception in case of failure
+   */
+  @Test
+  public void testWriteAndRead() throws Exception {
+    TemporalGraph graph = writeAndRead(TimeDimension.VALID_TIME, 2L);
+
+    collectAndAssertTrue(graph.equalsByData(testGraph));
+  }
+
+  /**
+   * Test writing and reading a time-partitioned graph collection.
+   *
+   * @throws Exception in case of failure
+   */
+  @Test
+  public void testWriteAndReadCollection() throws Exception {
+    String path = testFolder.newFolder().getPath();
+    testGraph.writeTo(new PartitionedTemporalCSVDataSink(path, getConfig(),
+      TimeDimension.TRANSACTION_TIME, 3L));
+    getExecutionEnvironment().execute();
+
+    collectAndAssertTrue(new PartitionedTemporalCSVDataSource(path, getConfig())
+      .getTemporalGraphCollection()
+      .equalsByGraphData(getConfig().getTemporalGraphCollectionFactory().fromGraph(testGraph)));
+  }
+
+  /**
+   * Test that snapshots and diffs of a time-partitioned graph are equal to the ones of the
+   * original graph.
+   *
+   * @throws Exception in case of failure
+   */
+  @Test
+  public void testSnapshotAndDiff() throws Exception {
+    for (TimeDimension partitionDimension : TimeDimension.values()) {
+      TemporalGraph graph = writeAndRead(partitionDimension, 2L);
+      for (TimeDimension dimension : TimeDimension.values()) {
+        for (TemporalPredicate predicate : getPredicates()) {
+          collectAndAssertTrue(graph.snapshot(predicate, dimension)
+            .equalsByData(testGraph.snapshot(predicate, dimension)));
+        }
+        collectAndAssertTrue(graph.diff(new AsOf(2L), new AsOf(6L), dimension)
+          .equalsByData(testGraph.diff(new AsOf(2L), new AsOf(6L), dimension)));
+      }
+    }
+  }
+
+  /**
+   * Test that only the partitions which may contain matching elements are read.
+   *
+   * @throws Exception in case of failure
+   */
+  @Test
+  public void testPartitionPruning() throws Exception {
+    // vertex partitions: {v1}, {v2, v5}, {v3}, {v4}, edge partitions: {e1, e3}, {e4, e5}, {e2}
+    TemporalGraph graph = writeAndRead(TimeDimension.VALID_TIME, 2L);
+    TemporalPredicate createdIn = new CreatedIn(3L, 4L);
+
+    assertEquals(2, graph.getCandidateVertices(TimeDimension.VALID_TIME, createdIn).count());
+    assertEquals(2, graph.getCandidateEdges(TimeDimension.VALID_TIME, createdIn).count());
+    assertEquals(0, graph.getCandidateEdges(TimeDimension.VALID_TIME, new CreatedIn(8L, 9L))
+      .count());
+    assertEquals(4, graph.getCandidateVertices(TimeDimension.VALID_TIME, new AsOf(8L)).count());
+    assertEquals(5, testGraph.getCandidateVertices(TimeDimension.VALID_TIME, createdIn).count());
+  }
+
+  /**
+   * Writes the test graph partitioned by time and reads it again.
+   *
+   * @param dimension the time dimension used to partition the graph
+   * @param width     the width of a partition
+   * @return the graph read from the written files
+   * @throws Exception in case of failure
+   */
+  private TemporalGraph writeAndRead(TimeDimension dimension, long width) throws Exception {
+    String path = testFolder.newFolder().getPath();
+    testGraph.writeTo(new PartitionedTemporalCSVDataSink(path, getConfig(), dimension, width));
+    getExecutionEnvironment().execute();
+    return new PartitionedTemporalCSVDataSource(path, getConfig()).getTemporalGraph();
+  }
+
+  /**
+   * Creates the predicates used to compare snapshots.
+   *
+   * @return temporal predicates
+   */
+  private List<TemporalPredicate> getPredicates() {
+    return Arrays.asList(new AsOf(3L), new Between(2L, 5L), new ContainedIn(1L, 8L),
+      new CreatedIn(3L, 4L), new FromTo(6L, 9L));
+  }
+}
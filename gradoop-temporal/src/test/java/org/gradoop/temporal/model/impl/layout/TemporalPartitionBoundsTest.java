@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.layout;
+
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
+import org.gradoop.temporal.model.impl.functions.predicates.AsOf;
+import org.gradoop.temporal.model.impl.functions.predicates.Between;
+import org.gradoop.temporal.model.impl.functions.predicates.ContainedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.CreatedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.DeletedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.FromTo;
+import org.gradoop.temporal.model.impl.functions.predicates.Overlaps;
+import org.gradoop.temporal.model.impl.functions.predicates.Precedes;
+import org.gradoop.temporal.model.impl.functions.predicates.Succeeds;
+import org.gradoop.temporal.model.impl.functions.predicates.ValidDuring;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link TemporalPartitionBounds} and the partition pruning of the temporal predicates.
+ */
+public class TemporalPartitionBoundsTest {
+
+  /**
+   * The largest time stamp used to enumerate intervals.
+   */
+  private static final int MAX_TIME = 5;
+
+  /**
+   * Test the assignment of time stamps to partitions.
+   */
+  @Test
+  public void testGetPartition() {
+    assertEquals(0L, TemporalPartitionBounds.getPartition(0L, 10L));
+    assertEquals(0L, TemporalPartitionBounds.getPartition(9L, 10L));
+    assertEquals(1L, TemporalPartitionBounds.getPartition(10L, 10L));
+    assertEquals(-1L, TemporalPartitionBounds.getPartition(-1L, 10L));
+    assertEquals(Long.MIN_VALUE / 10 - 1, TemporalPartitionBounds.getPartition(Long.MIN_VALUE, 10L));
+  }
+
+  /**
+   * Test that the bounds of the selected time dimension are passed to the predicate.
+   */
+  @Test
+  public void testMayMatchByDimension() {
+    TemporalPartitionBounds bounds = new TemporalPartitionBounds(0L, 2L, 3L, 5L, 10L, 12L, 13L, 15L);
+    assertTrue(bounds.mayMatch(new AsOf(4L), TimeDimension.TRANSACTION_TIME));
+    assertFalse(bounds.mayMatch(new AsOf(4L), TimeDimension.VALID_TIME));
+    assertFalse(bounds.mayMatch(new AsOf(14L), TimeDimension.TRANSACTION_TIME));
+    assertTrue(bounds.mayMatch(new AsOf(14L), TimeDimension.VALID_TIME));
+    // The default implementation never excludes a partition.
+    assertTrue(bounds.mayMatch((from, to) -> false, TimeDimension.VALID_TIME));
+  }
+
+  /**
+   * Test that no predicate excludes a partition containing a matching interval, by enumerating
+   * all partitions of up to two intervals and all query intervals on a small time range.
+   */
+  @Test
+  public void testMayMatchIsConservative() {
+    List<long[]> intervals = new ArrayList<>();
+    for (long from = 0; from <= MAX_TIME; from++) {
+      for (long to = from; to <= MAX_TIME; to++) {
+        intervals.add(new long[] {from, to});
+      }
+    }
+    int pruned = 0;
+    for (long[] query : intervals) {
+      for (TemporalPredicate predicate : getPredicates(query[0], query[1])) {
+        for (long[] first : intervals) {
+          for (long[] second : intervals) {
+            boolean matches = predicate.test(first[0], first[1]) ||
+              predicate.test(second[0], second[1]);
+            boolean mayMatch = predicate.mayMatch(Math.min(first[0], second[0]),
+              Math.max(first[0], second[0]), Math.min(first[1], second[1]),
+              Math.max(first[1], second[1]));
+            assertTrue(predicate + " excludes a matching partition", mayMatch || !matches);
+            pruned += mayMatch ? 0 : 1;
+          }
+        }
+      }
+    }
+    assertTrue(pruned > 0);
+  }
+
+  /**
+   * Creates all predicates for a query interval.
+   *
+   * @param from start of the query interval
+   * @param to   end of the query interval
+   * @return temporal predicates
+   */
+  private List<TemporalPredicate> getPredicates(long from, long to) {
+    List<TemporalPredicate> predicates = new ArrayList<>();
+    predicates.add(new AsOf(from));
+    predicates.add(new Between(from, to));
+    predicates.add(new ContainedIn(from, to));
+    predicates.add(new CreatedIn(from, to));
+    predicates.add(new DeletedIn(from, to));
+    predicates.add(new FromTo(from, to));
+    predicates.add(new Overlaps(from, to));
+    predicates.add(new Precedes(from, to));
+    predicates.add(new Succeeds(from, to));
+    predicates.add(new ValidDuring(from, to));
+    return predicates;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.keyedgrouping;
+
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.EdgeCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.temporal.model.impl.TemporalGraph;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+import org.gradoop.temporal.util.TemporalGradoopTestBase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.temporal.model.api.TimeDimension.Field.FROM;
+import static org.gradoop.temporal.model.api.TimeDimension.VALID_TIME;
+
+/**
+ * Tests for the {@link TemporalWindowGrouping} operator.
+ */
+public class TemporalWindowGroupingTest extends TemporalGradoopTestBase {
+
+  /**
+   * The input graph used by all tests.
+   */
+  private static final String INPUT = "input[" +
+    "(a1:A {__valFrom: 0L, __valTo: 100L, a: 1L})" +
+    "(a2:A {__valFrom: 1L, __valTo: 100L, a: 2L})" +
+    "(a3:A {__valFrom: 3L, __valTo: 100L, a: 3L})" +
+    "(b1:B {__valFrom: 2L, __valTo: 100L, a: 4L})" +
+    "(b2:B {__valFrom: 5L, __valTo: 100L, a: 5L})" +
+    "(a1)-[:e {__valFrom: 2L, __valTo: 100L}]->(b1)" +
+    "(a3)-[:e {__valFrom: 4L, __valTo: 100L}]->(b2)" +
+    "(a2)-[:e {__valFrom: 1L, __valTo: 100L}]->(a1)" +
+    "(a3)-[:e {__valFrom: 3L, __valTo: 100L}]->(b1)" +
+    "]";
+
+  /**
+   * The vertex aggregate functions used by all tests.
+   */
+  private final List<AggregateFunction> vertexAggregateFunctions = Arrays.asList(
+    new VertexCount("count"), new SumVertexProperty("a", "sum_a"));
+
+  /**
+   * The edge aggregate functions used by all tests.
+   */
+  private final List<AggregateFunction> edgeAggregateFunctions =
+    Collections.singletonList(new EdgeCount("count"));
+
+  /**
+   * Test grouping by sliding windows overlapping each other.
+   *
+   * @throws Exception when the execution in Flink fails
+   */
+  @Test
+  public void testSlidingWindows() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(INPUT + "expected[" +
+      "(wm2a:A {" + window(-2L, 2L) + ", count: 2L, sum_a: 3L})" +
+      "(w0a:A {" + window(0L, 4L) + ", count: 3L, sum_a: 6L})" +
+      "(w0b:B {" + window(0L, 4L) + ", count: 1L, sum_a: 4L})" +
+      "(w2a:A {" + window(2L, 6L) + ", count: 1L, sum_a: 3L})" +
+      "(w2b:B {" + window(2L, 6L) + ", count: 2L, sum_a: 9L})" +
+      "(w4b:B {" + window(4L, 8L) + ", count: 1L, sum_a: 5L})" +
+      "(wm2a)-[:e {" + window(-2L, 2L) + ", count: 1L}]->(wm2a)" +
+      "(w0a)-[:e {" + window(0L, 4L) + ", count: 1L}]->(w0a)" +
+      "(w0a)-[:e {" + window(0L, 4L) + ", count: 2L}]->(w0b)" +
+      "(w2a)-[:e {" + window(2L, 6L) + ", count: 2L}]->(w2b)" +
+      "]");
+    TemporalGraph input = toTemporalGraphWithDefaultExtractors(loader.getLogicalGraphByVariable("input"));
+    TemporalGraph expected = toTemporalGraph(loader.getLogicalGraphByVariable("expected"));
+
+    TemporalGraph result = input.callForGraph(new TemporalWindowGrouping(VALID_TIME, FROM, 4L, 2L,
+      Collections.singletonList(GroupingKeys.label()), vertexAggregateFunctions,
+      Collections.singletonList(GroupingKeys.label()), edgeAggregateFunctions));
+
+    collectAndAssertTrue(result.toLogicalGraph().equalsByElementData(expected.toLogicalGraph()));
+  }
+
+  /**
+   * Test grouping by windows with a slide not dividing the window size.
+   *
+   * @throws Exception when the execution in Flink fails
+   */
+  @Test
+  public void testWindowsWithUnevenSlide() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(INPUT + "expected[" +
+      "(wm3:A {" + window(-3L, 1L) + ", count: 1L, sum_a: 1L})" +
+      "(w0a:A {" + window(0L, 4L) + ", count: 3L, sum_a: 6L})" +
+      "(w0b:B {" + window(0L, 4L) + ", count: 1L, sum_a: 4L})" +
+      "(w3a:A {" + window(3L, 7L) + ", count: 1L, sum_a: 3L})" +
+      "(w3b:B {" + window(3L, 7L) + ", count: 1L, sum_a: 5L})" +
+      "(w0a)-[{" + window(0L, 4L) + "}]->(w0a)" +
+      "(w0a)-[{" + window(0L, 4L) + "}]->(w0b)" +
+      "(w3a)-[{" + window(3L, 7L) + "}]->(w3b)" +
+      "]");
+    TemporalGraph input = toTemporalGraphWithDefaultExtractors(loader.getLogicalGraphByVariable("input"));
+    TemporalGraph expected = toTemporalGraph(loader.getLogicalGraphByVariable("expected"));
+
+    TemporalGraph result = input.callForGraph(new TemporalWindowGrouping(VALID_TIME, FROM, 4L, 3L,
+      Collections.singletonList(GroupingKeys.label()), vertexAggregateFunctions,
+      null, null));
+
+    collectAndAssertTrue(result.toLogicalGraph().equalsByElementData(expected.toLogicalGraph()));
+  }
+
+  /**
+   * Test if grouping by tumbling windows results in the same super-vertices as grouping with the
+   * window key function. Super-edges are not compared, since they only connect super-vertices of
+   * the same window.
+   *
+   * @throws Exception when the execution in Flink fails
+   */
+  @Test
+  public void testTumblingWindows() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(INPUT);
+    TemporalGraph input = toTemporalGraphWithDefaultExtractors(loader.getLogicalGraphByVariable("input"));
+    List<KeyFunction<TemporalVertex, ?>> vertexKeys = Arrays.asList(
+      TemporalGroupingKeys.window(VALID_TIME, FROM, 4L), GroupingKeys.label());
+
+    TemporalGraph expected = input.callForGraph(new KeyedGrouping<>(vertexKeys,
+      vertexAggregateFunctions, null, null));
+    TemporalGraph result = input.callForGraph(new TemporalWindowGrouping(VALID_TIME, FROM, 4L, 4L,
+      Collections.singletonList(GroupingKeys.label()), vertexAggregateFunctions, null, null));
+
+    collectAndAssertTrue(input.getFactory().fromDataSets(result.getVertices()).toLogicalGraph()
+      .equalsByElementData(input.getFactory().fromDataSets(expected.getVertices()).toLogicalGraph()));
+  }
+
+  /**
+   * Get the window properties of a super-element as a GDL string.
+   *
+   * @param start The start of the window.
+   * @param end   The end of the window.
+   * @return The properties.
+   */
+  private static String window(long start, long end) {
+    return "window_VALID_TIME_FROM_start: " + start + "L, window_VALID_TIME_FROM_end: " + end + "L";
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.keyedgrouping.keys;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.KeyFunctionWithDefaultValue;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.impl.operators.keyedgrouping.TemporalGroupingKeys;
+import org.gradoop.temporal.model.impl.pojo.TemporalElement;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+import org.gradoop.temporal.util.TemporalGradoopTestBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test for the {@link WindowKeyFunction} key function.
+ */
+public class WindowKeyFunctionTest extends TemporalGradoopTestBase {
+
+  /**
+   * Test if elements are assigned to the correct windows, including negative time stamps.
+   */
+  @Test
+  public void testGetKey() {
+    TemporalVertex vertex = getConfig().getTemporalGraphFactory().getVertexFactory().createVertex();
+    KeyFunctionWithDefaultValue<TemporalElement, Long> function = TemporalGroupingKeys.window(
+      TimeDimension.VALID_TIME, TimeDimension.Field.FROM, 10L);
+    vertex.setValidFrom(0L);
+    assertEquals(Long.valueOf(0L), function.getKey(vertex));
+    vertex.setValidFrom(19L);
+    assertEquals(Long.valueOf(10L), function.getKey(vertex));
+    vertex.setValidFrom(-1L);
+    assertEquals(Long.valueOf(-10L), function.getKey(vertex));
+    vertex.setValidFrom(-10L);
+    assertEquals(Long.valueOf(-10L), function.getKey(vertex));
+  }
+
+  /**
+   * Test if default values are handled properly.
+   */
+  @Test
+  public void testWithDefaultValue() {
+    TemporalVertex vertex = getConfig().getTemporalGraphFactory().getVertexFactory().createVertex();
+    KeyFunctionWithDefaultValue<TemporalElement, Long> function = TemporalGroupingKeys.window(
+      TimeDimension.TRANSACTION_TIME, TimeDimension.Field.TO, 10L);
+    assertEquals(TemporalElement.DEFAULT_TIME_TO, function.getKey(vertex));
+    assertEquals(TemporalElement.DEFAULT_TIME_TO, function.getDefaultKey());
+    function.addKeyToElement(vertex, function.getDefaultKey());
+    assertNull(vertex.getPropertyValue("window_TRANSACTION_TIME_TO_start"));
+  }
+
+  /**
+   * Test if the window is stored on the super element.
+   */
+  @Test
+  public void testAddKeyToElement() {
+    TemporalVertex vertex = getConfig().getTemporalGraphFactory().getVertexFactory().createVertex();
+    KeyFunctionWithDefaultValue<TemporalElement, Long> function = TemporalGroupingKeys.window(
+      TimeDimension.VALID_TIME, TimeDimension.Field.FROM, 10L);
+    function.addKeyToElement(vertex, 20L);
+    assertEquals(PropertyValue.create(20L), vertex.getPropertyValue("window_VALID_TIME_FROM_start"));
+    assertEquals(PropertyValue.create(30L), vertex.getPropertyValue("window_VALID_TIME_FROM_end"));
+  }
+
+  /**
+   * Test if a non-positive window size is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidWindowSize() {
+    TemporalGroupingKeys.window(TimeDimension.VALID_TIME, TimeDimension.Field.FROM, 0L);
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2014 - 2019 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.temporal.model.impl.operators.snapshot;
+
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.temporal.model.api.TimeDimension;
+import org.gradoop.temporal.model.api.functions.TemporalPredicate;
+import org.gradoop.temporal.model.impl.TemporalGraphCollection;
+import org.gradoop.temporal.model.impl.functions.predicates.AsOf;
+import org.gradoop.temporal.model.impl.functions.predicates.Between;
+import org.gradoop.temporal.model.impl.functions.predicates.ContainedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.CreatedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.DeletedIn;
+import org.gradoop.temporal.model.impl.functions.predicates.FromTo;
+import org.gradoop.temporal.model.impl.functions.predicates.ValidDuring;
+import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphElement;
+import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
+import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
+import org.gradoop.temporal.util.TemporalGradoopTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test for the multi-snapshot operator for temporal graphs.
+ */
+public class MultiSnapshotTest extends TemporalGradoopTestBase {
+
+  /**
+   * Test the operator on the valid time. The expected results are the ones of the {@link Snapshot}
+   * operator for each predicate.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testValidTime() throws Exception {
+    List<TemporalPredicate> predicates = Arrays.asList(new AsOf(3L), new Between(2L, 3L),
+      new ContainedIn(0L, 5L), new CreatedIn(2L, 5L), new DeletedIn(6L, 10L), new FromTo(1L, 3L),
+      new ValidDuring(3L, 8L));
+    List<String[]> expectedVertices = Arrays.asList(new String[] {V1, V2, V3, V5},
+      new String[] {V1, V2, V3, V5}, new String[] {V4}, new String[] {V3, V4},
+      new String[] {V3, V5}, new String[] {V1, V2, V5}, new String[] {V1, V2, V3, V5});
+    List<String[]> expectedEdges = Arrays.asList(new String[] {E1}, new String[] {E1},
+      new String[] {E3, E5}, new String[] {E4, E5}, new String[] {E2, E4}, new String[] {E1},
+      new String[] {E1});
+
+    runTest(predicates, TimeDimension.VALID_TIME, expectedVertices, expectedEdges);
+  }
+
+  /**
+   * Test the operator on the transaction time. The expected results are the ones of the
+   * {@link Snapshot} operator for each predicate.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testTransactionTime() throws Exception {
+    List<TemporalPredicate> predicates = Arrays.asList(new AsOf(3L), new ContainedIn(2L, 8L),
+      new ValidDuring(1L, 6L));
+    List<String[]> expectedVertices = Arrays.asList(new String[] {V1, V2, V3, V4, V5},
+      new String[] {V4, V5}, new String[] {V1, V2, V3});
+    List<String[]> expectedEdges = Arrays.asList(new String[] {E1, E3, E5},
+      new String[] {E3, E4, E5}, new String[] {E1});
+
+    runTest(predicates, TimeDimension.TRANSACTION_TIME, expectedVertices, expectedEdges);
+  }
+
+  /**
+   * Test the creation of sliding window predicates.
+   */
+  @Test
+  public void testSlidingWindows() {
+    List<TemporalPredicate> windows = MultiSnapshot.slidingWindows(0L, 10L, 4L, 3L);
+    assertEquals(4, windows.size());
+    assertEquals(new FromTo(0L, 4L).toString(), windows.get(0).toString());
+    assertEquals(new FromTo(9L, 13L).toString(), windows.get(3).toString());
+    assertEquals(2, MultiSnapshot.asOf(1L, 2L).size());
+  }
+
+  /**
+   * Test if the operator rejects an empty list of predicates.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testWithoutPredicates() {
+    new MultiSnapshot(new ArrayList<>());
+  }
+
+  /**
+   * Runs the operator and checks the labels of the elements of each snapshot.
+   *
+   * @param predicates       the predicates of the snapshots
+   * @param dimension        the time dimension to use
+   * @param expectedVertices the expected vertex labels of each snapshot
+   * @param expectedEdges    the expected edge labels of each snapshot
+   * @throws Exception when the execution in Flink fails.
+   */
+  private void runTest(List<TemporalPredicate> predicates, TimeDimension dimension,
+    List<String[]> expectedVertices, List<String[]> expectedEdges) throws Exception {
+    Collection<TemporalGraphHead> resultGraphHeads = new ArrayList<>();
+    Collection<TemporalVertex> resultVertices = new ArrayList<>();
+    Collection<TemporalEdge> resultEdges = new ArrayList<>();
+
+    TemporalGraphCollection result = getTestGraphWithValues().snapshots(predicates, dimension);
+
+    result.getGraphHeads().output(new LocalCollectionOutputFormat<>(resultGraphHeads));
+    result.getVertices().output(new LocalCollectionOutputFormat<>(resultVertices));
+    result.getEdges().output(new LocalCollectionOutputFormat<>(resultEdges));
+
+    getConfig().getExecutionEnvironment().execute();
+
+    assertEquals(predicates.size(), resultGraphHeads.size());
+    Map<GradoopId, Integer> indexById = new HashMap<>();
+    for (TemporalGraphHead graphHead : resultGraphHeads) {
+      assertEquals(MultiSnapshot.GRAPH_LABEL, graphHead.getLabel());
+      int index = graphHead.getPropertyValue(MultiSnapshot.PROPERTY_KEY_INDEX).getInt();
+      assertEquals(predicates.get(index).toString(),
+        graphHead.getPropertyValue(MultiSnapshot.PROPERTY_KEY_PREDICATE).getString());
+      indexById.put(graphHead.getId(), index);
+    }
+
+    List<Set<String>> vertexLabels = labelsBySnapshot(resultVertices, indexById, predicates.size());
+    List<Set<String>> edgeLabels = labelsBySnapshot(resultEdges, indexById, predicates.size());
+    for (int i = 0; i < predicates.size(); i++) {
+      assertEquals(new HashSet<>(Arrays.asList(expectedVertices.get(i))), vertexLabels.get(i));
+      assertEquals(new HashSet<>(Arrays.asList(expectedEdges.get(i))), edgeLabels.get(i));
+    }
+  }
+
+  /**
+   * Groups the labels of elements by the snapshots containing them.
+   *
+   * @param elements  the elements of the result collection
+   * @param indexById the index of each snapshot by its graph id
+   * @param snapshots the number of snapshots
+   * @return the element labels of each snapshot
+   */
+  private List<Set<String>> labelsBySnapshot(Collection<? extends TemporalGraphElement> elements,
+    Map<GradoopId, Integer> indexById, int snapshots) {
+    List<Set<String>> labels = new ArrayList<>();
+    for (int i = 0; i < snapshots; i++) {
+      labels.add(new HashSet<>());
+    }
+    for (TemporalGraphElement element : elements) {
+      for (GradoopId graphId : element.getGraphIds()) {
+        labels.get(indexById.get(graphId)).add(element.getLabel());
+      }
+    }
+    return labels;
+  }
+}
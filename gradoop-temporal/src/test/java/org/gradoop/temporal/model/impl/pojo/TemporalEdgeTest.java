@@ -61,8 +61,8 @@ public class TemporalEdgeTest {
     assertEquals(sourceId, temporalEdge.getSourceId());
     assertEquals(targetId, temporalEdge.getTargetId());
     assertEquals(label, temporalEdge.getLabel());
-    assertEquals(validFrom, temporalEdge.getValidFrom());
-    assertEquals(validTo, temporalEdge.getValidTo());
+    assertEquals((long) validFrom, temporalEdge.getValidFrom());
+    assertEquals((long) validTo, temporalEdge.getValidTo());
   }
 
   /**
@@ -75,8 +75,8 @@ public class TemporalEdgeTest {
     TemporalEdge temporalEdge = new TemporalEdge();
 
     assertNull(temporalEdge.getLabel());
-    assertNull(temporalEdge.getValidFrom());
-    assertNull(temporalEdge.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalEdge.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalEdge.getValidTo());
 
     temporalEdge.setSourceId(sourceId);
     temporalEdge.setTargetId(targetId);
@@ -98,8 +98,8 @@ public class TemporalEdgeTest {
     TemporalEdge temporalEdge = factory.initEdge(edgeId, label, sourceId, targetId, null, null,
       null, null);
 
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, temporalEdge.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, temporalEdge.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalEdge.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalEdge.getValidTo());
   }
 
   /**
@@ -114,8 +114,8 @@ public class TemporalEdgeTest {
     assertEquals(sourceId, temporalEdge.getSourceId());
     assertEquals(targetId, temporalEdge.getTargetId());
     assertEquals(GradoopConstants.DEFAULT_EDGE_LABEL, temporalEdge.getLabel());
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, temporalEdge.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, temporalEdge.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalEdge.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalEdge.getValidTo());
   }
 
   /**
@@ -144,7 +144,7 @@ public class TemporalEdgeTest {
     assertEquals(nonTemporalEdge.getProperties(), temporalEdge.getProperties());
     assertEquals(nonTemporalEdge.getPropertyCount(), temporalEdge.getPropertyCount());
     assertEquals(nonTemporalEdge.getGraphIds(), temporalEdge.getGraphIds());
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, temporalEdge.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, temporalEdge.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalEdge.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalEdge.getValidTo());
   }
 }
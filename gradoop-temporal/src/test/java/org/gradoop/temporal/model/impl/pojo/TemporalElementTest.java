@@ -15,12 +15,17 @@
  */
 package org.gradoop.temporal.model.impl.pojo;
 
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.temporal.model.api.TimeDimension;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -52,8 +57,8 @@ public class TemporalElementTest {
     assertSame(id, elementMock.getId());
     assertEquals(label, elementMock.getLabel());
     assertSame(props, elementMock.getProperties());
-    assertEquals(validFrom, elementMock.getValidFrom());
-    assertEquals(validTo, elementMock.getValidTo());
+    assertEquals((long) validFrom, elementMock.getValidFrom());
+    assertEquals((long) validTo, elementMock.getValidTo());
     assertTrue(elementMock.getTxFrom() <= System.currentTimeMillis());
     assertEquals(Long.MAX_VALUE, (long) elementMock.getTxTo());
   }
@@ -82,14 +87,14 @@ public class TemporalElementTest {
 
     assertSame(id, elementMock.getId());
     assertSame(props, elementMock.getProperties());
-    assertEquals(validFrom, elementMock.getValidFrom());
-    assertEquals(validTo, elementMock.getValidTo());
+    assertEquals((long) validFrom, elementMock.getValidFrom());
+    assertEquals((long) validTo, elementMock.getValidTo());
     assertTrue(elementMock.getTxFrom() <= System.currentTimeMillis());
-    assertEquals((Long) Long.MAX_VALUE, elementMock.getTxTo());
+    assertEquals(Long.MAX_VALUE, elementMock.getTxTo());
     elementMock.setTxFrom(txFrom);
     elementMock.setTxTo(txTo);
-    assertEquals(txFrom, elementMock.getTxFrom());
-    assertEquals(txTo, elementMock.getTxTo());
+    assertEquals((long) txFrom, elementMock.getTxFrom());
+    assertEquals((long) txTo, elementMock.getTxTo());
   }
 
   /**
@@ -141,6 +146,57 @@ public class TemporalElementTest {
     elementMock.getTimeByDimension(null);
   }
 
+  /**
+   * Test {@link TemporalElement#getFromByDimension(TimeDimension)} and
+   * {@link TemporalElement#getToByDimension(TimeDimension)}.
+   */
+  @Test
+  public void testPrimitiveTimeGetterByDimension() {
+    TemporalElement elementMock = mock(TemporalElement.class, withSettings()
+      .useConstructor(GradoopId.get(), null, null, 1L, 2L)
+      .defaultAnswer(CALLS_REAL_METHODS));
+    elementMock.setTransactionTime(new Tuple2<>(3L, 4L));
+
+    assertEquals(1L, elementMock.getFromByDimension(TimeDimension.VALID_TIME));
+    assertEquals(2L, elementMock.getToByDimension(TimeDimension.VALID_TIME));
+    assertEquals(3L, elementMock.getFromByDimension(TimeDimension.TRANSACTION_TIME));
+    assertEquals(4L, elementMock.getToByDimension(TimeDimension.TRANSACTION_TIME));
+  }
+
+  /**
+   * Test if the tuples returned by the getters are copies of the time fields.
+   */
+  @Test
+  public void testTimeTuplesAreCopies() {
+    TemporalElement elementMock = mock(TemporalElement.class, withSettings()
+      .useConstructor(GradoopId.get(), null, null, 1L, 2L)
+      .defaultAnswer(CALLS_REAL_METHODS));
+
+    elementMock.getValidTime().f0 = 0L;
+    elementMock.getTimeByDimension(TimeDimension.VALID_TIME).f1 = 5L;
+
+    assertEquals(Tuple2.of(1L, 2L), elementMock.getValidTime());
+  }
+
+  /**
+   * Test if the time fields are fields of the POJO type of temporal elements, which can be used as
+   * key expressions.
+   */
+  @Test
+  public void testTimeFieldsOfPojoType() {
+    for (Class<? extends TemporalElement> type :
+      Arrays.asList(TemporalVertex.class, TemporalEdge.class, TemporalGraphHead.class)) {
+      TypeInformation<? extends TemporalElement> typeInfo = TypeInformation.of(type);
+      assertTrue(typeInfo instanceof PojoTypeInfo);
+      for (TimeDimension dimension : TimeDimension.values()) {
+        for (TimeDimension.Field field : TimeDimension.Field.values()) {
+          assertEquals(BasicTypeInfo.LONG_TYPE_INFO, ((PojoTypeInfo<?>) typeInfo)
+            .getTypeAt(TemporalElement.getTimeFieldName(dimension, field)));
+        }
+      }
+    }
+  }
+
   /**
    * Test {@link TemporalElement#setValidTime(Tuple2)} with an invalid interval.
    */
@@ -49,8 +49,8 @@ public class TemporalGraphHeadTest {
   public void testDefaultConstructor() {
     TemporalGraphHead temporalGraphHead = new TemporalGraphHead();
     assertNull(temporalGraphHead.getLabel());
-    assertNull(temporalGraphHead.getValidFrom());
-    assertNull(temporalGraphHead.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalGraphHead.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalGraphHead.getValidTo());
   }
 
   /**
@@ -62,8 +62,8 @@ public class TemporalGraphHeadTest {
 
     assertNotNull(temporalGraphHead.getId());
     assertEquals(GradoopConstants.DEFAULT_VERTEX_LABEL, temporalGraphHead.getLabel());
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, temporalGraphHead.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, temporalGraphHead.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalGraphHead.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalGraphHead.getValidTo());
   }
 
   /**
@@ -85,7 +85,7 @@ public class TemporalGraphHeadTest {
     assertEquals(nonTemporalGraphHead.getLabel(), temporalGraphHead.getLabel());
     assertEquals(nonTemporalGraphHead.getProperties(), temporalGraphHead.getProperties());
     assertEquals(nonTemporalGraphHead.getPropertyCount(), temporalGraphHead.getPropertyCount());
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, temporalGraphHead.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, temporalGraphHead.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalGraphHead.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalGraphHead.getValidTo());
   }
 }
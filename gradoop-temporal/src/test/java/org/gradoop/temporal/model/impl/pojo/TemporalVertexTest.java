@@ -50,8 +50,8 @@ public class TemporalVertexTest {
   public void testDefaultConstructor() {
     TemporalVertex temporalVertex = new TemporalVertex();
     assertNull(temporalVertex.getLabel());
-    assertNull(temporalVertex.getValidFrom());
-    assertNull(temporalVertex.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalVertex.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalVertex.getValidTo());
   }
 
   /**
@@ -64,8 +64,8 @@ public class TemporalVertexTest {
     assertNotNull(temporalVertex.getId());
     assertEquals(GradoopConstants.DEFAULT_VERTEX_LABEL, temporalVertex.getLabel());
     assertNull(temporalVertex.getGraphIds());
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, temporalVertex.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, temporalVertex.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalVertex.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalVertex.getValidTo());
   }
 
   /**
@@ -89,7 +89,7 @@ public class TemporalVertexTest {
     assertEquals(nonTemporalVertex.getProperties(), temporalVertex.getProperties());
     assertEquals(nonTemporalVertex.getPropertyCount(), temporalVertex.getPropertyCount());
     assertEquals(nonTemporalVertex.getGraphIds(), temporalVertex.getGraphIds());
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, temporalVertex.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, temporalVertex.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, temporalVertex.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, temporalVertex.getValidTo());
   }
 }
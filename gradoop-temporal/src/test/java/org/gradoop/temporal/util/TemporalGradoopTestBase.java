@@ -245,8 +245,8 @@ public abstract class TemporalGradoopTestBase extends GradoopFlinkTestBase {
    * @param element the temporal graph element to check
    */
   protected void checkDefaultTemporalElement(TemporalElement element) {
-    assertEquals(TemporalElement.DEFAULT_TIME_FROM, element.getValidFrom());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, element.getValidTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_FROM, element.getValidFrom());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, element.getValidTo());
     checkDefaultTxTimes(element);
   }
 
@@ -257,7 +257,7 @@ public abstract class TemporalGradoopTestBase extends GradoopFlinkTestBase {
    */
   protected void checkDefaultTxTimes(TemporalElement element) {
     assertTrue(element.getTxFrom() < System.currentTimeMillis());
-    assertEquals(TemporalElement.DEFAULT_TIME_TO, element.getTxTo());
+    assertEquals((long) TemporalElement.DEFAULT_TIME_TO, element.getTxTo());
   }
 
   /**